@@ -0,0 +1,53 @@
+package io.github.wesleyosantos91.susep.sro.model.codegen;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Grupo ou bloco do leiaute SUSEP ("Grupo / Bloco:" na planilha), com seus campos e blocos
+ * aninhados. O bloco raiz de cada aba representa o registro inteiro e tem cardinalidade
+ * {@code [1..1]}.
+ *
+ * @param nome nome do bloco
+ * @param tag tag do bloco no leiaute, em {@code snake_case}
+ * @param cardinalidade cardinalidade do bloco dentro do bloco pai
+ * @param campos campos do bloco, na ordem da planilha
+ * @param blocos blocos aninhados, na ordem da planilha
+ */
+public record BlocoLayout(
+    String nome,
+    String tag,
+    Cardinalidade cardinalidade,
+    List<CampoLayout> campos,
+    List<BlocoLayout> blocos
+) {
+
+    public BlocoLayout {
+        Objects.requireNonNull(nome, "Nome do bloco é obrigatório");
+        Objects.requireNonNull(tag, "Tag do bloco é obrigatória");
+        Objects.requireNonNull(cardinalidade, "Cardinalidade do bloco é obrigatória");
+        campos = campos != null ? List.copyOf(campos) : List.of();
+        blocos = blocos != null ? List.copyOf(blocos) : List.of();
+        if (tag.isBlank()) {
+            throw new IllegalArgumentException("Tag do bloco não pode ser vazia: " + nome);
+        }
+    }
+
+    /**
+     * Localiza um bloco aninhado, em qualquer nível, pela tag.
+     *
+     * @return o bloco, ou {@code null} se não existir
+     */
+    public BlocoLayout bloco(String tag) {
+        for (BlocoLayout bloco : blocos) {
+            if (bloco.tag().equals(tag)) {
+                return bloco;
+            }
+            BlocoLayout encontrado = bloco.bloco(tag);
+            if (encontrado != null) {
+                return encontrado;
+            }
+        }
+        return null;
+    }
+}
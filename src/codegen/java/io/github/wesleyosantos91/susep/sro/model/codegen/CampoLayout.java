@@ -0,0 +1,77 @@
+package io.github.wesleyosantos91.susep.sro.model.codegen;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Campo do leiaute SUSEP, correspondente a uma linha de dados da planilha.
+ *
+ * @param nome nome do campo ("Nome do campo")
+ * @param descricao descrição do campo, possivelmente vazia
+ * @param tag tag do campo no leiaute, em {@code snake_case}
+ * @param tipo tipo do dado
+ * @param cardinalidade cardinalidade do campo
+ * @param formato formato ou domínio de valores, possivelmente vazio
+ * @param tamanho quantidade máxima de caracteres ou dígitos, ou {@code null} se não informada
+ * @param casasDecimais casas decimais dentro de {@code tamanho}, ou {@code null} se não informadas
+ * @param condicao condição de preenchimento, possivelmente vazia
+ * @param observacao observação, possivelmente vazia
+ */
+public record CampoLayout(
+    String nome,
+    String descricao,
+    String tag,
+    TipoCampo tipo,
+    Cardinalidade cardinalidade,
+    String formato,
+    Integer tamanho,
+    Integer casasDecimais,
+    String condicao,
+    String observacao
+) {
+
+    private static final Pattern CODIGO_DOMINIO = Pattern.compile("^\\s*(\\d{1,9})\\s*[-–]");
+
+    public CampoLayout {
+        Objects.requireNonNull(nome, "Nome do campo é obrigatório");
+        Objects.requireNonNull(tag, "Tag do campo é obrigatória");
+        Objects.requireNonNull(tipo, "Tipo do campo é obrigatório");
+        Objects.requireNonNull(cardinalidade, "Cardinalidade do campo é obrigatória");
+        descricao = descricao != null ? descricao : "";
+        formato = formato != null ? formato : "";
+        condicao = condicao != null ? condicao : "";
+        observacao = observacao != null ? observacao : "";
+        if (tag.isBlank()) {
+            throw new IllegalArgumentException("Tag do campo não pode ser vazia: " + nome);
+        }
+        if (tamanho != null && tamanho <= 0) {
+            throw new IllegalArgumentException("Tamanho do campo deve ser positivo: " + tag);
+        }
+        if (casasDecimais != null && (casasDecimais < 0 || tamanho == null)) {
+            throw new IllegalArgumentException("Casas decimais inválidas para o campo: " + tag);
+        }
+    }
+
+    /**
+     * Códigos do domínio de um campo {@code Int}, extraídos das linhas do formato no padrão
+     * {@code "1 - Sim"}, em ordem crescente.
+     *
+     * @return códigos do domínio, ou lista vazia se o formato não enumerar ao menos dois códigos
+     */
+    public List<Integer> dominio() {
+        if (tipo != TipoCampo.INT) {
+            return List.of();
+        }
+        TreeSet<Integer> codigos = new TreeSet<>();
+        for (String linha : formato.split("[\\n|]")) {
+            Matcher matcher = CODIGO_DOMINIO.matcher(linha);
+            if (matcher.find()) {
+                codigos.add(Integer.parseInt(matcher.group(1)));
+            }
+        }
+        return codigos.size() < 2 ? List.of() : List.copyOf(codigos);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.wesleyosantos91.susep.sro.model.codegen;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cardinalidade de um campo ou bloco do leiaute SUSEP, como {@code [0..1]} ou {@code [1..N]}.
+ *
+ * @param minimo ocorrências mínimas
+ * @param maximo ocorrências máximas ou {@link #ILIMITADO}
+ */
+public record Cardinalidade(int minimo, int maximo) {
+
+    /**
+     * Valor de {@link #maximo()} para a cardinalidade {@code N}.
+     */
+    public static final int ILIMITADO = Integer.MAX_VALUE;
+
+    private static final Pattern FORMATO = Pattern.compile("\\[?\\s*(\\d+)\\s*\\.+\\s*(\\d+|[Nn])\\s*]?");
+
+    public Cardinalidade {
+        if (minimo < 0 || maximo < 1 || minimo > maximo) {
+            throw new IllegalArgumentException("Cardinalidade inválida: [" + minimo + ".." + maximo + "]");
+        }
+    }
+
+    /**
+     * Interpreta a cardinalidade como escrita na planilha, tolerando as variações encontradas
+     * no leiaute ({@code [0.1]}, {@code [0. 1]}, {@code 1..N}).
+     *
+     * @throws IllegalArgumentException se o texto não for uma cardinalidade
+     */
+    public static Cardinalidade parse(String texto) {
+        Matcher matcher = FORMATO.matcher(texto == null ? "" : texto.strip());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Cardinalidade inválida: " + texto);
+        }
+        String maximo = matcher.group(2);
+        return new Cardinalidade(Integer.parseInt(matcher.group(1)),
+            maximo.equalsIgnoreCase("N") ? ILIMITADO : Integer.parseInt(maximo));
+    }
+
+    /**
+     * Se ao menos uma ocorrência é exigida.
+     */
+    public boolean obrigatorio() {
+        return minimo > 0;
+    }
+
+    /**
+     * Se admite mais de uma ocorrência, sendo representado como lista.
+     */
+    public boolean lista() {
+        return maximo > 1;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + minimo + ".." + (maximo == ILIMITADO ? "N" : String.valueOf(maximo)) + "]";
+    }
+}
@@ -0,0 +1,232 @@
+package io.github.wesleyosantos91.susep.sro.model.codegen;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lê o leiaute do SRO a partir da planilha publicada pela SUSEP (por exemplo {@code v2-0-0.xlsx}).
+ *
+ * <p>Cada aba com as colunas "Nome do campo", "Cardinalidade", "Tag" e "Tipo do dado" é um
+ * leiaute; abas sem essas colunas são ignoradas. As colunas são localizadas pelo cabeçalho, pois
+ * algumas abas têm colunas adicionais à esquerda. Linhas "Grupo / Bloco:" abrem um bloco cuja
+ * profundidade vem da coluna "Semântica" ({@code Documento \ Objeto Segurado \ Cobertura}); os
+ * campos seguintes pertencem ao bloco aberto mais recente.</p>
+ *
+ * <p>A leitura tolera as irregularidades encontradas na planilha publicada: espaços sobrando em
+ * tags e cabeçalhos, variações na escrita da cardinalidade, tag deslocada para a coluna
+ * seguinte em linhas de bloco e campo sem tipo cujo formato enumera um domínio (tratado como
+ * {@code Int}).</p>
+ */
+public final class LayoutReader {
+
+    private static final String COLUNA_NOME = "Nome do campo";
+    private static final String COLUNA_DESCRICAO = "Descrição";
+    private static final String COLUNA_CARDINALIDADE = "Cardinalidade";
+    private static final String COLUNA_TAG = "Tag";
+    private static final String COLUNA_TIPO = "Tipo do dado";
+    private static final String COLUNA_FORMATO = "Formato";
+    private static final String COLUNA_TAMANHO = "Tamanho";
+    private static final String COLUNA_CONDICAO = "Condição";
+    private static final String COLUNA_OBSERVACAO = "Observação";
+    private static final String COLUNA_SEMANTICA = "Semântica";
+
+    private static final Pattern BLOCO = Pattern.compile("^Grupo\\s*/\\s*Bloco\\s*:\\s*(.+)$", Pattern.DOTALL);
+    private static final Pattern TAG = Pattern.compile("[a-z][a-z0-9_]*");
+    private static final Pattern DOMINIO = Pattern.compile("(?m)^\\s*\\d+\\s*-.*\\R\\s*\\d+\\s*-");
+    private static final Pattern TAMANHO = Pattern.compile("(\\d+)(?:[.,](\\d+))?");
+
+    private LayoutReader() {
+    }
+
+    /**
+     * Lê os leiautes de todas as abas da planilha.
+     *
+     * @param planilha planilha {@code .xlsx} do leiaute
+     * @return bloco raiz de cada leiaute, por nome da aba, na ordem das abas
+     * @throws IOException se a leitura falhar
+     * @throws IllegalStateException se uma aba de leiaute tiver linha inválida
+     */
+    public static Map<String, BlocoLayout> read(Path planilha) throws IOException {
+        Map<String, BlocoLayout> leiautes = new LinkedHashMap<>();
+        XlsxReader.read(planilha).forEach((aba, linhas) -> {
+            BlocoLayout raiz = layout(aba, linhas);
+            if (raiz != null) {
+                leiautes.put(aba, raiz);
+            }
+        });
+        return leiautes;
+    }
+
+    /**
+     * Interpreta as linhas de uma aba.
+     *
+     * @return bloco raiz do leiaute, ou {@code null} se a aba não for um leiaute
+     */
+    static BlocoLayout layout(String aba, List<List<String>> linhas) {
+        int linhaCabecalho = -1;
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < linhas.size() && linhaCabecalho < 0; i++) {
+            List<String> linha = linhas.get(i);
+            for (int c = 0; c < linha.size(); c++) {
+                colunas.putIfAbsent(linha.get(c).strip(), c);
+            }
+            if (colunas.containsKey(COLUNA_NOME) && colunas.containsKey(COLUNA_CARDINALIDADE)
+                    && colunas.containsKey(COLUNA_TAG) && colunas.containsKey(COLUNA_TIPO)) {
+                linhaCabecalho = i;
+            } else {
+                colunas.clear();
+            }
+        }
+        if (linhaCabecalho < 0) {
+            return null;
+        }
+
+        var raiz = new Construtor(aba, tag(aba), new Cardinalidade(1, 1), 0);
+        Deque<Construtor> abertos = new ArrayDeque<>();
+        abertos.push(raiz);
+        for (int i = linhaCabecalho + 1; i < linhas.size(); i++) {
+            List<String> linha = linhas.get(i);
+            String nome = celula(linha, colunas, COLUNA_NOME);
+            if (nome.isEmpty()) {
+                continue;
+            }
+            try {
+                Matcher bloco = BLOCO.matcher(nome);
+                if (bloco.matches()) {
+                    int profundidade = profundidade(linha, colunas);
+                    while (abertos.peek().profundidade >= profundidade) {
+                        abertos.pop();
+                    }
+                    var filho = new Construtor(bloco.group(1).strip(), tagDoBloco(linha, colunas),
+                        Cardinalidade.parse(celula(linha, colunas, COLUNA_CARDINALIDADE)), profundidade);
+                    abertos.peek().blocos.add(filho);
+                    abertos.push(filho);
+                } else {
+                    abertos.peek().campos.add(campo(nome, linha, colunas));
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException(
+                    "Linha " + (i + 1) + " inválida na aba " + aba + ": " + e.getMessage(), e);
+            }
+        }
+        return raiz.build();
+    }
+
+    private static CampoLayout campo(String nome, List<String> linha, Map<String, Integer> colunas) {
+        String tamanho = celula(linha, colunas, COLUNA_TAMANHO);
+        Integer digitos = null;
+        Integer casas = null;
+        if (!tamanho.isEmpty() && !tamanho.equals("-")) {
+            if (!TAMANHO.matcher(tamanho).matches()) {
+                throw new IllegalArgumentException("Tamanho inválido: " + tamanho);
+            }
+            // "16.2" significa 16 dígitos com 2 casas decimais; números gravados com imprecisão
+            // binária, como 16.199999999999999, são arredondados para uma casa
+            BigDecimal valor = new BigDecimal(tamanho.replace(',', '.'));
+            if (valor.scale() > 2) {
+                valor = valor.setScale(1, RoundingMode.HALF_UP);
+            }
+            digitos = valor.intValue();
+            BigDecimal fracao = valor.remainder(BigDecimal.ONE);
+            casas = fracao.signum() == 0 ? null : fracao.unscaledValue().intValueExact();
+        }
+        return new CampoLayout(
+            nome,
+            celula(linha, colunas, COLUNA_DESCRICAO),
+            celula(linha, colunas, COLUNA_TAG),
+            tipo(celula(linha, colunas, COLUNA_TIPO), celula(linha, colunas, COLUNA_FORMATO)),
+            Cardinalidade.parse(celula(linha, colunas, COLUNA_CARDINALIDADE)),
+            celula(linha, colunas, COLUNA_FORMATO),
+            digitos,
+            casas,
+            celula(linha, colunas, COLUNA_CONDICAO),
+            celula(linha, colunas, COLUNA_OBSERVACAO));
+    }
+
+    private static TipoCampo tipo(String tipo, String formato) {
+        // campo sem tipo na planilha publicada, mas com domínio enumerado ("1 - Sim | 2 - Não")
+        if (tipo.isEmpty() && DOMINIO.matcher(formato).find()) {
+            return TipoCampo.INT;
+        }
+        return TipoCampo.parse(tipo);
+    }
+
+    private static String tagDoBloco(List<String> linha, Map<String, Integer> colunas) {
+        String tag = celula(linha, colunas, COLUNA_TAG);
+        if (!tag.isEmpty()) {
+            return tag;
+        }
+        // tag deslocada para a coluna seguinte, como ocorre em linhas de bloco da planilha publicada
+        Integer coluna = colunas.get(COLUNA_TAG);
+        for (int c = coluna + 1; c < linha.size(); c++) {
+            String candidata = linha.get(c).strip();
+            if (TAG.matcher(candidata).matches()) {
+                return candidata;
+            }
+        }
+        throw new IllegalArgumentException("Bloco sem tag");
+    }
+
+    private static int profundidade(List<String> linha, Map<String, Integer> colunas) {
+        String semantica = celula(linha, colunas, COLUNA_SEMANTICA);
+        if (semantica.isEmpty()) {
+            for (String celula : linha) {
+                if (celula.indexOf('\\') >= 0) {
+                    semantica = celula;
+                    break;
+                }
+            }
+        }
+        String caminho = semantica.lines().findFirst().orElse("");
+        int profundidade = (int) caminho.chars().filter(c -> c == '\\').count();
+        return Math.max(profundidade, 1);
+    }
+
+    private static String celula(List<String> linha, Map<String, Integer> colunas, String coluna) {
+        Integer indice = colunas.get(coluna);
+        return indice == null || indice >= linha.size() ? "" : linha.get(indice).strip();
+    }
+
+    /**
+     * Tag em {@code snake_case} derivada do nome da aba ({@code "COMPL _AUTO"} vira
+     * {@code compl_auto}).
+     */
+    static String tag(String aba) {
+        String semAcento = Normalizer.normalize(aba, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return String.join("_", semAcento.toLowerCase(Locale.ROOT).split("[^a-z0-9]+")).replaceAll("^_|_$", "");
+    }
+
+    private static final class Construtor {
+
+        private final String nome;
+        private final String tag;
+        private final Cardinalidade cardinalidade;
+        private final int profundidade;
+        private final List<CampoLayout> campos = new ArrayList<>();
+        private final List<Construtor> blocos = new ArrayList<>();
+
+        private Construtor(String nome, String tag, Cardinalidade cardinalidade, int profundidade) {
+            this.nome = nome;
+            this.tag = tag;
+            this.cardinalidade = cardinalidade;
+            this.profundidade = profundidade;
+        }
+
+        private BlocoLayout build() {
+            return new BlocoLayout(nome, tag, cardinalidade, campos, blocos.stream().map(Construtor::build).toList());
+        }
+    }
+}
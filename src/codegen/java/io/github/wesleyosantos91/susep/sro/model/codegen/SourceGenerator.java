@@ -0,0 +1,610 @@
+package io.github.wesleyosantos91.susep.sro.model.codegen;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Gera o código-fonte dos records e codecs de um leiaute.
+ *
+ * <p>Para cada bloco é gerado um record com as validações do leiaute escritas diretamente no
+ * construtor compacto (obrigatoriedade, tamanho máximo, domínio e quantidade de dígitos) e um
+ * codec com {@code encode}/{@code decode} em linha reta, sem reflexão. O codec grava os
+ * componentes na ordem e no formato de {@code RecordCodec}, de modo que os bytes são os mesmos
+ * produzidos pelo codec reflexivo para o record gerado.</p>
+ */
+final class SourceGenerator {
+
+    private static final Set<String> PALAVRAS_RESERVADAS = Set.of(
+        "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const",
+        "continue", "default", "do", "double", "else", "enum", "extends", "final", "finally", "float",
+        "for", "goto", "if", "implements", "import", "instanceof", "int", "interface", "long", "native",
+        "new", "package", "private", "protected", "public", "return", "short", "static", "strictfp",
+        "super", "switch", "synchronized", "this", "throw", "throws", "transient", "try", "void",
+        "volatile", "while", "true", "false", "null", "record", "var", "yield", "sealed", "permits");
+
+    private static final String PACOTE_CODEC = "io.github.wesleyosantos91.susep.sro.model.codec";
+    private static final String VALIDATION_UTILS = "io.github.wesleyosantos91.susep.sro.model.util.ValidationUtils";
+
+    private final String pacote;
+    private final String origem;
+    private final Map<BlocoLayout, String> nomes = new IdentityHashMap<>();
+
+    private SourceGenerator(String pacote, String origem) {
+        this.pacote = pacote;
+        this.origem = origem;
+    }
+
+    /**
+     * Gera os fontes de um leiaute.
+     *
+     * @param raiz bloco raiz do leiaute
+     * @param pacote pacote dos tipos gerados
+     * @param origem descrição da origem, citada na documentação gerada
+     * @return conteúdo de cada arquivo por nome simples do tipo, na ordem de geração
+     */
+    static Map<String, String> generate(BlocoLayout raiz, String pacote, String origem) {
+        var gerador = new SourceGenerator(pacote, origem);
+        gerador.nomear(raiz, null, new HashSet<>());
+        Map<String, String> fontes = new LinkedHashMap<>();
+        gerador.gerar(raiz, raiz, fontes);
+        return fontes;
+    }
+
+    private void nomear(BlocoLayout bloco, String pai, Set<String> usados) {
+        String nome = pascalCase(bloco.tag());
+        if (!usados.add(nome)) {
+            nome = pai + nome;
+            if (!usados.add(nome)) {
+                throw new IllegalStateException("Nome de record duplicado no leiaute: " + nome);
+            }
+        }
+        nomes.put(bloco, nome);
+        for (BlocoLayout filho : bloco.blocos()) {
+            nomear(filho, nome, usados);
+        }
+    }
+
+    private void gerar(BlocoLayout bloco, BlocoLayout raiz, Map<String, String> fontes) {
+        String nome = nomes.get(bloco);
+        fontes.put(nome, record(bloco, bloco == raiz ? null : nomes.get(raiz)));
+        fontes.put(nome + "Codec", codec(bloco));
+        for (BlocoLayout filho : bloco.blocos()) {
+            gerar(filho, raiz, fontes);
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------
+    // record
+
+    private String record(BlocoLayout bloco, String raiz) {
+        String nome = nomes.get(bloco);
+        List<String> validacoes = new ArrayList<>();
+        Set<String> importacoes = new TreeSet<>();
+        List<String> componentes = new ArrayList<>();
+        Set<String> usados = new HashSet<>();
+
+        for (CampoLayout campo : bloco.campos()) {
+            String componente = componente(campo.tag(), usados);
+            String tipo = campo.tipo().tipoJava();
+            if (campo.tipo() == TipoCampo.DATE) {
+                importacoes.add("java.time.LocalDate");
+            }
+            if (campo.cardinalidade().lista()) {
+                importacoes.add("java.util.List");
+                tipo = "List<" + tipo + ">";
+            }
+            componentes.add(javadoc(campo) + "    " + tipo + " " + componente);
+            validacoes.addAll(validacoes(campo, componente, importacoes));
+        }
+        for (BlocoLayout filho : bloco.blocos()) {
+            String componente = componente(filho.tag(), usados);
+            String tipo = nomes.get(filho);
+            if (filho.cardinalidade().lista()) {
+                importacoes.add("java.util.List");
+                tipo = "List<" + tipo + ">";
+            }
+            componentes.add(javadoc(filho) + "    " + tipo + " " + componente);
+            validacoes.addAll(validacoesDoBloco(filho, componente, importacoes));
+        }
+
+        var fonte = new StringBuilder();
+        cabecalho(fonte, importacoes);
+        fonte.append("/**\n");
+        if (raiz == null) {
+            fonte.append(" * Record representando o registro ").append(html(bloco.nome())).append(" do SRO\n");
+        } else {
+            fonte.append(" * Bloco ").append(html(bloco.nome())).append(" de {@link ").append(raiz).append("}\n");
+        }
+        fonte.append(" * <p>Sistema de Registro de Operações (SRO) - ").append(html(origem)).append("</p>\n");
+        fonte.append(" * <p>Gerado automaticamente a partir da especificação SUSEP por {@code SroCodeGenerator}; ")
+            .append("não editar.</p>\n");
+        fonte.append(" */\n");
+        fonte.append("public record ").append(nome).append("(\n\n");
+        fonte.append(String.join(",\n\n", componentes)).append('\n');
+        fonte.append(") {\n");
+        if (!validacoes.isEmpty()) {
+            fonte.append("\n    public ").append(nome).append(" {\n");
+            for (String validacao : validacoes) {
+                fonte.append(validacao);
+            }
+            fonte.append("    }\n");
+        }
+        fonte.append("}\n");
+        return fonte.toString();
+    }
+
+    private List<String> validacoes(CampoLayout campo, String componente, Set<String> importacoes) {
+        List<String> validacoes = new ArrayList<>();
+        String rotulo = literal(campo.nome());
+        Cardinalidade cardinalidade = campo.cardinalidade();
+        if (cardinalidade.lista()) {
+            validacoes.addAll(lista(componente, rotulo, cardinalidade, importacoes));
+            return validacoes;
+        }
+        if (cardinalidade.obrigatorio()) {
+            importacoes.add("java.util.Objects");
+            validacoes.add("        Objects.requireNonNull(" + componente + ", \"" + rotulo + " é obrigatório\");\n");
+        }
+        Integer tamanho = campo.tamanho();
+        switch (campo.tipo()) {
+            case STRING -> {
+                if (tamanho != null) {
+                    importacoes.add(VALIDATION_UTILS);
+                    validacoes.add("        ValidationUtils.requireMaxLength(" + componente + ", " + tamanho
+                        + ", \"" + rotulo + "\");\n");
+                }
+            }
+            case INT -> {
+                List<Integer> dominio = campo.dominio();
+                if (!dominio.isEmpty() && dominio.getLast() - dominio.getFirst() == dominio.size() - 1) {
+                    importacoes.add(VALIDATION_UTILS);
+                    validacoes.add("        ValidationUtils.requireRange(" + componente + ", " + dominio.getFirst()
+                        + ", " + dominio.getLast() + ", \"" + rotulo + "\");\n");
+                } else if (!dominio.isEmpty()) {
+                    validacoes.add("        if (" + componente + " != null) {\n"
+                        + "            switch (" + componente + ") {\n"
+                        + "                case " + dominio.stream().map(String::valueOf).collect(Collectors.joining(", "))
+                        + " -> {\n"
+                        + "                }\n"
+                        + "                default -> throw new IllegalArgumentException(\"" + rotulo
+                        + " inválido: \" + " + componente + ");\n"
+                        + "            }\n"
+                        + "        }\n");
+                } else if (tamanho != null && tamanho <= 9) {
+                    importacoes.add(VALIDATION_UTILS);
+                    validacoes.add("        ValidationUtils.requireRange(" + componente + ", 0, "
+                        + ("9".repeat(tamanho)) + ", \"" + rotulo + "\");\n");
+                }
+            }
+            case DOUBLE, FLOAT -> {
+                if (tamanho != null) {
+                    // Tamanho "16.2" é lido como 16 dígitos na parte inteira e 2 casas decimais
+                    String presente = cardinalidade.obrigatorio() ? "" : componente + " != null && ";
+                    validacoes.add("        if (" + presente + "!(Math.abs(" + componente + ") < 1e"
+                        + tamanho + ")) {\n"
+                        + "            throw new IllegalArgumentException(\"" + rotulo + " deve ter no máximo "
+                        + tamanho + " dígitos na parte inteira\");\n"
+                        + "        }\n");
+                }
+            }
+            case DATE -> {
+            }
+        }
+        return validacoes;
+    }
+
+    private List<String> validacoesDoBloco(BlocoLayout bloco, String componente, Set<String> importacoes) {
+        String rotulo = literal(bloco.nome());
+        if (bloco.cardinalidade().lista()) {
+            return lista(componente, rotulo, bloco.cardinalidade(), importacoes);
+        }
+        if (bloco.cardinalidade().obrigatorio()) {
+            importacoes.add("java.util.Objects");
+            return List.of("        Objects.requireNonNull(" + componente + ", \"" + rotulo + " é obrigatório\");\n");
+        }
+        return List.of();
+    }
+
+    private static List<String> lista(String componente, String rotulo, Cardinalidade cardinalidade,
+                                      Set<String> importacoes) {
+        importacoes.add("java.util.List");
+        List<String> validacoes = new ArrayList<>();
+        if (cardinalidade.obrigatorio()) {
+            importacoes.add("java.util.Objects");
+            validacoes.add("        Objects.requireNonNull(" + componente + ", \"" + rotulo + " é obrigatório\");\n");
+            validacoes.add("        " + componente + " = List.copyOf(" + componente + ");\n");
+        } else {
+            validacoes.add("        " + componente + " = " + componente + " != null ? List.copyOf(" + componente
+                + ") : List.of();\n");
+        }
+        if (cardinalidade.minimo() > 0 || cardinalidade.maximo() != Cardinalidade.ILIMITADO) {
+            String condicao = cardinalidade.maximo() == Cardinalidade.ILIMITADO
+                ? componente + ".size() < " + cardinalidade.minimo()
+                : componente + ".size() < " + cardinalidade.minimo() + " || " + componente + ".size() > "
+                    + cardinalidade.maximo();
+            validacoes.add("        if (" + condicao + ") {\n"
+                + "            throw new IllegalArgumentException(\"" + rotulo + " deve ter cardinalidade "
+                + cardinalidade + "\");\n"
+                + "        }\n");
+        }
+        return validacoes;
+    }
+
+    // ----------------------------------------------------------------------------------------
+    // codec
+
+    private String codec(BlocoLayout bloco) {
+        String nome = nomes.get(bloco);
+        Set<String> importacoes = new TreeSet<>(Set.of(PACOTE_CODEC + ".BinaryReader", PACOTE_CODEC + ".BinaryWriter"));
+        EnumSet<TipoCampo> tipos = EnumSet.noneOf(TipoCampo.class);
+        boolean listas = false;
+        boolean presenca = false;
+        var escrita = new StringBuilder();
+        var leitura = new StringBuilder();
+        List<String> argumentos = new ArrayList<>();
+        Set<String> usados = new HashSet<>();
+
+        for (CampoLayout campo : bloco.campos()) {
+            String componente = componente(campo.tag(), usados);
+            argumentos.add(componente);
+            TipoCampo tipo = campo.tipo();
+            tipos.add(tipo);
+            if (tipo == TipoCampo.DATE) {
+                importacoes.add("java.time.LocalDate");
+            }
+            String sufixo = sufixo(tipo);
+            if (campo.cardinalidade().lista()) {
+                listas = true;
+                importacoes.add("java.util.ArrayList");
+                importacoes.add("java.util.List");
+                escreverLista(escrita, componente, tipo.tipoJava(), "escrever" + sufixo + "(writer, item);");
+                lerLista(leitura, componente, tipo.tipoJava(), "ler" + sufixo + "(reader)");
+            } else {
+                escrita.append("        escrever").append(sufixo).append("(writer, registro.").append(componente)
+                    .append("());\n");
+                leitura.append("        ").append(tipo.tipoJava()).append(' ').append(componente).append(" = ler")
+                    .append(sufixo).append("(reader);\n");
+            }
+        }
+        for (BlocoLayout filho : bloco.blocos()) {
+            String componente = componente(filho.tag(), usados);
+            argumentos.add(componente);
+            String tipo = nomes.get(filho);
+            presenca = true;
+            if (filho.cardinalidade().lista()) {
+                listas = true;
+                importacoes.add("java.util.ArrayList");
+                importacoes.add("java.util.List");
+                escreverLista(escrita, componente, tipo, "escreverPresente(writer, item != null);\n"
+                    + "                if (item != null) {\n"
+                    + "                    " + tipo + "Codec.encode(item, writer);\n"
+                    + "                }");
+                lerLista(leitura, componente, tipo, "presente(reader) ? " + tipo + "Codec.decode(reader) : null");
+            } else {
+                escrita.append("        escreverPresente(writer, registro.").append(componente).append("() != null);\n")
+                    .append("        if (registro.").append(componente).append("() != null) {\n")
+                    .append("            ").append(tipo).append("Codec.encode(registro.").append(componente)
+                    .append("(), writer);\n")
+                    .append("        }\n");
+                leitura.append("        ").append(tipo).append(' ').append(componente).append(" = presente(reader) ? ")
+                    .append(tipo).append("Codec.decode(reader) : null;\n");
+            }
+        }
+
+        if (tipos.contains(TipoCampo.STRING)) {
+            importacoes.add("java.nio.charset.StandardCharsets");
+        }
+
+        var fonte = new StringBuilder();
+        cabecalho(fonte, importacoes);
+        fonte.append("/**\n");
+        fonte.append(" * Codec binário de {@link ").append(nome).append("}, com leitura e escrita em linha reta.\n");
+        fonte.append(" * <p>Grava os componentes na ordem e no formato de {@code RecordCodec}, sem reflexão.</p>\n");
+        fonte.append(" * <p>Gerado automaticamente a partir da especificação SUSEP por {@code SroCodeGenerator}; ")
+            .append("não editar.</p>\n");
+        fonte.append(" */\n");
+        fonte.append("public final class ").append(nome).append("Codec {\n\n");
+        fonte.append("    private ").append(nome).append("Codec() {\n    }\n\n");
+
+        fonte.append("    /**\n     * Grava os componentes do registro.\n     */\n");
+        fonte.append("    public static void encode(").append(nome).append(" registro, BinaryWriter writer) {\n");
+        fonte.append(escrita);
+        fonte.append("    }\n\n");
+
+        fonte.append("    /**\n     * Lê um registro gravado por {@link #encode}.\n     *\n")
+            .append("     * @throws IllegalStateException se os dados estiverem truncados ou inválidos\n     */\n");
+        fonte.append("    public static ").append(nome).append(" decode(BinaryReader reader) {\n");
+        fonte.append(leitura);
+        fonte.append("        return new ").append(nome).append('(').append(String.join(", ", argumentos))
+            .append(");\n");
+        fonte.append("    }\n");
+
+        auxiliares(fonte, tipos, listas, presenca);
+        fonte.append("}\n");
+        return fonte.toString();
+    }
+
+    private static void escreverLista(StringBuilder escrita, String componente, String tipo, String elemento) {
+        escrita.append("        if (registro.").append(componente).append("() == null) {\n")
+            .append("            writer.writeByte(0);\n")
+            .append("        } else {\n")
+            .append("            writer.writeVarLong(registro.").append(componente).append("().size() + 1L);\n")
+            .append("            for (").append(tipo).append(" item : registro.").append(componente).append("()) {\n")
+            .append("                ").append(elemento).append('\n')
+            .append("            }\n")
+            .append("        }\n");
+    }
+
+    private static void lerLista(StringBuilder leitura, String componente, String tipo, String elemento) {
+        leitura.append("        List<").append(tipo).append("> ").append(componente).append(" = null;\n")
+            .append("        long ").append(componente).append("Tamanho = reader.readVarLong();\n")
+            .append("        if (").append(componente).append("Tamanho != 0) {\n")
+            .append("            int quantidade = quantidade(reader, ").append(componente).append("Tamanho - 1);\n")
+            .append("            ").append(componente).append(" = new ArrayList<>(quantidade);\n")
+            .append("            for (int i = 0; i < quantidade; i++) {\n")
+            .append("                ").append(componente).append(".add(").append(elemento).append(");\n")
+            .append("            }\n")
+            .append("        }\n");
+    }
+
+    private static String sufixo(TipoCampo tipo) {
+        return switch (tipo) {
+            case STRING -> "Texto";
+            case INT -> "Inteiro";
+            case DATE -> "Data";
+            case DOUBLE -> "Double";
+            case FLOAT -> "Float";
+        };
+    }
+
+    private static void auxiliares(StringBuilder fonte, Set<TipoCampo> tipos, boolean listas, boolean presenca) {
+        boolean zigZag = tipos.contains(TipoCampo.INT) || tipos.contains(TipoCampo.DATE);
+        presenca |= tipos.contains(TipoCampo.DOUBLE) || tipos.contains(TipoCampo.FLOAT);
+        if (tipos.contains(TipoCampo.STRING)) {
+            fonte.append("""
+
+                    private static void escreverTexto(BinaryWriter writer, String valor) {
+                        if (valor == null) {
+                            writer.writeByte(0);
+                            return;
+                        }
+                        byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+                        writer.writeVarLong(bytes.length + 1L).writeBytes(bytes);
+                    }
+
+                    private static String lerTexto(BinaryReader reader) {
+                        long tamanho = reader.readVarLong();
+                        if (tamanho == 0) {
+                            return null;
+                        }
+                        return new String(reader.readBytes(quantidade(reader, tamanho - 1)), StandardCharsets.UTF_8);
+                    }
+                """);
+        }
+        if (tipos.contains(TipoCampo.INT)) {
+            fonte.append("""
+
+                    private static void escreverInteiro(BinaryWriter writer, Integer valor) {
+                        writer.writeVarLong(valor == null ? 0 : zigZag(valor) + 1);
+                    }
+
+                    private static Integer lerInteiro(BinaryReader reader) {
+                        long valor = reader.readVarLong();
+                        return valor == 0 ? null : Math.toIntExact(deZigZag(valor - 1));
+                    }
+                """);
+        }
+        if (tipos.contains(TipoCampo.DATE)) {
+            fonte.append("""
+
+                    private static void escreverData(BinaryWriter writer, LocalDate valor) {
+                        writer.writeVarLong(valor == null ? 0 : zigZag(valor.toEpochDay()) + 1);
+                    }
+
+                    private static LocalDate lerData(BinaryReader reader) {
+                        long valor = reader.readVarLong();
+                        return valor == 0 ? null : LocalDate.ofEpochDay(deZigZag(valor - 1));
+                    }
+                """);
+        }
+        if (tipos.contains(TipoCampo.DOUBLE)) {
+            fonte.append("""
+
+                    private static void escreverDouble(BinaryWriter writer, Double valor) {
+                        escreverPresente(writer, valor != null);
+                        if (valor != null) {
+                            writer.writeLong(Double.doubleToRawLongBits(valor));
+                        }
+                    }
+
+                    private static Double lerDouble(BinaryReader reader) {
+                        return presente(reader) ? Double.longBitsToDouble(reader.readLong()) : null;
+                    }
+                """);
+        }
+        if (tipos.contains(TipoCampo.FLOAT)) {
+            fonte.append("""
+
+                    private static void escreverFloat(BinaryWriter writer, Float valor) {
+                        escreverPresente(writer, valor != null);
+                        if (valor != null) {
+                            writer.writeInt(Float.floatToRawIntBits(valor));
+                        }
+                    }
+
+                    private static Float lerFloat(BinaryReader reader) {
+                        return presente(reader) ? Float.intBitsToFloat(reader.readInt()) : null;
+                    }
+                """);
+        }
+        if (presenca) {
+            fonte.append("""
+
+                    private static void escreverPresente(BinaryWriter writer, boolean presente) {
+                        writer.writeByte(presente ? 1 : 0);
+                    }
+
+                    private static boolean presente(BinaryReader reader) {
+                        return switch (reader.readByte()) {
+                            case 0 -> false;
+                            case 1 -> true;
+                            default -> throw new IllegalStateException("Marca de presença inválida");
+                        };
+                    }
+                """);
+        }
+        if (listas || tipos.contains(TipoCampo.STRING)) {
+            fonte.append("""
+
+                    private static int quantidade(BinaryReader reader, long valor) {
+                        if (valor < 0 || valor > reader.remaining()) {
+                            throw new IllegalStateException("Tamanho inválido: " + valor);
+                        }
+                        return (int) valor;
+                    }
+                """);
+        }
+        if (zigZag) {
+            fonte.append("""
+
+                    private static long zigZag(long valor) {
+                        return (valor << 1) ^ (valor >> 63);
+                    }
+
+                    private static long deZigZag(long valor) {
+                        return (valor >>> 1) ^ -(valor & 1);
+                    }
+                """);
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------
+    // utilitários
+
+    private void cabecalho(StringBuilder fonte, Set<String> importacoes) {
+        fonte.append("package ").append(pacote).append(";\n\n");
+        List<String> projeto = importacoes.stream().filter(i -> !i.startsWith("java.")).toList();
+        List<String> jdk = importacoes.stream().filter(i -> i.startsWith("java.")).toList();
+        for (String importacao : projeto) {
+            fonte.append("import ").append(importacao).append(";\n");
+        }
+        for (String importacao : jdk) {
+            fonte.append("import ").append(importacao).append(";\n");
+        }
+        if (!importacoes.isEmpty()) {
+            fonte.append('\n');
+        }
+    }
+
+    private static String javadoc(CampoLayout campo) {
+        var doc = new StringBuilder("    /**\n");
+        doc.append("     * ").append(html(campo.nome())).append('\n');
+        if (!campo.descricao().isEmpty()) {
+            doc.append("     * <p>").append(html(campo.descricao())).append("</p>\n");
+        }
+        doc.append("     * <p><strong>Cardinalidade:</strong> ").append(campo.cardinalidade()).append("</p>\n");
+        if (!campo.formato().isEmpty() && !campo.formato().equals("-")) {
+            doc.append("     * <p><strong>Formato:</strong> ").append(html(campo.formato())).append("</p>\n");
+        }
+        if (campo.tamanho() != null) {
+            doc.append("     * <p><strong>Tamanho:</strong> ").append(campo.tamanho())
+                .append(campo.casasDecimais() != null ? "." + campo.casasDecimais() : "").append("</p>\n");
+        }
+        if (!campo.condicao().isEmpty()) {
+            doc.append("     * <p><strong>Condição:</strong> ").append(html(campo.condicao())).append("</p>\n");
+        }
+        if (!campo.observacao().isEmpty()) {
+            doc.append("     * <p><strong>Observação:</strong> ").append(html(campo.observacao())).append("</p>\n");
+        }
+        return doc.append("     */\n").toString();
+    }
+
+    private static String javadoc(BlocoLayout bloco) {
+        return "    /**\n"
+            + "     * " + html(bloco.nome()) + "\n"
+            + "     * <p><strong>Cardinalidade:</strong> " + bloco.cardinalidade() + "</p>\n"
+            + "     */\n";
+    }
+
+    /**
+     * Texto da planilha em uma linha de Javadoc: quebras viram espaço e caracteres especiais viram
+     * entidades, inclusive a barra invertida, que o compilador interpretaria como escape Unicode.
+     */
+    static String html(String texto) {
+        var saida = new StringBuilder(texto.length());
+        String normalizado = texto.strip().replaceAll("\\s*\\R\\s*", " ");
+        for (int i = 0; i < normalizado.length(); i++) {
+            char c = normalizado.charAt(i);
+            switch (c) {
+                case '&' -> saida.append("&amp;");
+                case '<' -> saida.append("&lt;");
+                case '>' -> saida.append("&gt;");
+                case '\\' -> saida.append("&#92;");
+                case '@' -> saida.append("&#64;");
+                case '/' -> saida.append(i > 0 && normalizado.charAt(i - 1) == '*' ? "&#47;" : "/");
+                default -> saida.append(c);
+            }
+        }
+        return saida.toString();
+    }
+
+    /**
+     * Texto da planilha como conteúdo de literal {@code String}.
+     */
+    static String literal(String texto) {
+        var saida = new StringBuilder(texto.length());
+        for (char c : texto.strip().replaceAll("\\s*\\R\\s*", " ").toCharArray()) {
+            switch (c) {
+                case '"' -> saida.append("\\\"");
+                case '\\' -> saida.append("\\\\");
+                default -> saida.append(c);
+            }
+        }
+        return saida.toString();
+    }
+
+    private static String componente(String tag, Set<String> usados) {
+        String nome = camelCase(tag);
+        if (!usados.add(nome)) {
+            throw new IllegalStateException("Tag duplicada no bloco: " + tag);
+        }
+        return nome;
+    }
+
+    /**
+     * {@code limite_maximo_indenizacao} vira {@code limiteMaximoIndenizacao}; palavras reservadas
+     * recebem o sufixo {@code _}.
+     */
+    static String camelCase(String texto) {
+        String pascal = pascalCase(texto);
+        String nome = Character.toLowerCase(pascal.charAt(0)) + pascal.substring(1);
+        return PALAVRAS_RESERVADAS.contains(nome) ? nome + "_" : nome;
+    }
+
+    /**
+     * {@code movimento_premio} ou {@code MOVIMENTO_PREMIO} vira {@code MovimentoPremio}.
+     */
+    static String pascalCase(String texto) {
+        String semAcento = Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        var nome = new StringBuilder();
+        for (String parte : semAcento.split("[^A-Za-z0-9]+")) {
+            if (!parte.isEmpty()) {
+                nome.append(Character.toUpperCase(parte.charAt(0))).append(parte.substring(1).toLowerCase(Locale.ROOT));
+            }
+        }
+        if (nome.isEmpty() || !Character.isJavaIdentifierStart(nome.charAt(0))) {
+            throw new IllegalStateException("Tag não gera identificador Java válido: " + texto);
+        }
+        return nome.toString();
+    }
+}
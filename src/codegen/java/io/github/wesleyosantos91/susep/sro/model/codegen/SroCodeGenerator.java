@@ -0,0 +1,102 @@
+package io.github.wesleyosantos91.susep.sro.model.codegen;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Gerador de records, validações e codecs a partir da planilha de leiaute da SUSEP.
+ *
+ * <p>A planilha ({@code v2-0-0.xlsx}) é a fonte única do leiaute: cada aba gera um pacote com
+ * um record por bloco, validado no construtor compacto conforme cardinalidade, tamanho e domínio
+ * da planilha, e um codec binário em linha reta compatível com {@code RecordCodec}. Ao publicar
+ * uma nova versão do leiaute basta gerar novamente e comparar a saída.</p>
+ *
+ * <p>Os arquivos são gravados apenas quando o conteúdo muda, para não invalidar compilações
+ * incrementais.</p>
+ *
+ * <p>O gerador é uma ferramenta de build: fica fora do artefato publicado e é executado pelo
+ * lançador de código-fonte do JDK no perfil Maven {@code codegen}, antes da compilação, que
+ * inclui a saída entre os fontes do projeto.</p>
+ *
+ * <pre>{@code
+ * java src/codegen/java/io/github/wesleyosantos91/susep/sro/model/codegen/SroCodeGenerator.java \
+ *     v2-0-0.xlsx target/generated-sources/sro
+ * }</pre>
+ */
+public final class SroCodeGenerator {
+
+    /**
+     * Pacote base padrão; cada aba gera um subpacote ({@code MOVIMENTO_PREMIO} vira
+     * {@code movimentopremio}).
+     */
+    public static final String PACOTE_PADRAO = "io.github.wesleyosantos91.susep.sro.model.generated";
+
+    private SroCodeGenerator() {
+    }
+
+    /**
+     * Gera os fontes de todos os leiautes da planilha.
+     *
+     * @param planilha planilha {@code .xlsx} do leiaute
+     * @param destino diretório raiz dos fontes gerados
+     * @param pacoteBase pacote base dos tipos gerados
+     * @return arquivos gerados, inclusive os que já estavam atualizados
+     * @throws IOException se a leitura ou a gravação falhar
+     * @throws IllegalStateException se a planilha for inválida
+     */
+    public static List<Path> generate(Path planilha, Path destino, String pacoteBase) throws IOException {
+        Objects.requireNonNull(destino, "Destino é obrigatório");
+        Objects.requireNonNull(pacoteBase, "Pacote base é obrigatório");
+        if (!pacoteBase.matches("[a-z_][a-z0-9_]*(\\.[a-z_][a-z0-9_]*)*")) {
+            throw new IllegalArgumentException("Pacote base inválido: " + pacoteBase);
+        }
+        Map<String, BlocoLayout> leiautes = LayoutReader.read(planilha);
+        if (leiautes.isEmpty()) {
+            throw new IllegalStateException("Nenhum leiaute encontrado na planilha: " + planilha);
+        }
+        List<Path> arquivos = new ArrayList<>();
+        for (Map.Entry<String, BlocoLayout> leiaute : leiautes.entrySet()) {
+            String pacote = pacoteBase + "." + pacote(leiaute.getKey());
+            String origem = "leiaute " + planilha.getFileName() + ", aba " + leiaute.getKey();
+            Path diretorio = destino.resolve(pacote.replace('.', '/'));
+            Files.createDirectories(diretorio);
+            for (Map.Entry<String, String> fonte : SourceGenerator.generate(leiaute.getValue(), pacote, origem).entrySet()) {
+                Path arquivo = diretorio.resolve(fonte.getKey() + ".java");
+                byte[] conteudo = fonte.getValue().getBytes(StandardCharsets.UTF_8);
+                if (!Files.exists(arquivo) || !Arrays.equals(Files.readAllBytes(arquivo), conteudo)) {
+                    Files.write(arquivo, conteudo);
+                }
+                arquivos.add(arquivo);
+            }
+        }
+        return arquivos;
+    }
+
+    /**
+     * Nome do subpacote de uma aba: apenas letras e dígitos, em minúsculas.
+     */
+    static String pacote(String aba) {
+        return LayoutReader.tag(aba).replace("_", "");
+    }
+
+    /**
+     * Argumentos: planilha, diretório de saída e, opcionalmente, pacote base (padrão
+     * {@value #PACOTE_PADRAO}).
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            throw new IllegalArgumentException(
+                "Uso: SroCodeGenerator <planilha.xlsx> <diretório de saída> [pacote base]");
+        }
+        List<Path> arquivos = generate(Path.of(args[0]), Path.of(args[1]), args.length == 3 ? args[2] : PACOTE_PADRAO);
+        System.out.printf(Locale.ROOT, "%d arquivos gerados em %s%n", arquivos.size(), args[1]);
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.wesleyosantos91.susep.sro.model.codegen;
+
+import java.util.Locale;
+
+/**
+ * Tipos de dado da coluna "Tipo do dado" do leiaute SUSEP e o tipo Java correspondente.
+ */
+public enum TipoCampo {
+
+    STRING("String"),
+    INT("Integer"),
+    DATE("LocalDate"),
+    DOUBLE("Double"),
+    FLOAT("Float");
+
+    private final String tipoJava;
+
+    TipoCampo(String tipoJava) {
+        this.tipoJava = tipoJava;
+    }
+
+    /**
+     * Nome simples do tipo Java usado no record gerado.
+     */
+    public String tipoJava() {
+        return tipoJava;
+    }
+
+    /**
+     * Interpreta o tipo como escrito na planilha ({@code String}, {@code Int}, {@code Date},
+     * {@code Double} ou {@code Float}), sem diferenciar maiúsculas.
+     *
+     * @throws IllegalArgumentException se o tipo não for conhecido
+     */
+    public static TipoCampo parse(String texto) {
+        String tipo = texto == null ? "" : texto.strip().toUpperCase(Locale.ROOT);
+        for (TipoCampo candidato : values()) {
+            if (candidato.name().equals(tipo)) {
+                return candidato;
+            }
+        }
+        throw new IllegalArgumentException("Tipo do dado desconhecido: " + texto);
+    }
+}
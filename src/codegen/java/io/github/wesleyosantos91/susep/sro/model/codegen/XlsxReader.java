@@ -0,0 +1,236 @@
+package io.github.wesleyosantos91.susep.sro.model.codegen;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Leitor mínimo de planilhas XLSX (Office Open XML), sem dependências externas.
+ *
+ * <p>Lê apenas o necessário para extrair o conteúdo textual das células: a relação de abas do
+ * {@code xl/workbook.xml}, os textos compartilhados ({@code xl/sharedStrings.xml}) e as células
+ * de cada aba. Valores numéricos são devolvidos como gravados no arquivo; fórmulas, estilos,
+ * comentários e mesclagens são ignorados. O XML é lido em streaming (StAX), com DTDs e entidades
+ * externas desabilitados.</p>
+ */
+public final class XlsxReader {
+
+    private static final String WORKBOOK = "xl/workbook.xml";
+    private static final String WORKBOOK_RELS = "xl/_rels/workbook.xml.rels";
+    private static final String SHARED_STRINGS = "xl/sharedStrings.xml";
+    private static final String RELATIONSHIPS_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private XlsxReader() {
+    }
+
+    /**
+     * Lê todas as abas da planilha.
+     *
+     * @param arquivo planilha {@code .xlsx}
+     * @return linhas de cada aba, na ordem das abas; cada linha tem uma célula por coluna (vazia
+     *     quando ausente) e as linhas ausentes são devolvidas vazias, de modo que o índice
+     *     corresponde ao número da linha menos um
+     * @throws IOException se a leitura falhar
+     * @throws IllegalStateException se o arquivo não for uma planilha XLSX válida
+     */
+    public static Map<String, List<List<String>>> read(Path arquivo) throws IOException {
+        Objects.requireNonNull(arquivo, "Arquivo é obrigatório");
+        try (ZipFile zip = new ZipFile(arquivo.toFile())) {
+            List<String> compartilhados = zip.getEntry(SHARED_STRINGS) == null
+                ? List.of() : textosCompartilhados(zip);
+            Map<String, String> alvos = relacionamentos(zip);
+            Map<String, List<List<String>>> abas = new LinkedHashMap<>();
+            for (Map.Entry<String, String> aba : abas(zip).entrySet()) {
+                String alvo = alvos.get(aba.getValue());
+                if (alvo == null) {
+                    throw new IllegalStateException("Aba sem relacionamento na planilha: " + aba.getKey());
+                }
+                abas.put(aba.getKey(), celulas(zip, caminho(alvo), compartilhados));
+            }
+            return abas;
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("Planilha XLSX inválida: " + arquivo, e);
+        }
+    }
+
+    /**
+     * Índice (a partir de zero) da coluna de uma referência de célula como {@code "AB12"}.
+     */
+    static int coluna(String referencia) {
+        int coluna = 0;
+        int i = 0;
+        while (i < referencia.length() && Character.isLetter(referencia.charAt(i))) {
+            coluna = coluna * 26 + (Character.toUpperCase(referencia.charAt(i)) - 'A' + 1);
+            i++;
+        }
+        if (i == 0) {
+            throw new IllegalStateException("Referência de célula inválida: " + referencia);
+        }
+        return coluna - 1;
+    }
+
+    private static Map<String, String> abas(ZipFile zip) throws IOException, XMLStreamException {
+        Map<String, String> abas = new LinkedHashMap<>();
+        try (InputStream entrada = abrir(zip, WORKBOOK)) {
+            XMLStreamReader xml = leitor(entrada);
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && xml.getLocalName().equals("sheet")) {
+                    abas.put(xml.getAttributeValue(null, "name"), xml.getAttributeValue(RELATIONSHIPS_NS, "id"));
+                }
+            }
+        }
+        return abas;
+    }
+
+    private static Map<String, String> relacionamentos(ZipFile zip) throws IOException, XMLStreamException {
+        Map<String, String> alvos = new HashMap<>();
+        try (InputStream entrada = abrir(zip, WORKBOOK_RELS)) {
+            XMLStreamReader xml = leitor(entrada);
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && xml.getLocalName().equals("Relationship")) {
+                    alvos.put(xml.getAttributeValue(null, "Id"), xml.getAttributeValue(null, "Target"));
+                }
+            }
+        }
+        return alvos;
+    }
+
+    private static List<String> textosCompartilhados(ZipFile zip) throws IOException, XMLStreamException {
+        List<String> textos = new ArrayList<>();
+        try (InputStream entrada = abrir(zip, SHARED_STRINGS)) {
+            XMLStreamReader xml = leitor(entrada);
+            StringBuilder texto = new StringBuilder();
+            while (xml.hasNext()) {
+                int evento = xml.next();
+                if (evento == XMLStreamConstants.START_ELEMENT) {
+                    switch (xml.getLocalName()) {
+                        case "si" -> texto.setLength(0);
+                        case "t" -> texto.append(xml.getElementText());
+                        case "rPh" -> pular(xml);
+                        default -> { }
+                    }
+                } else if (evento == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("si")) {
+                    textos.add(texto.toString());
+                }
+            }
+        }
+        return textos;
+    }
+
+    private static List<List<String>> celulas(ZipFile zip, String caminho, List<String> compartilhados)
+            throws IOException, XMLStreamException {
+        List<List<String>> linhas = new ArrayList<>();
+        try (InputStream entrada = abrir(zip, caminho)) {
+            XMLStreamReader xml = leitor(entrada);
+            List<String> linha = null;
+            String tipo = null;
+            int coluna = 0;
+            String valor = null;
+            StringBuilder textoEmbutido = new StringBuilder();
+            while (xml.hasNext()) {
+                int evento = xml.next();
+                if (evento == XMLStreamConstants.START_ELEMENT) {
+                    switch (xml.getLocalName()) {
+                        case "row" -> {
+                            String numero = xml.getAttributeValue(null, "r");
+                            int indice = numero == null ? linhas.size() : Integer.parseInt(numero) - 1;
+                            while (linhas.size() < indice) {
+                                linhas.add(List.of());
+                            }
+                            linha = new ArrayList<>();
+                        }
+                        case "c" -> {
+                            String referencia = xml.getAttributeValue(null, "r");
+                            coluna = referencia == null ? linha.size() : coluna(referencia);
+                            tipo = xml.getAttributeValue(null, "t");
+                            valor = null;
+                            textoEmbutido.setLength(0);
+                        }
+                        case "v" -> valor = xml.getElementText();
+                        case "t" -> textoEmbutido.append(xml.getElementText());
+                        case "rPh" -> pular(xml);
+                        default -> { }
+                    }
+                } else if (evento == XMLStreamConstants.END_ELEMENT) {
+                    switch (xml.getLocalName()) {
+                        case "c" -> {
+                            while (linha.size() <= coluna) {
+                                linha.add("");
+                            }
+                            linha.set(coluna, conteudo(tipo, valor, textoEmbutido, compartilhados));
+                        }
+                        case "row" -> {
+                            linhas.add(Collections.unmodifiableList(linha));
+                            linha = null;
+                        }
+                        default -> { }
+                    }
+                }
+            }
+        }
+        return linhas;
+    }
+
+    private static String conteudo(String tipo, String valor, CharSequence textoEmbutido, List<String> compartilhados) {
+        if ("inlineStr".equals(tipo)) {
+            return textoEmbutido.toString();
+        }
+        if (valor == null) {
+            return "";
+        }
+        if ("s".equals(tipo)) {
+            int indice = Integer.parseInt(valor.trim());
+            if (indice < 0 || indice >= compartilhados.size()) {
+                throw new IllegalStateException("Índice de texto compartilhado inválido: " + indice);
+            }
+            return compartilhados.get(indice);
+        }
+        return valor;
+    }
+
+    private static void pular(XMLStreamReader xml) throws XMLStreamException {
+        int profundidade = 1;
+        while (profundidade > 0) {
+            int evento = xml.next();
+            if (evento == XMLStreamConstants.START_ELEMENT) {
+                profundidade++;
+            } else if (evento == XMLStreamConstants.END_ELEMENT) {
+                profundidade--;
+            }
+        }
+    }
+
+    private static String caminho(String alvo) {
+        return alvo.startsWith("/") ? alvo.substring(1) : "xl/" + alvo;
+    }
+
+    private static InputStream abrir(ZipFile zip, String nome) throws IOException {
+        ZipEntry entrada = zip.getEntry(nome);
+        if (entrada == null) {
+            throw new IllegalStateException("Parte ausente na planilha: " + nome);
+        }
+        return zip.getInputStream(entrada);
+    }
+
+    private static XMLStreamReader leitor(InputStream entrada) throws XMLStreamException {
+        XMLInputFactory fabrica = XMLInputFactory.newFactory();
+        fabrica.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        fabrica.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        fabrica.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        return fabrica.createXMLStreamReader(entrada);
+    }
+}
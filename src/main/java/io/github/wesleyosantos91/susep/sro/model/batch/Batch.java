@@ -0,0 +1,106 @@
+package io.github.wesleyosantos91.susep.sro.model.batch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Lote montado pelo {@link BatchPacker}, com os registros e os bytes já codificados de cada um.
+ *
+ * <p>O lote é gravado a partir dos bytes guardados no empacotamento, sem nova serialização.</p>
+ *
+ * @param <T> tipo dos registros
+ */
+public final class Batch<T> {
+
+    private final long sequence;
+    private final List<T> records;
+    private final List<byte[]> payloads;
+    private final byte[] prefixo;
+    private final byte[] separador;
+    private final byte[] sufixo;
+    private final long bytes;
+
+    Batch(long sequence, List<T> records, List<byte[]> payloads, byte[] prefixo, byte[] separador, byte[] sufixo,
+          long bytes) {
+        this.sequence = sequence;
+        this.records = List.copyOf(records);
+        this.payloads = List.copyOf(payloads);
+        this.prefixo = prefixo;
+        this.separador = separador;
+        this.sufixo = sufixo;
+        this.bytes = bytes;
+    }
+
+    /**
+     * @return posição do lote na saída do empacotador, a partir de zero
+     */
+    public long sequence() {
+        return sequence;
+    }
+
+    /**
+     * @return registros do lote, na ordem em que serão gravados
+     */
+    public List<T> records() {
+        return records;
+    }
+
+    /**
+     * @return quantidade de registros
+     */
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * @return tamanho do lote codificado, inclusive o envelope
+     */
+    public long bytes() {
+        return bytes;
+    }
+
+    /**
+     * @param indice posição do registro no lote
+     * @return cópia dos bytes codificados do registro
+     */
+    public byte[] payload(int indice) {
+        return payloads.get(indice).clone();
+    }
+
+    /**
+     * Grava o lote: prefixo, registros separados pelo separador e sufixo do envelope.
+     *
+     * @param destino fluxo de saída
+     */
+    public void writeTo(OutputStream destino) throws IOException {
+        destino.write(prefixo);
+        for (int i = 0; i < payloads.size(); i++) {
+            if (i > 0) {
+                destino.write(separador);
+            }
+            destino.write(payloads.get(i));
+        }
+        destino.write(sufixo);
+    }
+
+    /**
+     * @return bytes do lote, como gravados por {@link #writeTo(OutputStream)}
+     */
+    public byte[] toByteArray() {
+        var saida = new ByteArrayOutputStream(Math.toIntExact(bytes));
+        try {
+            writeTo(saida);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return saida.toByteArray();
+    }
+
+    @Override
+    public String toString() {
+        return "Batch[sequence=" + sequence + ", records=" + records.size() + ", bytes=" + bytes + "]";
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.wesleyosantos91.susep.sro.model.batch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Bytes que envolvem os registros codificados de um lote: prefixo, separador entre registros e
+ * sufixo, em UTF-8. Entram no cálculo do tamanho do lote.
+ *
+ * @param prefix    bytes antes do primeiro registro
+ * @param separator bytes entre registros consecutivos
+ * @param suffix    bytes após o último registro
+ */
+public record BatchEnvelope(String prefix, String separator, String suffix) {
+
+    /**
+     * Registros concatenados, sem bytes adicionais (registros autodelimitados).
+     */
+    public static final BatchEnvelope NONE = new BatchEnvelope("", "", "");
+
+    /**
+     * Array JSON ({@code [r1,r2,...]}) de registros codificados em JSON.
+     */
+    public static final BatchEnvelope JSON_ARRAY = new BatchEnvelope("[", ",", "]");
+
+    public BatchEnvelope {
+        Objects.requireNonNull(prefix, "Prefixo é obrigatório");
+        Objects.requireNonNull(separator, "Separador é obrigatório");
+        Objects.requireNonNull(suffix, "Sufixo é obrigatório");
+    }
+
+    /**
+     * @param registros quantidade de registros do lote
+     * @return bytes do envelope de um lote com a quantidade de registros
+     */
+    public long overhead(int registros) {
+        long fixo = prefix.getBytes(StandardCharsets.UTF_8).length + suffix.getBytes(StandardCharsets.UTF_8).length;
+        return registros <= 1 ? fixo
+            : fixo + (long) separator.getBytes(StandardCharsets.UTF_8).length * (registros - 1);
+    }
+}
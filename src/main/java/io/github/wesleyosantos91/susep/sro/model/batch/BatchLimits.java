@@ -0,0 +1,19 @@
+package io.github.wesleyosantos91.susep.sro.model.batch;
+
+/**
+ * Limites de um lote enviado à registradora.
+ *
+ * @param maxBytes   tamanho máximo do lote codificado, inclusive o envelope
+ * @param maxRecords quantidade máxima de registros no lote
+ */
+public record BatchLimits(long maxBytes, int maxRecords) {
+
+    public BatchLimits {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Tamanho máximo do lote deve ser positivo: " + maxBytes);
+        }
+        if (maxRecords <= 0) {
+            throw new IllegalArgumentException("Quantidade máxima de registros deve ser positiva: " + maxRecords);
+        }
+    }
+}
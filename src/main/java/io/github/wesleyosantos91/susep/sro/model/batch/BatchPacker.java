@@ -0,0 +1,273 @@
+package io.github.wesleyosantos91.susep.sro.model.batch;
+
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryReader;
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryWriter;
+import io.github.wesleyosantos91.susep.sro.model.codec.RecordCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Empacota registros em lotes que respeitam os limites de tamanho e de quantidade da registradora.
+ *
+ * <p>Cada registro é codificado uma única vez, ao ser incluído; o tamanho do lote é mantido de
+ * forma incremental (envelope, separadores e registros) e o {@link Batch} emitido grava os bytes
+ * guardados, sem serializar de novo nem tentar e medir.</p>
+ *
+ * <p>Com um lote aberto (padrão), os registros seguem em ordem e um lote é emitido quando o
+ * próximo registro não cabe nele (next-fit). Com {@code openBins > 1}, cada registro vai para o
+ * lote aberto mais antigo em que couber (first-fit), o que aproveita melhor os limites quando os
+ * tamanhos variam muito (documentos com muitos segurados ao lado de movimentos pequenos); quando
+ * nenhum lote aberto comporta o registro, o mais antigo é emitido. Lotes são emitidos sempre em
+ * ordem de abertura. Com uma {@link Builder#key(Function) chave} (o {@code uuid}, por exemplo),
+ * um registro nunca é colocado em lote anterior ao de outro registro da mesma chave, preservando a
+ * ordem de envio de correções e exclusões.</p>
+ *
+ * <p>Não é thread-safe.</p>
+ *
+ * @param <T> tipo dos registros
+ */
+public final class BatchPacker<T> {
+
+    private final BatchLimits limites;
+    private final Function<? super T, byte[]> encoder;
+    private final Function<? super T, ?> chave;
+    private final int lotesAbertos;
+    private final Consumer<? super Batch<T>> saida;
+    private final byte[] prefixo;
+    private final byte[] separador;
+    private final byte[] sufixo;
+    private final List<Lote<T>> abertos = new ArrayList<>();
+    private final Map<Object, Long> ultimoLote = new HashMap<>();
+    private long proximoLote;
+    private long emitidos;
+
+    private BatchPacker(Builder<T> builder, Consumer<? super Batch<T>> saida) {
+        this.limites = builder.limites;
+        this.encoder = builder.encoder;
+        this.chave = builder.chave;
+        this.lotesAbertos = builder.lotesAbertos;
+        this.saida = saida;
+        this.prefixo = builder.envelope.prefix().getBytes(StandardCharsets.UTF_8);
+        this.separador = builder.envelope.separator().getBytes(StandardCharsets.UTF_8);
+        this.sufixo = builder.envelope.suffix().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param limites limites de cada lote
+     * @param encoder codificação de um registro no formato enviado
+     * @param <T>     tipo dos registros
+     * @return construtor com um lote aberto e sem envelope
+     */
+    public static <T> Builder<T> builder(BatchLimits limites, Function<? super T, byte[]> encoder) {
+        return new Builder<>(limites, encoder);
+    }
+
+    /**
+     * Construtor para records do SRO (documentos, endossos e movimentos, inclusive misturados)
+     * codificados em {@link #frame(Record) quadros} do {@link RecordCodec}.
+     *
+     * @param limites limites de cada lote
+     * @param <T>     tipo dos registros
+     * @return construtor com um lote aberto e sem envelope
+     */
+    public static <T extends Record> Builder<T> records(BatchLimits limites) {
+        return new Builder<>(limites, BatchPacker::frame);
+    }
+
+    /**
+     * Quadro autodelimitado de um record: {@link RecordCodec#schema()} em 8 bytes, tamanho em
+     * inteiro variável e os bytes do {@link RecordCodec}.
+     *
+     * @param registro record a codificar
+     * @return bytes do quadro
+     */
+    @SuppressWarnings("unchecked")
+    public static byte[] frame(Record registro) {
+        Objects.requireNonNull(registro, "Registro é obrigatório");
+        RecordCodec<Record> codec = RecordCodec.of((Class<Record>) registro.getClass());
+        var corpo = new BinaryWriter();
+        codec.encode(registro, corpo);
+        var quadro = new BinaryWriter(corpo.size() + 18);
+        quadro.writeLong(codec.schema()).writeVarLong(corpo.size());
+        quadro.writeBytes(corpo.toByteArray());
+        return quadro.toByteArray();
+    }
+
+    /**
+     * Lê o próximo quadro gravado por {@link #frame(Record)}.
+     *
+     * @param reader origem
+     * @param tipo   classe do record esperado
+     * @param <T>    tipo do record
+     * @return record decodificado
+     * @throws IllegalStateException se o quadro for de outro record ou estiver truncado
+     */
+    public static <T extends Record> T readFrame(BinaryReader reader, Class<T> tipo) {
+        RecordCodec<T> codec = RecordCodec.of(tipo);
+        long schema = reader.readLong();
+        if (schema != codec.schema()) {
+            throw new IllegalStateException("Quadro não é de " + tipo.getSimpleName() + ": esquema " + schema);
+        }
+        long tamanho = reader.readVarLong();
+        if (tamanho > reader.remaining()) {
+            throw new IllegalStateException("Quadro truncado: " + tamanho + " bytes declarados");
+        }
+        return codec.decode(reader.readBytes((int) tamanho));
+    }
+
+    /**
+     * Inclui um registro, emitindo os lotes que ficarem completos.
+     *
+     * @throws IllegalArgumentException se o registro codificado não couber sozinho em um lote; o
+     *                                  empacotador não é alterado
+     */
+    public void add(T registro) {
+        Objects.requireNonNull(registro, "Registro é obrigatório");
+        byte[] payload = Objects.requireNonNull(encoder.apply(registro), "Codificação do registro é obrigatória");
+        if (prefixo.length + sufixo.length + (long) payload.length > limites.maxBytes()) {
+            throw new IllegalArgumentException("Registro de " + payload.length
+                + " bytes excede o tamanho máximo do lote: " + limites.maxBytes());
+        }
+        Object k = chave == null ? null : Objects.requireNonNull(chave.apply(registro), "Chave é obrigatória");
+        long minimo = k == null ? -1 : ultimoLote.getOrDefault(k, -1L);
+
+        Lote<T> alvo = null;
+        for (Lote<T> lote : abertos) {
+            if (lote.sequencia >= minimo && cabe(lote, payload.length)) {
+                alvo = lote;
+                break;
+            }
+        }
+        if (alvo == null) {
+            if (abertos.size() == lotesAbertos) {
+                emitir(abertos.removeFirst());
+            }
+            alvo = new Lote<>(proximoLote++, prefixo.length + sufixo.length);
+            abertos.add(alvo);
+        }
+        alvo.bytes += (alvo.registros.isEmpty() ? 0 : separador.length) + payload.length;
+        alvo.registros.add(registro);
+        alvo.payloads.add(payload);
+        if (k != null) {
+            alvo.chaves.add(k);
+            ultimoLote.put(k, alvo.sequencia);
+        }
+        while (!abertos.isEmpty() && cheio(abertos.getFirst())) {
+            emitir(abertos.removeFirst());
+        }
+    }
+
+    /**
+     * Emite os lotes abertos, em ordem.
+     */
+    public void flush() {
+        while (!abertos.isEmpty()) {
+            emitir(abertos.removeFirst());
+        }
+    }
+
+    /**
+     * @return quantidade de lotes emitidos
+     */
+    public long batches() {
+        return emitidos;
+    }
+
+    private boolean cabe(Lote<T> lote, int tamanho) {
+        return lote.registros.size() < limites.maxRecords()
+            && lote.bytes + (lote.registros.isEmpty() ? 0 : separador.length) + tamanho <= limites.maxBytes();
+    }
+
+    private boolean cheio(Lote<T> lote) {
+        return lote.registros.size() == limites.maxRecords() || lote.bytes + separador.length >= limites.maxBytes();
+    }
+
+    private void emitir(Lote<T> lote) {
+        for (Object k : lote.chaves) {
+            ultimoLote.remove(k, lote.sequencia);
+        }
+        saida.accept(new Batch<>(emitidos++, lote.registros, lote.payloads, prefixo, separador, sufixo, lote.bytes));
+    }
+
+    /**
+     * Lote em montagem.
+     */
+    private static final class Lote<T> {
+
+        private final long sequencia;
+        private final List<T> registros = new ArrayList<>();
+        private final List<byte[]> payloads = new ArrayList<>();
+        private final List<Object> chaves = new ArrayList<>();
+        private long bytes;
+
+        private Lote(long sequencia, long bytes) {
+            this.sequencia = sequencia;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Configuração do empacotador.
+     *
+     * @param <T> tipo dos registros
+     */
+    public static final class Builder<T> {
+
+        private final BatchLimits limites;
+        private final Function<? super T, byte[]> encoder;
+        private BatchEnvelope envelope = BatchEnvelope.NONE;
+        private int lotesAbertos = 1;
+        private Function<? super T, ?> chave;
+
+        private Builder(BatchLimits limites, Function<? super T, byte[]> encoder) {
+            this.limites = Objects.requireNonNull(limites, "Limites são obrigatórios");
+            this.encoder = Objects.requireNonNull(encoder, "Codificação é obrigatória");
+        }
+
+        /**
+         * @param envelope bytes que envolvem os registros de cada lote
+         * @return este construtor
+         */
+        public Builder<T> envelope(BatchEnvelope envelope) {
+            this.envelope = Objects.requireNonNull(envelope, "Envelope é obrigatório");
+            return this;
+        }
+
+        /**
+         * @param lotesAbertos quantidade de lotes mantidos abertos para o first-fit
+         * @return este construtor
+         * @throws IllegalArgumentException se a quantidade não for positiva
+         */
+        public Builder<T> openBins(int lotesAbertos) {
+            if (lotesAbertos <= 0) {
+                throw new IllegalArgumentException("Quantidade de lotes abertos deve ser positiva: " + lotesAbertos);
+            }
+            this.lotesAbertos = lotesAbertos;
+            return this;
+        }
+
+        /**
+         * @param chave chave cujos registros devem seguir na ordem de inclusão (o {@code uuid}, por exemplo)
+         * @return este construtor
+         */
+        public Builder<T> key(Function<? super T, ?> chave) {
+            this.chave = Objects.requireNonNull(chave, "Chave é obrigatória");
+            return this;
+        }
+
+        /**
+         * @param saida destino dos lotes, chamado na thread que inclui os registros
+         * @return empacotador vazio
+         */
+        public BatchPacker<T> build(Consumer<? super Batch<T>> saida) {
+            return new BatchPacker<>(this, Objects.requireNonNull(saida, "Saída é obrigatória"));
+        }
+    }
+}
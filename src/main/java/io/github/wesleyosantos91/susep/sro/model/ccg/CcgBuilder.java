@@ -0,0 +1,144 @@
+package io.github.wesleyosantos91.susep.sro.model.ccg;
+
+import io.github.wesleyosantos91.susep.sro.model.util.ListAccumulator;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Builder reutilizável para {@link Ccg}.
+ *
+ * <p>Listas acumuladas com os métodos {@code add...} são convertidas em listas imutáveis
+ * uma única vez em {@link #build()}; listas atribuídas diretamente são repassadas sem cópia.
+ * Em ambos os casos o compact constructor não copia a lista novamente.</p>
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class CcgBuilder {
+
+    private LocalDate dataTermino;
+    private final ListAccumulator<Tomador> tomadors = new ListAccumulator<>();
+    private final ListAccumulator<Colateral> colaterals = new ListAccumulator<>();
+    private final ListAccumulator<Fiador> fiadors = new ListAccumulator<>();
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public CcgBuilder from(Ccg origem) {
+        return dataTermino(origem.dataTermino())
+            .tomadors(origem.tomadors())
+            .colaterals(origem.colaterals())
+            .fiadors(origem.fiadors());
+    }
+
+    /**
+     * Define {@link Ccg#dataTermino()}.
+     *
+     * @param dataTermino valor do componente
+     * @return este builder
+     */
+    public CcgBuilder dataTermino(LocalDate dataTermino) {
+        this.dataTermino = dataTermino;
+        return this;
+    }
+
+    /**
+     * Atribui {@link Ccg#tomadors()} sem copiar a lista.
+     *
+     * @param tomadors lista de elementos
+     * @return este builder
+     */
+    public CcgBuilder tomadors(List<Tomador> tomadors) {
+        this.tomadors.set(tomadors);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Ccg#tomadors()}.
+     *
+     * @param tomador elemento não nulo
+     * @return este builder
+     */
+    public CcgBuilder addTomador(Tomador tomador) {
+        this.tomadors.add(tomador);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Ccg#colaterals()} sem copiar a lista.
+     *
+     * @param colaterals lista de elementos
+     * @return este builder
+     */
+    public CcgBuilder colaterals(List<Colateral> colaterals) {
+        this.colaterals.set(colaterals);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Ccg#colaterals()}.
+     *
+     * @param colateral elemento não nulo
+     * @return este builder
+     */
+    public CcgBuilder addColateral(Colateral colateral) {
+        this.colaterals.add(colateral);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Ccg#fiadors()} sem copiar a lista.
+     *
+     * @param fiadors lista de elementos
+     * @return este builder
+     */
+    public CcgBuilder fiadors(List<Fiador> fiadors) {
+        this.fiadors.set(fiadors);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Ccg#fiadors()}.
+     *
+     * @param fiador elemento não nulo
+     * @return este builder
+     */
+    public CcgBuilder addFiador(Fiador fiador) {
+        this.fiadors.add(fiador);
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Ccg build() {
+        return new Ccg(
+            dataTermino,
+            tomadors.toList(),
+            colaterals.toList(),
+            fiadors.toList()
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public CcgBuilder reset() {
+        dataTermino = null;
+        tomadors.clear();
+        colaterals.clear();
+        fiadors.clear();
+        return this;
+    }
+}
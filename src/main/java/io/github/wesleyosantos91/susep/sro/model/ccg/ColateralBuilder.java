@@ -0,0 +1,104 @@
+package io.github.wesleyosantos91.susep.sro.model.ccg;
+
+import java.math.BigDecimal;
+
+/**
+ * Builder reutilizável para {@link Colateral}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class ColateralBuilder {
+
+    private Integer tipoAtivoColateral;
+    private BigDecimal valorAtivoColateral;
+    private String ufAtivoColateral;
+    private String paisAtivoColateral;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public ColateralBuilder from(Colateral origem) {
+        return tipoAtivoColateral(origem.tipoAtivoColateral())
+            .valorAtivoColateral(origem.valorAtivoColateral())
+            .ufAtivoColateral(origem.ufAtivoColateral())
+            .paisAtivoColateral(origem.paisAtivoColateral());
+    }
+
+    /**
+     * Define {@link Colateral#tipoAtivoColateral()}.
+     *
+     * @param tipoAtivoColateral valor do componente
+     * @return este builder
+     */
+    public ColateralBuilder tipoAtivoColateral(Integer tipoAtivoColateral) {
+        this.tipoAtivoColateral = tipoAtivoColateral;
+        return this;
+    }
+
+    /**
+     * Define {@link Colateral#valorAtivoColateral()}.
+     *
+     * @param valorAtivoColateral valor do componente
+     * @return este builder
+     */
+    public ColateralBuilder valorAtivoColateral(BigDecimal valorAtivoColateral) {
+        this.valorAtivoColateral = valorAtivoColateral;
+        return this;
+    }
+
+    /**
+     * Define {@link Colateral#ufAtivoColateral()}.
+     *
+     * @param ufAtivoColateral valor do componente
+     * @return este builder
+     */
+    public ColateralBuilder ufAtivoColateral(String ufAtivoColateral) {
+        this.ufAtivoColateral = ufAtivoColateral;
+        return this;
+    }
+
+    /**
+     * Define {@link Colateral#paisAtivoColateral()}.
+     *
+     * @param paisAtivoColateral valor do componente
+     * @return este builder
+     */
+    public ColateralBuilder paisAtivoColateral(String paisAtivoColateral) {
+        this.paisAtivoColateral = paisAtivoColateral;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Colateral build() {
+        return new Colateral(
+            tipoAtivoColateral,
+            valorAtivoColateral,
+            ufAtivoColateral,
+            paisAtivoColateral
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public ColateralBuilder reset() {
+        tipoAtivoColateral = null;
+        valorAtivoColateral = null;
+        ufAtivoColateral = null;
+        paisAtivoColateral = null;
+        return this;
+    }
+}
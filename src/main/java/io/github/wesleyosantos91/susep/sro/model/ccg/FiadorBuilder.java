@@ -0,0 +1,87 @@
+package io.github.wesleyosantos91.susep.sro.model.ccg;
+
+/**
+ * Builder reutilizável para {@link Fiador}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class FiadorBuilder {
+
+    private String documento;
+    private Integer tipoDocumento;
+    private String razaoSocial;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public FiadorBuilder from(Fiador origem) {
+        return documento(origem.documento())
+            .tipoDocumento(origem.tipoDocumento())
+            .razaoSocial(origem.razaoSocial());
+    }
+
+    /**
+     * Define {@link Fiador#documento()}.
+     *
+     * @param documento valor do componente
+     * @return este builder
+     */
+    public FiadorBuilder documento(String documento) {
+        this.documento = documento;
+        return this;
+    }
+
+    /**
+     * Define {@link Fiador#tipoDocumento()}.
+     *
+     * @param tipoDocumento valor do componente
+     * @return este builder
+     */
+    public FiadorBuilder tipoDocumento(Integer tipoDocumento) {
+        this.tipoDocumento = tipoDocumento;
+        return this;
+    }
+
+    /**
+     * Define {@link Fiador#razaoSocial()}.
+     *
+     * @param razaoSocial valor do componente
+     * @return este builder
+     */
+    public FiadorBuilder razaoSocial(String razaoSocial) {
+        this.razaoSocial = razaoSocial;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Fiador build() {
+        return new Fiador(
+            documento,
+            tipoDocumento,
+            razaoSocial
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public FiadorBuilder reset() {
+        documento = null;
+        tipoDocumento = null;
+        razaoSocial = null;
+        return this;
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.wesleyosantos91.susep.sro.model.ccg;
+
+import java.math.BigDecimal;
+
+/**
+ * Builder reutilizável para {@link Tomador}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class TomadorBuilder {
+
+    private String documento;
+    private Integer tipoDocumento;
+    private Integer controladorGe;
+    private String razaoSocial;
+    private BigDecimal limiteAprovado;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public TomadorBuilder from(Tomador origem) {
+        return documento(origem.documento())
+            .tipoDocumento(origem.tipoDocumento())
+            .controladorGe(origem.controladorGe())
+            .razaoSocial(origem.razaoSocial())
+            .limiteAprovado(origem.limiteAprovado());
+    }
+
+    /**
+     * Define {@link Tomador#documento()}.
+     *
+     * @param documento valor do componente
+     * @return este builder
+     */
+    public TomadorBuilder documento(String documento) {
+        this.documento = documento;
+        return this;
+    }
+
+    /**
+     * Define {@link Tomador#tipoDocumento()}.
+     *
+     * @param tipoDocumento valor do componente
+     * @return este builder
+     */
+    public TomadorBuilder tipoDocumento(Integer tipoDocumento) {
+        this.tipoDocumento = tipoDocumento;
+        return this;
+    }
+
+    /**
+     * Define {@link Tomador#controladorGe()}.
+     *
+     * @param controladorGe valor do componente
+     * @return este builder
+     */
+    public TomadorBuilder controladorGe(Integer controladorGe) {
+        this.controladorGe = controladorGe;
+        return this;
+    }
+
+    /**
+     * Define {@link Tomador#razaoSocial()}.
+     *
+     * @param razaoSocial valor do componente
+     * @return este builder
+     */
+    public TomadorBuilder razaoSocial(String razaoSocial) {
+        this.razaoSocial = razaoSocial;
+        return this;
+    }
+
+    /**
+     * Define {@link Tomador#limiteAprovado()}.
+     *
+     * @param limiteAprovado valor do componente
+     * @return este builder
+     */
+    public TomadorBuilder limiteAprovado(BigDecimal limiteAprovado) {
+        this.limiteAprovado = limiteAprovado;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Tomador build() {
+        return new Tomador(
+            documento,
+            tipoDocumento,
+            controladorGe,
+            razaoSocial,
+            limiteAprovado
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public TomadorBuilder reset() {
+        documento = null;
+        tipoDocumento = null;
+        controladorGe = null;
+        razaoSocial = null;
+        limiteAprovado = null;
+        return this;
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.wesleyosantos91.susep.sro.model.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Leitura sequencial do formato gravado por {@link BinaryWriter}. Não é thread-safe.
+ */
+public final class BinaryReader {
+
+    private final byte[] buffer;
+    private final int fim;
+    private int posicao;
+
+    /**
+     * @param buffer bytes a ler
+     */
+    public BinaryReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    /**
+     * @param buffer  bytes a ler
+     * @param inicio  posição inicial
+     * @param tamanho quantidade de bytes legíveis a partir do início
+     * @throws IndexOutOfBoundsException se a faixa estiver fora do array
+     */
+    public BinaryReader(byte[] buffer, int inicio, int tamanho) {
+        this.buffer = Objects.requireNonNull(buffer, "Buffer é obrigatório");
+        Objects.checkFromIndexSize(inicio, tamanho, buffer.length);
+        this.posicao = inicio;
+        this.fim = inicio + tamanho;
+    }
+
+    /**
+     * @return próximo byte, sem sinal
+     * @throws IllegalStateException se os dados terminarem
+     */
+    public int readByte() {
+        exigir(1);
+        return buffer[posicao++] & 0xFF;
+    }
+
+    /**
+     * @return inteiro sem sinal em LEB128
+     * @throws IllegalStateException se os dados terminarem ou o valor exceder 64 bits
+     */
+    public long readVarLong() {
+        long valor = 0;
+        for (int deslocamento = 0; deslocamento < Long.SIZE; deslocamento += 7) {
+            int b = readByte();
+            valor |= (long) (b & 0x7F) << deslocamento;
+            if ((b & 0x80) == 0) {
+                return valor;
+            }
+        }
+        throw new IllegalStateException("Inteiro variável excede 64 bits na posição " + posicao);
+    }
+
+    /**
+     * @return inteiro com sinal em zig-zag
+     */
+    public long readZigZag() {
+        long valor = readVarLong();
+        return (valor >>> 1) ^ -(valor & 1);
+    }
+
+    /**
+     * @return inteiro de 32 bits em little-endian
+     */
+    public int readInt() {
+        exigir(Integer.BYTES);
+        int valor = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            valor |= (buffer[posicao++] & 0xFF) << (8 * i);
+        }
+        return valor;
+    }
+
+    /**
+     * @return inteiro de 64 bits em little-endian
+     */
+    public long readLong() {
+        exigir(Long.BYTES);
+        long valor = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            valor |= (buffer[posicao++] & 0xFFL) << (8 * i);
+        }
+        return valor;
+    }
+
+    /**
+     * @param tamanho quantidade de bytes
+     * @return cópia dos próximos bytes
+     */
+    public byte[] readBytes(int tamanho) {
+        exigir(tamanho);
+        byte[] bytes = new byte[tamanho];
+        System.arraycopy(buffer, posicao, bytes, 0, tamanho);
+        posicao += tamanho;
+        return bytes;
+    }
+
+    /**
+     * @return texto UTF-8 prefixado pelo tamanho em bytes
+     */
+    public String readString() {
+        int tamanho = tamanho(readVarLong());
+        exigir(tamanho);
+        String texto = new String(buffer, posicao, tamanho, StandardCharsets.UTF_8);
+        posicao += tamanho;
+        return texto;
+    }
+
+    /**
+     * @return bytes ainda não lidos
+     */
+    public int remaining() {
+        return fim - posicao;
+    }
+
+    int tamanho(long valor) {
+        if (valor < 0 || valor > remaining()) {
+            throw new IllegalStateException("Tamanho inválido na posição " + posicao + ": " + valor);
+        }
+        return (int) valor;
+    }
+
+    private void exigir(int bytes) {
+        if (bytes < 0 || bytes > fim - posicao) {
+            throw new IllegalStateException("Dados insuficientes na posição " + posicao);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.wesleyosantos91.susep.sro.model.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Buffer binário crescente para a codificação de registros.
+ *
+ * <p>Inteiros de tamanho variável usam LEB128 (7 bits por byte, menos significativos primeiro);
+ * inteiros com sinal passam antes por zig-zag, de modo que valores pequenos em módulo ocupem
+ * poucos bytes. Valores de largura fixa são gravados em little-endian. Não é thread-safe; a
+ * mesma instância pode ser reaproveitada com {@link #reset()}.</p>
+ */
+public final class BinaryWriter {
+
+    private byte[] buffer;
+    private int tamanho;
+
+    /**
+     * Cria um buffer com capacidade inicial de 256 bytes.
+     */
+    public BinaryWriter() {
+        this(256);
+    }
+
+    /**
+     * Cria um buffer.
+     *
+     * @param capacidade capacidade inicial em bytes
+     * @throws IllegalArgumentException se a capacidade for negativa
+     */
+    public BinaryWriter(int capacidade) {
+        if (capacidade < 0) {
+            throw new IllegalArgumentException("Capacidade não pode ser negativa");
+        }
+        this.buffer = new byte[capacidade];
+    }
+
+    /**
+     * @param valor byte a gravar (8 bits menos significativos)
+     * @return este buffer
+     */
+    public BinaryWriter writeByte(int valor) {
+        garantir(1);
+        buffer[tamanho++] = (byte) valor;
+        return this;
+    }
+
+    /**
+     * @param valor inteiro tratado como sem sinal
+     * @return este buffer
+     */
+    public BinaryWriter writeVarLong(long valor) {
+        garantir(10);
+        while ((valor & ~0x7FL) != 0) {
+            buffer[tamanho++] = (byte) ((valor & 0x7F) | 0x80);
+            valor >>>= 7;
+        }
+        buffer[tamanho++] = (byte) valor;
+        return this;
+    }
+
+    /**
+     * @param valor inteiro com sinal, gravado em zig-zag
+     * @return este buffer
+     */
+    public BinaryWriter writeZigZag(long valor) {
+        return writeVarLong((valor << 1) ^ (valor >> 63));
+    }
+
+    /**
+     * @param valor inteiro de 32 bits em little-endian
+     * @return este buffer
+     */
+    public BinaryWriter writeInt(int valor) {
+        garantir(Integer.BYTES);
+        for (int i = 0; i < Integer.BYTES; i++) {
+            buffer[tamanho++] = (byte) (valor >>> (8 * i));
+        }
+        return this;
+    }
+
+    /**
+     * @param valor inteiro de 64 bits em little-endian
+     * @return este buffer
+     */
+    public BinaryWriter writeLong(long valor) {
+        garantir(Long.BYTES);
+        for (int i = 0; i < Long.BYTES; i++) {
+            buffer[tamanho++] = (byte) (valor >>> (8 * i));
+        }
+        return this;
+    }
+
+    /**
+     * @param bytes bytes gravados sem prefixo de tamanho
+     * @return este buffer
+     */
+    public BinaryWriter writeBytes(byte[] bytes) {
+        garantir(bytes.length);
+        System.arraycopy(bytes, 0, buffer, tamanho, bytes.length);
+        tamanho += bytes.length;
+        return this;
+    }
+
+    /**
+     * @param texto texto gravado em UTF-8, prefixado pelo tamanho em bytes
+     * @return este buffer
+     */
+    public BinaryWriter writeString(String texto) {
+        Objects.requireNonNull(texto, "Texto é obrigatório");
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        return writeBytes(bytes);
+    }
+
+    /**
+     * @return quantidade de bytes gravados
+     */
+    public int size() {
+        return tamanho;
+    }
+
+    /**
+     * Array interno; apenas os primeiros {@link #size()} bytes são válidos.
+     *
+     * @return array interno, sem cópia
+     */
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    /**
+     * @return cópia dos bytes gravados
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, tamanho);
+    }
+
+    /**
+     * Descarta os bytes gravados, mantendo a capacidade.
+     *
+     * @return este buffer
+     */
+    public BinaryWriter reset() {
+        tamanho = 0;
+        return this;
+    }
+
+    private void garantir(int bytes) {
+        if (tamanho + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, tamanho + bytes));
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package io.github.wesleyosantos91.susep.sro.model.codec;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Codificação de uma versão de record como delta estrutural em relação à versão anterior.
+ *
+ * <p>O delta percorre os componentes do record em vez de comparar bytes: componentes iguais aos
+ * da versão anterior não são gravados; um record aninhado alterado vira um delta aninhado; e uma
+ * lista alterada é descrita por cópias de trechos da lista anterior, elementos novos no formato do
+ * {@link RecordCodec} e deltas de elementos alterados. Um documento que só ganhou um segurado
+ * grava a inclusão e uma referência à lista anterior, não os demais segurados.</p>
+ *
+ * <p>Formato de um record: quantidade de componentes alterados e, para cada um, a distância ao
+ * anterior e a operação em um inteiro variável ({@code distância << 2 | op}), seguidos do valor
+ * completo, do delta aninhado ou do delta da lista. Formato de uma lista: o novo tamanho e uma
+ * sequência de trechos {@code quantidade << 2 | op}, com op literal (elementos completos), cópia
+ * (seguida da posição inicial na lista anterior) ou delta (a posição do elemento anterior no lugar
+ * da quantidade).</p>
+ *
+ * <p>A aplicação passa pelo construtor canônico, reaplicando as validações do record. O delta só
+ * é válido sobre a mesma versão anterior usada para gerá-lo. Thread-safe.</p>
+ *
+ * @param <T> tipo do record
+ */
+public final class DeltaCodec<T extends Record> {
+
+    private static final int COMPLETO = 0;
+    private static final int REGISTRO = 1;
+    private static final int LISTA = 2;
+
+    private static final int LITERAL = 0;
+    private static final int COPIA = 1;
+    private static final int DELTA = 2;
+
+    private final RecordCodec<T> codec;
+
+    private DeltaCodec(RecordCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    /**
+     * @param tipo classe do record
+     * @param <T>  tipo do record
+     * @return codec de deltas do tipo
+     * @throws IllegalArgumentException se algum componente tiver tipo não suportado pelo {@link RecordCodec}
+     */
+    public static <T extends Record> DeltaCodec<T> of(Class<T> tipo) {
+        return new DeltaCodec<>(RecordCodec.of(tipo));
+    }
+
+    /**
+     * @param base   versão anterior
+     * @param versao nova versão
+     * @return delta da versão anterior para a nova (vazio, exceto pela contagem, se forem iguais)
+     */
+    public byte[] encode(T base, T versao) {
+        BinaryWriter writer = new BinaryWriter();
+        encode(base, versao, writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Acrescenta o delta ao buffer.
+     *
+     * @param base   versão anterior
+     * @param versao nova versão
+     * @param writer destino
+     */
+    public void encode(T base, T versao, BinaryWriter writer) {
+        Objects.requireNonNull(base, "Versão anterior é obrigatória");
+        Objects.requireNonNull(versao, "Nova versão é obrigatória");
+        escreverRegistro(codec, base, versao, writer);
+    }
+
+    /**
+     * @param base  versão anterior usada em {@link #encode(Record, Record)}
+     * @param delta bytes do delta
+     * @return nova versão
+     * @throws IllegalStateException se o delta estiver truncado, sobrarem bytes ou referir posições inexistentes
+     */
+    public T apply(T base, byte[] delta) {
+        BinaryReader reader = new BinaryReader(delta);
+        T versao = apply(base, reader);
+        if (reader.remaining() != 0) {
+            throw new IllegalStateException("Sobraram " + reader.remaining() + " bytes após delta de "
+                + codec.type().getSimpleName());
+        }
+        return versao;
+    }
+
+    /**
+     * Lê o próximo delta do buffer e o aplica.
+     *
+     * @param base   versão anterior usada na codificação
+     * @param reader origem
+     * @return nova versão
+     * @throws IllegalStateException se o delta estiver truncado ou referir posições inexistentes
+     * @throws IllegalArgumentException se os valores resultantes violarem as validações do record
+     */
+    public T apply(T base, BinaryReader reader) {
+        Objects.requireNonNull(base, "Versão anterior é obrigatória");
+        return codec.type().cast(aplicarRegistro(codec, base, reader));
+    }
+
+    /**
+     * @return classe do record
+     */
+    public Class<T> type() {
+        return codec.type();
+    }
+
+    private static void escreverRegistro(RecordCodec<?> codec, Object base, Object versao, BinaryWriter writer) {
+        int n = codec.componentCount();
+        Object[] anteriores = new Object[n];
+        Object[] atuais = new Object[n];
+        int alterados = 0;
+        for (int i = 0; i < n; i++) {
+            anteriores[i] = codec.component(base, i);
+            atuais[i] = codec.component(versao, i);
+            if (!Objects.equals(anteriores[i], atuais[i])) {
+                alterados++;
+            }
+        }
+        writer.writeVarLong(alterados);
+        int anterior = -1;
+        for (int i = 0; i < n; i++) {
+            Object antes = anteriores[i];
+            Object depois = atuais[i];
+            if (Objects.equals(antes, depois)) {
+                continue;
+            }
+            long distancia = (long) (i - anterior - 1) << 2;
+            anterior = i;
+            if (antes != null && depois != null && codec.isList(i)) {
+                writer.writeVarLong(distancia | LISTA);
+                escreverLista(codec, i, (List<?>) antes, (List<?>) depois, writer);
+            } else if (antes != null && depois != null && codec.nestedType(i) != null) {
+                writer.writeVarLong(distancia | REGISTRO);
+                escreverRegistro(RecordCodec.of(codec.nestedType(i)), antes, depois, writer);
+            } else {
+                writer.writeVarLong(distancia | COMPLETO);
+                codec.writeComponent(i, depois, writer);
+            }
+        }
+    }
+
+    private static void escreverLista(RecordCodec<?> codec, int indice, List<?> base, List<?> lista,
+                                      BinaryWriter writer) {
+        Class<? extends Record> aninhado = codec.nestedType(indice);
+        RecordCodec<?> codecElemento = aninhado == null ? null : RecordCodec.of(aninhado);
+        writer.writeVarLong(lista.size());
+        Map<Object, Integer> posicoes = null;
+        List<Object> literais = new ArrayList<>();
+        int inicioCopia = -1;
+        int tamanhoCopia = 0;
+        int proximo = 0;
+        for (Object item : lista) {
+            int origem = -1;
+            if (proximo < base.size() && Objects.equals(base.get(proximo), item)) {
+                origem = proximo;
+            } else {
+                if (posicoes == null) {
+                    posicoes = new HashMap<>();
+                    for (int j = 0; j < base.size(); j++) {
+                        posicoes.putIfAbsent(base.get(j), j);
+                    }
+                }
+                origem = posicoes.getOrDefault(item, -1);
+            }
+            if (origem >= 0) {
+                if (tamanhoCopia > 0 && origem == inicioCopia + tamanhoCopia) {
+                    tamanhoCopia++;
+                } else {
+                    escreverLiterais(codec, indice, literais, writer);
+                    escreverCopia(inicioCopia, tamanhoCopia, writer);
+                    inicioCopia = origem;
+                    tamanhoCopia = 1;
+                }
+                proximo = origem + 1;
+                continue;
+            }
+            escreverCopia(inicioCopia, tamanhoCopia, writer);
+            tamanhoCopia = 0;
+            Object anterior = proximo < base.size() ? base.get(proximo) : null;
+            if (codecElemento != null && item != null && anterior != null) {
+                BinaryWriter delta = new BinaryWriter();
+                escreverRegistro(codecElemento, anterior, item, delta);
+                BinaryWriter completo = new BinaryWriter();
+                codec.writeElement(indice, item, completo);
+                if (delta.size() < completo.size()) {
+                    escreverLiterais(codec, indice, literais, writer);
+                    writer.writeVarLong((long) proximo << 2 | DELTA);
+                    writer.writeBytes(delta.toByteArray());
+                    proximo++;
+                    continue;
+                }
+            }
+            literais.add(item);
+            if (anterior != null) {
+                proximo++;
+            }
+        }
+        escreverLiterais(codec, indice, literais, writer);
+        escreverCopia(inicioCopia, tamanhoCopia, writer);
+    }
+
+    private static void escreverLiterais(RecordCodec<?> codec, int indice, List<Object> literais,
+                                         BinaryWriter writer) {
+        if (literais.isEmpty()) {
+            return;
+        }
+        writer.writeVarLong((long) literais.size() << 2 | LITERAL);
+        for (Object item : literais) {
+            codec.writeElement(indice, item, writer);
+        }
+        literais.clear();
+    }
+
+    private static void escreverCopia(int inicio, int tamanho, BinaryWriter writer) {
+        if (tamanho > 0) {
+            writer.writeVarLong((long) tamanho << 2 | COPIA).writeVarLong(inicio);
+        }
+    }
+
+    private static Object aplicarRegistro(RecordCodec<?> codec, Object base, BinaryReader reader) {
+        int n = codec.componentCount();
+        Object[] valores = new Object[n];
+        for (int i = 0; i < n; i++) {
+            valores[i] = codec.component(base, i);
+        }
+        long alterados = reader.readVarLong();
+        int indice = -1;
+        for (long k = 0; k < alterados; k++) {
+            long cabecalho = reader.readVarLong();
+            long posicao = indice + 1 + (cabecalho >>> 2);
+            if (posicao >= n) {
+                throw new IllegalStateException("Componente inexistente no delta de " + codec.type().getSimpleName()
+                    + ": " + posicao);
+            }
+            indice = (int) posicao;
+            int op = (int) (cabecalho & 3);
+            Object anterior = valores[indice];
+            if (op == COMPLETO) {
+                valores[indice] = codec.readComponent(indice, reader);
+            } else if (op == LISTA && anterior != null && codec.isList(indice)) {
+                valores[indice] = aplicarLista(codec, indice, (List<?>) anterior, reader);
+            } else if (op == REGISTRO && anterior != null && codec.nestedType(indice) != null) {
+                valores[indice] = aplicarRegistro(RecordCodec.of(codec.nestedType(indice)), anterior, reader);
+            } else {
+                throw new IllegalStateException("Operação inválida no delta de " + codec.type().getSimpleName()
+                    + ": " + op);
+            }
+        }
+        return codec.construct(valores);
+    }
+
+    private static List<Object> aplicarLista(RecordCodec<?> codec, int indice, List<?> base, BinaryReader reader) {
+        int tamanho = Math.toIntExact(reader.readVarLong());
+        Class<? extends Record> aninhado = codec.nestedType(indice);
+        List<Object> lista = new ArrayList<>(tamanho);
+        while (lista.size() < tamanho) {
+            long cabecalho = reader.readVarLong();
+            long valor = cabecalho >>> 2;
+            switch ((int) (cabecalho & 3)) {
+                case LITERAL -> {
+                    exigir(lista.size() + valor <= tamanho, "literais além do tamanho da lista");
+                    for (long k = 0; k < valor; k++) {
+                        lista.add(codec.readElement(indice, reader));
+                    }
+                }
+                case COPIA -> {
+                    long inicio = reader.readVarLong();
+                    exigir(valor > 0 && inicio + valor <= base.size() && lista.size() + valor <= tamanho,
+                        "cópia fora da lista anterior");
+                    lista.addAll(base.subList((int) inicio, (int) (inicio + valor)));
+                }
+                case DELTA -> {
+                    exigir(aninhado != null && valor < base.size() && base.get((int) valor) != null,
+                        "delta de elemento inexistente");
+                    lista.add(aplicarRegistro(RecordCodec.of(aninhado), base.get((int) valor), reader));
+                }
+                default -> throw new IllegalStateException("Operação de lista inválida no delta: " + (cabecalho & 3));
+            }
+        }
+        return lista;
+    }
+
+    private static void exigir(boolean condicao, String motivo) {
+        if (!condicao) {
+            throw new IllegalStateException("Delta inválido: " + motivo);
+        }
+    }
+}
@@ -0,0 +1,555 @@
+package io.github.wesleyosantos91.susep.sro.model.codec;
+
+import io.github.wesleyosantos91.susep.sro.model.fingerprint.Fingerprint;
+import io.github.wesleyosantos91.susep.sro.model.fingerprint.Fingerprinter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Codificação binária compacta de records do SRO.
+ *
+ * <p>Os componentes são gravados na ordem de declaração, sem nomes nem marcas de tipo: o formato
+ * é definido pelo próprio record. Cada valor carrega a sua ausência ({@code null}) no primeiro
+ * byte ou no próprio inteiro variável:</p>
+ * <ul>
+ *   <li>inteiros e datas ({@link LocalDate} como dias desde a época): zig-zag + LEB128, somados de um;</li>
+ *   <li>textos: tamanho em bytes mais um, seguido do UTF-8;</li>
+ *   <li>{@link BigDecimal}: escala e valor não escalado (em 64 bits quando cabe; senão, seus bytes);</li>
+ *   <li>{@link Double}/{@link Float}: marca de presença e os bits IEEE 754;</li>
+ *   <li>listas: tamanho mais um e os elementos; records aninhados: marca de presença e os componentes.</li>
+ * </ul>
+ *
+ * <p>A decodificação passa pelo construtor canônico, de modo que as validações do record são
+ * reaplicadas. O {@link #schema()} identifica a estrutura (nomes e tipos dos componentes do
+ * record e dos records aninhados nele) para detectar dados gravados por outra versão do record. Os codecs são
+ * resolvidos uma única vez por classe e são thread-safe.</p>
+ *
+ * @param <T> tipo do record
+ */
+public final class RecordCodec<T extends Record> {
+
+    private static final MethodType ACESSOR = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType CONSTRUTOR = MethodType.methodType(Object.class, Object[].class);
+
+    private static final ClassValue<RecordCodec<?>> CODECS = new ClassValue<>() {
+        @Override
+        protected RecordCodec<?> computeValue(Class<?> tipo) {
+            return criar(tipo.asSubclass(Record.class));
+        }
+    };
+
+    private final Class<T> tipo;
+    private final MethodHandle[] acessores;
+    private final Campo[] campos;
+    private final MethodHandle construtor;
+    private final long schema;
+
+    private RecordCodec(Class<T> tipo, MethodHandle[] acessores, Campo[] campos, MethodHandle construtor,
+                        long schema) {
+        this.tipo = tipo;
+        this.acessores = acessores;
+        this.campos = campos;
+        this.construtor = construtor;
+        this.schema = schema;
+    }
+
+    /**
+     * Codec do tipo de record.
+     *
+     * @param tipo classe do record
+     * @param <T>  tipo do record
+     * @return codec (o mesmo para chamadas repetidas)
+     * @throws IllegalArgumentException se algum componente tiver tipo não suportado
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Record> RecordCodec<T> of(Class<T> tipo) {
+        Objects.requireNonNull(tipo, "Tipo é obrigatório");
+        return (RecordCodec<T>) CODECS.get(tipo);
+    }
+
+    /**
+     * @param registro record a codificar
+     * @return bytes do record
+     */
+    public byte[] encode(T registro) {
+        BinaryWriter writer = new BinaryWriter();
+        encode(registro, writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Acrescenta o record ao buffer.
+     *
+     * @param registro record a codificar
+     * @param writer   destino
+     */
+    public void encode(T registro, BinaryWriter writer) {
+        Objects.requireNonNull(registro, "Registro é obrigatório");
+        escreverComponentes(writer, registro);
+    }
+
+    /**
+     * @param bytes bytes gravados por {@link #encode(Record)}
+     * @return record decodificado
+     * @throws IllegalStateException se os bytes estiverem truncados ou sobrarem bytes
+     */
+    public T decode(byte[] bytes) {
+        BinaryReader reader = new BinaryReader(bytes);
+        T registro = decode(reader);
+        if (reader.remaining() != 0) {
+            throw new IllegalStateException("Sobraram " + reader.remaining() + " bytes após " + tipo.getSimpleName());
+        }
+        return registro;
+    }
+
+    /**
+     * Lê o próximo record do buffer.
+     *
+     * @param reader origem
+     * @return record decodificado
+     * @throws IllegalStateException se os bytes estiverem truncados ou inválidos
+     * @throws IllegalArgumentException se os valores lidos violarem as validações do record
+     */
+    public T decode(BinaryReader reader) {
+        Object[] valores = new Object[campos.length];
+        for (int i = 0; i < campos.length; i++) {
+            valores[i] = campos[i].ler(reader);
+        }
+        return construct(valores);
+    }
+
+    /**
+     * @return classe do record
+     */
+    public Class<T> type() {
+        return tipo;
+    }
+
+    /**
+     * @return identificador da estrutura do record (nomes e tipos dos componentes)
+     */
+    public long schema() {
+        return schema;
+    }
+
+    int componentCount() {
+        return campos.length;
+    }
+
+    Object component(Object registro, int indice) {
+        try {
+            return acessores[indice].invokeExact(registro);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Falha ao ler componente de " + tipo.getName(), e);
+        }
+    }
+
+    void writeComponent(int indice, Object valor, BinaryWriter writer) {
+        campos[indice].escrever(writer, valor);
+    }
+
+    Object readComponent(int indice, BinaryReader reader) {
+        return campos[indice].ler(reader);
+    }
+
+    /**
+     * Elementos de um componente lista; só deve ser chamado para componentes lista.
+     */
+    void writeElement(int indice, Object item, BinaryWriter writer) {
+        ((CampoLista) campos[indice]).elemento().escrever(writer, item);
+    }
+
+    Object readElement(int indice, BinaryReader reader) {
+        return ((CampoLista) campos[indice]).elemento().ler(reader);
+    }
+
+    /**
+     * @return classe do record aninhado no componente ou nos elementos da lista, ou {@code null}
+     */
+    Class<? extends Record> nestedType(int indice) {
+        Campo campo = campos[indice] instanceof CampoLista lista ? lista.elemento() : campos[indice];
+        return campo instanceof CampoRecord aninhado ? aninhado.classe() : null;
+    }
+
+    boolean isList(int indice) {
+        return campos[indice] instanceof CampoLista;
+    }
+
+    T construct(Object[] valores) {
+        try {
+            return tipo.cast(construtor.invokeExact(valores));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Falha ao construir " + tipo.getName(), e);
+        }
+    }
+
+    private void escreverComponentes(BinaryWriter writer, Object registro) {
+        for (int i = 0; i < campos.length; i++) {
+            campos[i].escrever(writer, component(registro, i));
+        }
+    }
+
+    private static <T extends Record> RecordCodec<T> criar(Class<T> tipo) {
+        RecordComponent[] componentes = tipo.getRecordComponents();
+        MethodHandle[] acessores = new MethodHandle[componentes.length];
+        Campo[] campos = new Campo[componentes.length];
+        Class<?>[] parametros = new Class<?>[componentes.length];
+        StringBuilder estrutura = new StringBuilder(tipo.getName());
+        try {
+            for (int i = 0; i < componentes.length; i++) {
+                Method acessor = componentes[i].getAccessor();
+                acessor.trySetAccessible();
+                acessores[i] = MethodHandles.lookup().unreflect(acessor).asType(ACESSOR);
+                campos[i] = campo(componentes[i].getGenericType(), tipo);
+                parametros[i] = componentes[i].getType();
+                estrutura.append('|').append(componentes[i].getName()).append(':')
+                    .append(componentes[i].getGenericType().getTypeName());
+            }
+            Constructor<T> canonico = tipo.getDeclaredConstructor(parametros);
+            canonico.trySetAccessible();
+            MethodHandle construtor = MethodHandles.lookup().unreflectConstructor(canonico)
+                .asSpreader(Object[].class, componentes.length)
+                .asType(CONSTRUTOR);
+            Fingerprint schema = Fingerprinter.fingerprint(estrutura.toString() + aninhados(campos));
+            return new RecordCodec<>(tipo, acessores, campos, construtor, schema.high() ^ schema.low());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Record inacessível para codificação: " + tipo.getName(), e);
+        }
+    }
+
+    private static String aninhados(Campo[] campos) {
+        StringBuilder esquemas = new StringBuilder();
+        for (Campo campo : campos) {
+            campo.esquema(esquemas);
+        }
+        return esquemas.toString();
+    }
+
+    private static Campo campo(Type generico, Class<?> dono) {
+        if (generico instanceof ParameterizedType parametrizado && parametrizado.getRawType() == List.class) {
+            return new CampoLista(campo(parametrizado.getActualTypeArguments()[0], dono));
+        }
+        if (!(generico instanceof Class<?> classe)) {
+            throw new IllegalArgumentException("Tipo não suportado para codificação em " + dono.getName() + ": "
+                + generico.getTypeName());
+        }
+        if (classe == String.class) {
+            return TEXTO;
+        }
+        if (classe == Integer.class || classe == int.class || classe == Short.class || classe == short.class
+            || classe == Byte.class || classe == byte.class || classe == Long.class || classe == long.class) {
+            return new CampoInteiro(classe);
+        }
+        if (classe == Double.class || classe == double.class) {
+            return DOUBLE;
+        }
+        if (classe == Float.class || classe == float.class) {
+            return FLOAT;
+        }
+        if (classe == BigDecimal.class) {
+            return DECIMAL;
+        }
+        if (classe == LocalDate.class) {
+            return DATA;
+        }
+        if (classe == Boolean.class || classe == boolean.class) {
+            return LOGICO;
+        }
+        if (classe.isEnum()) {
+            return new CampoEnum(classe.getEnumConstants());
+        }
+        if (classe.isRecord()) {
+            return new CampoRecord(classe.asSubclass(Record.class));
+        }
+        throw new IllegalArgumentException("Tipo não suportado para codificação em " + dono.getName() + ": "
+            + classe.getName());
+    }
+
+    /**
+     * Codificação de um componente; {@code null} é representado no próprio valor.
+     */
+    private interface Campo {
+
+        void escrever(BinaryWriter writer, Object valor);
+
+        Object ler(BinaryReader reader);
+
+        default void esquema(StringBuilder destino) {
+        }
+    }
+
+    private static final Campo TEXTO = new Campo() {
+        @Override
+        public void escrever(BinaryWriter writer, Object valor) {
+            if (valor == null) {
+                writer.writeByte(0);
+                return;
+            }
+            byte[] bytes = ((String) valor).getBytes(StandardCharsets.UTF_8);
+            writer.writeVarLong(bytes.length + 1L).writeBytes(bytes);
+        }
+
+        @Override
+        public Object ler(BinaryReader reader) {
+            long tamanho = reader.readVarLong();
+            if (tamanho == 0) {
+                return null;
+            }
+            return new String(reader.readBytes(reader.tamanho(tamanho - 1)), StandardCharsets.UTF_8);
+        }
+    };
+
+    private static final Campo DOUBLE = new Campo() {
+        @Override
+        public void escrever(BinaryWriter writer, Object valor) {
+            if (valor == null) {
+                writer.writeByte(0);
+            } else {
+                writer.writeByte(1).writeLong(Double.doubleToRawLongBits((Double) valor));
+            }
+        }
+
+        @Override
+        public Object ler(BinaryReader reader) {
+            return presente(reader) ? Double.longBitsToDouble(reader.readLong()) : null;
+        }
+    };
+
+    private static final Campo FLOAT = new Campo() {
+        @Override
+        public void escrever(BinaryWriter writer, Object valor) {
+            if (valor == null) {
+                writer.writeByte(0);
+            } else {
+                writer.writeByte(1).writeInt(Float.floatToRawIntBits((Float) valor));
+            }
+        }
+
+        @Override
+        public Object ler(BinaryReader reader) {
+            return presente(reader) ? Float.intBitsToFloat(reader.readInt()) : null;
+        }
+    };
+
+    private static final Campo DATA = new Campo() {
+        @Override
+        public void escrever(BinaryWriter writer, Object valor) {
+            writer.writeVarLong(valor == null ? 0 : zigZag(((LocalDate) valor).toEpochDay()) + 1);
+        }
+
+        @Override
+        public Object ler(BinaryReader reader) {
+            long valor = reader.readVarLong();
+            return valor == 0 ? null : LocalDate.ofEpochDay(deZigZag(valor - 1));
+        }
+    };
+
+    private static final Campo LOGICO = new Campo() {
+        @Override
+        public void escrever(BinaryWriter writer, Object valor) {
+            writer.writeByte(valor == null ? 0 : (Boolean) valor ? 2 : 1);
+        }
+
+        @Override
+        public Object ler(BinaryReader reader) {
+            return switch (reader.readByte()) {
+                case 0 -> null;
+                case 1 -> Boolean.FALSE;
+                case 2 -> Boolean.TRUE;
+                default -> throw new IllegalStateException("Valor lógico inválido");
+            };
+        }
+    };
+
+    private static final Campo DECIMAL = new Campo() {
+        @Override
+        public void escrever(BinaryWriter writer, Object valor) {
+            if (valor == null) {
+                writer.writeByte(0);
+                return;
+            }
+            BigDecimal numero = (BigDecimal) valor;
+            BigInteger naoEscalado = numero.unscaledValue();
+            if (naoEscalado.bitLength() < Long.SIZE) {
+                writer.writeByte(1).writeZigZag(numero.scale()).writeZigZag(naoEscalado.longValue());
+            } else {
+                byte[] bytes = naoEscalado.toByteArray();
+                writer.writeByte(2).writeZigZag(numero.scale()).writeVarLong(bytes.length).writeBytes(bytes);
+            }
+        }
+
+        @Override
+        public Object ler(BinaryReader reader) {
+            int marca = reader.readByte();
+            if (marca == 0) {
+                return null;
+            }
+            int escala = Math.toIntExact(reader.readZigZag());
+            return switch (marca) {
+                case 1 -> BigDecimal.valueOf(reader.readZigZag(), escala);
+                case 2 -> new BigDecimal(new BigInteger(reader.readBytes(reader.tamanho(reader.readVarLong()))), escala);
+                default -> throw new IllegalStateException("Marca de decimal inválida: " + marca);
+            };
+        }
+    };
+
+    private static boolean presente(BinaryReader reader) {
+        return switch (reader.readByte()) {
+            case 0 -> false;
+            case 1 -> true;
+            default -> throw new IllegalStateException("Marca de presença inválida");
+        };
+    }
+
+    private static long zigZag(long valor) {
+        return (valor << 1) ^ (valor >> 63);
+    }
+
+    private static long deZigZag(long valor) {
+        return (valor >>> 1) ^ -(valor & 1);
+    }
+
+    /**
+     * Inteiros até 64 bits; {@code Long} usa marca de presença porque o zig-zag ocupa os 64 bits.
+     */
+    private record CampoInteiro(Class<?> classe) implements Campo {
+
+        @Override
+        public void escrever(BinaryWriter writer, Object valor) {
+            if (classe == Long.class || classe == long.class) {
+                if (valor == null) {
+                    writer.writeByte(0);
+                } else {
+                    writer.writeByte(1).writeZigZag((Long) valor);
+                }
+                return;
+            }
+            writer.writeVarLong(valor == null ? 0 : zigZag(((Number) valor).longValue()) + 1);
+        }
+
+        @Override
+        public Object ler(BinaryReader reader) {
+            if (classe == Long.class || classe == long.class) {
+                return presente(reader) ? reader.readZigZag() : null;
+            }
+            long valor = reader.readVarLong();
+            if (valor == 0) {
+                return null;
+            }
+            long numero = deZigZag(valor - 1);
+            if (classe == Integer.class || classe == int.class) {
+                return Math.toIntExact(numero);
+            }
+            if (classe == Short.class || classe == short.class) {
+                return (short) numero;
+            }
+            return (byte) numero;
+        }
+    }
+
+    private record CampoEnum(Object[] constantes) implements Campo {
+
+        @Override
+        public void escrever(BinaryWriter writer, Object valor) {
+            writer.writeVarLong(valor == null ? 0 : ((Enum<?>) valor).ordinal() + 1L);
+        }
+
+        @Override
+        public Object ler(BinaryReader reader) {
+            long valor = reader.readVarLong();
+            if (valor > constantes.length) {
+                throw new IllegalStateException("Constante inválida: " + valor);
+            }
+            return valor == 0 ? null : constantes[(int) valor - 1];
+        }
+
+        @Override
+        public void esquema(StringBuilder destino) {
+            destino.append('|').append(Arrays.toString(constantes));
+        }
+    }
+
+    private record CampoLista(Campo elemento) implements Campo {
+
+        @Override
+        public void escrever(BinaryWriter writer, Object valor) {
+            if (valor == null) {
+                writer.writeByte(0);
+                return;
+            }
+            List<?> lista = (List<?>) valor;
+            writer.writeVarLong(lista.size() + 1L);
+            for (Object item : lista) {
+                elemento.escrever(writer, item);
+            }
+        }
+
+        @Override
+        public Object ler(BinaryReader reader) {
+            long tamanho = reader.readVarLong();
+            if (tamanho == 0) {
+                return null;
+            }
+            int quantidade = reader.tamanho(tamanho - 1);
+            List<Object> lista = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                lista.add(elemento.ler(reader));
+            }
+            return lista;
+        }
+
+        @Override
+        public void esquema(StringBuilder destino) {
+            elemento.esquema(destino);
+        }
+    }
+
+    /**
+     * Record aninhado; o codec é resolvido sob demanda para admitir estruturas recursivas.
+     */
+    private record CampoRecord(Class<? extends Record> classe) implements Campo {
+
+        @Override
+        public void escrever(BinaryWriter writer, Object valor) {
+            if (valor == null) {
+                writer.writeByte(0);
+                return;
+            }
+            writer.writeByte(1);
+            CODECS.get(classe).escreverComponentes(writer, valor);
+        }
+
+        @Override
+        public Object ler(BinaryReader reader) {
+            return presente(reader) ? CODECS.get(classe).decode(reader) : null;
+        }
+
+        @Override
+        public void esquema(StringBuilder destino) {
+            destino.append('|').append(classe.getName()).append('#');
+            for (RecordComponent componente : classe.getRecordComponents()) {
+                destino.append(componente.getName()).append(':').append(componente.getGenericType().getTypeName())
+                    .append(',');
+            }
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package io.github.wesleyosantos91.susep.sro.model.complauto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Builder reutilizável para {@link CoberturaAutomóvel}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class CoberturaAutomóvelBuilder {
+
+    private String grupoRamo;
+    private Integer codigo;
+    private String outrasDescricao;
+    private String coberturaInternaSeguradora;
+    private String numeroProcesso;
+    private BigDecimal limiteMaximoIndenizacao;
+    private BigDecimal limiteMaximoIndenizacaoReal;
+    private LocalDate dataInicio;
+    private LocalDate dataTermino;
+    private Integer coberturaPrincipal;
+    private Integer coberturaCaracteristica;
+    private Integer coberturaTipo;
+    private BigDecimal valorPremio;
+    private BigDecimal valorPremioReal;
+    private BigDecimal iof;
+    private BigDecimal custo;
+    private BigDecimal custoReal;
+    private Integer tipoIndenizacao;
+    private BigDecimal percentualIndenizacaoParcial;
+    private BigDecimal percentualLmi;
+    private String diasCobertura;
+    private Integer coberturaVinculada;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder from(CoberturaAutomóvel origem) {
+        return grupoRamo(origem.grupoRamo())
+            .codigo(origem.codigo())
+            .outrasDescricao(origem.outrasDescricao())
+            .coberturaInternaSeguradora(origem.coberturaInternaSeguradora())
+            .numeroProcesso(origem.numeroProcesso())
+            .limiteMaximoIndenizacao(origem.limiteMaximoIndenizacao())
+            .limiteMaximoIndenizacaoReal(origem.limiteMaximoIndenizacaoReal())
+            .dataInicio(origem.dataInicio())
+            .dataTermino(origem.dataTermino())
+            .coberturaPrincipal(origem.coberturaPrincipal())
+            .coberturaCaracteristica(origem.coberturaCaracteristica())
+            .coberturaTipo(origem.coberturaTipo())
+            .valorPremio(origem.valorPremio())
+            .valorPremioReal(origem.valorPremioReal())
+            .iof(origem.iof())
+            .custo(origem.custo())
+            .custoReal(origem.custoReal())
+            .tipoIndenizacao(origem.tipoIndenizacao())
+            .percentualIndenizacaoParcial(origem.percentualIndenizacaoParcial())
+            .percentualLmi(origem.percentualLmi())
+            .diasCobertura(origem.diasCobertura())
+            .coberturaVinculada(origem.coberturaVinculada());
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#grupoRamo()}.
+     *
+     * @param grupoRamo valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder grupoRamo(String grupoRamo) {
+        this.grupoRamo = grupoRamo;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#codigo()}.
+     *
+     * @param codigo valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder codigo(Integer codigo) {
+        this.codigo = codigo;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#outrasDescricao()}.
+     *
+     * @param outrasDescricao valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder outrasDescricao(String outrasDescricao) {
+        this.outrasDescricao = outrasDescricao;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#coberturaInternaSeguradora()}.
+     *
+     * @param coberturaInternaSeguradora valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder coberturaInternaSeguradora(String coberturaInternaSeguradora) {
+        this.coberturaInternaSeguradora = coberturaInternaSeguradora;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#numeroProcesso()}.
+     *
+     * @param numeroProcesso valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder numeroProcesso(String numeroProcesso) {
+        this.numeroProcesso = numeroProcesso;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#limiteMaximoIndenizacao()}.
+     *
+     * @param limiteMaximoIndenizacao valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder limiteMaximoIndenizacao(BigDecimal limiteMaximoIndenizacao) {
+        this.limiteMaximoIndenizacao = limiteMaximoIndenizacao;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#limiteMaximoIndenizacaoReal()}.
+     *
+     * @param limiteMaximoIndenizacaoReal valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder limiteMaximoIndenizacaoReal(BigDecimal limiteMaximoIndenizacaoReal) {
+        this.limiteMaximoIndenizacaoReal = limiteMaximoIndenizacaoReal;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#dataInicio()}.
+     *
+     * @param dataInicio valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder dataInicio(LocalDate dataInicio) {
+        this.dataInicio = dataInicio;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#dataTermino()}.
+     *
+     * @param dataTermino valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder dataTermino(LocalDate dataTermino) {
+        this.dataTermino = dataTermino;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#coberturaPrincipal()}.
+     *
+     * @param coberturaPrincipal valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder coberturaPrincipal(Integer coberturaPrincipal) {
+        this.coberturaPrincipal = coberturaPrincipal;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#coberturaCaracteristica()}.
+     *
+     * @param coberturaCaracteristica valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder coberturaCaracteristica(Integer coberturaCaracteristica) {
+        this.coberturaCaracteristica = coberturaCaracteristica;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#coberturaTipo()}.
+     *
+     * @param coberturaTipo valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder coberturaTipo(Integer coberturaTipo) {
+        this.coberturaTipo = coberturaTipo;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#valorPremio()}.
+     *
+     * @param valorPremio valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder valorPremio(BigDecimal valorPremio) {
+        this.valorPremio = valorPremio;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#valorPremioReal()}.
+     *
+     * @param valorPremioReal valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder valorPremioReal(BigDecimal valorPremioReal) {
+        this.valorPremioReal = valorPremioReal;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#iof()}.
+     *
+     * @param iof valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder iof(BigDecimal iof) {
+        this.iof = iof;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#custo()}.
+     *
+     * @param custo valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder custo(BigDecimal custo) {
+        this.custo = custo;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#custoReal()}.
+     *
+     * @param custoReal valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder custoReal(BigDecimal custoReal) {
+        this.custoReal = custoReal;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#tipoIndenizacao()}.
+     *
+     * @param tipoIndenizacao valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder tipoIndenizacao(Integer tipoIndenizacao) {
+        this.tipoIndenizacao = tipoIndenizacao;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#percentualIndenizacaoParcial()}.
+     *
+     * @param percentualIndenizacaoParcial valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder percentualIndenizacaoParcial(BigDecimal percentualIndenizacaoParcial) {
+        this.percentualIndenizacaoParcial = percentualIndenizacaoParcial;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#percentualLmi()}.
+     *
+     * @param percentualLmi valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder percentualLmi(BigDecimal percentualLmi) {
+        this.percentualLmi = percentualLmi;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#diasCobertura()}.
+     *
+     * @param diasCobertura valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder diasCobertura(String diasCobertura) {
+        this.diasCobertura = diasCobertura;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAutomóvel#coberturaVinculada()}.
+     *
+     * @param coberturaVinculada valor do componente
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder coberturaVinculada(Integer coberturaVinculada) {
+        this.coberturaVinculada = coberturaVinculada;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public CoberturaAutomóvel build() {
+        return new CoberturaAutomóvel(
+            grupoRamo,
+            codigo,
+            outrasDescricao,
+            coberturaInternaSeguradora,
+            numeroProcesso,
+            limiteMaximoIndenizacao,
+            limiteMaximoIndenizacaoReal,
+            dataInicio,
+            dataTermino,
+            coberturaPrincipal,
+            coberturaCaracteristica,
+            coberturaTipo,
+            valorPremio,
+            valorPremioReal,
+            iof,
+            custo,
+            custoReal,
+            tipoIndenizacao,
+            percentualIndenizacaoParcial,
+            percentualLmi,
+            diasCobertura,
+            coberturaVinculada
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public CoberturaAutomóvelBuilder reset() {
+        grupoRamo = null;
+        codigo = null;
+        outrasDescricao = null;
+        coberturaInternaSeguradora = null;
+        numeroProcesso = null;
+        limiteMaximoIndenizacao = null;
+        limiteMaximoIndenizacaoReal = null;
+        dataInicio = null;
+        dataTermino = null;
+        coberturaPrincipal = null;
+        coberturaCaracteristica = null;
+        coberturaTipo = null;
+        valorPremio = null;
+        valorPremioReal = null;
+        iof = null;
+        custo = null;
+        custoReal = null;
+        tipoIndenizacao = null;
+        percentualIndenizacaoParcial = null;
+        percentualLmi = null;
+        diasCobertura = null;
+        coberturaVinculada = null;
+        return this;
+    }
+}
@@ -0,0 +1,399 @@
+package io.github.wesleyosantos91.susep.sro.model.complauto;
+
+import io.github.wesleyosantos91.susep.sro.model.util.ListAccumulator;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Builder reutilizável para {@link ComplAuto}.
+ *
+ * <p>Listas acumuladas com os métodos {@code add...} são convertidas em listas imutáveis
+ * uma única vez em {@link #build()}; listas atribuídas diretamente são repassadas sem cópia.
+ * Em ambos os casos o compact constructor não copia a lista novamente.</p>
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class ComplAutoBuilder {
+
+    private String endossoCodigo;
+    private String codigo;
+    private Integer tipo;
+    private String descricaoTipo;
+    private String descricaoObjeto;
+    private Integer identificacaoExataVeiculo;
+    private Integer modalidadeCasco;
+    private BigDecimal percentualTabelaReferencia;
+    private Integer tabelaValorMedio;
+    private String codigoModelo;
+    private Integer anoModelo;
+    private String categoriaTarifaria;
+    private String cepRisco;
+    private Integer codigoUtilizacao;
+    private String cepLocalidadeDestino;
+    private String cepLocalidadePernoite;
+    private BigDecimal percentualDescontoBonus;
+    private Integer classeBonus;
+    private final ListAccumulator<CoberturaAutomóvel> coberturaAutomóvels = new ListAccumulator<>();
+    private final ListAccumulator<Franquia> franquias = new ListAccumulator<>();
+    private final ListAccumulator<PessoasAssociadasCondutor> pessoasAssociadasCondutors = new ListAccumulator<>();
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public ComplAutoBuilder from(ComplAuto origem) {
+        return endossoCodigo(origem.endossoCodigo())
+            .codigo(origem.codigo())
+            .tipo(origem.tipo())
+            .descricaoTipo(origem.descricaoTipo())
+            .descricaoObjeto(origem.descricaoObjeto())
+            .identificacaoExataVeiculo(origem.identificacaoExataVeiculo())
+            .modalidadeCasco(origem.modalidadeCasco())
+            .percentualTabelaReferencia(origem.percentualTabelaReferencia())
+            .tabelaValorMedio(origem.tabelaValorMedio())
+            .codigoModelo(origem.codigoModelo())
+            .anoModelo(origem.anoModelo())
+            .categoriaTarifaria(origem.categoriaTarifaria())
+            .cepRisco(origem.cepRisco())
+            .codigoUtilizacao(origem.codigoUtilizacao())
+            .cepLocalidadeDestino(origem.cepLocalidadeDestino())
+            .cepLocalidadePernoite(origem.cepLocalidadePernoite())
+            .percentualDescontoBonus(origem.percentualDescontoBonus())
+            .classeBonus(origem.classeBonus())
+            .coberturaAutomóvels(origem.coberturaAutomóvels())
+            .franquias(origem.franquias())
+            .pessoasAssociadasCondutors(origem.pessoasAssociadasCondutors());
+    }
+
+    /**
+     * Define {@link ComplAuto#endossoCodigo()}.
+     *
+     * @param endossoCodigo valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder endossoCodigo(String endossoCodigo) {
+        this.endossoCodigo = endossoCodigo;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#codigo()}.
+     *
+     * @param codigo valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder codigo(String codigo) {
+        this.codigo = codigo;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#tipo()}.
+     *
+     * @param tipo valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder tipo(Integer tipo) {
+        this.tipo = tipo;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#descricaoTipo()}.
+     *
+     * @param descricaoTipo valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder descricaoTipo(String descricaoTipo) {
+        this.descricaoTipo = descricaoTipo;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#descricaoObjeto()}.
+     *
+     * @param descricaoObjeto valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder descricaoObjeto(String descricaoObjeto) {
+        this.descricaoObjeto = descricaoObjeto;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#identificacaoExataVeiculo()}.
+     *
+     * @param identificacaoExataVeiculo valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder identificacaoExataVeiculo(Integer identificacaoExataVeiculo) {
+        this.identificacaoExataVeiculo = identificacaoExataVeiculo;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#modalidadeCasco()}.
+     *
+     * @param modalidadeCasco valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder modalidadeCasco(Integer modalidadeCasco) {
+        this.modalidadeCasco = modalidadeCasco;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#percentualTabelaReferencia()}.
+     *
+     * @param percentualTabelaReferencia valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder percentualTabelaReferencia(BigDecimal percentualTabelaReferencia) {
+        this.percentualTabelaReferencia = percentualTabelaReferencia;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#tabelaValorMedio()}.
+     *
+     * @param tabelaValorMedio valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder tabelaValorMedio(Integer tabelaValorMedio) {
+        this.tabelaValorMedio = tabelaValorMedio;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#codigoModelo()}.
+     *
+     * @param codigoModelo valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder codigoModelo(String codigoModelo) {
+        this.codigoModelo = codigoModelo;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#anoModelo()}.
+     *
+     * @param anoModelo valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder anoModelo(Integer anoModelo) {
+        this.anoModelo = anoModelo;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#categoriaTarifaria()}.
+     *
+     * @param categoriaTarifaria valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder categoriaTarifaria(String categoriaTarifaria) {
+        this.categoriaTarifaria = categoriaTarifaria;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#cepRisco()}.
+     *
+     * @param cepRisco valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder cepRisco(String cepRisco) {
+        this.cepRisco = cepRisco;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#codigoUtilizacao()}.
+     *
+     * @param codigoUtilizacao valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder codigoUtilizacao(Integer codigoUtilizacao) {
+        this.codigoUtilizacao = codigoUtilizacao;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#cepLocalidadeDestino()}.
+     *
+     * @param cepLocalidadeDestino valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder cepLocalidadeDestino(String cepLocalidadeDestino) {
+        this.cepLocalidadeDestino = cepLocalidadeDestino;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#cepLocalidadePernoite()}.
+     *
+     * @param cepLocalidadePernoite valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder cepLocalidadePernoite(String cepLocalidadePernoite) {
+        this.cepLocalidadePernoite = cepLocalidadePernoite;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#percentualDescontoBonus()}.
+     *
+     * @param percentualDescontoBonus valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder percentualDescontoBonus(BigDecimal percentualDescontoBonus) {
+        this.percentualDescontoBonus = percentualDescontoBonus;
+        return this;
+    }
+
+    /**
+     * Define {@link ComplAuto#classeBonus()}.
+     *
+     * @param classeBonus valor do componente
+     * @return este builder
+     */
+    public ComplAutoBuilder classeBonus(Integer classeBonus) {
+        this.classeBonus = classeBonus;
+        return this;
+    }
+
+    /**
+     * Atribui {@link ComplAuto#coberturaAutomóvels()} sem copiar a lista.
+     *
+     * @param coberturaAutomóvels lista de elementos
+     * @return este builder
+     */
+    public ComplAutoBuilder coberturaAutomóvels(List<CoberturaAutomóvel> coberturaAutomóvels) {
+        this.coberturaAutomóvels.set(coberturaAutomóvels);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link ComplAuto#coberturaAutomóvels()}.
+     *
+     * @param coberturaAutomóvel elemento não nulo
+     * @return este builder
+     */
+    public ComplAutoBuilder addCoberturaAutomóvel(CoberturaAutomóvel coberturaAutomóvel) {
+        this.coberturaAutomóvels.add(coberturaAutomóvel);
+        return this;
+    }
+
+    /**
+     * Atribui {@link ComplAuto#franquias()} sem copiar a lista.
+     *
+     * @param franquias lista de elementos
+     * @return este builder
+     */
+    public ComplAutoBuilder franquias(List<Franquia> franquias) {
+        this.franquias.set(franquias);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link ComplAuto#franquias()}.
+     *
+     * @param franquia elemento não nulo
+     * @return este builder
+     */
+    public ComplAutoBuilder addFranquia(Franquia franquia) {
+        this.franquias.add(franquia);
+        return this;
+    }
+
+    /**
+     * Atribui {@link ComplAuto#pessoasAssociadasCondutors()} sem copiar a lista.
+     *
+     * @param pessoasAssociadasCondutors lista de elementos
+     * @return este builder
+     */
+    public ComplAutoBuilder pessoasAssociadasCondutors(List<PessoasAssociadasCondutor> pessoasAssociadasCondutors) {
+        this.pessoasAssociadasCondutors.set(pessoasAssociadasCondutors);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link ComplAuto#pessoasAssociadasCondutors()}.
+     *
+     * @param pessoasAssociadasCondutor elemento não nulo
+     * @return este builder
+     */
+    public ComplAutoBuilder addPessoasAssociadasCondutor(PessoasAssociadasCondutor pessoasAssociadasCondutor) {
+        this.pessoasAssociadasCondutors.add(pessoasAssociadasCondutor);
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public ComplAuto build() {
+        return new ComplAuto(
+            endossoCodigo,
+            codigo,
+            tipo,
+            descricaoTipo,
+            descricaoObjeto,
+            identificacaoExataVeiculo,
+            modalidadeCasco,
+            percentualTabelaReferencia,
+            tabelaValorMedio,
+            codigoModelo,
+            anoModelo,
+            categoriaTarifaria,
+            cepRisco,
+            codigoUtilizacao,
+            cepLocalidadeDestino,
+            cepLocalidadePernoite,
+            percentualDescontoBonus,
+            classeBonus,
+            coberturaAutomóvels.toList(),
+            franquias.toList(),
+            pessoasAssociadasCondutors.toList()
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public ComplAutoBuilder reset() {
+        endossoCodigo = null;
+        codigo = null;
+        tipo = null;
+        descricaoTipo = null;
+        descricaoObjeto = null;
+        identificacaoExataVeiculo = null;
+        modalidadeCasco = null;
+        percentualTabelaReferencia = null;
+        tabelaValorMedio = null;
+        codigoModelo = null;
+        anoModelo = null;
+        categoriaTarifaria = null;
+        cepRisco = null;
+        codigoUtilizacao = null;
+        cepLocalidadeDestino = null;
+        cepLocalidadePernoite = null;
+        percentualDescontoBonus = null;
+        classeBonus = null;
+        coberturaAutomóvels.clear();
+        franquias.clear();
+        pessoasAssociadasCondutors.clear();
+        return this;
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.wesleyosantos91.susep.sro.model.complauto;
+
+import java.math.BigDecimal;
+
+/**
+ * Builder reutilizável para {@link Franquia}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class FranquiaBuilder {
+
+    private Integer franquiaTipo;
+    private String tipoDescricao;
+    private BigDecimal franquiaValor;
+    private String franquiaDescricao;
+    private Integer franquiaIndenizacaoIntegral;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public FranquiaBuilder from(Franquia origem) {
+        return franquiaTipo(origem.franquiaTipo())
+            .tipoDescricao(origem.tipoDescricao())
+            .franquiaValor(origem.franquiaValor())
+            .franquiaDescricao(origem.franquiaDescricao())
+            .franquiaIndenizacaoIntegral(origem.franquiaIndenizacaoIntegral());
+    }
+
+    /**
+     * Define {@link Franquia#franquiaTipo()}.
+     *
+     * @param franquiaTipo valor do componente
+     * @return este builder
+     */
+    public FranquiaBuilder franquiaTipo(Integer franquiaTipo) {
+        this.franquiaTipo = franquiaTipo;
+        return this;
+    }
+
+    /**
+     * Define {@link Franquia#tipoDescricao()}.
+     *
+     * @param tipoDescricao valor do componente
+     * @return este builder
+     */
+    public FranquiaBuilder tipoDescricao(String tipoDescricao) {
+        this.tipoDescricao = tipoDescricao;
+        return this;
+    }
+
+    /**
+     * Define {@link Franquia#franquiaValor()}.
+     *
+     * @param franquiaValor valor do componente
+     * @return este builder
+     */
+    public FranquiaBuilder franquiaValor(BigDecimal franquiaValor) {
+        this.franquiaValor = franquiaValor;
+        return this;
+    }
+
+    /**
+     * Define {@link Franquia#franquiaDescricao()}.
+     *
+     * @param franquiaDescricao valor do componente
+     * @return este builder
+     */
+    public FranquiaBuilder franquiaDescricao(String franquiaDescricao) {
+        this.franquiaDescricao = franquiaDescricao;
+        return this;
+    }
+
+    /**
+     * Define {@link Franquia#franquiaIndenizacaoIntegral()}.
+     *
+     * @param franquiaIndenizacaoIntegral valor do componente
+     * @return este builder
+     */
+    public FranquiaBuilder franquiaIndenizacaoIntegral(Integer franquiaIndenizacaoIntegral) {
+        this.franquiaIndenizacaoIntegral = franquiaIndenizacaoIntegral;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Franquia build() {
+        return new Franquia(
+            franquiaTipo,
+            tipoDescricao,
+            franquiaValor,
+            franquiaDescricao,
+            franquiaIndenizacaoIntegral
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public FranquiaBuilder reset() {
+        franquiaTipo = null;
+        tipoDescricao = null;
+        franquiaValor = null;
+        franquiaDescricao = null;
+        franquiaIndenizacaoIntegral = null;
+        return this;
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.wesleyosantos91.susep.sro.model.complauto;
+
+import java.time.LocalDate;
+
+/**
+ * Builder reutilizável para {@link PessoasAssociadasCondutor}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class PessoasAssociadasCondutorBuilder {
+
+    private String documento;
+    private Integer sexoCondutor;
+    private LocalDate dataNascimento;
+    private Integer tempoHabilitacao;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public PessoasAssociadasCondutorBuilder from(PessoasAssociadasCondutor origem) {
+        return documento(origem.documento())
+            .sexoCondutor(origem.sexoCondutor())
+            .dataNascimento(origem.dataNascimento())
+            .tempoHabilitacao(origem.tempoHabilitacao());
+    }
+
+    /**
+     * Define {@link PessoasAssociadasCondutor#documento()}.
+     *
+     * @param documento valor do componente
+     * @return este builder
+     */
+    public PessoasAssociadasCondutorBuilder documento(String documento) {
+        this.documento = documento;
+        return this;
+    }
+
+    /**
+     * Define {@link PessoasAssociadasCondutor#sexoCondutor()}.
+     *
+     * @param sexoCondutor valor do componente
+     * @return este builder
+     */
+    public PessoasAssociadasCondutorBuilder sexoCondutor(Integer sexoCondutor) {
+        this.sexoCondutor = sexoCondutor;
+        return this;
+    }
+
+    /**
+     * Define {@link PessoasAssociadasCondutor#dataNascimento()}.
+     *
+     * @param dataNascimento valor do componente
+     * @return este builder
+     */
+    public PessoasAssociadasCondutorBuilder dataNascimento(LocalDate dataNascimento) {
+        this.dataNascimento = dataNascimento;
+        return this;
+    }
+
+    /**
+     * Define {@link PessoasAssociadasCondutor#tempoHabilitacao()}.
+     *
+     * @param tempoHabilitacao valor do componente
+     * @return este builder
+     */
+    public PessoasAssociadasCondutorBuilder tempoHabilitacao(Integer tempoHabilitacao) {
+        this.tempoHabilitacao = tempoHabilitacao;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public PessoasAssociadasCondutor build() {
+        return new PessoasAssociadasCondutor(
+            documento,
+            sexoCondutor,
+            dataNascimento,
+            tempoHabilitacao
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public PessoasAssociadasCondutorBuilder reset() {
+        documento = null;
+        sexoCondutor = null;
+        dataNascimento = null;
+        tempoHabilitacao = null;
+        return this;
+    }
+}
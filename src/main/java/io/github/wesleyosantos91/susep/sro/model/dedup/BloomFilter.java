@@ -0,0 +1,140 @@
+package io.github.wesleyosantos91.susep.sro.model.dedup;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filtro de Bloom de tamanho fixo, seguro para uso concorrente sem bloqueio.
+ *
+ * <p>Os bits ficam em um {@code long[]} e são ligados com {@code getAndBitwiseOr}; como bits
+ * nunca são desligados, uma inserção concluída é vista por todas as consultas posteriores que
+ * sincronizem com ela. As {@code k} posições de cada elemento vêm de hashing duplo sobre as duas
+ * metades de um hash de 128 bits ({@code h1 + i·h2}), reduzidas ao tamanho do filtro por
+ * multiplicação (sem divisão).</p>
+ */
+final class BloomFilter {
+
+    /** Maior quantidade de bits suportada (limite de tamanho do array de palavras). */
+    static final long MAX_BITS = (long) (Integer.MAX_VALUE - 8) * Long.SIZE;
+
+    private static final VarHandle PALAVRAS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final double LN2 = Math.log(2);
+
+    private final long[] palavras;
+    private final long bits;
+    private final int hashes;
+    private final long capacidade;
+    private final AtomicLong elementos;
+
+    BloomFilter(long bits, int hashes, long capacidade, long[] palavras, long elementos) {
+        this.bits = bits;
+        this.hashes = hashes;
+        this.capacidade = capacidade;
+        this.palavras = palavras;
+        this.elementos = new AtomicLong(elementos);
+    }
+
+    /**
+     * Filtro vazio dimensionado para a capacidade e a taxa de falsos positivos.
+     *
+     * @throws IllegalArgumentException se o filtro exceder {@link #MAX_BITS}
+     */
+    static BloomFilter create(long capacidade, double taxaFalsosPositivos) {
+        long bits = bitsFor(capacidade, taxaFalsosPositivos);
+        int hashes = Math.max(1, (int) Math.round((double) bits / capacidade * LN2));
+        return new BloomFilter(bits, hashes, capacidade, new long[(int) ((bits + 63) >>> 6)], 0);
+    }
+
+    /**
+     * Bits necessários: {@code -n·ln(p) / ln(2)²}.
+     *
+     * @throws IllegalArgumentException se exceder {@link #MAX_BITS}
+     */
+    static long bitsFor(long capacidade, double taxaFalsosPositivos) {
+        double bits = bitsNecessarios(capacidade, taxaFalsosPositivos);
+        if (bits > MAX_BITS) {
+            throw new IllegalArgumentException("Filtro para " + capacidade + " elementos excede o tamanho máximo");
+        }
+        return Math.max(Long.SIZE, (long) bits);
+    }
+
+    /**
+     * Bytes de um filtro dimensionado para a capacidade e a taxa, ou {@link Long#MAX_VALUE} se
+     * exceder {@link #MAX_BITS}.
+     */
+    static long bytesFor(long capacidade, double taxaFalsosPositivos) {
+        double bits = bitsNecessarios(capacidade, taxaFalsosPositivos);
+        return bits > MAX_BITS ? Long.MAX_VALUE : (Math.max(Long.SIZE, (long) bits) + 63) / 64 * Long.BYTES;
+    }
+
+    boolean mightContain(long h1, long h2) {
+        long combinado = h1;
+        for (int i = 0; i < hashes; i++) {
+            long indice = Math.unsignedMultiplyHigh(combinado, bits);
+            if (((long) PALAVRAS.getOpaque(palavras, (int) (indice >>> 6)) & (1L << indice)) == 0) {
+                return false;
+            }
+            combinado += h2;
+        }
+        return true;
+    }
+
+    /**
+     * Liga os bits do elemento.
+     *
+     * @return {@code true} se algum bit foi ligado por esta chamada (elemento certamente novo)
+     */
+    boolean put(long h1, long h2) {
+        boolean alterou = false;
+        long combinado = h1;
+        for (int i = 0; i < hashes; i++) {
+            long indice = Math.unsignedMultiplyHigh(combinado, bits);
+            long mascara = 1L << indice;
+            int palavra = (int) (indice >>> 6);
+            if (((long) PALAVRAS.getOpaque(palavras, palavra) & mascara) == 0) {
+                alterou |= ((long) PALAVRAS.getAndBitwiseOr(palavras, palavra, mascara) & mascara) == 0;
+            }
+            combinado += h2;
+        }
+        if (alterou) {
+            elementos.incrementAndGet();
+        }
+        return alterou;
+    }
+
+    /**
+     * Taxa de falsos positivos esperada com a ocupação atual: {@code (1 - e^(-k·n/m))^k}.
+     */
+    double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-hashes * (double) elementos.get() / bits), hashes);
+    }
+
+    private static double bitsNecessarios(long capacidade, double taxaFalsosPositivos) {
+        return Math.ceil(-capacidade * Math.log(taxaFalsosPositivos) / (LN2 * LN2));
+    }
+
+    long[] words() {
+        return palavras;
+    }
+
+    long bits() {
+        return bits;
+    }
+
+    int hashes() {
+        return hashes;
+    }
+
+    long capacity() {
+        return capacidade;
+    }
+
+    long elements() {
+        return elementos.get();
+    }
+
+    long bytes() {
+        return (long) palavras.length * Long.BYTES;
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.wesleyosantos91.susep.sro.model.dedup;
+
+/**
+ * Contadores do {@link UuidDeduplicator}.
+ *
+ * @param checked        identificadores verificados
+ * @param definitelyNew  identificadores aceitos pelo caminho rápido (filtro negativo)
+ * @param probableHits   identificadores que o filtro indicou como possivelmente vistos
+ * @param duplicates     duplicados confirmados pela verificação exata
+ * @param falsePositives acertos prováveis não confirmados (aceitos como novos)
+ */
+public record DedupStats(long checked, long definitelyNew, long probableHits, long duplicates, long falsePositives) {
+
+    /**
+     * @return fração dos identificadores novos que exigiram verificação exata
+     */
+    public double observedFalsePositiveRate() {
+        long novos = definitelyNew + falsePositives;
+        return novos == 0 ? 0 : (double) falsePositives / novos;
+    }
+}
@@ -0,0 +1,316 @@
+package io.github.wesleyosantos91.susep.sro.model.dedup;
+
+import io.github.wesleyosantos91.susep.sro.model.fingerprint.Fingerprint;
+import io.github.wesleyosantos91.susep.sro.model.fingerprint.Fingerprinter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Filtro de Bloom escalável (Almeida et al.) para {@code uuid}s, seguro para uso concorrente.
+ *
+ * <p>Começa com um estágio dimensionado para a capacidade inicial; quando ele atinge a
+ * capacidade, um novo estágio com o dobro da capacidade e metade da taxa de falsos positivos é
+ * acrescentado. A taxa total fica limitada à configurada (a soma da série geométrica) e a memória
+ * cresce com a quantidade de elementos, sem exigir conhecê-la de antemão. Para 200 milhões de
+ * {@code uuid}s a 1%, são cerca de 240 MB, contra dezenas de GB de um conjunto exato.</p>
+ *
+ * <p>Se o próximo estágio ultrapassar a memória máxima, o filtro deixa de crescer e o último
+ * estágio continua recebendo elementos; a taxa efetiva passa a subir e pode ser acompanhada por
+ * {@link #expectedFalsePositiveRate()}.</p>
+ *
+ * <p>Consultas e inserções não bloqueiam (só o acréscimo de estágio é sincronizado). O filtro não
+ * tem falsos negativos para inserções concluídas; duas inserções simultâneas do mesmo elemento
+ * podem ambas relatá-lo como novo, o que o {@link UuidDeduplicator} evita serializando-as.</p>
+ */
+public final class ScalableBloomFilter {
+
+    /** Razão de crescimento da capacidade entre estágios. */
+    private static final int CRESCIMENTO = 2;
+
+    /** Razão de redução da taxa de falsos positivos entre estágios. */
+    private static final double APERTO = 0.5;
+
+    private static final int MAX_ESTAGIOS = 48;
+
+    private static final long MAGIC = 0x5352_4F42_4C4D_3031L; /* "SROBLM01" */
+    private static final int VERSION = 1;
+    private static final int BLOCO_PALAVRAS = 8192;
+
+    private final long capacidadeInicial;
+    private final double taxaFalsosPositivos;
+    private final long memoriaMaxima;
+
+    private volatile BloomFilter[] estagios;
+    private volatile boolean saturado;
+
+    private ScalableBloomFilter(long capacidadeInicial, double taxaFalsosPositivos, long memoriaMaxima,
+                                BloomFilter[] estagios) {
+        this.capacidadeInicial = capacidadeInicial;
+        this.taxaFalsosPositivos = taxaFalsosPositivos;
+        this.memoriaMaxima = memoriaMaxima;
+        this.estagios = estagios;
+    }
+
+    /**
+     * Cria um filtro sem limite de memória.
+     *
+     * @param capacidadeInicial   elementos do primeiro estágio
+     * @param taxaFalsosPositivos taxa máxima de falsos positivos (entre 0 e 1, exclusive)
+     * @return filtro vazio
+     */
+    public static ScalableBloomFilter create(long capacidadeInicial, double taxaFalsosPositivos) {
+        return create(capacidadeInicial, taxaFalsosPositivos, Long.MAX_VALUE);
+    }
+
+    /**
+     * Cria um filtro.
+     *
+     * @param capacidadeInicial   elementos do primeiro estágio
+     * @param taxaFalsosPositivos taxa máxima de falsos positivos (entre 0 e 1, exclusive)
+     * @param memoriaMaxima       bytes máximos ocupados pelos estágios
+     * @return filtro vazio
+     * @throws IllegalArgumentException se os parâmetros forem inválidos ou o primeiro estágio não
+     *     couber na memória máxima
+     */
+    public static ScalableBloomFilter create(long capacidadeInicial, double taxaFalsosPositivos, long memoriaMaxima) {
+        if (capacidadeInicial <= 0) {
+            throw new IllegalArgumentException("Capacidade inicial deve ser positiva");
+        }
+        if (!(taxaFalsosPositivos > 0 && taxaFalsosPositivos < 1)) {
+            throw new IllegalArgumentException("Taxa de falsos positivos deve estar entre 0 e 1");
+        }
+        BloomFilter primeiro = BloomFilter.create(capacidadeInicial, taxaFalsosPositivos * (1 - APERTO));
+        if (primeiro.bytes() > memoriaMaxima) {
+            throw new IllegalArgumentException("Primeiro estágio de " + primeiro.bytes()
+                + " bytes excede a memória máxima de " + memoriaMaxima + " bytes");
+        }
+        return new ScalableBloomFilter(capacidadeInicial, taxaFalsosPositivos, memoriaMaxima,
+            new BloomFilter[] {primeiro});
+    }
+
+    /**
+     * @param uuid identificador
+     * @return {@code false} se o identificador certamente não foi inserido
+     */
+    public boolean mightContain(String uuid) {
+        Fingerprint hash = hash(uuid);
+        return mightContain(hash.high(), hash.low());
+    }
+
+    /**
+     * Insere o identificador.
+     *
+     * @param uuid identificador
+     * @return {@code true} se o identificador certamente não estava no filtro
+     */
+    public boolean put(String uuid) {
+        Fingerprint hash = hash(uuid);
+        return put(hash.high(), hash.low());
+    }
+
+    /**
+     * @return quantidade aproximada de elementos distintos inseridos
+     */
+    public long approximateElementCount() {
+        long total = 0;
+        for (BloomFilter estagio : estagios) {
+            total += estagio.elements();
+        }
+        return total;
+    }
+
+    /**
+     * @return taxa de falsos positivos esperada com a ocupação atual
+     */
+    public double expectedFalsePositiveRate() {
+        double negativo = 1;
+        for (BloomFilter estagio : estagios) {
+            negativo *= 1 - estagio.expectedFalsePositiveRate();
+        }
+        return 1 - negativo;
+    }
+
+    /**
+     * @return bytes ocupados pelos estágios
+     */
+    public long memoryBytes() {
+        long total = 0;
+        for (BloomFilter estagio : estagios) {
+            total += estagio.bytes();
+        }
+        return total;
+    }
+
+    /**
+     * @return quantidade de estágios
+     */
+    public int stageCount() {
+        return estagios.length;
+    }
+
+    /**
+     * @return {@code true} se o filtro deixou de crescer por falta de memória
+     */
+    public boolean isSaturated() {
+        return saturado;
+    }
+
+    /**
+     * Grava o estado do filtro, com CRC32C, substituindo o arquivo de forma atômica.
+     *
+     * <p>Pode ser chamado durante inserções: o arquivo contém ao menos todos os elementos cuja
+     * inserção terminou antes do início da gravação.</p>
+     *
+     * @param arquivo destino
+     * @throws IOException se a gravação falhar
+     */
+    public void snapshot(Path arquivo) throws IOException {
+        Objects.requireNonNull(arquivo, "Arquivo é obrigatório");
+        BloomFilter[] atuais = estagios;
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        CRC32C crc = new CRC32C();
+        try (var saida = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporario), 1 << 16), crc))) {
+            saida.writeLong(MAGIC);
+            saida.writeInt(VERSION);
+            saida.writeLong(capacidadeInicial);
+            saida.writeDouble(taxaFalsosPositivos);
+            saida.writeLong(memoriaMaxima);
+            saida.writeBoolean(saturado);
+            saida.writeInt(atuais.length);
+            ByteBuffer bloco = ByteBuffer.allocate(BLOCO_PALAVRAS * Long.BYTES);
+            for (BloomFilter estagio : atuais) {
+                saida.writeLong(estagio.bits());
+                saida.writeInt(estagio.hashes());
+                saida.writeLong(estagio.capacity());
+                saida.writeLong(estagio.elements());
+                long[] palavras = estagio.words();
+                for (int i = 0; i < palavras.length; i += BLOCO_PALAVRAS) {
+                    int parte = Math.min(BLOCO_PALAVRAS, palavras.length - i);
+                    bloco.clear();
+                    bloco.asLongBuffer().put(palavras, i, parte);
+                    saida.write(bloco.array(), 0, parte * Long.BYTES);
+                }
+            }
+            saida.writeInt((int) crc.getValue());
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Restaura um filtro gravado por {@link #snapshot(Path)}.
+     *
+     * @param arquivo origem
+     * @return filtro restaurado
+     * @throws IOException se a leitura falhar
+     * @throws IllegalStateException se o arquivo não for um snapshot válido
+     */
+    public static ScalableBloomFilter restore(Path arquivo) throws IOException {
+        Objects.requireNonNull(arquivo, "Arquivo é obrigatório");
+        CRC32C crc = new CRC32C();
+        try (var entrada = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(arquivo), 1 << 16), crc))) {
+            if (entrada.readLong() != MAGIC || entrada.readInt() != VERSION) {
+                throw invalido(arquivo);
+            }
+            long capacidadeInicial = entrada.readLong();
+            double taxa = entrada.readDouble();
+            long memoriaMaxima = entrada.readLong();
+            boolean saturado = entrada.readBoolean();
+            int quantidade = entrada.readInt();
+            if (quantidade < 1 || quantidade > MAX_ESTAGIOS) {
+                throw invalido(arquivo);
+            }
+            BloomFilter[] estagios = new BloomFilter[quantidade];
+            byte[] bloco = new byte[BLOCO_PALAVRAS * Long.BYTES];
+            for (int e = 0; e < quantidade; e++) {
+                long bits = entrada.readLong();
+                int hashes = entrada.readInt();
+                long capacidade = entrada.readLong();
+                long elementos = entrada.readLong();
+                if (bits < Long.SIZE || bits > BloomFilter.MAX_BITS || hashes < 1 || capacidade < 1) {
+                    throw invalido(arquivo);
+                }
+                long[] palavras = new long[(int) ((bits + 63) >>> 6)];
+                for (int i = 0; i < palavras.length; i += BLOCO_PALAVRAS) {
+                    int parte = Math.min(BLOCO_PALAVRAS, palavras.length - i);
+                    entrada.readFully(bloco, 0, parte * Long.BYTES);
+                    ByteBuffer.wrap(bloco, 0, parte * Long.BYTES).asLongBuffer().get(palavras, i, parte);
+                }
+                estagios[e] = new BloomFilter(bits, hashes, capacidade, palavras, elementos);
+            }
+            int esperado = (int) crc.getValue();
+            if (entrada.readInt() != esperado || entrada.read() != -1) {
+                throw invalido(arquivo);
+            }
+            var filtro = new ScalableBloomFilter(capacidadeInicial, taxa, memoriaMaxima, estagios);
+            filtro.saturado = saturado;
+            return filtro;
+        } catch (EOFException e) {
+            throw invalido(arquivo);
+        }
+    }
+
+    static Fingerprint hash(String uuid) {
+        return Fingerprinter.fingerprint(Objects.requireNonNull(uuid, "UUID é obrigatório"));
+    }
+
+    boolean mightContain(long h1, long h2) {
+        BloomFilter[] atuais = estagios;
+        for (int i = atuais.length - 1; i >= 0; i--) {
+            if (atuais[i].mightContain(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean put(long h1, long h2) {
+        if (mightContain(h1, h2)) {
+            return false;
+        }
+        BloomFilter[] atuais = estagios;
+        BloomFilter ultimo = atuais[atuais.length - 1];
+        boolean novo = ultimo.put(h1, h2);
+        if (novo && !saturado && ultimo.elements() >= ultimo.capacity()) {
+            crescer(ultimo);
+        }
+        return novo;
+    }
+
+    private synchronized void crescer(BloomFilter ultimo) {
+        BloomFilter[] atuais = estagios;
+        if (atuais[atuais.length - 1] != ultimo || saturado) {
+            return;
+        }
+        int ordem = atuais.length;
+        long capacidade = ultimo.capacity() * CRESCIMENTO;
+        double taxa = taxaFalsosPositivos * (1 - APERTO) * Math.pow(APERTO, ordem);
+        if (ordem == MAX_ESTAGIOS || capacidade / CRESCIMENTO != ultimo.capacity()
+                || BloomFilter.bytesFor(capacidade, taxa) > memoriaMaxima - memoryBytes()) {
+            saturado = true;
+            return;
+        }
+        BloomFilter[] atualizados = Arrays.copyOf(atuais, ordem + 1);
+        atualizados[ordem] = BloomFilter.create(capacidade, taxa);
+        estagios = atualizados;
+    }
+
+    private static IllegalStateException invalido(Path arquivo) {
+        return new IllegalStateException("Arquivo não é um snapshot de filtro válido: " + arquivo);
+    }
+}
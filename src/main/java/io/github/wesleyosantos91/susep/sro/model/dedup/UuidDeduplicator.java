@@ -0,0 +1,126 @@
+package io.github.wesleyosantos91.susep.sro.model.dedup;
+
+import io.github.wesleyosantos91.susep.sro.model.fingerprint.Fingerprint;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Deduplicação de {@code uuid}s reenviados na ingestão ({@code MovimentoPremio},
+ * {@code MovimentoSinistro}, {@code Documento} etc.).
+ *
+ * <p>Um {@link ScalableBloomFilter} responde ao caminho comum: se o filtro não contém o
+ * {@code uuid}, ele é certamente novo e é aceito sem consultar mais nada. Só quando o filtro
+ * indica um acerto provável a verificação exata (por exemplo, {@code RecordLog.get} ou o registro
+ * de documentos) é consultada, decidindo entre duplicado e falso positivo. A verificação exata
+ * deve enxergar os {@code uuid}s aceitos antes que um reenvio deles possa chegar.</p>
+ *
+ * <p>Verificações do mesmo {@code uuid} são serializadas por faixas de bloqueio escolhidas pelo
+ * hash; {@code uuid}s diferentes raramente competem. Quando o aceite é registrado na fonte da
+ * verificação exata dentro da faixa ({@link #firstSeen(String, Consumer)}), reenvios simultâneos
+ * aceitam exatamente um.</p>
+ */
+public final class UuidDeduplicator {
+
+    private final ScalableBloomFilter filtro;
+    private final Predicate<String> confirmacao;
+    private final ReentrantLock[] faixas;
+
+    private final LongAdder verificados = new LongAdder();
+    private final LongAdder negativos = new LongAdder();
+    private final LongAdder provaveis = new LongAdder();
+    private final LongAdder duplicados = new LongAdder();
+    private final LongAdder falsosPositivos = new LongAdder();
+
+    /**
+     * Cria um deduplicador com 64 faixas de bloqueio.
+     *
+     * @param filtro      filtro dos {@code uuid}s já aceitos (pode ter sido restaurado de disco)
+     * @param confirmacao verificação exata: {@code true} se o {@code uuid} já foi aceito
+     */
+    public UuidDeduplicator(ScalableBloomFilter filtro, Predicate<String> confirmacao) {
+        this(filtro, confirmacao, 64);
+    }
+
+    /**
+     * Cria um deduplicador.
+     *
+     * @param filtro      filtro dos {@code uuid}s já aceitos (pode ter sido restaurado de disco)
+     * @param confirmacao verificação exata: {@code true} se o {@code uuid} já foi aceito
+     * @param faixas      quantidade de faixas de bloqueio (potência de 2)
+     * @throws IllegalArgumentException se a quantidade de faixas for inválida
+     */
+    public UuidDeduplicator(ScalableBloomFilter filtro, Predicate<String> confirmacao, int faixas) {
+        this.filtro = Objects.requireNonNull(filtro, "Filtro é obrigatório");
+        this.confirmacao = Objects.requireNonNull(confirmacao, "Verificação exata é obrigatória");
+        if (faixas <= 0 || Integer.bitCount(faixas) != 1) {
+            throw new IllegalArgumentException("Quantidade de faixas deve ser potência de 2");
+        }
+        this.faixas = new ReentrantLock[faixas];
+        for (int i = 0; i < faixas; i++) {
+            this.faixas[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Registra o {@code uuid} e informa se é a primeira vez que ele aparece.
+     *
+     * @param uuid identificador do registro
+     * @return {@code true} se o registro deve ser processado; {@code false} se for reenvio
+     */
+    public boolean firstSeen(String uuid) {
+        return firstSeen(uuid, aceito -> { });
+    }
+
+    /**
+     * Registra o {@code uuid} e informa se é a primeira vez que ele aparece.
+     *
+     * @param uuid      identificador do registro
+     * @param aoAceitar executado sob o bloqueio da faixa quando o {@code uuid} é aceito, para
+     *                  registrá-lo na fonte da verificação exata antes que um reenvio seja verificado
+     * @return {@code true} se o registro deve ser processado; {@code false} se for reenvio
+     */
+    public boolean firstSeen(String uuid, Consumer<? super String> aoAceitar) {
+        Objects.requireNonNull(aoAceitar, "Registro do aceite é obrigatório");
+        Fingerprint hash = ScalableBloomFilter.hash(uuid);
+        verificados.increment();
+        ReentrantLock faixa = faixas[(int) hash.low() & (faixas.length - 1)];
+        faixa.lock();
+        try {
+            if (!filtro.mightContain(hash.high(), hash.low())) {
+                filtro.put(hash.high(), hash.low());
+                aoAceitar.accept(uuid);
+                negativos.increment();
+                return true;
+            }
+            provaveis.increment();
+            if (confirmacao.test(uuid)) {
+                duplicados.increment();
+                return false;
+            }
+            aoAceitar.accept(uuid);
+            falsosPositivos.increment();
+            return true;
+        } finally {
+            faixa.unlock();
+        }
+    }
+
+    /**
+     * @return filtro usado, para snapshot
+     */
+    public ScalableBloomFilter filter() {
+        return filtro;
+    }
+
+    /**
+     * @return contadores acumulados
+     */
+    public DedupStats stats() {
+        return new DedupStats(verificados.sum(), negativos.sum(), provaveis.sum(), duplicados.sum(),
+            falsosPositivos.sum());
+    }
+}
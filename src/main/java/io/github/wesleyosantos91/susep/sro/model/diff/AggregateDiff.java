@@ -0,0 +1,426 @@
+package io.github.wesleyosantos91.susep.sro.model.diff;
+
+import io.github.wesleyosantos91.susep.sro.model.documento.Beneficiario;
+import io.github.wesleyosantos91.susep.sro.model.documento.BeneficiariosPorCobertura;
+import io.github.wesleyosantos91.susep.sro.model.documento.Ccg;
+import io.github.wesleyosantos91.susep.sro.model.documento.CessionariasCosseguro;
+import io.github.wesleyosantos91.susep.sro.model.documento.Cobertura;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.Intermediario;
+import io.github.wesleyosantos91.susep.sro.model.documento.ObjetoSegurado;
+import io.github.wesleyosantos91.susep.sro.model.documento.Segurado;
+import io.github.wesleyosantos91.susep.sro.model.documento.Tomador;
+import io.github.wesleyosantos91.susep.sro.model.endosso.Endosso;
+import io.github.wesleyosantos91.susep.sro.model.endosso.EndossoAssociado;
+import io.github.wesleyosantos91.susep.sro.model.fingerprint.Fingerprint;
+import io.github.wesleyosantos91.susep.sro.model.fingerprint.Fingerprinter;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistro;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Diff estrutural entre duas versões de um agregado do SRO.
+ *
+ * <p>Cada versão vira uma árvore de impressões digitais (Merkle): a de um record combina os seus
+ * componentes escalares com as impressões digitais dos blocos e listas aninhados, e a de uma lista
+ * combina as dos elementos. O diff desce apenas pelos ramos cujas impressões digitais diferem;
+ * blocos iguais, inclusive as instâncias compartilhadas pelo {@code EndossoMaterializer}, são
+ * descartados sem comparar os campos. Com o {@link AggregateSnapshot} da versão vigente guardado,
+ * um reenvio sem alterações é identificado pela raiz.</p>
+ *
+ * <p>Elementos de listas são pareados pela chave natural do tipo (por exemplo,
+ * {@code Segurado.documento} e {@code Cobertura.grupoRamo + codigo}); listas de tipos sem chave
+ * são pareadas pela posição. Com chave, a ordem dos elementos não é considerada alteração.
+ * Componentes ignorados (como {@code dataAlteracao}, que sempre muda em um reenvio) ficam fora das
+ * impressões digitais e do resultado.</p>
+ *
+ * <p>Os acessores de cada tipo de record são resolvidos uma única vez. Thread-safe.</p>
+ */
+public final class AggregateDiff {
+
+    private static final MethodType ACESSOR = MethodType.methodType(Object.class, Object.class);
+
+    private final Map<Class<?>, Function<Object, ?>> chaves;
+    private final Map<Class<?>, Set<String>> ignorados;
+    private final Map<Class<?>, Estrutura> estruturas = new ConcurrentHashMap<>();
+
+    private AggregateDiff(Map<Class<?>, Function<Object, ?>> chaves, Map<Class<?>, Set<String>> ignorados) {
+        this.chaves = chaves;
+        this.ignorados = ignorados;
+    }
+
+    /**
+     * Diff com as chaves naturais dos blocos de documentos e endossos, ignorando
+     * {@code dataAlteracao} dos agregados.
+     *
+     * @return diff configurado para o SRO
+     */
+    public static AggregateDiff sro() {
+        return builder()
+            .key(Segurado.class, Segurado::documento)
+            .key(Beneficiario.class, Beneficiario::documento)
+            .key(Tomador.class, Tomador::documento)
+            .key(Intermediario.class, i -> i.tipo() + "|" + i.documento() + "|" + i.codigo())
+            .key(ObjetoSegurado.class, ObjetoSegurado::codigo)
+            .key(Cobertura.class, c -> c.grupoRamo() + "|" + c.codigo())
+            .key(BeneficiariosPorCobertura.class, b -> b.identificadorObjetoSeguradoBeneficiarios() + "|"
+                + b.grupoRamoCoberturaBeneficiarios() + "|" + b.codigoInternoCoberturaBeneficiarios())
+            .key(CessionariasCosseguro.class, CessionariasCosseguro::codigoCosseguradora)
+            .key(Ccg.class, Ccg::ccgIdentificacao)
+            .key(EndossoAssociado.class, EndossoAssociado::endossoAssociadoCodigo)
+            .ignore(Documento.class, "dataAlteracao")
+            .ignore(Endosso.class, "dataAlteracao")
+            .ignore(MovimentoPremio.class, "dataAlteracao")
+            .ignore(MovimentoSinistro.class, "dataAlteracao")
+            .build();
+    }
+
+    /**
+     * @return construtor sem chaves nem componentes ignorados
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Calcula as impressões digitais de uma versão do agregado.
+     *
+     * @param agregado versão do agregado
+     * @param <T>      tipo do agregado
+     * @return snapshot para {@link #diff(AggregateSnapshot, AggregateSnapshot)}
+     * @throws IllegalArgumentException se o grafo contiver tipo não suportado pelo {@link Fingerprinter}
+     */
+    public <T extends Record> AggregateSnapshot<T> snapshot(T agregado) {
+        Objects.requireNonNull(agregado, "Agregado é obrigatório");
+        return new AggregateSnapshot<>(this, agregado, registro(agregado));
+    }
+
+    /**
+     * @return alterações da versão anterior para a nova
+     * @throws IllegalArgumentException se as versões forem de tipos diferentes
+     */
+    public <T extends Record> ChangeSet diff(T antes, T depois) {
+        return diff(snapshot(antes), snapshot(depois));
+    }
+
+    /**
+     * @return alterações da versão anterior para a nova
+     * @throws IllegalArgumentException se as versões forem de tipos diferentes ou os snapshots
+     *                                  tiverem sido criados por outro diff
+     */
+    public <T extends Record> ChangeSet diff(AggregateSnapshot<T> antes, AggregateSnapshot<T> depois) {
+        Objects.requireNonNull(antes, "Versão anterior é obrigatória");
+        Objects.requireNonNull(depois, "Nova versão é obrigatória");
+        if (antes.engine() != this || depois.engine() != this) {
+            throw new IllegalArgumentException("Snapshot criado por outro AggregateDiff");
+        }
+        if (antes.value().getClass() != depois.value().getClass()) {
+            throw new IllegalArgumentException("Versões de tipos diferentes: " + antes.value().getClass().getName()
+                + " e " + depois.value().getClass().getName());
+        }
+        List<FieldChange> alteracoes = new ArrayList<>();
+        comparar(antes.raiz(), depois.raiz(), "", alteracoes);
+        return new ChangeSet(antes.fingerprint(), depois.fingerprint(), alteracoes);
+    }
+
+    private NoRegistro registro(Record registro) {
+        Estrutura estrutura = estrutura(registro.getClass());
+        int n = estrutura.nomes.length;
+        No[] filhos = new No[n];
+        Object[] conteudo = new Object[n + 1];
+        conteudo[0] = registro.getClass().getName();
+        for (int i = 0; i < n; i++) {
+            if (estrutura.ignorados[i]) {
+                continue;
+            }
+            Object valor = ler(estrutura.acessores[i], registro);
+            if (valor instanceof Record aninhado) {
+                filhos[i] = registro(aninhado);
+                conteudo[i + 1] = filhos[i].fingerprint();
+            } else if (valor instanceof List<?> lista) {
+                filhos[i] = lista(lista);
+                conteudo[i + 1] = filhos[i].fingerprint();
+            } else {
+                conteudo[i + 1] = valor;
+            }
+        }
+        return new NoRegistro(registro, Fingerprinter.fingerprint(Arrays.asList(conteudo)), filhos);
+    }
+
+    private NoLista lista(List<?> lista) {
+        No[] elementos = new No[lista.size()];
+        Object[] conteudo = new Object[lista.size()];
+        for (int i = 0; i < elementos.length; i++) {
+            Object elemento = lista.get(i);
+            if (elemento instanceof Record registro) {
+                elementos[i] = registro(registro);
+                conteudo[i] = elementos[i].fingerprint();
+            } else {
+                conteudo[i] = elemento;
+            }
+        }
+        return new NoLista(lista, Fingerprinter.fingerprint(Arrays.asList(conteudo)), elementos);
+    }
+
+    private void comparar(No antes, No depois, String caminho, List<FieldChange> alteracoes) {
+        if (antes.fingerprint().equals(depois.fingerprint())) {
+            return;
+        }
+        if (antes instanceof NoRegistro a && depois instanceof NoRegistro b
+                && a.valor().getClass() == b.valor().getClass()) {
+            compararRegistros(a, b, caminho, alteracoes);
+        } else if (antes instanceof NoLista a && depois instanceof NoLista b) {
+            compararListas(a, b, caminho, alteracoes);
+        } else {
+            alteracoes.add(new FieldChange(caminho, ChangeKind.MODIFIED, antes.valor(), depois.valor()));
+        }
+    }
+
+    private void compararRegistros(NoRegistro antes, NoRegistro depois, String caminho,
+                                   List<FieldChange> alteracoes) {
+        Estrutura estrutura = estrutura(antes.valor().getClass());
+        for (int i = 0; i < estrutura.nomes.length; i++) {
+            if (estrutura.ignorados[i]) {
+                continue;
+            }
+            String campo = caminho.isEmpty() ? estrutura.nomes[i] : caminho + "." + estrutura.nomes[i];
+            No a = antes.filhos()[i];
+            No b = depois.filhos()[i];
+            if (a != null && b != null) {
+                comparar(a, b, campo, alteracoes);
+            } else if (a instanceof NoLista lista) {
+                compararListas(lista, new NoLista(List.of(), null, new No[0]), campo, alteracoes);
+            } else if (b instanceof NoLista lista) {
+                compararListas(new NoLista(List.of(), null, new No[0]), lista, campo, alteracoes);
+            } else {
+                Object va = ler(estrutura.acessores[i], antes.valor());
+                Object vb = ler(estrutura.acessores[i], depois.valor());
+                if (va == null && vb != null) {
+                    alteracoes.add(new FieldChange(campo, vb instanceof Record ? ChangeKind.ADDED : ChangeKind.MODIFIED,
+                        null, vb));
+                } else if (va != null && vb == null) {
+                    alteracoes.add(new FieldChange(campo, va instanceof Record ? ChangeKind.REMOVED
+                        : ChangeKind.MODIFIED, va, null));
+                } else if (!Objects.equals(va, vb)) {
+                    alteracoes.add(new FieldChange(campo, ChangeKind.MODIFIED, va, vb));
+                }
+            }
+        }
+    }
+
+    private void compararListas(NoLista antes, NoLista depois, String caminho, List<FieldChange> alteracoes) {
+        Function<Object, ?> chave = chave(antes.valor(), depois.valor());
+        if (chave == null) {
+            compararPorPosicao(antes, depois, caminho, alteracoes);
+            return;
+        }
+        Map<String, Integer> indicesAntes = indices(antes.valor(), chave);
+        Map<String, Integer> indicesDepois = indices(depois.valor(), chave);
+        for (Map.Entry<String, Integer> entrada : indicesAntes.entrySet()) {
+            String elemento = caminho + "[" + entrada.getKey() + "]";
+            Integer j = indicesDepois.get(entrada.getKey());
+            if (j == null) {
+                alteracoes.add(new FieldChange(elemento, ChangeKind.REMOVED,
+                    antes.valor().get(entrada.getValue()), null));
+            } else {
+                comparar(antes.elementos()[entrada.getValue()], depois.elementos()[j], elemento, alteracoes);
+            }
+        }
+        for (Map.Entry<String, Integer> entrada : indicesDepois.entrySet()) {
+            if (!indicesAntes.containsKey(entrada.getKey())) {
+                alteracoes.add(new FieldChange(caminho + "[" + entrada.getKey() + "]", ChangeKind.ADDED, null,
+                    depois.valor().get(entrada.getValue())));
+            }
+        }
+    }
+
+    private void compararPorPosicao(NoLista antes, NoLista depois, String caminho, List<FieldChange> alteracoes) {
+        int comuns = Math.min(antes.valor().size(), depois.valor().size());
+        for (int i = 0; i < comuns; i++) {
+            String elemento = caminho + "[" + i + "]";
+            No a = antes.elementos()[i];
+            No b = depois.elementos()[i];
+            if (a != null && b != null) {
+                comparar(a, b, elemento, alteracoes);
+            } else if (!Objects.equals(antes.valor().get(i), depois.valor().get(i))) {
+                alteracoes.add(new FieldChange(elemento, ChangeKind.MODIFIED, antes.valor().get(i),
+                    depois.valor().get(i)));
+            }
+        }
+        for (int i = comuns; i < antes.valor().size(); i++) {
+            alteracoes.add(new FieldChange(caminho + "[" + i + "]", ChangeKind.REMOVED, antes.valor().get(i), null));
+        }
+        for (int i = comuns; i < depois.valor().size(); i++) {
+            alteracoes.add(new FieldChange(caminho + "[" + i + "]", ChangeKind.ADDED, null, depois.valor().get(i)));
+        }
+    }
+
+    /**
+     * Chave natural comum aos elementos das duas listas, ou {@code null} se algum elemento não tiver.
+     */
+    private Function<Object, ?> chave(List<?> antes, List<?> depois) {
+        Function<Object, ?> chave = null;
+        for (List<?> lista : List.of(antes, depois)) {
+            for (Object elemento : lista) {
+                Function<Object, ?> doElemento = elemento == null ? null : chaves.get(elemento.getClass());
+                if (doElemento == null || (chave != null && chave != doElemento)) {
+                    return null;
+                }
+                chave = doElemento;
+            }
+        }
+        return chave;
+    }
+
+    /**
+     * Posição de cada elemento pela chave; chaves repetidas recebem o número da ocorrência.
+     */
+    private static Map<String, Integer> indices(List<?> lista, Function<Object, ?> chave) {
+        Map<String, Integer> indices = new LinkedHashMap<>();
+        Map<String, Integer> ocorrencias = new HashMap<>();
+        for (int i = 0; i < lista.size(); i++) {
+            String valor = String.valueOf(chave.apply(lista.get(i)));
+            int ocorrencia = ocorrencias.merge(valor, 1, Integer::sum);
+            indices.put(ocorrencia == 1 ? valor : valor + "#" + ocorrencia, i);
+        }
+        return indices;
+    }
+
+    private Estrutura estrutura(Class<?> tipo) {
+        return estruturas.computeIfAbsent(tipo, t -> Estrutura.of(t, ignorados.getOrDefault(t, Set.of())));
+    }
+
+    private static Object ler(MethodHandle acessor, Record registro) {
+        try {
+            return acessor.invokeExact((Object) registro);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Falha ao ler componente de " + registro.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Nó da árvore de impressões digitais.
+     */
+    sealed interface No permits NoRegistro, NoLista {
+
+        Object valor();
+
+        Fingerprint fingerprint();
+    }
+
+    /**
+     * @param filhos nós dos componentes record ou lista, na ordem dos componentes ({@code null}
+     *               para escalares, valores nulos e componentes ignorados)
+     */
+    record NoRegistro(Record valor, Fingerprint fingerprint, No[] filhos) implements No {
+    }
+
+    /**
+     * @param elementos nós dos elementos record ({@code null} para os demais)
+     */
+    record NoLista(List<?> valor, Fingerprint fingerprint, No[] elementos) implements No {
+    }
+
+    /**
+     * Nomes, acessores e componentes ignorados de um tipo de record.
+     */
+    private record Estrutura(String[] nomes, MethodHandle[] acessores, boolean[] ignorados) {
+
+        static Estrutura of(Class<?> tipo, Set<String> ignorar) {
+            RecordComponent[] componentes = tipo.getRecordComponents();
+            String[] nomes = new String[componentes.length];
+            MethodHandle[] acessores = new MethodHandle[componentes.length];
+            boolean[] ignorados = new boolean[componentes.length];
+            for (int i = 0; i < componentes.length; i++) {
+                nomes[i] = componentes[i].getName();
+                ignorados[i] = ignorar.contains(nomes[i]);
+                Method acessor = componentes[i].getAccessor();
+                acessor.trySetAccessible();
+                try {
+                    acessores[i] = MethodHandles.lookup().unreflect(acessor).asType(ACESSOR);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalArgumentException("Record inacessível para diff: " + tipo.getName(), e);
+                }
+            }
+            return new Estrutura(nomes, acessores, ignorados);
+        }
+    }
+
+    /**
+     * Configuração do diff. Não é thread-safe.
+     */
+    public static final class Builder {
+
+        private final Map<Class<?>, Function<Object, ?>> chaves = new HashMap<>();
+        private final Map<Class<?>, Set<String>> ignorados = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Define a chave natural que pareia os elementos do tipo entre as versões de uma lista.
+         *
+         * @param tipo  tipo dos elementos
+         * @param chave extrator da chave; o texto de {@code String.valueOf} aparece nos caminhos
+         * @param <T>   tipo dos elementos
+         * @return este construtor
+         */
+        @SuppressWarnings("unchecked")
+        public <T extends Record> Builder key(Class<T> tipo, Function<? super T, ?> chave) {
+            Objects.requireNonNull(tipo, "Tipo é obrigatório");
+            Objects.requireNonNull(chave, "Chave é obrigatória");
+            chaves.put(tipo, (Function<Object, ?>) chave);
+            return this;
+        }
+
+        /**
+         * Exclui componentes do tipo das impressões digitais e do resultado.
+         *
+         * @param tipo        tipo de record
+         * @param componentes nomes dos componentes
+         * @return este construtor
+         * @throws IllegalArgumentException se algum nome não for componente do tipo
+         */
+        public Builder ignore(Class<? extends Record> tipo, String... componentes) {
+            Objects.requireNonNull(tipo, "Tipo é obrigatório");
+            Set<String> nomes = new HashSet<>();
+            for (RecordComponent componente : tipo.getRecordComponents()) {
+                nomes.add(componente.getName());
+            }
+            for (String componente : componentes) {
+                if (!nomes.contains(componente)) {
+                    throw new IllegalArgumentException(componente + " não é componente de " + tipo.getSimpleName());
+                }
+                ignorados.computeIfAbsent(tipo, t -> new HashSet<>()).add(componente);
+            }
+            return this;
+        }
+
+        /**
+         * @return diff configurado
+         */
+        public AggregateDiff build() {
+            Map<Class<?>, Set<String>> copia = new HashMap<>();
+            ignorados.forEach((tipo, nomes) -> copia.put(tipo, Set.copyOf(nomes)));
+            return new AggregateDiff(Map.copyOf(chaves), Map.copyOf(copia));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.wesleyosantos91.susep.sro.model.diff;
+
+import io.github.wesleyosantos91.susep.sro.model.fingerprint.Fingerprint;
+
+import java.util.Objects;
+
+/**
+ * Versão de um agregado com as impressões digitais de cada bloco e elemento de lista, calculadas
+ * uma única vez pelo {@link AggregateDiff} que a criou.
+ *
+ * <p>Guardar o snapshot da versão vigente evita recalcular as impressões digitais dela a cada
+ * reenvio: o diff seguinte percorre apenas a nova versão. Imutável e thread-safe.</p>
+ *
+ * @param <T> tipo do agregado
+ */
+public final class AggregateSnapshot<T extends Record> {
+
+    private final AggregateDiff engine;
+    private final T value;
+    private final AggregateDiff.NoRegistro raiz;
+
+    AggregateSnapshot(AggregateDiff engine, T value, AggregateDiff.NoRegistro raiz) {
+        this.engine = engine;
+        this.value = value;
+        this.raiz = raiz;
+    }
+
+    /**
+     * @return agregado
+     */
+    public T value() {
+        return value;
+    }
+
+    /**
+     * Impressão digital estrutural do agregado, sem os componentes ignorados pelo
+     * {@link AggregateDiff}. Não coincide com a de
+     * {@link io.github.wesleyosantos91.susep.sro.model.fingerprint.Fingerprinter}.
+     *
+     * @return impressão digital da raiz
+     */
+    public Fingerprint fingerprint() {
+        return raiz.fingerprint();
+    }
+
+    AggregateDiff engine() {
+        return engine;
+    }
+
+    AggregateDiff.NoRegistro raiz() {
+        return raiz;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof AggregateSnapshot<?> outro && engine == outro.engine
+            && raiz.fingerprint().equals(outro.raiz.fingerprint());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(raiz.fingerprint());
+    }
+
+    @Override
+    public String toString() {
+        return "AggregateSnapshot[" + value.getClass().getSimpleName() + ", " + raiz.fingerprint() + "]";
+    }
+}
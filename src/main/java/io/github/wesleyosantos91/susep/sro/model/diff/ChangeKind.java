@@ -0,0 +1,22 @@
+package io.github.wesleyosantos91.susep.sro.model.diff;
+
+/**
+ * Tipo de alteração de um {@link FieldChange}.
+ */
+public enum ChangeKind {
+
+    /**
+     * Elemento de lista ou bloco ausente na versão anterior.
+     */
+    ADDED,
+
+    /**
+     * Elemento de lista ou bloco ausente na nova versão.
+     */
+    REMOVED,
+
+    /**
+     * Valor de campo alterado.
+     */
+    MODIFIED
+}
@@ -0,0 +1,50 @@
+package io.github.wesleyosantos91.susep.sro.model.diff;
+
+import io.github.wesleyosantos91.susep.sro.model.fingerprint.Fingerprint;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Alterações entre duas versões de um agregado, calculadas pelo {@link AggregateDiff}.
+ *
+ * @param before  impressão digital estrutural da versão anterior
+ * @param after   impressão digital estrutural da nova versão
+ * @param changes alterações, na ordem dos componentes e, em listas, das chaves da versão anterior
+ *                seguidas das incluídas
+ */
+public record ChangeSet(Fingerprint before, Fingerprint after, List<FieldChange> changes) {
+
+    public ChangeSet {
+        Objects.requireNonNull(before, "Fingerprint anterior é obrigatório");
+        Objects.requireNonNull(after, "Fingerprint novo é obrigatório");
+        changes = List.copyOf(Objects.requireNonNull(changes, "Alterações são obrigatórias"));
+    }
+
+    /**
+     * @return se nenhum campo mudou (reenvio sem efeito, ainda que com elementos reordenados)
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * @return caminhos alterados, na ordem das alterações
+     */
+    public List<String> paths() {
+        return changes.stream().map(FieldChange::path).toList();
+    }
+
+    /**
+     * @param prefixo caminho de um bloco ou lista (por exemplo, {@code segurados})
+     * @return alterações no bloco ou lista e abaixo dele
+     */
+    public List<FieldChange> under(String prefixo) {
+        Objects.requireNonNull(prefixo, "Prefixo é obrigatório");
+        return changes.stream().filter(alteracao -> {
+            String caminho = alteracao.path();
+            return caminho.startsWith(prefixo) && (caminho.length() == prefixo.length()
+                || caminho.charAt(prefixo.length()) == '.' || caminho.charAt(prefixo.length()) == '[');
+        }).toList();
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.wesleyosantos91.susep.sro.model.diff;
+
+import java.util.Objects;
+
+/**
+ * Alteração de um campo, bloco ou elemento de lista entre duas versões de um agregado.
+ *
+ * <p>O caminho usa os nomes dos componentes, com a chave natural (ou a posição, em listas sem
+ * chave) entre colchetes: {@code limiteMaximoGarantia}, {@code premioApolice.valorTotal},
+ * {@code segurados[12345678909].nome}, {@code ccgs[0]}.</p>
+ *
+ * @param path   caminho do campo a partir da raiz do agregado
+ * @param kind   tipo de alteração
+ * @param before valor na versão anterior ({@code null} em {@link ChangeKind#ADDED})
+ * @param after  valor na nova versão ({@code null} em {@link ChangeKind#REMOVED})
+ */
+public record FieldChange(String path, ChangeKind kind, Object before, Object after) {
+
+    public FieldChange {
+        Objects.requireNonNull(path, "Caminho é obrigatório");
+        Objects.requireNonNull(kind, "Tipo de alteração é obrigatório");
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case ADDED -> "+ " + path + " = " + after;
+            case REMOVED -> "- " + path + " = " + before;
+            case MODIFIED -> "~ " + path + ": " + before + " -> " + after;
+        };
+    }
+}
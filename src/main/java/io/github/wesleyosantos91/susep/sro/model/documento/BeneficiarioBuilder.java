@@ -0,0 +1,147 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+/**
+ * Builder reutilizável para {@link Beneficiario}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class BeneficiarioBuilder {
+
+    private String documento;
+    private Integer tipoDocumento;
+    private String nome;
+    private String codigoPostal;
+    private String cidade;
+    private String estado;
+    private String pais;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public BeneficiarioBuilder from(Beneficiario origem) {
+        return documento(origem.documento())
+            .tipoDocumento(origem.tipoDocumento())
+            .nome(origem.nome())
+            .codigoPostal(origem.codigoPostal())
+            .cidade(origem.cidade())
+            .estado(origem.estado())
+            .pais(origem.pais());
+    }
+
+    /**
+     * Define {@link Beneficiario#documento()}.
+     *
+     * @param documento valor do componente
+     * @return este builder
+     */
+    public BeneficiarioBuilder documento(String documento) {
+        this.documento = documento;
+        return this;
+    }
+
+    /**
+     * Define {@link Beneficiario#tipoDocumento()}.
+     *
+     * @param tipoDocumento valor do componente
+     * @return este builder
+     */
+    public BeneficiarioBuilder tipoDocumento(Integer tipoDocumento) {
+        this.tipoDocumento = tipoDocumento;
+        return this;
+    }
+
+    /**
+     * Define {@link Beneficiario#nome()}.
+     *
+     * @param nome valor do componente
+     * @return este builder
+     */
+    public BeneficiarioBuilder nome(String nome) {
+        this.nome = nome;
+        return this;
+    }
+
+    /**
+     * Define {@link Beneficiario#codigoPostal()}.
+     *
+     * @param codigoPostal valor do componente
+     * @return este builder
+     */
+    public BeneficiarioBuilder codigoPostal(String codigoPostal) {
+        this.codigoPostal = codigoPostal;
+        return this;
+    }
+
+    /**
+     * Define {@link Beneficiario#cidade()}.
+     *
+     * @param cidade valor do componente
+     * @return este builder
+     */
+    public BeneficiarioBuilder cidade(String cidade) {
+        this.cidade = cidade;
+        return this;
+    }
+
+    /**
+     * Define {@link Beneficiario#estado()}.
+     *
+     * @param estado valor do componente
+     * @return este builder
+     */
+    public BeneficiarioBuilder estado(String estado) {
+        this.estado = estado;
+        return this;
+    }
+
+    /**
+     * Define {@link Beneficiario#pais()}.
+     *
+     * @param pais valor do componente
+     * @return este builder
+     */
+    public BeneficiarioBuilder pais(String pais) {
+        this.pais = pais;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Beneficiario build() {
+        return new Beneficiario(
+            documento,
+            tipoDocumento,
+            nome,
+            codigoPostal,
+            cidade,
+            estado,
+            pais
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public BeneficiarioBuilder reset() {
+        documento = null;
+        tipoDocumento = null;
+        nome = null;
+        codigoPostal = null;
+        cidade = null;
+        estado = null;
+        pais = null;
+        return this;
+    }
+}
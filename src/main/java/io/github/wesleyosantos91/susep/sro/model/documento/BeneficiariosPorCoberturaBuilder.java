@@ -0,0 +1,87 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+/**
+ * Builder reutilizável para {@link BeneficiariosPorCobertura}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class BeneficiariosPorCoberturaBuilder {
+
+    private String identificadorObjetoSeguradoBeneficiarios;
+    private String grupoRamoCoberturaBeneficiarios;
+    private String codigoInternoCoberturaBeneficiarios;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public BeneficiariosPorCoberturaBuilder from(BeneficiariosPorCobertura origem) {
+        return identificadorObjetoSeguradoBeneficiarios(origem.identificadorObjetoSeguradoBeneficiarios())
+            .grupoRamoCoberturaBeneficiarios(origem.grupoRamoCoberturaBeneficiarios())
+            .codigoInternoCoberturaBeneficiarios(origem.codigoInternoCoberturaBeneficiarios());
+    }
+
+    /**
+     * Define {@link BeneficiariosPorCobertura#identificadorObjetoSeguradoBeneficiarios()}.
+     *
+     * @param identificadorObjetoSeguradoBeneficiarios valor do componente
+     * @return este builder
+     */
+    public BeneficiariosPorCoberturaBuilder identificadorObjetoSeguradoBeneficiarios(String identificadorObjetoSeguradoBeneficiarios) {
+        this.identificadorObjetoSeguradoBeneficiarios = identificadorObjetoSeguradoBeneficiarios;
+        return this;
+    }
+
+    /**
+     * Define {@link BeneficiariosPorCobertura#grupoRamoCoberturaBeneficiarios()}.
+     *
+     * @param grupoRamoCoberturaBeneficiarios valor do componente
+     * @return este builder
+     */
+    public BeneficiariosPorCoberturaBuilder grupoRamoCoberturaBeneficiarios(String grupoRamoCoberturaBeneficiarios) {
+        this.grupoRamoCoberturaBeneficiarios = grupoRamoCoberturaBeneficiarios;
+        return this;
+    }
+
+    /**
+     * Define {@link BeneficiariosPorCobertura#codigoInternoCoberturaBeneficiarios()}.
+     *
+     * @param codigoInternoCoberturaBeneficiarios valor do componente
+     * @return este builder
+     */
+    public BeneficiariosPorCoberturaBuilder codigoInternoCoberturaBeneficiarios(String codigoInternoCoberturaBeneficiarios) {
+        this.codigoInternoCoberturaBeneficiarios = codigoInternoCoberturaBeneficiarios;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public BeneficiariosPorCobertura build() {
+        return new BeneficiariosPorCobertura(
+            identificadorObjetoSeguradoBeneficiarios,
+            grupoRamoCoberturaBeneficiarios,
+            codigoInternoCoberturaBeneficiarios
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public BeneficiariosPorCoberturaBuilder reset() {
+        identificadorObjetoSeguradoBeneficiarios = null;
+        grupoRamoCoberturaBeneficiarios = null;
+        codigoInternoCoberturaBeneficiarios = null;
+        return this;
+    }
+}
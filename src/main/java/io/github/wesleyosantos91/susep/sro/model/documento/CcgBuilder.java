@@ -0,0 +1,74 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+import java.time.LocalDate;
+
+/**
+ * Builder reutilizável para {@link Ccg}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class CcgBuilder {
+
+    private String ccgIdentificacao;
+    private LocalDate dataVinculacao;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public CcgBuilder from(Ccg origem) {
+        return ccgIdentificacao(origem.ccgIdentificacao())
+            .dataVinculacao(origem.dataVinculacao());
+    }
+
+    /**
+     * Define {@link Ccg#ccgIdentificacao()}.
+     *
+     * @param ccgIdentificacao valor do componente
+     * @return este builder
+     */
+    public CcgBuilder ccgIdentificacao(String ccgIdentificacao) {
+        this.ccgIdentificacao = ccgIdentificacao;
+        return this;
+    }
+
+    /**
+     * Define {@link Ccg#dataVinculacao()}.
+     *
+     * @param dataVinculacao valor do componente
+     * @return este builder
+     */
+    public CcgBuilder dataVinculacao(LocalDate dataVinculacao) {
+        this.dataVinculacao = dataVinculacao;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Ccg build() {
+        return new Ccg(
+            ccgIdentificacao,
+            dataVinculacao
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public CcgBuilder reset() {
+        ccgIdentificacao = null;
+        dataVinculacao = null;
+        return this;
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+/**
+ * Builder reutilizável para {@link CessionariasCosseguro}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class CessionariasCosseguroBuilder {
+
+    private String codigoCosseguradora;
+    private Float percentualCedido;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public CessionariasCosseguroBuilder from(CessionariasCosseguro origem) {
+        return codigoCosseguradora(origem.codigoCosseguradora())
+            .percentualCedido(origem.percentualCedido());
+    }
+
+    /**
+     * Define {@link CessionariasCosseguro#codigoCosseguradora()}.
+     *
+     * @param codigoCosseguradora valor do componente
+     * @return este builder
+     */
+    public CessionariasCosseguroBuilder codigoCosseguradora(String codigoCosseguradora) {
+        this.codigoCosseguradora = codigoCosseguradora;
+        return this;
+    }
+
+    /**
+     * Define {@link CessionariasCosseguro#percentualCedido()}.
+     *
+     * @param percentualCedido valor do componente
+     * @return este builder
+     */
+    public CessionariasCosseguroBuilder percentualCedido(Float percentualCedido) {
+        this.percentualCedido = percentualCedido;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public CessionariasCosseguro build() {
+        return new CessionariasCosseguro(
+            codigoCosseguradora,
+            percentualCedido
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public CessionariasCosseguroBuilder reset() {
+        codigoCosseguradora = null;
+        percentualCedido = null;
+        return this;
+    }
+}
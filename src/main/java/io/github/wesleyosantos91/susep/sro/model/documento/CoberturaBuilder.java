@@ -0,0 +1,329 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+import java.time.LocalDate;
+
+/**
+ * Builder reutilizável para {@link Cobertura}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class CoberturaBuilder {
+
+    private String grupoRamo;
+    private Integer codigo;
+    private String outrasDescricao;
+    private String coberturaInternaSeguradora;
+    private String numeroProcesso;
+    private Double limiteMaximoIndenizacao;
+    private Double limiteMaximoIndenizacaoReal;
+    private Integer limiteMaximoIndenizacaoSublimite;
+    private LocalDate dataInicioCobertura;
+    private LocalDate dataTerminoCobertura;
+    private Integer coberturaPrincipal;
+    private Integer coberturaCaracteristica;
+    private Integer tipoRisco;
+    private Integer coberturaTipo;
+    private Double valorPremio;
+    private Double valorPremioReal;
+    private Double iof;
+    private Double custo;
+    private Double custoReal;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public CoberturaBuilder from(Cobertura origem) {
+        return grupoRamo(origem.grupoRamo())
+            .codigo(origem.codigo())
+            .outrasDescricao(origem.outrasDescricao())
+            .coberturaInternaSeguradora(origem.coberturaInternaSeguradora())
+            .numeroProcesso(origem.numeroProcesso())
+            .limiteMaximoIndenizacao(origem.limiteMaximoIndenizacao())
+            .limiteMaximoIndenizacaoReal(origem.limiteMaximoIndenizacaoReal())
+            .limiteMaximoIndenizacaoSublimite(origem.limiteMaximoIndenizacaoSublimite())
+            .dataInicioCobertura(origem.dataInicioCobertura())
+            .dataTerminoCobertura(origem.dataTerminoCobertura())
+            .coberturaPrincipal(origem.coberturaPrincipal())
+            .coberturaCaracteristica(origem.coberturaCaracteristica())
+            .tipoRisco(origem.tipoRisco())
+            .coberturaTipo(origem.coberturaTipo())
+            .valorPremio(origem.valorPremio())
+            .valorPremioReal(origem.valorPremioReal())
+            .iof(origem.iof())
+            .custo(origem.custo())
+            .custoReal(origem.custoReal());
+    }
+
+    /**
+     * Define {@link Cobertura#grupoRamo()}.
+     *
+     * @param grupoRamo valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder grupoRamo(String grupoRamo) {
+        this.grupoRamo = grupoRamo;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#codigo()}.
+     *
+     * @param codigo valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder codigo(Integer codigo) {
+        this.codigo = codigo;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#outrasDescricao()}.
+     *
+     * @param outrasDescricao valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder outrasDescricao(String outrasDescricao) {
+        this.outrasDescricao = outrasDescricao;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#coberturaInternaSeguradora()}.
+     *
+     * @param coberturaInternaSeguradora valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder coberturaInternaSeguradora(String coberturaInternaSeguradora) {
+        this.coberturaInternaSeguradora = coberturaInternaSeguradora;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#numeroProcesso()}.
+     *
+     * @param numeroProcesso valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder numeroProcesso(String numeroProcesso) {
+        this.numeroProcesso = numeroProcesso;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#limiteMaximoIndenizacao()}.
+     *
+     * @param limiteMaximoIndenizacao valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder limiteMaximoIndenizacao(Double limiteMaximoIndenizacao) {
+        this.limiteMaximoIndenizacao = limiteMaximoIndenizacao;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#limiteMaximoIndenizacaoReal()}.
+     *
+     * @param limiteMaximoIndenizacaoReal valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder limiteMaximoIndenizacaoReal(Double limiteMaximoIndenizacaoReal) {
+        this.limiteMaximoIndenizacaoReal = limiteMaximoIndenizacaoReal;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#limiteMaximoIndenizacaoSublimite()}.
+     *
+     * @param limiteMaximoIndenizacaoSublimite valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder limiteMaximoIndenizacaoSublimite(Integer limiteMaximoIndenizacaoSublimite) {
+        this.limiteMaximoIndenizacaoSublimite = limiteMaximoIndenizacaoSublimite;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#dataInicioCobertura()}.
+     *
+     * @param dataInicioCobertura valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder dataInicioCobertura(LocalDate dataInicioCobertura) {
+        this.dataInicioCobertura = dataInicioCobertura;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#dataTerminoCobertura()}.
+     *
+     * @param dataTerminoCobertura valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder dataTerminoCobertura(LocalDate dataTerminoCobertura) {
+        this.dataTerminoCobertura = dataTerminoCobertura;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#coberturaPrincipal()}.
+     *
+     * @param coberturaPrincipal valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder coberturaPrincipal(Integer coberturaPrincipal) {
+        this.coberturaPrincipal = coberturaPrincipal;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#coberturaCaracteristica()}.
+     *
+     * @param coberturaCaracteristica valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder coberturaCaracteristica(Integer coberturaCaracteristica) {
+        this.coberturaCaracteristica = coberturaCaracteristica;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#tipoRisco()}.
+     *
+     * @param tipoRisco valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder tipoRisco(Integer tipoRisco) {
+        this.tipoRisco = tipoRisco;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#coberturaTipo()}.
+     *
+     * @param coberturaTipo valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder coberturaTipo(Integer coberturaTipo) {
+        this.coberturaTipo = coberturaTipo;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#valorPremio()}.
+     *
+     * @param valorPremio valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder valorPremio(Double valorPremio) {
+        this.valorPremio = valorPremio;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#valorPremioReal()}.
+     *
+     * @param valorPremioReal valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder valorPremioReal(Double valorPremioReal) {
+        this.valorPremioReal = valorPremioReal;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#iof()}.
+     *
+     * @param iof valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder iof(Double iof) {
+        this.iof = iof;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#custo()}.
+     *
+     * @param custo valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder custo(Double custo) {
+        this.custo = custo;
+        return this;
+    }
+
+    /**
+     * Define {@link Cobertura#custoReal()}.
+     *
+     * @param custoReal valor do componente
+     * @return este builder
+     */
+    public CoberturaBuilder custoReal(Double custoReal) {
+        this.custoReal = custoReal;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Cobertura build() {
+        return new Cobertura(
+            grupoRamo,
+            codigo,
+            outrasDescricao,
+            coberturaInternaSeguradora,
+            numeroProcesso,
+            limiteMaximoIndenizacao,
+            limiteMaximoIndenizacaoReal,
+            limiteMaximoIndenizacaoSublimite,
+            dataInicioCobertura,
+            dataTerminoCobertura,
+            coberturaPrincipal,
+            coberturaCaracteristica,
+            tipoRisco,
+            coberturaTipo,
+            valorPremio,
+            valorPremioReal,
+            iof,
+            custo,
+            custoReal
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public CoberturaBuilder reset() {
+        grupoRamo = null;
+        codigo = null;
+        outrasDescricao = null;
+        coberturaInternaSeguradora = null;
+        numeroProcesso = null;
+        limiteMaximoIndenizacao = null;
+        limiteMaximoIndenizacaoReal = null;
+        limiteMaximoIndenizacaoSublimite = null;
+        dataInicioCobertura = null;
+        dataTerminoCobertura = null;
+        coberturaPrincipal = null;
+        coberturaCaracteristica = null;
+        tipoRisco = null;
+        coberturaTipo = null;
+        valorPremio = null;
+        valorPremioReal = null;
+        iof = null;
+        custo = null;
+        custoReal = null;
+        return this;
+    }
+}
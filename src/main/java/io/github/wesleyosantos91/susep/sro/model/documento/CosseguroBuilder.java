@@ -0,0 +1,57 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+/**
+ * Builder reutilizável para {@link Cosseguro}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class CosseguroBuilder {
+
+    private Float percentualRetido;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public CosseguroBuilder from(Cosseguro origem) {
+        return percentualRetido(origem.percentualRetido());
+    }
+
+    /**
+     * Define {@link Cosseguro#percentualRetido()}.
+     *
+     * @param percentualRetido valor do componente
+     * @return este builder
+     */
+    public CosseguroBuilder percentualRetido(Float percentualRetido) {
+        this.percentualRetido = percentualRetido;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Cosseguro build() {
+        return new Cosseguro(
+            percentualRetido
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public CosseguroBuilder reset() {
+        percentualRetido = null;
+        return this;
+    }
+}
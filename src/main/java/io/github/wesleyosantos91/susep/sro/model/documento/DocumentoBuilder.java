@@ -0,0 +1,552 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+import io.github.wesleyosantos91.susep.sro.model.util.ListAccumulator;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Builder reutilizável para {@link Documento}.
+ *
+ * <p>Listas acumuladas com os métodos {@code add...} são convertidas em listas imutáveis
+ * uma única vez em {@link #build()}; listas atribuídas diretamente são repassadas sem cópia.
+ * Em ambos os casos o compact constructor não copia a lista novamente.</p>
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class DocumentoBuilder {
+
+    private String uuid;
+    private String anotacao;
+    private String codigoSeguradora;
+    private LocalDate dataRegistro;
+    private LocalDate dataAlteracao;
+    private Integer indicadorExclusao;
+    private Integer tipoDocumentoEmitido;
+    private String apoliceCodigo;
+    private String numeroSusepApolice;
+    private String certificadoCodigo;
+    private Integer tipoEmissao;
+    private LocalDate dataEmissao;
+    private LocalDate dataInicio;
+    private LocalDate dataTermino;
+    private String codigoFilial;
+    private String codigoSeguradoraLider;
+    private String apoliceCodigoLider;
+    private String moedaApolice;
+    private Double limiteMaximoGarantia;
+    private Double limiteMaximoGarantiaReal;
+    private Integer coberturaBasica;
+    private final ListAccumulator<Ccg> ccgs = new ListAccumulator<>();
+    private final ListAccumulator<Segurado> segurados = new ListAccumulator<>();
+    private final ListAccumulator<Beneficiario> beneficiarios = new ListAccumulator<>();
+    private final ListAccumulator<Tomador> tomadores = new ListAccumulator<>();
+    private final ListAccumulator<Intermediario> intermediarios = new ListAccumulator<>();
+    private final ListAccumulator<ObjetoSegurado> objetosSegurados = new ListAccumulator<>();
+    private PremioApolice premioApolice;
+    private Cosseguro cosseguro;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public DocumentoBuilder from(Documento origem) {
+        return uuid(origem.uuid())
+            .anotacao(origem.anotacao())
+            .codigoSeguradora(origem.codigoSeguradora())
+            .dataRegistro(origem.dataRegistro())
+            .dataAlteracao(origem.dataAlteracao())
+            .indicadorExclusao(origem.indicadorExclusao())
+            .tipoDocumentoEmitido(origem.tipoDocumentoEmitido())
+            .apoliceCodigo(origem.apoliceCodigo())
+            .numeroSusepApolice(origem.numeroSusepApolice())
+            .certificadoCodigo(origem.certificadoCodigo())
+            .tipoEmissao(origem.tipoEmissao())
+            .dataEmissao(origem.dataEmissao())
+            .dataInicio(origem.dataInicio())
+            .dataTermino(origem.dataTermino())
+            .codigoFilial(origem.codigoFilial())
+            .codigoSeguradoraLider(origem.codigoSeguradoraLider())
+            .apoliceCodigoLider(origem.apoliceCodigoLider())
+            .moedaApolice(origem.moedaApolice())
+            .limiteMaximoGarantia(origem.limiteMaximoGarantia())
+            .limiteMaximoGarantiaReal(origem.limiteMaximoGarantiaReal())
+            .coberturaBasica(origem.coberturaBasica())
+            .ccgs(origem.ccgs())
+            .segurados(origem.segurados())
+            .beneficiarios(origem.beneficiarios())
+            .tomadores(origem.tomadores())
+            .intermediarios(origem.intermediarios())
+            .objetosSegurados(origem.objetosSegurados())
+            .premioApolice(origem.premioApolice())
+            .cosseguro(origem.cosseguro());
+    }
+
+    /**
+     * Define {@link Documento#uuid()}.
+     *
+     * @param uuid valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder uuid(String uuid) {
+        this.uuid = uuid;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#anotacao()}.
+     *
+     * @param anotacao valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder anotacao(String anotacao) {
+        this.anotacao = anotacao;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#codigoSeguradora()}.
+     *
+     * @param codigoSeguradora valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder codigoSeguradora(String codigoSeguradora) {
+        this.codigoSeguradora = codigoSeguradora;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#dataRegistro()}.
+     *
+     * @param dataRegistro valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder dataRegistro(LocalDate dataRegistro) {
+        this.dataRegistro = dataRegistro;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#dataAlteracao()}.
+     *
+     * @param dataAlteracao valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder dataAlteracao(LocalDate dataAlteracao) {
+        this.dataAlteracao = dataAlteracao;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#indicadorExclusao()}.
+     *
+     * @param indicadorExclusao valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder indicadorExclusao(Integer indicadorExclusao) {
+        this.indicadorExclusao = indicadorExclusao;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#tipoDocumentoEmitido()}.
+     *
+     * @param tipoDocumentoEmitido valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder tipoDocumentoEmitido(Integer tipoDocumentoEmitido) {
+        this.tipoDocumentoEmitido = tipoDocumentoEmitido;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#apoliceCodigo()}.
+     *
+     * @param apoliceCodigo valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder apoliceCodigo(String apoliceCodigo) {
+        this.apoliceCodigo = apoliceCodigo;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#numeroSusepApolice()}.
+     *
+     * @param numeroSusepApolice valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder numeroSusepApolice(String numeroSusepApolice) {
+        this.numeroSusepApolice = numeroSusepApolice;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#certificadoCodigo()}.
+     *
+     * @param certificadoCodigo valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder certificadoCodigo(String certificadoCodigo) {
+        this.certificadoCodigo = certificadoCodigo;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#tipoEmissao()}.
+     *
+     * @param tipoEmissao valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder tipoEmissao(Integer tipoEmissao) {
+        this.tipoEmissao = tipoEmissao;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#dataEmissao()}.
+     *
+     * @param dataEmissao valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder dataEmissao(LocalDate dataEmissao) {
+        this.dataEmissao = dataEmissao;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#dataInicio()}.
+     *
+     * @param dataInicio valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder dataInicio(LocalDate dataInicio) {
+        this.dataInicio = dataInicio;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#dataTermino()}.
+     *
+     * @param dataTermino valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder dataTermino(LocalDate dataTermino) {
+        this.dataTermino = dataTermino;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#codigoFilial()}.
+     *
+     * @param codigoFilial valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder codigoFilial(String codigoFilial) {
+        this.codigoFilial = codigoFilial;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#codigoSeguradoraLider()}.
+     *
+     * @param codigoSeguradoraLider valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder codigoSeguradoraLider(String codigoSeguradoraLider) {
+        this.codigoSeguradoraLider = codigoSeguradoraLider;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#apoliceCodigoLider()}.
+     *
+     * @param apoliceCodigoLider valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder apoliceCodigoLider(String apoliceCodigoLider) {
+        this.apoliceCodigoLider = apoliceCodigoLider;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#moedaApolice()}.
+     *
+     * @param moedaApolice valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder moedaApolice(String moedaApolice) {
+        this.moedaApolice = moedaApolice;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#limiteMaximoGarantia()}.
+     *
+     * @param limiteMaximoGarantia valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder limiteMaximoGarantia(Double limiteMaximoGarantia) {
+        this.limiteMaximoGarantia = limiteMaximoGarantia;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#limiteMaximoGarantiaReal()}.
+     *
+     * @param limiteMaximoGarantiaReal valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder limiteMaximoGarantiaReal(Double limiteMaximoGarantiaReal) {
+        this.limiteMaximoGarantiaReal = limiteMaximoGarantiaReal;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#coberturaBasica()}.
+     *
+     * @param coberturaBasica valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder coberturaBasica(Integer coberturaBasica) {
+        this.coberturaBasica = coberturaBasica;
+        return this;
+    }
+
+    /**
+     * Atribui {@link Documento#ccgs()} sem copiar a lista.
+     *
+     * @param ccgs lista de elementos
+     * @return este builder
+     */
+    public DocumentoBuilder ccgs(List<Ccg> ccgs) {
+        this.ccgs.set(ccgs);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Documento#ccgs()}.
+     *
+     * @param ccg elemento não nulo
+     * @return este builder
+     */
+    public DocumentoBuilder addCcg(Ccg ccg) {
+        this.ccgs.add(ccg);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Documento#segurados()} sem copiar a lista.
+     *
+     * @param segurados lista de elementos
+     * @return este builder
+     */
+    public DocumentoBuilder segurados(List<Segurado> segurados) {
+        this.segurados.set(segurados);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Documento#segurados()}.
+     *
+     * @param segurado elemento não nulo
+     * @return este builder
+     */
+    public DocumentoBuilder addSegurado(Segurado segurado) {
+        this.segurados.add(segurado);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Documento#beneficiarios()} sem copiar a lista.
+     *
+     * @param beneficiarios lista de elementos
+     * @return este builder
+     */
+    public DocumentoBuilder beneficiarios(List<Beneficiario> beneficiarios) {
+        this.beneficiarios.set(beneficiarios);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Documento#beneficiarios()}.
+     *
+     * @param beneficiario elemento não nulo
+     * @return este builder
+     */
+    public DocumentoBuilder addBeneficiario(Beneficiario beneficiario) {
+        this.beneficiarios.add(beneficiario);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Documento#tomadores()} sem copiar a lista.
+     *
+     * @param tomadores lista de elementos
+     * @return este builder
+     */
+    public DocumentoBuilder tomadores(List<Tomador> tomadores) {
+        this.tomadores.set(tomadores);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Documento#tomadores()}.
+     *
+     * @param tomador elemento não nulo
+     * @return este builder
+     */
+    public DocumentoBuilder addTomador(Tomador tomador) {
+        this.tomadores.add(tomador);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Documento#intermediarios()} sem copiar a lista.
+     *
+     * @param intermediarios lista de elementos
+     * @return este builder
+     */
+    public DocumentoBuilder intermediarios(List<Intermediario> intermediarios) {
+        this.intermediarios.set(intermediarios);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Documento#intermediarios()}.
+     *
+     * @param intermediario elemento não nulo
+     * @return este builder
+     */
+    public DocumentoBuilder addIntermediario(Intermediario intermediario) {
+        this.intermediarios.add(intermediario);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Documento#objetosSegurados()} sem copiar a lista.
+     *
+     * @param objetosSegurados lista de elementos
+     * @return este builder
+     */
+    public DocumentoBuilder objetosSegurados(List<ObjetoSegurado> objetosSegurados) {
+        this.objetosSegurados.set(objetosSegurados);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Documento#objetosSegurados()}.
+     *
+     * @param objetoSegurado elemento não nulo
+     * @return este builder
+     */
+    public DocumentoBuilder addObjetoSegurado(ObjetoSegurado objetoSegurado) {
+        this.objetosSegurados.add(objetoSegurado);
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#premioApolice()}.
+     *
+     * @param premioApolice valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder premioApolice(PremioApolice premioApolice) {
+        this.premioApolice = premioApolice;
+        return this;
+    }
+
+    /**
+     * Define {@link Documento#cosseguro()}.
+     *
+     * @param cosseguro valor do componente
+     * @return este builder
+     */
+    public DocumentoBuilder cosseguro(Cosseguro cosseguro) {
+        this.cosseguro = cosseguro;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Documento build() {
+        return new Documento(
+            uuid,
+            anotacao,
+            codigoSeguradora,
+            dataRegistro,
+            dataAlteracao,
+            indicadorExclusao,
+            tipoDocumentoEmitido,
+            apoliceCodigo,
+            numeroSusepApolice,
+            certificadoCodigo,
+            tipoEmissao,
+            dataEmissao,
+            dataInicio,
+            dataTermino,
+            codigoFilial,
+            codigoSeguradoraLider,
+            apoliceCodigoLider,
+            moedaApolice,
+            limiteMaximoGarantia,
+            limiteMaximoGarantiaReal,
+            coberturaBasica,
+            ccgs.toList(),
+            segurados.toList(),
+            beneficiarios.toList(),
+            tomadores.toList(),
+            intermediarios.toList(),
+            objetosSegurados.toList(),
+            premioApolice,
+            cosseguro
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public DocumentoBuilder reset() {
+        uuid = null;
+        anotacao = null;
+        codigoSeguradora = null;
+        dataRegistro = null;
+        dataAlteracao = null;
+        indicadorExclusao = null;
+        tipoDocumentoEmitido = null;
+        apoliceCodigo = null;
+        numeroSusepApolice = null;
+        certificadoCodigo = null;
+        tipoEmissao = null;
+        dataEmissao = null;
+        dataInicio = null;
+        dataTermino = null;
+        codigoFilial = null;
+        codigoSeguradoraLider = null;
+        apoliceCodigoLider = null;
+        moedaApolice = null;
+        limiteMaximoGarantia = null;
+        limiteMaximoGarantiaReal = null;
+        coberturaBasica = null;
+        ccgs.clear();
+        segurados.clear();
+        beneficiarios.clear();
+        tomadores.clear();
+        intermediarios.clear();
+        objetosSegurados.clear();
+        premioApolice = null;
+        cosseguro = null;
+        return this;
+    }
+}
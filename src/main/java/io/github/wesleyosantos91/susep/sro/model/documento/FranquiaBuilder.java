@@ -0,0 +1,102 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+/**
+ * Builder reutilizável para {@link Franquia}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class FranquiaBuilder {
+
+    private Integer franquiaTipo;
+    private String tipoDescricao;
+    private Double franquiaValor;
+    private String franquiaDescricao;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public FranquiaBuilder from(Franquia origem) {
+        return franquiaTipo(origem.franquiaTipo())
+            .tipoDescricao(origem.tipoDescricao())
+            .franquiaValor(origem.franquiaValor())
+            .franquiaDescricao(origem.franquiaDescricao());
+    }
+
+    /**
+     * Define {@link Franquia#franquiaTipo()}.
+     *
+     * @param franquiaTipo valor do componente
+     * @return este builder
+     */
+    public FranquiaBuilder franquiaTipo(Integer franquiaTipo) {
+        this.franquiaTipo = franquiaTipo;
+        return this;
+    }
+
+    /**
+     * Define {@link Franquia#tipoDescricao()}.
+     *
+     * @param tipoDescricao valor do componente
+     * @return este builder
+     */
+    public FranquiaBuilder tipoDescricao(String tipoDescricao) {
+        this.tipoDescricao = tipoDescricao;
+        return this;
+    }
+
+    /**
+     * Define {@link Franquia#franquiaValor()}.
+     *
+     * @param franquiaValor valor do componente
+     * @return este builder
+     */
+    public FranquiaBuilder franquiaValor(Double franquiaValor) {
+        this.franquiaValor = franquiaValor;
+        return this;
+    }
+
+    /**
+     * Define {@link Franquia#franquiaDescricao()}.
+     *
+     * @param franquiaDescricao valor do componente
+     * @return este builder
+     */
+    public FranquiaBuilder franquiaDescricao(String franquiaDescricao) {
+        this.franquiaDescricao = franquiaDescricao;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Franquia build() {
+        return new Franquia(
+            franquiaTipo,
+            tipoDescricao,
+            franquiaValor,
+            franquiaDescricao
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public FranquiaBuilder reset() {
+        franquiaTipo = null;
+        tipoDescricao = null;
+        franquiaValor = null;
+        franquiaDescricao = null;
+        return this;
+    }
+}
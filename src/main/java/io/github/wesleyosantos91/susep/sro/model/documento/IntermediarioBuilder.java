@@ -0,0 +1,207 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+/**
+ * Builder reutilizável para {@link Intermediario}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class IntermediarioBuilder {
+
+    private Integer tipo;
+    private String documento;
+    private String codigo;
+    private Integer tipoDocumento;
+    private String nome;
+    private String codigoPostal;
+    private String cidade;
+    private String estado;
+    private String pais;
+    private Double valorComissao;
+    private Double valorComissaoReal;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public IntermediarioBuilder from(Intermediario origem) {
+        return tipo(origem.tipo())
+            .documento(origem.documento())
+            .codigo(origem.codigo())
+            .tipoDocumento(origem.tipoDocumento())
+            .nome(origem.nome())
+            .codigoPostal(origem.codigoPostal())
+            .cidade(origem.cidade())
+            .estado(origem.estado())
+            .pais(origem.pais())
+            .valorComissao(origem.valorComissao())
+            .valorComissaoReal(origem.valorComissaoReal());
+    }
+
+    /**
+     * Define {@link Intermediario#tipo()}.
+     *
+     * @param tipo valor do componente
+     * @return este builder
+     */
+    public IntermediarioBuilder tipo(Integer tipo) {
+        this.tipo = tipo;
+        return this;
+    }
+
+    /**
+     * Define {@link Intermediario#documento()}.
+     *
+     * @param documento valor do componente
+     * @return este builder
+     */
+    public IntermediarioBuilder documento(String documento) {
+        this.documento = documento;
+        return this;
+    }
+
+    /**
+     * Define {@link Intermediario#codigo()}.
+     *
+     * @param codigo valor do componente
+     * @return este builder
+     */
+    public IntermediarioBuilder codigo(String codigo) {
+        this.codigo = codigo;
+        return this;
+    }
+
+    /**
+     * Define {@link Intermediario#tipoDocumento()}.
+     *
+     * @param tipoDocumento valor do componente
+     * @return este builder
+     */
+    public IntermediarioBuilder tipoDocumento(Integer tipoDocumento) {
+        this.tipoDocumento = tipoDocumento;
+        return this;
+    }
+
+    /**
+     * Define {@link Intermediario#nome()}.
+     *
+     * @param nome valor do componente
+     * @return este builder
+     */
+    public IntermediarioBuilder nome(String nome) {
+        this.nome = nome;
+        return this;
+    }
+
+    /**
+     * Define {@link Intermediario#codigoPostal()}.
+     *
+     * @param codigoPostal valor do componente
+     * @return este builder
+     */
+    public IntermediarioBuilder codigoPostal(String codigoPostal) {
+        this.codigoPostal = codigoPostal;
+        return this;
+    }
+
+    /**
+     * Define {@link Intermediario#cidade()}.
+     *
+     * @param cidade valor do componente
+     * @return este builder
+     */
+    public IntermediarioBuilder cidade(String cidade) {
+        this.cidade = cidade;
+        return this;
+    }
+
+    /**
+     * Define {@link Intermediario#estado()}.
+     *
+     * @param estado valor do componente
+     * @return este builder
+     */
+    public IntermediarioBuilder estado(String estado) {
+        this.estado = estado;
+        return this;
+    }
+
+    /**
+     * Define {@link Intermediario#pais()}.
+     *
+     * @param pais valor do componente
+     * @return este builder
+     */
+    public IntermediarioBuilder pais(String pais) {
+        this.pais = pais;
+        return this;
+    }
+
+    /**
+     * Define {@link Intermediario#valorComissao()}.
+     *
+     * @param valorComissao valor do componente
+     * @return este builder
+     */
+    public IntermediarioBuilder valorComissao(Double valorComissao) {
+        this.valorComissao = valorComissao;
+        return this;
+    }
+
+    /**
+     * Define {@link Intermediario#valorComissaoReal()}.
+     *
+     * @param valorComissaoReal valor do componente
+     * @return este builder
+     */
+    public IntermediarioBuilder valorComissaoReal(Double valorComissaoReal) {
+        this.valorComissaoReal = valorComissaoReal;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Intermediario build() {
+        return new Intermediario(
+            tipo,
+            documento,
+            codigo,
+            tipoDocumento,
+            nome,
+            codigoPostal,
+            cidade,
+            estado,
+            pais,
+            valorComissao,
+            valorComissaoReal
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public IntermediarioBuilder reset() {
+        tipo = null;
+        documento = null;
+        codigo = null;
+        tipoDocumento = null;
+        nome = null;
+        codigoPostal = null;
+        cidade = null;
+        estado = null;
+        pais = null;
+        valorComissao = null;
+        valorComissaoReal = null;
+        return this;
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+/**
+ * Builder reutilizável para {@link ObjetoPatrimonial}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class ObjetoPatrimonialBuilder {
+
+    private Integer tipoImovelSegurado;
+    private Integer tipoEstruturacaoCondominio;
+    private String codigoPostal;
+    private String codigoCnae;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public ObjetoPatrimonialBuilder from(ObjetoPatrimonial origem) {
+        return tipoImovelSegurado(origem.tipoImovelSegurado())
+            .tipoEstruturacaoCondominio(origem.tipoEstruturacaoCondominio())
+            .codigoPostal(origem.codigoPostal())
+            .codigoCnae(origem.codigoCnae());
+    }
+
+    /**
+     * Define {@link ObjetoPatrimonial#tipoImovelSegurado()}.
+     *
+     * @param tipoImovelSegurado valor do componente
+     * @return este builder
+     */
+    public ObjetoPatrimonialBuilder tipoImovelSegurado(Integer tipoImovelSegurado) {
+        this.tipoImovelSegurado = tipoImovelSegurado;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoPatrimonial#tipoEstruturacaoCondominio()}.
+     *
+     * @param tipoEstruturacaoCondominio valor do componente
+     * @return este builder
+     */
+    public ObjetoPatrimonialBuilder tipoEstruturacaoCondominio(Integer tipoEstruturacaoCondominio) {
+        this.tipoEstruturacaoCondominio = tipoEstruturacaoCondominio;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoPatrimonial#codigoPostal()}.
+     *
+     * @param codigoPostal valor do componente
+     * @return este builder
+     */
+    public ObjetoPatrimonialBuilder codigoPostal(String codigoPostal) {
+        this.codigoPostal = codigoPostal;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoPatrimonial#codigoCnae()}.
+     *
+     * @param codigoCnae valor do componente
+     * @return este builder
+     */
+    public ObjetoPatrimonialBuilder codigoCnae(String codigoCnae) {
+        this.codigoCnae = codigoCnae;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public ObjetoPatrimonial build() {
+        return new ObjetoPatrimonial(
+            tipoImovelSegurado,
+            tipoEstruturacaoCondominio,
+            codigoPostal,
+            codigoCnae
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public ObjetoPatrimonialBuilder reset() {
+        tipoImovelSegurado = null;
+        tipoEstruturacaoCondominio = null;
+        codigoPostal = null;
+        codigoCnae = null;
+        return this;
+    }
+}
@@ -0,0 +1,252 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+/**
+ * Builder reutilizável para {@link ObjetoRural}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class ObjetoRuralBuilder {
+
+    private Integer participaFesr;
+    private Double valorPremioSubvencionado;
+    private String origemSubvencao;
+    private Double areaSeguradaTotal;
+    private Integer unidadeMedidaAreaSegurada;
+    private String codigoCultura;
+    private Integer codigoRebanho;
+    private Integer codigoFloresta;
+    private String ufVistoria;
+    private String codigoPostalVistoria;
+    private String paisVistoria;
+    private Integer destinacaoAnimalCobertoPecuario;
+    private Integer classificacaoAnimalCoberto;
+    private Float percentualDespesasAdministrativas;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public ObjetoRuralBuilder from(ObjetoRural origem) {
+        return participaFesr(origem.participaFesr())
+            .valorPremioSubvencionado(origem.valorPremioSubvencionado())
+            .origemSubvencao(origem.origemSubvencao())
+            .areaSeguradaTotal(origem.areaSeguradaTotal())
+            .unidadeMedidaAreaSegurada(origem.unidadeMedidaAreaSegurada())
+            .codigoCultura(origem.codigoCultura())
+            .codigoRebanho(origem.codigoRebanho())
+            .codigoFloresta(origem.codigoFloresta())
+            .ufVistoria(origem.ufVistoria())
+            .codigoPostalVistoria(origem.codigoPostalVistoria())
+            .paisVistoria(origem.paisVistoria())
+            .destinacaoAnimalCobertoPecuario(origem.destinacaoAnimalCobertoPecuario())
+            .classificacaoAnimalCoberto(origem.classificacaoAnimalCoberto())
+            .percentualDespesasAdministrativas(origem.percentualDespesasAdministrativas());
+    }
+
+    /**
+     * Define {@link ObjetoRural#participaFesr()}.
+     *
+     * @param participaFesr valor do componente
+     * @return este builder
+     */
+    public ObjetoRuralBuilder participaFesr(Integer participaFesr) {
+        this.participaFesr = participaFesr;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoRural#valorPremioSubvencionado()}.
+     *
+     * @param valorPremioSubvencionado valor do componente
+     * @return este builder
+     */
+    public ObjetoRuralBuilder valorPremioSubvencionado(Double valorPremioSubvencionado) {
+        this.valorPremioSubvencionado = valorPremioSubvencionado;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoRural#origemSubvencao()}.
+     *
+     * @param origemSubvencao valor do componente
+     * @return este builder
+     */
+    public ObjetoRuralBuilder origemSubvencao(String origemSubvencao) {
+        this.origemSubvencao = origemSubvencao;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoRural#areaSeguradaTotal()}.
+     *
+     * @param areaSeguradaTotal valor do componente
+     * @return este builder
+     */
+    public ObjetoRuralBuilder areaSeguradaTotal(Double areaSeguradaTotal) {
+        this.areaSeguradaTotal = areaSeguradaTotal;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoRural#unidadeMedidaAreaSegurada()}.
+     *
+     * @param unidadeMedidaAreaSegurada valor do componente
+     * @return este builder
+     */
+    public ObjetoRuralBuilder unidadeMedidaAreaSegurada(Integer unidadeMedidaAreaSegurada) {
+        this.unidadeMedidaAreaSegurada = unidadeMedidaAreaSegurada;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoRural#codigoCultura()}.
+     *
+     * @param codigoCultura valor do componente
+     * @return este builder
+     */
+    public ObjetoRuralBuilder codigoCultura(String codigoCultura) {
+        this.codigoCultura = codigoCultura;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoRural#codigoRebanho()}.
+     *
+     * @param codigoRebanho valor do componente
+     * @return este builder
+     */
+    public ObjetoRuralBuilder codigoRebanho(Integer codigoRebanho) {
+        this.codigoRebanho = codigoRebanho;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoRural#codigoFloresta()}.
+     *
+     * @param codigoFloresta valor do componente
+     * @return este builder
+     */
+    public ObjetoRuralBuilder codigoFloresta(Integer codigoFloresta) {
+        this.codigoFloresta = codigoFloresta;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoRural#ufVistoria()}.
+     *
+     * @param ufVistoria valor do componente
+     * @return este builder
+     */
+    public ObjetoRuralBuilder ufVistoria(String ufVistoria) {
+        this.ufVistoria = ufVistoria;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoRural#codigoPostalVistoria()}.
+     *
+     * @param codigoPostalVistoria valor do componente
+     * @return este builder
+     */
+    public ObjetoRuralBuilder codigoPostalVistoria(String codigoPostalVistoria) {
+        this.codigoPostalVistoria = codigoPostalVistoria;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoRural#paisVistoria()}.
+     *
+     * @param paisVistoria valor do componente
+     * @return este builder
+     */
+    public ObjetoRuralBuilder paisVistoria(String paisVistoria) {
+        this.paisVistoria = paisVistoria;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoRural#destinacaoAnimalCobertoPecuario()}.
+     *
+     * @param destinacaoAnimalCobertoPecuario valor do componente
+     * @return este builder
+     */
+    public ObjetoRuralBuilder destinacaoAnimalCobertoPecuario(Integer destinacaoAnimalCobertoPecuario) {
+        this.destinacaoAnimalCobertoPecuario = destinacaoAnimalCobertoPecuario;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoRural#classificacaoAnimalCoberto()}.
+     *
+     * @param classificacaoAnimalCoberto valor do componente
+     * @return este builder
+     */
+    public ObjetoRuralBuilder classificacaoAnimalCoberto(Integer classificacaoAnimalCoberto) {
+        this.classificacaoAnimalCoberto = classificacaoAnimalCoberto;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoRural#percentualDespesasAdministrativas()}.
+     *
+     * @param percentualDespesasAdministrativas valor do componente
+     * @return este builder
+     */
+    public ObjetoRuralBuilder percentualDespesasAdministrativas(Float percentualDespesasAdministrativas) {
+        this.percentualDespesasAdministrativas = percentualDespesasAdministrativas;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public ObjetoRural build() {
+        return new ObjetoRural(
+            participaFesr,
+            valorPremioSubvencionado,
+            origemSubvencao,
+            areaSeguradaTotal,
+            unidadeMedidaAreaSegurada,
+            codigoCultura,
+            codigoRebanho,
+            codigoFloresta,
+            ufVistoria,
+            codigoPostalVistoria,
+            paisVistoria,
+            destinacaoAnimalCobertoPecuario,
+            classificacaoAnimalCoberto,
+            percentualDespesasAdministrativas
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public ObjetoRuralBuilder reset() {
+        participaFesr = null;
+        valorPremioSubvencionado = null;
+        origemSubvencao = null;
+        areaSeguradaTotal = null;
+        unidadeMedidaAreaSegurada = null;
+        codigoCultura = null;
+        codigoRebanho = null;
+        codigoFloresta = null;
+        ufVistoria = null;
+        codigoPostalVistoria = null;
+        paisVistoria = null;
+        destinacaoAnimalCobertoPecuario = null;
+        classificacaoAnimalCoberto = null;
+        percentualDespesasAdministrativas = null;
+        return this;
+    }
+}
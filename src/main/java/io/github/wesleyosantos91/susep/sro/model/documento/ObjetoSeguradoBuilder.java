@@ -0,0 +1,164 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+import java.time.LocalDate;
+
+/**
+ * Builder reutilizável para {@link ObjetoSegurado}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class ObjetoSeguradoBuilder {
+
+    private String codigo;
+    private Integer tipo;
+    private String descricaoTipo;
+    private String descricaoObjeto;
+    private Double valor;
+    private Double valorReal;
+    private LocalDate dataInicio;
+    private LocalDate dataTermino;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public ObjetoSeguradoBuilder from(ObjetoSegurado origem) {
+        return codigo(origem.codigo())
+            .tipo(origem.tipo())
+            .descricaoTipo(origem.descricaoTipo())
+            .descricaoObjeto(origem.descricaoObjeto())
+            .valor(origem.valor())
+            .valorReal(origem.valorReal())
+            .dataInicio(origem.dataInicio())
+            .dataTermino(origem.dataTermino());
+    }
+
+    /**
+     * Define {@link ObjetoSegurado#codigo()}.
+     *
+     * @param codigo valor do componente
+     * @return este builder
+     */
+    public ObjetoSeguradoBuilder codigo(String codigo) {
+        this.codigo = codigo;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoSegurado#tipo()}.
+     *
+     * @param tipo valor do componente
+     * @return este builder
+     */
+    public ObjetoSeguradoBuilder tipo(Integer tipo) {
+        this.tipo = tipo;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoSegurado#descricaoTipo()}.
+     *
+     * @param descricaoTipo valor do componente
+     * @return este builder
+     */
+    public ObjetoSeguradoBuilder descricaoTipo(String descricaoTipo) {
+        this.descricaoTipo = descricaoTipo;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoSegurado#descricaoObjeto()}.
+     *
+     * @param descricaoObjeto valor do componente
+     * @return este builder
+     */
+    public ObjetoSeguradoBuilder descricaoObjeto(String descricaoObjeto) {
+        this.descricaoObjeto = descricaoObjeto;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoSegurado#valor()}.
+     *
+     * @param valor valor do componente
+     * @return este builder
+     */
+    public ObjetoSeguradoBuilder valor(Double valor) {
+        this.valor = valor;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoSegurado#valorReal()}.
+     *
+     * @param valorReal valor do componente
+     * @return este builder
+     */
+    public ObjetoSeguradoBuilder valorReal(Double valorReal) {
+        this.valorReal = valorReal;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoSegurado#dataInicio()}.
+     *
+     * @param dataInicio valor do componente
+     * @return este builder
+     */
+    public ObjetoSeguradoBuilder dataInicio(LocalDate dataInicio) {
+        this.dataInicio = dataInicio;
+        return this;
+    }
+
+    /**
+     * Define {@link ObjetoSegurado#dataTermino()}.
+     *
+     * @param dataTermino valor do componente
+     * @return este builder
+     */
+    public ObjetoSeguradoBuilder dataTermino(LocalDate dataTermino) {
+        this.dataTermino = dataTermino;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public ObjetoSegurado build() {
+        return new ObjetoSegurado(
+            codigo,
+            tipo,
+            descricaoTipo,
+            descricaoObjeto,
+            valor,
+            valorReal,
+            dataInicio,
+            dataTermino
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public ObjetoSeguradoBuilder reset() {
+        codigo = null;
+        tipo = null;
+        descricaoTipo = null;
+        descricaoObjeto = null;
+        valor = null;
+        valorReal = null;
+        dataInicio = null;
+        dataTermino = null;
+        return this;
+    }
+}
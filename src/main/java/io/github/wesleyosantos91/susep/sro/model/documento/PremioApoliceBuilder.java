@@ -0,0 +1,117 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+/**
+ * Builder reutilizável para {@link PremioApolice}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class PremioApoliceBuilder {
+
+    private Double valorTotal;
+    private Double valorTotalReal;
+    private Double adicionalFracionamento;
+    private Double iof;
+    private Integer numeroParcelas;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public PremioApoliceBuilder from(PremioApolice origem) {
+        return valorTotal(origem.valorTotal())
+            .valorTotalReal(origem.valorTotalReal())
+            .adicionalFracionamento(origem.adicionalFracionamento())
+            .iof(origem.iof())
+            .numeroParcelas(origem.numeroParcelas());
+    }
+
+    /**
+     * Define {@link PremioApolice#valorTotal()}.
+     *
+     * @param valorTotal valor do componente
+     * @return este builder
+     */
+    public PremioApoliceBuilder valorTotal(Double valorTotal) {
+        this.valorTotal = valorTotal;
+        return this;
+    }
+
+    /**
+     * Define {@link PremioApolice#valorTotalReal()}.
+     *
+     * @param valorTotalReal valor do componente
+     * @return este builder
+     */
+    public PremioApoliceBuilder valorTotalReal(Double valorTotalReal) {
+        this.valorTotalReal = valorTotalReal;
+        return this;
+    }
+
+    /**
+     * Define {@link PremioApolice#adicionalFracionamento()}.
+     *
+     * @param adicionalFracionamento valor do componente
+     * @return este builder
+     */
+    public PremioApoliceBuilder adicionalFracionamento(Double adicionalFracionamento) {
+        this.adicionalFracionamento = adicionalFracionamento;
+        return this;
+    }
+
+    /**
+     * Define {@link PremioApolice#iof()}.
+     *
+     * @param iof valor do componente
+     * @return este builder
+     */
+    public PremioApoliceBuilder iof(Double iof) {
+        this.iof = iof;
+        return this;
+    }
+
+    /**
+     * Define {@link PremioApolice#numeroParcelas()}.
+     *
+     * @param numeroParcelas valor do componente
+     * @return este builder
+     */
+    public PremioApoliceBuilder numeroParcelas(Integer numeroParcelas) {
+        this.numeroParcelas = numeroParcelas;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public PremioApolice build() {
+        return new PremioApolice(
+            valorTotal,
+            valorTotalReal,
+            adicionalFracionamento,
+            iof,
+            numeroParcelas
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public PremioApoliceBuilder reset() {
+        valorTotal = null;
+        valorTotalReal = null;
+        adicionalFracionamento = null;
+        iof = null;
+        numeroParcelas = null;
+        return this;
+    }
+}
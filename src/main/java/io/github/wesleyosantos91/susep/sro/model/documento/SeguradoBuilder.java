@@ -0,0 +1,179 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+import java.time.LocalDate;
+
+/**
+ * Builder reutilizável para {@link Segurado}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class SeguradoBuilder {
+
+    private String documento;
+    private Integer tipoDocumento;
+    private String nome;
+    private LocalDate dataNascimento;
+    private Integer sexoSeguradoParticipante;
+    private String codigoPostal;
+    private String cidade;
+    private String estado;
+    private String pais;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public SeguradoBuilder from(Segurado origem) {
+        return documento(origem.documento())
+            .tipoDocumento(origem.tipoDocumento())
+            .nome(origem.nome())
+            .dataNascimento(origem.dataNascimento())
+            .sexoSeguradoParticipante(origem.sexoSeguradoParticipante())
+            .codigoPostal(origem.codigoPostal())
+            .cidade(origem.cidade())
+            .estado(origem.estado())
+            .pais(origem.pais());
+    }
+
+    /**
+     * Define {@link Segurado#documento()}.
+     *
+     * @param documento valor do componente
+     * @return este builder
+     */
+    public SeguradoBuilder documento(String documento) {
+        this.documento = documento;
+        return this;
+    }
+
+    /**
+     * Define {@link Segurado#tipoDocumento()}.
+     *
+     * @param tipoDocumento valor do componente
+     * @return este builder
+     */
+    public SeguradoBuilder tipoDocumento(Integer tipoDocumento) {
+        this.tipoDocumento = tipoDocumento;
+        return this;
+    }
+
+    /**
+     * Define {@link Segurado#nome()}.
+     *
+     * @param nome valor do componente
+     * @return este builder
+     */
+    public SeguradoBuilder nome(String nome) {
+        this.nome = nome;
+        return this;
+    }
+
+    /**
+     * Define {@link Segurado#dataNascimento()}.
+     *
+     * @param dataNascimento valor do componente
+     * @return este builder
+     */
+    public SeguradoBuilder dataNascimento(LocalDate dataNascimento) {
+        this.dataNascimento = dataNascimento;
+        return this;
+    }
+
+    /**
+     * Define {@link Segurado#sexoSeguradoParticipante()}.
+     *
+     * @param sexoSeguradoParticipante valor do componente
+     * @return este builder
+     */
+    public SeguradoBuilder sexoSeguradoParticipante(Integer sexoSeguradoParticipante) {
+        this.sexoSeguradoParticipante = sexoSeguradoParticipante;
+        return this;
+    }
+
+    /**
+     * Define {@link Segurado#codigoPostal()}.
+     *
+     * @param codigoPostal valor do componente
+     * @return este builder
+     */
+    public SeguradoBuilder codigoPostal(String codigoPostal) {
+        this.codigoPostal = codigoPostal;
+        return this;
+    }
+
+    /**
+     * Define {@link Segurado#cidade()}.
+     *
+     * @param cidade valor do componente
+     * @return este builder
+     */
+    public SeguradoBuilder cidade(String cidade) {
+        this.cidade = cidade;
+        return this;
+    }
+
+    /**
+     * Define {@link Segurado#estado()}.
+     *
+     * @param estado valor do componente
+     * @return este builder
+     */
+    public SeguradoBuilder estado(String estado) {
+        this.estado = estado;
+        return this;
+    }
+
+    /**
+     * Define {@link Segurado#pais()}.
+     *
+     * @param pais valor do componente
+     * @return este builder
+     */
+    public SeguradoBuilder pais(String pais) {
+        this.pais = pais;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Segurado build() {
+        return new Segurado(
+            documento,
+            tipoDocumento,
+            nome,
+            dataNascimento,
+            sexoSeguradoParticipante,
+            codigoPostal,
+            cidade,
+            estado,
+            pais
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public SeguradoBuilder reset() {
+        documento = null;
+        tipoDocumento = null;
+        nome = null;
+        dataNascimento = null;
+        sexoSeguradoParticipante = null;
+        codigoPostal = null;
+        cidade = null;
+        estado = null;
+        pais = null;
+        return this;
+    }
+}
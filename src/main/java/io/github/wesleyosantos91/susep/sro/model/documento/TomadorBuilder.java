@@ -0,0 +1,147 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+/**
+ * Builder reutilizável para {@link Tomador}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class TomadorBuilder {
+
+    private String documento;
+    private Integer tipoDocumento;
+    private String nome;
+    private String codigoPostal;
+    private String cidade;
+    private String estado;
+    private String pais;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public TomadorBuilder from(Tomador origem) {
+        return documento(origem.documento())
+            .tipoDocumento(origem.tipoDocumento())
+            .nome(origem.nome())
+            .codigoPostal(origem.codigoPostal())
+            .cidade(origem.cidade())
+            .estado(origem.estado())
+            .pais(origem.pais());
+    }
+
+    /**
+     * Define {@link Tomador#documento()}.
+     *
+     * @param documento valor do componente
+     * @return este builder
+     */
+    public TomadorBuilder documento(String documento) {
+        this.documento = documento;
+        return this;
+    }
+
+    /**
+     * Define {@link Tomador#tipoDocumento()}.
+     *
+     * @param tipoDocumento valor do componente
+     * @return este builder
+     */
+    public TomadorBuilder tipoDocumento(Integer tipoDocumento) {
+        this.tipoDocumento = tipoDocumento;
+        return this;
+    }
+
+    /**
+     * Define {@link Tomador#nome()}.
+     *
+     * @param nome valor do componente
+     * @return este builder
+     */
+    public TomadorBuilder nome(String nome) {
+        this.nome = nome;
+        return this;
+    }
+
+    /**
+     * Define {@link Tomador#codigoPostal()}.
+     *
+     * @param codigoPostal valor do componente
+     * @return este builder
+     */
+    public TomadorBuilder codigoPostal(String codigoPostal) {
+        this.codigoPostal = codigoPostal;
+        return this;
+    }
+
+    /**
+     * Define {@link Tomador#cidade()}.
+     *
+     * @param cidade valor do componente
+     * @return este builder
+     */
+    public TomadorBuilder cidade(String cidade) {
+        this.cidade = cidade;
+        return this;
+    }
+
+    /**
+     * Define {@link Tomador#estado()}.
+     *
+     * @param estado valor do componente
+     * @return este builder
+     */
+    public TomadorBuilder estado(String estado) {
+        this.estado = estado;
+        return this;
+    }
+
+    /**
+     * Define {@link Tomador#pais()}.
+     *
+     * @param pais valor do componente
+     * @return este builder
+     */
+    public TomadorBuilder pais(String pais) {
+        this.pais = pais;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Tomador build() {
+        return new Tomador(
+            documento,
+            tipoDocumento,
+            nome,
+            codigoPostal,
+            cidade,
+            estado,
+            pais
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public TomadorBuilder reset() {
+        documento = null;
+        tipoDocumento = null;
+        nome = null;
+        codigoPostal = null;
+        cidade = null;
+        estado = null;
+        pais = null;
+        return this;
+    }
+}
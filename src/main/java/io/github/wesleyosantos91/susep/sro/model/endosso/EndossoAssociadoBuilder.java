@@ -0,0 +1,57 @@
+package io.github.wesleyosantos91.susep.sro.model.endosso;
+
+/**
+ * Builder reutilizável para {@link EndossoAssociado}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class EndossoAssociadoBuilder {
+
+    private String endossoAssociadoCodigo;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public EndossoAssociadoBuilder from(EndossoAssociado origem) {
+        return endossoAssociadoCodigo(origem.endossoAssociadoCodigo());
+    }
+
+    /**
+     * Define {@link EndossoAssociado#endossoAssociadoCodigo()}.
+     *
+     * @param endossoAssociadoCodigo valor do componente
+     * @return este builder
+     */
+    public EndossoAssociadoBuilder endossoAssociadoCodigo(String endossoAssociadoCodigo) {
+        this.endossoAssociadoCodigo = endossoAssociadoCodigo;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public EndossoAssociado build() {
+        return new EndossoAssociado(
+            endossoAssociadoCodigo
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public EndossoAssociadoBuilder reset() {
+        endossoAssociadoCodigo = null;
+        return this;
+    }
+}
@@ -0,0 +1,676 @@
+package io.github.wesleyosantos91.susep.sro.model.endosso;
+
+import io.github.wesleyosantos91.susep.sro.model.documento.Beneficiario;
+import io.github.wesleyosantos91.susep.sro.model.documento.Ccg;
+import io.github.wesleyosantos91.susep.sro.model.documento.Cosseguro;
+import io.github.wesleyosantos91.susep.sro.model.documento.Intermediario;
+import io.github.wesleyosantos91.susep.sro.model.documento.ObjetoSegurado;
+import io.github.wesleyosantos91.susep.sro.model.documento.PremioApolice;
+import io.github.wesleyosantos91.susep.sro.model.documento.Segurado;
+import io.github.wesleyosantos91.susep.sro.model.documento.Tomador;
+import io.github.wesleyosantos91.susep.sro.model.util.ListAccumulator;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Builder reutilizável para {@link Endosso}.
+ *
+ * <p>Listas acumuladas com os métodos {@code add...} são convertidas em listas imutáveis
+ * uma única vez em {@link #build()}; listas atribuídas diretamente são repassadas sem cópia.
+ * Em ambos os casos o compact constructor não copia a lista novamente.</p>
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class EndossoBuilder {
+
+    private String uuid;
+    private String anotacao;
+    private String codigoSeguradora;
+    private LocalDate dataRegistro;
+    private LocalDate dataAlteracao;
+    private Integer indicadorExclusao;
+    private Integer tipoDocumentoEndossado;
+    private String apoliceCodigo;
+    private String numeroSusepApolice;
+    private String certificadoCodigo;
+    private String endossoCodigo;
+    private String endossoDescricao;
+    private Integer endossoTipo;
+    private Integer endossoAverbavel;
+    private Integer tipoEmissao;
+    private LocalDate dataEmissao;
+    private LocalDate dataInicio;
+    private LocalDate dataTermino;
+    private LocalDate dataInicioDocumento;
+    private LocalDate dataTerminoDocumento;
+    private String codigoFilial;
+    private String codigoSeguradoraLider;
+    private String apoliceCodigoLider;
+    private String moedaApolice;
+    private Double limiteMaximoGarantia;
+    private Double limiteMaximoGarantiaReal;
+    private Integer coberturaBasica;
+    private final ListAccumulator<EndossoAssociado> endossosAssociados = new ListAccumulator<>();
+    private final ListAccumulator<Ccg> ccgs = new ListAccumulator<>();
+    private final ListAccumulator<Segurado> segurados = new ListAccumulator<>();
+    private final ListAccumulator<Beneficiario> beneficiarios = new ListAccumulator<>();
+    private final ListAccumulator<Tomador> tomadores = new ListAccumulator<>();
+    private final ListAccumulator<Intermediario> intermediarios = new ListAccumulator<>();
+    private final ListAccumulator<ObjetoSegurado> objetosSegurados = new ListAccumulator<>();
+    private PremioApolice premioApolice;
+    private Cosseguro cosseguro;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public EndossoBuilder from(Endosso origem) {
+        return uuid(origem.uuid())
+            .anotacao(origem.anotacao())
+            .codigoSeguradora(origem.codigoSeguradora())
+            .dataRegistro(origem.dataRegistro())
+            .dataAlteracao(origem.dataAlteracao())
+            .indicadorExclusao(origem.indicadorExclusao())
+            .tipoDocumentoEndossado(origem.tipoDocumentoEndossado())
+            .apoliceCodigo(origem.apoliceCodigo())
+            .numeroSusepApolice(origem.numeroSusepApolice())
+            .certificadoCodigo(origem.certificadoCodigo())
+            .endossoCodigo(origem.endossoCodigo())
+            .endossoDescricao(origem.endossoDescricao())
+            .endossoTipo(origem.endossoTipo())
+            .endossoAverbavel(origem.endossoAverbavel())
+            .tipoEmissao(origem.tipoEmissao())
+            .dataEmissao(origem.dataEmissao())
+            .dataInicio(origem.dataInicio())
+            .dataTermino(origem.dataTermino())
+            .dataInicioDocumento(origem.dataInicioDocumento())
+            .dataTerminoDocumento(origem.dataTerminoDocumento())
+            .codigoFilial(origem.codigoFilial())
+            .codigoSeguradoraLider(origem.codigoSeguradoraLider())
+            .apoliceCodigoLider(origem.apoliceCodigoLider())
+            .moedaApolice(origem.moedaApolice())
+            .limiteMaximoGarantia(origem.limiteMaximoGarantia())
+            .limiteMaximoGarantiaReal(origem.limiteMaximoGarantiaReal())
+            .coberturaBasica(origem.coberturaBasica())
+            .endossosAssociados(origem.endossosAssociados())
+            .ccgs(origem.ccgs())
+            .segurados(origem.segurados())
+            .beneficiarios(origem.beneficiarios())
+            .tomadores(origem.tomadores())
+            .intermediarios(origem.intermediarios())
+            .objetosSegurados(origem.objetosSegurados())
+            .premioApolice(origem.premioApolice())
+            .cosseguro(origem.cosseguro());
+    }
+
+    /**
+     * Define {@link Endosso#uuid()}.
+     *
+     * @param uuid valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder uuid(String uuid) {
+        this.uuid = uuid;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#anotacao()}.
+     *
+     * @param anotacao valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder anotacao(String anotacao) {
+        this.anotacao = anotacao;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#codigoSeguradora()}.
+     *
+     * @param codigoSeguradora valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder codigoSeguradora(String codigoSeguradora) {
+        this.codigoSeguradora = codigoSeguradora;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#dataRegistro()}.
+     *
+     * @param dataRegistro valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder dataRegistro(LocalDate dataRegistro) {
+        this.dataRegistro = dataRegistro;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#dataAlteracao()}.
+     *
+     * @param dataAlteracao valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder dataAlteracao(LocalDate dataAlteracao) {
+        this.dataAlteracao = dataAlteracao;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#indicadorExclusao()}.
+     *
+     * @param indicadorExclusao valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder indicadorExclusao(Integer indicadorExclusao) {
+        this.indicadorExclusao = indicadorExclusao;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#tipoDocumentoEndossado()}.
+     *
+     * @param tipoDocumentoEndossado valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder tipoDocumentoEndossado(Integer tipoDocumentoEndossado) {
+        this.tipoDocumentoEndossado = tipoDocumentoEndossado;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#apoliceCodigo()}.
+     *
+     * @param apoliceCodigo valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder apoliceCodigo(String apoliceCodigo) {
+        this.apoliceCodigo = apoliceCodigo;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#numeroSusepApolice()}.
+     *
+     * @param numeroSusepApolice valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder numeroSusepApolice(String numeroSusepApolice) {
+        this.numeroSusepApolice = numeroSusepApolice;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#certificadoCodigo()}.
+     *
+     * @param certificadoCodigo valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder certificadoCodigo(String certificadoCodigo) {
+        this.certificadoCodigo = certificadoCodigo;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#endossoCodigo()}.
+     *
+     * @param endossoCodigo valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder endossoCodigo(String endossoCodigo) {
+        this.endossoCodigo = endossoCodigo;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#endossoDescricao()}.
+     *
+     * @param endossoDescricao valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder endossoDescricao(String endossoDescricao) {
+        this.endossoDescricao = endossoDescricao;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#endossoTipo()}.
+     *
+     * @param endossoTipo valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder endossoTipo(Integer endossoTipo) {
+        this.endossoTipo = endossoTipo;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#endossoAverbavel()}.
+     *
+     * @param endossoAverbavel valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder endossoAverbavel(Integer endossoAverbavel) {
+        this.endossoAverbavel = endossoAverbavel;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#tipoEmissao()}.
+     *
+     * @param tipoEmissao valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder tipoEmissao(Integer tipoEmissao) {
+        this.tipoEmissao = tipoEmissao;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#dataEmissao()}.
+     *
+     * @param dataEmissao valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder dataEmissao(LocalDate dataEmissao) {
+        this.dataEmissao = dataEmissao;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#dataInicio()}.
+     *
+     * @param dataInicio valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder dataInicio(LocalDate dataInicio) {
+        this.dataInicio = dataInicio;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#dataTermino()}.
+     *
+     * @param dataTermino valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder dataTermino(LocalDate dataTermino) {
+        this.dataTermino = dataTermino;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#dataInicioDocumento()}.
+     *
+     * @param dataInicioDocumento valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder dataInicioDocumento(LocalDate dataInicioDocumento) {
+        this.dataInicioDocumento = dataInicioDocumento;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#dataTerminoDocumento()}.
+     *
+     * @param dataTerminoDocumento valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder dataTerminoDocumento(LocalDate dataTerminoDocumento) {
+        this.dataTerminoDocumento = dataTerminoDocumento;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#codigoFilial()}.
+     *
+     * @param codigoFilial valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder codigoFilial(String codigoFilial) {
+        this.codigoFilial = codigoFilial;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#codigoSeguradoraLider()}.
+     *
+     * @param codigoSeguradoraLider valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder codigoSeguradoraLider(String codigoSeguradoraLider) {
+        this.codigoSeguradoraLider = codigoSeguradoraLider;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#apoliceCodigoLider()}.
+     *
+     * @param apoliceCodigoLider valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder apoliceCodigoLider(String apoliceCodigoLider) {
+        this.apoliceCodigoLider = apoliceCodigoLider;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#moedaApolice()}.
+     *
+     * @param moedaApolice valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder moedaApolice(String moedaApolice) {
+        this.moedaApolice = moedaApolice;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#limiteMaximoGarantia()}.
+     *
+     * @param limiteMaximoGarantia valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder limiteMaximoGarantia(Double limiteMaximoGarantia) {
+        this.limiteMaximoGarantia = limiteMaximoGarantia;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#limiteMaximoGarantiaReal()}.
+     *
+     * @param limiteMaximoGarantiaReal valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder limiteMaximoGarantiaReal(Double limiteMaximoGarantiaReal) {
+        this.limiteMaximoGarantiaReal = limiteMaximoGarantiaReal;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#coberturaBasica()}.
+     *
+     * @param coberturaBasica valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder coberturaBasica(Integer coberturaBasica) {
+        this.coberturaBasica = coberturaBasica;
+        return this;
+    }
+
+    /**
+     * Atribui {@link Endosso#endossosAssociados()} sem copiar a lista.
+     *
+     * @param endossosAssociados lista de elementos
+     * @return este builder
+     */
+    public EndossoBuilder endossosAssociados(List<EndossoAssociado> endossosAssociados) {
+        this.endossosAssociados.set(endossosAssociados);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Endosso#endossosAssociados()}.
+     *
+     * @param endossoAssociado elemento não nulo
+     * @return este builder
+     */
+    public EndossoBuilder addEndossoAssociado(EndossoAssociado endossoAssociado) {
+        this.endossosAssociados.add(endossoAssociado);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Endosso#ccgs()} sem copiar a lista.
+     *
+     * @param ccgs lista de elementos
+     * @return este builder
+     */
+    public EndossoBuilder ccgs(List<Ccg> ccgs) {
+        this.ccgs.set(ccgs);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Endosso#ccgs()}.
+     *
+     * @param ccg elemento não nulo
+     * @return este builder
+     */
+    public EndossoBuilder addCcg(Ccg ccg) {
+        this.ccgs.add(ccg);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Endosso#segurados()} sem copiar a lista.
+     *
+     * @param segurados lista de elementos
+     * @return este builder
+     */
+    public EndossoBuilder segurados(List<Segurado> segurados) {
+        this.segurados.set(segurados);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Endosso#segurados()}.
+     *
+     * @param segurado elemento não nulo
+     * @return este builder
+     */
+    public EndossoBuilder addSegurado(Segurado segurado) {
+        this.segurados.add(segurado);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Endosso#beneficiarios()} sem copiar a lista.
+     *
+     * @param beneficiarios lista de elementos
+     * @return este builder
+     */
+    public EndossoBuilder beneficiarios(List<Beneficiario> beneficiarios) {
+        this.beneficiarios.set(beneficiarios);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Endosso#beneficiarios()}.
+     *
+     * @param beneficiario elemento não nulo
+     * @return este builder
+     */
+    public EndossoBuilder addBeneficiario(Beneficiario beneficiario) {
+        this.beneficiarios.add(beneficiario);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Endosso#tomadores()} sem copiar a lista.
+     *
+     * @param tomadores lista de elementos
+     * @return este builder
+     */
+    public EndossoBuilder tomadores(List<Tomador> tomadores) {
+        this.tomadores.set(tomadores);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Endosso#tomadores()}.
+     *
+     * @param tomador elemento não nulo
+     * @return este builder
+     */
+    public EndossoBuilder addTomador(Tomador tomador) {
+        this.tomadores.add(tomador);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Endosso#intermediarios()} sem copiar a lista.
+     *
+     * @param intermediarios lista de elementos
+     * @return este builder
+     */
+    public EndossoBuilder intermediarios(List<Intermediario> intermediarios) {
+        this.intermediarios.set(intermediarios);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Endosso#intermediarios()}.
+     *
+     * @param intermediario elemento não nulo
+     * @return este builder
+     */
+    public EndossoBuilder addIntermediario(Intermediario intermediario) {
+        this.intermediarios.add(intermediario);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Endosso#objetosSegurados()} sem copiar a lista.
+     *
+     * @param objetosSegurados lista de elementos
+     * @return este builder
+     */
+    public EndossoBuilder objetosSegurados(List<ObjetoSegurado> objetosSegurados) {
+        this.objetosSegurados.set(objetosSegurados);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Endosso#objetosSegurados()}.
+     *
+     * @param objetoSegurado elemento não nulo
+     * @return este builder
+     */
+    public EndossoBuilder addObjetoSegurado(ObjetoSegurado objetoSegurado) {
+        this.objetosSegurados.add(objetoSegurado);
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#premioApolice()}.
+     *
+     * @param premioApolice valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder premioApolice(PremioApolice premioApolice) {
+        this.premioApolice = premioApolice;
+        return this;
+    }
+
+    /**
+     * Define {@link Endosso#cosseguro()}.
+     *
+     * @param cosseguro valor do componente
+     * @return este builder
+     */
+    public EndossoBuilder cosseguro(Cosseguro cosseguro) {
+        this.cosseguro = cosseguro;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Endosso build() {
+        return new Endosso(
+            uuid,
+            anotacao,
+            codigoSeguradora,
+            dataRegistro,
+            dataAlteracao,
+            indicadorExclusao,
+            tipoDocumentoEndossado,
+            apoliceCodigo,
+            numeroSusepApolice,
+            certificadoCodigo,
+            endossoCodigo,
+            endossoDescricao,
+            endossoTipo,
+            endossoAverbavel,
+            tipoEmissao,
+            dataEmissao,
+            dataInicio,
+            dataTermino,
+            dataInicioDocumento,
+            dataTerminoDocumento,
+            codigoFilial,
+            codigoSeguradoraLider,
+            apoliceCodigoLider,
+            moedaApolice,
+            limiteMaximoGarantia,
+            limiteMaximoGarantiaReal,
+            coberturaBasica,
+            endossosAssociados.toList(),
+            ccgs.toList(),
+            segurados.toList(),
+            beneficiarios.toList(),
+            tomadores.toList(),
+            intermediarios.toList(),
+            objetosSegurados.toList(),
+            premioApolice,
+            cosseguro
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public EndossoBuilder reset() {
+        uuid = null;
+        anotacao = null;
+        codigoSeguradora = null;
+        dataRegistro = null;
+        dataAlteracao = null;
+        indicadorExclusao = null;
+        tipoDocumentoEndossado = null;
+        apoliceCodigo = null;
+        numeroSusepApolice = null;
+        certificadoCodigo = null;
+        endossoCodigo = null;
+        endossoDescricao = null;
+        endossoTipo = null;
+        endossoAverbavel = null;
+        tipoEmissao = null;
+        dataEmissao = null;
+        dataInicio = null;
+        dataTermino = null;
+        dataInicioDocumento = null;
+        dataTerminoDocumento = null;
+        codigoFilial = null;
+        codigoSeguradoraLider = null;
+        apoliceCodigoLider = null;
+        moedaApolice = null;
+        limiteMaximoGarantia = null;
+        limiteMaximoGarantiaReal = null;
+        coberturaBasica = null;
+        endossosAssociados.clear();
+        ccgs.clear();
+        segurados.clear();
+        beneficiarios.clear();
+        tomadores.clear();
+        intermediarios.clear();
+        objetosSegurados.clear();
+        premioApolice = null;
+        cosseguro = null;
+        return this;
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.wesleyosantos91.susep.sro.model.fingerprint;
+
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Impressão digital de 128 bits do conteúdo de um agregado.
+ *
+ * <p>Dois agregados com o mesmo conteúdo (segundo {@code equals} dos records) possuem a mesma
+ * impressão digital; a recíproca vale com probabilidade de colisão desprezível (~2<sup>-64</sup>
+ * para 2<sup>32</sup> agregados). O valor é estável entre execuções e JVMs, podendo ser
+ * persistido para detecção de mudanças.</p>
+ *
+ * @param high 64 bits mais significativos
+ * @param low  64 bits menos significativos
+ */
+public record Fingerprint(long high, long low) {
+
+    /**
+     * Interpreta a representação hexadecimal produzida por {@link #toHex()}.
+     *
+     * @param hex 32 dígitos hexadecimais
+     * @return impressão digital
+     * @throws IllegalArgumentException se o texto não tiver 32 dígitos hexadecimais
+     */
+    public static Fingerprint fromHex(String hex) {
+        Objects.requireNonNull(hex, "Fingerprint é obrigatório");
+        if (hex.length() != 32) {
+            throw new IllegalArgumentException("Fingerprint deve ter 32 dígitos hexadecimais");
+        }
+        return new Fingerprint(HexFormat.fromHexDigitsToLong(hex, 0, 16), HexFormat.fromHexDigitsToLong(hex, 16, 32));
+    }
+
+    /**
+     * Interpreta a representação binária produzida por {@link #toByteArray()}.
+     *
+     * @param bytes 16 bytes em big-endian
+     * @return impressão digital
+     * @throws IllegalArgumentException se não houver exatamente 16 bytes
+     */
+    public static Fingerprint fromByteArray(byte[] bytes) {
+        Objects.requireNonNull(bytes, "Fingerprint é obrigatório");
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("Fingerprint deve ter 16 bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new Fingerprint(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * @return 16 bytes em big-endian ({@link #high()} seguido de {@link #low()}), para gravação ao lado do registro
+     */
+    public byte[] toByteArray() {
+        return ByteBuffer.allocate(16).putLong(high).putLong(low).array();
+    }
+
+    /**
+     * @return representação hexadecimal com 32 dígitos
+     */
+    public String toHex() {
+        return HexFormat.of().toHexDigits(high) + HexFormat.of().toHexDigits(low);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) low;
+    }
+
+    @Override
+    public String toString() {
+        return toHex();
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.wesleyosantos91.susep.sro.model.fingerprint;
+
+import java.util.Objects;
+
+/**
+ * Agregado acompanhado da sua impressão digital de conteúdo, calculada uma única vez.
+ *
+ * <p>{@code equals} e {@code hashCode} comparam apenas a {@link Fingerprint}, em tempo constante,
+ * em vez de percorrer o grafo inteiro do record (por exemplo, os milhares de segurados de uma
+ * apólice coletiva). Indicado como chave em mapas e conjuntos de deduplicação e para detectar
+ * mudanças entre versões de um mesmo agregado.</p>
+ *
+ * @param value       agregado
+ * @param fingerprint impressão digital do agregado
+ * @param <T>         tipo do agregado
+ */
+public record Fingerprinted<T extends Record>(T value, Fingerprint fingerprint) {
+
+    public Fingerprinted {
+        Objects.requireNonNull(value, "Agregado é obrigatório");
+        Objects.requireNonNull(fingerprint, "Fingerprint é obrigatório");
+    }
+
+    /**
+     * Envolve o agregado, calculando a sua impressão digital.
+     *
+     * @param value agregado
+     * @param <T>   tipo do agregado
+     * @return agregado com impressão digital
+     * @throws NullPointerException se o agregado for nulo
+     */
+    public static <T extends Record> Fingerprinted<T> of(T value) {
+        Objects.requireNonNull(value, "Agregado é obrigatório");
+        return new Fingerprinted<>(value, Fingerprinter.fingerprint(value));
+    }
+
+    /**
+     * Indica se o conteúdo do agregado informado difere deste.
+     *
+     * @param outro outra versão do agregado
+     * @return {@code true} se as impressões digitais diferirem
+     */
+    public boolean changedFrom(Fingerprinted<?> outro) {
+        return !fingerprint.equals(Objects.requireNonNull(outro, "Agregado é obrigatório").fingerprint);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Fingerprinted<?> outro && fingerprint.equals(outro.fingerprint);
+    }
+
+    @Override
+    public int hashCode() {
+        return fingerprint.hashCode();
+    }
+}
@@ -0,0 +1,221 @@
+package io.github.wesleyosantos91.susep.sro.model.fingerprint;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Calcula a {@link Fingerprint} de 128 bits do conteúdo de records do SRO.
+ *
+ * <p>Os componentes são percorridos na ordem de declaração, recursivamente, com uma marca de tipo
+ * antes de cada valor; o nome da classe de cada record entra no hash, de modo que records
+ * distintos com os mesmos valores não colidem. A igualdade é a mesma do {@code equals} gerado
+ * pelos records: a ordem das listas importa, {@code null} difere de lista vazia e
+ * {@link BigDecimal} considera a escala ({@code 1.0} difere de {@code 1.00}).</p>
+ *
+ * <p>O cálculo é uma única passagem pelos componentes, sem serializar o record nem depender de
+ * {@code hashCode}: o resultado é canônico e estável entre JVMs, podendo ser gravado ao lado do
+ * registro ({@link Fingerprint#toByteArray()}) e comparado com o de um registro recebido depois.
+ * Os acessores de cada tipo de record e a escrita de cada componente escalar são resolvidos uma
+ * única vez por classe. A classe é stateless e thread-safe.</p>
+ */
+public final class Fingerprinter {
+
+    private static final long SEED = 0x5352_4f5f_4650_0001L;
+
+    private static final long TAG_NULL = 0;
+    private static final long TAG_RECORD = 1;
+    private static final long TAG_STRING = 2;
+    private static final long TAG_INTEGER = 3;
+    private static final long TAG_LONG = 4;
+    private static final long TAG_DOUBLE = 5;
+    private static final long TAG_FLOAT = 6;
+    private static final long TAG_BIG_DECIMAL = 7;
+    private static final long TAG_LOCAL_DATE = 8;
+    private static final long TAG_BOOLEAN = 9;
+    private static final long TAG_LIST = 10;
+    private static final long TAG_SHORT = 11;
+    private static final long TAG_BYTE = 12;
+    private static final long TAG_CHARACTER = 13;
+    private static final long TAG_ENUM = 14;
+
+    private static final MethodType ACESSOR = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Estrutura> ESTRUTURAS = new ClassValue<>() {
+        @Override
+        protected Estrutura computeValue(Class<?> tipo) {
+            return Estrutura.of(tipo);
+        }
+    };
+
+    private Fingerprinter() {
+        throw new AssertionError("Classe utilitária não deve ser instanciada");
+    }
+
+    /**
+     * Calcula a impressão digital de um valor.
+     *
+     * @param valor record, lista ou valor simples suportado (pode ser nulo)
+     * @return impressão digital do conteúdo
+     * @throws IllegalArgumentException se o grafo contiver tipo não suportado
+     */
+    public static Fingerprint fingerprint(Object valor) {
+        Hasher128 hasher = new Hasher128(SEED);
+        put(hasher, valor);
+        return hasher.finish();
+    }
+
+    private static void put(Hasher128 hasher, Object valor) {
+        switch (valor) {
+            case null -> hasher.putLong(TAG_NULL);
+            case Record registro -> putRecord(hasher, registro);
+            case String texto -> hasher.putLong(TAG_STRING).putString(texto);
+            case Integer numero -> hasher.putLong(TAG_INTEGER).putLong(numero);
+            case Long numero -> hasher.putLong(TAG_LONG).putLong(numero);
+            case Double numero -> hasher.putLong(TAG_DOUBLE).putLong(Double.doubleToLongBits(numero));
+            case Float numero -> hasher.putLong(TAG_FLOAT).putLong(Float.floatToIntBits(numero));
+            case BigDecimal numero -> putBigDecimal(hasher, numero);
+            case LocalDate data -> hasher.putLong(TAG_LOCAL_DATE).putLong(data.toEpochDay());
+            case Boolean logico -> hasher.putLong(TAG_BOOLEAN).putLong(logico ? 1 : 0);
+            case List<?> lista -> putList(hasher, lista);
+            case Short numero -> hasher.putLong(TAG_SHORT).putLong(numero);
+            case Byte numero -> hasher.putLong(TAG_BYTE).putLong(numero);
+            case Character caractere -> hasher.putLong(TAG_CHARACTER).putLong(caractere);
+            case Enum<?> constante -> hasher.putLong(TAG_ENUM)
+                .putString(constante.getDeclaringClass().getName()).putString(constante.name());
+            default -> throw new IllegalArgumentException(
+                "Tipo não suportado para fingerprint: " + valor.getClass().getName());
+        }
+    }
+
+    private static void putRecord(Hasher128 hasher, Record registro) {
+        Estrutura estrutura = ESTRUTURAS.get(registro.getClass());
+        hasher.putLong(TAG_RECORD).putLong(estrutura.tipo());
+        MethodHandle[] acessores = estrutura.acessores();
+        Escritor[] escritores = estrutura.escritores();
+        for (int i = 0; i < acessores.length; i++) {
+            escritores[i].escrever(hasher, ler(acessores[i], registro));
+        }
+    }
+
+    private static void putList(Hasher128 hasher, List<?> lista) {
+        hasher.putLong(TAG_LIST).putLong(lista.size());
+        for (Object elemento : lista) {
+            put(hasher, elemento);
+        }
+    }
+
+    /**
+     * Valor não escalado em 64 bits quando possível; caso contrário, seus bytes em complemento de dois.
+     */
+    private static void putBigDecimal(Hasher128 hasher, BigDecimal numero) {
+        hasher.putLong(TAG_BIG_DECIMAL).putLong(numero.scale());
+        var naoEscalado = numero.unscaledValue();
+        if (naoEscalado.bitLength() < Long.SIZE) {
+            hasher.putLong(0).putLong(naoEscalado.longValue());
+        } else {
+            hasher.putLong(1).putBytes(naoEscalado.toByteArray());
+        }
+    }
+
+    private static Object ler(MethodHandle acessor, Record registro) {
+        try {
+            return acessor.invokeExact((Object) registro);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Falha ao ler componente de " + registro.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Escrita de um componente com a mesma marca de tipo e os mesmos bytes de {@link #put}, sem
+     * despacho pelo tipo em tempo de execução.
+     */
+    private interface Escritor {
+
+        void escrever(Hasher128 hasher, Object valor);
+    }
+
+    /**
+     * Escritor especializado quando o tipo declarado do componente é final e escalar; os demais
+     * (listas, records e tipos abertos) passam por {@link #put}.
+     */
+    private static Escritor escritor(Class<?> tipo) {
+        if (tipo == String.class) {
+            return (hasher, valor) -> {
+                if (valor == null) {
+                    hasher.putLong(TAG_NULL);
+                } else {
+                    hasher.putLong(TAG_STRING).putString((String) valor);
+                }
+            };
+        }
+        if (tipo == Integer.class || tipo == int.class) {
+            return (hasher, valor) -> {
+                if (valor == null) {
+                    hasher.putLong(TAG_NULL);
+                } else {
+                    hasher.putLong(TAG_INTEGER).putLong((Integer) valor);
+                }
+            };
+        }
+        if (tipo == Long.class || tipo == long.class) {
+            return (hasher, valor) -> {
+                if (valor == null) {
+                    hasher.putLong(TAG_NULL);
+                } else {
+                    hasher.putLong(TAG_LONG).putLong((Long) valor);
+                }
+            };
+        }
+        if (tipo == Double.class || tipo == double.class) {
+            return (hasher, valor) -> {
+                if (valor == null) {
+                    hasher.putLong(TAG_NULL);
+                } else {
+                    hasher.putLong(TAG_DOUBLE).putLong(Double.doubleToLongBits((Double) valor));
+                }
+            };
+        }
+        if (tipo == LocalDate.class) {
+            return (hasher, valor) -> {
+                if (valor == null) {
+                    hasher.putLong(TAG_NULL);
+                } else {
+                    hasher.putLong(TAG_LOCAL_DATE).putLong(((LocalDate) valor).toEpochDay());
+                }
+            };
+        }
+        return Fingerprinter::put;
+    }
+
+    /**
+     * Identificador estável do tipo, acessores e escritores dos componentes, na ordem de declaração.
+     */
+    private record Estrutura(long tipo, MethodHandle[] acessores, Escritor[] escritores) {
+
+        static Estrutura of(Class<?> tipo) {
+            RecordComponent[] componentes = tipo.getRecordComponents();
+            MethodHandle[] acessores = new MethodHandle[componentes.length];
+            Escritor[] escritores = new Escritor[componentes.length];
+            for (int i = 0; i < componentes.length; i++) {
+                escritores[i] = escritor(componentes[i].getType());
+                Method acessor = componentes[i].getAccessor();
+                acessor.trySetAccessible();
+                try {
+                    acessores[i] = MethodHandles.lookup().unreflect(acessor).asType(ACESSOR);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalArgumentException("Record inacessível para fingerprint: " + tipo.getName(), e);
+                }
+            }
+            Fingerprint nome = new Hasher128(SEED).putString(tipo.getName()).finish();
+            return new Estrutura(nome.high() ^ nome.low(), acessores, escritores);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.wesleyosantos91.susep.sro.model.fingerprint;
+
+/**
+ * Hash incremental de 128 bits no esquema do MurmurHash3 x64_128.
+ *
+ * <p>A entrada é uma sequência de palavras de 64 bits; o resultado equivale ao MurmurHash3 dos
+ * bytes dessas palavras em little-endian. Instâncias são de uso único e não são thread-safe.</p>
+ */
+final class Hasher128 {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private long h1;
+    private long h2;
+    private long pendente;
+    private boolean temPendente;
+    private long palavras;
+
+    Hasher128(long seed) {
+        this.h1 = seed;
+        this.h2 = seed;
+    }
+
+    Hasher128 putLong(long valor) {
+        if (temPendente) {
+            bloco(pendente, valor);
+            temPendente = false;
+        } else {
+            pendente = valor;
+            temPendente = true;
+        }
+        palavras++;
+        return this;
+    }
+
+    /**
+     * Caracteres agrupados de quatro em quatro, precedidos pelo comprimento.
+     */
+    Hasher128 putString(String texto) {
+        int tamanho = texto.length();
+        putLong(tamanho);
+        int i = 0;
+        for (; i + 4 <= tamanho; i += 4) {
+            putLong(texto.charAt(i)
+                | (long) texto.charAt(i + 1) << 16
+                | (long) texto.charAt(i + 2) << 32
+                | (long) texto.charAt(i + 3) << 48);
+        }
+        if (i < tamanho) {
+            long resto = 0;
+            for (int deslocamento = 0; i < tamanho; i++, deslocamento += 16) {
+                resto |= (long) texto.charAt(i) << deslocamento;
+            }
+            putLong(resto);
+        }
+        return this;
+    }
+
+    /**
+     * Bytes agrupados de oito em oito, precedidos pelo comprimento.
+     */
+    Hasher128 putBytes(byte[] bytes) {
+        putLong(bytes.length);
+        long palavra = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            palavra |= (bytes[i] & 0xFFL) << ((i & 7) * 8);
+            if ((i & 7) == 7) {
+                putLong(palavra);
+                palavra = 0;
+            }
+        }
+        if ((bytes.length & 7) != 0) {
+            putLong(palavra);
+        }
+        return this;
+    }
+
+    Fingerprint finish() {
+        if (temPendente) {
+            h1 ^= Long.rotateLeft(pendente * C1, 31) * C2;
+        }
+        long tamanho = palavras * Long.BYTES;
+        h1 ^= tamanho;
+        h2 ^= tamanho;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        h2 += h1;
+        return new Fingerprint(h1, h2);
+    }
+
+    private void bloco(long k1, long k2) {
+        h1 ^= Long.rotateLeft(k1 * C1, 31) * C2;
+        h1 = Long.rotateLeft(h1, 27) + h2;
+        h1 = h1 * 5 + 0x52dce729;
+
+        h2 ^= Long.rotateLeft(k2 * C2, 33) * C1;
+        h2 = Long.rotateLeft(h2, 31) + h1;
+        h2 = h2 * 5 + 0x38495ab5;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
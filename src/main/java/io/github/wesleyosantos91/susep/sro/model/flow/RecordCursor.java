@@ -0,0 +1,30 @@
+package io.github.wesleyosantos91.susep.sro.model.flow;
+
+import java.io.IOException;
+
+/**
+ * Leitura sequencial de registros sob demanda, usada pelo {@link RecordPublisher}.
+ *
+ * <p>Cada assinante recebe o seu cursor, aberto na primeira demanda e fechado ao fim, no
+ * cancelamento ou em erro. Os métodos são chamados por uma thread de cada vez, nunca
+ * concorrentemente.</p>
+ *
+ * @param <T> tipo do registro
+ */
+public interface RecordCursor<T> extends AutoCloseable {
+
+    /**
+     * @return próximo registro, ou {@code null} ao fim da origem
+     * @throws Exception se a leitura falhar; o erro é repassado ao assinante
+     */
+    T next() throws Exception;
+
+    /**
+     * Libera os recursos da origem; por padrão, nada a liberar.
+     *
+     * @throws IOException se a origem não puder ser fechada
+     */
+    @Override
+    default void close() throws IOException {
+    }
+}
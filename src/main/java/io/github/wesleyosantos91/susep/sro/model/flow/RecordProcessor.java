@@ -0,0 +1,314 @@
+package io.github.wesleyosantos91.susep.sro.model.flow;
+
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.DocumentoBuilder;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link Flow.Processor} que converte e valida cada item recebido, com buffer limitado e pedidos
+ * ao publicador de origem agrupados.
+ *
+ * <p>O uso típico é validar agregados a partir de uma forma ainda não validada, como os builders
+ * do modelo ({@code RecordProcessor.builder(DocumentoBuilder::build)}): as validações dos records
+ * ficam nos construtores canônicos, e um item inválido vira uma {@link Rejection} entregue ao
+ * tratador, sem encerrar o fluxo. Sem tratador, a primeira rejeição encerra o fluxo com
+ * {@code onError}, após cancelar a origem.</p>
+ *
+ * <p>O processador nunca pede à origem mais que {@code bufferSize} itens sem que tenham sido
+ * consumidos: {@code onNext} apenas enfileira o item e agenda a conversão, sem bloquear a thread
+ * da origem. Os itens consumidos são repostos em pedidos de pelo menos metade do buffer, e não um
+ * a um. A conversão e as notificações ao assinante ocorrem em tarefas do {@link Executor}, uma por
+ * vez. Aceita um único assinante.</p>
+ *
+ * @param <I> tipo dos itens recebidos
+ * @param <O> tipo dos itens emitidos
+ */
+public final class RecordProcessor<I, O> implements Flow.Processor<I, O> {
+
+    private final Function<? super I, ? extends O> funcao;
+    private final Consumer<? super Rejection<I>> rejeitados;
+    private final Executor executor;
+    private final int capacidade;
+    private final int reposicao;
+    private final Queue<I> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger ocupados = new AtomicInteger();
+    private final AtomicLong demanda = new AtomicLong();
+    private final AtomicInteger trabalho = new AtomicInteger();
+    private final AtomicReference<Flow.Subscriber<? super O>> assinante = new AtomicReference<>();
+    private final AtomicReference<Flow.Subscription> origem = new AtomicReference<>();
+    private volatile boolean origemConcluida;
+    private volatile Throwable erroOrigem;
+    private volatile Throwable falha;
+    private volatile boolean cancelado;
+    private boolean encerrado;
+    private boolean iniciado;
+    private int consumidos;
+
+    private RecordProcessor(Builder<I, O> builder) {
+        this.funcao = builder.funcao;
+        this.rejeitados = builder.rejeitados;
+        this.executor = builder.executor;
+        this.capacidade = builder.capacidade;
+        this.reposicao = Math.max(1, builder.capacidade / 2);
+    }
+
+    /**
+     * @param funcao conversão de cada item; exceções de tempo de execução rejeitam o item e
+     *               {@code null} o descarta
+     * @param <I>    tipo dos itens recebidos
+     * @param <O>    tipo dos itens emitidos
+     * @return construtor com buffer de {@link Flow#defaultBufferSize()} itens, sem tratador de
+     *         rejeições e com o {@link ForkJoinPool#commonPool()}
+     */
+    public static <I, O> Builder<I, O> builder(Function<? super I, ? extends O> funcao) {
+        return new Builder<>(funcao);
+    }
+
+    /**
+     * Processador de validação de documentos a partir dos seus builders.
+     *
+     * @param rejeitados tratador dos builders rejeitados pelas validações
+     * @param executor   executor das validações e notificações
+     * @return processador que emite os documentos válidos
+     */
+    public static RecordProcessor<DocumentoBuilder, Documento> documentos(
+            Consumer<? super Rejection<DocumentoBuilder>> rejeitados, Executor executor) {
+        return RecordProcessor.<DocumentoBuilder, Documento>builder(DocumentoBuilder::build)
+            .onRejected(rejeitados)
+            .executor(executor)
+            .build();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super O> novo) {
+        Objects.requireNonNull(novo, "Assinante é obrigatório");
+        if (!assinante.compareAndSet(null, novo)) {
+            novo.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            novo.onError(new IllegalStateException("RecordProcessor aceita um único assinante"));
+            return;
+        }
+        novo.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    falha = new IllegalArgumentException("Demanda deve ser positiva: " + n);
+                } else {
+                    demanda.getAndAccumulate(n, (atual, pedido) -> atual + pedido < 0 ? Long.MAX_VALUE : atual + pedido);
+                }
+                agendar();
+            }
+
+            @Override
+            public void cancel() {
+                cancelado = true;
+                agendar();
+            }
+        });
+        agendar();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription assinatura) {
+        Objects.requireNonNull(assinatura, "Assinatura é obrigatória");
+        if (!origem.compareAndSet(null, assinatura)) {
+            assinatura.cancel();
+            return;
+        }
+        agendar();
+    }
+
+    @Override
+    public void onNext(I item) {
+        Objects.requireNonNull(item, "Item é obrigatório");
+        if (ocupados.incrementAndGet() > capacidade) {
+            falha = new IllegalStateException("Origem enviou mais itens que o pedido: buffer de " + capacidade);
+        } else {
+            buffer.offer(item);
+        }
+        agendar();
+    }
+
+    @Override
+    public void onError(Throwable falha) {
+        erroOrigem = Objects.requireNonNull(falha, "Erro é obrigatório");
+        origemConcluida = true;
+        agendar();
+    }
+
+    @Override
+    public void onComplete() {
+        origemConcluida = true;
+        agendar();
+    }
+
+    private void agendar() {
+        if (trabalho.getAndIncrement() == 0) {
+            try {
+                executor.execute(this::laco);
+            } catch (RuntimeException e) {
+                falha = e;
+                laco();
+            }
+        }
+    }
+
+    /**
+     * Laço de emissão, serializado pelo contador {@code trabalho}.
+     */
+    private void laco() {
+        int sinais = 1;
+        do {
+            drenar();
+            sinais = trabalho.addAndGet(-sinais);
+        } while (sinais != 0);
+    }
+
+    private void drenar() {
+        Flow.Subscriber<? super O> destino = assinante.get();
+        Flow.Subscription fonte = origem.get();
+        if (encerrado || destino == null || fonte == null) {
+            return;
+        }
+        if (!iniciado) {
+            iniciado = true;
+            fonte.request(capacidade);
+        }
+        while (true) {
+            if (cancelado) {
+                encerrar(fonte, true);
+                return;
+            }
+            if (falha != null) {
+                encerrar(fonte, true);
+                destino.onError(falha);
+                return;
+            }
+            boolean concluida = origemConcluida;
+            if (buffer.isEmpty()) {
+                if (concluida) {
+                    encerrar(fonte, false);
+                    if (erroOrigem != null) {
+                        destino.onError(erroOrigem);
+                    } else {
+                        destino.onComplete();
+                    }
+                }
+                return;
+            }
+            if (demanda.get() == 0) {
+                return;
+            }
+            I item = buffer.poll();
+            ocupados.decrementAndGet();
+            repor(fonte);
+            O convertido;
+            try {
+                convertido = funcao.apply(item);
+            } catch (RuntimeException e) {
+                if (rejeitados == null) {
+                    falha = e;
+                } else {
+                    rejeitados.accept(new Rejection<>(item, e));
+                }
+                continue;
+            }
+            if (convertido != null) {
+                demanda.decrementAndGet();
+                destino.onNext(convertido);
+            }
+        }
+    }
+
+    /**
+     * Repõe os itens consumidos à origem quando acumularem {@code reposicao}.
+     */
+    private void repor(Flow.Subscription fonte) {
+        if (++consumidos >= reposicao && !origemConcluida) {
+            fonte.request(consumidos);
+            consumidos = 0;
+        }
+    }
+
+    private void encerrar(Flow.Subscription fonte, boolean cancelarOrigem) {
+        encerrado = true;
+        buffer.clear();
+        if (cancelarOrigem) {
+            fonte.cancel();
+        }
+    }
+
+    /**
+     * Configuração do processador.
+     *
+     * @param <I> tipo dos itens recebidos
+     * @param <O> tipo dos itens emitidos
+     */
+    public static final class Builder<I, O> {
+
+        private final Function<? super I, ? extends O> funcao;
+        private Consumer<? super Rejection<I>> rejeitados;
+        private Executor executor = ForkJoinPool.commonPool();
+        private int capacidade = Flow.defaultBufferSize();
+
+        private Builder(Function<? super I, ? extends O> funcao) {
+            this.funcao = Objects.requireNonNull(funcao, "Função é obrigatória");
+        }
+
+        /**
+         * @param rejeitados tratador dos itens rejeitados, chamado na thread da conversão
+         * @return este construtor
+         */
+        public Builder<I, O> onRejected(Consumer<? super Rejection<I>> rejeitados) {
+            this.rejeitados = Objects.requireNonNull(rejeitados, "Tratador é obrigatório");
+            return this;
+        }
+
+        /**
+         * @param executor executor das conversões e notificações
+         * @return este construtor
+         */
+        public Builder<I, O> executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "Executor é obrigatório");
+            return this;
+        }
+
+        /**
+         * @param capacidade itens pedidos à origem e ainda não consumidos, no máximo
+         * @return este construtor
+         * @throws IllegalArgumentException se a capacidade não for positiva
+         */
+        public Builder<I, O> bufferSize(int capacidade) {
+            if (capacidade <= 0) {
+                throw new IllegalArgumentException("Capacidade do buffer deve ser positiva: " + capacidade);
+            }
+            this.capacidade = capacidade;
+            return this;
+        }
+
+        /**
+         * @return processador ainda sem origem nem assinante
+         */
+        public RecordProcessor<I, O> build() {
+            return new RecordProcessor<>(this);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package io.github.wesleyosantos91.susep.sro.model.flow;
+
+import io.github.wesleyosantos91.susep.sro.model.batch.BatchPacker;
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryReader;
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryWriter;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Flow.Publisher} frio de registros lidos sob demanda de um {@link RecordCursor}.
+ *
+ * <p>Cada assinante recebe o seu cursor, e os registros só são lidos quando há demanda: nada é
+ * acumulado entre a origem e o assinante, de modo que a memória ocupada não depende do tamanho do
+ * arquivo nem da velocidade do consumidor. A leitura e as chamadas a {@code onNext} ocorrem em
+ * tarefas do {@link Executor}, cada uma com no máximo {@code batchSize} registros antes de ceder
+ * a thread, sem thread dedicada por arquivo e sem bloqueio no {@code onNext} do assinante. Cada
+ * assinante é notificado por uma tarefa de cada vez, como exige {@link Flow}.</p>
+ *
+ * <p>Thread-safe; {@link #subscribe(Flow.Subscriber)} pode ser chamado várias vezes.</p>
+ *
+ * @param <T> tipo do registro
+ */
+public final class RecordPublisher<T> implements Flow.Publisher<T> {
+
+    /** Quantidade padrão de registros emitidos por tarefa do executor. */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final Callable<? extends RecordCursor<? extends T>> abrir;
+    private final Executor executor;
+    private final int lote;
+
+    private RecordPublisher(Callable<? extends RecordCursor<? extends T>> abrir, Executor executor, int lote) {
+        this.abrir = Objects.requireNonNull(abrir, "Origem é obrigatória");
+        this.executor = Objects.requireNonNull(executor, "Executor é obrigatório");
+        if (lote <= 0) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser positivo: " + lote);
+        }
+        this.lote = lote;
+    }
+
+    /**
+     * @param abrir    abertura do cursor de cada assinante, chamada na primeira demanda
+     * @param executor executor das leituras e notificações
+     * @param <T>      tipo do registro
+     * @return publicador com o tamanho de lote padrão
+     */
+    public static <T> RecordPublisher<T> of(Callable<? extends RecordCursor<? extends T>> abrir, Executor executor) {
+        return new RecordPublisher<>(abrir, executor, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param abrir    abertura do cursor de cada assinante, chamada na primeira demanda
+     * @param executor executor das leituras e notificações
+     * @param lote     quantidade máxima de registros emitidos por tarefa do executor
+     * @param <T>      tipo do registro
+     * @return publicador
+     * @throws IllegalArgumentException se o lote não for positivo
+     */
+    public static <T> RecordPublisher<T> of(Callable<? extends RecordCursor<? extends T>> abrir, Executor executor,
+                                            int lote) {
+        return new RecordPublisher<>(abrir, executor, lote);
+    }
+
+    /**
+     * @param registros registros a emitir (elementos nulos são rejeitados com {@code onError})
+     * @param executor  executor das notificações
+     * @param <T>       tipo do registro
+     * @return publicador dos registros, na ordem de iteração
+     */
+    public static <T> RecordPublisher<T> fromIterable(Iterable<? extends T> registros, Executor executor) {
+        Objects.requireNonNull(registros, "Registros são obrigatórios");
+        return of(() -> {
+            Iterator<? extends T> iterator = registros.iterator();
+            return () -> {
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+                return Objects.requireNonNull(iterator.next(), "Registro nulo na origem");
+            };
+        }, executor);
+    }
+
+    /**
+     * Publicador dos quadros de um arquivo gravado com {@link BatchPacker#frame(Record)} (por
+     * exemplo, lotes de {@link BatchPacker#records} gravados sem envelope), lido em sequência.
+     *
+     * @param arquivo  arquivo de quadros
+     * @param tipo     classe dos records do arquivo
+     * @param executor executor das leituras e notificações
+     * @param <T>      tipo do record
+     * @return publicador dos records, na ordem do arquivo
+     */
+    public static <T extends Record> RecordPublisher<T> fromFrames(Path arquivo, Class<T> tipo, Executor executor) {
+        Objects.requireNonNull(arquivo, "Arquivo é obrigatório");
+        Objects.requireNonNull(tipo, "Tipo é obrigatório");
+        return of(() -> new Quadros<>(new BufferedInputStream(Files.newInputStream(arquivo)), tipo), executor);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> assinante) {
+        Objects.requireNonNull(assinante, "Assinante é obrigatório");
+        Assinatura<T> assinatura = new Assinatura<>(this, assinante);
+        assinante.onSubscribe(assinatura);
+    }
+
+    /**
+     * Estado de um assinante. O laço de emissão é serializado pelo contador {@code trabalho}: quem
+     * o incrementa de zero agenda a tarefa, e a tarefa repete enquanto houver sinais pendentes.
+     */
+    private static final class Assinatura<T> implements Flow.Subscription, Runnable {
+
+        private final RecordPublisher<T> publicador;
+        private final Flow.Subscriber<? super T> assinante;
+        private final AtomicLong demanda = new AtomicLong();
+        private final AtomicInteger trabalho = new AtomicInteger();
+        private volatile boolean cancelada;
+        private volatile Throwable pedidoInvalido;
+        private RecordCursor<? extends T> cursor;
+        private boolean encerrada;
+
+        private Assinatura(RecordPublisher<T> publicador, Flow.Subscriber<? super T> assinante) {
+            this.publicador = publicador;
+            this.assinante = assinante;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                pedidoInvalido = new IllegalArgumentException("Demanda deve ser positiva: " + n);
+            } else {
+                demanda.getAndAccumulate(n, (atual, pedido) -> atual + pedido < 0 ? Long.MAX_VALUE : atual + pedido);
+            }
+            agendar();
+        }
+
+        @Override
+        public void cancel() {
+            cancelada = true;
+            agendar();
+        }
+
+        private void agendar() {
+            if (trabalho.getAndIncrement() == 0) {
+                executar();
+            }
+        }
+
+        private void executar() {
+            try {
+                publicador.executor.execute(this);
+            } catch (RuntimeException e) {
+                falhar(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            int sinais = 1;
+            while (true) {
+                if (emitir()) {
+                    executar();
+                    return;
+                }
+                sinais = trabalho.addAndGet(-sinais);
+                if (sinais == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Emite até um lote de registros.
+         *
+         * @return {@code true} se o lote se completou com demanda restante, e a thread deve ser cedida
+         */
+        private boolean emitir() {
+            if (encerrada) {
+                return false;
+            }
+            if (cancelada) {
+                fechar();
+                return false;
+            }
+            if (pedidoInvalido != null) {
+                falhar(pedidoInvalido);
+                return false;
+            }
+            int emitidos = 0;
+            while (demanda.get() > 0) {
+                if (emitidos == publicador.lote) {
+                    return true;
+                }
+                T registro;
+                try {
+                    if (cursor == null) {
+                        cursor = Objects.requireNonNull(publicador.abrir.call(), "Cursor é obrigatório");
+                    }
+                    registro = cursor.next();
+                } catch (Exception e) {
+                    falhar(e);
+                    return false;
+                }
+                if (registro == null) {
+                    fechar();
+                    assinante.onComplete();
+                    return false;
+                }
+                demanda.decrementAndGet();
+                emitidos++;
+                assinante.onNext(registro);
+                if (cancelada) {
+                    fechar();
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        private void falhar(Throwable erro) {
+            if (!encerrada) {
+                fechar();
+                assinante.onError(erro);
+            }
+        }
+
+        private void fechar() {
+            if (encerrada) {
+                return;
+            }
+            encerrada = true;
+            demanda.set(0);
+            if (cursor != null) {
+                try {
+                    cursor.close();
+                } catch (IOException | RuntimeException e) {
+                    // o assinante já foi ou será notificado; a falha ao liberar a origem não muda o resultado
+                }
+            }
+        }
+    }
+
+    /**
+     * Cursor de quadros do {@link BatchPacker}: esquema (8 bytes), tamanho (inteiro variável) e corpo.
+     */
+    private static final class Quadros<T extends Record> implements RecordCursor<T> {
+
+        private final InputStream entrada;
+        private final Class<T> tipo;
+
+        private Quadros(InputStream entrada, Class<T> tipo) {
+            this.entrada = entrada;
+            this.tipo = tipo;
+        }
+
+        @Override
+        public T next() throws Exception {
+            byte[] esquema = entrada.readNBytes(Long.BYTES);
+            if (esquema.length == 0) {
+                return null;
+            }
+            if (esquema.length < Long.BYTES) {
+                throw new EOFException("Quadro truncado no esquema");
+            }
+            BinaryWriter quadro = new BinaryWriter();
+            quadro.writeBytes(esquema);
+            long tamanho = 0;
+            for (int deslocamento = 0; ; deslocamento += 7) {
+                int b = entrada.read();
+                if (b < 0 || deslocamento > 63) {
+                    throw new EOFException("Quadro truncado no tamanho");
+                }
+                quadro.writeByte(b);
+                tamanho |= (long) (b & 0x7F) << deslocamento;
+                if ((b & 0x80) == 0) {
+                    break;
+                }
+            }
+            byte[] corpo = entrada.readNBytes(Math.toIntExact(tamanho));
+            if (corpo.length < tamanho) {
+                throw new EOFException("Quadro truncado: " + tamanho + " bytes declarados");
+            }
+            quadro.writeBytes(corpo);
+            return BatchPacker.readFrame(new BinaryReader(quadro.toByteArray()), tipo);
+        }
+
+        @Override
+        public void close() throws IOException {
+            entrada.close();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.wesleyosantos91.susep.sro.model.flow;
+
+import java.util.Objects;
+
+/**
+ * Item rejeitado pela função de um {@link RecordProcessor} (em geral, por uma validação do record).
+ *
+ * @param item  item recebido
+ * @param cause exceção lançada
+ * @param <I>   tipo do item
+ */
+public record Rejection<I>(I item, RuntimeException cause) {
+
+    public Rejection {
+        Objects.requireNonNull(cause, "Causa é obrigatória");
+    }
+}
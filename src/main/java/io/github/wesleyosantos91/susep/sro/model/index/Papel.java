@@ -0,0 +1,28 @@
+package io.github.wesleyosantos91.susep.sro.model.index;
+
+/**
+ * Papel em que uma pessoa física ou jurídica aparece em um agregado do SRO.
+ */
+public enum Papel {
+
+    /** {@code documento.Segurado}. */
+    SEGURADO,
+
+    /** {@code documento.Beneficiario}. */
+    BENEFICIARIO,
+
+    /** {@code documento.Tomador}. */
+    TOMADOR,
+
+    /** {@code documento.Intermediario}. */
+    INTERMEDIARIO,
+
+    /** {@code ccg.Fiador}. */
+    FIADOR_CCG,
+
+    /** {@code ccg.Tomador}. */
+    TOMADOR_CCG,
+
+    /** {@code complauto.PessoasAssociadasCondutor}. */
+    CONDUTOR
+}
@@ -0,0 +1,18 @@
+package io.github.wesleyosantos91.susep.sro.model.index;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Participação de uma pessoa em um agregado.
+ *
+ * @param agregado UUID do agregado (documento, endosso ou registro informado na indexação)
+ * @param papel    papel da pessoa no agregado
+ */
+public record Participacao(UUID agregado, Papel papel) {
+
+    public Participacao {
+        Objects.requireNonNull(agregado, "UUID do agregado é obrigatório");
+        Objects.requireNonNull(papel, "Papel é obrigatório");
+    }
+}
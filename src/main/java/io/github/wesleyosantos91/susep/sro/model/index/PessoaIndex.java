@@ -0,0 +1,220 @@
+package io.github.wesleyosantos91.susep.sro.model.index;
+
+import io.github.wesleyosantos91.susep.sro.model.complauto.ComplAuto;
+import io.github.wesleyosantos91.susep.sro.model.complauto.PessoasAssociadasCondutor;
+import io.github.wesleyosantos91.susep.sro.model.ccg.Ccg;
+import io.github.wesleyosantos91.susep.sro.model.ccg.Fiador;
+import io.github.wesleyosantos91.susep.sro.model.documento.Beneficiario;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.Intermediario;
+import io.github.wesleyosantos91.susep.sro.model.documento.Segurado;
+import io.github.wesleyosantos91.susep.sro.model.documento.Tomador;
+import io.github.wesleyosantos91.susep.sro.model.endosso.Endosso;
+import io.github.wesleyosantos91.susep.sro.model.util.CpfCnpj;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Índice invertido de pessoas por CPF/CNPJ, atravessando os papéis em que aparecem.
+ *
+ * <p>A chave é o documento empacotado por {@link CpfCnpj#pack(CharSequence)}; cada chave aponta
+ * para a lista de {@link Participacao} (UUID do agregado e {@link Papel}) sem repetição.
+ * Documentos que não são CPF nem CNPJ (passaporte, outros) não são indexados.</p>
+ *
+ * <p>A indexação é incremental e pode ser feita concorrentemente: cada inclusão ou remoção
+ * bloqueia apenas o bin da chave afetada e a lista dela. Consultas leem a lista sob o monitor da
+ * própria lista e devolvem uma cópia. Reindexar o mesmo agregado é idempotente; participações
+ * que deixaram de existir em uma nova versão devem ser removidas com
+ * {@link #remove(String, UUID, Papel)}.</p>
+ */
+public final class PessoaIndex {
+
+    private final ConcurrentHashMap<Long, Postings> pessoas = new ConcurrentHashMap<>();
+    private final LongAdder participacoes = new LongAdder();
+
+    /**
+     * Indexa segurados, beneficiários, tomadores e intermediários do documento sob o seu UUID.
+     *
+     * @param documento documento
+     * @return quantidade de participações novas
+     */
+    public int index(Documento documento) {
+        Objects.requireNonNull(documento, "Documento é obrigatório");
+        return indexarPessoas(UUID.fromString(documento.uuid()), documento.segurados(), documento.beneficiarios(),
+            documento.tomadores(), documento.intermediarios());
+    }
+
+    /**
+     * Indexa segurados, beneficiários, tomadores e intermediários do endosso sob o seu UUID.
+     *
+     * @param endosso endosso
+     * @return quantidade de participações novas
+     */
+    public int index(Endosso endosso) {
+        Objects.requireNonNull(endosso, "Endosso é obrigatório");
+        return indexarPessoas(UUID.fromString(endosso.uuid()), endosso.segurados(), endosso.beneficiarios(),
+            endosso.tomadores(), endosso.intermediarios());
+    }
+
+    /**
+     * Indexa fiadores e tomadores do contrato de contragarantia, que não tem UUID próprio.
+     *
+     * @param agregado UUID sob o qual o contrato é indexado (por exemplo, o do documento)
+     * @param ccg      contrato de contragarantia
+     * @return quantidade de participações novas
+     */
+    public int index(UUID agregado, Ccg ccg) {
+        Objects.requireNonNull(agregado, "UUID do agregado é obrigatório");
+        Objects.requireNonNull(ccg, "CCG é obrigatório");
+        int novas = 0;
+        for (Fiador fiador : ccg.fiadors()) {
+            novas += incluir(fiador.documento(), agregado, Papel.FIADOR_CCG);
+        }
+        for (var tomador : ccg.tomadors()) {
+            novas += incluir(tomador.documento(), agregado, Papel.TOMADOR_CCG);
+        }
+        return novas;
+    }
+
+    /**
+     * Indexa os condutores do complemento auto, que não tem UUID próprio.
+     *
+     * @param agregado  UUID sob o qual o complemento é indexado (por exemplo, o do documento)
+     * @param complAuto complemento auto
+     * @return quantidade de participações novas
+     */
+    public int index(UUID agregado, ComplAuto complAuto) {
+        Objects.requireNonNull(agregado, "UUID do agregado é obrigatório");
+        Objects.requireNonNull(complAuto, "Complemento auto é obrigatório");
+        int novas = 0;
+        for (PessoasAssociadasCondutor condutor : complAuto.pessoasAssociadasCondutors()) {
+            novas += incluir(condutor.documento(), agregado, Papel.CONDUTOR);
+        }
+        return novas;
+    }
+
+    /**
+     * Inclui uma participação.
+     *
+     * @param documento CPF ou CNPJ, com ou sem máscara
+     * @param agregado  UUID do agregado
+     * @param papel     papel da pessoa no agregado
+     * @return {@code true} se a participação for nova; {@code false} se já existir ou se o
+     *     documento não for CPF nem CNPJ
+     */
+    public boolean add(String documento, UUID agregado, Papel papel) {
+        Objects.requireNonNull(agregado, "UUID do agregado é obrigatório");
+        Objects.requireNonNull(papel, "Papel é obrigatório");
+        return incluir(documento, agregado, papel) == 1;
+    }
+
+    /**
+     * Remove uma participação.
+     *
+     * @param documento CPF ou CNPJ, com ou sem máscara
+     * @param agregado  UUID do agregado
+     * @param papel     papel da pessoa no agregado
+     * @return {@code true} se a participação existia
+     */
+    public boolean remove(String documento, UUID agregado, Papel papel) {
+        Objects.requireNonNull(agregado, "UUID do agregado é obrigatório");
+        Objects.requireNonNull(papel, "Papel é obrigatório");
+        long chave = CpfCnpj.pack(documento);
+        if (chave == CpfCnpj.NULL) {
+            return false;
+        }
+        boolean[] removida = new boolean[1];
+        pessoas.computeIfPresent(chave, (c, lista) -> {
+            synchronized (lista) {
+                removida[0] = lista.remove(agregado.getMostSignificantBits(), agregado.getLeastSignificantBits(), papel);
+                return lista.size() == 0 ? null : lista;
+            }
+        });
+        if (removida[0]) {
+            participacoes.decrement();
+        }
+        return removida[0];
+    }
+
+    /**
+     * Participações de um CPF ou CNPJ.
+     *
+     * @param documento CPF ou CNPJ, com ou sem máscara
+     * @return participações, em ordem arbitrária (vazia se desconhecido ou não representável)
+     */
+    public List<Participacao> lookup(String documento) {
+        return lookup(CpfCnpj.pack(documento));
+    }
+
+    /**
+     * Participações de um documento empacotado.
+     *
+     * @param chave documento empacotado por {@link CpfCnpj#pack(CharSequence)}
+     * @return participações, em ordem arbitrária
+     */
+    public List<Participacao> lookup(long chave) {
+        Postings lista = pessoas.get(chave);
+        if (lista == null) {
+            return List.of();
+        }
+        synchronized (lista) {
+            return lista.snapshot();
+        }
+    }
+
+    /**
+     * @return quantidade de CPFs/CNPJs distintos indexados
+     */
+    public int size() {
+        return pessoas.size();
+    }
+
+    /**
+     * @return quantidade total de participações indexadas
+     */
+    public long participationCount() {
+        return participacoes.sum();
+    }
+
+    private int indexarPessoas(UUID agregado, List<Segurado> segurados, List<Beneficiario> beneficiarios,
+                               List<Tomador> tomadores, List<Intermediario> intermediarios) {
+        int novas = 0;
+        for (Segurado segurado : segurados) {
+            novas += incluir(segurado.documento(), agregado, Papel.SEGURADO);
+        }
+        for (Beneficiario beneficiario : beneficiarios) {
+            novas += incluir(beneficiario.documento(), agregado, Papel.BENEFICIARIO);
+        }
+        for (Tomador tomador : tomadores) {
+            novas += incluir(tomador.documento(), agregado, Papel.TOMADOR);
+        }
+        for (Intermediario intermediario : intermediarios) {
+            novas += incluir(intermediario.documento(), agregado, Papel.INTERMEDIARIO);
+        }
+        return novas;
+    }
+
+    private int incluir(String documento, UUID agregado, Papel papel) {
+        long chave = CpfCnpj.pack(documento);
+        if (chave == CpfCnpj.NULL) {
+            return 0;
+        }
+        boolean[] incluida = new boolean[1];
+        pessoas.compute(chave, (c, lista) -> {
+            Postings destino = lista == null ? new Postings() : lista;
+            synchronized (destino) {
+                incluida[0] = destino.add(agregado.getMostSignificantBits(), agregado.getLeastSignificantBits(), papel);
+            }
+            return destino;
+        });
+        if (incluida[0]) {
+            participacoes.increment();
+            return 1;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.wesleyosantos91.susep.sro.model.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lista de participações de um documento de pessoa, sem repetição.
+ *
+ * <p>As entradas ficam em arrays paralelos (dois {@code long} do UUID e um {@code byte} do papel)
+ * organizados como tabela de endereçamento aberto com sondagem linear, o que dá inclusão e
+ * remoção em tempo constante mesmo para listas muito longas (um corretor com milhões de
+ * apólices) e cerca de 17 bytes por slot, sem objeto por entrada. Não é thread-safe: o
+ * {@link PessoaIndex} sincroniza o acesso.</p>
+ */
+final class Postings {
+
+    private static final int CAPACIDADE_INICIAL = 2;
+    private static final Papel[] PAPEIS = Papel.values();
+
+    private long[] mais = new long[CAPACIDADE_INICIAL];
+    private long[] menos = new long[CAPACIDADE_INICIAL];
+    /** Ordinal do papel mais um; zero marca slot livre. */
+    private byte[] papeis = new byte[CAPACIDADE_INICIAL];
+    private int tamanho;
+
+    boolean add(long msb, long lsb, Papel papel) {
+        if (find(msb, lsb, papel) >= 0) {
+            return false;
+        }
+        if ((tamanho + 1) * 4 > papeis.length * 3) {
+            redimensionar(papeis.length * 2);
+        }
+        inserir(msb, lsb, (byte) (papel.ordinal() + 1));
+        tamanho++;
+        return true;
+    }
+
+    boolean remove(long msb, long lsb, Papel papel) {
+        int slot = find(msb, lsb, papel);
+        if (slot < 0) {
+            return false;
+        }
+        int mascara = papeis.length - 1;
+        int livre = slot;
+        for (int i = (slot + 1) & mascara; papeis[i] != 0; i = (i + 1) & mascara) {
+            int ideal = slot(mais[i], menos[i], papeis[i]);
+            if (((i - ideal) & mascara) >= ((i - livre) & mascara)) {
+                mais[livre] = mais[i];
+                menos[livre] = menos[i];
+                papeis[livre] = papeis[i];
+                livre = i;
+            }
+        }
+        papeis[livre] = 0;
+        tamanho--;
+        return true;
+    }
+
+    int size() {
+        return tamanho;
+    }
+
+    List<Participacao> snapshot() {
+        List<Participacao> resultado = new ArrayList<>(tamanho);
+        for (int i = 0; i < papeis.length; i++) {
+            if (papeis[i] != 0) {
+                resultado.add(new Participacao(new UUID(mais[i], menos[i]), PAPEIS[papeis[i] - 1]));
+            }
+        }
+        return resultado;
+    }
+
+    private int find(long msb, long lsb, Papel papel) {
+        byte codigo = (byte) (papel.ordinal() + 1);
+        int mascara = papeis.length - 1;
+        for (int i = slot(msb, lsb, codigo); papeis[i] != 0; i = (i + 1) & mascara) {
+            if (papeis[i] == codigo && mais[i] == msb && menos[i] == lsb) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void inserir(long msb, long lsb, byte codigo) {
+        int mascara = papeis.length - 1;
+        int i = slot(msb, lsb, codigo);
+        while (papeis[i] != 0) {
+            i = (i + 1) & mascara;
+        }
+        mais[i] = msb;
+        menos[i] = lsb;
+        papeis[i] = codigo;
+    }
+
+    private void redimensionar(int capacidade) {
+        long[] maisAntigos = mais;
+        long[] menosAntigos = menos;
+        byte[] papeisAntigos = papeis;
+        mais = new long[capacidade];
+        menos = new long[capacidade];
+        papeis = new byte[capacidade];
+        for (int i = 0; i < papeisAntigos.length; i++) {
+            if (papeisAntigos[i] != 0) {
+                inserir(maisAntigos[i], menosAntigos[i], papeisAntigos[i]);
+            }
+        }
+    }
+
+    private int slot(long msb, long lsb, byte codigo) {
+        long h = (msb ^ Long.rotateLeft(lsb, 29) ^ codigo) * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & (papeis.length - 1);
+    }
+}
@@ -0,0 +1,282 @@
+package io.github.wesleyosantos91.susep.sro.model.index;
+
+import io.github.wesleyosantos91.susep.sro.model.documento.Cobertura;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.util.EpochDays;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Índice imutável de períodos de vigência para consultas do tipo "em vigor na data D".
+ *
+ * <p>Os períodos ficam em arrays paralelos de dias desde a época ({@link EpochDays}), ordenados
+ * pelo início. Sobre essa ordem é definida uma árvore binária de busca implícita (o meio de cada
+ * faixa é a raiz) aumentada com o maior término de cada subárvore, o que permite descartar
+ * subárvores inteiras: uma consulta pontual (stabbing) ou de sobreposição visita
+ * O(min(n, (k + 1) · log n)) posições para k resultados, pois cada resultado pode exigir a descida
+ * por uma subárvore esquerda cujo maior término não basta para descartá-la. O índice não aloca
+ * objeto por período além do próprio valor.</p>
+ *
+ * <p>Os períodos são fechados ({@code inicio <= D <= termino}). Início ausente é tratado como
+ * {@link EpochDays#MIN} e término ausente como {@link EpochDays#MAX} (vigência em aberto). O
+ * índice é construído em lote com {@link #builder()} ou {@link #build(Stream, Function, Function)}
+ * e pode ser consultado concorrentemente; atualizações exigem nova construção.</p>
+ *
+ * @param <T> tipo dos valores indexados
+ */
+public final class VigenciaIndex<T> {
+
+    private final int[] inicios;
+    private final int[] terminos;
+    private final int[] maioresTerminos;
+    private final Object[] valores;
+
+    private VigenciaIndex(int[] inicios, int[] terminos, Object[] valores) {
+        this.inicios = inicios;
+        this.terminos = terminos;
+        this.valores = valores;
+        this.maioresTerminos = new int[inicios.length];
+        aumentar(0, inicios.length);
+    }
+
+    /**
+     * @param <T> tipo dos valores indexados
+     * @return construtor vazio
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Constrói o índice a partir de um fluxo de registros.
+     *
+     * @param registros registros a indexar
+     * @param inicio    extrator do início da vigência
+     * @param termino   extrator do término da vigência
+     * @param <T>       tipo dos registros
+     * @return índice construído
+     * @throws IllegalArgumentException se algum término for anterior ao início
+     */
+    public static <T> VigenciaIndex<T> build(Stream<? extends T> registros, Function<? super T, LocalDate> inicio,
+                                             Function<? super T, LocalDate> termino) {
+        Objects.requireNonNull(registros, "Registros são obrigatórios");
+        Objects.requireNonNull(inicio, "Extrator do início é obrigatório");
+        Objects.requireNonNull(termino, "Extrator do término é obrigatório");
+        Builder<T> builder = builder();
+        registros.forEachOrdered(registro -> builder.add(registro, inicio.apply(registro), termino.apply(registro)));
+        return builder.build();
+    }
+
+    /**
+     * Índice da vigência dos documentos ({@code dataInicio..dataTermino}).
+     *
+     * @param documentos documentos
+     * @return índice construído
+     */
+    public static VigenciaIndex<Documento> ofDocumentos(Stream<Documento> documentos) {
+        return build(documentos, Documento::dataInicio, Documento::dataTermino);
+    }
+
+    /**
+     * Índice da vigência das coberturas ({@code dataInicioCobertura..dataTerminoCobertura}).
+     *
+     * @param coberturas coberturas
+     * @return índice construído
+     */
+    public static VigenciaIndex<Cobertura> ofCoberturas(Stream<Cobertura> coberturas) {
+        return build(coberturas, Cobertura::dataInicioCobertura, Cobertura::dataTerminoCobertura);
+    }
+
+    /**
+     * Valores vigentes na data.
+     *
+     * @param data data de referência (por exemplo, {@code Sinistro.dataOcorrencia})
+     * @return valores cujo período contém a data, em ordem de início
+     */
+    public List<T> containing(LocalDate data) {
+        Objects.requireNonNull(data, "Data é obrigatória");
+        int dia = EpochDays.encode(data);
+        return overlapping(dia, dia);
+    }
+
+    /**
+     * Valores cujo período tem ao menos um dia em comum com o intervalo fechado informado.
+     *
+     * @param inicio  início do intervalo
+     * @param termino término do intervalo
+     * @return valores sobrepostos, em ordem de início
+     * @throws IllegalArgumentException se o término for anterior ao início
+     */
+    public List<T> overlapping(LocalDate inicio, LocalDate termino) {
+        Objects.requireNonNull(inicio, "Data de início é obrigatória");
+        Objects.requireNonNull(termino, "Data de término é obrigatória");
+        return overlapping(EpochDays.encode(inicio), EpochDays.encode(termino));
+    }
+
+    /**
+     * Valores cujo período tem ao menos um dia em comum com o intervalo fechado informado.
+     *
+     * @param inicio  início do intervalo em dias desde a época
+     * @param termino término do intervalo em dias desde a época
+     * @return valores sobrepostos, em ordem de início
+     * @throws IllegalArgumentException se o término for anterior ao início
+     */
+    public List<T> overlapping(int inicio, int termino) {
+        List<T> resultado = new ArrayList<>();
+        forEachOverlapping(inicio, termino, resultado::add);
+        return resultado;
+    }
+
+    /**
+     * Percorre, em ordem de início, os valores cujo período sobrepõe o intervalo, sem montar lista.
+     *
+     * @param inicio   início do intervalo em dias desde a época
+     * @param termino  término do intervalo em dias desde a época
+     * @param consumer destino dos valores
+     * @throws IllegalArgumentException se o término for anterior ao início
+     */
+    public void forEachOverlapping(int inicio, int termino, Consumer<? super T> consumer) {
+        if (termino < inicio) {
+            throw new IllegalArgumentException("Término do intervalo não pode ser anterior ao início");
+        }
+        Objects.requireNonNull(consumer, "Consumidor é obrigatório");
+        percorrer(0, inicios.length, inicio, termino, consumer);
+    }
+
+    /**
+     * @param data data de referência
+     * @return quantidade de valores vigentes na data
+     */
+    public int countContaining(LocalDate data) {
+        Objects.requireNonNull(data, "Data é obrigatória");
+        int dia = EpochDays.encode(data);
+        int[] total = new int[1];
+        forEachOverlapping(dia, dia, valor -> total[0]++);
+        return total[0];
+    }
+
+    /**
+     * @return quantidade de períodos indexados
+     */
+    public int size() {
+        return inicios.length;
+    }
+
+    private int aumentar(int de, int ate) {
+        if (de >= ate) {
+            return Integer.MIN_VALUE;
+        }
+        int meio = (de + ate) >>> 1;
+        int maior = Math.max(terminos[meio], Math.max(aumentar(de, meio), aumentar(meio + 1, ate)));
+        maioresTerminos[meio] = maior;
+        return maior;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void percorrer(int de, int ate, int inicio, int termino, Consumer<? super T> consumer) {
+        while (de < ate) {
+            int meio = (de + ate) >>> 1;
+            if (maioresTerminos[meio] < inicio) {
+                return;
+            }
+            percorrer(de, meio, inicio, termino, consumer);
+            if (inicios[meio] > termino) {
+                return;
+            }
+            if (terminos[meio] >= inicio) {
+                consumer.accept((T) valores[meio]);
+            }
+            de = meio + 1;
+        }
+    }
+
+    /**
+     * Acumula períodos para a construção do índice. Não é thread-safe.
+     *
+     * @param <T> tipo dos valores indexados
+     */
+    public static final class Builder<T> {
+
+        private int[] inicios = new int[16];
+        private int[] terminos = new int[16];
+        private Object[] valores = new Object[16];
+        private int tamanho;
+
+        private Builder() {
+        }
+
+        /**
+         * Inclui um período.
+         *
+         * @param valor   valor associado
+         * @param inicio  início da vigência ({@code null} para sem início)
+         * @param termino término da vigência ({@code null} para vigência em aberto)
+         * @return este construtor
+         * @throws IllegalArgumentException se o término for anterior ao início
+         */
+        public Builder<T> add(T valor, LocalDate inicio, LocalDate termino) {
+            Objects.requireNonNull(valor, "Valor é obrigatório");
+            int dia = inicio == null ? EpochDays.MIN : EpochDays.encode(inicio);
+            int fim = termino == null ? EpochDays.MAX : EpochDays.encode(termino);
+            if (fim < dia) {
+                throw new IllegalArgumentException("Término da vigência (" + termino
+                    + ") anterior ao início (" + inicio + ")");
+            }
+            if (tamanho == inicios.length) {
+                int capacidade = tamanho + (tamanho >> 1);
+                inicios = Arrays.copyOf(inicios, capacidade);
+                terminos = Arrays.copyOf(terminos, capacidade);
+                valores = Arrays.copyOf(valores, capacidade);
+            }
+            inicios[tamanho] = dia;
+            terminos[tamanho] = fim;
+            valores[tamanho] = valor;
+            tamanho++;
+            return this;
+        }
+
+        /**
+         * Ordena os períodos pelo início e constrói o índice. O construtor fica vazio para reúso.
+         *
+         * @return índice construído
+         */
+        public VigenciaIndex<T> build() {
+            long[] ordem = new long[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                ordem[i] = ((long) inicios[i] << 32) | i;
+            }
+            Arrays.parallelSort(ordem);
+            int[] iniciosOrdenados = new int[tamanho];
+            int[] terminosOrdenados = new int[tamanho];
+            Object[] valoresOrdenados = new Object[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                int origem = (int) ordem[i];
+                iniciosOrdenados[i] = inicios[origem];
+                terminosOrdenados[i] = terminos[origem];
+                valoresOrdenados[i] = valores[origem];
+            }
+            reset();
+            return new VigenciaIndex<>(iniciosOrdenados, terminosOrdenados, valoresOrdenados);
+        }
+
+        /**
+         * Descarta os períodos acumulados.
+         *
+         * @return este construtor
+         */
+        public Builder<T> reset() {
+            inicios = new int[16];
+            terminos = new int[16];
+            valores = new Object[16];
+            tamanho = 0;
+            return this;
+        }
+    }
+}
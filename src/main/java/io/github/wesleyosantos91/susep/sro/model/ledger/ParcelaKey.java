@@ -0,0 +1,41 @@
+package io.github.wesleyosantos91.susep.sro.model.ledger;
+
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+
+import java.util.Objects;
+
+/**
+ * Identificação de uma parcela de prêmio: seguradora, apólice, endosso e número da parcela.
+ *
+ * @param codigoSeguradora       código Susep da seguradora
+ * @param apoliceCodigo          código da apólice
+ * @param endossoCodigo          código do endosso ({@code null} para parcelas da emissão)
+ * @param numeroParcelaMovimento número da parcela
+ */
+public record ParcelaKey(String codigoSeguradora, String apoliceCodigo, String endossoCodigo,
+                         int numeroParcelaMovimento) {
+
+    public ParcelaKey {
+        Objects.requireNonNull(codigoSeguradora, "Código da seguradora é obrigatório");
+        Objects.requireNonNull(apoliceCodigo, "Código da apólice é obrigatório");
+        if (numeroParcelaMovimento < 0) {
+            throw new IllegalArgumentException("Número da parcela não pode ser negativo");
+        }
+    }
+
+    /**
+     * Chave da parcela movimentada.
+     *
+     * @param movimento movimento de prêmio
+     * @return chave da parcela
+     * @throws IllegalArgumentException se o movimento não informar o número da parcela
+     */
+    public static ParcelaKey of(MovimentoPremio movimento) {
+        if (movimento.numeroParcelaMovimento() == null) {
+            throw new IllegalArgumentException("Número da parcela é obrigatório no movimento "
+                + movimento.identificadorMovimento());
+        }
+        return new ParcelaKey(movimento.codigoSeguradora(), movimento.apoliceCodigo(), movimento.endossoCodigo(),
+            movimento.numeroParcelaMovimento());
+    }
+}
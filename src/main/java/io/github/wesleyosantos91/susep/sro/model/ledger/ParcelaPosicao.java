@@ -0,0 +1,32 @@
+package io.github.wesleyosantos91.susep.sro.model.ledger;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Posição de uma parcela de prêmio em um instante consistente.
+ *
+ * @param chave          identificação da parcela
+ * @param dataVencimento vencimento informado no último movimento que o trouxe ({@code null} se nunca informado)
+ * @param emitido        prêmio emitido (tipo 8)
+ * @param pago           prêmio liquidado (tipos 1 e 14, descontados os estornos do tipo 5)
+ * @param cancelado      prêmio cancelado ou baixado (tipos 9, 12 e 13, descontadas as reaberturas do tipo 11)
+ */
+public record ParcelaPosicao(ParcelaKey chave, LocalDate dataVencimento, BigDecimal emitido, BigDecimal pago,
+                             BigDecimal cancelado) {
+
+    public ParcelaPosicao {
+        Objects.requireNonNull(chave, "Chave da parcela é obrigatória");
+        Objects.requireNonNull(emitido, "Valor emitido é obrigatório");
+        Objects.requireNonNull(pago, "Valor pago é obrigatório");
+        Objects.requireNonNull(cancelado, "Valor cancelado é obrigatório");
+    }
+
+    /**
+     * @return saldo em aberto: emitido menos pago e cancelado
+     */
+    public BigDecimal saldo() {
+        return emitido.subtract(pago).subtract(cancelado);
+    }
+}
@@ -0,0 +1,439 @@
+package io.github.wesleyosantos91.susep.sro.model.ledger;
+
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryReader;
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryWriter;
+import io.github.wesleyosantos91.susep.sro.model.codec.RecordCodec;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import io.github.wesleyosantos91.susep.sro.model.util.EpochDays;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Razão em memória das parcelas de prêmio, acumuladas a partir de {@link MovimentoPremio}.
+ *
+ * <p>Os movimentos são agrupados por parcela ({@link ParcelaKey}) e classificados pelo
+ * {@code tipoMovimento} em três contas:</p>
+ * <ul>
+ *   <li><strong>emitido</strong>: 8 (Emissão de prêmio);</li>
+ *   <li><strong>pago</strong>: 1 (Liquidação de prêmio) e 14 (Compensação financeira), menos 5 (Estorno
+ *       de prêmio);</li>
+ *   <li><strong>cancelado</strong>: 9 (Cancelamento de parcela), 12 (Baixa por perda) e 13
+ *       (Cancelamento de prêmio e parcela), menos 11 (Reabertura de parcela).</li>
+ * </ul>
+ * <p>Os movimentos de restituição (2, 6 e 10) e de custo de aquisição (3, 4 e 7) não compõem o
+ * saldo a receber e são ignorados. Movimentos com {@code indicadorExclusao == 1} estornam o valor
+ * informado. Os valores ({@code valorMovimentoReal}) são acumulados em ponto fixo.</p>
+ *
+ * <p>Cada seguradora tem sua carteira, protegida por um lock próprio, com um índice por data de
+ * vencimento ({@link EpochDays}) que contém apenas as parcelas com saldo positivo e mantém, por
+ * dia, a quantidade e a soma dos saldos. O total em aberto da seguradora é mantido
+ * incrementalmente; o total vencido percorre apenas os dias distintos anteriores à referência,
+ * independentemente do número de parcelas. A listagem das parcelas vencidas segue a ordem de
+ * vencimento e é limitada pelo chamador.</p>
+ */
+public final class ParcelaPremioLedger {
+
+    /** Valor de {@code indicadorExclusao} que identifica um registro de exclusão. */
+    public static final int EXCLUSAO = 1;
+
+    private static final int EMITIDO = 0;
+    private static final int PAGO = 1;
+    private static final int CANCELADO = 2;
+    private static final int IGNORADO = -1;
+
+    /** Conta afetada por tipo de movimento (índice 1 a 14). */
+    private static final int[] CONTA = {
+        IGNORADO, PAGO, IGNORADO, IGNORADO, IGNORADO, PAGO, IGNORADO, IGNORADO,
+        EMITIDO, CANCELADO, IGNORADO, CANCELADO, CANCELADO, CANCELADO, PAGO
+    };
+
+    /** Sinal aplicado à conta por tipo de movimento (estorno e reabertura subtraem). */
+    private static final int[] SINAL = {0, 1, 0, 0, 0, -1, 0, 0, 1, 1, 0, -1, 1, 1, 1};
+
+    private static final RecordCodec<ParcelaKey> CHAVES = RecordCodec.of(ParcelaKey.class);
+
+    private final Map<String, Carteira> carteiras = new ConcurrentHashMap<>();
+    private final int escala;
+
+    /**
+     * Cria uma razão com valores em centavos (escala 2).
+     */
+    public ParcelaPremioLedger() {
+        this(2);
+    }
+
+    /**
+     * Cria uma razão.
+     *
+     * @param escala casas decimais acumuladas (0 a 6)
+     * @throws IllegalArgumentException se a escala for inválida
+     */
+    public ParcelaPremioLedger(int escala) {
+        if (escala < 0 || escala > 6) {
+            throw new IllegalArgumentException("Escala deve estar entre 0 e 6");
+        }
+        this.escala = escala;
+    }
+
+    /**
+     * Acumula um movimento. Pode ser chamado concorrentemente por várias threads.
+     *
+     * @param movimento movimento de prêmio
+     * @return {@code true} se o movimento afetou uma parcela; {@code false} se o tipo não compõe o saldo
+     * @throws IllegalArgumentException se o movimento não informar a parcela ou se o valor exigir
+     *     mais casas decimais que a escala
+     * @throws ArithmeticException se a soma exceder a capacidade de 64 bits; nesse caso o movimento
+     *     não é aplicado
+     */
+    public boolean record(MovimentoPremio movimento) {
+        Objects.requireNonNull(movimento, "Movimento é obrigatório");
+        int tipo = movimento.tipoMovimento();
+        if (tipo < 1 || tipo >= CONTA.length || CONTA[tipo] == IGNORADO) {
+            return false;
+        }
+        ParcelaKey chave = ParcelaKey.of(movimento);
+        int sinal = movimento.indicadorExclusao() == EXCLUSAO ? -SINAL[tipo] : SINAL[tipo];
+        long valor = Math.multiplyExact(sinal, paraPontoFixo(movimento.valorMovimentoReal()));
+        int vencimento = EpochDays.encode(movimento.dataVencimento());
+
+        Carteira carteira = carteiras.computeIfAbsent(chave.codigoSeguradora(), c -> new Carteira());
+        carteira.lock.writeLock().lock();
+        try {
+            carteira.aplicar(chave, CONTA[tipo], valor, vencimento);
+        } finally {
+            carteira.lock.writeLock().unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Posição de uma parcela.
+     *
+     * @param chave chave da parcela
+     * @return posição da parcela, ou vazio se não houver movimentos
+     */
+    public Optional<ParcelaPosicao> parcela(ParcelaKey chave) {
+        Objects.requireNonNull(chave, "Chave da parcela é obrigatória");
+        Carteira carteira = carteiras.get(chave.codigoSeguradora());
+        if (carteira == null) {
+            return Optional.empty();
+        }
+        carteira.lock.readLock().lock();
+        try {
+            Parcela parcela = carteira.parcelas.get(chave);
+            return parcela == null ? Optional.empty() : Optional.of(parcela.posicao(escala));
+        } finally {
+            carteira.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Parcelas vencidas e não quitadas da seguradora: saldo positivo e vencimento anterior à
+     * data de referência, em ordem de vencimento.
+     *
+     * @param codigoSeguradora código Susep da seguradora
+     * @param referencia       data de referência (parcelas que vencem nela ainda não estão vencidas)
+     * @param limite           quantidade máxima de parcelas devolvidas
+     * @return parcelas vencidas, no máximo {@code limite}
+     * @throws IllegalArgumentException se o limite for negativo
+     */
+    public List<ParcelaPosicao> overdue(String codigoSeguradora, LocalDate referencia, int limite) {
+        if (limite < 0) {
+            throw new IllegalArgumentException("Limite não pode ser negativo");
+        }
+        Carteira carteira = carteira(codigoSeguradora, referencia);
+        List<ParcelaPosicao> vencidas = new ArrayList<>(Math.min(limite, 1024));
+        if (carteira == null || limite == 0) {
+            return vencidas;
+        }
+        carteira.lock.readLock().lock();
+        try {
+            for (Vencimento dia : carteira.vencidas(referencia).values()) {
+                for (Parcela parcela : dia.parcelas) {
+                    vencidas.add(parcela.posicao(escala));
+                    if (vencidas.size() == limite) {
+                        return vencidas;
+                    }
+                }
+            }
+            return vencidas;
+        } finally {
+            carteira.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Total vencido da seguradora na data de referência, com o mesmo critério de
+     * {@link #overdue(String, LocalDate, int)}.
+     *
+     * @param codigoSeguradora código Susep da seguradora
+     * @param referencia       data de referência
+     * @return quantidade e saldo das parcelas vencidas
+     */
+    public SaldoEmAberto overdueSummary(String codigoSeguradora, LocalDate referencia) {
+        Carteira carteira = carteira(codigoSeguradora, referencia);
+        if (carteira == null) {
+            return new SaldoEmAberto(0, BigDecimal.valueOf(0, escala));
+        }
+        carteira.lock.readLock().lock();
+        try {
+            long parcelas = 0;
+            long saldo = 0;
+            for (Vencimento dia : carteira.vencidas(referencia).values()) {
+                parcelas += dia.parcelas.size();
+                saldo = Math.addExact(saldo, dia.saldo);
+            }
+            return new SaldoEmAberto(parcelas, BigDecimal.valueOf(saldo, escala));
+        } finally {
+            carteira.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Total em aberto da seguradora, vencido ou não (inclui parcelas sem vencimento informado).
+     *
+     * @param codigoSeguradora código Susep da seguradora
+     * @return quantidade e saldo das parcelas com saldo positivo
+     */
+    public SaldoEmAberto outstanding(String codigoSeguradora) {
+        Objects.requireNonNull(codigoSeguradora, "Código da seguradora é obrigatório");
+        Carteira carteira = carteiras.get(codigoSeguradora);
+        if (carteira == null) {
+            return new SaldoEmAberto(0, BigDecimal.valueOf(0, escala));
+        }
+        carteira.lock.readLock().lock();
+        try {
+            return new SaldoEmAberto(carteira.abertas, BigDecimal.valueOf(carteira.saldoAberto, escala));
+        } finally {
+            carteira.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return quantidade de parcelas com movimento
+     */
+    public long parcelaCount() {
+        long total = 0;
+        for (Carteira carteira : carteiras.values()) {
+            carteira.lock.readLock().lock();
+            try {
+                total += carteira.parcelas.size();
+            } finally {
+                carteira.lock.readLock().unlock();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Exporta as contas das parcelas, para restauração com {@link #readFrom(BinaryReader)}. Cada
+     * carteira é lida sob o seu lock; a exportação é consistente por seguradora.
+     *
+     * @param destino buffer de destino
+     */
+    public void writeTo(BinaryWriter destino) {
+        Objects.requireNonNull(destino, "Destino é obrigatório");
+        List<Carteira> atuais = new ArrayList<>(carteiras.values());
+        destino.writeVarLong(escala).writeVarLong(atuais.size());
+        for (Carteira carteira : atuais) {
+            carteira.lock.readLock().lock();
+            try {
+                destino.writeVarLong(carteira.parcelas.size());
+                for (Parcela parcela : carteira.parcelas.values()) {
+                    CHAVES.encode(parcela.chave, destino);
+                    destino.writeZigZag(parcela.vencimento);
+                    for (long conta : parcela.contas) {
+                        destino.writeZigZag(conta);
+                    }
+                }
+            } finally {
+                carteira.lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Restaura uma razão exportada por {@link #writeTo(BinaryWriter)}, reconstruindo o índice de
+     * vencimentos e os totais em aberto.
+     *
+     * @param origem buffer posicionado no início do estado exportado
+     * @return razão restaurada, com a mesma escala
+     * @throws IllegalStateException se os dados estiverem truncados ou malformados
+     */
+    public static ParcelaPremioLedger readFrom(BinaryReader origem) {
+        Objects.requireNonNull(origem, "Origem é obrigatória");
+        long escala = origem.readVarLong();
+        if (escala > 6) {
+            throw new IllegalStateException("Razão de parcelas exportada é inválida: escala " + escala);
+        }
+        var razao = new ParcelaPremioLedger((int) escala);
+        for (long c = origem.readVarLong(); c > 0; c--) {
+            for (long p = origem.readVarLong(); p > 0; p--) {
+                ParcelaKey chave = CHAVES.decode(origem);
+                long vencimento = origem.readZigZag();
+                if (vencimento != EpochDays.NULL && (vencimento < EpochDays.MIN || vencimento > EpochDays.MAX)) {
+                    throw new IllegalStateException("Vencimento inválido na razão de parcelas exportada: " + vencimento);
+                }
+                Carteira carteira = razao.carteiras.computeIfAbsent(chave.codigoSeguradora(), s -> new Carteira());
+                var parcela = new Parcela(chave);
+                parcela.vencimento = (int) vencimento;
+                for (int i = 0; i < parcela.contas.length; i++) {
+                    parcela.contas[i] = origem.readZigZag();
+                }
+                if (carteira.parcelas.putIfAbsent(chave, parcela) != null) {
+                    throw new IllegalStateException("Parcela repetida na razão exportada: " + chave);
+                }
+                carteira.indexar(parcela);
+            }
+        }
+        return razao;
+    }
+
+    private Carteira carteira(String codigoSeguradora, LocalDate referencia) {
+        Objects.requireNonNull(codigoSeguradora, "Código da seguradora é obrigatório");
+        Objects.requireNonNull(referencia, "Data de referência é obrigatória");
+        return carteiras.get(codigoSeguradora);
+    }
+
+    private long paraPontoFixo(Double valor) {
+        BigDecimal decimal = BigDecimal.valueOf(Objects.requireNonNull(valor, "Valor do movimento é obrigatório"));
+        try {
+            return decimal.setScale(escala, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Valor " + decimal.toPlainString() + " excede a precisão suportada", e);
+        }
+    }
+
+    /**
+     * Parcelas de uma seguradora e índice de vencimento; acessado apenas sob o lock da carteira.
+     */
+    private static final class Carteira {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<ParcelaKey, Parcela> parcelas = new HashMap<>();
+        /** Parcelas com saldo positivo por vencimento; {@link EpochDays#NULL} agrupa as sem vencimento. */
+        private final TreeMap<Integer, Vencimento> abertasPorVencimento = new TreeMap<>();
+        private long abertas;
+        private long saldoAberto;
+
+        void aplicar(ParcelaKey chave, int conta, long valor, int vencimento) {
+            Parcela existente = parcelas.get(chave);
+            Parcela parcela = existente == null ? new Parcela(chave) : existente;
+            // os novos valores são calculados antes de qualquer alteração: um estouro rejeita o
+            // movimento sem deixar a parcela fora do índice ou com contas divergentes dos totais
+            long contaAtualizada = Math.addExact(parcela.contas[conta], valor);
+            long saldo = parcela.saldoCom(conta, contaAtualizada);
+            int novoVencimento = vencimento == EpochDays.NULL ? parcela.vencimento : vencimento;
+            long saldoDia = 0;
+            long saldoCarteira = 0;
+            if (saldo > 0) {
+                long saldoAnterior = Math.max(0, parcela.saldo());
+                Vencimento dia = abertasPorVencimento.get(novoVencimento);
+                long saldoDiaSemParcela = (dia == null ? 0 : dia.saldo)
+                    - (novoVencimento == parcela.vencimento ? saldoAnterior : 0);
+                saldoDia = Math.addExact(saldoDiaSemParcela, saldo);
+                saldoCarteira = Math.addExact(saldoAberto - saldoAnterior, saldo);
+            }
+
+            if (existente == null) {
+                parcelas.put(chave, parcela);
+            }
+            desindexar(parcela);
+            parcela.contas[conta] = contaAtualizada;
+            parcela.vencimento = novoVencimento;
+            if (saldo > 0) {
+                publicar(parcela, saldoDia, saldoCarteira);
+            }
+        }
+
+        NavigableMap<Integer, Vencimento> vencidas(LocalDate referencia) {
+            return abertasPorVencimento.subMap(EpochDays.NULL, false, EpochDays.encode(referencia), false);
+        }
+
+        private void indexar(Parcela parcela) {
+            long saldo = parcela.saldo();
+            if (saldo > 0) {
+                Vencimento dia = abertasPorVencimento.get(parcela.vencimento);
+                publicar(parcela, Math.addExact(dia == null ? 0 : dia.saldo, saldo), Math.addExact(saldoAberto, saldo));
+            }
+        }
+
+        /**
+         * Inclui a parcela em aberto no índice com os totais já calculados do dia e da carteira.
+         */
+        private void publicar(Parcela parcela, long saldoDia, long saldoCarteira) {
+            Vencimento dia = abertasPorVencimento.computeIfAbsent(parcela.vencimento, v -> new Vencimento());
+            dia.parcelas.add(parcela);
+            dia.saldo = saldoDia;
+            abertas++;
+            saldoAberto = saldoCarteira;
+        }
+
+        private void desindexar(Parcela parcela) {
+            long saldo = parcela.saldo();
+            if (saldo > 0) {
+                Vencimento dia = abertasPorVencimento.get(parcela.vencimento);
+                dia.parcelas.remove(parcela);
+                dia.saldo -= saldo;
+                if (dia.parcelas.isEmpty()) {
+                    abertasPorVencimento.remove(parcela.vencimento);
+                }
+                abertas--;
+                saldoAberto -= saldo;
+            }
+        }
+    }
+
+    /**
+     * Parcelas em aberto de um dia de vencimento e a soma dos seus saldos.
+     */
+    private static final class Vencimento {
+        private final Set<Parcela> parcelas = new LinkedHashSet<>();
+        private long saldo;
+    }
+
+    /**
+     * Contas de uma parcela em ponto fixo; identidade por instância.
+     */
+    private static final class Parcela {
+        private final ParcelaKey chave;
+        private final long[] contas = new long[3];
+        private int vencimento = EpochDays.NULL;
+
+        Parcela(ParcelaKey chave) {
+            this.chave = chave;
+        }
+
+        long saldo() {
+            return Math.subtractExact(Math.subtractExact(contas[EMITIDO], contas[PAGO]), contas[CANCELADO]);
+        }
+
+        /**
+         * Saldo que a parcela teria com a conta informada substituída pelo valor, sem alterá-la.
+         */
+        long saldoCom(int conta, long valorConta) {
+            long emitido = conta == EMITIDO ? valorConta : contas[EMITIDO];
+            long pago = conta == PAGO ? valorConta : contas[PAGO];
+            long cancelado = conta == CANCELADO ? valorConta : contas[CANCELADO];
+            return Math.subtractExact(Math.subtractExact(emitido, pago), cancelado);
+        }
+
+        ParcelaPosicao posicao(int escala) {
+            return new ParcelaPosicao(chave, EpochDays.decode(vencimento), BigDecimal.valueOf(contas[EMITIDO], escala),
+                BigDecimal.valueOf(contas[PAGO], escala), BigDecimal.valueOf(contas[CANCELADO], escala));
+        }
+    }
+}
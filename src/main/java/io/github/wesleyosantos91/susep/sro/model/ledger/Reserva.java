@@ -0,0 +1,35 @@
+package io.github.wesleyosantos91.susep.sro.model.ledger;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Posição acumulada de movimentos de sinistro em um instante consistente.
+ *
+ * @param movimentos       quantidade de movimentos considerados (exclusões descontam)
+ * @param valorPorTipo     soma de {@code valorMovimentoReais} por {@code tipoMovimento} (apenas tipos com movimento)
+ * @param valorAdicionais  soma de {@code valorMovimentoAdicionalReais} dos adicionais
+ */
+public record Reserva(long movimentos, Map<Integer, BigDecimal> valorPorTipo, BigDecimal valorAdicionais) {
+
+    public Reserva {
+        valorPorTipo = Map.copyOf(Objects.requireNonNull(valorPorTipo, "Valores por tipo são obrigatórios"));
+        Objects.requireNonNull(valorAdicionais, "Valor dos adicionais é obrigatório");
+    }
+
+    /**
+     * @param tipoMovimento tipo de movimento (1 a 10)
+     * @return soma dos movimentos do tipo ({@code 0} se não houver)
+     */
+    public BigDecimal valor(int tipoMovimento) {
+        return valorPorTipo.getOrDefault(tipoMovimento, BigDecimal.ZERO);
+    }
+
+    /**
+     * @return soma de todos os tipos de movimento e dos adicionais
+     */
+    public BigDecimal total() {
+        return valorPorTipo.values().stream().reduce(valorAdicionais, BigDecimal::add);
+    }
+}
@@ -0,0 +1,382 @@
+package io.github.wesleyosantos91.susep.sro.model.ledger;
+
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryReader;
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryWriter;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.Adicionais;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistro;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Razão em memória das reservas de sinistro, acumuladas a partir de {@link MovimentoSinistro}.
+ *
+ * <p>Para cada sinistro ({@code codigoSeguradora} + {@code codigoSinistro}) mantém a soma de
+ * {@code valorMovimentoReais} por {@code tipoMovimento} e a soma dos {@link Adicionais}. Os valores
+ * são acumulados em ponto fixo ({@code long} na escala configurada), sem alocar {@link BigDecimal}
+ * na ingestão.</p>
+ *
+ * <p>Os sinistros são distribuídos em faixas (lock striping) pelo hash da chave; cada faixa tem
+ * seu próprio lock, de modo que threads ingerindo sinistros diferentes raramente competem. Cada
+ * faixa mantém também os totais por seguradora e por grupo/ramo, atualizados sob o mesmo lock.
+ * Consultas por sinistro leem uma única faixa; consultas por seguradora e por grupo/ramo adquirem
+ * o lock de leitura de todas as faixas em ordem fixa, obtendo um snapshot consistente: nenhum
+ * movimento aparece aplicado pela metade.</p>
+ *
+ * <p>Movimentos com {@code indicadorExclusao == 1} estornam os valores informados. A
+ * deduplicação de movimentos reenviados não é feita aqui.</p>
+ */
+public final class ReservaSinistroLedger {
+
+    /** Valor de {@code indicadorExclusao} que identifica um registro de exclusão. */
+    public static final int EXCLUSAO = 1;
+
+    private static final int TIPOS_MOVIMENTO = 10;
+
+    private final Faixa[] faixas;
+    private final int escala;
+
+    /**
+     * Cria uma razão com 64 faixas e valores em centavos (escala 2).
+     */
+    public ReservaSinistroLedger() {
+        this(64, 2);
+    }
+
+    /**
+     * Cria uma razão.
+     *
+     * @param faixas quantidade de faixas de lock (potência de 2)
+     * @param escala casas decimais acumuladas (0 a 6)
+     * @throws IllegalArgumentException se os parâmetros forem inválidos
+     */
+    public ReservaSinistroLedger(int faixas, int escala) {
+        if (faixas <= 0 || Integer.bitCount(faixas) != 1) {
+            throw new IllegalArgumentException("Quantidade de faixas deve ser potência de 2");
+        }
+        if (escala < 0 || escala > 6) {
+            throw new IllegalArgumentException("Escala deve estar entre 0 e 6");
+        }
+        this.faixas = new Faixa[faixas];
+        for (int i = 0; i < faixas; i++) {
+            this.faixas[i] = new Faixa();
+        }
+        this.escala = escala;
+    }
+
+    /**
+     * Acumula um movimento. Pode ser chamado concorrentemente por várias threads.
+     *
+     * @param movimento movimento de sinistro
+     * @throws IllegalArgumentException se um valor exigir mais casas decimais que a escala
+     * @throws ArithmeticException se a soma exceder a capacidade de 64 bits; nesse caso o movimento
+     *     não é aplicado a nenhum total
+     */
+    public void record(MovimentoSinistro movimento) {
+        Objects.requireNonNull(movimento, "Movimento é obrigatório");
+        int sinal = movimento.indicadorExclusao() == EXCLUSAO ? -1 : 1;
+        long valor = Math.multiplyExact(sinal, paraPontoFixo(movimento.valorMovimentoReais()));
+        long adicionais = 0;
+        for (Adicionais adicional : movimento.adicionais()) {
+            if (adicional.valorMovimentoAdicionalReais() != null) {
+                adicionais = Math.addExact(adicionais,
+                    Math.multiplyExact(sinal, paraPontoFixo(adicional.valorMovimentoAdicionalReais())));
+            }
+        }
+        int tipo = movimento.tipoMovimento() - 1;
+
+        var chave = new ChaveSinistro(movimento.codigoSeguradora(), movimento.codigoSinistro());
+        Faixa faixa = faixa(chave);
+        faixa.lock.writeLock().lock();
+        try {
+            Acumulador porSinistro = faixa.sinistros.get(chave);
+            Acumulador porSeguradora = faixa.seguradoras.get(movimento.codigoSeguradora());
+            Acumulador porGrupoRamo = faixa.gruposRamo.get(movimento.grupoRamo());
+            // todos os novos totais são calculados antes de alterar qualquer acumulador: um estouro
+            // rejeita o movimento inteiro em vez de deixá-lo aplicado pela metade
+            long sinistroTipo = Acumulador.somaTipo(porSinistro, tipo, valor);
+            long sinistroAdicionais = Acumulador.somaAdicionais(porSinistro, adicionais);
+            long seguradoraTipo = Acumulador.somaTipo(porSeguradora, tipo, valor);
+            long seguradoraAdicionais = Acumulador.somaAdicionais(porSeguradora, adicionais);
+            long grupoRamoTipo = Acumulador.somaTipo(porGrupoRamo, tipo, valor);
+            long grupoRamoAdicionais = Acumulador.somaAdicionais(porGrupoRamo, adicionais);
+
+            faixa.sinistros.computeIfAbsent(chave, c -> new Acumulador())
+                .gravar(tipo, sinistroTipo, sinistroAdicionais, sinal);
+            faixa.seguradoras.computeIfAbsent(movimento.codigoSeguradora(), c -> new Acumulador())
+                .gravar(tipo, seguradoraTipo, seguradoraAdicionais, sinal);
+            faixa.gruposRamo.computeIfAbsent(movimento.grupoRamo(), c -> new Acumulador())
+                .gravar(tipo, grupoRamoTipo, grupoRamoAdicionais, sinal);
+        } finally {
+            faixa.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reserva de um sinistro.
+     *
+     * @param codigoSeguradora código Susep da seguradora
+     * @param codigoSinistro   código do sinistro
+     * @return reserva do sinistro, ou vazio se não houver movimentos
+     */
+    public Optional<Reserva> byClaim(String codigoSeguradora, String codigoSinistro) {
+        var chave = new ChaveSinistro(codigoSeguradora, codigoSinistro);
+        Faixa faixa = faixa(chave);
+        faixa.lock.readLock().lock();
+        try {
+            Acumulador acumulador = faixa.sinistros.get(chave);
+            return acumulador == null ? Optional.empty() : Optional.of(acumulador.reserva(escala));
+        } finally {
+            faixa.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reserva consolidada de uma seguradora, em snapshot consistente.
+     *
+     * @param codigoSeguradora código Susep da seguradora
+     * @return reserva consolidada (zerada se não houver movimentos)
+     */
+    public Reserva bySeguradora(String codigoSeguradora) {
+        Objects.requireNonNull(codigoSeguradora, "Código da seguradora é obrigatório");
+        return consolidar(faixa -> faixa.seguradoras.get(codigoSeguradora));
+    }
+
+    /**
+     * Reserva consolidada de um grupo/ramo, em snapshot consistente.
+     *
+     * @param grupoRamo grupo e ramo
+     * @return reserva consolidada (zerada se não houver movimentos)
+     */
+    public Reserva byGrupoRamo(String grupoRamo) {
+        Objects.requireNonNull(grupoRamo, "Grupo e ramo são obrigatórios");
+        return consolidar(faixa -> faixa.gruposRamo.get(grupoRamo));
+    }
+
+    /**
+     * @return quantidade de sinistros com movimento
+     */
+    public int claimCount() {
+        int total = 0;
+        for (Faixa faixa : faixas) {
+            faixa.lock.readLock().lock();
+            try {
+                total += faixa.sinistros.size();
+            } finally {
+                faixa.lock.readLock().unlock();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Exporta o estado da razão em snapshot consistente, para restauração com
+     * {@link #readFrom(BinaryReader)}. Os totais por seguradora e por grupo/ramo são gravados já
+     * consolidados entre as faixas.
+     *
+     * @param destino buffer de destino
+     */
+    public void writeTo(BinaryWriter destino) {
+        Objects.requireNonNull(destino, "Destino é obrigatório");
+        for (Faixa faixa : faixas) {
+            faixa.lock.readLock().lock();
+        }
+        try {
+            Map<String, Acumulador> seguradoras = new HashMap<>();
+            Map<String, Acumulador> gruposRamo = new HashMap<>();
+            int sinistros = 0;
+            for (Faixa faixa : faixas) {
+                sinistros += faixa.sinistros.size();
+                faixa.seguradoras.forEach((chave, parcial) ->
+                    seguradoras.computeIfAbsent(chave, c -> new Acumulador()).somar(parcial));
+                faixa.gruposRamo.forEach((chave, parcial) ->
+                    gruposRamo.computeIfAbsent(chave, c -> new Acumulador()).somar(parcial));
+            }
+            destino.writeVarLong(faixas.length).writeVarLong(escala).writeVarLong(sinistros);
+            for (Faixa faixa : faixas) {
+                faixa.sinistros.forEach((chave, acumulador) -> {
+                    destino.writeString(chave.codigoSeguradora()).writeString(chave.codigoSinistro());
+                    acumulador.writeTo(destino);
+                });
+            }
+            gravar(destino, seguradoras);
+            gravar(destino, gruposRamo);
+        } finally {
+            for (int i = faixas.length - 1; i >= 0; i--) {
+                faixas[i].lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Restaura uma razão exportada por {@link #writeTo(BinaryWriter)}.
+     *
+     * @param origem buffer posicionado no início do estado exportado
+     * @return razão restaurada, com as mesmas faixas e escala
+     * @throws IllegalStateException se os dados estiverem truncados ou malformados
+     */
+    public static ReservaSinistroLedger readFrom(BinaryReader origem) {
+        Objects.requireNonNull(origem, "Origem é obrigatória");
+        int faixas = (int) tamanho(origem);
+        int escala = (int) tamanho(origem);
+        ReservaSinistroLedger razao;
+        try {
+            razao = new ReservaSinistroLedger(faixas, escala);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Razão de reservas exportada é inválida", e);
+        }
+        for (long i = tamanho(origem); i > 0; i--) {
+            var chave = new ChaveSinistro(origem.readString(), origem.readString());
+            razao.faixa(chave).sinistros.put(chave, Acumulador.readFrom(origem));
+        }
+        Faixa primeira = razao.faixas[0];
+        for (long i = tamanho(origem); i > 0; i--) {
+            primeira.seguradoras.put(origem.readString(), Acumulador.readFrom(origem));
+        }
+        for (long i = tamanho(origem); i > 0; i--) {
+            primeira.gruposRamo.put(origem.readString(), Acumulador.readFrom(origem));
+        }
+        return razao;
+    }
+
+    private static void gravar(BinaryWriter destino, Map<String, Acumulador> totais) {
+        destino.writeVarLong(totais.size());
+        totais.forEach((chave, acumulador) -> {
+            destino.writeString(chave);
+            acumulador.writeTo(destino);
+        });
+    }
+
+    private static long tamanho(BinaryReader origem) {
+        long valor = origem.readVarLong();
+        if (valor < 0 || valor > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Quantidade inválida na razão de reservas exportada: " + valor);
+        }
+        return valor;
+    }
+
+    private Reserva consolidar(Function<Faixa, Acumulador> seletor) {
+        var consolidado = new Acumulador();
+        for (Faixa faixa : faixas) {
+            faixa.lock.readLock().lock();
+        }
+        try {
+            for (Faixa faixa : faixas) {
+                Acumulador parcial = seletor.apply(faixa);
+                if (parcial != null) {
+                    consolidado.somar(parcial);
+                }
+            }
+        } finally {
+            for (int i = faixas.length - 1; i >= 0; i--) {
+                faixas[i].lock.readLock().unlock();
+            }
+        }
+        return consolidado.reserva(escala);
+    }
+
+    private Faixa faixa(ChaveSinistro chave) {
+        int hash = chave.hashCode();
+        return faixas[(hash ^ (hash >>> 16)) & (faixas.length - 1)];
+    }
+
+    private long paraPontoFixo(BigDecimal valor) {
+        try {
+            return valor.setScale(escala, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Valor " + valor.toPlainString() + " excede a precisão suportada", e);
+        }
+    }
+
+    private record ChaveSinistro(String codigoSeguradora, String codigoSinistro) {
+    }
+
+    private static final class Faixa {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<ChaveSinistro, Acumulador> sinistros = new HashMap<>();
+        private final Map<String, Acumulador> seguradoras = new HashMap<>();
+        private final Map<String, Acumulador> gruposRamo = new HashMap<>();
+    }
+
+    /**
+     * Somas em ponto fixo; acessado apenas sob o lock da faixa.
+     */
+    private static final class Acumulador {
+        private final long[] porTipo = new long[TIPOS_MOVIMENTO];
+        private final long[] movimentosPorTipo = new long[TIPOS_MOVIMENTO];
+        private long adicionais;
+        private long movimentos;
+
+        /**
+         * Total do tipo após somar o valor ({@code acumulador} nulo equivale a zerado), sem alterá-lo.
+         */
+        static long somaTipo(Acumulador acumulador, int tipo, long valor) {
+            return Math.addExact(acumulador == null ? 0 : acumulador.porTipo[tipo], valor);
+        }
+
+        /**
+         * Total dos adicionais após somar o valor ({@code acumulador} nulo equivale a zerado), sem alterá-lo.
+         */
+        static long somaAdicionais(Acumulador acumulador, long valorAdicionais) {
+            return Math.addExact(acumulador == null ? 0 : acumulador.adicionais, valorAdicionais);
+        }
+
+        /**
+         * Publica os totais já calculados por {@link #somaTipo} e {@link #somaAdicionais}.
+         */
+        void gravar(int tipo, long totalTipo, long totalAdicionais, int quantidade) {
+            porTipo[tipo] = totalTipo;
+            movimentosPorTipo[tipo] += quantidade;
+            adicionais = totalAdicionais;
+            movimentos += quantidade;
+        }
+
+        void somar(Acumulador outro) {
+            long[] somaPorTipo = new long[TIPOS_MOVIMENTO];
+            for (int i = 0; i < TIPOS_MOVIMENTO; i++) {
+                somaPorTipo[i] = Math.addExact(porTipo[i], outro.porTipo[i]);
+            }
+            long somaAdicionais = Math.addExact(adicionais, outro.adicionais);
+            for (int i = 0; i < TIPOS_MOVIMENTO; i++) {
+                porTipo[i] = somaPorTipo[i];
+                movimentosPorTipo[i] += outro.movimentosPorTipo[i];
+            }
+            adicionais = somaAdicionais;
+            movimentos += outro.movimentos;
+        }
+
+        void writeTo(BinaryWriter destino) {
+            for (int i = 0; i < TIPOS_MOVIMENTO; i++) {
+                destino.writeZigZag(porTipo[i]).writeZigZag(movimentosPorTipo[i]);
+            }
+            destino.writeZigZag(adicionais).writeZigZag(movimentos);
+        }
+
+        static Acumulador readFrom(BinaryReader origem) {
+            var acumulador = new Acumulador();
+            for (int i = 0; i < TIPOS_MOVIMENTO; i++) {
+                acumulador.porTipo[i] = origem.readZigZag();
+                acumulador.movimentosPorTipo[i] = origem.readZigZag();
+            }
+            acumulador.adicionais = origem.readZigZag();
+            acumulador.movimentos = origem.readZigZag();
+            return acumulador;
+        }
+
+        Reserva reserva(int escala) {
+            Map<Integer, BigDecimal> valores = new HashMap<>();
+            for (int i = 0; i < TIPOS_MOVIMENTO; i++) {
+                if (movimentosPorTipo[i] != 0 || porTipo[i] != 0) {
+                    valores.put(i + 1, BigDecimal.valueOf(porTipo[i], escala));
+                }
+            }
+            return new Reserva(movimentos, valores, BigDecimal.valueOf(adicionais, escala));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.wesleyosantos91.susep.sro.model.ledger;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Saldo agregado de parcelas em aberto.
+ *
+ * @param parcelas quantidade de parcelas com saldo positivo
+ * @param saldo    soma dos saldos dessas parcelas
+ */
+public record SaldoEmAberto(long parcelas, BigDecimal saldo) {
+
+    public SaldoEmAberto {
+        if (parcelas < 0) {
+            throw new IllegalArgumentException("Quantidade de parcelas não pode ser negativa");
+        }
+        Objects.requireNonNull(saldo, "Saldo é obrigatório");
+    }
+}
@@ -0,0 +1,696 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+import io.github.wesleyosantos91.susep.sro.model.util.EpochDays;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Campos da linha corrente de um arquivo mapeado em memória.
+ *
+ * <p>Os campos são delimitados por posições sobre o arquivo mapeado: nenhuma substring da linha é
+ * criada, e números e datas são convertidos diretamente dos bytes. Apenas {@link #text(int)}
+ * materializa {@link String}, reaproveitando a instância anterior da mesma coluna quando o valor
+ * se repete (códigos de seguradora, moeda, grupo e ramo), o que é comum em exportações ordenadas.</p>
+ *
+ * <p>Em {@link FlatFileFormat.JsonLines}, cada campo é o valor de uma chave do objeto da linha,
+ * delimitado da mesma forma; sequências de escape só são resolvidas ao materializar o texto.</p>
+ *
+ * <p>Cada bloco do arquivo é lido por um cursor próprio; instâncias não são thread-safe e só são
+ * válidas durante a chamada do {@link LineMapper}.</p>
+ */
+public final class FieldCursor {
+
+    private static final int CACHE_MAX_BYTES = 64;
+    private static final double[] POTENCIAS_10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final MemorySegment dados;
+    private final Charset charset;
+    private final byte separador;
+    private final int[] deslocamentos;
+    private final int[] larguras;
+    private final byte[][] chaves;
+    private final int[] tabelaChaves;
+
+    private int quantidade;
+    private long[] inicios = new long[32];
+    private long[] fins = new long[32];
+    private boolean[] escapados = new boolean[32];
+    private byte[] rascunho = new byte[256];
+    private char[] caracteres = new char[64];
+    private byte[][] cacheBytes = new byte[32][];
+    private String[] cacheTextos = new String[32];
+    private boolean stringEscapada;
+
+    FieldCursor(MemorySegment dados, FlatFileFormat formato) {
+        this.dados = dados;
+        this.charset = formato.charset();
+        switch (formato) {
+            case FlatFileFormat.Delimited delimitado -> {
+                this.separador = (byte) delimitado.separator();
+                this.deslocamentos = null;
+                this.larguras = null;
+                this.chaves = null;
+                this.tabelaChaves = null;
+            }
+            case FlatFileFormat.FixedWidth fixo -> {
+                List<Integer> colunas = fixo.widths();
+                this.separador = 0;
+                this.larguras = colunas.stream().mapToInt(Integer::intValue).toArray();
+                this.deslocamentos = new int[larguras.length];
+                for (int i = 1; i < larguras.length; i++) {
+                    deslocamentos[i] = deslocamentos[i - 1] + larguras[i - 1];
+                }
+                this.chaves = null;
+                this.tabelaChaves = null;
+            }
+            case FlatFileFormat.JsonLines json -> {
+                this.separador = 0;
+                this.deslocamentos = null;
+                this.larguras = null;
+                this.chaves = json.keys().stream().map(chave -> chave.getBytes(StandardCharsets.UTF_8))
+                    .toArray(byte[][]::new);
+                // endereçamento aberto, índice + 1 por posição (zero marca posição livre)
+                this.tabelaChaves = new int[Integer.highestOneBit(chaves.length * 4)];
+                for (int i = 0; i < chaves.length; i++) {
+                    int posicao = hash(chaves[i]) & (tabelaChaves.length - 1);
+                    while (tabelaChaves[posicao] != 0) {
+                        posicao = (posicao + 1) & (tabelaChaves.length - 1);
+                    }
+                    tabelaChaves[posicao] = i + 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Posiciona o cursor na linha {@code [inicio, fim)}, sem o terminador.
+     *
+     * @throws IllegalArgumentException se a linha tiver aspas não fechadas ou, em JSON, não for um
+     *                                  objeto válido
+     */
+    void reset(long inicio, long fim) {
+        if (chaves != null) {
+            resetJson(inicio, fim);
+            return;
+        }
+        if (larguras != null) {
+            quantidade = larguras.length;
+            garantirCapacidade(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                long de = Math.min(inicio + deslocamentos[i], fim);
+                long ate = Math.min(de + larguras[i], fim);
+                while (de < ate && byteEm(de) == ' ') {
+                    de++;
+                }
+                while (ate > de && byteEm(ate - 1) == ' ') {
+                    ate--;
+                }
+                inicios[i] = de;
+                fins[i] = ate;
+                escapados[i] = false;
+            }
+            return;
+        }
+        quantidade = 0;
+        long posicao = inicio;
+        while (true) {
+            garantirCapacidade(quantidade + 1);
+            if (posicao < fim && byteEm(posicao) == '"') {
+                long de = posicao + 1;
+                long ate = de;
+                boolean escapado = false;
+                while (true) {
+                    if (ate >= fim) {
+                        throw new IllegalArgumentException("Aspas não fechadas na coluna " + (quantidade + 1));
+                    }
+                    if (byteEm(ate) == '"') {
+                        if (ate + 1 < fim && byteEm(ate + 1) == '"') {
+                            escapado = true;
+                            ate += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    ate++;
+                }
+                inicios[quantidade] = de;
+                fins[quantidade] = ate;
+                escapados[quantidade] = escapado;
+                quantidade++;
+                posicao = ate + 1;
+                if (posicao < fim && byteEm(posicao) != separador) {
+                    throw new IllegalArgumentException("Conteúdo após aspas na coluna " + quantidade);
+                }
+            } else {
+                long ate = posicao;
+                while (ate < fim && byteEm(ate) != separador) {
+                    ate++;
+                }
+                inicios[quantidade] = posicao;
+                fins[quantidade] = ate;
+                escapados[quantidade] = false;
+                quantidade++;
+                posicao = ate;
+            }
+            if (posicao >= fim) {
+                return;
+            }
+            posicao++;
+        }
+    }
+
+    /**
+     * Delimita os valores das chaves conhecidas no objeto JSON da linha. Strings ficam sem as
+     * aspas; {@code null}, objetos e arrays não preenchem o campo.
+     */
+    private void resetJson(long inicio, long fim) {
+        quantidade = chaves.length;
+        garantirCapacidade(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            inicios[i] = 0;
+            fins[i] = 0;
+            escapados[i] = false;
+        }
+        long posicao = espacos(inicio, fim);
+        if (posicao >= fim || byteEm(posicao) != '{') {
+            throw new IllegalArgumentException("Linha não é um objeto JSON");
+        }
+        posicao = espacos(posicao + 1, fim);
+        if (posicao < fim && byteEm(posicao) == '}') {
+            fimDoObjeto(posicao + 1, fim);
+            return;
+        }
+        while (true) {
+            if (posicao >= fim || byteEm(posicao) != '"') {
+                throw new IllegalArgumentException("Chave JSON esperada na posição " + (posicao - inicio + 1));
+            }
+            long fimChave = fimDaString(posicao + 1, fim);
+            int campo = campoDaChave(posicao + 1, fimChave);
+            posicao = espacos(fimChave + 1, fim);
+            if (posicao >= fim || byteEm(posicao) != ':') {
+                throw new IllegalArgumentException("':' esperado na posição " + (posicao - inicio + 1));
+            }
+            posicao = espacos(posicao + 1, fim);
+            if (posicao >= fim) {
+                throw new IllegalArgumentException("Valor JSON ausente no fim da linha");
+            }
+            byte primeiro = byteEm(posicao);
+            long de = posicao;
+            long ate;
+            if (primeiro == '"') {
+                de = posicao + 1;
+                ate = fimDaString(de, fim);
+                posicao = ate + 1;
+            } else if (primeiro == '{' || primeiro == '[') {
+                posicao = fimDoBloco(posicao, fim);
+                campo = -1;
+                ate = de;
+            } else {
+                ate = posicao;
+                while (ate < fim && !delimitadorJson(byteEm(ate))) {
+                    ate++;
+                }
+                if (ate == de) {
+                    throw new IllegalArgumentException("Valor JSON inválido na posição " + (de - inicio + 1));
+                }
+                posicao = ate;
+                if (ate - de == 4 && byteEm(de) == 'n' && byteEm(de + 1) == 'u' && byteEm(de + 2) == 'l'
+                        && byteEm(de + 3) == 'l') {
+                    ate = de;
+                }
+            }
+            if (campo >= 0) {
+                inicios[campo] = de;
+                fins[campo] = ate;
+                escapados[campo] = primeiro == '"' && stringEscapada;
+            }
+            posicao = espacos(posicao, fim);
+            if (posicao < fim && byteEm(posicao) == ',') {
+                posicao = espacos(posicao + 1, fim);
+                continue;
+            }
+            if (posicao < fim && byteEm(posicao) == '}') {
+                fimDoObjeto(posicao + 1, fim);
+                return;
+            }
+            throw new IllegalArgumentException("',' ou '}' esperado na posição " + (posicao - inicio + 1));
+        }
+    }
+
+    /**
+     * @return posição das aspas que fecham a string iniciada em {@code de}; registra em
+     *         {@code stringEscapada} se houve sequência de escape
+     */
+    private long fimDaString(long de, long fim) {
+        stringEscapada = false;
+        for (long i = de; i < fim; i++) {
+            byte b = byteEm(i);
+            if (b == '\\') {
+                stringEscapada = true;
+                i++;
+            } else if (b == '"') {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("String JSON não fechada");
+    }
+
+    /**
+     * @return posição seguinte ao fim do objeto ou array iniciado em {@code de}
+     */
+    private long fimDoBloco(long de, long fim) {
+        int profundidade = 0;
+        for (long i = de; i < fim; i++) {
+            byte b = byteEm(i);
+            if (b == '"') {
+                i = fimDaString(i + 1, fim);
+            } else if (b == '{' || b == '[') {
+                profundidade++;
+            } else if ((b == '}' || b == ']') && --profundidade == 0) {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException("Objeto ou array JSON não fechado");
+    }
+
+    private void fimDoObjeto(long posicao, long fim) {
+        if (espacos(posicao, fim) < fim) {
+            throw new IllegalArgumentException("Conteúdo após o objeto JSON");
+        }
+    }
+
+    private long espacos(long posicao, long fim) {
+        while (posicao < fim) {
+            byte b = byteEm(posicao);
+            if (b != ' ' && b != '\t' && b != '\r') {
+                break;
+            }
+            posicao++;
+        }
+        return posicao;
+    }
+
+    private static boolean delimitadorJson(byte b) {
+        return b == ',' || b == '}' || b == ']' || b == ' ' || b == '\t' || b == '\r';
+    }
+
+    /**
+     * @return índice do campo da chave em {@code [de, ate)}, ou -1 se não for uma das chaves
+     */
+    private int campoDaChave(long de, long ate) {
+        int hash = 1;
+        for (long i = de; i < ate; i++) {
+            hash = 31 * hash + byteEm(i);
+        }
+        int mascara = tabelaChaves.length - 1;
+        for (int posicao = hash & mascara; tabelaChaves[posicao] != 0; posicao = (posicao + 1) & mascara) {
+            byte[] chave = chaves[tabelaChaves[posicao] - 1];
+            if (chave.length == ate - de && MemorySegment.mismatch(dados, de, ate,
+                    MemorySegment.ofArray(chave), 0, chave.length) < 0) {
+                return tabelaChaves[posicao] - 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int hash(byte[] chave) {
+        int hash = 1;
+        for (byte b : chave) {
+            hash = 31 * hash + b;
+        }
+        return hash;
+    }
+
+    /**
+     * @return quantidade de campos da linha (para largura fixa, a do leiaute)
+     */
+    public int fieldCount() {
+        return quantidade;
+    }
+
+    /**
+     * @param campo índice do campo, a partir de zero
+     * @return se o campo está ausente ou vazio
+     */
+    public boolean isEmpty(int campo) {
+        return campo >= quantidade || fins[campo] == inicios[campo];
+    }
+
+    /**
+     * @return texto do campo, ou {@code null} se vazio
+     */
+    public String text(int campo) {
+        if (isEmpty(campo)) {
+            return null;
+        }
+        int tamanho = copiar(campo);
+        if (escapados[campo] || tamanho > CACHE_MAX_BYTES) {
+            return new String(rascunho, 0, tamanho, charset);
+        }
+        byte[] anterior = cacheBytes[campo];
+        if (anterior != null && Arrays.equals(anterior, 0, anterior.length, rascunho, 0, tamanho)) {
+            return cacheTextos[campo];
+        }
+        String texto = new String(rascunho, 0, tamanho, charset);
+        cacheBytes[campo] = Arrays.copyOf(rascunho, tamanho);
+        cacheTextos[campo] = texto;
+        return texto;
+    }
+
+    /**
+     * @return inteiro do campo, ou {@code null} se vazio
+     * @throws IllegalArgumentException se o campo não for um inteiro de 32 bits
+     */
+    public Integer intValue(int campo) {
+        if (isEmpty(campo)) {
+            return null;
+        }
+        long valor = inteiro(campo);
+        if (valor < Integer.MIN_VALUE || valor > Integer.MAX_VALUE) {
+            throw invalido(campo, "um inteiro válido");
+        }
+        return (int) valor;
+    }
+
+    /**
+     * @return inteiro longo do campo, ou {@code null} se vazio
+     * @throws IllegalArgumentException se o campo não for um inteiro de 64 bits
+     */
+    public Long longValue(int campo) {
+        return isEmpty(campo) ? null : inteiro(campo);
+    }
+
+    /**
+     * Número decimal com ponto ou vírgula como separador decimal, sem separador de milhar.
+     *
+     * <p>Valores com até 15 dígitos significativos e 22 casas decimais, caso de todos os valores
+     * monetários do leiaute, são convertidos sem alocação e com arredondamento correto; os demais
+     * recorrem a {@link Double#parseDouble(String)}.</p>
+     *
+     * @return número do campo, ou {@code null} se vazio
+     * @throws IllegalArgumentException se o campo não for numérico
+     */
+    public Double doubleValue(int campo) {
+        if (isEmpty(campo)) {
+            return null;
+        }
+        long de = inicios[campo];
+        long ate = fins[campo];
+        boolean negativo = false;
+        byte sinal = byteEm(de);
+        if (sinal == '-' || sinal == '+') {
+            negativo = sinal == '-';
+            de++;
+        }
+        long mantissa = 0;
+        int digitos = 0;
+        int casas = -1;
+        for (long i = de; i < ate; i++) {
+            byte b = byteEm(i);
+            if (b >= '0' && b <= '9') {
+                if (digitos > 0 || b != '0') {
+                    digitos++;
+                }
+                if (digitos > 15) {
+                    return lento(campo);
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (casas >= 0) {
+                    casas++;
+                }
+            } else if ((b == '.' || b == ',') && casas < 0) {
+                casas = 0;
+            } else {
+                return lento(campo);
+            }
+        }
+        if (ate == de || (casas == 0 && ate - de == 1)) {
+            throw invalido(campo, "um decimal válido");
+        }
+        if (casas > 22) {
+            return lento(campo);
+        }
+        double valor = casas > 0 ? mantissa / POTENCIAS_10[casas] : mantissa;
+        return negativo ? -valor : valor;
+    }
+
+    /**
+     * @return decimal exato do campo, com ponto ou vírgula como separador, ou {@code null} se vazio
+     * @throws IllegalArgumentException se o campo não for numérico
+     */
+    public BigDecimal decimal(int campo) {
+        if (isEmpty(campo)) {
+            return null;
+        }
+        int tamanho = (int) (fins[campo] - inicios[campo]);
+        if (caracteres.length < tamanho) {
+            caracteres = new char[Math.max(tamanho, caracteres.length * 2)];
+        }
+        for (int i = 0; i < tamanho; i++) {
+            byte b = byteEm(inicios[campo] + i);
+            caracteres[i] = b == ',' ? '.' : (char) (b & 0xFF);
+        }
+        try {
+            return new BigDecimal(caracteres, 0, tamanho);
+        } catch (NumberFormatException e) {
+            throw invalido(campo, "um decimal válido");
+        }
+    }
+
+    /**
+     * Data nos formatos {@code AAAA-MM-DD} (inclusive seguida de hora ISO 8601, descartada),
+     * {@code DD/MM/AAAA} ou {@code AAAAMMDD}.
+     *
+     * @return dias desde a época, ou {@link EpochDays#NULL} se vazio
+     * @throws IllegalArgumentException se o campo não for uma data válida
+     */
+    public int epochDay(int campo) {
+        if (isEmpty(campo)) {
+            return EpochDays.NULL;
+        }
+        long de = inicios[campo];
+        long tamanho = fins[campo] - de;
+        try {
+            if (tamanho >= 10 && byteEm(de + 4) == '-' && byteEm(de + 7) == '-'
+                    && (tamanho == 10 || byteEm(de + 10) == 'T')) {
+                return EpochDays.fromYearMonthDay(
+                    digitos(campo, de, 4), digitos(campo, de + 5, 2), digitos(campo, de + 8, 2));
+            }
+            if (tamanho == 10 && byteEm(de + 2) == '/' && byteEm(de + 5) == '/') {
+                return EpochDays.fromYearMonthDay(
+                    digitos(campo, de + 6, 4), digitos(campo, de + 3, 2), digitos(campo, de, 2));
+            }
+            if (tamanho == 8) {
+                return EpochDays.fromYearMonthDay(
+                    digitos(campo, de, 4), digitos(campo, de + 4, 2), digitos(campo, de + 6, 2));
+            }
+        } catch (IllegalArgumentException e) {
+            throw invalido(campo, "uma data válida");
+        }
+        throw invalido(campo, "uma data válida");
+    }
+
+    /**
+     * @return data do campo, ou {@code null} se vazio
+     * @throws IllegalArgumentException se o campo não for uma data válida
+     * @see #epochDay(int)
+     */
+    public LocalDate date(int campo) {
+        return EpochDays.decode(epochDay(campo));
+    }
+
+    private long inteiro(int campo) {
+        long de = inicios[campo];
+        long ate = fins[campo];
+        byte sinal = byteEm(de);
+        boolean negativo = sinal == '-';
+        if (negativo || sinal == '+') {
+            de++;
+        }
+        if (de == ate) {
+            throw invalido(campo, "um inteiro válido");
+        }
+        long valor = 0;
+        for (long i = de; i < ate; i++) {
+            int digito = byteEm(i) - '0';
+            if (digito < 0 || digito > 9) {
+                throw invalido(campo, "um inteiro válido");
+            }
+            // acumulado em negativo para aceitar Long.MIN_VALUE
+            if (valor < (Long.MIN_VALUE + digito) / 10) {
+                throw invalido(campo, "um inteiro válido");
+            }
+            valor = valor * 10 - digito;
+        }
+        if (!negativo) {
+            if (valor == Long.MIN_VALUE) {
+                throw invalido(campo, "um inteiro válido");
+            }
+            valor = -valor;
+        }
+        return valor;
+    }
+
+    private int digitos(int campo, long de, int quantidadeDigitos) {
+        int valor = 0;
+        for (int i = 0; i < quantidadeDigitos; i++) {
+            int digito = byteEm(de + i) - '0';
+            if (digito < 0 || digito > 9) {
+                throw invalido(campo, "uma data válida");
+            }
+            valor = valor * 10 + digito;
+        }
+        return valor;
+    }
+
+    private Double lento(int campo) {
+        String texto = text(campo).replace(',', '.');
+        if (texto.indexOf('.') != texto.lastIndexOf('.') || !texto.matches("[+-]?[0-9]*\\.?[0-9]*([eE][+-]?[0-9]+)?")) {
+            throw invalido(campo, "um decimal válido");
+        }
+        try {
+            return Double.parseDouble(texto);
+        } catch (NumberFormatException e) {
+            throw invalido(campo, "um decimal válido");
+        }
+    }
+
+    /**
+     * Copia o conteúdo do campo para o rascunho, removendo aspas duplicadas.
+     *
+     * @return quantidade de bytes copiados
+     */
+    private int copiar(int campo) {
+        int tamanho = (int) (fins[campo] - inicios[campo]);
+        if (rascunho.length < tamanho) {
+            rascunho = new byte[Math.max(tamanho, rascunho.length * 2)];
+        }
+        MemorySegment.copy(dados, ValueLayout.JAVA_BYTE, inicios[campo], rascunho, 0, tamanho);
+        if (!escapados[campo]) {
+            return tamanho;
+        }
+        if (chaves != null) {
+            return desescaparJson(tamanho);
+        }
+        int escrito = 0;
+        for (int i = 0; i < tamanho; i++) {
+            rascunho[escrito++] = rascunho[i];
+            if (rascunho[i] == '"') {
+                i++;
+            }
+        }
+        return escrito;
+    }
+
+    /**
+     * Resolve no rascunho as sequências de escape de uma string JSON; o resultado nunca é maior que
+     * a sequência original.
+     *
+     * @return quantidade de bytes resultantes
+     */
+    private int desescaparJson(int tamanho) {
+        int escrito = 0;
+        for (int i = 0; i < tamanho; i++) {
+            byte b = rascunho[i];
+            if (b != '\\') {
+                rascunho[escrito++] = b;
+                continue;
+            }
+            if (++i >= tamanho) {
+                throw new IllegalArgumentException("Escape JSON incompleto");
+            }
+            switch (rascunho[i]) {
+                case '"', '\\', '/' -> rascunho[escrito++] = rascunho[i];
+                case 'b' -> rascunho[escrito++] = '\b';
+                case 'f' -> rascunho[escrito++] = '\f';
+                case 'n' -> rascunho[escrito++] = '\n';
+                case 'r' -> rascunho[escrito++] = '\r';
+                case 't' -> rascunho[escrito++] = '\t';
+                case 'u' -> {
+                    int codigo = hexadecimal(i + 1, tamanho);
+                    i += 4;
+                    if (Character.isHighSurrogate((char) codigo) && i + 6 < tamanho
+                            && rascunho[i + 1] == '\\' && rascunho[i + 2] == 'u') {
+                        int baixo = hexadecimal(i + 3, tamanho);
+                        if (Character.isLowSurrogate((char) baixo)) {
+                            codigo = Character.toCodePoint((char) codigo, (char) baixo);
+                            i += 6;
+                        }
+                    }
+                    escrito = utf8(codigo, escrito);
+                }
+                default -> throw new IllegalArgumentException("Escape JSON inválido: \\" + (char) rascunho[i]);
+            }
+        }
+        return escrito;
+    }
+
+    private int hexadecimal(int de, int tamanho) {
+        if (de + 4 > tamanho) {
+            throw new IllegalArgumentException("Escape JSON incompleto");
+        }
+        int valor = 0;
+        for (int i = de; i < de + 4; i++) {
+            int digito = Character.digit(rascunho[i], 16);
+            if (digito < 0) {
+                throw new IllegalArgumentException("Escape JSON inválido: \\u" + new String(rascunho, de, 4,
+                    StandardCharsets.US_ASCII));
+            }
+            valor = valor * 16 + digito;
+        }
+        return valor;
+    }
+
+    private int utf8(int codigo, int escrito) {
+        if (codigo < 0x80) {
+            rascunho[escrito++] = (byte) codigo;
+        } else if (codigo < 0x800) {
+            rascunho[escrito++] = (byte) (0xC0 | codigo >> 6);
+            rascunho[escrito++] = (byte) (0x80 | codigo & 0x3F);
+        } else if (codigo < 0x10000) {
+            rascunho[escrito++] = (byte) (0xE0 | codigo >> 12);
+            rascunho[escrito++] = (byte) (0x80 | codigo >> 6 & 0x3F);
+            rascunho[escrito++] = (byte) (0x80 | codigo & 0x3F);
+        } else {
+            rascunho[escrito++] = (byte) (0xF0 | codigo >> 18);
+            rascunho[escrito++] = (byte) (0x80 | codigo >> 12 & 0x3F);
+            rascunho[escrito++] = (byte) (0x80 | codigo >> 6 & 0x3F);
+            rascunho[escrito++] = (byte) (0x80 | codigo & 0x3F);
+        }
+        return escrito;
+    }
+
+    private IllegalArgumentException invalido(int campo, String esperado) {
+        int tamanho = copiar(campo);
+        String nome = chaves != null
+            ? "Campo " + new String(chaves[campo], StandardCharsets.UTF_8)
+            : "Coluna " + (campo + 1);
+        return new IllegalArgumentException(
+            nome + " não é " + esperado + ": " + new String(rascunho, 0, tamanho, charset));
+    }
+
+    private byte byteEm(long posicao) {
+        return dados.get(ValueLayout.JAVA_BYTE, posicao);
+    }
+
+    private void garantirCapacidade(int campos) {
+        if (inicios.length < campos) {
+            int capacidade = Math.max(campos, inicios.length * 2);
+            inicios = Arrays.copyOf(inicios, capacidade);
+            fins = Arrays.copyOf(fins, capacidade);
+            escapados = Arrays.copyOf(escapados, capacidade);
+            cacheBytes = Arrays.copyOf(cacheBytes, capacidade);
+            cacheTextos = Arrays.copyOf(cacheTextos, capacidade);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Formato de arquivo texto exportado por sistemas legados: uma linha por registro, com campos
+ * delimitados ({@link Delimited}), de largura fixa ({@link FixedWidth}) ou em objetos JSON
+ * ({@link JsonLines}).
+ *
+ * <p>Linhas terminam em {@code \n} ou {@code \r\n}; linhas em branco são ignoradas. O conjunto de
+ * caracteres deve codificar {@code \n}, o separador e as aspas em um único byte (UTF-8, ISO-8859-1,
+ * windows-1252 e semelhantes).</p>
+ */
+public sealed interface FlatFileFormat permits FlatFileFormat.Delimited, FlatFileFormat.FixedWidth,
+    FlatFileFormat.JsonLines {
+
+    /**
+     * @return se a primeira linha é um cabeçalho a ser ignorado
+     */
+    boolean header();
+
+    /**
+     * @return conjunto de caracteres do arquivo
+     */
+    Charset charset();
+
+    /**
+     * Campos separados por um caractere, com aspas duplas opcionais ao redor do campo e aspas
+     * internas duplicadas ({@code ""}), como no RFC 4180. Quebras de linha dentro de aspas não são
+     * suportadas, pois o arquivo é dividido em blocos por linha.
+     *
+     * @param separator separador de campos (ASCII)
+     * @param header    se a primeira linha é um cabeçalho
+     * @param charset   conjunto de caracteres do arquivo
+     */
+    record Delimited(char separator, boolean header, Charset charset) implements FlatFileFormat {
+
+        public Delimited {
+            requireSingleByte(charset);
+            if (separator == 0 || separator > 0x7F || separator == '\n' || separator == '\r' || separator == '"') {
+                throw new IllegalArgumentException("Separador inválido: " + (int) separator);
+            }
+        }
+
+        /**
+         * CSV em UTF-8 com o separador informado e cabeçalho.
+         */
+        public static Delimited csv(char separator) {
+            return new Delimited(separator, true, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Campos de largura fixa, em bytes, na ordem das colunas. Espaços à esquerda e à direita de
+     * cada campo são descartados e linhas mais curtas que o leiaute têm os campos finais vazios,
+     * como ocorre em exportações que removem os espaços do fim da linha.
+     *
+     * @param widths  largura de cada campo, em bytes
+     * @param header  se a primeira linha é um cabeçalho
+     * @param charset conjunto de caracteres do arquivo
+     */
+    record FixedWidth(List<Integer> widths, boolean header, Charset charset) implements FlatFileFormat {
+
+        public FixedWidth {
+            requireSingleByte(charset);
+            widths = List.copyOf(Objects.requireNonNull(widths, "Larguras são obrigatórias"));
+            if (widths.isEmpty()) {
+                throw new IllegalArgumentException("Leiaute de largura fixa deve ter ao menos um campo");
+            }
+            for (int largura : widths) {
+                if (largura <= 0) {
+                    throw new IllegalArgumentException("Largura de campo deve ser positiva: " + largura);
+                }
+            }
+        }
+
+        /**
+         * Leiaute sem cabeçalho, em ISO-8859-1, com as larguras informadas.
+         */
+        public static FixedWidth of(int... widths) {
+            return new FixedWidth(Arrays.stream(widths).boxed().toList(), false, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    /**
+     * Um objeto JSON por linha (NDJSON), em UTF-8. Os campos são os valores das chaves informadas,
+     * em qualquer ordem na linha; chaves ausentes ou com {@code null} ficam vazias, e chaves não
+     * listadas, objetos e arrays são ignorados, como os blocos aninhados num CSV.
+     *
+     * @param keys chave de cada campo, na ordem dos campos
+     */
+    record JsonLines(List<String> keys) implements FlatFileFormat {
+
+        public JsonLines {
+            keys = List.copyOf(Objects.requireNonNull(keys, "Chaves são obrigatórias"));
+            if (keys.isEmpty()) {
+                throw new IllegalArgumentException("Formato JSON deve ter ao menos uma chave");
+            }
+            if (keys.stream().distinct().count() != keys.size()) {
+                throw new IllegalArgumentException("Chaves repetidas: " + keys);
+            }
+        }
+
+        /**
+         * @return {@code false}: linhas JSON não têm cabeçalho
+         */
+        @Override
+        public boolean header() {
+            return false;
+        }
+
+        /**
+         * @return UTF-8, como exige o RFC 8259
+         */
+        @Override
+        public Charset charset() {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    private static void requireSingleByte(Charset charset) {
+        Objects.requireNonNull(charset, "Conjunto de caracteres é obrigatório");
+        if (!Arrays.equals("\n\";,".getBytes(charset), new byte[] {'\n', '"', ';', ','})) {
+            throw new IllegalArgumentException("Conjunto de caracteres não compatível com ASCII: " + charset);
+        }
+    }
+}
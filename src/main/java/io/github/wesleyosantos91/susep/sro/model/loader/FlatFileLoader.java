@@ -0,0 +1,278 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+import io.github.wesleyosantos91.susep.sro.model.flow.RecordCursor;
+import io.github.wesleyosantos91.susep.sro.model.flow.RecordPublisher;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Carga paralela de arquivos texto de uma linha por registro (CSV ou largura fixa) exportados por
+ * sistemas legados, como movimentos de prêmio e documentos.
+ *
+ * <p>O arquivo é mapeado em memória e dividido em blocos de tamanho aproximado {@code chunkBytes},
+ * com as fronteiras ajustadas para o início da linha seguinte. Cada bloco é percorrido por uma
+ * tarefa própria, com seu {@link FieldCursor}, e os resultados são concatenados na ordem do
+ * arquivo. Os campos são convertidos diretamente dos bytes mapeados, sem substrings por linha.</p>
+ *
+ * <p>Linhas rejeitadas pelo {@link LineMapper} ou pelas validações do record não interrompem a
+ * carga: são devolvidas em {@link LoadResult#errors()} com o número da linha no arquivo.</p>
+ *
+ * <p>Para serviços não bloqueantes, {@link #publisher(Path, Executor, Consumer)} lê o mesmo
+ * arquivo em sequência, sob demanda do assinante, sem carregar todos os registros.</p>
+ *
+ * @param <T> tipo do registro
+ */
+public final class FlatFileLoader<T> {
+
+    /**
+     * Tamanho padrão dos blocos, em bytes.
+     */
+    public static final long DEFAULT_CHUNK_BYTES = 8L * 1024 * 1024;
+
+    private static final ValueLayout.OfLong PALAVRA = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final long UNS = 0x0101010101010101L;
+    private static final long ALTOS = 0x8080808080808080L;
+    private static final long QUEBRAS = UNS * '\n';
+
+    private final FlatFileFormat formato;
+    private final LineMapper<T> mapper;
+    private final long chunkBytes;
+
+    public FlatFileLoader(FlatFileFormat formato, LineMapper<T> mapper) {
+        this(formato, mapper, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * @param chunkBytes tamanho aproximado de cada bloco processado em paralelo, em bytes
+     * @throws IllegalArgumentException se {@code chunkBytes} não for positivo
+     */
+    public FlatFileLoader(FlatFileFormat formato, LineMapper<T> mapper, long chunkBytes) {
+        this.formato = Objects.requireNonNull(formato, "Formato é obrigatório");
+        this.mapper = Objects.requireNonNull(mapper, "Mapeador é obrigatório");
+        if (chunkBytes <= 0) {
+            throw new IllegalArgumentException("Tamanho de bloco deve ser positivo: " + chunkBytes);
+        }
+        this.chunkBytes = chunkBytes;
+    }
+
+    /**
+     * Carrega o arquivo, convertendo os blocos em paralelo.
+     *
+     * @return registros e linhas rejeitadas, na ordem do arquivo
+     */
+    public LoadResult<T> load(Path arquivo) throws IOException {
+        Objects.requireNonNull(arquivo, "Arquivo é obrigatório");
+        try (Arena arena = Arena.ofShared();
+             FileChannel channel = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long tamanho = channel.size();
+            if (tamanho == 0) {
+                return new LoadResult<>(List.of(), List.of(), 0);
+            }
+            MemorySegment dados = channel.map(FileChannel.MapMode.READ_ONLY, 0, tamanho, arena);
+            long[] fronteiras = fronteiras(dados, inicio(dados));
+
+            List<Bloco<T>> blocos = IntStream.range(0, fronteiras.length - 1).parallel()
+                .mapToObj(i -> processar(dados, fronteiras[i], fronteiras[i + 1], i == 0 && formato.header()))
+                .toList();
+
+            List<T> registros = new ArrayList<>();
+            List<LineError> erros = new ArrayList<>();
+            long linhas = 0;
+            for (Bloco<T> bloco : blocos) {
+                registros.addAll(bloco.registros());
+                for (LineError erro : bloco.erros()) {
+                    erros.add(new LineError(linhas + erro.line(), erro.offset(), erro.message()));
+                }
+                linhas += bloco.linhas();
+            }
+            return new LoadResult<>(registros, erros, linhas);
+        }
+    }
+
+    /**
+     * Publicador dos registros do arquivo, lidos em sequência conforme a demanda do assinante.
+     *
+     * <p>Cada assinante mapeia o arquivo ao pedir o primeiro registro e o libera ao fim ou no
+     * cancelamento. Linhas rejeitadas não encerram o fluxo: são entregues ao tratador, na thread da
+     * leitura, com o número da linha no arquivo.</p>
+     *
+     * @param arquivo    arquivo a ler
+     * @param executor   executor das leituras e notificações
+     * @param rejeitadas tratador das linhas rejeitadas
+     * @return publicador dos registros, na ordem do arquivo
+     */
+    public RecordPublisher<T> publisher(Path arquivo, Executor executor, Consumer<? super LineError> rejeitadas) {
+        Objects.requireNonNull(arquivo, "Arquivo é obrigatório");
+        Objects.requireNonNull(rejeitadas, "Tratador é obrigatório");
+        return RecordPublisher.of(() -> new Leitura(arquivo, rejeitadas), executor);
+    }
+
+    /**
+     * @return posição após a marca de ordem de bytes UTF-8, se presente
+     */
+    private long inicio(MemorySegment dados) {
+        if (formato.charset().equals(StandardCharsets.UTF_8) && dados.byteSize() >= 3
+                && dados.get(ValueLayout.JAVA_BYTE, 0) == (byte) 0xEF
+                && dados.get(ValueLayout.JAVA_BYTE, 1) == (byte) 0xBB
+                && dados.get(ValueLayout.JAVA_BYTE, 2) == (byte) 0xBF) {
+            return 3;
+        }
+        return 0;
+    }
+
+    /**
+     * Divide {@code [inicio, fim do arquivo)} em blocos que começam sempre no início de uma linha.
+     */
+    private long[] fronteiras(MemorySegment dados, long inicio) {
+        long tamanho = dados.byteSize();
+        List<Long> fronteiras = new ArrayList<>();
+        fronteiras.add(inicio);
+        long anterior = inicio;
+        while (tamanho - anterior > chunkBytes) {
+            long quebra = quebraDeLinha(dados, anterior + chunkBytes - 1, tamanho);
+            if (quebra + 1 >= tamanho) {
+                break;
+            }
+            anterior = quebra + 1;
+            fronteiras.add(anterior);
+        }
+        fronteiras.add(tamanho);
+        return fronteiras.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private Bloco<T> processar(MemorySegment dados, long de, long ate, boolean cabecalho) {
+        FieldCursor campos = new FieldCursor(dados, formato);
+        List<T> registros = new ArrayList<>();
+        List<LineError> erros = new ArrayList<>();
+        long linha = 0;
+        long posicao = de;
+        while (posicao < ate) {
+            long quebra = quebraDeLinha(dados, posicao, ate);
+            long fim = quebra;
+            if (fim > posicao && dados.get(ValueLayout.JAVA_BYTE, fim - 1) == '\r') {
+                fim--;
+            }
+            linha++;
+            if (fim > posicao && !(cabecalho && linha == 1)) {
+                try {
+                    campos.reset(posicao, fim);
+                    T registro = mapper.map(campos);
+                    if (registro != null) {
+                        registros.add(registro);
+                    }
+                } catch (RuntimeException e) {
+                    String mensagem = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+                    erros.add(new LineError(linha, posicao, mensagem));
+                }
+            }
+            posicao = quebra + 1;
+        }
+        return new Bloco<>(registros, erros, linha);
+    }
+
+    /**
+     * Procura {@code \n} em {@code [de, ate)} oito bytes por vez, pelo teste de byte zero em palavra
+     * aplicado a {@code palavra ^ 0x0A0A...}.
+     *
+     * @return posição do {@code \n}, ou {@code ate} se não houver
+     */
+    static long quebraDeLinha(MemorySegment dados, long de, long ate) {
+        long posicao = de;
+        while (posicao + Long.BYTES <= ate) {
+            long palavra = dados.get(PALAVRA, posicao) ^ QUEBRAS;
+            long zeros = (palavra - UNS) & ~palavra & ALTOS;
+            if (zeros != 0) {
+                return posicao + (Long.numberOfTrailingZeros(zeros) >>> 3);
+            }
+            posicao += Long.BYTES;
+        }
+        while (posicao < ate) {
+            if (dados.get(ValueLayout.JAVA_BYTE, posicao) == '\n') {
+                return posicao;
+            }
+            posicao++;
+        }
+        return ate;
+    }
+
+    /**
+     * Leitura sequencial do arquivo mapeado, uma linha por chamada a {@link #next()}. A arena é
+     * compartilhada porque as chamadas ocorrem em threads diferentes do executor, uma de cada vez.
+     */
+    private final class Leitura implements RecordCursor<T> {
+
+        private final Consumer<? super LineError> rejeitadas;
+        private final Arena arena = Arena.ofShared();
+        private final MemorySegment dados;
+        private final FieldCursor campos;
+        private long posicao;
+        private long linha;
+
+        private Leitura(Path arquivo, Consumer<? super LineError> rejeitadas) throws IOException {
+            this.rejeitadas = rejeitadas;
+            try (FileChannel channel = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+                this.dados = channel.size() == 0 ? MemorySegment.NULL
+                    : channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            } catch (IOException | RuntimeException e) {
+                arena.close();
+                throw e;
+            }
+            this.campos = new FieldCursor(dados, formato);
+            this.posicao = dados.byteSize() == 0 ? 0 : inicio(dados);
+        }
+
+        @Override
+        public T next() {
+            long tamanho = dados.byteSize();
+            while (posicao < tamanho) {
+                long inicio = posicao;
+                long quebra = quebraDeLinha(dados, inicio, tamanho);
+                long fim = quebra;
+                if (fim > inicio && dados.get(ValueLayout.JAVA_BYTE, fim - 1) == '\r') {
+                    fim--;
+                }
+                posicao = quebra + 1;
+                linha++;
+                if (fim == inicio || formato.header() && linha == 1) {
+                    continue;
+                }
+                try {
+                    campos.reset(inicio, fim);
+                    T registro = mapper.map(campos);
+                    if (registro != null) {
+                        return registro;
+                    }
+                } catch (RuntimeException e) {
+                    String mensagem = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+                    rejeitadas.accept(new LineError(linha, inicio, mensagem));
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() {
+            arena.close();
+        }
+    }
+
+    /**
+     * Resultado de um bloco, com números de linha relativos ao início do bloco.
+     */
+    private record Bloco<T>(List<T> registros, List<LineError> erros, long linhas) {
+    }
+}
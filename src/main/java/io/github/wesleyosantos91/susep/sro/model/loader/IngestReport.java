@@ -0,0 +1,32 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Resumo da ingestão de um arquivo pelo {@link MultiFormatIngestor}.
+ *
+ * @param file     arquivo de origem
+ * @param format   formato reconhecido, ou {@code null} se o reconhecimento falhou
+ * @param type     agregado reconhecido, ou {@code null} se o reconhecimento falhou
+ * @param records  registros entregues ao destino
+ * @param rejected linhas (ou quadros) rejeitadas
+ * @param failure  falha que impediu a carga ou a entrega do arquivo, ou {@code null}
+ */
+public record IngestReport(Path file, InputFormat format, Class<? extends Record> type, long records,
+                           long rejected, Exception failure) {
+
+    public IngestReport {
+        Objects.requireNonNull(file, "Arquivo é obrigatório");
+        if (records < 0 || rejected < 0) {
+            throw new IllegalArgumentException("Contagens devem ser não negativas: " + records + "/" + rejected);
+        }
+    }
+
+    /**
+     * @return se o arquivo foi carregado e entregue, ainda que com linhas rejeitadas
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Arquivo carregado pelo {@link MultiFormatIngestor}, entregue ao destino da ingestão.
+ *
+ * @param file   arquivo de origem
+ * @param input  formato e agregado reconhecidos
+ * @param result registros e linhas (ou quadros) rejeitadas
+ */
+public record IngestedFile(Path file, SniffedInput input, LoadResult<? extends Record> result) {
+
+    public IngestedFile {
+        Objects.requireNonNull(file, "Arquivo é obrigatório");
+        Objects.requireNonNull(input, "Formato é obrigatório");
+        Objects.requireNonNull(result, "Resultado é obrigatório");
+    }
+
+    /**
+     * @param tipo classe do agregado esperado
+     * @param <T>  tipo do agregado
+     * @return resultado tipado
+     * @throws IllegalArgumentException se o arquivo for de outro agregado
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Record> LoadResult<T> result(Class<T> tipo) {
+        if (input.type() != tipo) {
+            throw new IllegalArgumentException("Arquivo " + file.getFileName() + " é de "
+                + input.type().getSimpleName() + ", não de " + tipo.getSimpleName());
+        }
+        return (LoadResult<T>) result;
+    }
+}
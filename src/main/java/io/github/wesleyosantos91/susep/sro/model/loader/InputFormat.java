@@ -0,0 +1,22 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+/**
+ * Formato de um arquivo de entrada reconhecido pelo {@link InputSniffer}.
+ */
+public enum InputFormat {
+
+    /**
+     * Quadros do {@code BatchPacker}: esquema do {@code RecordCodec} em 8 bytes, tamanho e corpo.
+     */
+    FRAMES,
+
+    /**
+     * Texto delimitado com cabeçalho (CSV), lido pelo {@link FlatFileLoader}.
+     */
+    DELIMITED,
+
+    /**
+     * Um objeto JSON por linha (NDJSON), lido pelo {@link FlatFileLoader}.
+     */
+    NDJSON
+}
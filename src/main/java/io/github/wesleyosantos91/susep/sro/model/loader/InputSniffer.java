@@ -0,0 +1,257 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+import io.github.wesleyosantos91.susep.sro.model.ccg.Ccg;
+import io.github.wesleyosantos91.susep.sro.model.codec.RecordCodec;
+import io.github.wesleyosantos91.susep.sro.model.complauto.ComplAuto;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.endosso.Endosso;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistro;
+import io.github.wesleyosantos91.susep.sro.model.sinistro.Sinistro;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Reconhece o formato e o agregado de um arquivo de entrada pelos seus primeiros bytes.
+ *
+ * <ul>
+ *   <li>quadros do {@code BatchPacker}: os 8 primeiros bytes são o esquema do {@link RecordCodec}
+ *       de um dos agregados;</li>
+ *   <li>NDJSON: a primeira linha é um objeto JSON, e o agregado é o que tem componentes com todos
+ *       os nomes das suas chaves;</li>
+ *   <li>CSV: a primeira linha é um cabeçalho, com o separador mais frequente entre {@code ;},
+ *       {@code ,}, {@code |} e tabulação, e o agregado é o que tem componentes escalares com todos
+ *       os nomes das colunas.</li>
+ * </ul>
+ *
+ * <p>Se mais de um agregado aceitar os nomes, vence o de maior fração dos componentes escalares
+ * presentes; o empate é rejeitado como ambíguo. Contêineres Avro são reconhecidos pela marca
+ * ({@code Obj} seguido do byte 1) e rejeitados: o projeto não tem dependências de execução para
+ * lê-los.</p>
+ */
+public final class InputSniffer {
+
+    /**
+     * Bytes lidos do início do arquivo para o reconhecimento; a primeira linha dos formatos texto
+     * deve caber nesse limite.
+     */
+    public static final int PREFIX_BYTES = 64 * 1024;
+
+    /**
+     * Agregados reconhecidos, um por contexto delimitado do leiaute.
+     */
+    public static final List<Class<? extends Record>> AGGREGATES = List.of(Documento.class, Endosso.class,
+        MovimentoPremio.class, MovimentoSinistro.class, Sinistro.class, ComplAuto.class, Ccg.class);
+
+    private static final byte[] AVRO = {'O', 'b', 'j', 1};
+    private static final String SEPARADORES = ";,|\t";
+    private static final Map<Long, Class<? extends Record>> ESQUEMAS = new HashMap<>();
+
+    static {
+        for (Class<? extends Record> tipo : AGGREGATES) {
+            ESQUEMAS.put(RecordCodec.of(tipo).schema(), tipo);
+        }
+    }
+
+    private InputSniffer() {
+    }
+
+    /**
+     * @param arquivo arquivo a reconhecer
+     * @return formato e agregado do arquivo
+     * @throws IllegalStateException se o formato ou o agregado não forem reconhecidos
+     */
+    public static SniffedInput sniff(Path arquivo) throws IOException {
+        Objects.requireNonNull(arquivo, "Arquivo é obrigatório");
+        try (InputStream entrada = Files.newInputStream(arquivo)) {
+            return sniff(entrada.readNBytes(PREFIX_BYTES));
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException(arquivo.getFileName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param inicio primeiros bytes do arquivo (até {@link #PREFIX_BYTES}; o arquivo inteiro, se menor)
+     * @return formato e agregado do arquivo
+     * @throws IllegalStateException se o formato ou o agregado não forem reconhecidos
+     */
+    public static SniffedInput sniff(byte[] inicio) {
+        Objects.requireNonNull(inicio, "Bytes iniciais são obrigatórios");
+        if (inicio.length == 0) {
+            throw new IllegalStateException("Arquivo vazio");
+        }
+        if (inicio.length >= AVRO.length && Arrays.equals(inicio, 0, AVRO.length, AVRO, 0, AVRO.length)) {
+            throw new IllegalStateException("Contêiner Avro não suportado: converta para quadros do BatchPacker, "
+                + "NDJSON ou CSV");
+        }
+        if (inicio.length >= Long.BYTES) {
+            Class<? extends Record> tipo = ESQUEMAS.get(littleEndian(inicio));
+            if (tipo != null) {
+                return new SniffedInput(InputFormat.FRAMES, tipo, null, List.of());
+            }
+        }
+        String linha = primeiraLinha(inicio);
+        if (linha.startsWith("{")) {
+            Class<? extends Record> tipo = agregado(chavesJson(linha), false);
+            List<String> colunas = RecordLineMapper.of(tipo).columns();
+            return new SniffedInput(InputFormat.NDJSON, tipo, new FlatFileFormat.JsonLines(colunas), colunas);
+        }
+        char separador = separador(linha);
+        List<String> colunas = colunas(linha, separador);
+        Class<? extends Record> tipo = agregado(colunas, true);
+        return new SniffedInput(InputFormat.DELIMITED, tipo, FlatFileFormat.Delimited.csv(separador), colunas);
+    }
+
+    private static long littleEndian(byte[] bytes) {
+        long valor = 0;
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            valor = valor << 8 | bytes[i] & 0xFF;
+        }
+        return valor;
+    }
+
+    /**
+     * @return primeira linha não vazia, sem marca de ordem de bytes, espaços nas pontas e {@code \r}
+     */
+    private static String primeiraLinha(byte[] inicio) {
+        int de = inicio.length >= 3 && inicio[0] == (byte) 0xEF && inicio[1] == (byte) 0xBB
+            && inicio[2] == (byte) 0xBF ? 3 : 0;
+        while (de < inicio.length && (inicio[de] == '\n' || inicio[de] == '\r' || inicio[de] == ' ')) {
+            de++;
+        }
+        int ate = de;
+        while (ate < inicio.length && inicio[ate] != '\n') {
+            byte b = inicio[ate];
+            if (b >= 0 && b < 0x20 && b != '\t' && b != '\r') {
+                throw new IllegalStateException("Formato não reconhecido: conteúdo binário sem esquema conhecido");
+            }
+            ate++;
+        }
+        if (ate == inicio.length && inicio.length >= PREFIX_BYTES) {
+            throw new IllegalStateException("Primeira linha excede " + PREFIX_BYTES + " bytes");
+        }
+        String linha = new String(inicio, de, ate - de, StandardCharsets.UTF_8).strip();
+        if (linha.isEmpty()) {
+            throw new IllegalStateException("Formato não reconhecido: arquivo sem conteúdo");
+        }
+        return linha;
+    }
+
+    /**
+     * @return chaves do primeiro nível do objeto JSON
+     */
+    private static List<String> chavesJson(String linha) {
+        List<String> chaves = new ArrayList<>();
+        int profundidade = 0;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (c == '"') {
+                int fim = i + 1;
+                while (fim < linha.length() && linha.charAt(fim) != '"') {
+                    fim += linha.charAt(fim) == '\\' ? 2 : 1;
+                }
+                if (fim >= linha.length()) {
+                    throw new IllegalStateException("Formato não reconhecido: string JSON não fechada");
+                }
+                int seguinte = fim + 1;
+                while (seguinte < linha.length() && Character.isWhitespace(linha.charAt(seguinte))) {
+                    seguinte++;
+                }
+                if (profundidade == 1 && seguinte < linha.length() && linha.charAt(seguinte) == ':') {
+                    chaves.add(linha.substring(i + 1, fim));
+                }
+                i = fim;
+            } else if (c == '{' || c == '[') {
+                profundidade++;
+            } else if (c == '}' || c == ']') {
+                profundidade--;
+            }
+        }
+        return chaves;
+    }
+
+    private static char separador(String linha) {
+        char escolhido = SEPARADORES.charAt(0);
+        long maior = 0;
+        for (char candidato : SEPARADORES.toCharArray()) {
+            long ocorrencias = linha.chars().filter(c -> c == candidato).count();
+            if (ocorrencias > maior) {
+                maior = ocorrencias;
+                escolhido = candidato;
+            }
+        }
+        return escolhido;
+    }
+
+    private static List<String> colunas(String linha, char separador) {
+        List<String> colunas = new ArrayList<>();
+        for (String coluna : linha.split(Pattern.quote(String.valueOf(separador)), -1)) {
+            String nome = coluna.strip();
+            if (nome.length() >= 2 && nome.startsWith("\"") && nome.endsWith("\"")) {
+                nome = nome.substring(1, nome.length() - 1);
+            }
+            colunas.add(nome);
+        }
+        return colunas;
+    }
+
+    /**
+     * @param nomes      nomes de colunas ou chaves do arquivo
+     * @param escalares  se os nomes devem ser de componentes escalares (o CSV não tem blocos)
+     * @return agregado cujos componentes têm todos os nomes, com maior fração dos escalares presentes
+     */
+    private static Class<? extends Record> agregado(List<String> nomes, boolean escalares) {
+        Set<String> presentes = new LinkedHashSet<>();
+        nomes.stream().filter(nome -> !nome.isBlank()).forEach(presentes::add);
+        if (presentes.isEmpty()) {
+            throw new IllegalStateException("Formato não reconhecido: primeira linha sem nomes de campos");
+        }
+        List<Class<? extends Record>> melhores = new ArrayList<>();
+        double melhorCobertura = -1;
+        for (Class<? extends Record> tipo : AGGREGATES) {
+            Set<String> todos = new LinkedHashSet<>();
+            Set<String> escalaresDoTipo = new LinkedHashSet<>();
+            for (RecordComponent componente : tipo.getRecordComponents()) {
+                todos.add(componente.getName());
+                Class<?> classe = componente.getType();
+                if (!List.class.isAssignableFrom(classe) && !classe.isRecord()) {
+                    escalaresDoTipo.add(componente.getName());
+                }
+            }
+            if (!(escalares ? escalaresDoTipo : todos).containsAll(presentes)) {
+                continue;
+            }
+            long usados = presentes.stream().filter(escalaresDoTipo::contains).count();
+            double cobertura = (double) usados / escalaresDoTipo.size();
+            if (cobertura > melhorCobertura) {
+                melhorCobertura = cobertura;
+                melhores.clear();
+            }
+            if (cobertura == melhorCobertura) {
+                melhores.add(tipo);
+            }
+        }
+        if (melhores.isEmpty()) {
+            throw new IllegalStateException("Campos não correspondem a nenhum agregado: " + presentes);
+        }
+        if (melhores.size() > 1) {
+            throw new IllegalStateException("Campos compatíveis com mais de um agregado: "
+                + melhores.stream().map(Class::getSimpleName).toList());
+        }
+        return melhores.getFirst();
+    }
+}
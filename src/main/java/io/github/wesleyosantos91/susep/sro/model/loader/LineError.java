@@ -0,0 +1,20 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+import java.util.Objects;
+
+/**
+ * Linha rejeitada durante a carga.
+ *
+ * @param line    número da linha no arquivo, a partir de 1
+ * @param offset  posição do início da linha no arquivo, em bytes
+ * @param message motivo da rejeição
+ */
+public record LineError(long line, long offset, String message) {
+
+    public LineError {
+        Objects.requireNonNull(message, "Mensagem é obrigatória");
+        if (line < 1 || offset < 0) {
+            throw new IllegalArgumentException("Posição de linha inválida: " + line + "@" + offset);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+/**
+ * Converte os campos de uma linha em um registro.
+ *
+ * <p>Chamado concorrentemente por blocos diferentes do arquivo, cada um com seu
+ * {@link FieldCursor}; implementações não devem guardar estado mutável compartilhado. Exceções de
+ * tempo de execução (inclusive as validações do record) viram {@link LineError} da linha.</p>
+ *
+ * @param <T> tipo do registro
+ */
+@FunctionalInterface
+public interface LineMapper<T> {
+
+    /**
+     * @param campos campos da linha corrente, válidos apenas durante a chamada
+     * @return registro da linha, ou {@code null} para ignorá-la (por exemplo, registros de trailer)
+     */
+    T map(FieldCursor campos);
+}
@@ -0,0 +1,30 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Resultado da carga de um arquivo pelo {@link FlatFileLoader}.
+ *
+ * @param records registros convertidos, na ordem do arquivo
+ * @param errors  linhas rejeitadas, na ordem do arquivo
+ * @param lines   linhas lidas, inclusive cabeçalho, linhas em branco, ignoradas e rejeitadas
+ * @param <T>     tipo do registro
+ */
+public record LoadResult<T>(List<T> records, List<LineError> errors, long lines) {
+
+    public LoadResult {
+        records = List.copyOf(Objects.requireNonNull(records, "Registros são obrigatórios"));
+        errors = List.copyOf(Objects.requireNonNull(errors, "Erros são obrigatórios"));
+        if (lines < records.size() + (long) errors.size()) {
+            throw new IllegalArgumentException("Quantidade de linhas menor que a de registros e erros: " + lines);
+        }
+    }
+
+    /**
+     * @return se nenhuma linha foi rejeitada
+     */
+    public boolean isClean() {
+        return errors.isEmpty();
+    }
+}
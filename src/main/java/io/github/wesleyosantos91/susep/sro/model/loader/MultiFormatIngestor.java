@@ -0,0 +1,266 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+import io.github.wesleyosantos91.susep.sro.model.batch.BatchPacker;
+import io.github.wesleyosantos91.susep.sro.model.codec.RecordCodec;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * Ingestão de uma pasta de arquivos de formatos e agregados misturados (quadros do
+ * {@link BatchPacker}, NDJSON e CSV dos sete agregados), sem uma configuração por combinação.
+ *
+ * <p>Cada arquivo é reconhecido pelo {@link InputSniffer} e lido pelo decodificador do seu formato,
+ * sempre sobre o arquivo mapeado em memória: os formatos texto pelo {@link FlatFileLoader}, em
+ * blocos paralelos, e os quadros pelo {@link RecordCodec} do agregado. Vários arquivos são
+ * carregados ao mesmo tempo, limitados por {@code parallelism} e por um orçamento de memória
+ * compartilhado entre todas as chamadas a {@link #ingest(Collection, Consumer)} da instância.</p>
+ *
+ * <p>Cada arquivo reserva do orçamento o seu tamanho (um arquivo maior que o orçamento reserva o
+ * orçamento inteiro e é carregado sozinho) antes da carga, e só o devolve quando o destino termina
+ * de tratar os seus registros. O tamanho do arquivo é uma estimativa da memória em uso pelos
+ * registros decodificados, não uma medida exata. A reserva é justa: um arquivo grande não espera
+ * indefinidamente atrás de arquivos pequenos.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class MultiFormatIngestor {
+
+    /**
+     * Orçamento de memória padrão, em bytes.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 256L * 1024 * 1024;
+
+    private static final int UNIDADE = 1024;
+    private static final ValueLayout.OfLong ESQUEMA =
+        ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final int paralelismo;
+    private final long chunkBytes;
+    private final int unidades;
+    private final Semaphore orcamento;
+
+    private MultiFormatIngestor(Builder builder) {
+        this.paralelismo = builder.paralelismo;
+        this.chunkBytes = builder.chunkBytes;
+        this.unidades = (int) Math.min(Integer.MAX_VALUE, (builder.orcamento + UNIDADE - 1) / UNIDADE);
+        this.orcamento = new Semaphore(unidades, true);
+    }
+
+    /**
+     * @return construtor com orçamento de {@link #DEFAULT_MEMORY_BUDGET} bytes e um arquivo por
+     *         processador
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Reconhece, carrega e entrega ao destino cada arquivo. Falhas de um arquivo (formato não
+     * reconhecido, erro de leitura ou exceção do destino) não interrompem os demais: ficam no
+     * resumo do arquivo.
+     *
+     * @param arquivos arquivos a carregar
+     * @param destino  tratador de cada arquivo carregado, chamado concorrentemente e ainda dentro
+     *                 do orçamento de memória do arquivo
+     * @return resumo de cada arquivo, na ordem de {@code arquivos}
+     * @throws InterruptedException se a thread for interrompida enquanto aguarda os arquivos
+     */
+    public List<IngestReport> ingest(Collection<Path> arquivos, Consumer<? super IngestedFile> destino)
+            throws InterruptedException {
+        List<Path> lista = List.copyOf(Objects.requireNonNull(arquivos, "Arquivos são obrigatórios"));
+        Objects.requireNonNull(destino, "Destino é obrigatório");
+        if (lista.isEmpty()) {
+            return List.of();
+        }
+        List<IngestReport> resumos = new ArrayList<>(lista.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(paralelismo, lista.size()),
+                Thread.ofPlatform().name("sro-ingest-", 0).daemon().factory())) {
+            List<Future<IngestReport>> futuros = new ArrayList<>(lista.size());
+            for (Path arquivo : lista) {
+                futuros.add(executor.submit(() -> ingerir(arquivo, destino)));
+            }
+            try {
+                for (int i = 0; i < futuros.size(); i++) {
+                    try {
+                        resumos.add(futuros.get(i).get());
+                    } catch (ExecutionException e) {
+                        throw new IllegalStateException("Falha na ingestão de " + lista.get(i), e.getCause());
+                    }
+                }
+            } catch (InterruptedException | RuntimeException e) {
+                executor.shutdownNow();
+                throw e;
+            }
+        }
+        return resumos;
+    }
+
+    /**
+     * @return orçamento de memória disponível no momento, em bytes
+     */
+    public long availableBudget() {
+        return (long) orcamento.availablePermits() * UNIDADE;
+    }
+
+    private IngestReport ingerir(Path arquivo, Consumer<? super IngestedFile> destino) throws InterruptedException {
+        SniffedInput entrada;
+        long tamanho;
+        try {
+            entrada = InputSniffer.sniff(arquivo);
+            tamanho = Files.size(arquivo);
+        } catch (IOException | RuntimeException e) {
+            return new IngestReport(arquivo, null, null, 0, 0, e);
+        }
+        int reserva = (int) Math.min(unidades, Math.max(1, (tamanho + UNIDADE - 1) / UNIDADE));
+        orcamento.acquire(reserva);
+        try {
+            LoadResult<? extends Record> resultado = carregar(arquivo, entrada);
+            destino.accept(new IngestedFile(arquivo, entrada, resultado));
+            return new IngestReport(arquivo, entrada.format(), entrada.type(), resultado.records().size(),
+                resultado.errors().size(), null);
+        } catch (IOException | RuntimeException e) {
+            return new IngestReport(arquivo, entrada.format(), entrada.type(), 0, 0, e);
+        } finally {
+            orcamento.release(reserva);
+        }
+    }
+
+    private LoadResult<? extends Record> carregar(Path arquivo, SniffedInput entrada) throws IOException {
+        if (entrada.format() == InputFormat.FRAMES) {
+            return quadros(arquivo, entrada.type());
+        }
+        return new FlatFileLoader<>(entrada.layout(), entrada.mapper(), chunkBytes).load(arquivo);
+    }
+
+    /**
+     * Decodifica os quadros em sequência sobre o arquivo mapeado em memória: esquema (8 bytes),
+     * tamanho (inteiro variável) e corpo, do qual só o corpo é copiado para o {@link RecordCodec}.
+     * Um quadro inválido encerra a leitura, pois sem ele não há como localizar o início do seguinte;
+     * os anteriores são mantidos.
+     */
+    private static <T extends Record> LoadResult<T> quadros(Path arquivo, Class<T> tipo) throws IOException {
+        RecordCodec<T> codec = RecordCodec.of(tipo);
+        List<T> registros = new ArrayList<>();
+        List<LineError> erros = new ArrayList<>();
+        long quadro = 0;
+        try (Arena arena = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            MemorySegment dados = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            long fim = dados.byteSize();
+            long posicao = 0;
+            while (posicao < fim) {
+                quadro++;
+                try {
+                    if (fim - posicao < Long.BYTES) {
+                        throw new IllegalStateException("Quadro truncado no esquema");
+                    }
+                    long esquema = dados.get(ESQUEMA, posicao);
+                    if (esquema != codec.schema()) {
+                        throw new IllegalStateException("Quadro não é de " + tipo.getSimpleName()
+                            + ": esquema " + esquema);
+                    }
+                    long corpo = posicao + Long.BYTES;
+                    long tamanho = 0;
+                    for (int deslocamento = 0; ; deslocamento += 7) {
+                        if (corpo >= fim || deslocamento >= Long.SIZE) {
+                            throw new IllegalStateException("Quadro truncado no tamanho");
+                        }
+                        int b = dados.get(ValueLayout.JAVA_BYTE, corpo++);
+                        tamanho |= (long) (b & 0x7F) << deslocamento;
+                        if ((b & 0x80) == 0) {
+                            break;
+                        }
+                    }
+                    if (tamanho < 0 || tamanho > fim - corpo || tamanho > Integer.MAX_VALUE) {
+                        throw new IllegalStateException("Quadro truncado: " + tamanho + " bytes declarados");
+                    }
+                    registros.add(codec.decode(dados.asSlice(corpo, tamanho).toArray(ValueLayout.JAVA_BYTE)));
+                    posicao = corpo + tamanho;
+                } catch (RuntimeException e) {
+                    String mensagem = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+                    erros.add(new LineError(quadro, posicao, mensagem));
+                    break;
+                }
+            }
+        }
+        return new LoadResult<>(registros, erros, quadro);
+    }
+
+    /**
+     * Configuração do ingestor. Não é thread-safe.
+     */
+    public static final class Builder {
+
+        private long orcamento = DEFAULT_MEMORY_BUDGET;
+        private int paralelismo = Runtime.getRuntime().availableProcessors();
+        private long chunkBytes = FlatFileLoader.DEFAULT_CHUNK_BYTES;
+
+        private Builder() {
+        }
+
+        /**
+         * @param orcamento memória compartilhada entre os arquivos em carga, em bytes (arredondada
+         *                  para cima em KiB, assim como a reserva de cada arquivo)
+         * @return este construtor
+         * @throws IllegalArgumentException se o orçamento não for positivo
+         */
+        public Builder memoryBudget(long orcamento) {
+            if (orcamento <= 0) {
+                throw new IllegalArgumentException("Orçamento de memória deve ser positivo: " + orcamento);
+            }
+            this.orcamento = orcamento;
+            return this;
+        }
+
+        /**
+         * @param paralelismo arquivos carregados ao mesmo tempo, no máximo
+         * @return este construtor
+         * @throws IllegalArgumentException se o paralelismo não for positivo
+         */
+        public Builder parallelism(int paralelismo) {
+            if (paralelismo <= 0) {
+                throw new IllegalArgumentException("Paralelismo deve ser positivo: " + paralelismo);
+            }
+            this.paralelismo = paralelismo;
+            return this;
+        }
+
+        /**
+         * @param chunkBytes tamanho dos blocos dos arquivos texto, em bytes
+         * @return este construtor
+         * @throws IllegalArgumentException se o tamanho não for positivo
+         */
+        public Builder chunkBytes(long chunkBytes) {
+            if (chunkBytes <= 0) {
+                throw new IllegalArgumentException("Tamanho de bloco deve ser positivo: " + chunkBytes);
+            }
+            this.chunkBytes = chunkBytes;
+            return this;
+        }
+
+        /**
+         * @return ingestor com orçamento próprio
+         */
+        public MultiFormatIngestor build() {
+            return new MultiFormatIngestor(this);
+        }
+    }
+}
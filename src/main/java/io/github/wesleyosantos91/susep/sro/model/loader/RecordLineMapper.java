@@ -0,0 +1,180 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link LineMapper} que preenche os componentes escalares de um record a partir das colunas da
+ * linha e o constrói pelo construtor canônico, aplicando as validações do record.
+ *
+ * <p>Componentes {@code String}, {@code Integer}, {@code Long}, {@code Double}, {@code Float},
+ * {@code BigDecimal} e {@code LocalDate} são lidos das colunas; listas e records aninhados (blocos
+ * do leiaute, como os segurados de um {@code Documento}) não existem em arquivos de uma linha por
+ * registro e recebem {@code null}, normalizado pelo próprio record.</p>
+ *
+ * @param <T> tipo do record
+ */
+public final class RecordLineMapper<T extends Record> implements LineMapper<T> {
+
+    private static final MethodType CONSTRUTOR = MethodType.methodType(Object.class, Object[].class);
+
+    private final Class<T> tipo;
+    private final MethodHandle construtor;
+    private final int componentes;
+    private final int[] destinos;
+    private final Coluna[] colunas;
+
+    private RecordLineMapper(Class<T> tipo, MethodHandle construtor, int componentes, int[] destinos, Coluna[] colunas) {
+        this.tipo = tipo;
+        this.construtor = construtor;
+        this.componentes = componentes;
+        this.destinos = destinos;
+        this.colunas = colunas;
+    }
+
+    /**
+     * Colunas na ordem dos componentes escalares do record, ignorando listas e records aninhados.
+     *
+     * @throws IllegalArgumentException se o record tiver componente escalar de tipo não suportado
+     */
+    public static <T extends Record> RecordLineMapper<T> of(Class<T> tipo) {
+        List<String> nomes = new ArrayList<>();
+        for (RecordComponent componente : componentes(tipo)) {
+            if (!aninhado(componente.getType())) {
+                nomes.add(componente.getName());
+            }
+        }
+        return of(tipo, nomes);
+    }
+
+    /**
+     * Colunas associadas a componentes pelo nome, como no cabeçalho de um CSV.
+     *
+     * @param colunas nome do componente de cada coluna; {@code null} ou vazio ignora a coluna
+     * @throws IllegalArgumentException se um nome não for componente escalar do record ou se repetir
+     */
+    public static <T extends Record> RecordLineMapper<T> of(Class<T> tipo, List<String> colunas) {
+        Objects.requireNonNull(colunas, "Colunas são obrigatórias");
+        RecordComponent[] componentes = componentes(tipo);
+        Map<String, Integer> indices = new HashMap<>();
+        Class<?>[] parametros = new Class<?>[componentes.length];
+        for (int i = 0; i < componentes.length; i++) {
+            indices.put(componentes[i].getName(), i);
+            parametros[i] = componentes[i].getType();
+        }
+        int[] destinos = new int[colunas.size()];
+        Coluna[] leitores = new Coluna[colunas.size()];
+        boolean[] usados = new boolean[componentes.length];
+        for (int c = 0; c < colunas.size(); c++) {
+            String nome = colunas.get(c);
+            if (nome == null || nome.isBlank()) {
+                destinos[c] = -1;
+                continue;
+            }
+            Integer indice = indices.get(nome.strip());
+            if (indice == null || aninhado(componentes[indice].getType())) {
+                throw new IllegalArgumentException("Coluna não corresponde a componente escalar de "
+                    + tipo.getSimpleName() + ": " + nome);
+            }
+            if (usados[indice]) {
+                throw new IllegalArgumentException("Componente associado a mais de uma coluna: " + nome);
+            }
+            usados[indice] = true;
+            destinos[c] = indice;
+            leitores[c] = coluna(componentes[indice]);
+        }
+        try {
+            Constructor<T> canonico = tipo.getDeclaredConstructor(parametros);
+            canonico.trySetAccessible();
+            MethodHandle construtor = MethodHandles.lookup().unreflectConstructor(canonico)
+                .asSpreader(Object[].class, componentes.length)
+                .asType(CONSTRUTOR);
+            return new RecordLineMapper<>(tipo, construtor, componentes.length, destinos, leitores);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Record inacessível para carga: " + tipo.getName(), e);
+        }
+    }
+
+    @Override
+    public T map(FieldCursor campos) {
+        Object[] valores = new Object[componentes];
+        for (int c = 0; c < destinos.length; c++) {
+            if (destinos[c] >= 0) {
+                valores[destinos[c]] = colunas[c].ler(campos, c);
+            }
+        }
+        try {
+            return tipo.cast(construtor.invokeExact(valores));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Falha ao construir " + tipo.getName(), e);
+        }
+    }
+
+    /**
+     * @return nomes dos componentes associados às colunas, na ordem das colunas
+     */
+    public List<String> columns() {
+        RecordComponent[] componentes = tipo.getRecordComponents();
+        return Arrays.stream(destinos).mapToObj(d -> d < 0 ? "" : componentes[d].getName()).toList();
+    }
+
+    private static RecordComponent[] componentes(Class<?> tipo) {
+        Objects.requireNonNull(tipo, "Tipo é obrigatório");
+        if (!tipo.isRecord()) {
+            throw new IllegalArgumentException("Tipo não é record: " + tipo.getName());
+        }
+        return tipo.getRecordComponents();
+    }
+
+    private static boolean aninhado(Class<?> tipo) {
+        return List.class.isAssignableFrom(tipo) || tipo.isRecord();
+    }
+
+    private static Coluna coluna(RecordComponent componente) {
+        Class<?> tipo = componente.getType();
+        if (tipo == String.class) {
+            return FieldCursor::text;
+        }
+        if (tipo == Integer.class) {
+            return FieldCursor::intValue;
+        }
+        if (tipo == Long.class) {
+            return FieldCursor::longValue;
+        }
+        if (tipo == Double.class) {
+            return FieldCursor::doubleValue;
+        }
+        if (tipo == Float.class) {
+            return (campos, campo) -> {
+                Double valor = campos.doubleValue(campo);
+                return valor == null ? null : valor.floatValue();
+            };
+        }
+        if (tipo == BigDecimal.class) {
+            return FieldCursor::decimal;
+        }
+        if (tipo == LocalDate.class) {
+            return FieldCursor::date;
+        }
+        throw new IllegalArgumentException("Tipo de componente não suportado na carga: "
+            + componente.getName() + " (" + tipo.getName() + ")");
+    }
+
+    @FunctionalInterface
+    private interface Coluna {
+        Object ler(FieldCursor campos, int campo);
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Formato e agregado de um arquivo, reconhecidos pelo {@link InputSniffer}.
+ *
+ * @param format  formato do arquivo
+ * @param type    classe do agregado
+ * @param layout  leiaute das linhas, ou {@code null} para {@link InputFormat#FRAMES}
+ * @param columns componente de cada campo do leiaute (vazio em {@link InputFormat#FRAMES})
+ */
+public record SniffedInput(InputFormat format, Class<? extends Record> type, FlatFileFormat layout,
+                           List<String> columns) {
+
+    public SniffedInput {
+        Objects.requireNonNull(format, "Formato é obrigatório");
+        Objects.requireNonNull(type, "Tipo é obrigatório");
+        columns = List.copyOf(Objects.requireNonNull(columns, "Colunas são obrigatórias"));
+        if ((format == InputFormat.FRAMES) != (layout == null)) {
+            throw new IllegalArgumentException("Leiaute incompatível com o formato " + format + ": " + layout);
+        }
+    }
+
+    /**
+     * @return mapeador das linhas para o agregado
+     * @throws IllegalStateException se o formato for {@link InputFormat#FRAMES}, que não tem linhas
+     */
+    public RecordLineMapper<? extends Record> mapper() {
+        if (layout == null) {
+            throw new IllegalStateException("Formato " + format + " não é lido por linhas");
+        }
+        return RecordLineMapper.of(type, columns);
+    }
+}
@@ -0,0 +1,494 @@
+package io.github.wesleyosantos91.susep.sro.model.movimentopremio;
+
+import java.time.LocalDate;
+
+/**
+ * Builder reutilizável para {@link MovimentoPremio}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class MovimentoPremioBuilder {
+
+    private String uuid;
+    private String anotacao;
+    private String codigoSeguradora;
+    private LocalDate dataRegistro;
+    private LocalDate dataAlteracao;
+    private Integer indicadorExclusao;
+    private String apoliceCodigo;
+    private String certificadoCodigo;
+    private String endossoCodigo;
+    private String identificadorMovimento;
+    private String moeda;
+    private Double valorMovimento;
+    private Double valorMovimentoReal;
+    private LocalDate dataMovimento;
+    private Integer numeroParcelaMovimento;
+    private LocalDate dataVencimento;
+    private Integer tipoMovimento;
+    private String premioCobertura;
+    private String grupoRamo;
+    private String codigo;
+    private String coberturaInternaSeguradora;
+    private LocalDate dataInicio;
+    private LocalDate dataTermino;
+    private Double limiteMaximoIndenizacao;
+    private Double limiteMaximoIndenizacaoReal;
+    private Double valorPremio;
+    private Double valorPremioReal;
+    private Double adicionalFracionamento;
+    private Double iof;
+    private Double custoAquisicao;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public MovimentoPremioBuilder from(MovimentoPremio origem) {
+        return uuid(origem.uuid())
+            .anotacao(origem.anotacao())
+            .codigoSeguradora(origem.codigoSeguradora())
+            .dataRegistro(origem.dataRegistro())
+            .dataAlteracao(origem.dataAlteracao())
+            .indicadorExclusao(origem.indicadorExclusao())
+            .apoliceCodigo(origem.apoliceCodigo())
+            .certificadoCodigo(origem.certificadoCodigo())
+            .endossoCodigo(origem.endossoCodigo())
+            .identificadorMovimento(origem.identificadorMovimento())
+            .moeda(origem.moeda())
+            .valorMovimento(origem.valorMovimento())
+            .valorMovimentoReal(origem.valorMovimentoReal())
+            .dataMovimento(origem.dataMovimento())
+            .numeroParcelaMovimento(origem.numeroParcelaMovimento())
+            .dataVencimento(origem.dataVencimento())
+            .tipoMovimento(origem.tipoMovimento())
+            .premioCobertura(origem.premioCobertura())
+            .grupoRamo(origem.grupoRamo())
+            .codigo(origem.codigo())
+            .coberturaInternaSeguradora(origem.coberturaInternaSeguradora())
+            .dataInicio(origem.dataInicio())
+            .dataTermino(origem.dataTermino())
+            .limiteMaximoIndenizacao(origem.limiteMaximoIndenizacao())
+            .limiteMaximoIndenizacaoReal(origem.limiteMaximoIndenizacaoReal())
+            .valorPremio(origem.valorPremio())
+            .valorPremioReal(origem.valorPremioReal())
+            .adicionalFracionamento(origem.adicionalFracionamento())
+            .iof(origem.iof())
+            .custoAquisicao(origem.custoAquisicao());
+    }
+
+    /**
+     * Define {@link MovimentoPremio#uuid()}.
+     *
+     * @param uuid valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder uuid(String uuid) {
+        this.uuid = uuid;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#anotacao()}.
+     *
+     * @param anotacao valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder anotacao(String anotacao) {
+        this.anotacao = anotacao;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#codigoSeguradora()}.
+     *
+     * @param codigoSeguradora valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder codigoSeguradora(String codigoSeguradora) {
+        this.codigoSeguradora = codigoSeguradora;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#dataRegistro()}.
+     *
+     * @param dataRegistro valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder dataRegistro(LocalDate dataRegistro) {
+        this.dataRegistro = dataRegistro;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#dataAlteracao()}.
+     *
+     * @param dataAlteracao valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder dataAlteracao(LocalDate dataAlteracao) {
+        this.dataAlteracao = dataAlteracao;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#indicadorExclusao()}.
+     *
+     * @param indicadorExclusao valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder indicadorExclusao(Integer indicadorExclusao) {
+        this.indicadorExclusao = indicadorExclusao;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#apoliceCodigo()}.
+     *
+     * @param apoliceCodigo valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder apoliceCodigo(String apoliceCodigo) {
+        this.apoliceCodigo = apoliceCodigo;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#certificadoCodigo()}.
+     *
+     * @param certificadoCodigo valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder certificadoCodigo(String certificadoCodigo) {
+        this.certificadoCodigo = certificadoCodigo;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#endossoCodigo()}.
+     *
+     * @param endossoCodigo valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder endossoCodigo(String endossoCodigo) {
+        this.endossoCodigo = endossoCodigo;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#identificadorMovimento()}.
+     *
+     * @param identificadorMovimento valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder identificadorMovimento(String identificadorMovimento) {
+        this.identificadorMovimento = identificadorMovimento;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#moeda()}.
+     *
+     * @param moeda valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder moeda(String moeda) {
+        this.moeda = moeda;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#valorMovimento()}.
+     *
+     * @param valorMovimento valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder valorMovimento(Double valorMovimento) {
+        this.valorMovimento = valorMovimento;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#valorMovimentoReal()}.
+     *
+     * @param valorMovimentoReal valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder valorMovimentoReal(Double valorMovimentoReal) {
+        this.valorMovimentoReal = valorMovimentoReal;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#dataMovimento()}.
+     *
+     * @param dataMovimento valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder dataMovimento(LocalDate dataMovimento) {
+        this.dataMovimento = dataMovimento;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#numeroParcelaMovimento()}.
+     *
+     * @param numeroParcelaMovimento valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder numeroParcelaMovimento(Integer numeroParcelaMovimento) {
+        this.numeroParcelaMovimento = numeroParcelaMovimento;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#dataVencimento()}.
+     *
+     * @param dataVencimento valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder dataVencimento(LocalDate dataVencimento) {
+        this.dataVencimento = dataVencimento;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#tipoMovimento()}.
+     *
+     * @param tipoMovimento valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder tipoMovimento(Integer tipoMovimento) {
+        this.tipoMovimento = tipoMovimento;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#premioCobertura()}.
+     *
+     * @param premioCobertura valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder premioCobertura(String premioCobertura) {
+        this.premioCobertura = premioCobertura;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#grupoRamo()}.
+     *
+     * @param grupoRamo valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder grupoRamo(String grupoRamo) {
+        this.grupoRamo = grupoRamo;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#codigo()}.
+     *
+     * @param codigo valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder codigo(String codigo) {
+        this.codigo = codigo;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#coberturaInternaSeguradora()}.
+     *
+     * @param coberturaInternaSeguradora valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder coberturaInternaSeguradora(String coberturaInternaSeguradora) {
+        this.coberturaInternaSeguradora = coberturaInternaSeguradora;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#dataInicio()}.
+     *
+     * @param dataInicio valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder dataInicio(LocalDate dataInicio) {
+        this.dataInicio = dataInicio;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#dataTermino()}.
+     *
+     * @param dataTermino valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder dataTermino(LocalDate dataTermino) {
+        this.dataTermino = dataTermino;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#limiteMaximoIndenizacao()}.
+     *
+     * @param limiteMaximoIndenizacao valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder limiteMaximoIndenizacao(Double limiteMaximoIndenizacao) {
+        this.limiteMaximoIndenizacao = limiteMaximoIndenizacao;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#limiteMaximoIndenizacaoReal()}.
+     *
+     * @param limiteMaximoIndenizacaoReal valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder limiteMaximoIndenizacaoReal(Double limiteMaximoIndenizacaoReal) {
+        this.limiteMaximoIndenizacaoReal = limiteMaximoIndenizacaoReal;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#valorPremio()}.
+     *
+     * @param valorPremio valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder valorPremio(Double valorPremio) {
+        this.valorPremio = valorPremio;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#valorPremioReal()}.
+     *
+     * @param valorPremioReal valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder valorPremioReal(Double valorPremioReal) {
+        this.valorPremioReal = valorPremioReal;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#adicionalFracionamento()}.
+     *
+     * @param adicionalFracionamento valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder adicionalFracionamento(Double adicionalFracionamento) {
+        this.adicionalFracionamento = adicionalFracionamento;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#iof()}.
+     *
+     * @param iof valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder iof(Double iof) {
+        this.iof = iof;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoPremio#custoAquisicao()}.
+     *
+     * @param custoAquisicao valor do componente
+     * @return este builder
+     */
+    public MovimentoPremioBuilder custoAquisicao(Double custoAquisicao) {
+        this.custoAquisicao = custoAquisicao;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public MovimentoPremio build() {
+        return new MovimentoPremio(
+            uuid,
+            anotacao,
+            codigoSeguradora,
+            dataRegistro,
+            dataAlteracao,
+            indicadorExclusao,
+            apoliceCodigo,
+            certificadoCodigo,
+            endossoCodigo,
+            identificadorMovimento,
+            moeda,
+            valorMovimento,
+            valorMovimentoReal,
+            dataMovimento,
+            numeroParcelaMovimento,
+            dataVencimento,
+            tipoMovimento,
+            premioCobertura,
+            grupoRamo,
+            codigo,
+            coberturaInternaSeguradora,
+            dataInicio,
+            dataTermino,
+            limiteMaximoIndenizacao,
+            limiteMaximoIndenizacaoReal,
+            valorPremio,
+            valorPremioReal,
+            adicionalFracionamento,
+            iof,
+            custoAquisicao
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public MovimentoPremioBuilder reset() {
+        uuid = null;
+        anotacao = null;
+        codigoSeguradora = null;
+        dataRegistro = null;
+        dataAlteracao = null;
+        indicadorExclusao = null;
+        apoliceCodigo = null;
+        certificadoCodigo = null;
+        endossoCodigo = null;
+        identificadorMovimento = null;
+        moeda = null;
+        valorMovimento = null;
+        valorMovimentoReal = null;
+        dataMovimento = null;
+        numeroParcelaMovimento = null;
+        dataVencimento = null;
+        tipoMovimento = null;
+        premioCobertura = null;
+        grupoRamo = null;
+        codigo = null;
+        coberturaInternaSeguradora = null;
+        dataInicio = null;
+        dataTermino = null;
+        limiteMaximoIndenizacao = null;
+        limiteMaximoIndenizacaoReal = null;
+        valorPremio = null;
+        valorPremioReal = null;
+        adicionalFracionamento = null;
+        iof = null;
+        custoAquisicao = null;
+        return this;
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.wesleyosantos91.susep.sro.model.movimentosinistro;
+
+import java.math.BigDecimal;
+
+/**
+ * Builder reutilizável para {@link Adicionais}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class AdicionaisBuilder {
+
+    private Integer tipoAdicional;
+    private BigDecimal valorMovimentoAdicional;
+    private BigDecimal valorMovimentoAdicionalReais;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public AdicionaisBuilder from(Adicionais origem) {
+        return tipoAdicional(origem.tipoAdicional())
+            .valorMovimentoAdicional(origem.valorMovimentoAdicional())
+            .valorMovimentoAdicionalReais(origem.valorMovimentoAdicionalReais());
+    }
+
+    /**
+     * Define {@link Adicionais#tipoAdicional()}.
+     *
+     * @param tipoAdicional valor do componente
+     * @return este builder
+     */
+    public AdicionaisBuilder tipoAdicional(Integer tipoAdicional) {
+        this.tipoAdicional = tipoAdicional;
+        return this;
+    }
+
+    /**
+     * Define {@link Adicionais#valorMovimentoAdicional()}.
+     *
+     * @param valorMovimentoAdicional valor do componente
+     * @return este builder
+     */
+    public AdicionaisBuilder valorMovimentoAdicional(BigDecimal valorMovimentoAdicional) {
+        this.valorMovimentoAdicional = valorMovimentoAdicional;
+        return this;
+    }
+
+    /**
+     * Define {@link Adicionais#valorMovimentoAdicionalReais()}.
+     *
+     * @param valorMovimentoAdicionalReais valor do componente
+     * @return este builder
+     */
+    public AdicionaisBuilder valorMovimentoAdicionalReais(BigDecimal valorMovimentoAdicionalReais) {
+        this.valorMovimentoAdicionalReais = valorMovimentoAdicionalReais;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Adicionais build() {
+        return new Adicionais(
+            tipoAdicional,
+            valorMovimentoAdicional,
+            valorMovimentoAdicionalReais
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public AdicionaisBuilder reset() {
+        tipoAdicional = null;
+        valorMovimentoAdicional = null;
+        valorMovimentoAdicionalReais = null;
+        return this;
+    }
+}
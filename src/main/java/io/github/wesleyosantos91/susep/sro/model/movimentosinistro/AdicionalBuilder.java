@@ -0,0 +1,89 @@
+package io.github.wesleyosantos91.susep.sro.model.movimentosinistro;
+
+import java.math.BigDecimal;
+
+/**
+ * Builder reutilizável para {@link Adicional}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class AdicionalBuilder {
+
+    private Integer tipoAdicional;
+    private BigDecimal valorMovimentoAdicional;
+    private BigDecimal valorMovimentoAdicionalReais;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public AdicionalBuilder from(Adicional origem) {
+        return tipoAdicional(origem.tipoAdicional())
+            .valorMovimentoAdicional(origem.valorMovimentoAdicional())
+            .valorMovimentoAdicionalReais(origem.valorMovimentoAdicionalReais());
+    }
+
+    /**
+     * Define {@link Adicional#tipoAdicional()}.
+     *
+     * @param tipoAdicional valor do componente
+     * @return este builder
+     */
+    public AdicionalBuilder tipoAdicional(Integer tipoAdicional) {
+        this.tipoAdicional = tipoAdicional;
+        return this;
+    }
+
+    /**
+     * Define {@link Adicional#valorMovimentoAdicional()}.
+     *
+     * @param valorMovimentoAdicional valor do componente
+     * @return este builder
+     */
+    public AdicionalBuilder valorMovimentoAdicional(BigDecimal valorMovimentoAdicional) {
+        this.valorMovimentoAdicional = valorMovimentoAdicional;
+        return this;
+    }
+
+    /**
+     * Define {@link Adicional#valorMovimentoAdicionalReais()}.
+     *
+     * @param valorMovimentoAdicionalReais valor do componente
+     * @return este builder
+     */
+    public AdicionalBuilder valorMovimentoAdicionalReais(BigDecimal valorMovimentoAdicionalReais) {
+        this.valorMovimentoAdicionalReais = valorMovimentoAdicionalReais;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Adicional build() {
+        return new Adicional(
+            tipoAdicional,
+            valorMovimentoAdicional,
+            valorMovimentoAdicionalReais
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public AdicionalBuilder reset() {
+        tipoAdicional = null;
+        valorMovimentoAdicional = null;
+        valorMovimentoAdicionalReais = null;
+        return this;
+    }
+}
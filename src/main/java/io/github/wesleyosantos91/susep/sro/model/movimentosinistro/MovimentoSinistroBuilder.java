@@ -0,0 +1,438 @@
+package io.github.wesleyosantos91.susep.sro.model.movimentosinistro;
+
+import io.github.wesleyosantos91.susep.sro.model.util.ListAccumulator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Builder reutilizável para {@link MovimentoSinistro}.
+ *
+ * <p>Listas acumuladas com os métodos {@code add...} são convertidas em listas imutáveis
+ * uma única vez em {@link #build()}; listas atribuídas diretamente são repassadas sem cópia.
+ * Em ambos os casos o compact constructor não copia a lista novamente.</p>
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class MovimentoSinistroBuilder {
+
+    private String codigoSeguradora;
+    private String grupoRamo;
+    private String codigoSinistro;
+    private String identificadorMovimento;
+    private String apoliceCodigo;
+    private String certificadoCodigo;
+    private String numeroEndosso;
+    private String codigoContraparte;
+    private String sinistroTipoPagamentoOutros;
+    private BigDecimal valorMovimento;
+    private BigDecimal valorMovimentoReais;
+    private String moeda;
+    private Integer tipoSinistro;
+    private Integer tipoMovimento;
+    private Integer meioPagamento;
+    private Integer origem;
+    private Integer tipoOperacaoSinistro;
+    private Integer tipoPagamento;
+    private Integer indicadorExclusao;
+    private String uuid;
+    private LocalDate dataMovimento;
+    private LocalDate dataRegistro;
+    private LocalDate dataAlteracao;
+    private String anotacao;
+    private final ListAccumulator<Adicionais> adicionais = new ListAccumulator<>();
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder from(MovimentoSinistro origem) {
+        return codigoSeguradora(origem.codigoSeguradora())
+            .grupoRamo(origem.grupoRamo())
+            .codigoSinistro(origem.codigoSinistro())
+            .identificadorMovimento(origem.identificadorMovimento())
+            .apoliceCodigo(origem.apoliceCodigo())
+            .certificadoCodigo(origem.certificadoCodigo())
+            .numeroEndosso(origem.numeroEndosso())
+            .codigoContraparte(origem.codigoContraparte())
+            .sinistroTipoPagamentoOutros(origem.sinistroTipoPagamentoOutros())
+            .valorMovimento(origem.valorMovimento())
+            .valorMovimentoReais(origem.valorMovimentoReais())
+            .moeda(origem.moeda())
+            .tipoSinistro(origem.tipoSinistro())
+            .tipoMovimento(origem.tipoMovimento())
+            .meioPagamento(origem.meioPagamento())
+            .origem(origem.origem())
+            .tipoOperacaoSinistro(origem.tipoOperacaoSinistro())
+            .tipoPagamento(origem.tipoPagamento())
+            .indicadorExclusao(origem.indicadorExclusao())
+            .uuid(origem.uuid())
+            .dataMovimento(origem.dataMovimento())
+            .dataRegistro(origem.dataRegistro())
+            .dataAlteracao(origem.dataAlteracao())
+            .anotacao(origem.anotacao())
+            .adicionais(origem.adicionais());
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#codigoSeguradora()}.
+     *
+     * @param codigoSeguradora valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder codigoSeguradora(String codigoSeguradora) {
+        this.codigoSeguradora = codigoSeguradora;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#grupoRamo()}.
+     *
+     * @param grupoRamo valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder grupoRamo(String grupoRamo) {
+        this.grupoRamo = grupoRamo;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#codigoSinistro()}.
+     *
+     * @param codigoSinistro valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder codigoSinistro(String codigoSinistro) {
+        this.codigoSinistro = codigoSinistro;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#identificadorMovimento()}.
+     *
+     * @param identificadorMovimento valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder identificadorMovimento(String identificadorMovimento) {
+        this.identificadorMovimento = identificadorMovimento;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#apoliceCodigo()}.
+     *
+     * @param apoliceCodigo valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder apoliceCodigo(String apoliceCodigo) {
+        this.apoliceCodigo = apoliceCodigo;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#certificadoCodigo()}.
+     *
+     * @param certificadoCodigo valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder certificadoCodigo(String certificadoCodigo) {
+        this.certificadoCodigo = certificadoCodigo;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#numeroEndosso()}.
+     *
+     * @param numeroEndosso valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder numeroEndosso(String numeroEndosso) {
+        this.numeroEndosso = numeroEndosso;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#codigoContraparte()}.
+     *
+     * @param codigoContraparte valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder codigoContraparte(String codigoContraparte) {
+        this.codigoContraparte = codigoContraparte;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#sinistroTipoPagamentoOutros()}.
+     *
+     * @param sinistroTipoPagamentoOutros valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder sinistroTipoPagamentoOutros(String sinistroTipoPagamentoOutros) {
+        this.sinistroTipoPagamentoOutros = sinistroTipoPagamentoOutros;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#valorMovimento()}.
+     *
+     * @param valorMovimento valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder valorMovimento(BigDecimal valorMovimento) {
+        this.valorMovimento = valorMovimento;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#valorMovimentoReais()}.
+     *
+     * @param valorMovimentoReais valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder valorMovimentoReais(BigDecimal valorMovimentoReais) {
+        this.valorMovimentoReais = valorMovimentoReais;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#moeda()}.
+     *
+     * @param moeda valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder moeda(String moeda) {
+        this.moeda = moeda;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#tipoSinistro()}.
+     *
+     * @param tipoSinistro valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder tipoSinistro(Integer tipoSinistro) {
+        this.tipoSinistro = tipoSinistro;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#tipoMovimento()}.
+     *
+     * @param tipoMovimento valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder tipoMovimento(Integer tipoMovimento) {
+        this.tipoMovimento = tipoMovimento;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#meioPagamento()}.
+     *
+     * @param meioPagamento valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder meioPagamento(Integer meioPagamento) {
+        this.meioPagamento = meioPagamento;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#origem()}.
+     *
+     * @param origem valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder origem(Integer origem) {
+        this.origem = origem;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#tipoOperacaoSinistro()}.
+     *
+     * @param tipoOperacaoSinistro valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder tipoOperacaoSinistro(Integer tipoOperacaoSinistro) {
+        this.tipoOperacaoSinistro = tipoOperacaoSinistro;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#tipoPagamento()}.
+     *
+     * @param tipoPagamento valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder tipoPagamento(Integer tipoPagamento) {
+        this.tipoPagamento = tipoPagamento;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#indicadorExclusao()}.
+     *
+     * @param indicadorExclusao valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder indicadorExclusao(Integer indicadorExclusao) {
+        this.indicadorExclusao = indicadorExclusao;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#uuid()}.
+     *
+     * @param uuid valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder uuid(String uuid) {
+        this.uuid = uuid;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#dataMovimento()}.
+     *
+     * @param dataMovimento valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder dataMovimento(LocalDate dataMovimento) {
+        this.dataMovimento = dataMovimento;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#dataRegistro()}.
+     *
+     * @param dataRegistro valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder dataRegistro(LocalDate dataRegistro) {
+        this.dataRegistro = dataRegistro;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#dataAlteracao()}.
+     *
+     * @param dataAlteracao valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder dataAlteracao(LocalDate dataAlteracao) {
+        this.dataAlteracao = dataAlteracao;
+        return this;
+    }
+
+    /**
+     * Define {@link MovimentoSinistro#anotacao()}.
+     *
+     * @param anotacao valor do componente
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder anotacao(String anotacao) {
+        this.anotacao = anotacao;
+        return this;
+    }
+
+    /**
+     * Atribui {@link MovimentoSinistro#adicionais()} sem copiar a lista.
+     *
+     * @param adicionais lista de elementos
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder adicionais(List<Adicionais> adicionais) {
+        this.adicionais.set(adicionais);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link MovimentoSinistro#adicionais()}.
+     *
+     * @param adicionais elemento não nulo
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder addAdicionais(Adicionais adicionais) {
+        this.adicionais.add(adicionais);
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public MovimentoSinistro build() {
+        return new MovimentoSinistro(
+            codigoSeguradora,
+            grupoRamo,
+            codigoSinistro,
+            identificadorMovimento,
+            apoliceCodigo,
+            certificadoCodigo,
+            numeroEndosso,
+            codigoContraparte,
+            sinistroTipoPagamentoOutros,
+            valorMovimento,
+            valorMovimentoReais,
+            moeda,
+            tipoSinistro,
+            tipoMovimento,
+            meioPagamento,
+            origem,
+            tipoOperacaoSinistro,
+            tipoPagamento,
+            indicadorExclusao,
+            uuid,
+            dataMovimento,
+            dataRegistro,
+            dataAlteracao,
+            anotacao,
+            adicionais.toList()
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public MovimentoSinistroBuilder reset() {
+        codigoSeguradora = null;
+        grupoRamo = null;
+        codigoSinistro = null;
+        identificadorMovimento = null;
+        apoliceCodigo = null;
+        certificadoCodigo = null;
+        numeroEndosso = null;
+        codigoContraparte = null;
+        sinistroTipoPagamentoOutros = null;
+        valorMovimento = null;
+        valorMovimentoReais = null;
+        moeda = null;
+        tipoSinistro = null;
+        tipoMovimento = null;
+        meioPagamento = null;
+        origem = null;
+        tipoOperacaoSinistro = null;
+        tipoPagamento = null;
+        indicadorExclusao = null;
+        uuid = null;
+        dataMovimento = null;
+        dataRegistro = null;
+        dataAlteracao = null;
+        anotacao = null;
+        adicionais.clear();
+        return this;
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.wesleyosantos91.susep.sro.model.pipeline;
+
+import java.time.Duration;
+
+/**
+ * Métricas de uma partição do {@link PartitionedExecutor}.
+ *
+ * @param partition     índice da partição
+ * @param queueDepth    itens aguardando na fila da partição
+ * @param queueCapacity capacidade da fila da partição
+ * @param submitted     itens recebidos pela partição
+ * @param processed     itens concluídos, inclusive os rejeitados
+ * @param failed        itens rejeitados com exceção
+ * @param busyNanos     tempo total de processamento da partição
+ * @param lagNanos      espera do item pendente mais antigo (em processamento ou na fila), ou zero
+ */
+public record PartitionStats(int partition, int queueDepth, int queueCapacity, long submitted, long processed,
+                             long failed, long busyNanos, long lagNanos) {
+
+    /**
+     * @return itens recebidos e ainda não concluídos
+     */
+    public long pending() {
+        return submitted - processed;
+    }
+
+    /**
+     * @return atraso da partição: há quanto tempo o item pendente mais antigo foi recebido
+     */
+    public Duration lag() {
+        return Duration.ofNanos(lagNanos);
+    }
+}
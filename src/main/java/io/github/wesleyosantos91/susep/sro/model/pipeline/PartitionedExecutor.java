@@ -0,0 +1,419 @@
+package io.github.wesleyosantos91.susep.sro.model.pipeline;
+
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.endosso.Endosso;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistro;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Executor que preserva a ordem dos itens de mesma chave e processa chaves distintas em paralelo
+ * (por exemplo: o {@link Documento}, depois os {@link Endosso}s e os {@link MovimentoPremio}s de
+ * uma mesma apólice, com apólices diferentes em paralelo).
+ *
+ * <p>Cada item vai para a partição do hash da sua chave ({@link #sroKey(Object)} para os eventos
+ * do SRO). Cada partição tem uma fila limitada, processada por uma tarefa de cada vez, na ordem de
+ * {@link #submit(Object)}: itens de mesma chave nunca são processados concorrentemente nem fora de
+ * ordem. Quando a fila de uma partição está cheia, {@link #submit(Object)} aguarda, o que limita a
+ * memória em uso.</p>
+ *
+ * <p>As partições não têm thread própria: uma partição com itens vira uma tarefa de um
+ * {@link ForkJoinPool}, que processa até {@value #BATCH_SIZE} itens e se reagenda na fila local do
+ * worker. Workers ociosos roubam essas tarefas, de modo que uma partição quente ocupa um worker
+ * por vez sem reter as demais, e as partições prontas se distribuem entre os workers livres. Com
+ * mais partições que workers, chaves que colidem numa partição quente também são poucas.</p>
+ *
+ * <p>Sem tratador de falhas, a primeira exceção interrompe o executor e é devolvida pelo futuro de
+ * {@link #complete()}. Com {@link Builder#onError(Consumer)}, o item rejeitado é entregue ao
+ * tratador e os itens seguintes da mesma chave são processados normalmente.</p>
+ *
+ * <p>{@link #stats()} informa, por partição, fila, itens pendentes e atraso do item mais antigo.</p>
+ *
+ * @param <T> tipo dos itens
+ */
+public final class PartitionedExecutor<T> implements AutoCloseable {
+
+    /**
+     * Quantidade padrão de partições.
+     */
+    public static final int DEFAULT_PARTITIONS = 256;
+
+    /**
+     * Capacidade padrão da fila de cada partição.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /**
+     * Itens processados por tarefa antes de a partição voltar ao fim da fila do worker.
+     */
+    public static final int BATCH_SIZE = 64;
+
+    private final Function<? super T, ?> chave;
+    private final Stage<? super T, ?> tarefa;
+    private final Consumer<? super StageFailure> erros;
+    private final List<Particao> particoes;
+    private final ForkJoinPool pool;
+    private final AtomicLong pendentes = new AtomicLong();
+    private final AtomicBoolean encerrado = new AtomicBoolean();
+    private final CompletableFuture<PartitionedStats> conclusao = new CompletableFuture<>();
+    private final long inicio;
+    private volatile long fim;
+
+    private PartitionedExecutor(Builder<T> builder) {
+        this.chave = builder.chave;
+        this.tarefa = builder.tarefa;
+        this.erros = builder.erros;
+        this.particoes = new ArrayList<>(builder.particoes);
+        for (int i = 0; i < builder.particoes; i++) {
+            particoes.add(new Particao(i, builder.capacidade));
+        }
+        this.pool = new ForkJoinPool(builder.workers, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("sro-particao-worker-" + thread.getPoolIndex());
+            return thread;
+        }, null, true);
+        this.inicio = System.nanoTime();
+    }
+
+    /**
+     * @param chave  chave de ordenação de cada item
+     * @param tarefa processamento de cada item; o resultado é ignorado
+     * @param <T>    tipo dos itens
+     * @return construtor com {@value #DEFAULT_PARTITIONS} partições, um worker por processador e
+     *         filas de {@value #DEFAULT_QUEUE_CAPACITY} itens
+     */
+    public static <T> Builder<T> builder(Function<? super T, ?> chave, Stage<? super T, ?> tarefa) {
+        return new Builder<>(chave, tarefa);
+    }
+
+    /**
+     * Chave de ordenação dos eventos do SRO: o código da apólice para {@link Documento},
+     * {@link Endosso} e {@link MovimentoPremio}, e o código do sinistro para
+     * {@link MovimentoSinistro}.
+     *
+     * @param registro evento
+     * @return chave de partição do evento
+     * @throws IllegalArgumentException se o tipo do registro não tiver chave de partição
+     */
+    public static String sroKey(Object registro) {
+        Objects.requireNonNull(registro, "Registro é obrigatório");
+        return switch (registro) {
+            case Documento documento -> documento.apoliceCodigo();
+            case Endosso endosso -> endosso.apoliceCodigo();
+            case MovimentoPremio movimento -> movimento.apoliceCodigo();
+            case MovimentoSinistro movimento -> movimento.codigoSinistro();
+            default -> throw new IllegalArgumentException(
+                "Registro sem chave de partição: " + registro.getClass().getSimpleName());
+        };
+    }
+
+    /**
+     * @return índice da partição do item
+     */
+    public int partitionOf(T item) {
+        Object valor = Objects.requireNonNull(chave.apply(item), "Chave de partição é obrigatória");
+        int hash = valor.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), particoes.size());
+    }
+
+    /**
+     * Entrega um item à fila da sua partição, aguardando enquanto ela estiver cheia. Pode ser
+     * chamado por várias threads; a ordem preservada é a das chamadas concluídas.
+     *
+     * @throws IllegalStateException se a entrada foi encerrada ou o executor interrompido
+     * @throws InterruptedException  se a thread for interrompida enquanto aguarda
+     */
+    public void submit(T item) throws InterruptedException {
+        Objects.requireNonNull(item, "Item é obrigatório");
+        Particao particao = particoes.get(partitionOf(item));
+        pendentes.incrementAndGet();
+        if (encerrado.get() || conclusao.isDone()) {
+            liberar();
+            throw new IllegalStateException("Executor não aceita mais itens", falha());
+        }
+        particao.recebidos.increment();
+        try {
+            particao.fila.put(new Pendente<>(item, System.nanoTime()));
+        } catch (InterruptedException e) {
+            particao.recebidos.decrement();
+            liberar();
+            throw e;
+        }
+        particao.agendar();
+        if (conclusao.isCompletedExceptionally()) {
+            // interrompido enquanto aguardava espaço: o item não será processado
+            particao.fila.clear();
+        }
+    }
+
+    /**
+     * Encerra a entrada. As partições processam os itens pendentes.
+     *
+     * @return futuro concluído com as métricas finais quando não houver itens pendentes, ou com a
+     *         falha que interrompeu o executor
+     */
+    public CompletableFuture<PartitionedStats> complete() {
+        if (encerrado.compareAndSet(false, true) && pendentes.get() == 0) {
+            concluir();
+        }
+        return conclusao;
+    }
+
+    /**
+     * @return métricas correntes das partições
+     */
+    public PartitionedStats stats() {
+        long agora = fim != 0 ? fim : System.nanoTime();
+        List<PartitionStats> metricas = new ArrayList<>(particoes.size());
+        for (Particao particao : particoes) {
+            // o item em processamento é o mais antigo da partição; sem ele, o primeiro da fila
+            long desde = particao.emCurso;
+            if (desde == 0) {
+                Pendente<T> primeiro = particao.fila.peek();
+                desde = primeiro == null ? 0 : primeiro.recebido();
+            }
+            long processados = particao.processados.sum();
+            long recebidos = Math.max(particao.recebidos.sum(), processados);
+            metricas.add(new PartitionStats(particao.indice, particao.fila.size(), particao.capacidade, recebidos,
+                processados, particao.falhas.sum(), particao.ocupado.sum(),
+                desde == 0 ? 0 : Math.max(0, agora - desde)));
+        }
+        return new PartitionedStats(metricas, Duration.ofNanos(agora - inicio));
+    }
+
+    /**
+     * Interrompe o executor, descartando os itens pendentes, e aguarda o fim dos workers. Depois de
+     * {@link #complete()} concluído, apenas aguarda os workers.
+     */
+    @Override
+    public void close() {
+        abortar(new CancellationException("Executor encerrado antes da conclusão"));
+        pool.shutdownNow();
+        boolean interrompido = false;
+        while (true) {
+            try {
+                if (pool.awaitTermination(1, TimeUnit.MINUTES)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrompido = true;
+            }
+        }
+        if (interrompido) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void liberar() {
+        if (pendentes.decrementAndGet() == 0 && encerrado.get()) {
+            concluir();
+        }
+    }
+
+    private void concluir() {
+        fim = System.nanoTime();
+        if (conclusao.complete(stats())) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Conclui o futuro com a falha, interrompe os workers e esvazia as filas, liberando produtores
+     * que aguardam espaço.
+     */
+    private void abortar(Throwable causa) {
+        if (!conclusao.completeExceptionally(causa)) {
+            return;
+        }
+        fim = System.nanoTime();
+        pool.shutdownNow();
+        particoes.forEach(particao -> particao.fila.clear());
+    }
+
+    private Throwable falha() {
+        return conclusao.isCompletedExceptionally() ? conclusao.exceptionNow() : null;
+    }
+
+    /**
+     * Item aguardando na fila de uma partição.
+     */
+    private record Pendente<T>(T item, long recebido) {
+    }
+
+    /**
+     * Fila e estado de execução de uma partição. A flag {@code agendada} garante uma única tarefa
+     * da partição no pool: quem a liga agenda a tarefa, e a tarefa, ao desligá-la, reagenda se
+     * ainda houver itens.
+     */
+    private final class Particao implements Runnable {
+
+        private final int indice;
+        private final String nome;
+        private final int capacidade;
+        private final BlockingQueue<Pendente<T>> fila;
+        private final AtomicBoolean agendada = new AtomicBoolean();
+        private final LongAdder recebidos = new LongAdder();
+        private final LongAdder processados = new LongAdder();
+        private final LongAdder falhas = new LongAdder();
+        private final LongAdder ocupado = new LongAdder();
+        private volatile long emCurso;
+
+        private Particao(int indice, int capacidade) {
+            this.indice = indice;
+            this.nome = "particao-" + indice;
+            this.capacidade = capacidade;
+            // fila encadeada: as partições vazias não reservam a capacidade inteira
+            this.fila = new LinkedBlockingQueue<>(capacidade);
+        }
+
+        private void agendar() {
+            if (!agendada.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                pool.execute(this);
+            } catch (RejectedExecutionException e) {
+                // pool encerrado por abortar(); os itens da fila já foram descartados
+                agendada.set(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int n = 0; n < BATCH_SIZE && !conclusao.isDone(); n++) {
+                    Pendente<T> pendente = fila.poll();
+                    if (pendente == null) {
+                        break;
+                    }
+                    processar(pendente);
+                }
+            } catch (RuntimeException | Error e) {
+                abortar(new IllegalStateException("Falha no worker da partição " + indice, e));
+            }
+            agendada.set(false);
+            if (!fila.isEmpty() && !conclusao.isDone()) {
+                agendar();
+            }
+        }
+
+        private void processar(Pendente<T> pendente) {
+            emCurso = pendente.recebido();
+            long antes = System.nanoTime();
+            try {
+                tarefa.process(pendente.item());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                falhas.increment();
+                abortar(new IllegalStateException("Partição " + indice + " interrompida", e));
+            } catch (Exception e) {
+                falhas.increment();
+                if (erros == null) {
+                    abortar(new IllegalStateException("Falha na partição " + indice + ": " + e.getMessage(), e));
+                } else {
+                    erros.accept(new StageFailure(nome, pendente.item(), e));
+                }
+            } finally {
+                ocupado.add(System.nanoTime() - antes);
+                emCurso = 0;
+                processados.increment();
+                liberar();
+            }
+        }
+    }
+
+    /**
+     * Configuração do executor. Não é thread-safe.
+     *
+     * @param <T> tipo dos itens
+     */
+    public static final class Builder<T> {
+
+        private final Function<? super T, ?> chave;
+        private final Stage<? super T, ?> tarefa;
+        private int particoes = DEFAULT_PARTITIONS;
+        private int workers = Runtime.getRuntime().availableProcessors();
+        private int capacidade = DEFAULT_QUEUE_CAPACITY;
+        private Consumer<? super StageFailure> erros;
+
+        private Builder(Function<? super T, ?> chave, Stage<? super T, ?> tarefa) {
+            this.chave = Objects.requireNonNull(chave, "Chave de partição é obrigatória");
+            this.tarefa = Objects.requireNonNull(tarefa, "Tarefa é obrigatória");
+        }
+
+        /**
+         * @param particoes quantidade de partições; convém que seja bem maior que a de workers
+         * @return este construtor
+         * @throws IllegalArgumentException se a quantidade não for positiva
+         */
+        public Builder<T> partitions(int particoes) {
+            if (particoes <= 0) {
+                throw new IllegalArgumentException("Quantidade de partições deve ser positiva: " + particoes);
+            }
+            this.particoes = particoes;
+            return this;
+        }
+
+        /**
+         * @param workers quantidade de threads do pool
+         * @return este construtor
+         * @throws IllegalArgumentException se a quantidade não for positiva
+         */
+        public Builder<T> workers(int workers) {
+            if (workers <= 0) {
+                throw new IllegalArgumentException("Quantidade de workers deve ser positiva: " + workers);
+            }
+            this.workers = workers;
+            return this;
+        }
+
+        /**
+         * @param capacidade capacidade da fila de cada partição
+         * @return este construtor
+         * @throws IllegalArgumentException se a capacidade não for positiva
+         */
+        public Builder<T> queueCapacity(int capacidade) {
+            if (capacidade <= 0) {
+                throw new IllegalArgumentException("Capacidade da fila deve ser positiva: " + capacidade);
+            }
+            this.capacidade = capacidade;
+            return this;
+        }
+
+        /**
+         * Tratador dos itens rejeitados, chamado pelo worker da partição, com o nome
+         * {@code particao-<índice>} como etapa. Sem tratador, a primeira rejeição interrompe o
+         * executor.
+         *
+         * @return este construtor
+         */
+        public Builder<T> onError(Consumer<? super StageFailure> erros) {
+            this.erros = Objects.requireNonNull(erros, "Tratador de erros é obrigatório");
+            return this;
+        }
+
+        /**
+         * @return executor pronto para receber itens
+         */
+        public PartitionedExecutor<T> build() {
+            return new PartitionedExecutor<>(this);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.wesleyosantos91.susep.sro.model.pipeline;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Métricas de um {@link PartitionedExecutor}, por partição.
+ *
+ * @param partitions métricas das partições, na ordem dos índices
+ * @param elapsed    tempo desde o início (até a conclusão, se concluído)
+ */
+public record PartitionedStats(List<PartitionStats> partitions, Duration elapsed) {
+
+    public PartitionedStats {
+        partitions = List.copyOf(Objects.requireNonNull(partitions, "Partições são obrigatórias"));
+        Objects.requireNonNull(elapsed, "Tempo decorrido é obrigatório");
+    }
+
+    /**
+     * @return métricas da partição
+     * @throws IllegalArgumentException se o índice não existir
+     */
+    public PartitionStats partition(int indice) {
+        if (indice < 0 || indice >= partitions.size()) {
+            throw new IllegalArgumentException("Partição inexistente: " + indice);
+        }
+        return partitions.get(indice);
+    }
+
+    /**
+     * @return itens recebidos e ainda não concluídos, somados entre as partições
+     */
+    public long pending() {
+        return partitions.stream().mapToLong(PartitionStats::pending).sum();
+    }
+
+    /**
+     * @return itens concluídos por segundo desde o início
+     */
+    public double throughput() {
+        long processados = partitions.stream().mapToLong(PartitionStats::processed).sum();
+        return elapsed.isZero() ? 0 : processados * 1e9 / elapsed.toNanos();
+    }
+
+    /**
+     * @return partição de maior atraso (e, no empate, de fila mais longa)
+     */
+    public PartitionStats mostLagged() {
+        return partitions.stream()
+            .max(Comparator.comparingLong(PartitionStats::lagNanos).thenComparingInt(PartitionStats::queueDepth))
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,390 @@
+package io.github.wesleyosantos91.susep.sro.model.pipeline;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Pipeline de ingestão em etapas tipadas (por exemplo: conversão → validação → deduplicação →
+ * indexação), ligadas por filas limitadas.
+ *
+ * <p>Cada etapa tem a sua fila de entrada e os seus workers: threads de plataforma para etapas
+ * {@link StageType#CPU} e threads virtuais para etapas {@link StageType#IO}. Uma etapa lenta
+ * enche apenas a própria fila; quando ela está cheia, as etapas anteriores e, por fim,
+ * {@link #submit(Object)} aguardam, o que limita a memória em uso sem travar as demais etapas.
+ * Com mais de um worker por etapa, a ordem dos itens não é preservada.</p>
+ *
+ * <p>Sem tratador de falhas, a primeira exceção de uma etapa interrompe o pipeline e é devolvida
+ * pelo futuro de {@link #complete()}. Com {@link Builder#onError(Consumer)}, o item rejeitado é
+ * entregue ao tratador e o pipeline segue.</p>
+ *
+ * <p>{@link #stats()} informa, por etapa, profundidade da fila, vazão, latência e ocupação dos
+ * workers, para localizar o gargalo.</p>
+ *
+ * @param <I> tipo dos itens de entrada
+ * @param <O> tipo dos itens produzidos pela última etapa
+ */
+public final class Pipeline<I, O> implements AutoCloseable {
+
+    /**
+     * Capacidade padrão da fila de entrada de cada etapa.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /**
+     * Marca de fim da entrada, repassada de etapa em etapa.
+     */
+    private static final Object FIM = new Object();
+
+    private final List<Etapa> etapas;
+    private final Consumer<Object> saida;
+    private final Consumer<? super StageFailure> erros;
+    private final List<Thread> threads = new ArrayList<>();
+    private final CompletableFuture<PipelineStats> conclusao = new CompletableFuture<>();
+    private final AtomicBoolean encerrado = new AtomicBoolean();
+    private final long inicio;
+    private volatile long fim;
+
+    @SuppressWarnings("unchecked")
+    private Pipeline(Builder<I, O> builder, Consumer<? super O> saida) {
+        this.saida = (Consumer<Object>) saida;
+        this.erros = builder.erros;
+        this.etapas = new ArrayList<>();
+        for (Definicao definicao : builder.definicoes) {
+            etapas.add(new Etapa(definicao, builder.capacidade));
+        }
+        this.inicio = System.nanoTime();
+        for (int i = 0; i < etapas.size(); i++) {
+            Etapa etapa = etapas.get(i);
+            Etapa proxima = i + 1 < etapas.size() ? etapas.get(i + 1) : null;
+            Thread.Builder fabrica = etapa.tipo == StageType.IO
+                ? Thread.ofVirtual().name("sro-pipeline-" + etapa.nome + "-", 0)
+                : Thread.ofPlatform().name("sro-pipeline-" + etapa.nome + "-", 0).daemon();
+            for (int w = 0; w < etapa.workers; w++) {
+                int worker = w;
+                threads.add(fabrica.unstarted(() -> executar(etapa, proxima, worker)));
+            }
+        }
+        threads.forEach(Thread::start);
+    }
+
+    /**
+     * @param <I> tipo dos itens de entrada
+     * @return construtor sem etapas
+     */
+    public static <I> Builder<I, I> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Entrega um item à primeira etapa, aguardando enquanto a fila dela estiver cheia. Pode ser
+     * chamado por várias threads, mas não depois de {@link #complete()}.
+     *
+     * @throws IllegalStateException se a entrada foi encerrada ou o pipeline interrompido
+     * @throws InterruptedException  se a thread for interrompida enquanto aguarda
+     */
+    public void submit(I item) throws InterruptedException {
+        Objects.requireNonNull(item, "Item é obrigatório");
+        if (encerrado.get() || conclusao.isDone()) {
+            throw new IllegalStateException("Pipeline não aceita mais itens", falha());
+        }
+        etapas.getFirst().fila.put(item);
+    }
+
+    /**
+     * Encerra a entrada. As etapas processam os itens pendentes e terminam em ordem.
+     *
+     * @return futuro concluído com as métricas finais quando a última etapa terminar, ou com a
+     *         falha que interrompeu o pipeline
+     * @throws InterruptedException se a thread for interrompida enquanto aguarda a primeira fila
+     */
+    public CompletableFuture<PipelineStats> complete() throws InterruptedException {
+        if (encerrado.compareAndSet(false, true) && !conclusao.isDone()) {
+            etapas.getFirst().fila.put(FIM);
+        }
+        return conclusao;
+    }
+
+    /**
+     * @return métricas correntes das etapas
+     */
+    public PipelineStats stats() {
+        long agora = fim != 0 ? fim : System.nanoTime();
+        long decorrido = agora - inicio;
+        List<StageStats> metricas = new ArrayList<>(etapas.size());
+        for (Etapa etapa : etapas) {
+            // itens em processamento contam como ocupação, para que uma etapa travada apareça
+            long ocupado = etapa.ocupado.sum();
+            long maiorLatencia = etapa.maiorLatencia.get();
+            for (int w = 0; w < etapa.workers; w++) {
+                long desde = etapa.emCurso.get(w);
+                if (desde != 0 && agora > desde) {
+                    ocupado += agora - desde;
+                    maiorLatencia = Math.max(maiorLatencia, agora - desde);
+                }
+            }
+            metricas.add(new StageStats(etapa.nome, etapa.tipo, etapa.workers, etapa.fila.size(), etapa.capacidade,
+                etapa.recebidos.sum(), etapa.emitidos.sum(), etapa.descartados.sum(), etapa.falhas.sum(),
+                ocupado, maiorLatencia, decorrido));
+        }
+        return new PipelineStats(metricas, Duration.ofNanos(decorrido));
+    }
+
+    /**
+     * Interrompe o pipeline, descartando os itens pendentes, e aguarda o fim dos workers. Depois de
+     * {@link #complete()} concluído, apenas aguarda os workers.
+     */
+    @Override
+    public void close() {
+        abortar(new CancellationException("Pipeline encerrado antes da conclusão"));
+        boolean interrompido = false;
+        for (Thread thread : threads) {
+            while (true) {
+                try {
+                    thread.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrompido = true;
+                }
+            }
+        }
+        if (interrompido) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void executar(Etapa etapa, Etapa proxima, int worker) {
+        try {
+            while (true) {
+                Object item = etapa.fila.take();
+                if (item == FIM) {
+                    // devolve a marca para os demais workers da etapa
+                    etapa.fila.put(FIM);
+                    break;
+                }
+                processar(etapa, proxima, worker, item);
+            }
+            if (etapa.ativos.decrementAndGet() == 0) {
+                etapa.fila.clear();
+                if (proxima != null) {
+                    proxima.fila.put(FIM);
+                } else {
+                    fim = System.nanoTime();
+                    conclusao.complete(stats());
+                }
+            }
+        } catch (InterruptedException e) {
+            // interrompido por abortar(); o futuro já foi concluído
+        } catch (RuntimeException | Error e) {
+            abortar(new IllegalStateException("Falha no worker da etapa " + etapa.nome, e));
+        }
+    }
+
+    private void processar(Etapa etapa, Etapa proxima, int worker, Object item) throws InterruptedException {
+        Object resultado;
+        long antes = System.nanoTime();
+        etapa.emCurso.set(worker, antes);
+        try {
+            resultado = etapa.stage.process(item);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            registrar(etapa, worker, antes);
+            rejeitar(etapa, item, e);
+            return;
+        }
+        registrar(etapa, worker, antes);
+        if (resultado == null) {
+            etapa.descartados.increment();
+            return;
+        }
+        etapa.emitidos.increment();
+        if (proxima != null) {
+            proxima.fila.put(resultado);
+            return;
+        }
+        try {
+            saida.accept(resultado);
+        } catch (RuntimeException e) {
+            rejeitar(etapa, resultado, e);
+        }
+    }
+
+    private static void registrar(Etapa etapa, int worker, long antes) {
+        long latencia = System.nanoTime() - antes;
+        etapa.emCurso.set(worker, 0);
+        etapa.recebidos.increment();
+        etapa.ocupado.add(latencia);
+        etapa.maiorLatencia.accumulate(latencia);
+    }
+
+    private void rejeitar(Etapa etapa, Object item, Exception causa) {
+        etapa.falhas.increment();
+        if (erros == null) {
+            abortar(new IllegalStateException("Falha na etapa " + etapa.nome + ": " + causa.getMessage(), causa));
+            return;
+        }
+        erros.accept(new StageFailure(etapa.nome, item, causa));
+    }
+
+    /**
+     * Conclui o futuro com a falha, interrompe os workers e esvazia as filas, liberando produtores
+     * que aguardam espaço.
+     */
+    private void abortar(Throwable causa) {
+        if (!conclusao.completeExceptionally(causa)) {
+            return;
+        }
+        fim = System.nanoTime();
+        threads.forEach(Thread::interrupt);
+        etapas.forEach(etapa -> etapa.fila.clear());
+    }
+
+    private Throwable falha() {
+        return conclusao.isCompletedExceptionally() ? conclusao.exceptionNow() : null;
+    }
+
+    /**
+     * Configuração de uma etapa.
+     */
+    private record Definicao(String nome, StageType tipo, int workers, Stage<Object, Object> stage) {
+    }
+
+    /**
+     * Estado de execução de uma etapa.
+     */
+    private static final class Etapa {
+
+        private final String nome;
+        private final StageType tipo;
+        private final int workers;
+        private final int capacidade;
+        private final Stage<Object, Object> stage;
+        private final BlockingQueue<Object> fila;
+        private final AtomicInteger ativos;
+        private final LongAdder recebidos = new LongAdder();
+        private final LongAdder emitidos = new LongAdder();
+        private final LongAdder descartados = new LongAdder();
+        private final LongAdder falhas = new LongAdder();
+        private final LongAdder ocupado = new LongAdder();
+        private final LongAccumulator maiorLatencia = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray emCurso;
+
+        private Etapa(Definicao definicao, int capacidade) {
+            this.nome = definicao.nome();
+            this.tipo = definicao.tipo();
+            this.workers = definicao.workers();
+            this.stage = definicao.stage();
+            this.capacidade = capacidade;
+            this.fila = new ArrayBlockingQueue<>(capacidade);
+            this.ativos = new AtomicInteger(workers);
+            this.emCurso = new AtomicLongArray(workers);
+        }
+    }
+
+    /**
+     * Acumula as etapas do pipeline. Não é thread-safe.
+     *
+     * @param <I> tipo dos itens de entrada
+     * @param <O> tipo dos itens produzidos pela última etapa incluída
+     */
+    public static final class Builder<I, O> {
+
+        private final List<Definicao> definicoes = new ArrayList<>();
+        private final Set<String> nomes = new HashSet<>();
+        private int capacidade = DEFAULT_QUEUE_CAPACITY;
+        private Consumer<? super StageFailure> erros;
+
+        private Builder() {
+        }
+
+        /**
+         * Inclui uma etapa ao final do pipeline.
+         *
+         * @param nome    nome da etapa, único no pipeline (usado nas métricas e nas threads)
+         * @param tipo    natureza do trabalho, que define o tipo de thread dos workers
+         * @param workers quantidade de workers
+         * @param stage   transformação aplicada a cada item
+         * @param <R>     tipo dos itens produzidos pela etapa
+         * @return este construtor, tipado pela nova etapa
+         * @throws IllegalArgumentException se o nome for vazio ou repetido, ou os workers não forem positivos
+         */
+        @SuppressWarnings("unchecked")
+        public <R> Builder<I, R> stage(String nome, StageType tipo, int workers, Stage<? super O, ? extends R> stage) {
+            Objects.requireNonNull(nome, "Nome da etapa é obrigatório");
+            Objects.requireNonNull(tipo, "Tipo da etapa é obrigatório");
+            Objects.requireNonNull(stage, "Etapa é obrigatória");
+            if (nome.isBlank() || !nomes.add(nome)) {
+                throw new IllegalArgumentException("Nome de etapa vazio ou repetido: " + nome);
+            }
+            if (workers <= 0) {
+                throw new IllegalArgumentException("Quantidade de workers deve ser positiva: " + workers);
+            }
+            definicoes.add(new Definicao(nome, tipo, workers, (Stage<Object, Object>) stage));
+            return (Builder<I, R>) this;
+        }
+
+        /**
+         * @param capacidade capacidade da fila de entrada de cada etapa
+         * @return este construtor
+         * @throws IllegalArgumentException se a capacidade não for positiva
+         */
+        public Builder<I, O> queueCapacity(int capacidade) {
+            if (capacidade <= 0) {
+                throw new IllegalArgumentException("Capacidade da fila deve ser positiva: " + capacidade);
+            }
+            this.capacidade = capacidade;
+            return this;
+        }
+
+        /**
+         * Tratador dos itens rejeitados, chamado pelo worker que os rejeitou. Sem tratador, a
+         * primeira rejeição interrompe o pipeline.
+         *
+         * @return este construtor
+         */
+        public Builder<I, O> onError(Consumer<? super StageFailure> erros) {
+            this.erros = Objects.requireNonNull(erros, "Tratador de erros é obrigatório");
+            return this;
+        }
+
+        /**
+         * Inicia os workers, descartando os itens produzidos pela última etapa.
+         *
+         * @return pipeline em execução
+         * @throws IllegalStateException se não houver etapas
+         */
+        public Pipeline<I, O> build() {
+            return build(item -> { });
+        }
+
+        /**
+         * Inicia os workers.
+         *
+         * @param saida destino dos itens produzidos pela última etapa, chamado concorrentemente
+         *              pelos seus workers
+         * @return pipeline em execução
+         * @throws IllegalStateException se não houver etapas
+         */
+        public Pipeline<I, O> build(Consumer<? super O> saida) {
+            Objects.requireNonNull(saida, "Saída é obrigatória");
+            if (definicoes.isEmpty()) {
+                throw new IllegalStateException("Pipeline deve ter ao menos uma etapa");
+            }
+            return new Pipeline<>(this, saida);
+        }
+    }
+}
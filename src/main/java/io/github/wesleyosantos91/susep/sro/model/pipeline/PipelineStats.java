@@ -0,0 +1,36 @@
+package io.github.wesleyosantos91.susep.sro.model.pipeline;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Métricas de um {@link Pipeline}, por etapa.
+ *
+ * @param stages  métricas das etapas, na ordem do pipeline
+ * @param elapsed tempo desde o início (até a conclusão, se concluído)
+ */
+public record PipelineStats(List<StageStats> stages, Duration elapsed) {
+
+    public PipelineStats {
+        stages = List.copyOf(Objects.requireNonNull(stages, "Etapas são obrigatórias"));
+        Objects.requireNonNull(elapsed, "Tempo decorrido é obrigatório");
+    }
+
+    /**
+     * @return métricas da etapa
+     * @throws IllegalArgumentException se não houver etapa com o nome
+     */
+    public StageStats stage(String nome) {
+        return stages.stream().filter(etapa -> etapa.name().equals(nome)).findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Etapa inexistente: " + nome));
+    }
+
+    /**
+     * @return etapa de maior ocupação dos workers
+     */
+    public StageStats bottleneck() {
+        return stages.stream().max(Comparator.comparingDouble(StageStats::utilization)).orElseThrow();
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.wesleyosantos91.susep.sro.model.pipeline;
+
+/**
+ * Transformação de um item em uma etapa do {@link Pipeline}.
+ *
+ * <p>Executada concorrentemente pelos workers da etapa; implementações devem ser thread-safe.</p>
+ *
+ * @param <I> tipo do item recebido
+ * @param <O> tipo do item produzido
+ */
+@FunctionalInterface
+public interface Stage<I, O> {
+
+    /**
+     * @param item item recebido da etapa anterior
+     * @return item para a etapa seguinte, ou {@code null} para descartá-lo (por exemplo, um
+     *         reenvio identificado pela deduplicação)
+     * @throws Exception se o item não puder ser processado
+     */
+    O process(I item) throws Exception;
+}
@@ -0,0 +1,18 @@
+package io.github.wesleyosantos91.susep.sro.model.pipeline;
+
+import java.util.Objects;
+
+/**
+ * Item rejeitado por uma etapa do {@link Pipeline}.
+ *
+ * @param stage nome da etapa
+ * @param item  item recebido pela etapa
+ * @param cause exceção lançada
+ */
+public record StageFailure(String stage, Object item, Exception cause) {
+
+    public StageFailure {
+        Objects.requireNonNull(stage, "Etapa é obrigatória");
+        Objects.requireNonNull(cause, "Causa é obrigatória");
+    }
+}
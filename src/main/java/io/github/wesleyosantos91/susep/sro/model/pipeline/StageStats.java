@@ -0,0 +1,48 @@
+package io.github.wesleyosantos91.susep.sro.model.pipeline;
+
+import java.time.Duration;
+
+/**
+ * Métricas de uma etapa do {@link Pipeline}.
+ *
+ * @param name            nome da etapa
+ * @param type            tipo dos workers
+ * @param workers         quantidade de workers
+ * @param queueDepth      itens aguardando na fila de entrada
+ * @param queueCapacity   capacidade da fila de entrada
+ * @param received        itens processados pela etapa
+ * @param emitted         itens repassados adiante
+ * @param dropped         itens descartados (resultado {@code null})
+ * @param failed          itens rejeitados com exceção
+ * @param busyNanos       tempo total de processamento, somado entre os workers
+ * @param maxLatencyNanos maior tempo de processamento de um item
+ * @param elapsedNanos    tempo desde o início do pipeline (até a conclusão, se concluído)
+ */
+public record StageStats(String name, StageType type, int workers, int queueDepth, int queueCapacity,
+                         long received, long emitted, long dropped, long failed, long busyNanos,
+                         long maxLatencyNanos, long elapsedNanos) {
+
+    /**
+     * @return tempo médio de processamento por item
+     */
+    public Duration averageLatency() {
+        return Duration.ofNanos(received == 0 ? 0 : busyNanos / received);
+    }
+
+    /**
+     * @return itens processados por segundo desde o início
+     */
+    public double throughput() {
+        return elapsedNanos == 0 ? 0 : received * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Fração do tempo em que os workers estiveram processando. Perto de 1 indica a etapa gargalo,
+     * cuja fila de entrada tende a ficar cheia.
+     *
+     * @return ocupação média dos workers, entre 0 e 1
+     */
+    public double utilization() {
+        return elapsedNanos == 0 ? 0 : Math.min(1, (double) busyNanos / ((double) elapsedNanos * workers));
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.wesleyosantos91.susep.sro.model.pipeline;
+
+/**
+ * Natureza do trabalho de uma etapa do {@link Pipeline}, que define o tipo de thread dos seus
+ * workers.
+ */
+public enum StageType {
+
+    /**
+     * Etapa limitada por CPU (conversão, validação, deduplicação): workers em threads de
+     * plataforma, em quantidade próxima à de processadores.
+     */
+    CPU,
+
+    /**
+     * Etapa limitada por E/S (gravação em log, índices remotos, APIs): workers em threads
+     * virtuais, que podem ser numerosos sem ocupar threads de plataforma enquanto aguardam.
+     */
+    IO
+}
@@ -0,0 +1,40 @@
+package io.github.wesleyosantos91.susep.sro.model.registry;
+
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.endosso.Endosso;
+
+import java.util.Objects;
+
+/**
+ * Chave de identificação de um documento: seguradora, apólice e certificado.
+ *
+ * <p>Substitui a concatenação de strings: não aloca texto intermediário e não confunde
+ * combinações como ({@code "12"}, {@code "3"}) e ({@code "1"}, {@code "23"}).</p>
+ *
+ * @param codigoSeguradora  código Susep da seguradora
+ * @param apoliceCodigo     código da apólice
+ * @param certificadoCodigo código do certificado ({@code null} quando não houver)
+ */
+public record DocumentoKey(String codigoSeguradora, String apoliceCodigo, String certificadoCodigo) {
+
+    public DocumentoKey {
+        Objects.requireNonNull(codigoSeguradora, "Código da seguradora é obrigatório");
+        Objects.requireNonNull(apoliceCodigo, "Código da apólice é obrigatório");
+    }
+
+    /**
+     * @param documento documento
+     * @return chave do documento
+     */
+    public static DocumentoKey of(Documento documento) {
+        return new DocumentoKey(documento.codigoSeguradora(), documento.apoliceCodigo(), documento.certificadoCodigo());
+    }
+
+    /**
+     * @param endosso endosso
+     * @return chave do documento endossado
+     */
+    public static DocumentoKey of(Endosso endosso) {
+        return new DocumentoKey(endosso.codigoSeguradora(), endosso.apoliceCodigo(), endosso.certificadoCodigo());
+    }
+}
@@ -0,0 +1,214 @@
+package io.github.wesleyosantos91.susep.sro.model.registry;
+
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Registro em memória do estado corrente de cada {@link Documento}, por {@link DocumentoKey}.
+ *
+ * <p>Leituras são lock-free ({@link ConcurrentHashMap#get(Object)}) e podem ocorrer em paralelo
+ * com atualizações contínuas. Cada atualização bloqueia apenas o bin da chave afetada, de modo
+ * que atualizações de documentos diferentes não competem entre si.</p>
+ *
+ * <p>Vale a última escrita segundo {@code dataAlteracao}: uma versão com data anterior à vigente
+ * é descartada; com a mesma data, a versão recebida por último prevalece. Documentos com
+ * {@code indicadorExclusao == 1} são mantidos como lápide (tombstone), invisíveis às consultas,
+ * para que versões antigas entregues fora de ordem não ressuscitem o documento excluído.
+ * Lápides podem ser descartadas com {@link #purgeTombstones(LocalDate)}.</p>
+ */
+public final class DocumentoRegistry {
+
+    /** Valor de {@code indicadorExclusao} que identifica um registro de exclusão. */
+    public static final int EXCLUSAO = 1;
+
+    private final ConcurrentHashMap<DocumentoKey, Documento> documentos;
+    private final LongAdder ativos = new LongAdder();
+
+    /**
+     * Cria um registro vazio.
+     */
+    public DocumentoRegistry() {
+        this(16);
+    }
+
+    /**
+     * Cria um registro dimensionado para a quantidade esperada de documentos.
+     *
+     * @param capacidadeEsperada quantidade esperada de documentos
+     * @throws IllegalArgumentException se a capacidade for negativa
+     */
+    public DocumentoRegistry(int capacidadeEsperada) {
+        if (capacidadeEsperada < 0) {
+            throw new IllegalArgumentException("Capacidade esperada não pode ser negativa");
+        }
+        this.documentos = new ConcurrentHashMap<>(capacidadeEsperada);
+    }
+
+    /**
+     * Aplica uma versão do documento, respeitando a ordem de {@code dataAlteracao}.
+     *
+     * @param documento nova versão (ou exclusão) do documento
+     * @return {@code true} se a versão foi aplicada; {@code false} se era mais antiga que a vigente
+     * @throws NullPointerException se o documento for nulo
+     */
+    public boolean upsert(Documento documento) {
+        Objects.requireNonNull(documento, "Documento é obrigatório");
+        boolean[] aplicado = new boolean[1];
+        documentos.compute(DocumentoKey.of(documento), (chave, vigente) -> {
+            if (vigente != null && documento.dataAlteracao().isBefore(vigente.dataAlteracao())) {
+                return vigente;
+            }
+            aplicado[0] = true;
+            return substituir(vigente, documento);
+        });
+        return aplicado[0];
+    }
+
+    /**
+     * Deriva e publica a nova versão a partir da vigente, sob o bloqueio do bin da chave.
+     *
+     * <p>A leitura da versão vigente e a publicação do resultado são atômicas: nenhuma outra
+     * atualização da mesma chave é aplicada entre as duas. A função recebe o documento vigente
+     * ({@code null} se inexistente ou excluído) e devolve a nova versão, ou {@code null} para
+     * manter o estado. Exceções lançadas pela função são propagadas sem alterar o registro. A
+     * função não deve acessar o registro.</p>
+     *
+     * @param chave     chave do documento
+     * @param derivacao função que calcula a nova versão a partir da vigente
+     * @return versão publicada, ou vazio se o estado foi mantido ou a versão era mais antiga que a vigente
+     */
+    Optional<Documento> merge(DocumentoKey chave, UnaryOperator<Documento> derivacao) {
+        Objects.requireNonNull(chave, "Chave é obrigatória");
+        Objects.requireNonNull(derivacao, "Derivação é obrigatória");
+        Documento[] publicado = new Documento[1];
+        documentos.compute(chave, (k, vigente) -> {
+            Documento novo = derivacao.apply(vigente == null || isTombstone(vigente) ? null : vigente);
+            if (novo == null || vigente != null && novo.dataAlteracao().isBefore(vigente.dataAlteracao())) {
+                return vigente;
+            }
+            if (!DocumentoKey.of(novo).equals(k)) {
+                throw new IllegalArgumentException("Documento " + novo.apoliceCodigo() + " não pertence à chave " + k);
+            }
+            publicado[0] = novo;
+            return substituir(vigente, novo);
+        });
+        return Optional.ofNullable(publicado[0]);
+    }
+
+    /**
+     * Estado corrente do documento.
+     *
+     * @param chave chave do documento
+     * @return documento vigente, ou vazio se inexistente ou excluído
+     */
+    public Optional<Documento> find(DocumentoKey chave) {
+        Documento documento = documentos.get(chave);
+        return documento == null || isTombstone(documento) ? Optional.empty() : Optional.of(documento);
+    }
+
+    /**
+     * Estado corrente do documento.
+     *
+     * @param codigoSeguradora  código Susep da seguradora
+     * @param apoliceCodigo     código da apólice
+     * @param certificadoCodigo código do certificado ({@code null} quando não houver)
+     * @return documento vigente, ou vazio se inexistente ou excluído
+     */
+    public Optional<Documento> find(String codigoSeguradora, String apoliceCodigo, String certificadoCodigo) {
+        return find(new DocumentoKey(codigoSeguradora, apoliceCodigo, certificadoCodigo));
+    }
+
+    /**
+     * Indica se o documento foi excluído (há lápide registrada para a chave).
+     *
+     * @param chave chave do documento
+     * @return {@code true} se a última versão conhecida é uma exclusão
+     */
+    public boolean isDeleted(DocumentoKey chave) {
+        Documento documento = documentos.get(chave);
+        return documento != null && isTombstone(documento);
+    }
+
+    /**
+     * Percorre os documentos vigentes (exclui lápides). A iteração é fracamente consistente:
+     * reflete atualizações concorrentes de forma parcial, sem lançar exceções.
+     *
+     * @param acao ação aplicada a cada documento
+     */
+    public void forEach(Consumer<Documento> acao) {
+        Objects.requireNonNull(acao, "Ação é obrigatória");
+        documentos.values().forEach(documento -> {
+            if (!isTombstone(documento)) {
+                acao.accept(documento);
+            }
+        });
+    }
+
+    /**
+     * Percorre todas as versões vigentes, inclusive lápides, para exportação do estado (por
+     * exemplo, em snapshot). A iteração é fracamente consistente, como em {@link #forEach(Consumer)}.
+     *
+     * @param acao ação aplicada a cada documento ou lápide
+     */
+    public void forEachWithTombstones(Consumer<Documento> acao) {
+        Objects.requireNonNull(acao, "Ação é obrigatória");
+        documentos.values().forEach(acao);
+    }
+
+    /**
+     * @return quantidade de chaves registradas, inclusive lápides
+     */
+    public int entryCount() {
+        return documentos.size();
+    }
+
+    /**
+     * Remove lápides com {@code dataAlteracao} anterior à data de corte. Após a remoção, uma
+     * versão antiga entregue com atraso voltaria a ser aceita; a data de corte deve ser maior
+     * que o atraso máximo esperado na entrega.
+     *
+     * @param corte data de corte (exclusiva)
+     * @return quantidade de lápides removidas
+     */
+    public int purgeTombstones(LocalDate corte) {
+        Objects.requireNonNull(corte, "Data de corte é obrigatória");
+        int removidas = 0;
+        for (var entrada : documentos.entrySet()) {
+            Documento documento = entrada.getValue();
+            if (isTombstone(documento) && documento.dataAlteracao().isBefore(corte)
+                && documentos.remove(entrada.getKey(), documento)) {
+                removidas++;
+            }
+        }
+        return removidas;
+    }
+
+    /**
+     * @return quantidade de documentos vigentes (exclui lápides)
+     */
+    public long size() {
+        return ativos.sum();
+    }
+
+    /**
+     * Ajusta a contagem de ativos para a troca da versão vigente pela nova e devolve a nova.
+     */
+    private Documento substituir(Documento vigente, Documento novo) {
+        int delta = (isTombstone(novo) ? 0 : 1) - (vigente == null || isTombstone(vigente) ? 0 : 1);
+        if (delta != 0) {
+            ativos.add(delta);
+        }
+        return novo;
+    }
+
+    private static boolean isTombstone(Documento documento) {
+        return documento.indicadorExclusao() == EXCLUSAO;
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.wesleyosantos91.susep.sro.model.registry;
+
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.DocumentoBuilder;
+import io.github.wesleyosantos91.susep.sro.model.endosso.Endosso;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Materializa o estado efetivo de cada apólice aplicando endossos de forma incremental.
+ *
+ * <p>O estado efetivo fica no {@link DocumentoRegistry}: cada novo {@link Endosso} é aplicado
+ * sobre o documento vigente, sem reprocessar os endossos anteriores. Como o endosso traz a cópia
+ * completa dos blocos da apólice, a aplicação é idempotente e a ordem entre endossos é resolvida
+ * pelo próprio registro (última escrita por {@code dataAlteracao}).</p>
+ *
+ * <p>O resultado compartilha estrutura com o estado anterior: blocos iguais mantêm a mesma
+ * instância e, nas listas alteradas, os elementos iguais aos já vigentes são reaproveitados
+ * (inclusive quando mudam de posição). Um endosso que altera uma vida de uma apólice coletiva
+ * com 5.000 segurados retém apenas o novo segurado e o array de referências da lista, e não uma
+ * segunda cópia do grafo.</p>
+ */
+public final class EndossoMaterializer {
+
+    private final DocumentoRegistry registro;
+
+    /**
+     * Cria um materializador sobre o registro informado.
+     *
+     * @param registro registro com os documentos vigentes
+     */
+    public EndossoMaterializer(DocumentoRegistry registro) {
+        this.registro = Objects.requireNonNull(registro, "Registro é obrigatório");
+    }
+
+    /**
+     * Aplica o endosso ao documento vigente e publica o resultado no registro.
+     *
+     * <p>A leitura do documento vigente e a publicação do resultado são atômicas por apólice: uma
+     * versão publicada em paralelo para a mesma chave nunca é sobrescrita por um resultado derivado
+     * do estado anterior a ela.</p>
+     *
+     * <p>Endossos de exclusão ({@code indicadorExclusao == 1}) não são revertidos
+     * incrementalmente: o estado anterior deve ser republicado com {@link DocumentoRegistry#upsert}.</p>
+     *
+     * @param endosso endosso a aplicar
+     * @return documento efetivo resultante, ou vazio se o endosso for de exclusão ou mais antigo
+     *     que o estado vigente
+     * @throws IllegalStateException se não houver documento vigente para a apólice endossada
+     */
+    public Optional<Documento> apply(Endosso endosso) {
+        Objects.requireNonNull(endosso, "Endosso é obrigatório");
+        if (endosso.indicadorExclusao() == DocumentoRegistry.EXCLUSAO) {
+            return Optional.empty();
+        }
+        return registro.merge(DocumentoKey.of(endosso), vigente -> {
+            if (vigente == null) {
+                throw new IllegalStateException(
+                    "Documento vigente não encontrado para o endosso " + endosso.endossoCodigo());
+            }
+            return endosso.dataAlteracao().isBefore(vigente.dataAlteracao()) ? null : materialize(vigente, endosso);
+        });
+    }
+
+    /**
+     * Estado efetivo da apólice.
+     *
+     * @param chave chave do documento
+     * @return documento efetivo, ou vazio se inexistente ou excluído
+     */
+    public Optional<Documento> effective(DocumentoKey chave) {
+        return registro.find(chave);
+    }
+
+    /**
+     * Documento resultante da aplicação do endosso sobre o documento vigente.
+     *
+     * <p>Identificação, registro e emissão do documento são preservados; a vigência passa a ser
+     * a do documento informada no endosso ({@code dataInicioDocumento}/{@code dataTerminoDocumento},
+     * quando presentes) e os demais dados e blocos passam a ser os do endosso.</p>
+     *
+     * @param vigente documento vigente
+     * @param endosso endosso da mesma apólice
+     * @return documento efetivo
+     * @throws IllegalArgumentException se o endosso não for da apólice do documento
+     */
+    public static Documento materialize(Documento vigente, Endosso endosso) {
+        if (!DocumentoKey.of(vigente).equals(DocumentoKey.of(endosso))) {
+            throw new IllegalArgumentException("Endosso " + endosso.endossoCodigo() + " não pertence ao documento "
+                + vigente.apoliceCodigo());
+        }
+        return new DocumentoBuilder().from(vigente)
+            .dataAlteracao(endosso.dataAlteracao())
+            .numeroSusepApolice(Objects.requireNonNullElse(endosso.numeroSusepApolice(), vigente.numeroSusepApolice()))
+            .dataInicio(Objects.requireNonNullElse(endosso.dataInicioDocumento(), vigente.dataInicio()))
+            .dataTermino(Objects.requireNonNullElse(endosso.dataTerminoDocumento(), vigente.dataTermino()))
+            .codigoFilial(endosso.codigoFilial())
+            .codigoSeguradoraLider(endosso.codigoSeguradoraLider())
+            .apoliceCodigoLider(endosso.apoliceCodigoLider())
+            .moedaApolice(endosso.moedaApolice())
+            .limiteMaximoGarantia(endosso.limiteMaximoGarantia())
+            .limiteMaximoGarantiaReal(endosso.limiteMaximoGarantiaReal())
+            .coberturaBasica(endosso.coberturaBasica())
+            .ccgs(share(vigente.ccgs(), endosso.ccgs()))
+            .segurados(share(vigente.segurados(), endosso.segurados()))
+            .beneficiarios(share(vigente.beneficiarios(), endosso.beneficiarios()))
+            .tomadores(share(vigente.tomadores(), endosso.tomadores()))
+            .intermediarios(share(vigente.intermediarios(), endosso.intermediarios()))
+            .objetosSegurados(share(vigente.objetosSegurados(), endosso.objetosSegurados()))
+            .premioApolice(share(vigente.premioApolice(), endosso.premioApolice()))
+            .cosseguro(share(vigente.cosseguro(), endosso.cosseguro()))
+            .build();
+    }
+
+    /**
+     * Instância vigente quando igual à nova; caso contrário, a nova.
+     */
+    static <T> T share(T vigente, T novo) {
+        return Objects.equals(vigente, novo) ? vigente : novo;
+    }
+
+    /**
+     * Lista nova com os elementos iguais aos vigentes substituídos pelas instâncias vigentes.
+     *
+     * <p>Compara posição a posição; só quando a posição diverge consulta um índice dos elementos
+     * vigentes, construído sob demanda. Se todos os elementos coincidirem na mesma ordem,
+     * devolve a própria lista vigente.</p>
+     */
+    static <E> List<E> share(List<E> vigente, List<E> novo) {
+        if (vigente == novo) {
+            return vigente;
+        }
+        @SuppressWarnings("unchecked")
+        E[] resultado = (E[]) new Object[novo.size()];
+        Map<E, E> indice = null;
+        boolean identica = vigente.size() == novo.size();
+        for (int i = 0; i < resultado.length; i++) {
+            E elemento = novo.get(i);
+            if (i < vigente.size() && elemento.equals(vigente.get(i))) {
+                resultado[i] = vigente.get(i);
+                continue;
+            }
+            identica = false;
+            if (indice == null) {
+                indice = new HashMap<>(vigente.size() * 2);
+                for (E existente : vigente) {
+                    indice.putIfAbsent(existente, existente);
+                }
+            }
+            resultado[i] = indice.getOrDefault(elemento, elemento);
+        }
+        return identica ? vigente : List.of(resultado);
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.wesleyosantos91.susep.sro.model.sinistro;
+
+import java.time.LocalDate;
+
+/**
+ * Builder reutilizável para {@link Automovel}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class AutomovelBuilder {
+
+    private String codigoObjeto;
+    private Integer causaSinistro;
+    private Integer sexoCondutor;
+    private LocalDate dataNascimento;
+    private String paisOcorrenciaSinistro;
+    private String cepLocalidadeSinistro;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public AutomovelBuilder from(Automovel origem) {
+        return codigoObjeto(origem.codigoObjeto())
+            .causaSinistro(origem.causaSinistro())
+            .sexoCondutor(origem.sexoCondutor())
+            .dataNascimento(origem.dataNascimento())
+            .paisOcorrenciaSinistro(origem.paisOcorrenciaSinistro())
+            .cepLocalidadeSinistro(origem.cepLocalidadeSinistro());
+    }
+
+    /**
+     * Define {@link Automovel#codigoObjeto()}.
+     *
+     * @param codigoObjeto valor do componente
+     * @return este builder
+     */
+    public AutomovelBuilder codigoObjeto(String codigoObjeto) {
+        this.codigoObjeto = codigoObjeto;
+        return this;
+    }
+
+    /**
+     * Define {@link Automovel#causaSinistro()}.
+     *
+     * @param causaSinistro valor do componente
+     * @return este builder
+     */
+    public AutomovelBuilder causaSinistro(Integer causaSinistro) {
+        this.causaSinistro = causaSinistro;
+        return this;
+    }
+
+    /**
+     * Define {@link Automovel#sexoCondutor()}.
+     *
+     * @param sexoCondutor valor do componente
+     * @return este builder
+     */
+    public AutomovelBuilder sexoCondutor(Integer sexoCondutor) {
+        this.sexoCondutor = sexoCondutor;
+        return this;
+    }
+
+    /**
+     * Define {@link Automovel#dataNascimento()}.
+     *
+     * @param dataNascimento valor do componente
+     * @return este builder
+     */
+    public AutomovelBuilder dataNascimento(LocalDate dataNascimento) {
+        this.dataNascimento = dataNascimento;
+        return this;
+    }
+
+    /**
+     * Define {@link Automovel#paisOcorrenciaSinistro()}.
+     *
+     * @param paisOcorrenciaSinistro valor do componente
+     * @return este builder
+     */
+    public AutomovelBuilder paisOcorrenciaSinistro(String paisOcorrenciaSinistro) {
+        this.paisOcorrenciaSinistro = paisOcorrenciaSinistro;
+        return this;
+    }
+
+    /**
+     * Define {@link Automovel#cepLocalidadeSinistro()}.
+     *
+     * @param cepLocalidadeSinistro valor do componente
+     * @return este builder
+     */
+    public AutomovelBuilder cepLocalidadeSinistro(String cepLocalidadeSinistro) {
+        this.cepLocalidadeSinistro = cepLocalidadeSinistro;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Automovel build() {
+        return new Automovel(
+            codigoObjeto,
+            causaSinistro,
+            sexoCondutor,
+            dataNascimento,
+            paisOcorrenciaSinistro,
+            cepLocalidadeSinistro
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public AutomovelBuilder reset() {
+        codigoObjeto = null;
+        causaSinistro = null;
+        sexoCondutor = null;
+        dataNascimento = null;
+        paisOcorrenciaSinistro = null;
+        cepLocalidadeSinistro = null;
+        return this;
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.wesleyosantos91.susep.sro.model.sinistro;
+
+import java.time.LocalDate;
+
+/**
+ * Builder reutilizável para {@link CoberturaAfetada}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class CoberturaAfetadaBuilder {
+
+    private String codigoObjeto;
+    private String grupoRamo;
+    private Integer sinistroCoberturaCodigo;
+    private String coberturaInternaSeguradora;
+    private String sinistroCoberturaOutros;
+    private LocalDate dataAvisoCobertura;
+    private LocalDate dataRegistroSeguradoraCobertura;
+    private LocalDate dataReclamacaoTerceiroCobertura;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public CoberturaAfetadaBuilder from(CoberturaAfetada origem) {
+        return codigoObjeto(origem.codigoObjeto())
+            .grupoRamo(origem.grupoRamo())
+            .sinistroCoberturaCodigo(origem.sinistroCoberturaCodigo())
+            .coberturaInternaSeguradora(origem.coberturaInternaSeguradora())
+            .sinistroCoberturaOutros(origem.sinistroCoberturaOutros())
+            .dataAvisoCobertura(origem.dataAvisoCobertura())
+            .dataRegistroSeguradoraCobertura(origem.dataRegistroSeguradoraCobertura())
+            .dataReclamacaoTerceiroCobertura(origem.dataReclamacaoTerceiroCobertura());
+    }
+
+    /**
+     * Define {@link CoberturaAfetada#codigoObjeto()}.
+     *
+     * @param codigoObjeto valor do componente
+     * @return este builder
+     */
+    public CoberturaAfetadaBuilder codigoObjeto(String codigoObjeto) {
+        this.codigoObjeto = codigoObjeto;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAfetada#grupoRamo()}.
+     *
+     * @param grupoRamo valor do componente
+     * @return este builder
+     */
+    public CoberturaAfetadaBuilder grupoRamo(String grupoRamo) {
+        this.grupoRamo = grupoRamo;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAfetada#sinistroCoberturaCodigo()}.
+     *
+     * @param sinistroCoberturaCodigo valor do componente
+     * @return este builder
+     */
+    public CoberturaAfetadaBuilder sinistroCoberturaCodigo(Integer sinistroCoberturaCodigo) {
+        this.sinistroCoberturaCodigo = sinistroCoberturaCodigo;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAfetada#coberturaInternaSeguradora()}.
+     *
+     * @param coberturaInternaSeguradora valor do componente
+     * @return este builder
+     */
+    public CoberturaAfetadaBuilder coberturaInternaSeguradora(String coberturaInternaSeguradora) {
+        this.coberturaInternaSeguradora = coberturaInternaSeguradora;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAfetada#sinistroCoberturaOutros()}.
+     *
+     * @param sinistroCoberturaOutros valor do componente
+     * @return este builder
+     */
+    public CoberturaAfetadaBuilder sinistroCoberturaOutros(String sinistroCoberturaOutros) {
+        this.sinistroCoberturaOutros = sinistroCoberturaOutros;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAfetada#dataAvisoCobertura()}.
+     *
+     * @param dataAvisoCobertura valor do componente
+     * @return este builder
+     */
+    public CoberturaAfetadaBuilder dataAvisoCobertura(LocalDate dataAvisoCobertura) {
+        this.dataAvisoCobertura = dataAvisoCobertura;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAfetada#dataRegistroSeguradoraCobertura()}.
+     *
+     * @param dataRegistroSeguradoraCobertura valor do componente
+     * @return este builder
+     */
+    public CoberturaAfetadaBuilder dataRegistroSeguradoraCobertura(LocalDate dataRegistroSeguradoraCobertura) {
+        this.dataRegistroSeguradoraCobertura = dataRegistroSeguradoraCobertura;
+        return this;
+    }
+
+    /**
+     * Define {@link CoberturaAfetada#dataReclamacaoTerceiroCobertura()}.
+     *
+     * @param dataReclamacaoTerceiroCobertura valor do componente
+     * @return este builder
+     */
+    public CoberturaAfetadaBuilder dataReclamacaoTerceiroCobertura(LocalDate dataReclamacaoTerceiroCobertura) {
+        this.dataReclamacaoTerceiroCobertura = dataReclamacaoTerceiroCobertura;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public CoberturaAfetada build() {
+        return new CoberturaAfetada(
+            codigoObjeto,
+            grupoRamo,
+            sinistroCoberturaCodigo,
+            coberturaInternaSeguradora,
+            sinistroCoberturaOutros,
+            dataAvisoCobertura,
+            dataRegistroSeguradoraCobertura,
+            dataReclamacaoTerceiroCobertura
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public CoberturaAfetadaBuilder reset() {
+        codigoObjeto = null;
+        grupoRamo = null;
+        sinistroCoberturaCodigo = null;
+        coberturaInternaSeguradora = null;
+        sinistroCoberturaOutros = null;
+        dataAvisoCobertura = null;
+        dataRegistroSeguradoraCobertura = null;
+        dataReclamacaoTerceiroCobertura = null;
+        return this;
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.wesleyosantos91.susep.sro.model.sinistro;
+
+/**
+ * Builder reutilizável para {@link DocumentoAfetado}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class DocumentoAfetadoBuilder {
+
+    private String apoliceCodigo;
+    private String certificadoCodigo;
+    private String numeroEndosso;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public DocumentoAfetadoBuilder from(DocumentoAfetado origem) {
+        return apoliceCodigo(origem.apoliceCodigo())
+            .certificadoCodigo(origem.certificadoCodigo())
+            .numeroEndosso(origem.numeroEndosso());
+    }
+
+    /**
+     * Define {@link DocumentoAfetado#apoliceCodigo()}.
+     *
+     * @param apoliceCodigo valor do componente
+     * @return este builder
+     */
+    public DocumentoAfetadoBuilder apoliceCodigo(String apoliceCodigo) {
+        this.apoliceCodigo = apoliceCodigo;
+        return this;
+    }
+
+    /**
+     * Define {@link DocumentoAfetado#certificadoCodigo()}.
+     *
+     * @param certificadoCodigo valor do componente
+     * @return este builder
+     */
+    public DocumentoAfetadoBuilder certificadoCodigo(String certificadoCodigo) {
+        this.certificadoCodigo = certificadoCodigo;
+        return this;
+    }
+
+    /**
+     * Define {@link DocumentoAfetado#numeroEndosso()}.
+     *
+     * @param numeroEndosso valor do componente
+     * @return este builder
+     */
+    public DocumentoAfetadoBuilder numeroEndosso(String numeroEndosso) {
+        this.numeroEndosso = numeroEndosso;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public DocumentoAfetado build() {
+        return new DocumentoAfetado(
+            apoliceCodigo,
+            certificadoCodigo,
+            numeroEndosso
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public DocumentoAfetadoBuilder reset() {
+        apoliceCodigo = null;
+        certificadoCodigo = null;
+        numeroEndosso = null;
+        return this;
+    }
+}
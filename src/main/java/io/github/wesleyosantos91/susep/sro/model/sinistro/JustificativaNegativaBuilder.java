@@ -0,0 +1,72 @@
+package io.github.wesleyosantos91.susep.sro.model.sinistro;
+
+/**
+ * Builder reutilizável para {@link JustificativaNegativa}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class JustificativaNegativaBuilder {
+
+    private Integer justificativa;
+    private String descricaoJustificativa;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public JustificativaNegativaBuilder from(JustificativaNegativa origem) {
+        return justificativa(origem.justificativa())
+            .descricaoJustificativa(origem.descricaoJustificativa());
+    }
+
+    /**
+     * Define {@link JustificativaNegativa#justificativa()}.
+     *
+     * @param justificativa valor do componente
+     * @return este builder
+     */
+    public JustificativaNegativaBuilder justificativa(Integer justificativa) {
+        this.justificativa = justificativa;
+        return this;
+    }
+
+    /**
+     * Define {@link JustificativaNegativa#descricaoJustificativa()}.
+     *
+     * @param descricaoJustificativa valor do componente
+     * @return este builder
+     */
+    public JustificativaNegativaBuilder descricaoJustificativa(String descricaoJustificativa) {
+        this.descricaoJustificativa = descricaoJustificativa;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public JustificativaNegativa build() {
+        return new JustificativaNegativa(
+            justificativa,
+            descricaoJustificativa
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public JustificativaNegativaBuilder reset() {
+        justificativa = null;
+        descricaoJustificativa = null;
+        return this;
+    }
+}
@@ -0,0 +1,271 @@
+package io.github.wesleyosantos91.susep.sro.model.sinistro;
+
+import io.github.wesleyosantos91.susep.sro.model.util.ListAccumulator;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Builder reutilizável para {@link Sinistro}.
+ *
+ * <p>Listas acumuladas com os métodos {@code add...} são convertidas em listas imutáveis
+ * uma única vez em {@link #build()}; listas atribuídas diretamente são repassadas sem cópia.
+ * Em ambos os casos o compact constructor não copia a lista novamente.</p>
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class SinistroBuilder {
+
+    private Integer status;
+    private LocalDate dataAlteracaoStatus;
+    private LocalDate dataOcorrencia;
+    private LocalDate dataAviso;
+    private LocalDate dataRegistroSeguradora;
+    private LocalDate dataReclamacaoTerceiro;
+    private final ListAccumulator<JustificativaNegativa> justificativanegativas = new ListAccumulator<>();
+    private final ListAccumulator<DocumentoAfetado> documentoafetados = new ListAccumulator<>();
+    private final ListAccumulator<CoberturaAfetada> coberturaafetadas = new ListAccumulator<>();
+    private final ListAccumulator<VistoriaRural> vistoriarurals = new ListAccumulator<>();
+    private final ListAccumulator<Automovel> automovels = new ListAccumulator<>();
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public SinistroBuilder from(Sinistro origem) {
+        return status(origem.status())
+            .dataAlteracaoStatus(origem.dataAlteracaoStatus())
+            .dataOcorrencia(origem.dataOcorrencia())
+            .dataAviso(origem.dataAviso())
+            .dataRegistroSeguradora(origem.dataRegistroSeguradora())
+            .dataReclamacaoTerceiro(origem.dataReclamacaoTerceiro())
+            .justificativanegativas(origem.justificativanegativas())
+            .documentoafetados(origem.documentoafetados())
+            .coberturaafetadas(origem.coberturaafetadas())
+            .vistoriarurals(origem.vistoriarurals())
+            .automovels(origem.automovels());
+    }
+
+    /**
+     * Define {@link Sinistro#status()}.
+     *
+     * @param status valor do componente
+     * @return este builder
+     */
+    public SinistroBuilder status(Integer status) {
+        this.status = status;
+        return this;
+    }
+
+    /**
+     * Define {@link Sinistro#dataAlteracaoStatus()}.
+     *
+     * @param dataAlteracaoStatus valor do componente
+     * @return este builder
+     */
+    public SinistroBuilder dataAlteracaoStatus(LocalDate dataAlteracaoStatus) {
+        this.dataAlteracaoStatus = dataAlteracaoStatus;
+        return this;
+    }
+
+    /**
+     * Define {@link Sinistro#dataOcorrencia()}.
+     *
+     * @param dataOcorrencia valor do componente
+     * @return este builder
+     */
+    public SinistroBuilder dataOcorrencia(LocalDate dataOcorrencia) {
+        this.dataOcorrencia = dataOcorrencia;
+        return this;
+    }
+
+    /**
+     * Define {@link Sinistro#dataAviso()}.
+     *
+     * @param dataAviso valor do componente
+     * @return este builder
+     */
+    public SinistroBuilder dataAviso(LocalDate dataAviso) {
+        this.dataAviso = dataAviso;
+        return this;
+    }
+
+    /**
+     * Define {@link Sinistro#dataRegistroSeguradora()}.
+     *
+     * @param dataRegistroSeguradora valor do componente
+     * @return este builder
+     */
+    public SinistroBuilder dataRegistroSeguradora(LocalDate dataRegistroSeguradora) {
+        this.dataRegistroSeguradora = dataRegistroSeguradora;
+        return this;
+    }
+
+    /**
+     * Define {@link Sinistro#dataReclamacaoTerceiro()}.
+     *
+     * @param dataReclamacaoTerceiro valor do componente
+     * @return este builder
+     */
+    public SinistroBuilder dataReclamacaoTerceiro(LocalDate dataReclamacaoTerceiro) {
+        this.dataReclamacaoTerceiro = dataReclamacaoTerceiro;
+        return this;
+    }
+
+    /**
+     * Atribui {@link Sinistro#justificativanegativas()} sem copiar a lista.
+     *
+     * @param justificativanegativas lista de elementos
+     * @return este builder
+     */
+    public SinistroBuilder justificativanegativas(List<JustificativaNegativa> justificativanegativas) {
+        this.justificativanegativas.set(justificativanegativas);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Sinistro#justificativanegativas()}.
+     *
+     * @param justificativaNegativa elemento não nulo
+     * @return este builder
+     */
+    public SinistroBuilder addJustificativaNegativa(JustificativaNegativa justificativaNegativa) {
+        this.justificativanegativas.add(justificativaNegativa);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Sinistro#documentoafetados()} sem copiar a lista.
+     *
+     * @param documentoafetados lista de elementos
+     * @return este builder
+     */
+    public SinistroBuilder documentoafetados(List<DocumentoAfetado> documentoafetados) {
+        this.documentoafetados.set(documentoafetados);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Sinistro#documentoafetados()}.
+     *
+     * @param documentoAfetado elemento não nulo
+     * @return este builder
+     */
+    public SinistroBuilder addDocumentoAfetado(DocumentoAfetado documentoAfetado) {
+        this.documentoafetados.add(documentoAfetado);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Sinistro#coberturaafetadas()} sem copiar a lista.
+     *
+     * @param coberturaafetadas lista de elementos
+     * @return este builder
+     */
+    public SinistroBuilder coberturaafetadas(List<CoberturaAfetada> coberturaafetadas) {
+        this.coberturaafetadas.set(coberturaafetadas);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Sinistro#coberturaafetadas()}.
+     *
+     * @param coberturaAfetada elemento não nulo
+     * @return este builder
+     */
+    public SinistroBuilder addCoberturaAfetada(CoberturaAfetada coberturaAfetada) {
+        this.coberturaafetadas.add(coberturaAfetada);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Sinistro#vistoriarurals()} sem copiar a lista.
+     *
+     * @param vistoriarurals lista de elementos
+     * @return este builder
+     */
+    public SinistroBuilder vistoriarurals(List<VistoriaRural> vistoriarurals) {
+        this.vistoriarurals.set(vistoriarurals);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Sinistro#vistoriarurals()}.
+     *
+     * @param vistoriaRural elemento não nulo
+     * @return este builder
+     */
+    public SinistroBuilder addVistoriaRural(VistoriaRural vistoriaRural) {
+        this.vistoriarurals.add(vistoriaRural);
+        return this;
+    }
+
+    /**
+     * Atribui {@link Sinistro#automovels()} sem copiar a lista.
+     *
+     * @param automovels lista de elementos
+     * @return este builder
+     */
+    public SinistroBuilder automovels(List<Automovel> automovels) {
+        this.automovels.set(automovels);
+        return this;
+    }
+
+    /**
+     * Acrescenta um elemento a {@link Sinistro#automovels()}.
+     *
+     * @param automovel elemento não nulo
+     * @return este builder
+     */
+    public SinistroBuilder addAutomovel(Automovel automovel) {
+        this.automovels.add(automovel);
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public Sinistro build() {
+        return new Sinistro(
+            status,
+            dataAlteracaoStatus,
+            dataOcorrencia,
+            dataAviso,
+            dataRegistroSeguradora,
+            dataReclamacaoTerceiro,
+            justificativanegativas.toList(),
+            documentoafetados.toList(),
+            coberturaafetadas.toList(),
+            vistoriarurals.toList(),
+            automovels.toList()
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public SinistroBuilder reset() {
+        status = null;
+        dataAlteracaoStatus = null;
+        dataOcorrencia = null;
+        dataAviso = null;
+        dataRegistroSeguradora = null;
+        dataReclamacaoTerceiro = null;
+        justificativanegativas.clear();
+        documentoafetados.clear();
+        coberturaafetadas.clear();
+        vistoriarurals.clear();
+        automovels.clear();
+        return this;
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.wesleyosantos91.susep.sro.model.sinistro;
+
+/**
+ * Builder reutilizável para {@link VistoriaRural}.
+ *
+ * <p>O builder pode ser reaproveitado após {@link #reset()}, o que permite manter uma
+ * instância por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * <p>Gerado automaticamente a partir dos componentes do record.</p>
+ */
+public final class VistoriaRuralBuilder {
+
+    private String ufVistoria;
+    private String codigoPostalVistoria;
+    private String paisVistoria;
+
+    /**
+     * Preenche o builder com todos os componentes de um registro existente.
+     *
+     * @param origem registro de origem
+     * @return este builder
+     */
+    public VistoriaRuralBuilder from(VistoriaRural origem) {
+        return ufVistoria(origem.ufVistoria())
+            .codigoPostalVistoria(origem.codigoPostalVistoria())
+            .paisVistoria(origem.paisVistoria());
+    }
+
+    /**
+     * Define {@link VistoriaRural#ufVistoria()}.
+     *
+     * @param ufVistoria valor do componente
+     * @return este builder
+     */
+    public VistoriaRuralBuilder ufVistoria(String ufVistoria) {
+        this.ufVistoria = ufVistoria;
+        return this;
+    }
+
+    /**
+     * Define {@link VistoriaRural#codigoPostalVistoria()}.
+     *
+     * @param codigoPostalVistoria valor do componente
+     * @return este builder
+     */
+    public VistoriaRuralBuilder codigoPostalVistoria(String codigoPostalVistoria) {
+        this.codigoPostalVistoria = codigoPostalVistoria;
+        return this;
+    }
+
+    /**
+     * Define {@link VistoriaRural#paisVistoria()}.
+     *
+     * @param paisVistoria valor do componente
+     * @return este builder
+     */
+    public VistoriaRuralBuilder paisVistoria(String paisVistoria) {
+        this.paisVistoria = paisVistoria;
+        return this;
+    }
+
+    /**
+     * Constrói o registro, aplicando as validações do compact constructor.
+     *
+     * @return novo registro
+     * @throws IllegalArgumentException se alguma validação falhar
+     */
+    public VistoriaRural build() {
+        return new VistoriaRural(
+            ufVistoria,
+            codigoPostalVistoria,
+            paisVistoria
+        );
+    }
+
+    /**
+     * Limpa todos os componentes para reutilização do builder.
+     *
+     * @return este builder
+     */
+    public VistoriaRuralBuilder reset() {
+        ufVistoria = null;
+        codigoPostalVistoria = null;
+        paisVistoria = null;
+        return this;
+    }
+}
@@ -0,0 +1,507 @@
+package io.github.wesleyosantos91.susep.sro.model.snapshot;
+
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryReader;
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryWriter;
+import io.github.wesleyosantos91.susep.sro.model.codec.RecordCodec;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.endosso.Endosso;
+import io.github.wesleyosantos91.susep.sro.model.fingerprint.Fingerprint;
+import io.github.wesleyosantos91.susep.sro.model.fingerprint.Fingerprinter;
+import io.github.wesleyosantos91.susep.sro.model.ledger.ParcelaPremioLedger;
+import io.github.wesleyosantos91.susep.sro.model.ledger.ReservaSinistroLedger;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistro;
+import io.github.wesleyosantos91.susep.sro.model.registry.DocumentoRegistry;
+import io.github.wesleyosantos91.susep.sro.model.registry.EndossoMaterializer;
+import io.github.wesleyosantos91.susep.sro.model.util.EpochDays;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+
+/**
+ * Estado em memória do SRO com snapshot em disco e replay incremental.
+ *
+ * <p>Reúne o {@link DocumentoRegistry} (documentos e, pelo {@link EndossoMaterializer}, o estado
+ * materializado dos endossos), o {@link ReservaSinistroLedger} e o {@link ParcelaPremioLedger}.
+ * Os registros são aplicados pelos métodos {@code apply}, que podem ser chamados concorrentemente
+ * por várias threads. A maior {@code dataAlteracao} aplicada é a marca d'água do estado.</p>
+ *
+ * <p>O {@link #snapshot(Path)} grava o estado em um arquivo binário compacto: os documentos (inclusive
+ * lápides) são codificados com {@link RecordCodec} em blocos independentes, em paralelo, e cada
+ * bloco tem o seu CRC32C. As aplicações ficam suspensas apenas enquanto as referências aos
+ * documentos são copiadas e as razões são exportadas; os documentos são imutáveis e são
+ * codificados depois de liberado o bloqueio. O {@link #restore(Path)} lê e decodifica os blocos
+ * em paralelo.</p>
+ *
+ * <p>Após a restauração, {@link #replay(Iterable)} aplica apenas os registros posteriores à marca
+ * d'água. Como {@code dataAlteracao} é uma data sem hora, o snapshot guarda também os
+ * {@code uuid}s aplicados no dia da marca, de modo que movimentos daquele dia (que são somados
+ * pelas razões) não sejam aplicados duas vezes. Registros anteriores à marca são ignorados pelo
+ * replay: a fonte deve entregá-los em ordem de {@code dataAlteracao}.</p>
+ */
+public final class SroState {
+
+    /** "SROSNP01" em ASCII. */
+    static final long MAGIC = 0x53524F534E503031L;
+    static final int VERSION = 1;
+
+    private static final int PREFIXO = Long.BYTES + 3 * Integer.BYTES;
+    private static final int DOCUMENTOS_POR_BLOCO = 4096;
+    private static final int DOCUMENTOS = 1;
+    private static final int RESERVAS = 2;
+    private static final int PARCELAS = 3;
+
+    private static final RecordCodec<Documento> CODEC = RecordCodec.of(Documento.class);
+
+    private final DocumentoRegistry registro;
+    private final EndossoMaterializer materializador;
+    private final ReservaSinistroLedger reservas;
+    private final ParcelaPremioLedger parcelas;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Protegido pelo monitor de {@link #uuidsDaMarca}. */
+    private int marca = EpochDays.NULL;
+    private final Set<Fingerprint> uuidsDaMarca = new HashSet<>();
+
+    /**
+     * Cria um estado vazio, com as razões em centavos.
+     */
+    public SroState() {
+        this(new DocumentoRegistry(), new ReservaSinistroLedger(), new ParcelaPremioLedger());
+    }
+
+    /**
+     * Cria um estado sobre os componentes informados.
+     *
+     * @param registro registro de documentos
+     * @param reservas razão das reservas de sinistro
+     * @param parcelas razão das parcelas de prêmio
+     */
+    public SroState(DocumentoRegistry registro, ReservaSinistroLedger reservas, ParcelaPremioLedger parcelas) {
+        this.registro = Objects.requireNonNull(registro, "Registro é obrigatório");
+        this.reservas = Objects.requireNonNull(reservas, "Razão de reservas é obrigatória");
+        this.parcelas = Objects.requireNonNull(parcelas, "Razão de parcelas é obrigatória");
+        this.materializador = new EndossoMaterializer(registro);
+    }
+
+    /**
+     * Aplica uma versão do documento.
+     *
+     * @param documento nova versão (ou exclusão) do documento
+     * @return {@code true} se a versão foi aplicada; {@code false} se era mais antiga que a vigente
+     * @see DocumentoRegistry#upsert(Documento)
+     */
+    public boolean apply(Documento documento) {
+        Objects.requireNonNull(documento, "Documento é obrigatório");
+        lock.readLock().lock();
+        try {
+            boolean aplicado = registro.upsert(documento);
+            marcar(documento.dataAlteracao(), documento.uuid());
+            return aplicado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica o endosso ao documento vigente.
+     *
+     * @param endosso endosso a aplicar
+     * @return documento efetivo resultante, ou vazio se o endosso não alterou o estado
+     * @throws IllegalStateException se não houver documento vigente para a apólice endossada
+     * @see EndossoMaterializer#apply(Endosso)
+     */
+    public Optional<Documento> apply(Endosso endosso) {
+        Objects.requireNonNull(endosso, "Endosso é obrigatório");
+        lock.readLock().lock();
+        try {
+            Optional<Documento> efetivo = materializador.apply(endosso);
+            marcar(endosso.dataAlteracao(), endosso.uuid());
+            return efetivo;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Acumula um movimento de prêmio.
+     *
+     * @param movimento movimento de prêmio
+     * @return {@code true} se o movimento afetou uma parcela
+     * @see ParcelaPremioLedger#record(MovimentoPremio)
+     */
+    public boolean apply(MovimentoPremio movimento) {
+        Objects.requireNonNull(movimento, "Movimento é obrigatório");
+        lock.readLock().lock();
+        try {
+            boolean afetou = parcelas.record(movimento);
+            marcar(movimento.dataAlteracao(), movimento.uuid());
+            return afetou;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Acumula um movimento de sinistro.
+     *
+     * @param movimento movimento de sinistro
+     * @see ReservaSinistroLedger#record(MovimentoSinistro)
+     */
+    public void apply(MovimentoSinistro movimento) {
+        Objects.requireNonNull(movimento, "Movimento é obrigatório");
+        lock.readLock().lock();
+        try {
+            reservas.record(movimento);
+            marcar(movimento.dataAlteracao(), movimento.uuid());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reaplica os registros ainda não refletidos no estado: {@code dataAlteracao} posterior à marca
+     * d'água, ou igual a ela com {@code uuid} ainda não aplicado. Deve ser executado antes de o
+     * estado receber novos registros pelos métodos {@code apply}.
+     *
+     * @param registros {@link Documento}, {@link Endosso}, {@link MovimentoPremio} ou
+     *                  {@link MovimentoSinistro}, em ordem de {@code dataAlteracao}
+     * @return quantidade de registros que alteraram o estado: versões de documento e endossos que
+     *     substituíram o vigente, movimentos de prêmio que afetaram uma parcela e movimentos de sinistro
+     * @throws IllegalArgumentException se houver registro de outro tipo
+     */
+    public long replay(Iterable<? extends Record> registros) {
+        Objects.requireNonNull(registros, "Registros são obrigatórios");
+        long aplicados = 0;
+        for (Record registro : registros) {
+            boolean pendente = switch (Objects.requireNonNull(registro, "Registro é obrigatório")) {
+                case Documento documento -> pendente(documento.dataAlteracao(), documento.uuid());
+                case Endosso endosso -> pendente(endosso.dataAlteracao(), endosso.uuid());
+                case MovimentoPremio movimento -> pendente(movimento.dataAlteracao(), movimento.uuid());
+                case MovimentoSinistro movimento -> pendente(movimento.dataAlteracao(), movimento.uuid());
+                default -> throw new IllegalArgumentException(
+                    "Tipo de registro não suportado no replay: " + registro.getClass().getName());
+            };
+            if (!pendente) {
+                continue;
+            }
+            boolean aplicado = switch (registro) {
+                case Documento documento -> apply(documento);
+                case Endosso endosso -> apply(endosso).isPresent();
+                case MovimentoPremio movimento -> apply(movimento);
+                case MovimentoSinistro movimento -> {
+                    apply(movimento);
+                    yield true;
+                }
+                default -> throw new IllegalStateException("Tipo de registro inesperado: " + registro.getClass());
+            };
+            if (aplicado) {
+                aplicados++;
+            }
+        }
+        return aplicados;
+    }
+
+    /**
+     * @return maior {@code dataAlteracao} aplicada, ou vazio se nenhum registro foi aplicado
+     */
+    public Optional<LocalDate> highWater() {
+        synchronized (uuidsDaMarca) {
+            return Optional.ofNullable(EpochDays.decode(marca));
+        }
+    }
+
+    /**
+     * @return registro de documentos
+     */
+    public DocumentoRegistry registry() {
+        return registro;
+    }
+
+    /**
+     * @return razão das reservas de sinistro
+     */
+    public ReservaSinistroLedger claimLedger() {
+        return reservas;
+    }
+
+    /**
+     * @return razão das parcelas de prêmio
+     */
+    public ParcelaPremioLedger premiumLedger() {
+        return parcelas;
+    }
+
+    /**
+     * Grava o estado em snapshot consistente, substituindo o arquivo de forma atômica.
+     *
+     * @param arquivo destino
+     * @throws IOException se a gravação falhar
+     */
+    public void snapshot(Path arquivo) throws IOException {
+        Objects.requireNonNull(arquivo, "Arquivo é obrigatório");
+        List<Documento> versoes;
+        int marcaGravada;
+        List<Fingerprint> uuids;
+        Bloco blocoReservas;
+        Bloco blocoParcelas;
+        lock.writeLock().lock();
+        try {
+            versoes = new ArrayList<>(registro.entryCount());
+            registro.forEachWithTombstones(versoes::add);
+            synchronized (uuidsDaMarca) {
+                marcaGravada = marca;
+                uuids = new ArrayList<>(uuidsDaMarca);
+            }
+            var exportacao = CompletableFuture.supplyAsync(() -> Bloco.of(RESERVAS, reservas::writeTo));
+            blocoParcelas = Bloco.of(PARCELAS, parcelas::writeTo);
+            blocoReservas = exportacao.join();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int quantidade = (versoes.size() + DOCUMENTOS_POR_BLOCO - 1) / DOCUMENTOS_POR_BLOCO;
+        List<Bloco> blocos = new ArrayList<>(IntStream.range(0, quantidade).parallel()
+            .mapToObj(i -> Bloco.of(DOCUMENTOS, destino -> {
+                List<Documento> parte = versoes.subList(i * DOCUMENTOS_POR_BLOCO,
+                    Math.min(versoes.size(), (i + 1) * DOCUMENTOS_POR_BLOCO));
+                destino.writeVarLong(parte.size());
+                for (Documento documento : parte) {
+                    CODEC.encode(documento, destino);
+                }
+            }))
+            .toList());
+        blocos.add(blocoReservas);
+        blocos.add(blocoParcelas);
+
+        var cabecalho = new BinaryWriter(64 + uuids.size() * 2 * Long.BYTES + blocos.size() * 12);
+        cabecalho.writeLong(CODEC.schema()).writeZigZag(marcaGravada).writeVarLong(uuids.size());
+        for (Fingerprint uuid : uuids) {
+            cabecalho.writeLong(uuid.high()).writeLong(uuid.low());
+        }
+        cabecalho.writeVarLong(versoes.size()).writeVarLong(blocos.size());
+        for (Bloco bloco : blocos) {
+            cabecalho.writeByte(bloco.tipo()).writeVarLong(bloco.tamanho()).writeInt(bloco.crc());
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(cabecalho.buffer(), 0, cabecalho.size());
+
+        ByteBuffer[] partes = new ByteBuffer[blocos.size() + 2];
+        partes[0] = ByteBuffer.allocate(PREFIXO).putLong(MAGIC).putInt(VERSION).putInt(cabecalho.size())
+            .putInt((int) crc.getValue()).flip();
+        partes[1] = ByteBuffer.wrap(cabecalho.buffer(), 0, cabecalho.size());
+        for (int i = 0; i < blocos.size(); i++) {
+            partes[i + 2] = ByteBuffer.wrap(blocos.get(i).dados(), 0, blocos.get(i).tamanho());
+        }
+
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (partes[partes.length - 1].hasRemaining()) {
+                canal.write(partes);
+            }
+            canal.force(true);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Restaura um estado gravado por {@link #snapshot(Path)}.
+     *
+     * @param arquivo origem
+     * @return estado restaurado, com a marca d'água do snapshot
+     * @throws IOException se a leitura falhar
+     * @throws IllegalStateException se o arquivo não for um snapshot válido ou tiver sido gravado
+     *     com outra versão do {@link Documento}
+     */
+    public static SroState restore(Path arquivo) throws IOException {
+        Objects.requireNonNull(arquivo, "Arquivo é obrigatório");
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer prefixo = ByteBuffer.wrap(ler(canal, 0, PREFIXO));
+            if (prefixo.getLong() != MAGIC || prefixo.getInt() != VERSION) {
+                throw invalido(arquivo);
+            }
+            int tamanhoCabecalho = prefixo.getInt();
+            int crcCabecalho = prefixo.getInt();
+            if (tamanhoCabecalho < 0 || PREFIXO + (long) tamanhoCabecalho > canal.size()) {
+                throw invalido(arquivo);
+            }
+            byte[] cabecalho = ler(canal, PREFIXO, tamanhoCabecalho);
+            if (crc(cabecalho) != crcCabecalho) {
+                throw invalido(arquivo);
+            }
+
+            var leitor = new BinaryReader(cabecalho);
+            if (leitor.readLong() != CODEC.schema()) {
+                throw new IllegalStateException("Snapshot gravado com outra versão do Documento: " + arquivo);
+            }
+            long marca = leitor.readZigZag();
+            if (marca != EpochDays.NULL && (marca < EpochDays.MIN || marca > EpochDays.MAX)) {
+                throw invalido(arquivo);
+            }
+            long quantidadeUuids = quantidade(leitor, arquivo);
+            Set<Fingerprint> uuids = new HashSet<>();
+            for (long i = 0; i < quantidadeUuids; i++) {
+                uuids.add(new Fingerprint(leitor.readLong(), leitor.readLong()));
+            }
+            long documentos = quantidade(leitor, arquivo);
+            long quantidadeBlocos = quantidade(leitor, arquivo);
+            List<Secao> secoes = new ArrayList<>();
+            long posicao = PREFIXO + (long) tamanhoCabecalho;
+            for (long i = 0; i < quantidadeBlocos; i++) {
+                var secao = new Secao(leitor.readByte(), posicao, (int) quantidade(leitor, arquivo), leitor.readInt());
+                secoes.add(secao);
+                posicao += secao.tamanho();
+            }
+            if (leitor.remaining() != 0 || posicao != canal.size()) {
+                throw invalido(arquivo);
+            }
+
+            var registro = new DocumentoRegistry((int) documentos);
+            List<Object> razoes;
+            try {
+                razoes = secoes.parallelStream().map(secao -> restaurar(canal, arquivo, secao, registro)).toList();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            ReservaSinistroLedger reservas = unica(razoes, ReservaSinistroLedger.class, arquivo);
+            ParcelaPremioLedger parcelas = unica(razoes, ParcelaPremioLedger.class, arquivo);
+            if (registro.entryCount() != documentos) {
+                throw invalido(arquivo);
+            }
+
+            var estado = new SroState(registro, reservas, parcelas);
+            synchronized (estado.uuidsDaMarca) {
+                estado.marca = (int) marca;
+                estado.uuidsDaMarca.addAll(uuids);
+            }
+            return estado;
+        } catch (EOFException e) {
+            throw invalido(arquivo);
+        }
+    }
+
+    private static Object restaurar(FileChannel canal, Path arquivo, Secao secao, DocumentoRegistry registro) {
+        byte[] dados;
+        try {
+            dados = ler(canal, secao.posicao(), secao.tamanho());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (crc(dados) != secao.crc()) {
+            throw invalido(arquivo);
+        }
+        var leitor = new BinaryReader(dados);
+        Object restaurado = switch (secao.tipo()) {
+            case DOCUMENTOS -> {
+                for (long i = quantidade(leitor, arquivo); i > 0; i--) {
+                    registro.upsert(CODEC.decode(leitor));
+                }
+                yield null;
+            }
+            case RESERVAS -> ReservaSinistroLedger.readFrom(leitor);
+            case PARCELAS -> ParcelaPremioLedger.readFrom(leitor);
+            default -> throw invalido(arquivo);
+        };
+        if (leitor.remaining() != 0) {
+            throw invalido(arquivo);
+        }
+        return restaurado;
+    }
+
+    private static <T> T unica(List<Object> razoes, Class<T> tipo, Path arquivo) {
+        List<T> encontradas = razoes.stream().filter(tipo::isInstance).map(tipo::cast).toList();
+        if (encontradas.size() != 1) {
+            throw invalido(arquivo);
+        }
+        return encontradas.getFirst();
+    }
+
+    private void marcar(LocalDate dataAlteracao, String uuid) {
+        int dia = EpochDays.encode(dataAlteracao);
+        Fingerprint id = Fingerprinter.fingerprint(uuid);
+        synchronized (uuidsDaMarca) {
+            if (dia > marca) {
+                marca = dia;
+                uuidsDaMarca.clear();
+            }
+            if (dia == marca) {
+                uuidsDaMarca.add(id);
+            }
+        }
+    }
+
+    private boolean pendente(LocalDate dataAlteracao, String uuid) {
+        int dia = EpochDays.encode(dataAlteracao);
+        synchronized (uuidsDaMarca) {
+            return dia > marca || dia == marca && !uuidsDaMarca.contains(Fingerprinter.fingerprint(uuid));
+        }
+    }
+
+    private static byte[] ler(FileChannel canal, long posicao, int tamanho) throws IOException {
+        ByteBuffer destino = ByteBuffer.allocate(tamanho);
+        while (destino.hasRemaining()) {
+            if (canal.read(destino, posicao + destino.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return destino.array();
+    }
+
+    private static long quantidade(BinaryReader leitor, Path arquivo) {
+        long valor = leitor.readVarLong();
+        if (valor < 0 || valor > Integer.MAX_VALUE) {
+            throw invalido(arquivo);
+        }
+        return valor;
+    }
+
+    private static int crc(byte[] dados) {
+        CRC32C crc = new CRC32C();
+        crc.update(dados);
+        return (int) crc.getValue();
+    }
+
+    private static IllegalStateException invalido(Path arquivo) {
+        return new IllegalStateException("Arquivo não é um snapshot de estado válido: " + arquivo);
+    }
+
+    /**
+     * Bloco codificado: o buffer do escritor e a quantidade de bytes usados.
+     */
+    private record Bloco(int tipo, byte[] dados, int tamanho, int crc) {
+
+        static Bloco of(int tipo, Consumer<BinaryWriter> codificacao) {
+            var destino = new BinaryWriter(1 << 16);
+            codificacao.accept(destino);
+            CRC32C crc = new CRC32C();
+            crc.update(destino.buffer(), 0, destino.size());
+            return new Bloco(tipo, destino.buffer(), destino.size(), (int) crc.getValue());
+        }
+    }
+
+    /**
+     * Posição de um bloco no arquivo.
+     */
+    private record Secao(int tipo, long posicao, int tamanho, int crc) {
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.wesleyosantos91.susep.sro.model.storage;
+
+/**
+ * Resultado de uma execução do {@link LogCompactor}.
+ *
+ * @param segmentsRead       segmentos selados analisados
+ * @param segmentsRewritten  segmentos substituídos por segmentos compactados
+ * @param segmentsWritten    segmentos compactados gravados
+ * @param entriesRead        entradas analisadas
+ * @param supersededDropped  entradas descartadas por haver versão mais recente da chave
+ * @param tombstonesDropped  exclusões descartadas por terem passado da retenção
+ * @param bytesWritten       bytes gravados nos segmentos compactados
+ */
+public record CompactionStats(int segmentsRead, int segmentsRewritten, int segmentsWritten, long entriesRead,
+                              long supersededDropped, long tombstonesDropped, long bytesWritten) {
+
+    /**
+     * @return entradas descartadas no total
+     */
+    public long entriesDropped() {
+        return supersededDropped + tombstonesDropped;
+    }
+}
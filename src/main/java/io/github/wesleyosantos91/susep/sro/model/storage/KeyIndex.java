@@ -0,0 +1,110 @@
+package io.github.wesleyosantos91.susep.sro.model.storage;
+
+import io.github.wesleyosantos91.susep.sro.model.fingerprint.Fingerprint;
+import io.github.wesleyosantos91.susep.sro.model.fingerprint.Fingerprinter;
+
+/**
+ * Índice hash de chave para a sequência da entrada mais recente, sem objetos por entrada.
+ *
+ * <p>A chave é representada pela sua {@link Fingerprint} de 128 bits, em arrays paralelos com
+ * endereçamento aberto e sondagem linear. Colisões de 128 bits são desprezíveis; ainda assim, o
+ * {@link RecordLog} confere a chave gravada na entrada antes de devolvê-la. Não é thread-safe.</p>
+ */
+final class KeyIndex {
+
+    private long[] altos = new long[16];
+    private long[] baixos = new long[16];
+    /** Sequência mais um; zero marca slot livre. */
+    private long[] sequencias = new long[16];
+    private int tamanho;
+
+    static long[] hash(String chave) {
+        Fingerprint fingerprint = Fingerprinter.fingerprint(chave);
+        return new long[] {fingerprint.high(), fingerprint.low()};
+    }
+
+    /**
+     * Associa a chave à sequência, substituindo a anterior.
+     */
+    void put(long alto, long baixo, long sequencia) {
+        if ((tamanho + 1) * 2 > sequencias.length) {
+            redimensionar(sequencias.length * 2);
+        }
+        int slot = slot(alto, baixo);
+        if (sequencias[slot] == 0) {
+            altos[slot] = alto;
+            baixos[slot] = baixo;
+            tamanho++;
+        }
+        sequencias[slot] = sequencia + 1;
+    }
+
+    /**
+     * @return sequência associada, ou {@code -1}
+     */
+    long get(long alto, long baixo) {
+        return sequencias[slot(alto, baixo)] - 1;
+    }
+
+    /**
+     * Remove a chave.
+     *
+     * @return {@code true} se a chave existia
+     */
+    boolean remove(long alto, long baixo) {
+        int livre = slot(alto, baixo);
+        if (sequencias[livre] == 0) {
+            return false;
+        }
+        int mascara = sequencias.length - 1;
+        for (int i = (livre + 1) & mascara; sequencias[i] != 0; i = (i + 1) & mascara) {
+            int ideal = ideal(altos[i], baixos[i]);
+            if (((i - ideal) & mascara) >= ((i - livre) & mascara)) {
+                altos[livre] = altos[i];
+                baixos[livre] = baixos[i];
+                sequencias[livre] = sequencias[i];
+                livre = i;
+            }
+        }
+        sequencias[livre] = 0;
+        tamanho--;
+        return true;
+    }
+
+    int size() {
+        return tamanho;
+    }
+
+    /**
+     * Slot da chave ou o primeiro slot livre da sequência de sondagem.
+     */
+    private int slot(long alto, long baixo) {
+        int mascara = sequencias.length - 1;
+        int i = ideal(alto, baixo);
+        while (sequencias[i] != 0 && (altos[i] != alto || baixos[i] != baixo)) {
+            i = (i + 1) & mascara;
+        }
+        return i;
+    }
+
+    private int ideal(long alto, long baixo) {
+        return (int) (baixo ^ (baixo >>> 32)) & (sequencias.length - 1);
+    }
+
+    private void redimensionar(int capacidade) {
+        long[] altosAntigos = altos;
+        long[] baixosAntigos = baixos;
+        long[] sequenciasAntigas = sequencias;
+        altos = new long[capacidade];
+        baixos = new long[capacidade];
+        sequencias = new long[capacidade];
+        for (int i = 0; i < sequenciasAntigas.length; i++) {
+            if (sequenciasAntigas[i] != 0) {
+                int slot = slot(altosAntigos[i], baixosAntigos[i]);
+                altos[slot] = altosAntigos[i];
+                baixos[slot] = baixosAntigos[i];
+                sequencias[slot] = sequenciasAntigas[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package io.github.wesleyosantos91.susep.sro.model.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compactador em segundo plano de um {@link RecordLog} indexado por {@code uuid}.
+ *
+ * <p>Correções chegam como reenvio do mesmo {@code uuid} com {@code dataAlteracao} mais recente e
+ * exclusões como {@code indicadorExclusao = 1}. A compactação percorre os segmentos selados e
+ * mantém apenas a entrada mais recente de cada chave; exclusões são mantidas enquanto a sua data
+ * estiver dentro da janela de retenção (para que consumidores atrasados ainda as vejam) e
+ * descartadas depois dela, removendo a chave do log. O segmento ativo não é compactado.</p>
+ *
+ * <p>Segmentos consecutivos são agrupados enquanto as entradas mantidas couberem em um segmento
+ * e cada grupo é regravado em um único segmento, confirmado em ordem crescente (uma exclusão só
+ * é descartada depois que as versões anteriores da chave já foram). Um segmento isolado sem
+ * entradas a descartar não é regravado.</p>
+ *
+ * <p>A compactação roda em uma thread própria do compactador, com leitura e gravação limitadas a
+ * {@code bytesPorSegundo}, e não bloqueia o log: acréscimos e leituras continuam durante a
+ * execução e varreduras já iniciadas seguem lendo os segmentos substituídos até terminarem.
+ * Só um compactador pode atuar sobre um log por vez.</p>
+ */
+public final class LogCompactor implements AutoCloseable {
+
+    private final RecordLog log;
+    private final TombstoneClassifier exclusoes;
+    private final Period retencao;
+    private final long bytesPorSegundo;
+    private final Clock clock;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Cria um compactador sem limite de vazão.
+     *
+     * @param log       log a compactar
+     * @param exclusoes classificador das entradas de exclusão
+     * @param retencao  período de retenção das exclusões
+     */
+    public LogCompactor(RecordLog log, TombstoneClassifier exclusoes, Period retencao) {
+        this(log, exclusoes, retencao, Throttle.UNLIMITED, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Cria um compactador.
+     *
+     * @param log             log a compactar
+     * @param exclusoes       classificador das entradas de exclusão
+     * @param retencao        período de retenção das exclusões, contado da data da exclusão
+     * @param bytesPorSegundo vazão máxima de leitura e gravação
+     * @param clock           relógio que define a data de referência da retenção
+     * @throws IllegalArgumentException se a retenção for negativa ou a vazão não for positiva
+     */
+    public LogCompactor(RecordLog log, TombstoneClassifier exclusoes, Period retencao, long bytesPorSegundo,
+                        Clock clock) {
+        this.log = Objects.requireNonNull(log, "Log é obrigatório");
+        this.exclusoes = Objects.requireNonNull(exclusoes, "Classificador de exclusões é obrigatório");
+        this.retencao = Objects.requireNonNull(retencao, "Retenção é obrigatória");
+        this.clock = Objects.requireNonNull(clock, "Relógio é obrigatório");
+        if (retencao.isNegative()) {
+            throw new IllegalArgumentException("Retenção não pode ser negativa");
+        }
+        if (bytesPorSegundo <= 0) {
+            throw new IllegalArgumentException("Vazão deve ser positiva");
+        }
+        this.bytesPorSegundo = bytesPorSegundo;
+        this.executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("log-compactor-", 0).daemon().factory());
+    }
+
+    /**
+     * Agenda uma compactação na thread do compactador.
+     *
+     * @return resultado da compactação
+     * @throws java.util.concurrent.RejectedExecutionException se o compactador estiver fechado
+     */
+    public CompletableFuture<CompactionStats> compact() {
+        return CompletableFuture.supplyAsync(this::compactar, executor);
+    }
+
+    /**
+     * Agenda compactações periódicas. Uma falha interrompe o agendamento e fica disponível no
+     * futuro devolvido.
+     *
+     * @param intervalo intervalo entre o fim de uma execução e o início da seguinte
+     * @return futuro do agendamento, que pode ser cancelado
+     * @throws IllegalArgumentException se o intervalo não for positivo
+     */
+    public ScheduledFuture<?> schedule(Duration intervalo) {
+        if (intervalo.isNegative() || intervalo.isZero()) {
+            throw new IllegalArgumentException("Intervalo deve ser positivo");
+        }
+        long nanos = intervalo.toNanos();
+        return executor.scheduleWithFixedDelay(this::compactar, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Interrompe a compactação em andamento (o grupo em gravação é descartado) e encerra a thread.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        executor.close();
+    }
+
+    private CompactionStats compactar() {
+        LocalDate limiteRetencao = LocalDate.now(clock).minus(retencao);
+        var throttle = new Throttle(bytesPorSegundo);
+        var execucao = new Execucao();
+        List<LogSegment> segmentos = log.beginCompaction();
+        try {
+            List<Analise> grupo = new ArrayList<>();
+            long bytesGrupo = 0;
+            long disponivel = log.segmentBytes() - LogSegment.HEADER_BYTES;
+            for (int i = 0; i < segmentos.size() - 1; i++) {
+                Analise analise = analisar(segmentos.get(i), limiteRetencao, throttle, execucao);
+                if (!grupo.isEmpty() && bytesGrupo + analise.bytes > disponivel) {
+                    gravar(grupo, analise.segmento.base(), throttle, execucao);
+                    grupo.clear();
+                    bytesGrupo = 0;
+                }
+                grupo.add(analise);
+                bytesGrupo += analise.bytes;
+            }
+            if (!grupo.isEmpty()) {
+                gravar(grupo, segmentos.get(segmentos.size() - 1).base(), throttle, execucao);
+            }
+        } finally {
+            log.endCompaction(segmentos);
+        }
+        return new CompactionStats(segmentos.size() - 1, execucao.segmentosSubstituidos, execucao.segmentosGravados,
+            execucao.entradasLidas, execucao.substituidas, execucao.exclusoes, execucao.bytesGravados);
+    }
+
+    /**
+     * Identifica as entradas mantidas de um segmento selado.
+     */
+    private Analise analisar(LogSegment segmento, LocalDate limiteRetencao, Throttle throttle, Execucao execucao) {
+        int quantidade = segmento.entries();
+        var analise = new Analise(segmento, quantidade);
+        int i = 0;
+        for (long posicao = LogSegment.HEADER_BYTES; posicao < segmento.end(); posicao = segmento.next(posicao)) {
+            verificarInterrupcao();
+            long[] hash = KeyIndex.hash(new String(segmento.keyAt(posicao), StandardCharsets.UTF_8));
+            analise.posicoes[i] = posicao;
+            analise.altos[i] = hash[0];
+            analise.baixos[i] = hash[1];
+            analise.sequencias[i] = segmento.sequenceAt(posicao);
+            throttle.acquire(segmento.sizeAt(posicao));
+            i++;
+        }
+        log.latest(analise.altos, analise.baixos, analise.sequencias, quantidade, analise.mantidas);
+        for (i = 0; i < quantidade; i++) {
+            if (!analise.mantidas[i]) {
+                analise.descartes++;
+                execucao.substituidas++;
+                continue;
+            }
+            LocalDate exclusao = exclusoes.exclusionDate(segmento.read(analise.posicoes[i]));
+            if (exclusao != null && exclusao.isBefore(limiteRetencao)) {
+                analise.mantidas[i] = false;
+                analise.descartar(i);
+                execucao.exclusoes++;
+                continue;
+            }
+            analise.bytes += LogSegment.align(segmento.sizeAt(analise.posicoes[i]));
+        }
+        execucao.entradasLidas += quantidade;
+        return analise;
+    }
+
+    /**
+     * Regrava o grupo em um segmento compactado e o publica no log.
+     */
+    private void gravar(List<Analise> grupo, long limite, Throttle throttle, Execucao execucao) {
+        if (grupo.size() == 1 && grupo.get(0).descartes == 0) {
+            return;
+        }
+        long bytes = grupo.stream().mapToLong(a -> a.bytes).sum();
+        LogSegment compactado;
+        try {
+            compactado = log.createCompacted(grupo.get(0).segmento.base(), limite, LogSegment.HEADER_BYTES + bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao criar segmento compactado", e);
+        }
+        long[] descartadas;
+        int quantidadeDescartadas = 0;
+        try {
+            descartadas = new long[grupo.stream().mapToInt(a -> a.exclusoes).sum() * 3];
+            for (Analise analise : grupo) {
+                for (int i = 0; i < analise.posicoes.length; i++) {
+                    if (analise.mantidas[i]) {
+                        verificarInterrupcao();
+                        compactado.copy(analise.segmento, analise.posicoes[i],
+                            new long[] {analise.altos[i], analise.baixos[i]});
+                        throttle.acquire(analise.segmento.sizeAt(analise.posicoes[i]));
+                    }
+                }
+                System.arraycopy(analise.descartadas, 0, descartadas, quantidadeDescartadas * 3, analise.exclusoes * 3);
+                quantidadeDescartadas += analise.exclusoes;
+            }
+        } catch (RuntimeException e) {
+            RecordLog.descartar(compactado);
+            throw e;
+        }
+        log.replace(grupo.stream().map(a -> a.segmento).toList(), compactado, descartadas, quantidadeDescartadas);
+        execucao.segmentosSubstituidos += grupo.size();
+        execucao.segmentosGravados++;
+        execucao.bytesGravados += bytes;
+    }
+
+    private static void verificarInterrupcao() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Compactação interrompida");
+        }
+    }
+
+    /**
+     * Entradas de um segmento selado e quais delas são mantidas.
+     */
+    private static final class Analise {
+        private final LogSegment segmento;
+        private final long[] posicoes;
+        private final long[] altos;
+        private final long[] baixos;
+        private final long[] sequencias;
+        private final boolean[] mantidas;
+        /** Triplas (hash alto, hash baixo, sequência) das exclusões descartadas. */
+        private long[] descartadas = new long[0];
+        private int exclusoes;
+        private int descartes;
+        private long bytes;
+
+        Analise(LogSegment segmento, int quantidade) {
+            this.segmento = segmento;
+            this.posicoes = new long[quantidade];
+            this.altos = new long[quantidade];
+            this.baixos = new long[quantidade];
+            this.sequencias = new long[quantidade];
+            this.mantidas = new boolean[quantidade];
+        }
+
+        void descartar(int i) {
+            if ((exclusoes + 1) * 3 > descartadas.length) {
+                descartadas = Arrays.copyOf(descartadas, Math.max(24, descartadas.length * 2));
+            }
+            descartadas[exclusoes * 3] = altos[i];
+            descartadas[exclusoes * 3 + 1] = baixos[i];
+            descartadas[exclusoes * 3 + 2] = sequencias[i];
+            exclusoes++;
+            descartes++;
+        }
+    }
+
+    /**
+     * Contadores de uma execução.
+     */
+    private static final class Execucao {
+        private int segmentosSubstituidos;
+        private int segmentosGravados;
+        private long entradasLidas;
+        private long substituidas;
+        private long exclusoes;
+        private long bytesGravados;
+    }
+}
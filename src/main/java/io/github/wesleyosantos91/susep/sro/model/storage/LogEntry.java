@@ -0,0 +1,18 @@
+package io.github.wesleyosantos91.susep.sro.model.storage;
+
+import java.util.Objects;
+
+/**
+ * Entrada do {@link RecordLog}.
+ *
+ * @param sequence número de sequência atribuído na gravação
+ * @param key      chave do registro (por exemplo, o {@code uuid} do agregado)
+ * @param value    bytes do registro (o array não é copiado)
+ */
+public record LogEntry(long sequence, String key, byte[] value) {
+
+    public LogEntry {
+        Objects.requireNonNull(key, "Chave é obrigatória");
+        Objects.requireNonNull(value, "Valor é obrigatório");
+    }
+}
@@ -0,0 +1,504 @@
+package io.github.wesleyosantos91.susep.sro.model.storage;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+
+/**
+ * Segmento do {@link RecordLog}: arquivo de tamanho fixo mapeado em memória.
+ *
+ * <p><strong>Organização:</strong> cabeçalho de {@value #HEADER_BYTES} bytes (marca, versão,
+ * sequência base e, nos segmentos compactados, a sequência limite das entradas substituídas)
+ * seguido das entradas, alinhadas em 8 bytes:</p>
+ * <pre>
+ * int  tamanho      bytes da entrada, sem o alinhamento (0 = fim dos dados)
+ * int  crc          CRC32C dos bytes seguintes da entrada
+ * long sequencia
+ * int  tamanhoChave
+ * byte chave[tamanhoChave]   UTF-8
+ * byte valor[...]
+ * </pre>
+ *
+ * <p>O tamanho é gravado por último, publicando a entrada. Uma entrada com tamanho fora dos
+ * limites, CRC divergente ou sequência fora de ordem marca o fim dos dados válidos (escrita
+ * interrompida). O segmento mantém um índice esparso (sequência, posição) a cada
+ * {@code intervalo} entradas; enquanto ativo, acumula também a chave (hash de 128 bits),
+ * a sequência e a posição de cada entrada, gravadas em um arquivo {@code .idx} ao ser selado.
+ * O acesso ao estado mutável é sincronizado pelo {@link RecordLog}; o conteúdo publicado
+ * (abaixo de {@link #end()}) é imutável e pode ser lido sem bloqueio.</p>
+ *
+ * <p>O mapeamento é liberado quando a última referência é devolvida: o log detém uma e cada
+ * leitor que percorre o segmento fora do bloqueio ({@link #retain()}) detém outra, de modo que
+ * um segmento substituído pela compactação continua legível por quem já o estava lendo.</p>
+ */
+final class LogSegment implements AutoCloseable {
+
+    static final int HEADER_BYTES = 32;
+    static final int ENTRY_HEADER_BYTES = 20;
+
+    private static final long MAGIC = 0x53524F4C4F473031L; /* "SROLOG01" */
+    private static final long MAGIC_INDICE = 0x53524F4944583031L; /* "SROIDX01" */
+    private static final int VERSION = 1;
+    private static final int INDICE_HEADER_BYTES = 24;
+    private static final int INDICE_ENTRY_BYTES = 32;
+
+    private final AtomicInteger referencias = new AtomicInteger(1);
+    private final long base;
+    private final int intervalo;
+    private final Arena arena;
+    private final MemorySegment memoria;
+
+    private Path arquivo;
+    private volatile long fim = HEADER_BYTES;
+    private long ultimaSequencia = -1;
+    private int entradas;
+
+    private long[] esparsoSequencias = new long[16];
+    private long[] esparsoPosicoes = new long[16];
+    private int esparsos;
+
+    /** Quádruplas (hash alto, hash baixo, sequência, posição) das entradas; nulo após selado. */
+    private long[] chaves = new long[64];
+
+    private LogSegment(Path arquivo, long base, int intervalo, Arena arena, MemorySegment memoria) {
+        this.arquivo = arquivo;
+        this.base = base;
+        this.intervalo = intervalo;
+        this.arena = arena;
+        this.memoria = memoria;
+    }
+
+    static Path logFile(Path diretorio, long base) {
+        return diretorio.resolve(String.format("%020d.log", base));
+    }
+
+    static Path indexFile(Path logFile) {
+        String nome = logFile.getFileName().toString();
+        return logFile.resolveSibling(nome.substring(0, nome.length() - ".log".length()) + ".idx");
+    }
+
+    /**
+     * Sequência base codificada nos 20 primeiros caracteres do nome ({@code .log}, {@code .cleaned}
+     * ou {@code .swap}).
+     */
+    static long baseOf(Path arquivo) {
+        return Long.parseLong(arquivo.getFileName().toString().substring(0, 20));
+    }
+
+    /**
+     * Cria um segmento vazio.
+     */
+    static LogSegment create(Path arquivo, long base, long capacidade, int intervalo) throws IOException {
+        if (arquivo.getFileName().toString().endsWith(".log")) {
+            Files.deleteIfExists(indexFile(arquivo));
+        }
+        LogSegment segmento = map(arquivo, base, capacidade, intervalo, StandardOpenOption.CREATE_NEW);
+        segmento.memoria.set(ValueLayout.JAVA_LONG, 0, MAGIC);
+        segmento.memoria.set(ValueLayout.JAVA_INT, 8, VERSION);
+        segmento.memoria.set(ValueLayout.JAVA_LONG, 16, base);
+        return segmento;
+    }
+
+    /**
+     * Abre um segmento existente, sem ler as entradas.
+     *
+     * @throws IllegalStateException se o arquivo não for um segmento válido
+     */
+    static LogSegment open(Path arquivo, int intervalo) throws IOException {
+        long base = baseOf(arquivo);
+        LogSegment segmento = map(arquivo, base, Files.size(arquivo), intervalo, StandardOpenOption.READ);
+        if (segmento.memoria.byteSize() < HEADER_BYTES
+            || segmento.memoria.get(ValueLayout.JAVA_LONG, 0) != MAGIC
+            || segmento.memoria.get(ValueLayout.JAVA_INT, 8) != VERSION
+            || segmento.memoria.get(ValueLayout.JAVA_LONG, 16) != base) {
+            segmento.close();
+            throw new IllegalStateException("Arquivo não é um segmento de log válido: " + arquivo);
+        }
+        return segmento;
+    }
+
+    private static LogSegment map(Path arquivo, long base, long capacidade, int intervalo,
+                                  StandardOpenOption modo) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(arquivo, modo, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MemorySegment memoria = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacidade, arena);
+            return new LogSegment(arquivo, base, intervalo, arena, memoria);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Carrega o índice gravado no selamento, se existir e estiver íntegro.
+     *
+     * @return {@code true} se o índice foi carregado
+     */
+    boolean loadIndex(KeyIndex indiceChaves) throws IOException {
+        Path indice = indexFile(arquivo);
+        if (!Files.exists(indice)) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indice)).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < INDICE_HEADER_BYTES + Integer.BYTES || buffer.getLong(0) != MAGIC_INDICE
+            || buffer.getInt(8) != VERSION) {
+            return false;
+        }
+        int quantidade = buffer.getInt(12);
+        long fimIndice = buffer.getLong(16);
+        int corpo = INDICE_HEADER_BYTES + quantidade * INDICE_ENTRY_BYTES;
+        if (quantidade < 0 || buffer.remaining() != corpo + Integer.BYTES || fimIndice > memoria.byteSize()) {
+            return false;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, corpo);
+        if ((int) crc.getValue() != buffer.getInt(corpo)) {
+            return false;
+        }
+        for (int i = 0; i < quantidade; i++) {
+            int posicao = INDICE_HEADER_BYTES + i * INDICE_ENTRY_BYTES;
+            registrar(buffer.getLong(posicao + 16), buffer.getLong(posicao + 24));
+            indiceChaves.put(buffer.getLong(posicao), buffer.getLong(posicao + 8), buffer.getLong(posicao + 16));
+        }
+        fim = fimIndice;
+        chaves = null;
+        return true;
+    }
+
+    /**
+     * Lê as entradas a partir do cabeçalho até a primeira inválida, alimentando os índices.
+     *
+     * @return posição da primeira entrada inválida (fim dos dados)
+     */
+    long recover(long sequenciaMinima, KeyIndex indiceChaves) {
+        long posicao = HEADER_BYTES;
+        long minima = sequenciaMinima;
+        while (true) {
+            int tamanho = validEntrySize(posicao, minima);
+            if (tamanho < 0) {
+                break;
+            }
+            long sequencia = sequenceAt(posicao);
+            long[] hash = KeyIndex.hash(new String(keyAt(posicao), StandardCharsets.UTF_8));
+            registrar(sequencia, posicao);
+            acumularChave(hash, sequencia, posicao);
+            indiceChaves.put(hash[0], hash[1], sequencia);
+            minima = sequencia + 1;
+            posicao += align(tamanho);
+        }
+        fim = posicao;
+        return posicao;
+    }
+
+    /**
+     * Zera os bytes após o fim dos dados, descartando restos de uma escrita interrompida.
+     */
+    void clearTail() {
+        if (fim < memoria.byteSize()) {
+            memoria.asSlice(fim).fill((byte) 0);
+        }
+    }
+
+    /**
+     * @return {@code true} se a entrada couber no espaço restante
+     */
+    boolean fits(int tamanho) {
+        return fim + align(tamanho) <= memoria.byteSize();
+    }
+
+    /**
+     * Grava uma entrada no fim do segmento e a publica.
+     */
+    void append(long sequencia, byte[] chave, long[] hash, byte[] valor, int tamanhoValor) {
+        long posicao = fim;
+        int tamanho = ENTRY_HEADER_BYTES + chave.length + tamanhoValor;
+        memoria.set(ValueLayout.JAVA_LONG, posicao + 8, sequencia);
+        memoria.set(ValueLayout.JAVA_INT, posicao + 16, chave.length);
+        MemorySegment.copy(chave, 0, memoria, ValueLayout.JAVA_BYTE, posicao + ENTRY_HEADER_BYTES, chave.length);
+        MemorySegment.copy(valor, 0, memoria, ValueLayout.JAVA_BYTE, posicao + ENTRY_HEADER_BYTES + chave.length,
+            tamanhoValor);
+        memoria.set(ValueLayout.JAVA_INT, posicao + 4, crc(posicao, tamanho));
+        memoria.set(ValueLayout.JAVA_INT, posicao, tamanho);
+        registrar(sequencia, posicao);
+        acumularChave(hash, sequencia, posicao);
+        fim = posicao + align(tamanho);
+    }
+
+    /**
+     * Copia, sem recalcular o CRC, a entrada de outro segmento para o fim deste.
+     */
+    void copy(LogSegment origem, long posicao, long[] hash) {
+        int tamanho = origem.sizeAt(posicao);
+        long destino = fim;
+        MemorySegment.copy(origem.memoria, posicao + 4, memoria, destino + 4, tamanho - 4);
+        memoria.set(ValueLayout.JAVA_INT, destino, tamanho);
+        long sequencia = sequenceAt(destino);
+        registrar(sequencia, destino);
+        acumularChave(hash, sequencia, destino);
+        fim = destino + align(tamanho);
+    }
+
+    /**
+     * Grava o arquivo de índice e força o conteúdo em disco; o segmento passa a ser somente leitura.
+     */
+    void seal() throws IOException {
+        memoria.force();
+        if (chaves == null) {
+            return;
+        }
+        int corpo = INDICE_HEADER_BYTES + entradas * INDICE_ENTRY_BYTES;
+        ByteBuffer buffer = ByteBuffer.allocate(corpo + Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putLong(MAGIC_INDICE).putInt(VERSION).putInt(entradas).putLong(fim);
+        for (int i = 0; i < entradas * 4; i++) {
+            buffer.putLong(chaves[i]);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, corpo);
+        buffer.putInt((int) crc.getValue());
+        Path temporario = indexFile(arquivo).resolveSibling(indexFile(arquivo).getFileName() + ".tmp");
+        Files.write(temporario, buffer.array());
+        Files.move(temporario, indexFile(arquivo), StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+        chaves = null;
+    }
+
+    /**
+     * Posição da entrada com a sequência informada, ou {@code -1} se não estiver no segmento.
+     */
+    long find(long sequencia) {
+        if (entradas == 0 || sequencia < base || sequencia > ultimaSequencia) {
+            return -1;
+        }
+        int i = Arrays.binarySearch(esparsoSequencias, 0, esparsos, sequencia);
+        if (i == -1) {
+            // antes da primeira entrada: o segmento compactado mantém a base, mas não o início
+            return -1;
+        }
+        long posicao = esparsoPosicoes[i >= 0 ? i : -i - 2];
+        long limite = fim;
+        while (posicao < limite) {
+            long atual = sequenceAt(posicao);
+            if (atual == sequencia) {
+                return posicao;
+            }
+            if (atual > sequencia) {
+                return -1;
+            }
+            posicao += align(memoria.get(ValueLayout.JAVA_INT, posicao));
+        }
+        return -1;
+    }
+
+    /**
+     * Posição da primeira entrada com sequência maior ou igual à informada (ou {@link #end()}).
+     */
+    long seek(long sequencia) {
+        if (esparsos == 0 || sequencia <= esparsoSequencias[0]) {
+            return HEADER_BYTES;
+        }
+        int i = Arrays.binarySearch(esparsoSequencias, 0, esparsos, sequencia);
+        long posicao = esparsoPosicoes[i >= 0 ? i : -i - 2];
+        long limite = fim;
+        while (posicao < limite && sequenceAt(posicao) < sequencia) {
+            posicao += align(memoria.get(ValueLayout.JAVA_INT, posicao));
+        }
+        return posicao;
+    }
+
+    /**
+     * Posição da entrada seguinte.
+     */
+    long next(long posicao) {
+        return posicao + align(memoria.get(ValueLayout.JAVA_INT, posicao));
+    }
+
+    LogEntry read(long posicao) {
+        int tamanho = memoria.get(ValueLayout.JAVA_INT, posicao);
+        int tamanhoChave = memoria.get(ValueLayout.JAVA_INT, posicao + 16);
+        byte[] valor = new byte[tamanho - ENTRY_HEADER_BYTES - tamanhoChave];
+        MemorySegment.copy(memoria, ValueLayout.JAVA_BYTE, posicao + ENTRY_HEADER_BYTES + tamanhoChave, valor, 0,
+            valor.length);
+        return new LogEntry(sequenceAt(posicao), new String(keyAt(posicao), StandardCharsets.UTF_8), valor);
+    }
+
+    int sizeAt(long posicao) {
+        return memoria.get(ValueLayout.JAVA_INT, posicao);
+    }
+
+    long sequenceAt(long posicao) {
+        return memoria.get(ValueLayout.JAVA_LONG, posicao + 8);
+    }
+
+    byte[] keyAt(long posicao) {
+        byte[] chave = new byte[memoria.get(ValueLayout.JAVA_INT, posicao + 16)];
+        MemorySegment.copy(memoria, ValueLayout.JAVA_BYTE, posicao + ENTRY_HEADER_BYTES, chave, 0, chave.length);
+        return chave;
+    }
+
+    long base() {
+        return base;
+    }
+
+    /**
+     * Sequência seguinte às entradas que o segmento compactado substitui ({@code 0} se não for
+     * compactado).
+     */
+    long limit() {
+        return memoria.get(ValueLayout.JAVA_LONG, 24);
+    }
+
+    void limit(long limite) {
+        memoria.set(ValueLayout.JAVA_LONG, 24, limite);
+    }
+
+    long end() {
+        return fim;
+    }
+
+    long lastSequence() {
+        return ultimaSequencia;
+    }
+
+    int entries() {
+        return entradas;
+    }
+
+    long capacity() {
+        return memoria.byteSize();
+    }
+
+    Path file() {
+        return arquivo;
+    }
+
+    void force() {
+        memoria.force();
+    }
+
+    /**
+     * Renomeia o arquivo de forma atômica, mantendo o mapeamento. O índice não acompanha.
+     */
+    void renameTo(Path destino) throws IOException {
+        Files.move(arquivo, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        arquivo = destino;
+    }
+
+    /**
+     * Apaga o arquivo do segmento e o seu índice; o mapeamento continua válido até ser liberado.
+     */
+    void deleteFiles() throws IOException {
+        if (arquivo.getFileName().toString().endsWith(".log")) {
+            Files.deleteIfExists(indexFile(arquivo));
+        }
+        Files.deleteIfExists(arquivo);
+    }
+
+    /**
+     * Adquire uma referência ao mapeamento.
+     *
+     * @return {@code false} se o segmento já tiver sido liberado
+     */
+    boolean retain() {
+        for (int atual = referencias.get(); atual > 0; atual = referencias.get()) {
+            if (referencias.compareAndSet(atual, atual + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Devolve uma referência; a última libera o mapeamento.
+     */
+    void release() {
+        if (referencias.decrementAndGet() == 0) {
+            arena.close();
+        }
+    }
+
+    /**
+     * Devolve a referência do dono do segmento.
+     */
+    @Override
+    public void close() {
+        release();
+    }
+
+    static long align(long tamanho) {
+        return (tamanho + 7) & ~7L;
+    }
+
+    /**
+     * Tamanho da entrada na posição, ou {@code -1} se não houver entrada válida.
+     */
+    private int validEntrySize(long posicao, long sequenciaMinima) {
+        if (posicao + ENTRY_HEADER_BYTES > memoria.byteSize()) {
+            return -1;
+        }
+        int tamanho = memoria.get(ValueLayout.JAVA_INT, posicao);
+        if (tamanho < ENTRY_HEADER_BYTES || posicao + tamanho > memoria.byteSize()) {
+            return -1;
+        }
+        int tamanhoChave = memoria.get(ValueLayout.JAVA_INT, posicao + 16);
+        if (tamanhoChave < 0 || tamanhoChave > tamanho - ENTRY_HEADER_BYTES
+            || sequenceAt(posicao) < sequenciaMinima
+            || memoria.get(ValueLayout.JAVA_INT, posicao + 4) != crc(posicao, tamanho)) {
+            return -1;
+        }
+        return tamanho;
+    }
+
+    /**
+     * CRC32C dos bytes da entrada após o campo de CRC, copiados em blocos para o heap (buffers
+     * derivados de arenas compartilhadas não são aceitos por {@link CRC32C}).
+     */
+    private int crc(long posicao, int tamanho) {
+        CRC32C crc = new CRC32C();
+        byte[] bloco = new byte[Math.min(tamanho - 8, 8192)];
+        for (long lido = 8; lido < tamanho; ) {
+            int parte = (int) Math.min(bloco.length, tamanho - lido);
+            MemorySegment.copy(memoria, ValueLayout.JAVA_BYTE, posicao + lido, bloco, 0, parte);
+            crc.update(bloco, 0, parte);
+            lido += parte;
+        }
+        return (int) crc.getValue();
+    }
+
+    private void registrar(long sequencia, long posicao) {
+        if (entradas % intervalo == 0) {
+            if (esparsos == esparsoSequencias.length) {
+                esparsoSequencias = Arrays.copyOf(esparsoSequencias, esparsos * 2);
+                esparsoPosicoes = Arrays.copyOf(esparsoPosicoes, esparsos * 2);
+            }
+            esparsoSequencias[esparsos] = sequencia;
+            esparsoPosicoes[esparsos] = posicao;
+            esparsos++;
+        }
+        entradas++;
+        ultimaSequencia = sequencia;
+    }
+
+    private void acumularChave(long[] hash, long sequencia, long posicao) {
+        int i = (entradas - 1) * 4;
+        if (i + 4 > chaves.length) {
+            chaves = Arrays.copyOf(chaves, chaves.length * 2);
+        }
+        chaves[i] = hash[0];
+        chaves[i + 1] = hash[1];
+        chaves[i + 2] = sequencia;
+        chaves[i + 3] = posicao;
+    }
+}
@@ -0,0 +1,684 @@
+package io.github.wesleyosantos91.susep.sro.model.storage;
+
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.Adicionais;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistro;
+import io.github.wesleyosantos91.susep.sro.model.util.EpochDays;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.lang.foreign.ValueLayout;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongConsumer;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+
+/**
+ * Armazenamento off-heap de {@link MovimentoSinistro} com layout binário fixo.
+ *
+ * <p>Todos os movimentos (incluindo {@link Adicionais}) ficam em um único
+ * {@link MemorySegment} gerenciado por um {@link Arena}, fora do heap. O número de
+ * objetos visíveis ao GC é constante, independentemente do volume armazenado:
+ * objetos Java só são materializados quando um registro é lido.</p>
+ *
+ * <p><strong>Organização do segmento:</strong></p>
+ * <ol>
+ *   <li>Cabeçalho ({@value #HEADER_BYTES} bytes) com versão, capacidades e contadores;</li>
+ *   <li>Índice hash por {@code codigoSinistro} (endereçamento aberto, slots de 8 bytes);</li>
+ *   <li>Área de registros de tamanho fixo ({@link #RECORD_LAYOUT});</li>
+ *   <li>Área variável com os adicionais e os textos em UTF-8 de cada registro.</li>
+ * </ol>
+ *
+ * <p>Registros com o mesmo {@code codigoSinistro} são encadeados pelo campo
+ * {@code anteriorMesmoSinistro}, permitindo leitura indexada sem estruturas no heap.
+ * Quando criado com {@link #map(Path, int, long)}, o segmento é mapeado em arquivo e o
+ * conteúdo (inclusive o índice) é reaproveitado em reinicializações.</p>
+ *
+ * <p><strong>Concorrência:</strong> escritas são serializadas; leituras não bloqueiam
+ * e enxergam apenas registros completamente publicados.</p>
+ *
+ * <p>Valores monetários são armazenados como valor não escalado ({@code long}) mais a
+ * escala, preservando a igualdade de {@link BigDecimal}. Datas são armazenadas como
+ * dia epoch ({@code int}).</p>
+ */
+public final class MovimentoSinistroOffHeapStore implements AutoCloseable {
+
+    /**
+     * Layout do registro de tamanho fixo.
+     */
+    public static final StructLayout RECORD_LAYOUT = MemoryLayout.structLayout(
+        ValueLayout.JAVA_LONG.withName("valorMovimento"),
+        ValueLayout.JAVA_LONG.withName("valorMovimentoReais"),
+        ValueLayout.JAVA_LONG.withName("anteriorMesmoSinistro"),
+        ValueLayout.JAVA_LONG.withName("offsetVariavel"),
+        ValueLayout.JAVA_INT.withName("dataMovimento"),
+        ValueLayout.JAVA_INT.withName("dataRegistro"),
+        ValueLayout.JAVA_INT.withName("dataAlteracao"),
+        ValueLayout.JAVA_INT.withName("hashCodigoSinistro"),
+        ValueLayout.JAVA_INT.withName("quantidadeAdicionais"),
+        ValueLayout.JAVA_INT.withName("tipoSinistro"),
+        ValueLayout.JAVA_INT.withName("tipoMovimento"),
+        ValueLayout.JAVA_INT.withName("meioPagamento"),
+        ValueLayout.JAVA_INT.withName("origem"),
+        ValueLayout.JAVA_INT.withName("tipoOperacaoSinistro"),
+        ValueLayout.JAVA_INT.withName("tipoPagamento"),
+        ValueLayout.JAVA_INT.withName("indicadorExclusao"),
+        MemoryLayout.sequenceLayout(12, ValueLayout.JAVA_INT).withName("tamanhosTextos"),
+        ValueLayout.JAVA_BYTE.withName("escalaValorMovimento"),
+        ValueLayout.JAVA_BYTE.withName("escalaValorMovimentoReais"),
+        MemoryLayout.paddingLayout(6)
+    ).withName("MovimentoSinistro");
+
+    /**
+     * Layout de cada adicional na área variável.
+     */
+    public static final StructLayout ADICIONAL_LAYOUT = MemoryLayout.structLayout(
+        ValueLayout.JAVA_LONG.withName("valorMovimentoAdicional"),
+        ValueLayout.JAVA_LONG.withName("valorMovimentoAdicionalReais"),
+        ValueLayout.JAVA_INT.withName("tipoAdicional"),
+        ValueLayout.JAVA_BYTE.withName("escalaValorMovimentoAdicional"),
+        ValueLayout.JAVA_BYTE.withName("escalaValorMovimentoAdicionalReais"),
+        MemoryLayout.paddingLayout(2)
+    ).withName("Adicionais");
+
+    static final int HEADER_BYTES = 64;
+
+    private static final long MAGIC = 0x53524F4D534C3031L; /* "SROMSL01" */
+    private static final int VERSION = 2;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_TEXT = -1;
+    private static final int TEXT_COUNT = 12;
+
+    private static final long H_MAGIC = 0;
+    private static final long H_VERSION = 8;
+    private static final long H_RECORD_CAPACITY = 16;
+    private static final long H_VARIABLE_CAPACITY = 24;
+    private static final long H_SIZE = 32;
+    private static final long H_VARIABLE_USED = 40;
+
+    private static final long RECORD_BYTES = RECORD_LAYOUT.byteSize();
+    private static final long ADICIONAL_BYTES = ADICIONAL_LAYOUT.byteSize();
+
+    private static final long R_VALOR = offset(RECORD_LAYOUT, "valorMovimento");
+    private static final long R_VALOR_REAIS = offset(RECORD_LAYOUT, "valorMovimentoReais");
+    private static final long R_ANTERIOR = offset(RECORD_LAYOUT, "anteriorMesmoSinistro");
+    private static final long R_OFFSET_VARIAVEL = offset(RECORD_LAYOUT, "offsetVariavel");
+    private static final long R_DATA_MOVIMENTO = offset(RECORD_LAYOUT, "dataMovimento");
+    private static final long R_DATA_REGISTRO = offset(RECORD_LAYOUT, "dataRegistro");
+    private static final long R_DATA_ALTERACAO = offset(RECORD_LAYOUT, "dataAlteracao");
+    private static final long R_HASH = offset(RECORD_LAYOUT, "hashCodigoSinistro");
+    private static final long R_QTD_ADICIONAIS = offset(RECORD_LAYOUT, "quantidadeAdicionais");
+    private static final long R_TIPO_SINISTRO = offset(RECORD_LAYOUT, "tipoSinistro");
+    private static final long R_TIPO_MOVIMENTO = offset(RECORD_LAYOUT, "tipoMovimento");
+    private static final long R_MEIO_PAGAMENTO = offset(RECORD_LAYOUT, "meioPagamento");
+    private static final long R_ORIGEM = offset(RECORD_LAYOUT, "origem");
+    private static final long R_TIPO_OPERACAO = offset(RECORD_LAYOUT, "tipoOperacaoSinistro");
+    private static final long R_TIPO_PAGAMENTO = offset(RECORD_LAYOUT, "tipoPagamento");
+    private static final long R_INDICADOR_EXCLUSAO = offset(RECORD_LAYOUT, "indicadorExclusao");
+    private static final long R_ESCALA_VALOR = offset(RECORD_LAYOUT, "escalaValorMovimento");
+    private static final long R_ESCALA_VALOR_REAIS = offset(RECORD_LAYOUT, "escalaValorMovimentoReais");
+    private static final long R_TAMANHOS = offset(RECORD_LAYOUT, "tamanhosTextos");
+
+    private static final long A_VALOR = offset(ADICIONAL_LAYOUT, "valorMovimentoAdicional");
+    private static final long A_VALOR_REAIS = offset(ADICIONAL_LAYOUT, "valorMovimentoAdicionalReais");
+    private static final long A_TIPO = offset(ADICIONAL_LAYOUT, "tipoAdicional");
+    private static final long A_ESCALA_VALOR = offset(ADICIONAL_LAYOUT, "escalaValorMovimentoAdicional");
+    private static final long A_ESCALA_VALOR_REAIS = offset(ADICIONAL_LAYOUT, "escalaValorMovimentoAdicionalReais");
+
+    /* Índices dos textos no vetor tamanhosTextos (ordem de gravação na área variável) */
+    private static final int T_CODIGO_SEGURADORA = 0;
+    private static final int T_GRUPO_RAMO = 1;
+    private static final int T_CODIGO_SINISTRO = 2;
+    private static final int T_IDENTIFICADOR_MOVIMENTO = 3;
+    private static final int T_APOLICE_CODIGO = 4;
+    private static final int T_CERTIFICADO_CODIGO = 5;
+    private static final int T_NUMERO_ENDOSSO = 6;
+    private static final int T_CODIGO_CONTRAPARTE = 7;
+    private static final int T_TIPO_PAGAMENTO_OUTROS = 8;
+    private static final int T_MOEDA = 9;
+    private static final int T_UUID = 10;
+    private static final int T_ANOTACAO = 11;
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final int recordCapacity;
+    private final long variableCapacity;
+    private final int indexSlots;
+    private final long indexBase;
+    private final long recordBase;
+    private final long variableBase;
+    private final StampedLock lock = new StampedLock();
+
+    private volatile long size;
+    private long variableUsed;
+
+    private MovimentoSinistroOffHeapStore(Arena arena, MemorySegment segment, int recordCapacity,
+                                          long variableCapacity, long size, long variableUsed) {
+        this.arena = arena;
+        this.segment = segment;
+        this.recordCapacity = recordCapacity;
+        this.variableCapacity = variableCapacity;
+        this.indexSlots = indexSlots(recordCapacity);
+        this.indexBase = HEADER_BYTES;
+        this.recordBase = indexBase + (long) indexSlots * Long.BYTES;
+        this.variableBase = recordBase + recordCapacity * RECORD_BYTES;
+        this.size = size;
+        this.variableUsed = variableUsed;
+    }
+
+    /**
+     * Cria um armazenamento em memória nativa (não persistente).
+     *
+     * @param capacidadeRegistros quantidade máxima de movimentos
+     * @param capacidadeDadosVariaveis bytes reservados para textos e adicionais
+     * @return armazenamento vazio
+     * @throws IllegalArgumentException se as capacidades forem inválidas
+     */
+    public static MovimentoSinistroOffHeapStore allocate(int capacidadeRegistros, long capacidadeDadosVariaveis) {
+        requireCapacities(capacidadeRegistros, capacidadeDadosVariaveis);
+        Arena arena = Arena.ofShared();
+        MemorySegment segment = arena.allocate(totalBytes(capacidadeRegistros, capacidadeDadosVariaveis), Long.BYTES);
+        segment.fill((byte) 0);
+        writeHeader(segment, capacidadeRegistros, capacidadeDadosVariaveis);
+        return new MovimentoSinistroOffHeapStore(arena, segment, capacidadeRegistros, capacidadeDadosVariaveis, 0, 0);
+    }
+
+    /**
+     * Cria ou reabre um armazenamento mapeado em arquivo.
+     *
+     * <p>Se o arquivo já contiver um armazenamento com as mesmas capacidades, os
+     * registros e o índice existentes são reaproveitados sem reprocessamento.</p>
+     *
+     * @param arquivo caminho do arquivo de dados
+     * @param capacidadeRegistros quantidade máxima de movimentos
+     * @param capacidadeDadosVariaveis bytes reservados para textos e adicionais
+     * @return armazenamento mapeado
+     * @throws IOException se o arquivo não puder ser aberto ou mapeado
+     * @throws IllegalArgumentException se as capacidades forem inválidas ou divergirem do arquivo
+     * @throws IllegalStateException se o arquivo não for um armazenamento válido
+     */
+    public static MovimentoSinistroOffHeapStore map(Path arquivo, int capacidadeRegistros,
+                                                     long capacidadeDadosVariaveis) throws IOException {
+        Objects.requireNonNull(arquivo, "Arquivo é obrigatório");
+        requireCapacities(capacidadeRegistros, capacidadeDadosVariaveis);
+        long total = totalBytes(capacidadeRegistros, capacidadeDadosVariaveis);
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean novo = channel.size() == 0;
+            if (!novo && channel.size() != total) {
+                throw new IllegalArgumentException(
+                    "Capacidades informadas não correspondem ao arquivo existente"
+                );
+            }
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, total, arena);
+            if (novo) {
+                writeHeader(segment, capacidadeRegistros, capacidadeDadosVariaveis);
+                return new MovimentoSinistroOffHeapStore(arena, segment, capacidadeRegistros,
+                    capacidadeDadosVariaveis, 0, 0);
+            }
+            if (segment.get(ValueLayout.JAVA_LONG, H_MAGIC) != MAGIC
+                || segment.get(ValueLayout.JAVA_INT, H_VERSION) != VERSION) {
+                throw new IllegalStateException("Arquivo não é um armazenamento de movimentos de sinistro");
+            }
+            if (segment.get(ValueLayout.JAVA_LONG, H_RECORD_CAPACITY) != capacidadeRegistros
+                || segment.get(ValueLayout.JAVA_LONG, H_VARIABLE_CAPACITY) != capacidadeDadosVariaveis) {
+                throw new IllegalArgumentException(
+                    "Capacidades informadas não correspondem ao arquivo existente"
+                );
+            }
+            var store = new MovimentoSinistroOffHeapStore(arena, segment, capacidadeRegistros,
+                capacidadeDadosVariaveis, segment.get(ValueLayout.JAVA_LONG, H_SIZE),
+                segment.get(ValueLayout.JAVA_LONG, H_VARIABLE_USED));
+            store.repairIndex();
+            return store;
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Acrescenta um movimento ao armazenamento.
+     *
+     * @param movimento movimento de sinistro
+     * @return índice do registro gravado
+     * @throws IllegalStateException se a capacidade de registros ou de dados variáveis se esgotar
+     * @throws IllegalArgumentException se um valor monetário não couber em 64 bits
+     */
+    public long append(MovimentoSinistro movimento) {
+        Objects.requireNonNull(movimento, "Movimento é obrigatório");
+        byte[][] textos = {
+            utf8(movimento.codigoSeguradora()),
+            utf8(movimento.grupoRamo()),
+            utf8(movimento.codigoSinistro()),
+            utf8(movimento.identificadorMovimento()),
+            utf8(movimento.apoliceCodigo()),
+            utf8(movimento.certificadoCodigo()),
+            utf8(movimento.numeroEndosso()),
+            utf8(movimento.codigoContraparte()),
+            utf8(movimento.sinistroTipoPagamentoOutros()),
+            utf8(movimento.moeda()),
+            utf8(movimento.uuid()),
+            utf8(movimento.anotacao())
+        };
+        List<Adicionais> adicionais = movimento.adicionais();
+        long bytesVariaveis = adicionais.size() * ADICIONAL_BYTES;
+        for (byte[] texto : textos) {
+            bytesVariaveis += texto == null ? 0 : texto.length;
+        }
+        bytesVariaveis = align(bytesVariaveis);
+
+        long stamp = lock.writeLock();
+        try {
+            long indice = size;
+            if (indice >= recordCapacity) {
+                throw new IllegalStateException("Capacidade de registros esgotada: " + recordCapacity);
+            }
+            if (variableUsed + bytesVariaveis > variableCapacity) {
+                throw new IllegalStateException("Capacidade de dados variáveis esgotada: " + variableCapacity);
+            }
+            long registro = recordOffset(indice);
+            long variavel = variableBase + variableUsed;
+
+            putDecimal(registro + R_VALOR, registro + R_ESCALA_VALOR, movimento.valorMovimento());
+            putDecimal(registro + R_VALOR_REAIS, registro + R_ESCALA_VALOR_REAIS, movimento.valorMovimentoReais());
+            segment.set(ValueLayout.JAVA_LONG, registro + R_OFFSET_VARIAVEL, variableUsed);
+            segment.set(ValueLayout.JAVA_INT, registro + R_DATA_MOVIMENTO, EpochDays.encode(movimento.dataMovimento()));
+            segment.set(ValueLayout.JAVA_INT, registro + R_DATA_REGISTRO, EpochDays.encode(movimento.dataRegistro()));
+            segment.set(ValueLayout.JAVA_INT, registro + R_DATA_ALTERACAO, EpochDays.encode(movimento.dataAlteracao()));
+            segment.set(ValueLayout.JAVA_INT, registro + R_QTD_ADICIONAIS, adicionais.size());
+            segment.set(ValueLayout.JAVA_INT, registro + R_TIPO_SINISTRO, movimento.tipoSinistro());
+            segment.set(ValueLayout.JAVA_INT, registro + R_TIPO_MOVIMENTO, movimento.tipoMovimento());
+            segment.set(ValueLayout.JAVA_INT, registro + R_MEIO_PAGAMENTO, nullableInt(movimento.meioPagamento()));
+            segment.set(ValueLayout.JAVA_INT, registro + R_ORIGEM, nullableInt(movimento.origem()));
+            segment.set(ValueLayout.JAVA_INT, registro + R_TIPO_OPERACAO, nullableInt(movimento.tipoOperacaoSinistro()));
+            segment.set(ValueLayout.JAVA_INT, registro + R_TIPO_PAGAMENTO, nullableInt(movimento.tipoPagamento()));
+            segment.set(ValueLayout.JAVA_INT, registro + R_INDICADOR_EXCLUSAO, movimento.indicadorExclusao());
+
+            for (Adicionais adicional : adicionais) {
+                putDecimal(variavel + A_VALOR, variavel + A_ESCALA_VALOR, adicional.valorMovimentoAdicional());
+                putDecimal(variavel + A_VALOR_REAIS, variavel + A_ESCALA_VALOR_REAIS,
+                    adicional.valorMovimentoAdicionalReais());
+                segment.set(ValueLayout.JAVA_INT, variavel + A_TIPO, adicional.tipoAdicional());
+                variavel += ADICIONAL_BYTES;
+            }
+            for (int i = 0; i < TEXT_COUNT; i++) {
+                byte[] texto = textos[i];
+                long tamanhoOffset = registro + R_TAMANHOS + (long) i * Integer.BYTES;
+                if (texto == null) {
+                    segment.set(ValueLayout.JAVA_INT, tamanhoOffset, NULL_TEXT);
+                    continue;
+                }
+                segment.set(ValueLayout.JAVA_INT, tamanhoOffset, texto.length);
+                MemorySegment.copy(texto, 0, segment, ValueLayout.JAVA_BYTE, variavel, texto.length);
+                variavel += texto.length;
+            }
+
+            int hash = hash(movimento.codigoSinistro());
+            segment.set(ValueLayout.JAVA_INT, registro + R_HASH, hash);
+            long slot = findSlot(hash, textos[T_CODIGO_SINISTRO]);
+            long anterior = segment.get(ValueLayout.JAVA_LONG, slot) - 1;
+            segment.set(ValueLayout.JAVA_LONG, registro + R_ANTERIOR, anterior);
+
+            /* O slot é publicado por último: o índice nunca aponta para um registro fora do cabeçalho */
+            variableUsed += bytesVariaveis;
+            segment.set(ValueLayout.JAVA_LONG, H_VARIABLE_USED, variableUsed);
+            segment.set(ValueLayout.JAVA_LONG, H_SIZE, indice + 1);
+            size = indice + 1;
+            segment.set(ValueLayout.JAVA_LONG, slot, indice + 1);
+            return indice;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Materializa o movimento gravado no índice informado.
+     *
+     * @param indice índice retornado por {@link #append(MovimentoSinistro)}
+     * @return movimento reconstruído
+     * @throws IndexOutOfBoundsException se o índice não existir
+     */
+    public MovimentoSinistro get(long indice) {
+        Objects.checkIndex(indice, size);
+        long registro = recordOffset(indice);
+        long variavel = variableBase + segment.get(ValueLayout.JAVA_LONG, registro + R_OFFSET_VARIAVEL);
+
+        int quantidade = segment.get(ValueLayout.JAVA_INT, registro + R_QTD_ADICIONAIS);
+        List<Adicionais> adicionais = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            adicionais.add(new Adicionais(
+                segment.get(ValueLayout.JAVA_INT, variavel + A_TIPO),
+                getDecimal(variavel + A_VALOR, variavel + A_ESCALA_VALOR),
+                getDecimal(variavel + A_VALOR_REAIS, variavel + A_ESCALA_VALOR_REAIS)
+            ));
+            variavel += ADICIONAL_BYTES;
+        }
+        String[] textos = new String[TEXT_COUNT];
+        for (int i = 0; i < TEXT_COUNT; i++) {
+            int tamanho = segment.get(ValueLayout.JAVA_INT, registro + R_TAMANHOS + (long) i * Integer.BYTES);
+            if (tamanho == NULL_TEXT) {
+                continue;
+            }
+            byte[] bytes = new byte[tamanho];
+            MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, variavel, bytes, 0, tamanho);
+            textos[i] = new String(bytes, StandardCharsets.UTF_8);
+            variavel += tamanho;
+        }
+
+        return new MovimentoSinistro(
+            textos[T_CODIGO_SEGURADORA],
+            textos[T_GRUPO_RAMO],
+            textos[T_CODIGO_SINISTRO],
+            textos[T_IDENTIFICADOR_MOVIMENTO],
+            textos[T_APOLICE_CODIGO],
+            textos[T_CERTIFICADO_CODIGO],
+            textos[T_NUMERO_ENDOSSO],
+            textos[T_CODIGO_CONTRAPARTE],
+            textos[T_TIPO_PAGAMENTO_OUTROS],
+            getDecimal(registro + R_VALOR, registro + R_ESCALA_VALOR),
+            getDecimal(registro + R_VALOR_REAIS, registro + R_ESCALA_VALOR_REAIS),
+            textos[T_MOEDA],
+            segment.get(ValueLayout.JAVA_INT, registro + R_TIPO_SINISTRO),
+            segment.get(ValueLayout.JAVA_INT, registro + R_TIPO_MOVIMENTO),
+            getNullableInt(registro + R_MEIO_PAGAMENTO),
+            getNullableInt(registro + R_ORIGEM),
+            getNullableInt(registro + R_TIPO_OPERACAO),
+            getNullableInt(registro + R_TIPO_PAGAMENTO),
+            segment.get(ValueLayout.JAVA_INT, registro + R_INDICADOR_EXCLUSAO),
+            textos[T_UUID],
+            EpochDays.decode(segment.get(ValueLayout.JAVA_INT, registro + R_DATA_MOVIMENTO)),
+            EpochDays.decode(segment.get(ValueLayout.JAVA_INT, registro + R_DATA_REGISTRO)),
+            EpochDays.decode(segment.get(ValueLayout.JAVA_INT, registro + R_DATA_ALTERACAO)),
+            textos[T_ANOTACAO],
+            adicionais
+        );
+    }
+
+    /**
+     * Percorre os índices dos movimentos de um sinistro, do mais recente ao mais antigo,
+     * sem materializar registros.
+     *
+     * @param codigoSinistro código do sinistro
+     * @param consumidor recebe cada índice encontrado
+     * @return quantidade de movimentos visitados
+     */
+    public int forEachIndex(String codigoSinistro, LongConsumer consumidor) {
+        Objects.requireNonNull(consumidor, "Consumidor é obrigatório");
+        int visitados = 0;
+        for (long i = head(codigoSinistro); i >= 0; i = segment.get(ValueLayout.JAVA_LONG, recordOffset(i) + R_ANTERIOR)) {
+            consumidor.accept(i);
+            visitados++;
+        }
+        return visitados;
+    }
+
+    /**
+     * Materializa todos os movimentos de um sinistro, em ordem de inclusão.
+     *
+     * @param codigoSinistro código do sinistro
+     * @return lista imutável (vazia se o sinistro não existir)
+     */
+    public List<MovimentoSinistro> findByCodigoSinistro(String codigoSinistro) {
+        List<MovimentoSinistro> movimentos = new ArrayList<>();
+        forEachIndex(codigoSinistro, indice -> movimentos.add(get(indice)));
+        Collections.reverse(movimentos);
+        return List.copyOf(movimentos);
+    }
+
+    /**
+     * Tipo de movimento gravado no índice, sem materializar o registro.
+     *
+     * @param indice índice do registro
+     * @return tipo do movimento
+     */
+    public int tipoMovimento(long indice) {
+        Objects.checkIndex(indice, size);
+        return segment.get(ValueLayout.JAVA_INT, recordOffset(indice) + R_TIPO_MOVIMENTO);
+    }
+
+    /**
+     * Data do movimento gravada no índice, em dias desde a época, sem materializar o registro
+     * nem o {@link java.time.LocalDate}.
+     *
+     * @param indice índice do registro
+     * @return data do movimento codificada por {@link EpochDays}
+     */
+    public int dataMovimentoEpochDay(long indice) {
+        Objects.checkIndex(indice, size);
+        return segment.get(ValueLayout.JAVA_INT, recordOffset(indice) + R_DATA_MOVIMENTO);
+    }
+
+    /**
+     * Valor do movimento em reais gravado no índice.
+     *
+     * @param indice índice do registro
+     * @return valor do movimento em reais
+     */
+    public BigDecimal valorMovimentoReais(long indice) {
+        Objects.checkIndex(indice, size);
+        long registro = recordOffset(indice);
+        return getDecimal(registro + R_VALOR_REAIS, registro + R_ESCALA_VALOR_REAIS);
+    }
+
+    /**
+     * @return quantidade de movimentos armazenados
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return bytes da área variável já utilizados
+     */
+    public long variableBytesUsed() {
+        long stamp = lock.readLock();
+        try {
+            return variableUsed;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Força a gravação em disco do conteúdo mapeado. Sem efeito em memória nativa.
+     */
+    public void force() {
+        if (segment.isMapped()) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Libera a memória nativa (ou o mapeamento) associada ao armazenamento.
+     */
+    @Override
+    public void close() {
+        long stamp = lock.writeLock();
+        try {
+            force();
+            arena.close();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Corrige o índice de um arquivo reaberto após uma escrita interrompida. Um slot que aponta
+     * para além dos registros publicados volta ao registro anterior da cadeia (gravado antes do
+     * slot); o último registro publicado volta a ser a cabeça da sua cadeia se o slot não chegou
+     * a ser gravado.
+     */
+    private void repairIndex() {
+        for (int i = 0; i < indexSlots; i++) {
+            long slot = indexBase + (long) i * Long.BYTES;
+            long valor = segment.get(ValueLayout.JAVA_LONG, slot);
+            if (valor > size) {
+                long anterior = valor <= recordCapacity
+                    ? segment.get(ValueLayout.JAVA_LONG, recordOffset(valor - 1) + R_ANTERIOR) : -1;
+                segment.set(ValueLayout.JAVA_LONG, slot, anterior >= 0 && anterior < size ? anterior + 1 : 0);
+            }
+        }
+        if (size > 0) {
+            long ultimo = size - 1;
+            long registro = recordOffset(ultimo);
+            long slot = findSlot(segment.get(ValueLayout.JAVA_INT, registro + R_HASH),
+                utf8(get(ultimo).codigoSinistro()));
+            long anterior = segment.get(ValueLayout.JAVA_LONG, registro + R_ANTERIOR);
+            if (segment.get(ValueLayout.JAVA_LONG, slot) - 1 == anterior) {
+                segment.set(ValueLayout.JAVA_LONG, slot, size);
+            }
+        }
+    }
+
+    private long head(String codigoSinistro) {
+        Objects.requireNonNull(codigoSinistro, "Código do sinistro é obrigatório");
+        byte[] chave = codigoSinistro.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(codigoSinistro);
+        long stamp = lock.tryOptimisticRead();
+        long head;
+        try {
+            head = segment.get(ValueLayout.JAVA_LONG, findSlot(hash, chave)) - 1;
+        } catch (IndexOutOfBoundsException e) {
+            /* Leitura concorrente com uma escrita em andamento: repete sob bloqueio */
+            head = -1;
+            stamp = 0;
+        }
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                head = segment.get(ValueLayout.JAVA_LONG, findSlot(hash, chave)) - 1;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return head;
+    }
+
+    /**
+     * Localiza o slot do índice para a chave: o slot que aponta para o registro mais
+     * recente do sinistro ou o primeiro slot vazio da sequência de sondagem.
+     */
+    private long findSlot(int hash, byte[] chave) {
+        int mascara = indexSlots - 1;
+        int posicao = mix(hash) & mascara;
+        while (true) {
+            long slot = indexBase + (long) posicao * Long.BYTES;
+            long valor = segment.get(ValueLayout.JAVA_LONG, slot);
+            if (valor == 0 || sameKey(valor - 1, hash, chave)) {
+                return slot;
+            }
+            posicao = (posicao + 1) & mascara;
+        }
+    }
+
+    private boolean sameKey(long indice, int hash, byte[] chave) {
+        long registro = recordOffset(indice);
+        if (segment.get(ValueLayout.JAVA_INT, registro + R_HASH) != hash) {
+            return false;
+        }
+        long variavel = variableBase + segment.get(ValueLayout.JAVA_LONG, registro + R_OFFSET_VARIAVEL)
+            + segment.get(ValueLayout.JAVA_INT, registro + R_QTD_ADICIONAIS) * ADICIONAL_BYTES;
+        for (int i = 0; i < T_CODIGO_SINISTRO; i++) {
+            variavel += Math.max(0, segment.get(ValueLayout.JAVA_INT, registro + R_TAMANHOS + (long) i * Integer.BYTES));
+        }
+        int tamanho = segment.get(ValueLayout.JAVA_INT, registro + R_TAMANHOS + (long) T_CODIGO_SINISTRO * Integer.BYTES);
+        return tamanho == chave.length
+            && MemorySegment.mismatch(segment, variavel, variavel + tamanho,
+                MemorySegment.ofArray(chave), 0, chave.length) == -1;
+    }
+
+    private long recordOffset(long indice) {
+        return recordBase + indice * RECORD_BYTES;
+    }
+
+    private void putDecimal(long valorOffset, long escalaOffset, BigDecimal valor) {
+        BigInteger naoEscalado = valor.unscaledValue();
+        if (naoEscalado.bitLength() > 63 || valor.scale() < Byte.MIN_VALUE || valor.scale() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Valor monetário excede a precisão suportada: " + valor);
+        }
+        segment.set(ValueLayout.JAVA_LONG, valorOffset, naoEscalado.longValue());
+        segment.set(ValueLayout.JAVA_BYTE, escalaOffset, (byte) valor.scale());
+    }
+
+    private BigDecimal getDecimal(long valorOffset, long escalaOffset) {
+        return BigDecimal.valueOf(
+            segment.get(ValueLayout.JAVA_LONG, valorOffset),
+            segment.get(ValueLayout.JAVA_BYTE, escalaOffset)
+        );
+    }
+
+    private Integer getNullableInt(long offset) {
+        int valor = segment.get(ValueLayout.JAVA_INT, offset);
+        return valor == NULL_INT ? null : valor;
+    }
+
+    private static int nullableInt(Integer valor) {
+        return valor == null ? NULL_INT : valor;
+    }
+
+    private static byte[] utf8(String valor) {
+        return valor == null ? null : valor.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Hash estável entre execuções (definido pela especificação de {@link String#hashCode()}),
+     * necessário porque o índice é persistido no arquivo mapeado.
+     */
+    private static int hash(String codigoSinistro) {
+        return codigoSinistro.hashCode();
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+    private static int indexSlots(int recordCapacity) {
+        return Integer.highestOneBit(Math.max(2, recordCapacity) - 1) << 2;
+    }
+
+    private static long totalBytes(int recordCapacity, long variableCapacity) {
+        return HEADER_BYTES + (long) indexSlots(recordCapacity) * Long.BYTES
+            + recordCapacity * RECORD_BYTES + variableCapacity;
+    }
+
+    private static void requireCapacities(int recordCapacity, long variableCapacity) {
+        if (recordCapacity <= 0 || recordCapacity > (1 << 29)) {
+            throw new IllegalArgumentException("Capacidade de registros deve estar entre 1 e " + (1 << 29));
+        }
+        if (variableCapacity < 0 || variableCapacity % Long.BYTES != 0) {
+            throw new IllegalArgumentException("Capacidade de dados variáveis deve ser múltipla de 8 e não negativa");
+        }
+    }
+
+    private static void writeHeader(MemorySegment segment, int recordCapacity, long variableCapacity) {
+        segment.set(ValueLayout.JAVA_LONG, H_MAGIC, MAGIC);
+        segment.set(ValueLayout.JAVA_INT, H_VERSION, VERSION);
+        segment.set(ValueLayout.JAVA_LONG, H_RECORD_CAPACITY, recordCapacity);
+        segment.set(ValueLayout.JAVA_LONG, H_VARIABLE_CAPACITY, variableCapacity);
+        segment.set(ValueLayout.JAVA_LONG, H_SIZE, 0L);
+        segment.set(ValueLayout.JAVA_LONG, H_VARIABLE_USED, 0L);
+    }
+
+    private static long offset(StructLayout layout, String campo) {
+        return layout.byteOffset(groupElement(campo));
+    }
+}
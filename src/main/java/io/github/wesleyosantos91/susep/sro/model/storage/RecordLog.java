@@ -0,0 +1,584 @@
+package io.github.wesleyosantos91.susep.sro.model.storage;
+
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryWriter;
+import io.github.wesleyosantos91.susep.sro.model.codec.RecordCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.StandardCopyOption;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Log local de registros, somente acréscimo, em segmentos mapeados em memória.
+ *
+ * <p>Cada entrada recebe um número de sequência crescente e guarda uma chave (em geral o
+ * {@code uuid} do agregado) e os bytes do registro, tipicamente codificados por
+ * {@link RecordCodec}. Os segmentos são arquivos de tamanho fixo no diretório do log, nomeados
+ * pela sequência base; quando o segmento ativo se esgota, ele é selado (forçado em disco, com
+ * um arquivo {@code .idx} das chaves e posições) e um novo segmento é criado.</p>
+ *
+ * <p><strong>Índices:</strong> cada segmento mantém um índice esparso de sequência para posição
+ * (uma amostra a cada {@code intervaloIndice} entradas), e o log mantém um índice hash da chave
+ * para a sequência da entrada mais recente. Os índices ficam em arrays primitivos, sem objeto por
+ * entrada.</p>
+ *
+ * <p><strong>Recuperação:</strong> ao abrir, os segmentos selados são indexados a partir dos
+ * arquivos {@code .idx}; só o segmento ativo (a cauda) é percorrido, até a primeira entrada com
+ * tamanho inválido, CRC32C divergente ou sequência fora de ordem, que marca uma escrita
+ * interrompida. Os bytes restantes são zerados. A durabilidade de cada acréscimo depende do
+ * sistema operacional até a chamada de {@link #force()} ou o selamento do segmento.</p>
+ *
+ * <p><strong>Concorrência:</strong> acréscimos são serializados; leituras podem ocorrer em
+ * paralelo e enxergam apenas entradas completamente publicadas. O conteúdo publicado é imutável,
+ * de modo que {@link #scan(long, Consumer)} percorre os segmentos sem manter bloqueio.</p>
+ *
+ * <p><strong>Compactação:</strong> o {@link LogCompactor} reescreve os segmentos selados mantendo
+ * apenas a versão mais recente de cada chave; as entradas preservam a sequência original. Cada
+ * grupo compactado é gravado em um arquivo {@code .cleaned}, confirmado ao ser renomeado para
+ * {@code .swap} e só então substitui os segmentos de origem, de modo que uma interrupção em
+ * qualquer ponto é concluída ou descartada na próxima abertura.</p>
+ */
+public final class RecordLog implements AutoCloseable {
+
+    /** Tamanho padrão dos segmentos: 64 MiB. */
+    public static final long DEFAULT_SEGMENT_BYTES = 64L << 20;
+
+    /** Intervalo padrão do índice esparso, em entradas. */
+    public static final int DEFAULT_INDEX_INTERVAL = 64;
+
+    private static final long MIN_SEGMENT_BYTES = 4096;
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+    private static final int LOTE_CONSULTA = 4096;
+
+    private final Path diretorio;
+    private final long tamanhoSegmento;
+    private final int intervalo;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final KeyIndex chaves = new KeyIndex();
+
+    private volatile List<LogSegment> segmentos;
+    private long proximaSequencia;
+    private boolean fechado;
+    private boolean compactando;
+
+    private RecordLog(Path diretorio, long tamanhoSegmento, int intervalo) {
+        this.diretorio = diretorio;
+        this.tamanhoSegmento = tamanhoSegmento;
+        this.intervalo = intervalo;
+    }
+
+    /**
+     * Abre (ou cria) um log com segmentos de {@value #DEFAULT_SEGMENT_BYTES} bytes.
+     *
+     * @param diretorio diretório dos segmentos
+     * @return log aberto
+     * @throws IOException se o diretório ou os segmentos não puderem ser abertos
+     */
+    public static RecordLog open(Path diretorio) throws IOException {
+        return open(diretorio, DEFAULT_SEGMENT_BYTES, DEFAULT_INDEX_INTERVAL);
+    }
+
+    /**
+     * Abre (ou cria) um log.
+     *
+     * <p>O tamanho de segmento vale para os segmentos novos; os existentes mantêm o seu.</p>
+     *
+     * @param diretorio       diretório dos segmentos
+     * @param tamanhoSegmento bytes de cada segmento novo (4 KiB a 1 GiB)
+     * @param intervaloIndice entradas entre amostras do índice esparso
+     * @return log aberto
+     * @throws IOException se o diretório ou os segmentos não puderem ser abertos
+     * @throws IllegalArgumentException se os parâmetros forem inválidos
+     * @throws IllegalStateException se algum arquivo não for um segmento válido
+     */
+    public static RecordLog open(Path diretorio, long tamanhoSegmento, int intervaloIndice) throws IOException {
+        Objects.requireNonNull(diretorio, "Diretório é obrigatório");
+        if (tamanhoSegmento < MIN_SEGMENT_BYTES || tamanhoSegmento > MAX_SEGMENT_BYTES) {
+            throw new IllegalArgumentException("Tamanho de segmento deve estar entre 4 KiB e 1 GiB");
+        }
+        if (intervaloIndice < 1) {
+            throw new IllegalArgumentException("Intervalo do índice deve ser positivo");
+        }
+        Files.createDirectories(diretorio);
+        RecordLog log = new RecordLog(diretorio, tamanhoSegmento, intervaloIndice);
+        log.recuperar();
+        return log;
+    }
+
+    /**
+     * Acrescenta uma entrada.
+     *
+     * @param chave chave do registro
+     * @param valor bytes do registro
+     * @return sequência atribuída
+     * @throws IllegalArgumentException se a entrada não couber em um segmento
+     * @throws UncheckedIOException se o segmento não puder ser selado ou criado
+     */
+    public long append(String chave, byte[] valor) {
+        Objects.requireNonNull(valor, "Valor é obrigatório");
+        return append(chave, valor, valor.length);
+    }
+
+    /**
+     * Codifica o record com {@link RecordCodec} e o acrescenta.
+     *
+     * @param chave    chave do registro (por exemplo, o {@code uuid})
+     * @param registro record a gravar
+     * @param <T>      tipo do record
+     * @return sequência atribuída
+     */
+    public <T extends Record> long append(String chave, T registro) {
+        Objects.requireNonNull(registro, "Registro é obrigatório");
+        @SuppressWarnings("unchecked")
+        RecordCodec<T> codec = RecordCodec.of((Class<T>) registro.getClass());
+        BinaryWriter writer = new BinaryWriter();
+        codec.encode(registro, writer);
+        return append(chave, writer.buffer(), writer.size());
+    }
+
+    /**
+     * Entrada mais recente da chave.
+     *
+     * @param chave chave do registro
+     * @return entrada, ou vazio se a chave não existir
+     */
+    public Optional<LogEntry> get(String chave) {
+        Objects.requireNonNull(chave, "Chave é obrigatória");
+        long[] hash = KeyIndex.hash(chave);
+        lock.readLock().lock();
+        try {
+            verificarAberto();
+            long sequencia = chaves.get(hash[0], hash[1]);
+            return sequencia < 0 ? Optional.empty() : localizar(sequencia).filter(e -> e.key().equals(chave));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Record mais recente da chave, decodificado com {@link RecordCodec}.
+     *
+     * @param chave chave do registro
+     * @param tipo  classe do record
+     * @param <T>   tipo do record
+     * @return record, ou vazio se a chave não existir
+     */
+    public <T extends Record> Optional<T> get(String chave, Class<T> tipo) {
+        RecordCodec<T> codec = RecordCodec.of(tipo);
+        return get(chave).map(entrada -> codec.decode(entrada.value()));
+    }
+
+    /**
+     * Entrada com a sequência informada.
+     *
+     * @param sequencia sequência da entrada
+     * @return entrada, ou vazio se não existir
+     */
+    public Optional<LogEntry> read(long sequencia) {
+        lock.readLock().lock();
+        try {
+            verificarAberto();
+            return localizar(sequencia);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Percorre, em ordem, as entradas com sequência maior ou igual à informada e já publicadas
+     * no início da varredura.
+     *
+     * @param desde    primeira sequência desejada
+     * @param consumer destino das entradas
+     * @return quantidade de entradas entregues
+     */
+    public long scan(long desde, Consumer<? super LogEntry> consumer) {
+        Objects.requireNonNull(consumer, "Consumidor é obrigatório");
+        List<LogSegment> atuais;
+        long[] inicios;
+        long[] fins;
+        lock.readLock().lock();
+        try {
+            verificarAberto();
+            atuais = segmentos;
+            inicios = new long[atuais.size()];
+            fins = new long[atuais.size()];
+            for (int i = 0; i < atuais.size(); i++) {
+                LogSegment segmento = atuais.get(i);
+                segmento.retain();
+                fins[i] = segmento.end();
+                inicios[i] = segmento.lastSequence() < desde ? fins[i] : segmento.seek(desde);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        long entregues = 0;
+        try {
+            for (int i = 0; i < atuais.size(); i++) {
+                LogSegment segmento = atuais.get(i);
+                for (long posicao = inicios[i]; posicao < fins[i]; posicao = segmento.next(posicao)) {
+                    consumer.accept(segmento.read(posicao));
+                    entregues++;
+                }
+            }
+        } finally {
+            atuais.forEach(LogSegment::release);
+        }
+        return entregues;
+    }
+
+    /**
+     * @return sequência que será atribuída ao próximo acréscimo
+     */
+    public long nextSequence() {
+        lock.readLock().lock();
+        try {
+            return proximaSequencia;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return quantidade de chaves distintas
+     */
+    public int keyCount() {
+        lock.readLock().lock();
+        try {
+            return chaves.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return quantidade de segmentos
+     */
+    public int segmentCount() {
+        return segmentos.size();
+    }
+
+    /**
+     * Força em disco o conteúdo do segmento ativo.
+     */
+    public void force() {
+        lock.readLock().lock();
+        try {
+            verificarAberto();
+            ativo().force();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Força o segmento ativo em disco e libera os mapeamentos (os que estiverem em uso por uma
+     * varredura ou compactação são liberados ao fim dela). O segmento ativo não é selado: na
+     * próxima abertura, sua cauda é percorrida.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (fechado) {
+                return;
+            }
+            fechado = true;
+            ativo().force();
+            for (LogSegment segmento : segmentos) {
+                segmento.close();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inicia uma compactação, adquirindo referências a todos os segmentos atuais; todos, exceto o
+     * último (ativo), estão selados e imutáveis.
+     *
+     * @throws IllegalStateException se o log estiver fechado ou já houver compactação em andamento
+     */
+    List<LogSegment> beginCompaction() {
+        lock.writeLock().lock();
+        try {
+            verificarAberto();
+            if (compactando) {
+                throw new IllegalStateException("Compactação já em andamento em " + diretorio);
+            }
+            compactando = true;
+            List<LogSegment> atuais = segmentos;
+            atuais.forEach(LogSegment::retain);
+            return atuais;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Encerra a compactação, devolvendo as referências adquiridas em {@link #beginCompaction()}.
+     */
+    void endCompaction(List<LogSegment> adquiridos) {
+        lock.writeLock().lock();
+        try {
+            compactando = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        adquiridos.forEach(LogSegment::release);
+    }
+
+    /**
+     * Marca quais entradas ainda são a versão mais recente da sua chave. Consulta o índice em
+     * lotes, para não bloquear os acréscimos por muito tempo.
+     */
+    void latest(long[] altos, long[] baixos, long[] sequencias, int quantidade, boolean[] vigentes) {
+        for (int inicio = 0; inicio < quantidade; inicio += LOTE_CONSULTA) {
+            int fimLote = Math.min(quantidade, inicio + LOTE_CONSULTA);
+            lock.readLock().lock();
+            try {
+                verificarAberto();
+                for (int i = inicio; i < fimLote; i++) {
+                    vigentes[i] = chaves.get(altos[i], baixos[i]) == sequencias[i];
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Cria o arquivo {@code .cleaned} que receberá as entradas de um grupo de segmentos.
+     *
+     * @param base       sequência base do primeiro segmento do grupo
+     * @param limite     sequência base do segmento seguinte ao grupo
+     * @param capacidade bytes do arquivo, incluindo o cabeçalho
+     */
+    LogSegment createCompacted(long base, long limite, long capacidade) throws IOException {
+        Path arquivo = diretorio.resolve(String.format("%020d.cleaned", base));
+        Files.deleteIfExists(arquivo);
+        LogSegment segmento = LogSegment.create(arquivo, base, capacidade, intervalo);
+        segmento.limit(limite);
+        return segmento;
+    }
+
+    /**
+     * Substitui segmentos consecutivos pelo segmento compactado.
+     *
+     * <p>A renomeação para {@code .swap} confirma a compactação; em seguida os arquivos de origem
+     * são apagados e o compactado assume o nome {@code .log} do primeiro deles. As chaves das
+     * exclusões descartadas saem do índice se ainda apontarem para a sequência descartada.
+     * Se a confirmação falhar, o compactado é descartado; se falhar depois dela, a substituição
+     * é concluída na próxima abertura.</p>
+     *
+     * @param origens     segmentos substituídos, na ordem do log
+     * @param compactado  segmento {@code .cleaned} com as entradas mantidas
+     * @param descartadas triplas (hash alto, hash baixo, sequência) das exclusões descartadas
+     * @param quantidade  quantidade de triplas
+     */
+    void replace(List<LogSegment> origens, LogSegment compactado, long[] descartadas, int quantidade) {
+        lock.writeLock().lock();
+        try {
+            verificarAberto();
+            List<LogSegment> atuais = segmentos;
+            int inicio = atuais.indexOf(origens.get(0));
+            if (inicio < 0 || inicio + origens.size() >= atuais.size()
+                || !atuais.subList(inicio, inicio + origens.size()).equals(origens)) {
+                throw new IllegalStateException("Segmentos de origem não são consecutivos no log");
+            }
+            try {
+                compactado.force();
+                compactado.renameTo(compactado.file().resolveSibling(
+                    String.format("%020d.swap", compactado.base())));
+            } catch (IOException e) {
+                descartar(compactado);
+                throw new UncheckedIOException("Falha ao confirmar compactação em " + diretorio, e);
+            }
+            try {
+                for (LogSegment origem : origens) {
+                    origem.deleteFiles();
+                }
+                compactado.renameTo(LogSegment.logFile(diretorio, compactado.base()));
+                compactado.seal();
+            } catch (IOException e) {
+                compactado.close();
+                throw new UncheckedIOException("Falha ao substituir segmentos em " + diretorio, e);
+            }
+            List<LogSegment> atualizados = new ArrayList<>(atuais.subList(0, inicio));
+            atualizados.add(compactado);
+            atualizados.addAll(atuais.subList(inicio + origens.size(), atuais.size()));
+            segmentos = List.copyOf(atualizados);
+            for (int i = 0; i < quantidade * 3; i += 3) {
+                if (chaves.get(descartadas[i], descartadas[i + 1]) == descartadas[i + 2]) {
+                    chaves.remove(descartadas[i], descartadas[i + 1]);
+                }
+            }
+            origens.forEach(LogSegment::release);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Libera e apaga um segmento compactado não confirmado.
+     */
+    static void descartar(LogSegment compactado) {
+        compactado.close();
+        try {
+            compactado.deleteFiles();
+        } catch (IOException e) {
+            // O arquivo .cleaned remanescente é apagado na próxima abertura.
+        }
+    }
+
+    long segmentBytes() {
+        return tamanhoSegmento;
+    }
+
+    private long append(String chave, byte[] valor, int tamanhoValor) {
+        Objects.requireNonNull(chave, "Chave é obrigatória");
+        byte[] bytesChave = chave.getBytes(StandardCharsets.UTF_8);
+        long tamanho = (long) LogSegment.ENTRY_HEADER_BYTES + bytesChave.length + tamanhoValor;
+        if (LogSegment.align(tamanho) > tamanhoSegmento - LogSegment.HEADER_BYTES) {
+            throw new IllegalArgumentException("Entrada de " + tamanho + " bytes excede o tamanho do segmento");
+        }
+        long[] hash = KeyIndex.hash(chave);
+        lock.writeLock().lock();
+        try {
+            verificarAberto();
+            LogSegment segmento = ativo();
+            if (!segmento.fits((int) tamanho)) {
+                segmento = rolar();
+            }
+            long sequencia = proximaSequencia++;
+            segmento.append(sequencia, bytesChave, hash, valor, tamanhoValor);
+            chaves.put(hash[0], hash[1], sequencia);
+            return sequencia;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private LogSegment rolar() {
+        try {
+            ativo().seal();
+            LogSegment novo = LogSegment.create(LogSegment.logFile(diretorio, proximaSequencia), proximaSequencia,
+                tamanhoSegmento, intervalo);
+            List<LogSegment> atualizados = new ArrayList<>(segmentos);
+            atualizados.add(novo);
+            segmentos = List.copyOf(atualizados);
+            return novo;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao criar segmento em " + diretorio, e);
+        }
+    }
+
+    private Optional<LogEntry> localizar(long sequencia) {
+        List<LogSegment> atuais = segmentos;
+        int de = 0;
+        int ate = atuais.size() - 1;
+        while (de < ate) {
+            int meio = (de + ate + 1) >>> 1;
+            if (atuais.get(meio).base() <= sequencia) {
+                de = meio;
+            } else {
+                ate = meio - 1;
+            }
+        }
+        LogSegment segmento = atuais.get(de);
+        long posicao = segmento.find(sequencia);
+        return posicao < 0 ? Optional.empty() : Optional.of(segmento.read(posicao));
+    }
+
+    private void recuperar() throws IOException {
+        concluirCompactacoes();
+        List<Path> arquivos;
+        try (Stream<Path> listagem = Files.list(diretorio)) {
+            arquivos = listagem.filter(p -> p.getFileName().toString().matches("\\d{20}\\.log"))
+                .sorted(Comparator.comparingLong(LogSegment::baseOf))
+                .toList();
+        }
+        List<LogSegment> abertos = new ArrayList<>();
+        try {
+            long minima = 0;
+            for (int i = 0; i < arquivos.size(); i++) {
+                LogSegment segmento = LogSegment.open(arquivos.get(i), intervalo);
+                abertos.add(segmento);
+                minima = Math.max(minima, segmento.base());
+                boolean cauda = i == arquivos.size() - 1;
+                if (cauda || !segmento.loadIndex(chaves)) {
+                    segmento.recover(minima, chaves);
+                    segmento.clearTail();
+                    if (!cauda) {
+                        segmento.seal();
+                    }
+                }
+                minima = Math.max(minima, segmento.lastSequence() + 1);
+            }
+            if (abertos.isEmpty()) {
+                abertos.add(LogSegment.create(LogSegment.logFile(diretorio, 0), 0, tamanhoSegmento, intervalo));
+            }
+            proximaSequencia = minima;
+        } catch (IOException | RuntimeException e) {
+            abertos.forEach(LogSegment::close);
+            throw e;
+        }
+        segmentos = List.copyOf(abertos);
+    }
+
+    /**
+     * Descarta compactações não confirmadas ({@code .cleaned}) e conclui as confirmadas
+     * ({@code .swap}), apagando os segmentos que substituem.
+     */
+    private void concluirCompactacoes() throws IOException {
+        List<Path> pendentes;
+        try (Stream<Path> listagem = Files.list(diretorio)) {
+            pendentes = listagem.filter(p -> p.getFileName().toString().matches("\\d{20}\\.(cleaned|swap)"))
+                .sorted(Comparator.comparingLong(LogSegment::baseOf))
+                .toList();
+        }
+        for (Path pendente : pendentes) {
+            if (pendente.getFileName().toString().endsWith(".cleaned")) {
+                Files.delete(pendente);
+                continue;
+            }
+            long base = LogSegment.baseOf(pendente);
+            long limite;
+            try (LogSegment compactado = LogSegment.open(pendente, intervalo)) {
+                limite = compactado.limit();
+            }
+            List<Path> substituidos;
+            try (Stream<Path> listagem = Files.list(diretorio)) {
+                substituidos = listagem.filter(p -> p.getFileName().toString().matches("\\d{20}\\.log"))
+                    .filter(p -> LogSegment.baseOf(p) >= base && LogSegment.baseOf(p) < limite)
+                    .toList();
+            }
+            for (Path arquivo : substituidos) {
+                Files.deleteIfExists(LogSegment.indexFile(arquivo));
+                Files.delete(arquivo);
+            }
+            Files.move(pendente, LogSegment.logFile(diretorio, base), StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private LogSegment ativo() {
+        List<LogSegment> atuais = segmentos;
+        return atuais.get(atuais.size() - 1);
+    }
+
+    private void verificarAberto() {
+        if (fechado) {
+            throw new IllegalStateException("Log fechado");
+        }
+    }
+}
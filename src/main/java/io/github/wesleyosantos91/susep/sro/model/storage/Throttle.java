@@ -0,0 +1,45 @@
+package io.github.wesleyosantos91.susep.sro.model.storage;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Limitador de vazão em bytes por segundo, no estilo balde de fichas: cada aquisição agenda o
+ * instante a partir do qual os bytes estão liberados e a thread só é suspensa quando o atraso
+ * acumulado passa de 1 ms. Não é thread-safe.
+ */
+final class Throttle {
+
+    /** Vazão sem limite. */
+    static final long UNLIMITED = Long.MAX_VALUE;
+
+    private static final long NANOS_POR_SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+    private static final long ESPERA_MINIMA = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long bytesPorSegundo;
+    private long liberado;
+
+    Throttle(long bytesPorSegundo) {
+        if (bytesPorSegundo <= 0) {
+            throw new IllegalArgumentException("Vazão deve ser positiva");
+        }
+        this.bytesPorSegundo = bytesPorSegundo;
+        this.liberado = System.nanoTime();
+    }
+
+    /**
+     * Consome a vazão correspondente aos bytes, suspendendo a thread se necessário. Retorna
+     * antes do prazo se a thread for interrompida.
+     */
+    void acquire(long bytes) {
+        if (bytesPorSegundo == UNLIMITED) {
+            return;
+        }
+        long agora = System.nanoTime();
+        liberado = Math.max(liberado, agora) + bytes * NANOS_POR_SEGUNDO / bytesPorSegundo;
+        long espera = liberado - agora;
+        if (espera > ESPERA_MINIMA) {
+            LockSupport.parkNanos(espera);
+        }
+    }
+}
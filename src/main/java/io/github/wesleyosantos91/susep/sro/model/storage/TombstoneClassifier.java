@@ -0,0 +1,55 @@
+package io.github.wesleyosantos91.susep.sro.model.storage;
+
+import io.github.wesleyosantos91.susep.sro.model.codec.RecordCodec;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Identifica as entradas do {@link RecordLog} que são registros de exclusão e a data a partir da
+ * qual a sua retenção é contada pelo {@link LogCompactor}.
+ */
+@FunctionalInterface
+public interface TombstoneClassifier {
+
+    /** Valor de {@code indicadorExclusao} que identifica um registro de exclusão. */
+    int EXCLUSAO = 1;
+
+    /**
+     * @param entrada entrada mais recente da sua chave
+     * @return data da exclusão, ou {@code null} se a entrada não for exclusão
+     */
+    LocalDate exclusionDate(LogEntry entrada);
+
+    /**
+     * Classificador de um log que não contém exclusões.
+     *
+     * @return classificador que nunca identifica exclusões
+     */
+    static TombstoneClassifier none() {
+        return entrada -> null;
+    }
+
+    /**
+     * Classificador de records codificados com {@link RecordCodec}: a entrada é exclusão quando
+     * {@code indicadorExclusao == 1}, datada pela sua {@code dataAlteracao}.
+     *
+     * @param tipo              classe do record gravado no log
+     * @param indicadorExclusao acesso ao {@code indicadorExclusao}
+     * @param dataAlteracao     acesso à {@code dataAlteracao}
+     * @param <T>               tipo do record
+     * @return classificador
+     */
+    static <T extends Record> TombstoneClassifier of(Class<T> tipo,
+                                                     Function<? super T, Integer> indicadorExclusao,
+                                                     Function<? super T, LocalDate> dataAlteracao) {
+        RecordCodec<T> codec = RecordCodec.of(tipo);
+        Objects.requireNonNull(indicadorExclusao, "Acesso ao indicador de exclusão é obrigatório");
+        Objects.requireNonNull(dataAlteracao, "Acesso à data de alteração é obrigatório");
+        return entrada -> {
+            T registro = codec.decode(entrada.value());
+            return Objects.equals(indicadorExclusao.apply(registro), EXCLUSAO) ? dataAlteracao.apply(registro) : null;
+        };
+    }
+}
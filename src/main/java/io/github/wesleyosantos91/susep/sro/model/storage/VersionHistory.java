@@ -0,0 +1,256 @@
+package io.github.wesleyosantos91.susep.sro.model.storage;
+
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryReader;
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryWriter;
+import io.github.wesleyosantos91.susep.sro.model.codec.DeltaCodec;
+import io.github.wesleyosantos91.susep.sro.model.codec.RecordCodec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Histórico de versões de um agregado ({@code Documento}, {@code Endosso}), gravado como quadros
+ * completos periódicos e deltas estruturais entre versões consecutivas.
+ *
+ * <p>A primeira versão é gravada completa pelo {@link RecordCodec}; as seguintes, pelo
+ * {@link DeltaCodec} em relação à anterior, de modo que blocos repetidos entre versões não ocupam
+ * espaço de novo. A cada {@code keyframeInterval} versões (ou quando o delta não for menor que a
+ * versão completa) grava-se outro quadro completo, e a leitura da versão N aplica no máximo
+ * {@code keyframeInterval - 1} deltas a partir do quadro completo mais próximo.</p>
+ *
+ * <p>Formato de {@link #toByteArray()}: número mágico, {@link RecordCodec#schema()} do agregado,
+ * intervalo e quantidade de versões (inteiros variáveis) e, para cada versão, o tamanho e os bytes
+ * da entrada; a entrada começa por um byte que indica quadro completo ou delta. O resultado pode
+ * ser guardado no {@link RecordLog} sob o {@code uuid} do agregado.</p>
+ *
+ * <p>Não é thread-safe.</p>
+ *
+ * @param <T> tipo do agregado
+ */
+public final class VersionHistory<T extends Record> {
+
+    /** Intervalo padrão entre quadros completos, em versões. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 16;
+
+    static final long MAGIC = 0x53524F4856455231L;
+
+    private static final int COMPLETO = 0;
+    private static final int DELTA = 1;
+
+    private final RecordCodec<T> codec;
+    private final DeltaCodec<T> deltas;
+    private final int intervalo;
+    private final List<byte[]> entradas = new ArrayList<>();
+    private int ultimoCompleto = -1;
+    private T ultima;
+    private long bytes;
+
+    private VersionHistory(Class<T> tipo, int intervalo) {
+        if (intervalo <= 0) {
+            throw new IllegalArgumentException("Intervalo entre quadros completos deve ser positivo: " + intervalo);
+        }
+        this.codec = RecordCodec.of(tipo);
+        this.deltas = DeltaCodec.of(tipo);
+        this.intervalo = intervalo;
+    }
+
+    /**
+     * @param tipo classe do agregado
+     * @param <T>  tipo do agregado
+     * @return histórico vazio com o intervalo padrão entre quadros completos
+     */
+    public static <T extends Record> VersionHistory<T> create(Class<T> tipo) {
+        return create(tipo, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * @param tipo      classe do agregado
+     * @param intervalo quantidade máxima de versões entre quadros completos
+     * @param <T>       tipo do agregado
+     * @return histórico vazio
+     * @throws IllegalArgumentException se o intervalo não for positivo
+     */
+    public static <T extends Record> VersionHistory<T> create(Class<T> tipo, int intervalo) {
+        Objects.requireNonNull(tipo, "Tipo é obrigatório");
+        return new VersionHistory<>(tipo, intervalo);
+    }
+
+    /**
+     * Lê um histórico gravado por {@link #toByteArray()}.
+     *
+     * @param bytes bytes do histórico
+     * @param tipo  classe do agregado
+     * @param <T>   tipo do agregado
+     * @return histórico com as versões gravadas
+     * @throws IllegalStateException se os bytes não forem um histórico válido ou tiverem sido
+     *                               gravados com outra versão do record
+     */
+    public static <T extends Record> VersionHistory<T> fromByteArray(byte[] bytes, Class<T> tipo) {
+        Objects.requireNonNull(tipo, "Tipo é obrigatório");
+        BinaryReader reader = new BinaryReader(bytes);
+        if (reader.remaining() < 16 || reader.readLong() != MAGIC) {
+            throw new IllegalStateException("Bytes não são um histórico de versões válido");
+        }
+        if (reader.readLong() != RecordCodec.of(tipo).schema()) {
+            throw new IllegalStateException("Histórico gravado com outra versão de " + tipo.getSimpleName());
+        }
+        long intervalo = reader.readVarLong();
+        if (intervalo <= 0 || intervalo > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Intervalo inválido no histórico: " + intervalo);
+        }
+        VersionHistory<T> historico = create(tipo, (int) intervalo);
+        long quantidade = reader.readVarLong();
+        for (long n = 0; n < quantidade; n++) {
+            long tamanho = reader.readVarLong();
+            if (tamanho <= 0 || tamanho > reader.remaining()) {
+                throw new IllegalStateException("Entrada truncada no histórico: versão " + n);
+            }
+            historico.restaurar(reader.readBytes((int) tamanho));
+        }
+        if (reader.remaining() != 0) {
+            throw new IllegalStateException("Sobraram " + reader.remaining() + " bytes após o histórico");
+        }
+        return historico;
+    }
+
+    /**
+     * Acrescenta uma versão, gravada como delta da anterior ou como quadro completo.
+     *
+     * @param versao nova versão do agregado
+     * @return número da versão, a partir de zero
+     */
+    public int append(T versao) {
+        Objects.requireNonNull(versao, "Versão é obrigatória");
+        byte[] completo = codec.encode(versao);
+        byte[] entrada = null;
+        if (ultima != null && entradas.size() - ultimoCompleto < intervalo) {
+            BinaryWriter delta = new BinaryWriter();
+            delta.writeByte(DELTA);
+            deltas.encode(ultima, versao, delta);
+            if (delta.size() <= completo.length) {
+                entrada = delta.toByteArray();
+            }
+        }
+        if (entrada == null) {
+            entrada = new byte[completo.length + 1];
+            entrada[0] = COMPLETO;
+            System.arraycopy(completo, 0, entrada, 1, completo.length);
+            ultimoCompleto = entradas.size();
+        }
+        entradas.add(entrada);
+        bytes += entrada.length;
+        ultima = versao;
+        return entradas.size() - 1;
+    }
+
+    /**
+     * @param versao número da versão
+     * @return agregado na versão, reconstruído a partir do quadro completo mais próximo
+     * @throws IllegalArgumentException se a versão não existir
+     */
+    public T get(int versao) {
+        if (versao < 0 || versao >= entradas.size()) {
+            throw new IllegalArgumentException("Versão inexistente: " + versao + " (histórico com "
+                + entradas.size() + " versões)");
+        }
+        if (versao == entradas.size() - 1) {
+            return ultima;
+        }
+        int inicio = versao;
+        while (entradas.get(inicio)[0] != COMPLETO) {
+            inicio--;
+        }
+        T agregado = completo(entradas.get(inicio));
+        for (int n = inicio + 1; n <= versao; n++) {
+            agregado = delta(agregado, entradas.get(n));
+        }
+        return agregado;
+    }
+
+    /**
+     * @return versão mais recente, se houver
+     */
+    public Optional<T> latest() {
+        return Optional.ofNullable(ultima);
+    }
+
+    /**
+     * @param versao número da versão
+     * @return {@code true} se a versão foi gravada completa
+     * @throws IllegalArgumentException se a versão não existir
+     */
+    public boolean isKeyframe(int versao) {
+        if (versao < 0 || versao >= entradas.size()) {
+            throw new IllegalArgumentException("Versão inexistente: " + versao);
+        }
+        return entradas.get(versao)[0] == COMPLETO;
+    }
+
+    /**
+     * @return quantidade de versões
+     */
+    public int size() {
+        return entradas.size();
+    }
+
+    /**
+     * @return soma dos tamanhos das entradas gravadas
+     */
+    public long bytes() {
+        return bytes;
+    }
+
+    /**
+     * @return quantidade máxima de versões entre quadros completos
+     */
+    public int keyframeInterval() {
+        return intervalo;
+    }
+
+    /**
+     * @return bytes do histórico, lidos por {@link #fromByteArray(byte[], Class)}
+     */
+    public byte[] toByteArray() {
+        BinaryWriter writer = new BinaryWriter(Math.toIntExact(bytes + 32 + 5L * entradas.size()));
+        writer.writeLong(MAGIC).writeLong(codec.schema()).writeVarLong(intervalo).writeVarLong(entradas.size());
+        for (byte[] entrada : entradas) {
+            writer.writeVarLong(entrada.length).writeBytes(entrada);
+        }
+        return writer.toByteArray();
+    }
+
+    private void restaurar(byte[] entrada) {
+        if (entrada[0] == COMPLETO) {
+            ultima = completo(entrada);
+            ultimoCompleto = entradas.size();
+        } else if (entrada[0] == DELTA && ultima != null) {
+            ultima = delta(ultima, entrada);
+        } else {
+            throw new IllegalStateException("Entrada inválida no histórico: versão " + entradas.size());
+        }
+        entradas.add(entrada);
+        bytes += entrada.length;
+    }
+
+    private T completo(byte[] entrada) {
+        BinaryReader reader = new BinaryReader(entrada, 1, entrada.length - 1);
+        T agregado = codec.decode(reader);
+        exigirFim(reader);
+        return agregado;
+    }
+
+    private T delta(T anterior, byte[] entrada) {
+        BinaryReader reader = new BinaryReader(entrada, 1, entrada.length - 1);
+        T agregado = deltas.apply(anterior, reader);
+        exigirFim(reader);
+        return agregado;
+    }
+
+    private static void exigirFim(BinaryReader reader) {
+        if (reader.remaining() != 0) {
+            throw new IllegalStateException("Sobraram " + reader.remaining() + " bytes na entrada do histórico");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.wesleyosantos91.susep.sro.model.util;
+
+/**
+ * Representação numérica compacta de CPF e CNPJ em um {@code long}.
+ *
+ * <p>Os dígitos são lidos como número decimal (um CNPJ cabe em 47 bits) e o bit 62 marca o CNPJ,
+ * de modo que um CPF e um CNPJ com o mesmo valor numérico (zeros à esquerda) não colidem. A
+ * máscara usual ({@code 123.456.789-09}, {@code 12.345.678/0001-95}) é aceita e ignorada; os
+ * dígitos verificadores não são conferidos. Documentos com outra quantidade de dígitos ou com
+ * letras (passaporte, CNPJ alfanumérico) não são representáveis e resultam em {@link #NULL}.</p>
+ */
+public final class CpfCnpj {
+
+    /**
+     * Representação de documento ausente ou não representável.
+     */
+    public static final long NULL = -1L;
+
+    private static final long CNPJ = 1L << 62;
+    private static final int DIGITOS_CPF = 11;
+    private static final int DIGITOS_CNPJ = 14;
+
+    private CpfCnpj() {
+        throw new AssertionError("Classe utilitária não deve ser instanciada");
+    }
+
+    /**
+     * Empacota um CPF (11 dígitos) ou CNPJ (14 dígitos), com ou sem máscara.
+     *
+     * @param documento documento (pode ser nulo)
+     * @return documento empacotado, ou {@link #NULL} se ausente ou não for CPF nem CNPJ
+     */
+    public static long pack(CharSequence documento) {
+        if (documento == null) {
+            return NULL;
+        }
+        long valor = 0;
+        int digitos = 0;
+        for (int i = 0; i < documento.length(); i++) {
+            char c = documento.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digitos > DIGITOS_CNPJ) {
+                    return NULL;
+                }
+                valor = valor * 10 + (c - '0');
+            } else if (c != '.' && c != '-' && c != '/') {
+                return NULL;
+            }
+        }
+        return switch (digitos) {
+            case DIGITOS_CPF -> valor;
+            case DIGITOS_CNPJ -> valor | CNPJ;
+            default -> NULL;
+        };
+    }
+
+    /**
+     * @param chave documento empacotado (diferente de {@link #NULL})
+     * @return {@code true} se for CNPJ
+     */
+    public static boolean isCnpj(long chave) {
+        return (chave & CNPJ) != 0;
+    }
+
+    /**
+     * Dígitos do documento empacotado, sem máscara e com zeros à esquerda.
+     *
+     * @param chave documento empacotado
+     * @return 11 dígitos para CPF ou 14 para CNPJ
+     * @throws IllegalArgumentException se a chave for {@link #NULL} ou inválida
+     */
+    public static String unpack(long chave) {
+        if (chave < 0) {
+            throw new IllegalArgumentException("Documento empacotado inválido: " + chave);
+        }
+        int digitos = isCnpj(chave) ? DIGITOS_CNPJ : DIGITOS_CPF;
+        long valor = chave & ~CNPJ;
+        char[] texto = new char[digitos];
+        for (int i = digitos - 1; i >= 0; i--) {
+            texto[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+        if (valor != 0) {
+            throw new IllegalArgumentException("Documento empacotado inválido: " + chave);
+        }
+        return new String(texto);
+    }
+}
@@ -0,0 +1,227 @@
+package io.github.wesleyosantos91.susep.sro.model.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Codificação de datas como dias desde a época ({@code 1970-01-01}) em um {@code int}.
+ *
+ * <p>Destinada a codecs, variantes compactas e índices: datas codificadas são comparadas e
+ * verificadas em intervalos como inteiros, sem alocação nem indireção, e o {@link LocalDate}
+ * só é materializado quando o acessor público do record é chamado ({@link #decode(int)}).
+ * A ordem dos inteiros é a ordem cronológica.</p>
+ *
+ * <p>Datas ausentes são representadas por {@link #NULL}, menor que qualquer data válida. As
+ * conversões entre ano/mês/dia e dias seguem o calendário ISO proléptico, o mesmo de
+ * {@link LocalDate}, e não alocam objetos.</p>
+ */
+public final class EpochDays {
+
+    /**
+     * Representação de data ausente ({@code null}).
+     */
+    public static final int NULL = Integer.MIN_VALUE;
+
+    /**
+     * Menor data suportada: {@code -999999-01-01}.
+     */
+    public static final int MIN = fromYearMonthDay(-999_999, 1, 1);
+
+    /**
+     * Maior data suportada: {@code 999999-12-31}.
+     */
+    public static final int MAX = fromYearMonthDay(999_999, 12, 31);
+
+    private static final int DIAS_POR_ERA = 146_097;
+    private static final int DIAS_ATE_1970 = 719_468;
+
+    private EpochDays() {
+        throw new AssertionError("Classe utilitária não deve ser instanciada");
+    }
+
+    /**
+     * Codifica uma data.
+     *
+     * @param data data (pode ser nula)
+     * @return dias desde a época, ou {@link #NULL} se a data for nula
+     * @throws IllegalArgumentException se a data estiver fora de [{@link #MIN}, {@link #MAX}]
+     */
+    public static int encode(LocalDate data) {
+        if (data == null) {
+            return NULL;
+        }
+        long dias = data.toEpochDay();
+        if (dias < MIN || dias > MAX) {
+            throw new IllegalArgumentException("Data fora do intervalo suportado: " + data);
+        }
+        return (int) dias;
+    }
+
+    /**
+     * Materializa a data codificada.
+     *
+     * @param dias dias desde a época, ou {@link #NULL}
+     * @return data, ou {@code null} se {@code dias} for {@link #NULL}
+     * @throws DateTimeException se o valor estiver fora do intervalo suportado
+     */
+    public static LocalDate decode(int dias) {
+        return dias == NULL ? null : LocalDate.ofEpochDay(dias);
+    }
+
+    /**
+     * Dias desde a época para ano, mês e dia, sem materializar {@link LocalDate}.
+     *
+     * @param ano ano ISO (entre -999999 e 999999)
+     * @param mes mês (1 a 12)
+     * @param dia dia do mês
+     * @return dias desde a época
+     * @throws IllegalArgumentException se a data não existir no calendário
+     */
+    public static int fromYearMonthDay(int ano, int mes, int dia) {
+        if (ano < -999_999 || ano > 999_999 || mes < 1 || mes > 12 || dia < 1 || dia > lengthOfMonth(ano, mes)) {
+            throw new IllegalArgumentException("Data inválida: %d-%02d-%02d".formatted(ano, mes, dia));
+        }
+        int a = mes <= 2 ? ano - 1 : ano;
+        int era = Math.floorDiv(a, 400);
+        int anoDaEra = a - era * 400;
+        int diaDoAno = (153 * (mes > 2 ? mes - 3 : mes + 9) + 2) / 5 + dia - 1;
+        int diaDaEra = anoDaEra * 365 + anoDaEra / 4 - anoDaEra / 100 + diaDoAno;
+        return era * DIAS_POR_ERA + diaDaEra - DIAS_ATE_1970;
+    }
+
+    /**
+     * @param dias dias desde a época (diferente de {@link #NULL})
+     * @return ano ISO da data
+     */
+    public static int year(int dias) {
+        return (int) (campos(dias) >> 16);
+    }
+
+    /**
+     * @param dias dias desde a época (diferente de {@link #NULL})
+     * @return mês da data (1 a 12)
+     */
+    public static int month(int dias) {
+        return (int) (campos(dias) >> 8) & 0xFF;
+    }
+
+    /**
+     * @param dias dias desde a época (diferente de {@link #NULL})
+     * @return dia do mês da data
+     */
+    public static int dayOfMonth(int dias) {
+        return (int) campos(dias) & 0xFF;
+    }
+
+    /**
+     * Interpreta uma data ISO-8601 ({@code yyyy-MM-dd}) sem materializar {@link LocalDate}.
+     *
+     * @param texto  texto de origem
+     * @param inicio posição do primeiro caractere da data
+     * @return dias desde a época
+     * @throws IllegalArgumentException se o trecho não for uma data válida
+     */
+    public static int parseIso(CharSequence texto, int inicio) {
+        if (inicio < 0 || inicio + 10 > texto.length() || texto.charAt(inicio + 4) != '-' || texto.charAt(inicio + 7) != '-') {
+            throw new IllegalArgumentException("Data ISO inválida na posição " + inicio);
+        }
+        return fromYearMonthDay(digitos(texto, inicio, 4), digitos(texto, inicio + 5, 2), digitos(texto, inicio + 8, 2));
+    }
+
+    /**
+     * Acrescenta a data no formato ISO-8601 ({@code yyyy-MM-dd}) para anos entre 0 e 9999.
+     *
+     * @param destino destino da escrita
+     * @param dias    dias desde a época
+     * @return o próprio destino
+     * @throws IllegalArgumentException se o ano estiver fora de 0 a 9999
+     */
+    public static StringBuilder appendIso(StringBuilder destino, int dias) {
+        long campos = campos(dias);
+        int ano = (int) (campos >> 16);
+        if (ano < 0 || ano > 9999) {
+            throw new IllegalArgumentException("Ano fora do formato ISO de quatro dígitos: " + ano);
+        }
+        preencher(destino, ano, 4).append('-');
+        preencher(destino, (int) (campos >> 8) & 0xFF, 2).append('-');
+        return preencher(destino, (int) campos & 0xFF, 2);
+    }
+
+    /**
+     * Verifica se a data está no intervalo fechado {@code [inicio, fim]}.
+     *
+     * @param dias   data verificada
+     * @param inicio início do intervalo ({@link #NULL} para sem limite inferior)
+     * @param fim    fim do intervalo ({@link #NULL} para sem limite superior)
+     * @return {@code true} se a data não for {@link #NULL} e estiver no intervalo
+     */
+    public static boolean isBetween(int dias, int inicio, int fim) {
+        return dias != NULL && dias >= inicio && (fim == NULL || dias <= fim);
+    }
+
+    /**
+     * Quantidade de dias entre duas datas.
+     *
+     * @param inicio data inicial
+     * @param fim    data final
+     * @return {@code fim - inicio} (negativo se {@code fim} for anterior)
+     */
+    public static long daysBetween(int inicio, int fim) {
+        return (long) fim - inicio;
+    }
+
+    /**
+     * @param ano ano ISO
+     * @return {@code true} se o ano for bissexto
+     */
+    public static boolean isLeapYear(int ano) {
+        return (ano & 3) == 0 && (ano % 100 != 0 || ano % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int ano, int mes) {
+        return switch (mes) {
+            case 2 -> isLeapYear(ano) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Ano, mês e dia a partir dos dias desde a época (algoritmo "civil from days"), empacotados
+     * em {@code ano << 16 | mes << 8 | dia}.
+     */
+    private static long campos(int dias) {
+        if (dias < MIN || dias > MAX) {
+            throw new IllegalArgumentException("Valor fora do intervalo de datas suportado: " + dias);
+        }
+        int z = dias + DIAS_ATE_1970;
+        int era = Math.floorDiv(z, DIAS_POR_ERA);
+        int diaDaEra = z - era * DIAS_POR_ERA;
+        int anoDaEra = (diaDaEra - diaDaEra / 1460 + diaDaEra / 36524 - diaDaEra / 146096) / 365;
+        int diaDoAno = diaDaEra - (365 * anoDaEra + anoDaEra / 4 - anoDaEra / 100);
+        int mp = (5 * diaDoAno + 2) / 153;
+        int dia = diaDoAno - (153 * mp + 2) / 5 + 1;
+        int mes = mp < 10 ? mp + 3 : mp - 9;
+        int ano = anoDaEra + era * 400 + (mes <= 2 ? 1 : 0);
+        return (long) ano << 16 | mes << 8 | dia;
+    }
+
+    private static int digitos(CharSequence texto, int inicio, int quantidade) {
+        int valor = 0;
+        for (int i = inicio; i < inicio + quantidade; i++) {
+            char c = texto.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Data ISO inválida na posição " + i);
+            }
+            valor = valor * 10 + (c - '0');
+        }
+        return valor;
+    }
+
+    private static StringBuilder preencher(StringBuilder destino, int valor, int largura) {
+        for (int divisor = largura == 4 ? 1000 : 10; divisor > 0; divisor /= 10) {
+            destino.append((char) ('0' + valor / divisor % 10));
+        }
+        return destino;
+    }
+}
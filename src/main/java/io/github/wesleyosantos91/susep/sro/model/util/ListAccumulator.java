@@ -0,0 +1,71 @@
+package io.github.wesleyosantos91.susep.sro.model.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Acumulador de elementos de lista usado pelos builders dos records.
+ *
+ * <p>Os elementos adicionados um a um são convertidos em lista imutável uma única vez,
+ * em {@link #toList()}. Listas atribuídas com {@link #set(List)} são repassadas sem cópia
+ * (transferência de posse): como {@link List#copyOf(java.util.Collection)} devolve a
+ * própria instância quando ela já é imutável, o compact constructor do record não
+ * realiza uma segunda cópia nem novas verificações de nulo.</p>
+ *
+ * <p>O buffer interno preserva sua capacidade após {@link #clear()}, permitindo reutilizar
+ * o mesmo builder por thread em decodificadores de streaming. Não é thread-safe.</p>
+ *
+ * @param <E> tipo dos elementos
+ */
+public final class ListAccumulator<E> {
+
+    private final ArrayList<E> buffer = new ArrayList<>();
+    private List<E> atribuida;
+
+    /**
+     * Atribui a lista inteira, descartando elementos acumulados anteriormente.
+     *
+     * @param lista lista a repassar ao record ({@code null} equivale a lista vazia)
+     */
+    public void set(List<E> lista) {
+        buffer.clear();
+        atribuida = lista;
+    }
+
+    /**
+     * Acrescenta um elemento.
+     *
+     * @param elemento elemento não nulo
+     * @throws NullPointerException se o elemento for nulo
+     */
+    public void add(E elemento) {
+        Objects.requireNonNull(elemento, "Elemento da lista não pode ser nulo");
+        if (atribuida != null) {
+            buffer.addAll(atribuida);
+            atribuida = null;
+        }
+        buffer.add(elemento);
+    }
+
+    /**
+     * Lista a entregar ao record: a lista atribuída, sem cópia, ou uma lista imutável
+     * com os elementos acumulados.
+     *
+     * @return lista resultante (nunca nula)
+     */
+    public List<E> toList() {
+        if (atribuida != null) {
+            return atribuida;
+        }
+        return buffer.isEmpty() ? List.of() : List.copyOf(buffer);
+    }
+
+    /**
+     * Descarta a lista atribuída e os elementos acumulados, mantendo a capacidade do buffer.
+     */
+    public void clear() {
+        buffer.clear();
+        atribuida = null;
+    }
+}
@@ -0,0 +1,242 @@
+package io.github.wesleyosantos91.susep.sro.model;
+
+import io.github.wesleyosantos91.susep.sro.model.ccg.Colateral;
+import io.github.wesleyosantos91.susep.sro.model.ccg.Fiador;
+import io.github.wesleyosantos91.susep.sro.model.complauto.CoberturaAutomóvel;
+import io.github.wesleyosantos91.susep.sro.model.complauto.ComplAuto;
+import io.github.wesleyosantos91.susep.sro.model.complauto.PessoasAssociadasCondutor;
+import io.github.wesleyosantos91.susep.sro.model.documento.Beneficiario;
+import io.github.wesleyosantos91.susep.sro.model.documento.Ccg;
+import io.github.wesleyosantos91.susep.sro.model.documento.Cosseguro;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.Intermediario;
+import io.github.wesleyosantos91.susep.sro.model.documento.ObjetoSegurado;
+import io.github.wesleyosantos91.susep.sro.model.documento.PremioApolice;
+import io.github.wesleyosantos91.susep.sro.model.documento.Segurado;
+import io.github.wesleyosantos91.susep.sro.model.documento.Tomador;
+import io.github.wesleyosantos91.susep.sro.model.endosso.Endosso;
+import io.github.wesleyosantos91.susep.sro.model.endosso.EndossoAssociado;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.Adicionais;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistro;
+import io.github.wesleyosantos91.susep.sro.model.sinistro.Automovel;
+import io.github.wesleyosantos91.susep.sro.model.sinistro.CoberturaAfetada;
+import io.github.wesleyosantos91.susep.sro.model.sinistro.DocumentoAfetado;
+import io.github.wesleyosantos91.susep.sro.model.sinistro.JustificativaNegativa;
+import io.github.wesleyosantos91.susep.sro.model.sinistro.Sinistro;
+import io.github.wesleyosantos91.susep.sro.model.sinistro.VistoriaRural;
+
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dados sintéticos válidos para os testes dos agregados do SRO.
+ *
+ * <p>Todos os valores são determinísticos (datas fixas no passado, documentos com
+ * dígitos verificadores válidos), de modo que o mesmo índice sempre gera o mesmo registro.</p>
+ */
+public final class SroTestData {
+
+    public static final LocalDate DATA_BASE = LocalDate.of(2024, 1, 15);
+
+    private SroTestData() {
+        throw new AssertionError("Classe utilitária não deve ser instanciada");
+    }
+
+    /**
+     * UUID determinístico no formato RFC 4122.
+     */
+    public static String uuid(long n) {
+        return String.format("%08x-0000-4000-8000-%012x", n & 0xFFFFFFFFL, n & 0xFFFFFFFFFFFFL);
+    }
+
+    /**
+     * CPF válido derivado de um número base (até 9 dígitos).
+     */
+    public static String cpf(long base) {
+        int[] d = new int[11];
+        String raiz = String.format("%09d", Math.floorMod(base, 1_000_000_000L));
+        for (int i = 0; i < 9; i++) {
+            d[i] = raiz.charAt(i) - '0';
+        }
+        if (raiz.chars().distinct().count() == 1) {
+            d[8] = (d[8] + 1) % 10;
+        }
+        d[9] = digitoCpf(d, 9);
+        d[10] = digitoCpf(d, 10);
+        StringBuilder sb = new StringBuilder();
+        for (int digito : d) {
+            sb.append(digito);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * CNPJ válido derivado de um número base (até 12 dígitos).
+     */
+    public static String cnpj(long base) {
+        int[] d = new int[14];
+        String raiz = String.format("%012d", Math.floorMod(base, 1_000_000_000_000L));
+        for (int i = 0; i < 12; i++) {
+            d[i] = raiz.charAt(i) - '0';
+        }
+        if (raiz.chars().distinct().count() == 1) {
+            d[11] = (d[11] + 1) % 10;
+        }
+        d[12] = digitoCnpj(d, new int[]{5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2});
+        d[13] = digitoCnpj(d, new int[]{6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2});
+        StringBuilder sb = new StringBuilder();
+        for (int digito : d) {
+            sb.append(digito);
+        }
+        return sb.toString();
+    }
+
+    public static Segurado segurado(int n) {
+        return new Segurado(cpf(100_000 + n), 1, "Segurado " + n, DATA_BASE.minusYears(30).minusDays(n % 365),
+            1 + n % 3, "01310100", "São Paulo", "SP", "BRA");
+    }
+
+    public static Beneficiario beneficiario(int n) {
+        return new Beneficiario(cpf(200_000 + n), 1, "Beneficiário " + n, "01310100", "São Paulo", "SP", "BRA");
+    }
+
+    public static Tomador tomador(int n) {
+        return new Tomador(cnpj(300_000 + n), 2, "Tomador " + n, "01310100", "São Paulo", "SP", "BRA");
+    }
+
+    public static Intermediario intermediario(int n) {
+        return new Intermediario(1, cpf(400_000 + n), "SUSEP-" + n, 1, "Corretor " + n, "01310100",
+            "São Paulo", "SP", "BRA", 100.0 + n, 100.0 + n);
+    }
+
+    public static ObjetoSegurado objetoSegurado(int n) {
+        return new ObjetoSegurado("OBJ-" + n, 4, null, "Objeto segurado " + n, 1000.0 * (n + 1), 1000.0 * (n + 1),
+            DATA_BASE, DATA_BASE.plusYears(1));
+    }
+
+    public static Ccg ccg(int n) {
+        return new Ccg("CCG-" + n, DATA_BASE);
+    }
+
+    /**
+     * Documento válido com a quantidade informada de segurados (apólice coletiva).
+     */
+    public static Documento documento(int n, int segurados) {
+        return documento(n, "APOLICE-" + n, DATA_BASE, segurados);
+    }
+
+    public static Documento documento(int n, String apoliceCodigo, LocalDate dataAlteracao, int segurados) {
+        List<Segurado> vidas = new ArrayList<>(segurados);
+        for (int i = 0; i < segurados; i++) {
+            vidas.add(segurado(n * 10_000 + i));
+        }
+        return new Documento(uuid(n), null, "12345", DATA_BASE, dataAlteracao, 2, 1, apoliceCodigo,
+            "SUSEP-" + n, null, 1, DATA_BASE, DATA_BASE, DATA_BASE.plusYears(1), "0001", null, null, "BRL",
+            100_000.0, 100_000.0, 1, List.of(ccg(n)), vidas, List.of(beneficiario(n)), List.of(tomador(n)),
+            List.of(intermediario(n)), List.of(objetoSegurado(n)), new PremioApolice(5000.0, 5000.0, 0.0, 369.0, 12),
+            new Cosseguro(100.0f));
+    }
+
+    public static Endosso endosso(int n, String apoliceCodigo, LocalDate dataAlteracao, List<Segurado> segurados) {
+        return new Endosso(uuid(1_000_000L + n), null, "12345", DATA_BASE, dataAlteracao, 2, 1, apoliceCodigo,
+            "SUSEP-" + n, null, "END-" + n, "Endosso " + n, 3, 2, 1, DATA_BASE, DATA_BASE, DATA_BASE.plusYears(1),
+            DATA_BASE, DATA_BASE.plusYears(1), "0001", null, null, "BRL", 120_000.0, 120_000.0, 1,
+            List.of(new EndossoAssociado("END-ANT-" + n)), List.of(ccg(n)), segurados, List.of(beneficiario(n)),
+            List.of(tomador(n)), List.of(intermediario(n)), List.of(objetoSegurado(n)),
+            new PremioApolice(6000.0, 6000.0, 0.0, 442.8, 12), new Cosseguro(100.0f));
+    }
+
+    public static MovimentoPremio movimentoPremio(int n, String apoliceCodigo, int parcela, int tipoMovimento,
+                                                  double valor, LocalDate vencimento) {
+        return new MovimentoPremio(uuid(2_000_000L + n), null, "12345", DATA_BASE, DATA_BASE, 2, apoliceCodigo,
+            null, null, "MOV-PREMIO-" + n, "BRL", valor, valor, DATA_BASE, parcela, vencimento, tipoMovimento,
+            null, "0531", "OBJ-" + n, "COB-" + n, DATA_BASE, DATA_BASE.plusYears(1), null, null, valor, valor,
+            null, null, null);
+    }
+
+    public static MovimentoSinistro movimentoSinistro(int n, String codigoSinistro, int tipoMovimento, String valor) {
+        return new MovimentoSinistro("12345", "0531", codigoSinistro, "MOV-SINISTRO-" + n, "APOLICE-" + n,
+            null, null, null, null, new BigDecimal(valor), new BigDecimal(valor), "BRL", 1, tipoMovimento,
+            null, null, null, null, 2, uuid(3_000_000L + n), DATA_BASE, DATA_BASE, DATA_BASE, null,
+            List.of(new Adicionais(3, new BigDecimal("1.50"), new BigDecimal("1.50"))));
+    }
+
+    public static Sinistro sinistro(int n) {
+        return new Sinistro(1, DATA_BASE, DATA_BASE.minusDays(2), DATA_BASE, DATA_BASE, null,
+            List.of(new JustificativaNegativa(1, "Justificativa " + n)),
+            List.of(new DocumentoAfetado("APOLICE-" + n, null, null)),
+            List.of(new CoberturaAfetada(codigoObjeto(n), "0531", 1, "COB-" + n, null, DATA_BASE, DATA_BASE, null)),
+            List.of(new VistoriaRural("SP", "01310100", "BRA")),
+            List.of(new Automovel(codigoObjeto(n), 1, 1, DATA_BASE.minusYears(40), "BRA", "01310100")));
+    }
+
+    public static ComplAuto complAuto(int n) {
+        return new ComplAuto("END-" + n, "AUTO-" + n, 4, null, "Veículo " + n, 1, 1, BigDecimal.valueOf(100), 1,
+            "MOD-" + n, 2023, "10", "01310100", 1, "01310100", "01310100", BigDecimal.TEN, 5,
+            List.of(new CoberturaAutomóvel("0531", 1, null, "COB-" + n, "PROC-" + n, BigDecimal.valueOf(50_000),
+                BigDecimal.valueOf(50_000), DATA_BASE, DATA_BASE.plusDays(10), 1, 1, 1, BigDecimal.valueOf(1200),
+                BigDecimal.valueOf(1200), null, null, null, null, null, null, null, null)),
+            List.of(new io.github.wesleyosantos91.susep.sro.model.complauto.Franquia(1, null, BigDecimal.valueOf(2500),
+                "Franquia normal", 2)),
+            List.of(new PessoasAssociadasCondutor(cpf(500_000 + n), 1, DATA_BASE.minusYears(35), 10)));
+    }
+
+    public static io.github.wesleyosantos91.susep.sro.model.ccg.Ccg ccgGarantia(int n) {
+        return new io.github.wesleyosantos91.susep.sro.model.ccg.Ccg(DATA_BASE.plusYears(1),
+            List.of(new io.github.wesleyosantos91.susep.sro.model.ccg.Tomador(cnpj(600_000 + n), 2, 1,
+                "Tomador CCG " + n, BigDecimal.valueOf(1_000_000))),
+            List.of(new Colateral(1, BigDecimal.valueOf(250_000), "SP", "BRA")),
+            List.of(new Fiador(cpf(700_000 + n), 1, "Fiador " + n)));
+    }
+
+    private static String codigoObjeto(int n) {
+        return String.format("%050d", n);
+    }
+
+    /**
+     * Cópia do record com um componente substituído, pelo construtor canônico.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Record> T com(T registro, String componente, Object valor) {
+        RecordComponent[] componentes = registro.getClass().getRecordComponents();
+        Object[] valores = new Object[componentes.length];
+        Class<?>[] tipos = new Class<?>[componentes.length];
+        boolean encontrado = false;
+        try {
+            for (int i = 0; i < componentes.length; i++) {
+                tipos[i] = componentes[i].getType();
+                encontrado |= componentes[i].getName().equals(componente);
+                valores[i] = componentes[i].getName().equals(componente)
+                    ? valor : componentes[i].getAccessor().invoke(registro);
+            }
+            if (!encontrado) {
+                throw new IllegalArgumentException(componente + " não é componente de " + registro.getClass());
+            }
+            return (T) registro.getClass().getDeclaredConstructor(tipos).newInstance(valores);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int digitoCpf(int[] d, int quantidade) {
+        int soma = 0;
+        for (int i = 0; i < quantidade; i++) {
+            soma += d[i] * (quantidade + 1 - i);
+        }
+        int digito = 11 - (soma % 11);
+        return digito > 9 ? 0 : digito;
+    }
+
+    private static int digitoCnpj(int[] d, int[] pesos) {
+        int soma = 0;
+        for (int i = 0; i < pesos.length; i++) {
+            soma += d[i] * pesos[i];
+        }
+        int digito = 11 - (soma % 11);
+        return digito > 9 ? 0 : digito;
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.wesleyosantos91.susep.sro.model.batch;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryReader;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para BatchPacker.
+ */
+@DisplayName("BatchPacker - Empacotamento de registros em lotes por tamanho e quantidade")
+class BatchPackerTest {
+
+    private static final Function<String, byte[]> JSON = texto -> ("\"" + texto + "\"").getBytes(StandardCharsets.UTF_8);
+
+    private static List<Record> registros() {
+        List<Record> registros = new ArrayList<>();
+        for (int n = 1; n <= 30; n++) {
+            registros.add(SroTestData.documento(n, n % 4));
+            registros.add(SroTestData.movimentoPremio(n, "APOLICE-" + n, 1, 1, 150.0 * n, SroTestData.DATA_BASE));
+            if (n % 3 == 0) {
+                registros.add(SroTestData.endosso(n, "APOLICE-" + n, SroTestData.DATA_BASE, List.of()));
+            }
+        }
+        return registros;
+    }
+
+    @Test
+    @DisplayName("Deve empacotar records em ordem respeitando bytes e quantidade, sem nova serialização")
+    void deveEmpacotarRecordsEmOrdem() {
+        List<Record> registros = registros();
+        List<Batch<Record>> lotes = new ArrayList<>();
+        BatchPacker<Record> packer = BatchPacker.<Record>records(new BatchLimits(4_096, 8)).build(lotes::add);
+
+        registros.forEach(packer::add);
+        packer.flush();
+
+        assertThat(lotes).hasSizeGreaterThan(registros.size() / 8);
+        assertThat(packer.batches()).isEqualTo(lotes.size());
+        List<Record> enviados = new ArrayList<>();
+        for (int i = 0; i < lotes.size(); i++) {
+            Batch<Record> lote = lotes.get(i);
+            byte[] bytes = lote.toByteArray();
+            assertThat(lote.sequence()).isEqualTo(i);
+            assertThat(lote.size()).isBetween(1, 8);
+            assertThat(lote.bytes()).isEqualTo(bytes.length).isLessThanOrEqualTo(4_096);
+            assertThat(lote.payload(0)).isEqualTo(BatchPacker.frame(lote.records().getFirst()));
+
+            var reader = new BinaryReader(bytes);
+            for (Record registro : lote.records()) {
+                assertThat(BatchPacker.readFrame(reader, registro.getClass())).isEqualTo(registro);
+            }
+            assertThat(reader.remaining()).isZero();
+            if (i + 1 < lotes.size() && lote.size() < 8) {
+                byte[] seguinte = lotes.get(i + 1).payload(0);
+                assertThat(lote.bytes() + seguinte.length).as("next-fit").isGreaterThan(4_096);
+            }
+            enviados.addAll(lote.records());
+        }
+        assertThat(enviados).isEqualTo(registros);
+
+        byte[] quadro = BatchPacker.frame(registros.getFirst());
+        assertThat(BatchPacker.readFrame(new BinaryReader(quadro), Documento.class)).isEqualTo(registros.getFirst());
+        assertThatThrownBy(() -> BatchPacker.readFrame(new BinaryReader(quadro),
+            registros.get(1).getClass().asSubclass(Record.class)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("esquema");
+    }
+
+    @Test
+    @DisplayName("Deve contar envelope e separadores no tamanho do lote")
+    void deveContarEnvelope() {
+        List<Batch<String>> lotes = new ArrayList<>();
+        BatchPacker<String> packer = BatchPacker.builder(new BatchLimits(12, 100), JSON)
+            .envelope(BatchEnvelope.JSON_ARRAY)
+            .build(lotes::add);
+
+        for (String texto : List.of("a", "bb", "ccc", "d", "eeeeeeee")) {
+            packer.add(texto);
+        }
+        packer.flush();
+
+        assertThat(lotes).extracting(lote -> new String(lote.toByteArray(), StandardCharsets.UTF_8))
+            .containsExactly("[\"a\",\"bb\"]", "[\"ccc\",\"d\"]", "[\"eeeeeeee\"]");
+        assertThat(lotes).extracting(Batch::bytes).containsExactly(10L, 11L, 12L);
+        assertThat(BatchEnvelope.JSON_ARRAY.overhead(3)).isEqualTo(4);
+        assertThat(BatchEnvelope.JSON_ARRAY.overhead(0)).isEqualTo(2);
+
+        assertThatThrownBy(() -> packer.add("fffffffff"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("11 bytes");
+        packer.flush();
+        assertThat(lotes).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Deve aproveitar melhor os limites com lotes abertos sem inverter registros da mesma chave")
+    void deveEmpacotarComFirstFit() {
+        List<String> textos = new ArrayList<>();
+        for (int n = 0; n < 200; n++) {
+            textos.add((n % 10) + "-" + "x".repeat(n % 2 == 0 ? 56 : 41));
+        }
+        List<Batch<String>> nextFit = new ArrayList<>();
+        BatchPacker<String> sequencial = BatchPacker.builder(new BatchLimits(100, 50), JSON).build(nextFit::add);
+        List<Batch<String>> firstFit = new ArrayList<>();
+        BatchPacker<String> abertos = BatchPacker.builder(new BatchLimits(100, 50), JSON)
+            .openBins(4)
+            .key(texto -> texto.charAt(0))
+            .build(firstFit::add);
+
+        textos.forEach(sequencial::add);
+        textos.forEach(abertos::add);
+        sequencial.flush();
+        abertos.flush();
+
+        assertThat(firstFit.size()).isLessThan(nextFit.size());
+        assertThat(firstFit).allSatisfy(lote -> assertThat(lote.bytes()).isLessThanOrEqualTo(100));
+        assertThat(firstFit).extracting(Batch::sequence).isSorted();
+        assertThat(firstFit.stream().mapToInt(Batch::size).sum()).isEqualTo(200);
+
+        Map<Character, List<String>> porChave = new HashMap<>();
+        for (Batch<String> lote : firstFit) {
+            for (String texto : lote.records()) {
+                porChave.computeIfAbsent(texto.charAt(0), k -> new ArrayList<>()).add(texto);
+            }
+        }
+        for (List<String> daChave : porChave.values()) {
+            List<String> esperados = textos.stream().filter(t -> t.charAt(0) == daChave.getFirst().charAt(0)).toList();
+            assertThat(daChave).isEqualTo(esperados);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve respeitar a quantidade máxima e rejeitar configurações inválidas")
+    void deveRespeitarQuantidadeMaxima() {
+        List<Batch<String>> lotes = new ArrayList<>();
+        BatchPacker<String> packer = BatchPacker.builder(new BatchLimits(1_000, 2), JSON).build(lotes::add);
+
+        for (String texto : List.of("a", "b", "c", "d", "e")) {
+            packer.add(texto);
+        }
+        assertThat(lotes).hasSize(2);
+        packer.flush();
+        assertThat(lotes).extracting(Batch::records)
+            .containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+
+        assertThatThrownBy(() -> new BatchLimits(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BatchLimits(1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchPacker.builder(new BatchLimits(1, 1), JSON).openBins(0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> packer.add(null)).isInstanceOf(NullPointerException.class);
+    }
+}
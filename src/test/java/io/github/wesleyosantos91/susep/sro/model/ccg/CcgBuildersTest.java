@@ -0,0 +1,58 @@
+package io.github.wesleyosantos91.susep.sro.model.ccg;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para os builders do pacote ccg.
+ */
+@DisplayName("Builders do CCG")
+class CcgBuildersTest {
+
+    @Test
+    @DisplayName("Deve reconstruir o CCG sem copiar as listas")
+    void deveReconstruirCcg() {
+        Ccg original = SroTestData.ccgGarantia(1);
+
+        Ccg copia = new CcgBuilder().from(original).build();
+
+        assertThat(copia).isEqualTo(original);
+        assertThat(copia.tomadors()).isSameAs(original.tomadors());
+    }
+
+    @Test
+    @DisplayName("Deve acumular elementos e produzir listas vazias por padrão")
+    void deveAcumularElementos() {
+        Ccg ccg = new CcgBuilder()
+            .addTomador(new Tomador("12345678900", 1, 1, "Razão Social", BigDecimal.TEN))
+            .addColateral(new Colateral(1, BigDecimal.TEN, "SP", "BRA"))
+            .build();
+
+        assertThat(ccg.tomadors()).hasSize(1);
+        assertThat(ccg.colaterals()).hasSize(1);
+        assertThat(ccg.fiadors()).isEmpty();
+        assertThat(new CcgBuilder().addFiador(new Fiador("12345678900", 1, "Razão Social")).build().fiadors()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir e limpar os componentes do CCG")
+    void deveReconstruirComponentes() {
+        var tomador = new Tomador("12345678900", 1, 1, "Razão Social", BigDecimal.TEN);
+        var colateral = new Colateral(1, BigDecimal.TEN, "SP", "BRA");
+        var fiador = new Fiador("12345678900", 1, "Razão Social");
+
+        assertThat(new TomadorBuilder().from(tomador).build()).isEqualTo(tomador);
+        assertThat(new ColateralBuilder().from(colateral).build()).isEqualTo(colateral);
+        assertThat(new FiadorBuilder().from(fiador).build()).isEqualTo(fiador);
+        assertThat(new CcgBuilder().from(SroTestData.ccgGarantia(1)).reset().build())
+            .isEqualTo(new Ccg(null, java.util.List.of(), java.util.List.of(), java.util.List.of()));
+        assertThatThrownBy(() -> new TomadorBuilder().from(tomador).reset().build()).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> new ColateralBuilder().from(colateral).reset().build()).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> new FiadorBuilder().from(fiador).reset().build()).isInstanceOf(RuntimeException.class);
+    }
+}
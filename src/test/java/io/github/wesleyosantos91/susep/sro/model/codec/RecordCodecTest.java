@@ -0,0 +1,119 @@
+package io.github.wesleyosantos91.susep.sro.model.codec;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistro;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para RecordCodec.
+ */
+@DisplayName("RecordCodec - Codificação binária de records")
+class RecordCodecTest {
+
+    private enum Cor { AZUL, VERDE }
+
+    private record Tipos(String texto, Integer inteiro, int primitivo, Long longo, Short curto, Byte octeto,
+                         Double real, Float flutuante, BigDecimal decimal, LocalDate data, Boolean logico, Cor cor,
+                         List<Integer> numeros, Tipos aninhado) {
+    }
+
+    @Test
+    @DisplayName("Deve codificar e decodificar os agregados do SRO sem perda")
+    void deveFazerIdaEVoltaDosAgregados() {
+        List<Record> agregados = List.of(SroTestData.documento(1, 100), SroTestData.endosso(1, "AP1",
+            SroTestData.DATA_BASE, List.of(SroTestData.segurado(1))), SroTestData.sinistro(1),
+            SroTestData.complAuto(1), SroTestData.ccgGarantia(1),
+            SroTestData.movimentoPremio(1, "AP1", 1, 8, 150.75, SroTestData.DATA_BASE),
+            SroTestData.movimentoSinistro(1, "SIN1", 2, "1234.5600"));
+
+        for (Record agregado : agregados) {
+            assertThat(idaEVolta(agregado)).isEqualTo(agregado);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve preservar nulos, extremos e escala de BigDecimal")
+    void devePreservarNulosEExtremos() {
+        var extremos = new Tipos("ação ✓", Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, Short.MIN_VALUE,
+            Byte.MAX_VALUE, -0.0, Float.NaN, new BigDecimal("123456789012345678901234567890.000"),
+            LocalDate.MIN, Boolean.FALSE, Cor.VERDE, Arrays.asList(1, null, -1), null);
+        var nulos = new Tipos(null, null, 0, null, null, null, null, null, null, null, null, null, null, extremos);
+
+        Tipos decodificado = idaEVolta(nulos);
+
+        assertThat(decodificado).isEqualTo(nulos);
+        assertThat(decodificado.aninhado().decimal().scale()).isEqualTo(3);
+        assertThat(idaEVolta(new Tipos("", 0, 0, Long.MAX_VALUE, null, null, Double.MAX_VALUE, null,
+            new BigDecimal("0.10"), LocalDate.MAX, true, Cor.AZUL, List.of(), null)).decimal())
+            .isEqualTo(new BigDecimal("0.10"));
+    }
+
+    @Test
+    @DisplayName("Deve gerar representação compacta")
+    void deveGerarRepresentacaoCompacta() {
+        MovimentoSinistro movimento = SroTestData.movimentoSinistro(1, "SIN1", 2, "1234.56");
+        byte[] bytes = RecordCodec.of(MovimentoSinistro.class).encode(movimento);
+
+        assertThat(bytes.length).isLessThan(200);
+        assertThat(RecordCodec.of(Documento.class).encode(SroTestData.documento(1, 1000)).length)
+            .isLessThan(1000 * 80);
+    }
+
+    @Test
+    @DisplayName("Deve decodificar vários records em sequência do mesmo buffer")
+    void deveDecodificarSequencia() {
+        RecordCodec<MovimentoPremio> codec = RecordCodec.of(MovimentoPremio.class);
+        var writer = new BinaryWriter(8);
+        for (int i = 1; i <= 50; i++) {
+            codec.encode(SroTestData.movimentoPremio(i, "AP" + i, i, 8, i * 10.5, null), writer);
+        }
+
+        var reader = new BinaryReader(writer.buffer(), 0, writer.size());
+        for (int i = 1; i <= 50; i++) {
+            assertThat(codec.decode(reader)).isEqualTo(SroTestData.movimentoPremio(i, "AP" + i, i, 8, i * 10.5, null));
+        }
+        assertThat(reader.remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve expor esquema estável e distinto por tipo")
+    void deveExporEsquema() {
+        assertThat(RecordCodec.of(Documento.class)).isSameAs(RecordCodec.of(Documento.class));
+        assertThat(RecordCodec.of(Documento.class).schema()).isEqualTo(RecordCodec.of(Documento.class).schema());
+        assertThat(RecordCodec.of(Documento.class).schema()).isNotEqualTo(RecordCodec.of(MovimentoPremio.class).schema());
+        assertThat(RecordCodec.of(Documento.class).type()).isEqualTo(Documento.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar dados truncados, excedentes e tipos não suportados")
+    void deveRejeitarDadosInvalidos() {
+        RecordCodec<MovimentoSinistro> codec = RecordCodec.of(MovimentoSinistro.class);
+        byte[] bytes = codec.encode(SroTestData.movimentoSinistro(1, "SIN1", 2, "10.00"));
+
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(bytes, bytes.length - 3)))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(bytes, bytes.length + 1)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Sobraram");
+        assertThatThrownBy(() -> RecordCodec.of(ComMapa.class)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private record ComMapa(java.util.Map<String, String> mapa) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Record> T idaEVolta(T registro) {
+        RecordCodec<T> codec = RecordCodec.of((Class<T>) registro.getClass());
+        return codec.decode(codec.encode(registro));
+    }
+}
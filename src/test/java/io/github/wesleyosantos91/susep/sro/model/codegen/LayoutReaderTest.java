@@ -0,0 +1,122 @@
+package io.github.wesleyosantos91.susep.sro.model.codegen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para LayoutReader.
+ */
+@DisplayName("LayoutReader - Leitura do leiaute SUSEP a partir da planilha")
+class LayoutReaderTest {
+
+    private static final Path PLANILHA = Path.of("v2-0-0.xlsx");
+
+    private static final List<String> CABECALHO = List.of("Nome do campo", "Descrição", "Cardinalidade", "Tag ",
+        "Tipo do dado", "Formato", "Tamanho", "Condição ", "Observação", "Semântica");
+
+    private static CampoLayout campo(BlocoLayout bloco, String tag) {
+        return bloco.campos().stream().filter(campo -> campo.tag().equals(tag)).findFirst().orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Deve ler as abas de leiaute da planilha publicada, ignorando as demais")
+    void deveLerAbasDeLeiaute() throws IOException {
+        Map<String, BlocoLayout> leiautes = LayoutReader.read(PLANILHA);
+
+        assertThat(leiautes.keySet()).containsExactly(
+            "DOCUMENTO", "ENDOSSO", "MOVIMENTO_PREMIO", "CCG", "MOVIMENTO_SINISTRO", "SINISTRO", "COMPL _AUTO");
+        BlocoLayout premio = leiautes.get("MOVIMENTO_PREMIO");
+        assertThat(premio.tag()).isEqualTo("movimento_premio");
+        assertThat(premio.campos()).extracting(CampoLayout::tag).startsWith("uuid", "anotacao", "codigo_seguradora");
+        assertThat(premio.blocos()).extracting(BlocoLayout::tag).containsExactly("premio_cobertura");
+
+        CampoLayout tipoMovimento = campo(premio, "tipo_movimento");
+        assertThat(tipoMovimento.tipo()).isEqualTo(TipoCampo.INT);
+        assertThat(tipoMovimento.cardinalidade()).isEqualTo(new Cardinalidade(1, 1));
+        assertThat(tipoMovimento.dominio()).first().isEqualTo(1);
+        assertThat(tipoMovimento.dominio()).last().isEqualTo(14);
+        CampoLayout valor = campo(premio, "valor_movimento");
+        assertThat(valor.tamanho()).isEqualTo(16);
+        assertThat(valor.casasDecimais()).isEqualTo(2);
+        assertThat(campo(premio, "data_registro").tamanho()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve aninhar blocos pela coluna Semântica")
+    void deveAninharBlocos() throws IOException {
+        Map<String, BlocoLayout> leiautes = LayoutReader.read(PLANILHA);
+
+        BlocoLayout documento = leiautes.get("DOCUMENTO");
+        assertThat(documento.blocos()).extracting(BlocoLayout::tag).containsExactly("ccg", "segurado",
+            "beneficiario", "tomador", "intermediario", "objeto_segurado", "premio_apolice", "cosseguro");
+        BlocoLayout objeto = documento.bloco("objeto_segurado");
+        assertThat(objeto.blocos()).extracting(BlocoLayout::tag)
+            .containsExactly("cobertura", "objeto_rural", "objeto_patrimonial");
+        assertThat(objeto.bloco("cobertura").cardinalidade()).isEqualTo(new Cardinalidade(1, Cardinalidade.ILIMITADO));
+        assertThat(objeto.bloco("cobertura").blocos()).extracting(BlocoLayout::tag).containsExactly("franquia");
+        assertThat(documento.bloco("premio_apolice").cardinalidade()).isEqualTo(new Cardinalidade(0, 1));
+
+        BlocoLayout auto = leiautes.get("COMPL _AUTO");
+        assertThat(auto.campos().getFirst().tag()).isEqualTo("uuid");
+        assertThat(auto.blocos()).extracting(BlocoLayout::tag).containsExactly("automovel_cobertura_auto", "pessoas_auto");
+        CampoLayout percentual = campo(auto, "percentual_tabela_referencia");
+        assertThat(percentual.tipo()).isEqualTo(TipoCampo.FLOAT);
+        assertThat(percentual.tamanho()).isEqualTo(3);
+        assertThat(percentual.casasDecimais()).isEqualTo(9);
+        assertThat(campo(auto, "tipo").dominio()).containsExactly(1, 2, 3, 4, 5, 6, 99);
+    }
+
+    @Test
+    @DisplayName("Deve tolerar as irregularidades da planilha publicada")
+    void deveTolerarIrregularidades() throws IOException {
+        BlocoLayout cobertura = LayoutReader.read(PLANILHA).get("ENDOSSO").bloco("cobertura");
+
+        assertThat(campo(cobertura, "outras_descricao").tamanho()).isEqualTo(500);
+        assertThat(campo(cobertura, "limite_maximo_indenizacao_sublimite").tipo()).isEqualTo(TipoCampo.INT);
+
+        BlocoLayout raiz = LayoutReader.layout("TESTE", List.of(
+            List.of("Leiaute de teste"),
+            CABECALHO,
+            List.of("Código", "", "[1.1]", "codigo ", "String", "-", "16.199999999999999"),
+            List.of("Grupo / Bloco: Item", "", "1..N", "", "", "", "item", "", "", "Teste \\ Item"),
+            List.of("Quantidade", "", "[0. 1]", "quantidade", "Int", "", "4"),
+            List.of("Grupo / Bloco: Detalhe", "", "[0.N]", "detalhe", "", "", "", "", "", "Teste \\ Item \\ Detalhe"),
+            List.of("Ativo", "", "[0..1]", "ativo", "", "1 - Sim\n2 - Não", "1"),
+            List.of("Grupo / Bloco: Outro", "", "[0..1]", "outro", "", "", "", "", "", "Teste \\ Outro"),
+            List.of("Data", "", "[1..1]", "data", "Date", "AAAA-MM-DD", "-")));
+
+        assertThat(raiz.tag()).isEqualTo("teste");
+        assertThat(campo(raiz, "codigo").tamanho()).isEqualTo(16);
+        assertThat(campo(raiz, "codigo").casasDecimais()).isEqualTo(2);
+        assertThat(raiz.blocos()).extracting(BlocoLayout::tag).containsExactly("item", "outro");
+        assertThat(raiz.bloco("item").cardinalidade()).isEqualTo(new Cardinalidade(1, Cardinalidade.ILIMITADO));
+        assertThat(campo(raiz.bloco("item"), "quantidade").cardinalidade()).isEqualTo(new Cardinalidade(0, 1));
+        assertThat(campo(raiz.bloco("detalhe"), "ativo").dominio()).containsExactly(1, 2);
+        assertThat(campo(raiz.bloco("outro"), "data").tamanho()).isNull();
+        assertThat(LayoutReader.layout("Notas", List.of(List.of("Qualquer", "coisa")))).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar linhas inválidas indicando aba e linha")
+    void deveRejeitarLinhasInvalidas() {
+        assertThatThrownBy(() -> LayoutReader.layout("TESTE", List.of(CABECALHO,
+            List.of("Campo", "", "[1..1]", "campo", "Texto"))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Linha 2")
+            .hasMessageContaining("TESTE")
+            .hasMessageContaining("Texto");
+        assertThatThrownBy(() -> LayoutReader.layout("TESTE", List.of(CABECALHO,
+            List.of("Campo", "", "obrigatório", "campo", "String"))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Cardinalidade inválida");
+        assertThatThrownBy(() -> Cardinalidade.parse("[2..1]")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(Cardinalidade.parse("[0..N]")).hasToString("[0..N]");
+    }
+}
@@ -0,0 +1,307 @@
+package io.github.wesleyosantos91.susep.sro.model.codegen;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryReader;
+import io.github.wesleyosantos91.susep.sro.model.codec.BinaryWriter;
+import io.github.wesleyosantos91.susep.sro.model.codec.RecordCodec;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para SroCodeGenerator.
+ */
+@DisplayName("SroCodeGenerator - Geração de records, validações e codecs a partir da planilha")
+class SroCodeGeneratorTest {
+
+    private static final String PACOTE = "io.github.wesleyosantos91.susep.sro.model.generated";
+    private static final String PACOTE_MODELO = "io.github.wesleyosantos91.susep.sro.model";
+
+    /**
+     * Divergências conhecidas entre os records escritos à mão e os gerados da planilha: componentes
+     * escalares ausentes de um dos lados ou com outro tipo (valores em {@code BigDecimal}, prêmio
+     * por cobertura achatado no movimento e cabeçalho comum ausente de alguns agregados).
+     */
+    private static final Map<String, Set<String>> DIVERGENCIAS = Map.of(
+        "ccg.Ccg", Set.of("uuid", "anotacao", "codigoSeguradora", "dataRegistro", "dataAlteracao",
+            "indicadorExclusao", "identificacao", "dataInicio"),
+        "ccg.Colateral", Set.of("valorAtivoColateral"),
+        "ccg.Tomador", Set.of("limiteAprovado"),
+        "complauto.ComplAuto", Set.of("uuid", "anotacao", "codigoSeguradora", "dataRegistro", "dataAlteracao",
+            "indicadorExclusao", "apoliceCodigo", "certificadoCodigo", "percentualTabelaReferencia",
+            "percentualDescontoBonus"),
+        "complauto.Franquia", Set.of("franquiaValor"),
+        "movimentopremio.MovimentoPremio", Set.of("premioCobertura", "grupoRamo", "codigo",
+            "coberturaInternaSeguradora", "dataInicio", "dataTermino", "limiteMaximoIndenizacao",
+            "limiteMaximoIndenizacaoReal", "valorPremio", "valorPremioReal", "adicionalFracionamento", "iof",
+            "custoAquisicao"),
+        "movimentosinistro.MovimentoSinistro", Set.of("valorMovimento", "valorMovimentoReais"),
+        "sinistro.Sinistro", Set.of("uuid", "anotacao", "codigoSeguradora", "dataRegistro", "dataAlteracao",
+            "indicadorExclusao", "codigoSinistro", "dataEntrega"));
+
+    @TempDir
+    static Path diretorio;
+
+    private static List<Path> fontes;
+    private static URLClassLoader carregador;
+
+    @BeforeAll
+    static void gerarECompilar() throws IOException {
+        fontes = SroCodeGenerator.generate(Path.of("v2-0-0.xlsx"), diretorio.resolve("src"), PACOTE);
+        Path classes = Files.createDirectories(diretorio.resolve("classes"));
+        String classpath;
+        try {
+            classpath = Path.of(RecordCodec.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+
+        List<String> argumentos = new ArrayList<>(List.of("--enable-preview", "--release",
+            String.valueOf(Runtime.version().feature()), "-Xlint:-preview", "-proc:none",
+            "-cp", classpath, "-d", classes.toString()));
+        fontes.forEach(fonte -> argumentos.add(fonte.toString()));
+        JavaCompiler compilador = ToolProvider.getSystemJavaCompiler();
+        var erros = new ByteArrayOutputStream();
+        int resultado = compilador.run(null, null, erros, argumentos.toArray(String[]::new));
+        assertThat(resultado).as(erros.toString()).isZero();
+        carregador = new URLClassLoader(new URL[] {classes.toUri().toURL()},
+            SroCodeGeneratorTest.class.getClassLoader());
+    }
+
+    @AfterAll
+    static void fechar() throws IOException {
+        carregador.close();
+    }
+
+    private static Class<?> classe(String nome) throws ClassNotFoundException {
+        return carregador.loadClass(PACOTE + "." + nome);
+    }
+
+    /**
+     * Instância válida do record gerado, com o mesmo valor de teste em cada componente do tipo.
+     */
+    private static Object instancia(Class<?> tipo, Map<String, Object> valores) throws Exception {
+        RecordComponent[] componentes = tipo.getRecordComponents();
+        Object[] argumentos = new Object[componentes.length];
+        Class<?>[] tipos = new Class<?>[componentes.length];
+        for (int i = 0; i < componentes.length; i++) {
+            tipos[i] = componentes[i].getType();
+            String nome = componentes[i].getName();
+            argumentos[i] = valores.containsKey(nome) ? valores.get(nome) : valor(componentes[i]);
+        }
+        try {
+            return tipo.getDeclaredConstructor(tipos).newInstance(argumentos);
+        } catch (InvocationTargetException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    private static Object valor(RecordComponent componente) throws Exception {
+        Class<?> tipo = componente.getType();
+        if (tipo == String.class) {
+            return "A";
+        }
+        if (tipo == Integer.class) {
+            return 1;
+        }
+        if (tipo == Double.class) {
+            return 1234.56;
+        }
+        if (tipo == Float.class) {
+            return 12.5f;
+        }
+        if (tipo == LocalDate.class) {
+            return SroTestData.DATA_BASE;
+        }
+        if (tipo == List.class) {
+            var elemento = (Class<?>) ((ParameterizedType) componente.getGenericType()).getActualTypeArguments()[0];
+            return List.of(elemento.isRecord() ? instancia(elemento, Map.of()) : "A", elemento.isRecord()
+                ? instancia(elemento, Map.of()) : "B");
+        }
+        return instancia(tipo, Map.of());
+    }
+
+    private static Map<String, Object> nulo(String componente) {
+        Map<String, Object> valores = new HashMap<>();
+        valores.put(componente, null);
+        return valores;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assertCompativelComRecordCodec(String nome) throws Exception {
+        Class<?> tipo = classe(nome);
+        Object registro = instancia(tipo, Map.of());
+        Class<?> codec = classe(nome + "Codec");
+
+        var writer = new BinaryWriter();
+        codec.getMethod("encode", tipo, BinaryWriter.class).invoke(null, registro, writer);
+        byte[] esperado = RecordCodec.of((Class<Record>) tipo).encode((Record) registro);
+
+        assertThat(writer.toByteArray()).as(nome).isEqualTo(esperado);
+        assertThat(codec.getMethod("decode", BinaryReader.class).invoke(null, new BinaryReader(esperado)))
+            .as(nome).isEqualTo(registro);
+    }
+
+    @Test
+    @DisplayName("Deve gerar record e codec por bloco de cada leiaute, em subpacote da aba")
+    void deveGerarFontesPorBloco() {
+        Path raiz = diretorio.resolve("src").resolve(PACOTE.replace('.', '/'));
+
+        assertThat(fontes).contains(
+            raiz.resolve("movimentopremio/MovimentoPremio.java"),
+            raiz.resolve("movimentopremio/MovimentoPremioCodec.java"),
+            raiz.resolve("movimentopremio/PremioCobertura.java"),
+            raiz.resolve("documento/Franquia.java"),
+            raiz.resolve("complauto/ComplAuto.java"),
+            raiz.resolve("complauto/AutomovelCoberturaAutoCodec.java"));
+        assertThat(fontes).hasSize(98).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Deve gerar codecs com os mesmos bytes do RecordCodec")
+    void deveGerarCodecsCompativeis() throws Exception {
+        for (String nome : List.of("movimentopremio.MovimentoPremio", "documento.Documento", "endosso.Endosso",
+                "sinistro.Sinistro", "complauto.ComplAuto", "ccg.Ccg", "movimentosinistro.MovimentoSinistro")) {
+            assertCompativelComRecordCodec(nome);
+        }
+
+        Class<?> tipo = classe("movimentopremio.MovimentoPremio");
+        Object semCoberturas = instancia(tipo, Map.of("premioCobertura", List.of(), "anotacao", "ação"));
+        Class<?> codec = classe("movimentopremio.MovimentoPremioCodec");
+        var writer = new BinaryWriter();
+        codec.getMethod("encode", tipo, BinaryWriter.class).invoke(null, semCoberturas, writer);
+        byte[] bytes = writer.toByteArray();
+        assertThat(codec.getMethod("decode", BinaryReader.class).invoke(null, new BinaryReader(bytes)))
+            .isEqualTo(semCoberturas);
+        var truncado = new BinaryReader(bytes, 0, bytes.length - 1);
+        assertThatThrownBy(() -> codec.getMethod("decode", BinaryReader.class).invoke(null, truncado))
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * @return componentes escalares (nem listas nem blocos) do record, com o tipo de cada um
+     */
+    private static Map<String, Class<?>> escalares(Class<?> tipo) {
+        Map<String, Class<?>> escalares = new HashMap<>();
+        for (RecordComponent componente : tipo.getRecordComponents()) {
+            if (componente.getType() != List.class && !componente.getType().isRecord()) {
+                escalares.put(componente.getName(), componente.getType());
+            }
+        }
+        return escalares;
+    }
+
+    @Test
+    @DisplayName("Deve manter os records escritos à mão conformes aos gerados da planilha")
+    void deveManterRecordsConformesAPlanilha() throws Exception {
+        Path raiz = diretorio.resolve("src").resolve(PACOTE.replace('.', '/'));
+        List<String> comparados = new ArrayList<>();
+        for (Path fonte : fontes) {
+            String nome = raiz.relativize(fonte).toString().replace(".java", "").replace('/', '.');
+            Class<?> gerado = classe(nome);
+            if (!gerado.isRecord()) {
+                continue;
+            }
+            Class<?> escrito;
+            try {
+                escrito = Class.forName(PACOTE_MODELO + "." + nome);
+            } catch (ClassNotFoundException e) {
+                continue;
+            }
+            Map<String, Class<?>> esperados = escalares(gerado);
+            Map<String, Class<?>> atuais = escalares(escrito);
+            Set<String> divergentes = new TreeSet<>(esperados.keySet());
+            divergentes.addAll(atuais.keySet());
+            divergentes.removeIf(componente -> esperados.get(componente) == atuais.get(componente));
+            assertThat(divergentes).as(nome).isEqualTo(DIVERGENCIAS.getOrDefault(nome, Set.of()));
+            comparados.add(nome);
+        }
+        assertThat(comparados).contains("documento.Documento", "endosso.Endosso", "movimentopremio.MovimentoPremio",
+            "movimentosinistro.MovimentoSinistro", "sinistro.Sinistro", "complauto.ComplAuto", "ccg.Ccg");
+        assertThat(comparados).containsAll(DIVERGENCIAS.keySet());
+    }
+
+    @Test
+    @DisplayName("Deve validar obrigatoriedade, tamanho, domínio e dígitos conforme a planilha")
+    void deveValidarConformePlanilha() throws Exception {
+        Class<?> premio = classe("movimentopremio.MovimentoPremio");
+        Class<?> auto = classe("complauto.ComplAuto");
+
+        assertThatThrownBy(() -> instancia(premio, nulo("uuid")))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("Uuid");
+        assertThatThrownBy(() -> instancia(premio, Map.of("moeda", "BRLX")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Moeda");
+        assertThatThrownBy(() -> instancia(premio, Map.of("tipoMovimento", 15)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Tipo do Movimento");
+        assertThatThrownBy(() -> instancia(premio, Map.of("numeroParcelaMovimento", 10_000)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> instancia(premio, Map.of("valorMovimento", 1e16)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("16 dígitos");
+        assertThatThrownBy(() -> instancia(premio, Map.of("valorMovimento", Double.NaN)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(instancia(premio, Map.of("numeroParcelaMovimento", 9_999, "valorMovimento", -9.99e14))).isNotNull();
+
+        assertThat(instancia(auto, Map.of("tipo", 99))).isNotNull();
+        assertThatThrownBy(() -> instancia(auto, Map.of("tipo", 7)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inválido: 7");
+        assertThatThrownBy(() -> instancia(auto, Map.of("automovelCoberturaAuto", List.of())))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("[1..N]");
+        assertThatThrownBy(() -> instancia(auto, Map.of("percentualTabelaReferencia", 1000f)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve regravar apenas arquivos cujo conteúdo mudou")
+    void deveRegravarApenasArquivosAlterados() throws IOException {
+        Path saida = diretorio.resolve("incremental");
+        List<Path> gerados = SroCodeGenerator.generate(Path.of("v2-0-0.xlsx"), saida, "br.teste");
+        FileTime antiga = FileTime.fromMillis(1_000_000L);
+        for (Path arquivo : gerados) {
+            Files.setLastModifiedTime(arquivo, antiga);
+        }
+        Path alterado = gerados.getFirst();
+        Files.writeString(alterado, "// editado à mão");
+
+        assertThat(SroCodeGenerator.generate(Path.of("v2-0-0.xlsx"), saida, "br.teste")).isEqualTo(gerados);
+        assertThat(Files.readString(alterado)).startsWith("package br.teste.documento;");
+        for (Path arquivo : gerados.subList(1, gerados.size())) {
+            assertThat(Files.getLastModifiedTime(arquivo)).isEqualTo(antiga);
+        }
+        assertThatThrownBy(() -> SroCodeGenerator.generate(Path.of("v2-0-0.xlsx"), saida, "Pacote-Inválido"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SroCodeGenerator.main(new String[] {"v2-0-0.xlsx"}))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Uso");
+    }
+}
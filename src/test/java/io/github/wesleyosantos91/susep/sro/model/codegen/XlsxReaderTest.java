@@ -0,0 +1,126 @@
+package io.github.wesleyosantos91.susep.sro.model.codegen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para XlsxReader.
+ */
+@DisplayName("XlsxReader - Leitura de planilhas XLSX sem dependências")
+class XlsxReaderTest {
+
+    private static final String MAIN = "xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"";
+    private static final String RELS = "xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\"";
+
+    private static final String WORKBOOK = """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <workbook %s %s><sheets>
+          <sheet name="LEIAUTE" sheetId="2" r:id="rId2"/>
+          <sheet name="Outra aba" sheetId="1" r:id="rId1"/>
+        </sheets></workbook>""".formatted(MAIN, RELS);
+
+    private static final String WORKBOOK_RELS = """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+          <Relationship Id="rId1" Type="worksheet" Target="worksheets/sheet1.xml"/>
+          <Relationship Id="rId2" Type="worksheet" Target="/xl/worksheets/sheet2.xml"/>
+        </Relationships>""";
+
+    private static final String SHARED_STRINGS = """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <sst %s count="3" uniqueCount="3">
+          <si><t>Nome do campo</t></si>
+          <si><r><t>Grupo / </t></r><r><rPr><b/></rPr><t>Bloco: Cobertura</t></r><rPh><t>fonética</t></rPh></si>
+          <si><t xml:space="preserve">tipo </t></si>
+        </sst>""".formatted(MAIN);
+
+    @TempDir
+    Path diretorio;
+
+    private static Path planilha(Path arquivo, Map<String, String> partes) throws IOException {
+        try (OutputStream saida = Files.newOutputStream(arquivo); var zip = new ZipOutputStream(saida)) {
+            for (Map.Entry<String, String> parte : partes.entrySet()) {
+                zip.putNextEntry(new ZipEntry(parte.getKey()));
+                zip.write(parte.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return arquivo;
+    }
+
+    private static Map<String, String> partes(String aba2) {
+        Map<String, String> partes = new LinkedHashMap<>();
+        partes.put("xl/workbook.xml", WORKBOOK);
+        partes.put("xl/_rels/workbook.xml.rels", WORKBOOK_RELS);
+        partes.put("xl/sharedStrings.xml", SHARED_STRINGS);
+        partes.put("xl/worksheets/sheet1.xml", "<worksheet " + MAIN + "><sheetData/></worksheet>");
+        partes.put("xl/worksheets/sheet2.xml", aba2);
+        return partes;
+    }
+
+    @Test
+    @DisplayName("Deve ler abas na ordem do workbook com textos compartilhados, embutidos e números")
+    void deveLerAbas() throws IOException {
+        String aba = """
+            <worksheet %s><sheetData>
+              <row r="1"><c r="A1" t="s"><v>0</v></c><c r="C1" t="inlineStr"><is><t>Tag</t></is></c></row>
+              <row r="3"><c r="A3" t="s"><v>1</v></c><c r="B3"><v>16.2</v></c><c r="D3" t="s"><v>2</v></c>
+                <c r="E3" t="str"><f>A1</f><v>calculado</v></c></row>
+            </sheetData></worksheet>""".formatted(MAIN);
+
+        Map<String, List<List<String>>> abas = XlsxReader.read(planilha(diretorio.resolve("a.xlsx"), partes(aba)));
+
+        assertThat(abas).containsOnlyKeys("LEIAUTE", "Outra aba");
+        assertThat(abas.keySet()).containsExactly("LEIAUTE", "Outra aba");
+        assertThat(abas.get("Outra aba")).isEmpty();
+        assertThat(abas.get("LEIAUTE")).containsExactly(
+            List.of("Nome do campo", "", "Tag"),
+            List.of(),
+            List.of("Grupo / Bloco: Cobertura", "16.2", "", "tipo ", "calculado"));
+    }
+
+    @Test
+    @DisplayName("Deve converter referências de coluna")
+    void deveConverterColunas() {
+        assertThat(XlsxReader.coluna("A1")).isZero();
+        assertThat(XlsxReader.coluna("Z9")).isEqualTo(25);
+        assertThat(XlsxReader.coluna("AB12")).isEqualTo(27);
+        assertThatThrownBy(() -> XlsxReader.coluna("12")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar planilha sem partes obrigatórias ou com entidades externas")
+    void deveRejeitarPlanilhaInvalida() throws IOException {
+        Map<String, String> semWorkbook = partes("<worksheet " + MAIN + "/>");
+        semWorkbook.remove("xl/workbook.xml");
+        Path incompleta = planilha(diretorio.resolve("incompleta.xlsx"), semWorkbook);
+        assertThatThrownBy(() -> XlsxReader.read(incompleta))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("xl/workbook.xml");
+
+        Path segredo = Files.writeString(diretorio.resolve("segredo.txt"), "conteudo-secreto");
+        String externa = """
+            <?xml version="1.0"?>
+            <!DOCTYPE worksheet [<!ENTITY x SYSTEM "%s">]>
+            <worksheet %s><sheetData><row r="1"><c r="A1" t="inlineStr"><is><t>&x;</t></is></c></row>
+            </sheetData></worksheet>""".formatted(segredo.toUri(), MAIN);
+        Path maliciosa = planilha(diretorio.resolve("maliciosa.xlsx"), partes(externa));
+        assertThatThrownBy(() -> XlsxReader.read(maliciosa)).isInstanceOf(IllegalStateException.class);
+
+        assertThatThrownBy(() -> XlsxReader.read(null)).isInstanceOf(NullPointerException.class);
+    }
+}
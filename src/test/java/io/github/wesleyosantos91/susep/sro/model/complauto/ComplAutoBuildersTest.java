@@ -0,0 +1,60 @@
+package io.github.wesleyosantos91.susep.sro.model.complauto;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para os builders do pacote complauto.
+ */
+@DisplayName("Builders do Complemento Auto")
+class ComplAutoBuildersTest {
+
+    @Test
+    @DisplayName("Deve reconstruir o complemento auto sem copiar as listas")
+    void deveReconstruirComplAuto() {
+        ComplAuto original = SroTestData.complAuto(1);
+
+        ComplAuto copia = new ComplAutoBuilder().from(original).build();
+
+        assertThat(copia).isEqualTo(original);
+        assertThat(copia.coberturaAutomóvels()).isSameAs(original.coberturaAutomóvels());
+    }
+
+    @Test
+    @DisplayName("Deve acumular elementos e reconstruir componentes")
+    void deveAcumularElementos() {
+        ComplAuto original = SroTestData.complAuto(1);
+        CoberturaAutomóvel cobertura = original.coberturaAutomóvels().get(0);
+        Franquia franquia = original.franquias().get(0);
+        PessoasAssociadasCondutor condutor = original.pessoasAssociadasCondutors().get(0);
+
+        ComplAuto complAuto = new ComplAutoBuilder().from(original)
+            .addCoberturaAutomóvel(new CoberturaAutomóvelBuilder().from(cobertura).build())
+            .addFranquia(new FranquiaBuilder().from(franquia).build())
+            .addPessoasAssociadasCondutor(new PessoasAssociadasCondutorBuilder().from(condutor).build())
+            .build();
+
+        assertThat(complAuto.coberturaAutomóvels()).containsExactly(cobertura, cobertura);
+        assertThat(complAuto.franquias()).containsExactly(franquia, franquia);
+        assertThat(complAuto.pessoasAssociadasCondutors()).containsExactly(condutor, condutor);
+    }
+
+    @Test
+    @DisplayName("Deve limpar todos os componentes no reset")
+    void deveLimparComponentes() {
+        ComplAuto original = SroTestData.complAuto(1);
+
+        assertThat(new ComplAutoBuilder().from(original).reset().build().coberturaAutomóvels()).isEqualTo(List.of());
+        assertThat(new PessoasAssociadasCondutorBuilder().from(original.pessoasAssociadasCondutors().get(0)).reset().build())
+            .isEqualTo(new PessoasAssociadasCondutor(null, null, null, null));
+        assertThatThrownBy(() -> new CoberturaAutomóvelBuilder().from(original.coberturaAutomóvels().get(0)).reset().build())
+            .isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> new FranquiaBuilder().from(original.franquias().get(0)).reset().build())
+            .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.wesleyosantos91.susep.sro.model.dedup;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para ScalableBloomFilter.
+ */
+@DisplayName("ScalableBloomFilter - Filtro de Bloom escalável")
+class ScalableBloomFilterTest {
+
+    @TempDir
+    Path diretorio;
+
+    private static long falsosPositivos(ScalableBloomFilter filtro, long inicio, int amostras) {
+        long falsos = 0;
+        for (long n = inicio; n < inicio + amostras; n++) {
+            if (filtro.mightContain(SroTestData.uuid(n))) {
+                falsos++;
+            }
+        }
+        return falsos;
+    }
+
+    @Test
+    @DisplayName("Deve conter todos os inseridos e respeitar a taxa de falsos positivos ao crescer")
+    void deveRespeitarTaxaAoCrescer() {
+        var filtro = ScalableBloomFilter.create(1_000, 0.01);
+        int novos = 0;
+        for (int n = 0; n < 50_000; n++) {
+            novos += filtro.put(SroTestData.uuid(n)) ? 1 : 0;
+        }
+
+        for (int n = 0; n < 50_000; n++) {
+            assertThat(filtro.mightContain(SroTestData.uuid(n))).isTrue();
+        }
+        assertThat(novos).isGreaterThan(49_500);
+        assertThat(filtro.put(SroTestData.uuid(7))).isFalse();
+        assertThat(filtro.stageCount()).isGreaterThan(5);
+        assertThat(filtro.isSaturated()).isFalse();
+        assertThat(filtro.approximateElementCount()).isEqualTo(novos);
+        assertThat(filtro.expectedFalsePositiveRate()).isLessThan(0.01);
+        assertThat(falsosPositivos(filtro, 1_000_000, 100_000)).isLessThan(1_500);
+    }
+
+    @Test
+    @DisplayName("Deve deixar de crescer ao atingir a memória máxima")
+    void deveRespeitarMemoriaMaxima() {
+        var filtro = ScalableBloomFilter.create(1_000, 0.01, 8 * 1024);
+        for (int n = 0; n < 20_000; n++) {
+            filtro.put(SroTestData.uuid(n));
+        }
+
+        assertThat(filtro.isSaturated()).isTrue();
+        assertThat(filtro.memoryBytes()).isLessThanOrEqualTo(8 * 1024);
+        assertThat(filtro.expectedFalsePositiveRate()).isGreaterThan(0.01);
+        for (int n = 0; n < 20_000; n++) {
+            assertThat(filtro.mightContain(SroTestData.uuid(n))).isTrue();
+        }
+        assertThatThrownBy(() -> ScalableBloomFilter.create(1_000_000, 0.01, 1024))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("memória máxima");
+    }
+
+    @Test
+    @DisplayName("Deve gravar e restaurar o estado em disco")
+    void deveGravarERestaurar() throws IOException {
+        var filtro = ScalableBloomFilter.create(500, 0.001);
+        for (int n = 0; n < 5_000; n++) {
+            filtro.put(SroTestData.uuid(n));
+        }
+        Path arquivo = diretorio.resolve("uuids.bloom");
+
+        filtro.snapshot(arquivo);
+        var restaurado = ScalableBloomFilter.restore(arquivo);
+
+        assertThat(restaurado.stageCount()).isEqualTo(filtro.stageCount());
+        assertThat(restaurado.memoryBytes()).isEqualTo(filtro.memoryBytes());
+        assertThat(restaurado.approximateElementCount()).isEqualTo(filtro.approximateElementCount());
+        for (int n = 0; n < 5_000; n++) {
+            assertThat(restaurado.mightContain(SroTestData.uuid(n))).isTrue();
+        }
+        assertThat(falsosPositivos(restaurado, 1_000_000, 10_000)).isEqualTo(falsosPositivos(filtro, 1_000_000, 10_000));
+        assertThat(restaurado.put(SroTestData.uuid(5_000))).isTrue();
+        assertThat(Files.exists(diretorio.resolve("uuids.bloom.tmp"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar snapshot corrompido ou truncado")
+    void deveRejeitarSnapshotInvalido() throws IOException {
+        var filtro = ScalableBloomFilter.create(100, 0.01);
+        filtro.put(SroTestData.uuid(1));
+        Path arquivo = diretorio.resolve("uuids.bloom");
+        filtro.snapshot(arquivo);
+        byte[] bytes = Files.readAllBytes(arquivo);
+
+        bytes[bytes.length / 2] ^= 0x10;
+        Files.write(arquivo, bytes);
+        assertThatThrownBy(() -> ScalableBloomFilter.restore(arquivo))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("snapshot");
+        Files.write(arquivo, Arrays.copyOf(bytes, bytes.length - 6));
+        assertThatThrownBy(() -> ScalableBloomFilter.restore(arquivo)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Deve inserir concorrentemente sem falsos negativos")
+    void deveInserirConcorrentemente() throws Exception {
+        var filtro = ScalableBloomFilter.create(1_000, 0.01);
+        int threads = 4;
+        int porThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                tarefas.add(executor.submit(() -> {
+                    for (int i = 0; i < porThread; i++) {
+                        filtro.put(SroTestData.uuid((long) thread * porThread + i));
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (long n = 0; n < (long) threads * porThread; n++) {
+            assertThat(filtro.mightContain(SroTestData.uuid(n))).isTrue();
+        }
+        assertThat(falsosPositivos(filtro, 1_000_000, 50_000)).isLessThan(750);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar parâmetros inválidos")
+    void deveRejeitarParametrosInvalidos() {
+        assertThatThrownBy(() -> ScalableBloomFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScalableBloomFilter.create(10, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScalableBloomFilter.create(10, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScalableBloomFilter.create(10, Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScalableBloomFilter.create(10, 0.01).put(null)).isInstanceOf(NullPointerException.class);
+    }
+}
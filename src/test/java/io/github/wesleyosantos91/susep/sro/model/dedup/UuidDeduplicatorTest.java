@@ -0,0 +1,128 @@
+package io.github.wesleyosantos91.susep.sro.model.dedup;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para UuidDeduplicator.
+ */
+@DisplayName("UuidDeduplicator - Deduplicação de uuids reenviados")
+class UuidDeduplicatorTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve aceitar novos e rejeitar reenvios consultando a verificação exata só em acertos prováveis")
+    void deveRejeitarReenvios() {
+        Set<String> aceitos = ConcurrentHashMap.newKeySet();
+        var consultas = new LongAdder();
+        var deduplicador = new UuidDeduplicator(ScalableBloomFilter.create(1_000, 0.01), uuid -> {
+            consultas.increment();
+            return aceitos.contains(uuid);
+        });
+
+        for (int n = 0; n < 20_000; n++) {
+            MovimentoPremio movimento = SroTestData.movimentoPremio(n, "AP1", 1, 8, 10.0, SroTestData.DATA_BASE);
+            if (deduplicador.firstSeen(movimento.uuid())) {
+                aceitos.add(movimento.uuid());
+            }
+        }
+        for (int n = 0; n < 20_000; n += 10) {
+            assertThat(deduplicador.firstSeen(SroTestData.movimentoPremio(n, "AP1", 1, 8, 10.0, null).uuid())).isFalse();
+        }
+
+        DedupStats stats = deduplicador.stats();
+        assertThat(aceitos).hasSize(20_000);
+        assertThat(stats.checked()).isEqualTo(22_000);
+        assertThat(stats.duplicates()).isEqualTo(2_000);
+        assertThat(stats.definitelyNew() + stats.falsePositives()).isEqualTo(20_000);
+        assertThat(stats.probableHits()).isEqualTo(consultas.sum()).isEqualTo(stats.duplicates() + stats.falsePositives());
+        assertThat(stats.observedFalsePositiveRate()).isLessThan(0.01);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar falso positivo não confirmado pela verificação exata")
+    void deveAceitarFalsoPositivo() {
+        var deduplicador = new UuidDeduplicator(ScalableBloomFilter.create(10, 0.01), uuid -> false);
+
+        assertThat(deduplicador.firstSeen("uuid-1")).isTrue();
+        assertThat(deduplicador.firstSeen("uuid-1")).isTrue();
+
+        assertThat(deduplicador.stats()).isEqualTo(new DedupStats(2, 1, 1, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar exatamente um entre reenvios simultâneos")
+    void deveAceitarUmEntreReenviosSimultaneos() throws Exception {
+        Set<String> aceitos = ConcurrentHashMap.newKeySet();
+        var deduplicador = new UuidDeduplicator(ScalableBloomFilter.create(1_000, 0.01), aceitos::contains);
+        var aceitacoes = new AtomicInteger();
+        int threads = 4;
+        var inicio = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tarefas.add(executor.submit(() -> {
+                    inicio.await();
+                    for (int n = 0; n < 5_000; n++) {
+                        String uuid = SroTestData.uuid(n);
+                        if (deduplicador.firstSeen(uuid, aceitos::add)) {
+                            aceitacoes.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            inicio.countDown();
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(aceitacoes).hasValue(5_000);
+        assertThat(deduplicador.stats().duplicates()).isEqualTo(3L * 5_000);
+    }
+
+    @Test
+    @DisplayName("Deve continuar deduplicando após restaurar o filtro de disco")
+    void deveDeduplicarAposRestaurar() throws Exception {
+        Set<String> aceitos = ConcurrentHashMap.newKeySet();
+        var deduplicador = new UuidDeduplicator(ScalableBloomFilter.create(1_000, 0.01), aceitos::contains);
+        for (int n = 0; n < 3_000; n++) {
+            if (deduplicador.firstSeen(SroTestData.uuid(n))) {
+                aceitos.add(SroTestData.uuid(n));
+            }
+        }
+        Path arquivo = diretorio.resolve("dedup.bloom");
+        deduplicador.filter().snapshot(arquivo);
+
+        var restaurado = new UuidDeduplicator(ScalableBloomFilter.restore(arquivo), aceitos::contains);
+
+        assertThat(restaurado.firstSeen(SroTestData.uuid(1_234))).isFalse();
+        assertThat(restaurado.firstSeen(SroTestData.uuid(3_000))).isTrue();
+        assertThatThrownBy(() -> new UuidDeduplicator(restaurado.filter(), aceitos::contains, 3))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new UuidDeduplicator(null, aceitos::contains)).isInstanceOf(NullPointerException.class);
+    }
+}
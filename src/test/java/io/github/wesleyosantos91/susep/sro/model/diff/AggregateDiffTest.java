@@ -0,0 +1,114 @@
+package io.github.wesleyosantos91.susep.sro.model.diff;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.PremioApolice;
+import io.github.wesleyosantos91.susep.sro.model.documento.Segurado;
+import io.github.wesleyosantos91.susep.sro.model.endosso.Endosso;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.github.wesleyosantos91.susep.sro.model.SroTestData.com;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para AggregateDiff.
+ */
+@DisplayName("AggregateDiff - Diff por campo entre versões de um agregado")
+class AggregateDiffTest {
+
+    private static final AggregateDiff DIFF = AggregateDiff.sro();
+
+    @Test
+    @DisplayName("Deve identificar alteração de campo escalar e de bloco aninhado")
+    void deveIdentificarAlteracaoEscalar() {
+        Documento antes = SroTestData.documento(1, 3);
+        Documento depois = com(com(antes, "limiteMaximoGarantia", 150_000.0),
+            "premioApolice", new PremioApolice(5500.0, 5500.0, 0.0, 369.0, 12));
+
+        ChangeSet alteracoes = DIFF.diff(antes, depois);
+
+        assertThat(alteracoes.changes()).containsExactly(
+            new FieldChange("limiteMaximoGarantia", ChangeKind.MODIFIED, 100_000.0, 150_000.0),
+            new FieldChange("premioApolice.valorTotal", ChangeKind.MODIFIED, 5000.0, 5500.0),
+            new FieldChange("premioApolice.valorTotalReal", ChangeKind.MODIFIED, 5000.0, 5500.0));
+        assertThat(alteracoes.under("premioApolice")).hasSize(2);
+        assertThat(alteracoes.under("premio")).isEmpty();
+        assertThat(alteracoes.changes().getFirst()).hasToString("~ limiteMaximoGarantia: 100000.0 -> 150000.0");
+        assertThat(alteracoes.before()).isNotEqualTo(alteracoes.after());
+    }
+
+    @Test
+    @DisplayName("Deve parear segurados pelo documento e ignorar a ordem")
+    void deveParearPelaChaveNatural() {
+        Documento antes = SroTestData.documento(2, 4);
+        List<Segurado> vidas = new ArrayList<>(antes.segurados());
+        Segurado alterado = com(vidas.get(1), "nome", "Novo nome");
+        Segurado removido = vidas.remove(3);
+        Segurado incluido = SroTestData.segurado(99);
+        vidas.set(1, alterado);
+        vidas.add(incluido);
+        Collections.reverse(vidas);
+
+        ChangeSet alteracoes = DIFF.diff(antes, com(antes, "segurados", vidas));
+
+        assertThat(alteracoes.changes()).containsExactlyInAnyOrder(
+            new FieldChange("segurados[" + alterado.documento() + "].nome", ChangeKind.MODIFIED,
+                antes.segurados().get(1).nome(), "Novo nome"),
+            new FieldChange("segurados[" + removido.documento() + "]", ChangeKind.REMOVED, removido, null),
+            new FieldChange("segurados[" + incluido.documento() + "]", ChangeKind.ADDED, null, incluido));
+
+        List<Segurado> reordenados = new ArrayList<>(antes.segurados());
+        Collections.reverse(reordenados);
+        assertThat(DIFF.diff(antes, com(antes, "segurados", reordenados)).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve tratar reenvio apenas com nova dataAlteracao como sem alteração")
+    void deveIgnorarDataAlteracao() {
+        Documento antes = SroTestData.documento(3, 5);
+        Documento reenvio = SroTestData.documento(3, "APOLICE-3", SroTestData.DATA_BASE.plusDays(10), 5);
+
+        AggregateSnapshot<Documento> vigente = DIFF.snapshot(antes);
+        AggregateSnapshot<Documento> novo = DIFF.snapshot(reenvio);
+
+        assertThat(vigente.fingerprint()).isEqualTo(novo.fingerprint());
+        assertThat(vigente).isEqualTo(novo);
+        assertThat(DIFF.diff(vigente, novo).isEmpty()).isTrue();
+
+        AggregateDiff estrito = AggregateDiff.builder().build();
+        assertThat(estrito.diff(antes, reenvio).changes()).containsExactly(new FieldChange("dataAlteracao",
+            ChangeKind.MODIFIED, SroTestData.DATA_BASE, SroTestData.DATA_BASE.plusDays(10)));
+        assertThatThrownBy(() -> estrito.diff(vigente, novo))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("outro AggregateDiff");
+    }
+
+    @Test
+    @DisplayName("Deve parear pela posição listas sem chave e validar a configuração")
+    void deveParearPelaPosicao() {
+        Endosso antes = SroTestData.endosso(4, "APOLICE-4", SroTestData.DATA_BASE,
+            List.of(SroTestData.segurado(1), SroTestData.segurado(2)));
+        Endosso depois = com(antes, "segurados", List.of(SroTestData.segurado(1), SroTestData.segurado(3),
+            SroTestData.segurado(4)));
+        AggregateDiff semChaves = AggregateDiff.builder().ignore(Endosso.class, "dataAlteracao").build();
+
+        ChangeSet alteracoes = semChaves.diff(antes, depois);
+
+        assertThat(alteracoes.paths()).contains("segurados[1].documento", "segurados[1].nome", "segurados[2]")
+            .allMatch(caminho -> caminho.startsWith("segurados[1].") || caminho.equals("segurados[2]"));
+        assertThat(DIFF.diff(antes, depois).paths()).containsExactlyInAnyOrder(
+            "segurados[" + SroTestData.segurado(2).documento() + "]",
+            "segurados[" + SroTestData.segurado(3).documento() + "]",
+            "segurados[" + SroTestData.segurado(4).documento() + "]");
+
+        assertThatThrownBy(() -> AggregateDiff.builder().ignore(Documento.class, "inexistente"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inexistente");
+        assertThatThrownBy(() -> DIFF.diff(antes, null)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.wesleyosantos91.susep.sro.model.documento;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para os builders do pacote documento.
+ */
+@DisplayName("Builders do Documento")
+class DocumentoBuildersTest {
+
+    @Test
+    @DisplayName("Deve reconstruir o documento a partir de um registro existente")
+    void deveReconstruirDocumento() {
+        Documento original = SroTestData.documento(1, 3);
+
+        Documento copia = new DocumentoBuilder().from(original).build();
+
+        assertThat(copia).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("Deve repassar listas imutáveis sem nova cópia")
+    void deveRepassarListasSemCopia() {
+        Documento original = SroTestData.documento(1, 5000);
+
+        Documento copia = new DocumentoBuilder().from(original).build();
+
+        assertThat(copia.segurados()).isSameAs(original.segurados());
+        assertThat(copia.ccgs()).isSameAs(original.ccgs());
+        assertThat(copia.objetosSegurados()).isSameAs(original.objetosSegurados());
+    }
+
+    @Test
+    @DisplayName("Deve acumular elementos em lista imutável única")
+    void deveAcumularElementos() {
+        Documento original = SroTestData.documento(2, 0);
+        DocumentoBuilder builder = new DocumentoBuilder().from(original)
+            .segurados(null)
+            .addSegurado(SroTestData.segurado(1))
+            .addSegurado(SroTestData.segurado(2))
+            .addCcg(SroTestData.ccg(9))
+            .addBeneficiario(SroTestData.beneficiario(9))
+            .addTomador(SroTestData.tomador(9))
+            .addIntermediario(SroTestData.intermediario(9))
+            .addObjetoSegurado(SroTestData.objetoSegurado(9));
+
+        Documento documento = builder.build();
+
+        assertThat(documento.segurados()).containsExactly(SroTestData.segurado(1), SroTestData.segurado(2));
+        assertThat(documento.ccgs()).containsExactly(SroTestData.ccg(2), SroTestData.ccg(9));
+        assertThat(documento.beneficiarios()).hasSize(2);
+        assertThat(documento.tomadores()).hasSize(2);
+        assertThat(documento.intermediarios()).hasSize(2);
+        assertThat(documento.objetosSegurados()).hasSize(2);
+        assertThatThrownBy(() -> documento.segurados().add(SroTestData.segurado(3)))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(new DocumentoBuilder().from(documento).build().segurados()).isSameAs(documento.segurados());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar elemento nulo ao acumular")
+    void deveRejeitarElementoNulo() {
+        assertThatThrownBy(() -> new DocumentoBuilder().addSegurado(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("Deve permitir reutilização após reset")
+    void devePermitirReutilizacao() {
+        DocumentoBuilder builder = new DocumentoBuilder().from(SroTestData.documento(1, 2));
+        builder.reset();
+
+        assertThatThrownBy(builder::build).isInstanceOf(NullPointerException.class);
+
+        Documento segundo = builder.from(SroTestData.documento(2, 1)).build();
+        assertThat(segundo).isEqualTo(SroTestData.documento(2, 1));
+    }
+
+    @Test
+    @DisplayName("Deve copiar uma única vez listas mutáveis atribuídas")
+    void deveCopiarListaMutavelUmaVez() {
+        List<Segurado> mutavel = new ArrayList<>(List.of(SroTestData.segurado(1)));
+
+        Documento documento = new DocumentoBuilder().from(SroTestData.documento(1, 0)).segurados(mutavel).build();
+        mutavel.add(SroTestData.segurado(2));
+
+        assertThat(documento.segurados()).containsExactly(SroTestData.segurado(1));
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir todos os componentes do documento")
+    void deveReconstruirComponentes() {
+        var beneficiariosPorCobertura = new BeneficiariosPorCobertura("%050d".formatted(1), "0531", "%050d".formatted(2));
+        var cessionaria = new CessionariasCosseguro("54321", 30.0f);
+        var cobertura = new Cobertura("0101", 100, null, "COD-INTERNO-001", "15414.999999/9999-99", 100000.00,
+            550000.00, 2, LocalDate.now(), LocalDate.now().plusMonths(12), 1, 1, 1, 3, 5000.00, 27500.00, 350.00,
+            250.00, 1375.00);
+        var franquia = new Franquia(99, "Outra", 500.0, "Franquia");
+        var patrimonial = new ObjetoPatrimonial(1, 2, "01310100", "1234567");
+        var rural = new ObjetoRural(1, 10.0, "F", 100.0, 1, "SOJA", 1, 1, "SP", "01310100", "BRA", 1, 1, 5.0f);
+        var premio = new PremioApolice(5000.0, 5000.0, 0.0, 369.0, 12);
+
+        assertThat(new BeneficiarioBuilder().from(SroTestData.beneficiario(1)).build()).isEqualTo(SroTestData.beneficiario(1));
+        assertThat(new BeneficiariosPorCoberturaBuilder().from(beneficiariosPorCobertura).build()).isEqualTo(beneficiariosPorCobertura);
+        assertThat(new CcgBuilder().from(SroTestData.ccg(1)).build()).isEqualTo(SroTestData.ccg(1));
+        assertThat(new CessionariasCosseguroBuilder().from(cessionaria).build()).isEqualTo(cessionaria);
+        assertThat(new CoberturaBuilder().from(cobertura).build()).isEqualTo(cobertura);
+        assertThat(new CosseguroBuilder().from(new Cosseguro(50.0f)).build()).isEqualTo(new Cosseguro(50.0f));
+        assertThat(new FranquiaBuilder().from(franquia).build()).isEqualTo(franquia);
+        assertThat(new IntermediarioBuilder().from(SroTestData.intermediario(1)).build()).isEqualTo(SroTestData.intermediario(1));
+        assertThat(new ObjetoPatrimonialBuilder().from(patrimonial).build()).isEqualTo(patrimonial);
+        assertThat(new ObjetoRuralBuilder().from(rural).build()).isEqualTo(rural);
+        assertThat(new ObjetoSeguradoBuilder().from(SroTestData.objetoSegurado(1)).build()).isEqualTo(SroTestData.objetoSegurado(1));
+        assertThat(new PremioApoliceBuilder().from(premio).build()).isEqualTo(premio);
+        assertThat(new SeguradoBuilder().from(SroTestData.segurado(1)).build()).isEqualTo(SroTestData.segurado(1));
+        assertThat(new TomadorBuilder().from(SroTestData.tomador(1)).build()).isEqualTo(SroTestData.tomador(1));
+    }
+
+    @Test
+    @DisplayName("Deve limpar todos os componentes no reset")
+    void deveLimparComponentes() {
+        var rural = new ObjetoRural(1, 10.0, "F", 100.0, 1, "SOJA", 1, 1, "SP", "01310100", "BRA", 1, 1, 5.0f);
+
+        assertThat(new ObjetoRuralBuilder().from(rural).reset().build())
+            .isEqualTo(new ObjetoRural(null, null, null, null, null, null, null, null, null, null, null, null, null, null));
+        assertThat(new ObjetoPatrimonialBuilder().from(new ObjetoPatrimonial(1, 2, "01310100", "1234567")).reset().build())
+            .isEqualTo(new ObjetoPatrimonial(null, null, null, null));
+        assertThatThrownBy(() -> new SeguradoBuilder().from(SroTestData.segurado(1)).reset().build())
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new BeneficiarioBuilder().from(SroTestData.beneficiario(1)).reset().build())
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new TomadorBuilder().from(SroTestData.tomador(1)).reset().build())
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new IntermediarioBuilder().from(SroTestData.intermediario(1)).reset().build())
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new ObjetoSeguradoBuilder().from(SroTestData.objetoSegurado(1)).reset().build())
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new CcgBuilder().from(SroTestData.ccg(1)).reset().build())
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new CosseguroBuilder().from(new Cosseguro(50.0f)).reset().build())
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new PremioApoliceBuilder().from(new PremioApolice(1.0, 1.0, null, null, 1)).reset().build())
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new FranquiaBuilder().from(new Franquia(1, null, null, null)).reset().build())
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new CessionariasCosseguroBuilder().from(new CessionariasCosseguro("54321", 1.0f)).reset().build())
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new BeneficiariosPorCoberturaBuilder()
+                .from(new BeneficiariosPorCobertura("%050d".formatted(1), "0531", "%050d".formatted(2))).reset().build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CoberturaBuilder().grupoRamo("0101").reset().build())
+            .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.wesleyosantos91.susep.sro.model.endosso;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.documento.Segurado;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para os builders do pacote endosso.
+ */
+@DisplayName("Builders do Endosso")
+class EndossoBuildersTest {
+
+    private static Endosso endosso() {
+        return SroTestData.endosso(1, "APOLICE-1", SroTestData.DATA_BASE, List.of(SroTestData.segurado(1)));
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o endosso sem copiar as listas")
+    void deveReconstruirEndosso() {
+        Endosso original = endosso();
+
+        Endosso copia = new EndossoBuilder().from(original).build();
+
+        assertThat(copia).isEqualTo(original);
+        assertThat(copia.segurados()).isSameAs(original.segurados());
+        assertThat(copia.endossosAssociados()).isSameAs(original.endossosAssociados());
+    }
+
+    @Test
+    @DisplayName("Deve acumular elementos de todas as listas")
+    void deveAcumularElementos() {
+        Endosso endosso = new EndossoBuilder().from(endosso())
+            .addEndossoAssociado(new EndossoAssociado("END-2"))
+            .addCcg(SroTestData.ccg(2))
+            .addSegurado(SroTestData.segurado(2))
+            .addBeneficiario(SroTestData.beneficiario(2))
+            .addTomador(SroTestData.tomador(2))
+            .addIntermediario(SroTestData.intermediario(2))
+            .addObjetoSegurado(SroTestData.objetoSegurado(2))
+            .build();
+
+        assertThat(endosso.endossosAssociados()).extracting(EndossoAssociado::endossoAssociadoCodigo)
+            .containsExactly("END-ANT-1", "END-2");
+        assertThat(endosso.segurados()).extracting(Segurado::nome).containsExactly("Segurado 1", "Segurado 2");
+        assertThat(endosso.ccgs()).hasSize(2);
+        assertThat(endosso.beneficiarios()).hasSize(2);
+        assertThat(endosso.tomadores()).hasSize(2);
+        assertThat(endosso.intermediarios()).hasSize(2);
+        assertThat(endosso.objetosSegurados()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Deve permitir reutilização após reset")
+    void devePermitirReutilizacao() {
+        EndossoBuilder builder = new EndossoBuilder().from(endosso());
+
+        assertThatThrownBy(() -> builder.reset().build()).isInstanceOf(NullPointerException.class);
+        assertThat(builder.from(endosso()).build()).isEqualTo(endosso());
+        assertThatThrownBy(() -> new EndossoAssociadoBuilder().from(new EndossoAssociado("END-1")).reset().build())
+            .isInstanceOf(RuntimeException.class);
+        assertThat(new EndossoAssociadoBuilder().from(new EndossoAssociado("END-1")).build())
+            .isEqualTo(new EndossoAssociado("END-1"));
+    }
+}
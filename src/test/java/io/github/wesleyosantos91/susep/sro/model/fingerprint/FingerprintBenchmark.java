@@ -0,0 +1,95 @@
+package io.github.wesleyosantos91.susep.sro.model.fingerprint;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.codec.RecordCodec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compara o {@link Fingerprinter} (uma passagem pelos componentes) com a alternativa de serializar
+ * o record pelo {@link RecordCodec} e calcular o hash dos bytes.
+ *
+ * <p>Medição simples com aquecimento, sem JMH: serve para comparar as duas estratégias na mesma
+ * máquina, não como número absoluto. Executar com {@code main} (argumentos opcionais: quantidade
+ * de segurados por documento e iterações).</p>
+ *
+ * <p>Utilitário de escopo de teste; não faz parte do artefato publicado.</p>
+ */
+public final class FingerprintBenchmark {
+
+    private static final long SEED = 0x5352_4f5f_4650_0002L;
+
+    private FingerprintBenchmark() {
+        throw new AssertionError("Classe utilitária não deve ser instanciada");
+    }
+
+    /**
+     * Resultado de uma estratégia.
+     *
+     * @param name           nome da estratégia
+     * @param nanosPerRecord tempo médio por record
+     * @param checksum       combinação dos hashes, para impedir a eliminação do cálculo
+     */
+    public record Result(String name, double nanosPerRecord, long checksum) {
+
+        @Override
+        public String toString() {
+            return String.format("%-22s %12.1f ns/record", name, nanosPerRecord);
+        }
+    }
+
+    /**
+     * Hash de 128 bits dos bytes do {@link RecordCodec}: a alternativa medida.
+     */
+    @SuppressWarnings("unchecked")
+    public static Fingerprint serializedHash(Record registro) {
+        byte[] bytes = RecordCodec.of((Class<Record>) registro.getClass()).encode(registro);
+        return new Hasher128(SEED).putBytes(bytes).finish();
+    }
+
+    /**
+     * Mede as duas estratégias sobre os mesmos records.
+     *
+     * @param registros  records medidos
+     * @param iteracoes  passagens medidas (precedidas do mesmo número de passagens de aquecimento)
+     * @return resultado do {@link Fingerprinter} e do hash dos bytes serializados, nessa ordem
+     */
+    public static List<Result> run(List<? extends Record> registros, int iteracoes) {
+        Objects.requireNonNull(registros, "Registros são obrigatórios");
+        if (registros.isEmpty() || iteracoes <= 0) {
+            throw new IllegalArgumentException("Registros e iterações devem ser informados");
+        }
+        medir("aquecimento", registros, iteracoes, true);
+        medir("aquecimento", registros, iteracoes, false);
+        return List.of(medir("Fingerprinter", registros, iteracoes, true),
+            medir("RecordCodec + hash", registros, iteracoes, false));
+    }
+
+    private static Result medir(String nome, List<? extends Record> registros, int iteracoes, boolean direto) {
+        long checksum = 0;
+        long inicio = System.nanoTime();
+        for (int i = 0; i < iteracoes; i++) {
+            for (Record registro : registros) {
+                Fingerprint fingerprint = direto ? Fingerprinter.fingerprint(registro) : serializedHash(registro);
+                checksum += fingerprint.high() ^ fingerprint.low();
+            }
+        }
+        double nanos = (double) (System.nanoTime() - inicio) / ((long) iteracoes * registros.size());
+        return new Result(nome, nanos, checksum);
+    }
+
+    public static void main(String[] args) {
+        int segurados = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int iteracoes = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        List<Record> registros = new ArrayList<>();
+        for (int n = 1; n <= 50; n++) {
+            registros.add(SroTestData.documento(n, segurados));
+            registros.add(SroTestData.movimentoPremio(n, "APOLICE-" + n, 1, 1, 150.0 * n, SroTestData.DATA_BASE));
+        }
+        System.out.println("Documentos com " + segurados + " segurados e movimentos de prêmio, " + iteracoes
+            + " iterações");
+        run(registros, iteracoes).forEach(System.out::println);
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.wesleyosantos91.susep.sro.model.fingerprint;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.DocumentoBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para Fingerprinted.
+ */
+@DisplayName("Fingerprinted - Agregado com impressão digital")
+class FingerprintedTest {
+
+    @Test
+    @DisplayName("Deve deduplicar agregados iguais em conjunto")
+    void deveDeduplicarAgregadosIguais() {
+        Set<Fingerprinted<Documento>> conjunto = new HashSet<>();
+
+        assertThat(conjunto.add(Fingerprinted.of(SroTestData.documento(1, 5000)))).isTrue();
+        assertThat(conjunto.add(Fingerprinted.of(SroTestData.documento(1, 5000)))).isFalse();
+        assertThat(conjunto.add(Fingerprinted.of(SroTestData.documento(2, 5000)))).isTrue();
+        assertThat(conjunto).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Deve comparar pela impressão digital calculada uma única vez")
+    void deveCompararPelaImpressaoDigital() {
+        Documento documento = SroTestData.documento(1, 10);
+        var envolvido = Fingerprinted.of(documento);
+
+        assertThat(envolvido.value()).isSameAs(documento);
+        assertThat(envolvido.fingerprint()).isEqualTo(Fingerprinter.fingerprint(documento));
+        assertThat(envolvido).isEqualTo(Fingerprinted.of(SroTestData.documento(1, 10)))
+            .hasSameHashCodeAs(Fingerprinted.of(SroTestData.documento(1, 10)))
+            .isNotEqualTo(documento)
+            .isNotEqualTo(null);
+    }
+
+    @Test
+    @DisplayName("Deve detectar mudança entre versões do agregado")
+    void deveDetectarMudanca() {
+        Documento original = SroTestData.documento(1, 10);
+        var anterior = Fingerprinted.of(original);
+        var semMudanca = Fingerprinted.of(new DocumentoBuilder().from(original).build());
+        var alterado = Fingerprinted.of(new DocumentoBuilder().from(original).limiteMaximoGarantia(1.0).build());
+
+        assertThat(semMudanca.changedFrom(anterior)).isFalse();
+        assertThat(alterado.changedFrom(anterior)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valores nulos")
+    void deveRejeitarNulos() {
+        assertThatThrownBy(() -> Fingerprinted.of(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new Fingerprinted<>(SroTestData.sinistro(1), null))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> Fingerprinted.of(SroTestData.sinistro(1)).changedFrom(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.wesleyosantos91.susep.sro.model.fingerprint;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.DocumentoBuilder;
+import io.github.wesleyosantos91.susep.sro.model.documento.Segurado;
+import io.github.wesleyosantos91.susep.sro.model.documento.SeguradoBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para Fingerprinter e Fingerprint.
+ */
+@DisplayName("Fingerprinter - Impressão digital de conteúdo")
+class FingerprinterTest {
+
+    private record Par(String a, String b) {
+    }
+
+    private record OutroPar(String a, String b) {
+    }
+
+    @Test
+    @DisplayName("Deve gerar a mesma impressão digital para conteúdos iguais")
+    void deveGerarMesmaImpressaoParaConteudosIguais() {
+        Documento a = SroTestData.documento(1, 500);
+        Documento b = SroTestData.documento(1, 500);
+
+        assertThat(a).isNotSameAs(b).isEqualTo(b);
+        assertThat(Fingerprinter.fingerprint(a)).isEqualTo(Fingerprinter.fingerprint(b));
+    }
+
+    @Test
+    @DisplayName("Deve detectar mudança em elemento aninhado de lista")
+    void deveDetectarMudancaAninhada() {
+        Documento original = SroTestData.documento(1, 500);
+        List<Segurado> segurados = new ArrayList<>(original.segurados());
+        segurados.set(250, new SeguradoBuilder().from(segurados.get(250)).nome("Outro nome").build());
+        Documento alterado = new DocumentoBuilder().from(original).segurados(segurados).build();
+
+        assertThat(Fingerprinter.fingerprint(alterado)).isNotEqualTo(Fingerprinter.fingerprint(original));
+    }
+
+    @Test
+    @DisplayName("Deve seguir a semântica de equals dos records")
+    void deveSeguirSemanticaDeEquals() {
+        assertThat(Fingerprinter.fingerprint(List.of("a", "b"))).isNotEqualTo(Fingerprinter.fingerprint(List.of("b", "a")));
+        assertThat(Fingerprinter.fingerprint(new BigDecimal("1.0")))
+            .isNotEqualTo(Fingerprinter.fingerprint(new BigDecimal("1.00")));
+        assertThat(Fingerprinter.fingerprint(null)).isNotEqualTo(Fingerprinter.fingerprint(List.of()));
+        assertThat(Fingerprinter.fingerprint(new Par("ab", "c"))).isNotEqualTo(Fingerprinter.fingerprint(new Par("a", "bc")));
+        assertThat(Fingerprinter.fingerprint(new Par("a", "b"))).isNotEqualTo(Fingerprinter.fingerprint(new OutroPar("a", "b")));
+        assertThat(Fingerprinter.fingerprint(1)).isNotEqualTo(Fingerprinter.fingerprint(1L));
+        assertThat(Fingerprinter.fingerprint(new BigDecimal("123456789012345678901234567890.5")))
+            .isEqualTo(Fingerprinter.fingerprint(new BigDecimal("123456789012345678901234567890.5")))
+            .isNotEqualTo(Fingerprinter.fingerprint(new BigDecimal("123456789012345678901234567890.6")));
+    }
+
+    @Test
+    @DisplayName("Deve suportar os tipos simples do modelo")
+    void deveSuportarTiposSimples() {
+        List<Object> valores = List.of("texto", "", 1, 1L, 1.0, 1.0f, (short) 1, (byte) 1, 'a', true, false,
+            LocalDate.of(2024, 1, 1), BigDecimal.ONE, Thread.State.NEW, List.of(1), new Par(null, null));
+        Set<Fingerprint> distintos = new HashSet<>();
+        for (Object valor : valores) {
+            distintos.add(Fingerprinter.fingerprint(valor));
+        }
+
+        assertThat(distintos).hasSize(valores.size());
+    }
+
+    @Test
+    @DisplayName("Deve produzir valor estável entre execuções")
+    void deveProduzirValorEstavel() {
+        Fingerprint fingerprint = Fingerprinter.fingerprint(new Par("SUSEP", "SRO"));
+
+        assertThat(fingerprint).isEqualTo(Fingerprinter.fingerprint(new Par("SUSEP", "SRO")));
+        assertThat(Fingerprint.fromHex(fingerprint.toHex())).isEqualTo(fingerprint);
+        assertThat(fingerprint.toString()).hasSize(32).isEqualTo(fingerprint.toHex());
+        assertThat(Fingerprinter.fingerprint("SRO").toHex()).isEqualTo("dc2fab99a2583d4b684886b2ef29a2c3");
+        assertThat(Fingerprinter.fingerprint(List.of(1L, "SUSEP", LocalDate.of(2024, 1, 15), new BigDecimal("1500.25"))))
+            .isEqualTo(Fingerprint.fromHex("fdeefabaa8394ad916313ef680880b28"));
+    }
+
+    @Test
+    @DisplayName("Deve manter o valor canônico de agregados do modelo e gravá-lo em 16 bytes")
+    void deveManterValorCanonicoDosAgregados() {
+        Fingerprint documento = Fingerprinter.fingerprint(SroTestData.documento(1, 3));
+
+        assertThat(documento.toHex()).isEqualTo("d4177bb0ba716c2c9159259f06cf5380");
+        assertThat(Fingerprinter.fingerprint(SroTestData.movimentoPremio(1, "APOLICE-1", 1, 1, 150.0,
+            SroTestData.DATA_BASE)).toHex()).isEqualTo("6850800389dc35125d5f3c09b876590d");
+        assertThat(Fingerprinter.fingerprint(SroTestData.sinistro(1)).toHex())
+            .isEqualTo("a6153a9f4793f6b0c89923a3fc797f19");
+        assertThat(documento.toByteArray()).hasSize(16).startsWith((byte) 0xd4, (byte) 0x17);
+        assertThat(Fingerprint.fromByteArray(documento.toByteArray())).isEqualTo(documento);
+        assertThatThrownBy(() -> Fingerprint.fromByteArray(new byte[15]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve medir a impressão digital contra o hash dos bytes serializados")
+    void deveCompararComHashDosBytesSerializados() {
+        List<Documento> documentos = List.of(SroTestData.documento(1, 20), SroTestData.documento(2, 20));
+
+        List<FingerprintBenchmark.Result> resultados = FingerprintBenchmark.run(documentos, 3);
+
+        assertThat(resultados).extracting(FingerprintBenchmark.Result::name)
+            .containsExactly("Fingerprinter", "RecordCodec + hash");
+        assertThat(resultados).allSatisfy(resultado -> assertThat(resultado.nanosPerRecord()).isPositive());
+        assertThat(FingerprintBenchmark.serializedHash(SroTestData.documento(1, 20)))
+            .isEqualTo(FingerprintBenchmark.serializedHash(SroTestData.documento(1, 20)))
+            .isNotEqualTo(FingerprintBenchmark.serializedHash(SroTestData.documento(2, 20)));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tipo não suportado e hexadecimal inválido")
+    void deveRejeitarEntradasInvalidas() {
+        assertThatThrownBy(() -> Fingerprinter.fingerprint(new Object()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("java.lang.Object");
+        assertThatThrownBy(() -> Fingerprint.fromHex("abc"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Fingerprint.fromHex(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
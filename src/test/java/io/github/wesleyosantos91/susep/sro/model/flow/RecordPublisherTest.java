@@ -0,0 +1,255 @@
+package io.github.wesleyosantos91.susep.sro.model.flow;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.batch.BatchPacker;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.DocumentoBuilder;
+import io.github.wesleyosantos91.susep.sro.model.loader.FlatFileFormat;
+import io.github.wesleyosantos91.susep.sro.model.loader.FlatFileLoader;
+import io.github.wesleyosantos91.susep.sro.model.loader.LineError;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para RecordPublisher e RecordProcessor.
+ */
+@DisplayName("RecordPublisher - Publicação reativa de registros com contrapressão")
+class RecordPublisherTest {
+
+    private static final Executor EXECUTOR = ForkJoinPool.commonPool();
+
+    @TempDir
+    Path diretorio;
+
+    /**
+     * Assinante que pede {@code lote} itens de cada vez e verifica que nunca recebe além do pedido.
+     */
+    private static final class Coletor<T> implements Flow.Subscriber<T> {
+
+        private final int lote;
+        private final int cancelarApos;
+        private final List<T> itens = new ArrayList<>();
+        private final CompletableFuture<List<T>> fim = new CompletableFuture<>();
+        private final AtomicInteger concorrentes = new AtomicInteger();
+        private Flow.Subscription assinatura;
+        private long pendentes;
+
+        private Coletor(int lote, int cancelarApos) {
+            this.lote = lote;
+            this.cancelarApos = cancelarApos;
+        }
+
+        private Coletor(int lote) {
+            this(lote, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription assinatura) {
+            this.assinatura = assinatura;
+            pendentes = lote;
+            assinatura.request(lote);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (concorrentes.incrementAndGet() != 1 || --pendentes < 0) {
+                fim.completeExceptionally(new AssertionError("onNext concorrente ou além da demanda"));
+            }
+            itens.add(item);
+            if (itens.size() == cancelarApos) {
+                assinatura.cancel();
+                fim.complete(itens);
+            } else if (pendentes == 0) {
+                pendentes = lote;
+                assinatura.request(lote);
+            }
+            concorrentes.decrementAndGet();
+        }
+
+        @Override
+        public void onError(Throwable erro) {
+            fim.completeExceptionally(erro);
+        }
+
+        @Override
+        public void onComplete() {
+            fim.complete(itens);
+        }
+
+        List<T> aguardar() throws Exception {
+            return fim.get(10, TimeUnit.SECONDS);
+        }
+
+        List<T> aguardarDe(Flow.Publisher<T> publicador) throws Exception {
+            publicador.subscribe(this);
+            return aguardar();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve emitir somente sob demanda, em ordem, e liberar a origem no cancelamento")
+    void deveEmitirSobDemanda() throws Exception {
+        List<Integer> numeros = IntStream.range(0, 1_000).boxed().toList();
+        RecordPublisher<Integer> publicador = RecordPublisher.fromIterable(numeros, EXECUTOR);
+
+        assertThat(new Coletor<Integer>(7).aguardarDe(publicador)).isEqualTo(numeros);
+
+        AtomicLong lidos = new AtomicLong();
+        AtomicBoolean fechado = new AtomicBoolean();
+        RecordPublisher<Long> infinito = RecordPublisher.of(() -> new RecordCursor<>() {
+            @Override
+            public Long next() {
+                return lidos.incrementAndGet();
+            }
+
+            @Override
+            public void close() {
+                fechado.set(true);
+            }
+        }, EXECUTOR, 16);
+        Coletor<Long> coletor = new Coletor<>(10, 25);
+        infinito.subscribe(coletor);
+
+        assertThat(coletor.aguardar()).hasSize(25).startsWith(1L, 2L).endsWith(25L);
+        await(fechado);
+        assertThat(lidos.get()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("Deve ler arquivos texto e de quadros em sequência, com linhas rejeitadas à parte")
+    void deveLerArquivos() throws Exception {
+        StringBuilder conteudo = new StringBuilder("codigo\n");
+        for (int n = 1; n <= 500; n++) {
+            conteudo.append(n % 100 == 0 ? "x" + n : String.valueOf(n)).append('\n');
+        }
+        Path csv = Files.writeString(diretorio.resolve("numeros.csv"), conteudo, StandardCharsets.UTF_8);
+        ConcurrentLinkedQueue<LineError> rejeitadas = new ConcurrentLinkedQueue<>();
+        FlatFileLoader<Integer> loader = new FlatFileLoader<>(FlatFileFormat.Delimited.csv(';'),
+            campos -> Integer.parseInt(campos.text(0)));
+
+        List<Integer> lidos = new Coletor<Integer>(64).aguardarDe(loader.publisher(csv, EXECUTOR, rejeitadas::add));
+
+        assertThat(lidos).hasSize(495).startsWith(1, 2).doesNotContain(100, 500);
+        assertThat(rejeitadas).extracting(LineError::line).containsExactly(101L, 201L, 301L, 401L, 501L);
+
+        List<MovimentoPremio> movimentos = new ArrayList<>();
+        var bytes = new ByteArrayOutputStream();
+        for (int n = 1; n <= 40; n++) {
+            MovimentoPremio movimento = SroTestData.movimentoPremio(n, "APOLICE-" + n, 1, 1, 10.0 * n,
+                SroTestData.DATA_BASE);
+            movimentos.add(movimento);
+            bytes.write(BatchPacker.frame(movimento));
+        }
+        Path quadros = Files.write(diretorio.resolve("movimentos.bin"), bytes.toByteArray());
+
+        assertThat(new Coletor<MovimentoPremio>(3)
+            .aguardarDe(RecordPublisher.fromFrames(quadros, MovimentoPremio.class, EXECUTOR)))
+            .isEqualTo(movimentos);
+        assertThatThrownBy(() -> new Coletor<Documento>(3)
+            .aguardarDe(RecordPublisher.fromFrames(quadros, Documento.class, EXECUTOR)))
+            .hasRootCauseInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("esquema");
+    }
+
+    @Test
+    @DisplayName("Deve validar agregados com buffer limitado e pedidos agrupados à origem")
+    void deveValidarComBufferLimitado() throws Exception {
+        List<DocumentoBuilder> builders = new ArrayList<>();
+        for (int n = 1; n <= 300; n++) {
+            DocumentoBuilder builder = new DocumentoBuilder().from(SroTestData.documento(n, 1));
+            builders.add(n % 50 == 0 ? builder.apoliceCodigo(null) : builder);
+        }
+        AtomicInteger pedidos = new AtomicInteger();
+        AtomicLong maiorPendencia = new AtomicLong();
+        AtomicLong pendencia = new AtomicLong();
+        Flow.Publisher<DocumentoBuilder> origem = assinante ->
+            RecordPublisher.fromIterable(builders, EXECUTOR).subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription assinatura) {
+                    assinante.onSubscribe(new Flow.Subscription() {
+                        @Override
+                        public void request(long n) {
+                            pedidos.incrementAndGet();
+                            maiorPendencia.accumulateAndGet(pendencia.addAndGet(n), Math::max);
+                            assinatura.request(n);
+                        }
+
+                        @Override
+                        public void cancel() {
+                            assinatura.cancel();
+                        }
+                    });
+                }
+
+                @Override
+                public void onNext(DocumentoBuilder item) {
+                    pendencia.decrementAndGet();
+                    assinante.onNext(item);
+                }
+
+                @Override
+                public void onError(Throwable erro) {
+                    assinante.onError(erro);
+                }
+
+                @Override
+                public void onComplete() {
+                    assinante.onComplete();
+                }
+            });
+        ConcurrentLinkedQueue<Rejection<DocumentoBuilder>> rejeitados = new ConcurrentLinkedQueue<>();
+        RecordProcessor<DocumentoBuilder, Documento> validacao = RecordProcessor.<DocumentoBuilder, Documento>
+            builder(DocumentoBuilder::build)
+            .bufferSize(32)
+            .onRejected(rejeitados::add)
+            .executor(EXECUTOR)
+            .build();
+        origem.subscribe(validacao);
+
+        List<Documento> documentos = new Coletor<Documento>(5).aguardarDe(validacao);
+
+        assertThat(documentos).hasSize(294).extracting(Documento::uuid).startsWith(SroTestData.uuid(1));
+        assertThat(rejeitados).hasSize(6)
+            .allSatisfy(rejeicao -> assertThat(rejeicao.cause()).isInstanceOf(NullPointerException.class));
+        assertThat(maiorPendencia.get()).isLessThanOrEqualTo(32);
+        assertThat(pedidos.get()).isLessThan(300 / 8);
+
+        RecordProcessor<DocumentoBuilder, Documento> estrito = RecordProcessor.<DocumentoBuilder, Documento>
+            builder(DocumentoBuilder::build).executor(EXECUTOR).build();
+        RecordPublisher.fromIterable(builders, EXECUTOR).subscribe(estrito);
+        assertThatThrownBy(() -> new Coletor<Documento>(10).aguardarDe(estrito))
+            .hasRootCauseInstanceOf(NullPointerException.class)
+            .hasRootCauseMessage("Código da apólice é obrigatório");
+        assertThatThrownBy(() -> RecordProcessor.builder(DocumentoBuilder::build).bufferSize(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void await(AtomicBoolean condicao) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condicao.get() && System.nanoTime() < limite) {
+            Thread.sleep(5);
+        }
+        assertThat(condicao).isTrue();
+    }
+}
@@ -0,0 +1,287 @@
+package io.github.wesleyosantos91.susep.sro.model.footprint;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Calcula o tamanho raso (shallow) e retido (deep) de agregados do SRO, detalhado por componente.
+ *
+ * <p>Os tamanhos são estimados a partir de um modelo determinístico do layout de objetos do
+ * HotSpot em 64 bits ({@link Layout}), e não medidos na JVM corrente: o mesmo agregado produz
+ * sempre o mesmo número em qualquer máquina, o que permite comparar relatórios entre releases.
+ * Records são percorridos pelos seus componentes; tipos do JDK usados no modelo ({@link String},
+ * {@link LocalDate}, {@link BigDecimal}, wrappers e listas) têm layout conhecido.</p>
+ *
+ * <p>Objetos compartilhados dentro do mesmo grafo são contados uma única vez, atribuídos ao
+ * primeiro componente que os alcança. Valores compartilhados por toda a JVM (enums,
+ * {@link Boolean}, caches de {@code valueOf} e a lista vazia imutável) não são contados.</p>
+ *
+ * <p>Utilitário de escopo de teste; não faz parte do artefato publicado.</p>
+ */
+public final class FootprintAnalyzer {
+
+    private final Layout layout;
+
+    /**
+     * Cria um analisador com o layout informado.
+     *
+     * @param layout modelo de layout de objetos
+     */
+    public FootprintAnalyzer(Layout layout) {
+        this.layout = Objects.requireNonNull(layout, "Layout é obrigatório");
+    }
+
+    /**
+     * Cria um analisador com o layout padrão do HotSpot ({@link Layout#COMPRESSED_OOPS}).
+     */
+    public FootprintAnalyzer() {
+        this(Layout.COMPRESSED_OOPS);
+    }
+
+    /**
+     * Analisa um agregado, detalhando o tamanho retido por componente de primeiro nível.
+     *
+     * @param agregado record raiz
+     * @return footprint do agregado
+     * @throws NullPointerException se o agregado for nulo
+     * @throws IllegalArgumentException se o grafo contiver tipo sem layout conhecido
+     */
+    public Footprint analyze(Record agregado) {
+        Objects.requireNonNull(agregado, "Agregado é obrigatório");
+        var contador = new Contador();
+        contador.visitados.put(agregado, Boolean.TRUE);
+        contador.objetos++;
+
+        long raso = shallowSize(agregado.getClass());
+        List<FieldFootprint> campos = new ArrayList<>();
+        for (RecordComponent componente : agregado.getClass().getRecordComponents()) {
+            Object valor = valorDoComponente(agregado, componente);
+            int elementos = valor instanceof Collection<?> colecao ? colecao.size() : -1;
+            campos.add(new FieldFootprint(componente.getName(), componente.getType().getSimpleName(),
+                deepSize(valor, contador), elementos));
+        }
+        long profundo = raso + campos.stream().mapToLong(FieldFootprint::deepBytes).sum();
+        return new Footprint(agregado.getClass().getName(), raso, profundo, contador.objetos, campos);
+    }
+
+    /**
+     * Tamanho retido de um objeto qualquer (record ou tipo do JDK suportado).
+     *
+     * @param valor objeto raiz (pode ser nulo)
+     * @return tamanho em bytes
+     */
+    public long deepSize(Object valor) {
+        return deepSize(valor, new Contador());
+    }
+
+    /**
+     * Tamanho raso da instância de uma classe, segundo os campos declarados na hierarquia.
+     *
+     * @param tipo classe (não array)
+     * @return tamanho em bytes, alinhado
+     */
+    public long shallowSize(Class<?> tipo) {
+        long bytes = layout.headerBytes();
+        for (Class<?> c = tipo; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field campo : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(campo.getModifiers())) {
+                    bytes += tamanhoDoCampo(campo.getType());
+                }
+            }
+        }
+        return alinhar(bytes);
+    }
+
+    private long deepSize(Object valor, Contador contador) {
+        if (valor == null || compartilhadoPelaJvm(valor) || contador.visitados.put(valor, Boolean.TRUE) != null) {
+            return 0;
+        }
+        contador.objetos++;
+        return switch (valor) {
+            case Record registro -> {
+                long bytes = shallowSize(registro.getClass());
+                for (RecordComponent componente : registro.getClass().getRecordComponents()) {
+                    bytes += deepSize(valorDoComponente(registro, componente), contador);
+                }
+                yield bytes;
+            }
+            case String texto -> stringSize(texto, contador);
+            case LocalDate ignorada -> alinhar(layout.headerBytes() + 4L + 2 + 2);
+            case BigDecimal decimal -> bigDecimalSize(decimal, contador);
+            case Integer ignorado -> alinhar(layout.headerBytes() + 4L);
+            case Float ignorado -> alinhar(layout.headerBytes() + 4L);
+            case Long ignorado -> alinhar(layout.headerBytes() + 8L);
+            case Double ignorado -> alinhar(layout.headerBytes() + 8L);
+            case Short ignorado -> alinhar(layout.headerBytes() + 2L);
+            case Character ignorado -> alinhar(layout.headerBytes() + 2L);
+            case Byte ignorado -> alinhar(layout.headerBytes() + 1L);
+            case Collection<?> colecao -> collectionSize(colecao, contador);
+            default -> throw new IllegalArgumentException(
+                "Tipo sem layout conhecido: " + valor.getClass().getName());
+        };
+    }
+
+    /**
+     * String compacta: campos {@code value}, {@code hash}, {@code coder} e {@code hashIsZero},
+     * mais o {@code byte[]} em LATIN1 ou UTF16 conforme o conteúdo.
+     */
+    private long stringSize(String texto, Contador contador) {
+        boolean latin1 = texto.chars().allMatch(c -> c <= 0xFF);
+        contador.objetos++;
+        return alinhar(layout.headerBytes() + layout.referenceBytes() + 4L + 1 + 1)
+            + arraySize(latin1 ? texto.length() : texto.length() * 2L, 1);
+    }
+
+    /**
+     * BigDecimal: {@code intVal}, {@code scale}, {@code precision}, {@code stringCache} e
+     * {@code intCompact}; o {@link BigInteger} só existe quando o valor não cabe em 64 bits.
+     */
+    private long bigDecimalSize(BigDecimal decimal, Contador contador) {
+        long bytes = alinhar(layout.headerBytes() + 2L * layout.referenceBytes() + 4 + 4 + 8);
+        BigInteger naoEscalado = decimal.unscaledValue();
+        if (naoEscalado.bitLength() > 63) {
+            contador.objetos += 2;
+            bytes += alinhar(layout.headerBytes() + layout.referenceBytes() + 5L * 4)
+                + arraySize((naoEscalado.bitLength() + 31) / 32, 4);
+        }
+        return bytes;
+    }
+
+    /**
+     * Listas imutáveis de {@code List.of}/{@code List.copyOf} com até dois elementos guardam os
+     * elementos em campos; as demais (e {@link ArrayList}) usam um array de referências.
+     */
+    private long collectionSize(Collection<?> colecao, Contador contador) {
+        String nome = colecao.getClass().getName();
+        long bytes;
+        if (nome.equals("java.util.ImmutableCollections$List12")) {
+            bytes = alinhar(layout.headerBytes() + 2L * layout.referenceBytes());
+        } else if (nome.equals("java.util.ImmutableCollections$ListN")) {
+            contador.objetos++;
+            bytes = alinhar(layout.headerBytes() + layout.referenceBytes() + 1L)
+                + arraySize(colecao.size(), layout.referenceBytes());
+        } else {
+            contador.objetos++;
+            bytes = alinhar(layout.headerBytes() + 4L + 4 + layout.referenceBytes())
+                + arraySize(colecao.size(), layout.referenceBytes());
+        }
+        for (Object elemento : colecao) {
+            bytes += deepSize(elemento, contador);
+        }
+        return bytes;
+    }
+
+    private boolean compartilhadoPelaJvm(Object valor) {
+        return switch (valor) {
+            case Enum<?> ignorado -> true;
+            case Boolean ignorado -> true;
+            case Integer i -> i >= -128 && i <= 127 && valor == Integer.valueOf(i);
+            case Long l -> l >= -128 && l <= 127 && valor == Long.valueOf(l);
+            case Short s -> s >= -128 && s <= 127 && valor == Short.valueOf(s);
+            case Byte ignorado -> true;
+            case Character c -> c <= 127 && valor == Character.valueOf(c);
+            case List<?> lista -> lista == List.of();
+            default -> false;
+        };
+    }
+
+    private long tamanhoDoCampo(Class<?> tipo) {
+        if (!tipo.isPrimitive()) {
+            return layout.referenceBytes();
+        }
+        if (tipo == long.class || tipo == double.class) {
+            return 8;
+        }
+        if (tipo == int.class || tipo == float.class) {
+            return 4;
+        }
+        if (tipo == short.class || tipo == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private long arraySize(long elementos, int bytesPorElemento) {
+        return alinhar(layout.arrayHeaderBytes() + elementos * bytesPorElemento);
+    }
+
+    private long alinhar(long bytes) {
+        long alinhamento = layout.alignment();
+        return (bytes + alinhamento - 1) / alinhamento * alinhamento;
+    }
+
+    private static Object valorDoComponente(Record registro, RecordComponent componente) {
+        try {
+            return componente.getAccessor().invoke(registro);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Não foi possível ler o componente " + componente.getName(), e);
+        }
+    }
+
+    private static final class Contador {
+        private final Map<Object, Boolean> visitados = new IdentityHashMap<>();
+        private long objetos;
+    }
+
+    /**
+     * Modelo de layout de objetos da JVM.
+     *
+     * @param headerBytes      cabeçalho de objeto (mark word + class pointer)
+     * @param referenceBytes   tamanho de uma referência
+     * @param arrayHeaderBytes cabeçalho de array (incluindo o campo de tamanho)
+     * @param alignment        alinhamento de objetos
+     */
+    public record Layout(int headerBytes, int referenceBytes, int arrayHeaderBytes, int alignment) {
+
+        /** HotSpot 64 bits com compressed oops e compressed class pointers (heap até 32 GB). */
+        public static final Layout COMPRESSED_OOPS = new Layout(12, 4, 16, 8);
+
+        /** HotSpot 64 bits sem compressed oops (heap acima de 32 GB). */
+        public static final Layout UNCOMPRESSED_OOPS = new Layout(12, 8, 16, 8);
+
+        public Layout {
+            if (headerBytes <= 0 || referenceBytes <= 0 || arrayHeaderBytes <= 0 || alignment <= 0) {
+                throw new IllegalArgumentException("Parâmetros de layout devem ser positivos");
+            }
+        }
+    }
+
+    /**
+     * Tamanho retido por um componente de primeiro nível do agregado.
+     *
+     * @param name      nome do componente
+     * @param type      tipo declarado do componente
+     * @param deepBytes bytes retidos a partir do componente (exclui a referência no agregado)
+     * @param elements  quantidade de elementos, para listas; {@code -1} caso contrário
+     */
+    public record FieldFootprint(String name, String type, long deepBytes, int elements) {
+    }
+
+    /**
+     * Footprint de um agregado.
+     *
+     * @param type         nome da classe do agregado
+     * @param shallowBytes tamanho raso da instância raiz
+     * @param deepBytes    tamanho retido do grafo inteiro
+     * @param objectCount  quantidade de objetos alcançados (incluindo arrays internos)
+     * @param fields       detalhamento por componente, na ordem de declaração
+     */
+    public record Footprint(String type, long shallowBytes, long deepBytes, long objectCount,
+                            List<FieldFootprint> fields) {
+
+        public Footprint {
+            fields = List.copyOf(fields);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.wesleyosantos91.susep.sro.model.footprint;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.documento.Cosseguro;
+import io.github.wesleyosantos91.susep.sro.model.footprint.FootprintAnalyzer.FieldFootprint;
+import io.github.wesleyosantos91.susep.sro.model.footprint.FootprintAnalyzer.Layout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para FootprintAnalyzer.
+ */
+@DisplayName("FootprintAnalyzer - Estimativa de footprint")
+class FootprintAnalyzerTest {
+
+    private final FootprintAnalyzer analyzer = new FootprintAnalyzer();
+
+    @Test
+    @DisplayName("Deve estimar tipos do JDK segundo o layout com compressed oops")
+    void deveEstimarTiposDoJdk() {
+        assertThat(analyzer.deepSize(null)).isZero();
+        assertThat(analyzer.deepSize("abc")).isEqualTo(24 + 24);
+        assertThat(analyzer.deepSize("ação")).isEqualTo(24 + 24);
+        assertThat(analyzer.deepSize("€")).isEqualTo(24 + 24);
+        assertThat(analyzer.deepSize(LocalDate.of(2024, 1, 1))).isEqualTo(24);
+        assertThat(analyzer.deepSize(new BigDecimal("10.50"))).isEqualTo(40);
+        assertThat(analyzer.deepSize(new BigDecimal("99999999999999999999.99"))).isEqualTo(40 + 40 + 32);
+        assertThat(analyzer.deepSize(Double.valueOf(1.5))).isEqualTo(24);
+        assertThat(analyzer.deepSize(Integer.valueOf(1))).isZero();
+        assertThat(analyzer.deepSize(Integer.valueOf(100_000))).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("Deve estimar listas imutáveis e mutáveis")
+    void deveEstimarListas() {
+        Double a = 1.5;
+        Double b = 2.5;
+        Double c = 3.5;
+
+        assertThat(analyzer.deepSize(List.of())).isZero();
+        assertThat(analyzer.deepSize(List.of(a, b))).isEqualTo(24 + 24 + 24);
+        assertThat(analyzer.deepSize(List.of(a, b, c))).isEqualTo(24 + 32 + 3 * 24);
+        assertThat(analyzer.deepSize(new ArrayList<>(List.of(a, b, c)))).isEqualTo(24 + 32 + 3 * 24);
+    }
+
+    @Test
+    @DisplayName("Deve contar objetos compartilhados uma única vez")
+    void deveContarCompartilhadosUmaVez() {
+        Double valor = 1.5;
+
+        assertThat(analyzer.deepSize(List.of(valor, valor, valor))).isEqualTo(24 + 32 + 24);
+    }
+
+    @Test
+    @DisplayName("Deve detalhar o agregado por componente somando o total")
+    void deveDetalharPorComponente() {
+        var footprint = analyzer.analyze(SroTestData.documento(2, 5000));
+
+        assertThat(footprint.fields()).hasSize(29);
+        assertThat(footprint.deepBytes())
+            .isEqualTo(footprint.shallowBytes() + footprint.fields().stream().mapToLong(FieldFootprint::deepBytes).sum());
+        FieldFootprint segurados = footprint.fields().stream()
+            .filter(campo -> campo.name().equals("segurados")).findFirst().orElseThrow();
+        assertThat(segurados.elements()).isEqualTo(5000);
+        assertThat(segurados.deepBytes()).isGreaterThan(footprint.deepBytes() * 9 / 10);
+        assertThat(footprint.objectCount()).isGreaterThan(5000 * 5);
+    }
+
+    @Test
+    @DisplayName("Deve estimar referências maiores sem compressed oops")
+    void deveEstimarSemCompressedOops() {
+        var semCompressao = new FootprintAnalyzer(Layout.UNCOMPRESSED_OOPS);
+
+        assertThat(semCompressao.shallowSize(Cosseguro.class)).isEqualTo(24);
+        assertThat(analyzer.shallowSize(Cosseguro.class)).isEqualTo(16);
+        assertThat(semCompressao.analyze(SroTestData.documento(1, 10)).deepBytes())
+            .isGreaterThan(analyzer.analyze(SroTestData.documento(1, 10)).deepBytes());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tipos sem layout conhecido e parâmetros inválidos")
+    void deveRejeitarEntradasInvalidas() {
+        assertThatThrownBy(() -> analyzer.deepSize(new Object()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("java.lang.Object");
+        assertThatThrownBy(() -> analyzer.analyze(null))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new Layout(0, 4, 16, 8))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
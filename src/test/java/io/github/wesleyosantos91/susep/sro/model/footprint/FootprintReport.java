@@ -0,0 +1,228 @@
+package io.github.wesleyosantos91.susep.sro.model.footprint;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.footprint.FootprintAnalyzer.FieldFootprint;
+import io.github.wesleyosantos91.susep.sro.model.footprint.FootprintAnalyzer.Footprint;
+import io.github.wesleyosantos91.susep.sro.model.documento.Segurado;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Relatório de footprint de memória por agregado, acompanhado release a release.
+ *
+ * <p>Gera dois arquivos: {@code footprint.csv}, no mesmo formato da baseline versionada em
+ * {@code src/test/resources/footprint/baseline.csv}, e {@code footprint.md}, com o detalhamento por
+ * componente e a variação em relação à baseline. Para atualizar a baseline após uma mudança
+ * intencional no modelo, copie o {@code footprint.csv} gerado sobre ela.</p>
+ *
+ * <p>Os cenários sintéticos usam {@link SroTestData}; dados reais podem ser analisados com
+ * {@link #add(String, Record)}. Execução avulsa:
+ * {@code java -cp target/classes:target/test-classes ...footprint.FootprintReport [diretório]}.</p>
+ */
+public final class FootprintReport {
+
+    /** Nome da linha que guarda o tamanho raso do agregado no CSV. */
+    public static final String RASO = "_raso";
+
+    /** Nome da linha que guarda o tamanho retido total do agregado no CSV. */
+    public static final String TOTAL = "_total";
+
+    private final FootprintAnalyzer analyzer;
+    private final Map<String, Footprint> resultados = new LinkedHashMap<>();
+
+    /**
+     * Cria um relatório vazio.
+     *
+     * @param analyzer analisador a utilizar
+     */
+    public FootprintReport(FootprintAnalyzer analyzer) {
+        this.analyzer = Objects.requireNonNull(analyzer, "Analisador é obrigatório");
+    }
+
+    /**
+     * Relatório com os cenários sintéticos de referência: um agregado de cada tipo e uma apólice
+     * coletiva com 5.000 segurados.
+     *
+     * @param analyzer analisador a utilizar
+     * @return relatório preenchido
+     */
+    public static FootprintReport synthetic(FootprintAnalyzer analyzer) {
+        List<Segurado> segurados = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            segurados.add(SroTestData.segurado(i));
+        }
+        return new FootprintReport(analyzer)
+            .add("documento-individual", SroTestData.documento(1, 1))
+            .add("documento-coletivo-5000", SroTestData.documento(2, 5000))
+            .add("endosso-100", SroTestData.endosso(1, "APOLICE-1", SroTestData.DATA_BASE, List.copyOf(segurados)))
+            .add("sinistro", SroTestData.sinistro(1))
+            .add("complauto", SroTestData.complAuto(1))
+            .add("ccg", SroTestData.ccgGarantia(1))
+            .add("movimento-premio", SroTestData.movimentoPremio(1, "APOLICE-1", 1, 8, 1500.0, SroTestData.DATA_BASE))
+            .add("movimento-sinistro", SroTestData.movimentoSinistro(1, "SIN-1", 1, "1500.00"));
+    }
+
+    /**
+     * Analisa e inclui um agregado no relatório.
+     *
+     * @param cenario  nome único do cenário (sem {@code ;})
+     * @param agregado record raiz
+     * @return este relatório
+     * @throws IllegalArgumentException se o nome for inválido ou repetido
+     */
+    public FootprintReport add(String cenario, Record agregado) {
+        if (cenario == null || cenario.isBlank() || cenario.contains(";")) {
+            throw new IllegalArgumentException("Nome de cenário inválido: " + cenario);
+        }
+        if (resultados.putIfAbsent(cenario, analyzer.analyze(agregado)) != null) {
+            throw new IllegalArgumentException("Cenário repetido: " + cenario);
+        }
+        return this;
+    }
+
+    /**
+     * @return footprints por cenário, na ordem de inclusão
+     */
+    public Map<String, Footprint> results() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(resultados));
+    }
+
+    /**
+     * CSV {@code cenario;componente;bytes}, uma linha para o tamanho raso, uma para o total e uma
+     * por componente.
+     *
+     * @return conteúdo do CSV
+     */
+    public String toCsv() {
+        var sb = new StringBuilder("cenario;componente;bytes\n");
+        resultados.forEach((cenario, footprint) -> {
+            sb.append(cenario).append(';').append(RASO).append(';').append(footprint.shallowBytes()).append('\n');
+            sb.append(cenario).append(';').append(TOTAL).append(';').append(footprint.deepBytes()).append('\n');
+            for (FieldFootprint campo : footprint.fields()) {
+                sb.append(cenario).append(';').append(campo.name()).append(';').append(campo.deepBytes()).append('\n');
+            }
+        });
+        return sb.toString();
+    }
+
+    /**
+     * Lê um CSV no formato de {@link #toCsv()}.
+     *
+     * @param linhas linhas do arquivo
+     * @return bytes por chave {@code cenario;componente}
+     * @throws IllegalArgumentException se uma linha estiver malformada
+     */
+    public static Map<String, Long> parseCsv(List<String> linhas) {
+        Map<String, Long> valores = new LinkedHashMap<>();
+        for (String linha : linhas.subList(Math.min(1, linhas.size()), linhas.size())) {
+            if (linha.isBlank()) {
+                continue;
+            }
+            int separador = linha.lastIndexOf(';');
+            if (separador <= 0 || linha.indexOf(';') == separador) {
+                throw new IllegalArgumentException("Linha de footprint malformada: " + linha);
+            }
+            valores.put(linha.substring(0, separador), Long.parseLong(linha.substring(separador + 1).trim()));
+        }
+        return valores;
+    }
+
+    /**
+     * Cenários cujo tamanho total excede a baseline além da tolerância.
+     *
+     * @param baseline   valores de referência ({@link #parseCsv(List)})
+     * @param tolerancia crescimento relativo aceito (ex.: {@code 0.05} para 5%)
+     * @return descrição das regressões (vazia se não houver)
+     */
+    public List<String> regressions(Map<String, Long> baseline, double tolerancia) {
+        List<String> regressoes = new ArrayList<>();
+        resultados.forEach((cenario, footprint) -> {
+            Long referencia = baseline.get(cenario + ";" + TOTAL);
+            if (referencia != null && footprint.deepBytes() > referencia * (1 + tolerancia)) {
+                regressoes.add("%s: %d bytes (baseline %d, %s)".formatted(cenario, footprint.deepBytes(),
+                    referencia, variacao(footprint.deepBytes(), referencia)));
+            }
+        });
+        return regressoes;
+    }
+
+    /**
+     * Relatório em Markdown com o detalhamento por componente e a variação sobre a baseline.
+     *
+     * @param baseline valores de referência (pode ser vazio)
+     * @return conteúdo do relatório
+     */
+    public String toMarkdown(Map<String, Long> baseline) {
+        var sb = new StringBuilder("# Footprint de memória por agregado\n\n");
+        sb.append("| Cenário | Tipo | Raso | Retido | Objetos | Baseline | Variação |\n");
+        sb.append("|---|---|---:|---:|---:|---:|---:|\n");
+        resultados.forEach((cenario, footprint) -> {
+            Long referencia = baseline.get(cenario + ";" + TOTAL);
+            sb.append("| %s | %s | %d | %d | %d | %s | %s |\n".formatted(cenario, simpleName(footprint.type()),
+                footprint.shallowBytes(), footprint.deepBytes(), footprint.objectCount(),
+                referencia == null ? "-" : referencia, referencia == null ? "-" : variacao(footprint.deepBytes(), referencia)));
+        });
+        resultados.forEach((cenario, footprint) -> {
+            sb.append("\n## ").append(cenario).append("\n\n");
+            sb.append("| Componente | Tipo | Elementos | Retido | % | Baseline |\n");
+            sb.append("|---|---|---:|---:|---:|---:|\n");
+            for (FieldFootprint campo : footprint.fields()) {
+                if (campo.deepBytes() == 0) {
+                    continue;
+                }
+                Long referencia = baseline.get(cenario + ";" + campo.name());
+                sb.append("| %s | %s | %s | %d | %.1f | %s |\n".formatted(campo.name(), campo.type(),
+                    campo.elements() < 0 ? "-" : campo.elements(), campo.deepBytes(),
+                    100.0 * campo.deepBytes() / footprint.deepBytes(), referencia == null ? "-" : referencia));
+            }
+        });
+        return sb.toString();
+    }
+
+    /**
+     * Grava {@code footprint.csv} e {@code footprint.md} no diretório informado.
+     *
+     * @param diretorio diretório de saída (criado se necessário)
+     * @param baseline  valores de referência (pode ser vazio)
+     * @throws IOException em caso de erro de escrita
+     */
+    public void write(Path diretorio, Map<String, Long> baseline) throws IOException {
+        Files.createDirectories(diretorio);
+        Files.writeString(diretorio.resolve("footprint.csv"), toCsv(), StandardCharsets.UTF_8);
+        Files.writeString(diretorio.resolve("footprint.md"), toMarkdown(baseline), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gera o relatório dos cenários sintéticos.
+     *
+     * @param args diretório de saída opcional (padrão {@code target/footprint})
+     * @throws IOException em caso de erro de leitura ou escrita
+     */
+    public static void main(String[] args) throws IOException {
+        Path diretorio = Path.of(args.length > 0 ? args[0] : "target/footprint");
+        Path arquivoBaseline = Path.of("src/test/resources/footprint/baseline.csv");
+        Map<String, Long> baseline = Files.exists(arquivoBaseline)
+            ? parseCsv(Files.readAllLines(arquivoBaseline, StandardCharsets.UTF_8))
+            : Map.of();
+        FootprintReport relatorio = synthetic(new FootprintAnalyzer());
+        relatorio.write(diretorio, baseline);
+        System.out.print(relatorio.toMarkdown(baseline));
+    }
+
+    private static String variacao(long atual, long referencia) {
+        return referencia == 0 ? "-" : "%+.1f%%".formatted(100.0 * (atual - referencia) / referencia);
+    }
+
+    private static String simpleName(String tipo) {
+        return tipo.substring(tipo.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.wesleyosantos91.susep.sro.model.footprint;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Gera o relatório de footprint em {@code target/footprint} e o compara com a baseline versionada.
+ */
+@DisplayName("FootprintReport - Relatório de footprint por agregado")
+class FootprintReportTest {
+
+    private static final double TOLERANCIA = 0.05;
+
+    @TempDir
+    Path diretorio;
+
+    private static Map<String, Long> baseline() throws Exception {
+        try (InputStream in = FootprintReportTest.class.getResourceAsStream("/footprint/baseline.csv")) {
+            assertThat(in).as("baseline de footprint").isNotNull();
+            return FootprintReport.parseCsv(new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter o footprint dos agregados dentro da baseline")
+    void deveManterFootprintDentroDaBaseline() throws Exception {
+        var relatorio = FootprintReport.synthetic(new FootprintAnalyzer());
+        var baseline = baseline();
+
+        relatorio.write(Path.of("target", "footprint"), baseline);
+
+        assertThat(relatorio.regressions(baseline, TOLERANCIA)).isEmpty();
+        assertThat(baseline.keySet()).containsAll(FootprintReport.parseCsv(relatorio.toCsv().lines().toList()).keySet());
+    }
+
+    @Test
+    @DisplayName("Deve apontar regressão quando o total excede a tolerância")
+    void deveApontarRegressao() {
+        var relatorio = FootprintReport.synthetic(new FootprintAnalyzer());
+        long total = relatorio.results().get("sinistro").deepBytes();
+
+        assertThat(relatorio.regressions(Map.of("sinistro;_total", total), TOLERANCIA)).isEmpty();
+        assertThat(relatorio.regressions(Map.of("sinistro;_total", total - total / 10), TOLERANCIA))
+            .singleElement().asString().startsWith("sinistro:");
+    }
+
+    @Test
+    @DisplayName("Deve gravar CSV relido sem perdas e relatório Markdown")
+    void deveGravarArquivos() throws Exception {
+        var relatorio = FootprintReport.synthetic(new FootprintAnalyzer());
+
+        relatorio.write(diretorio, Map.of());
+
+        var csv = FootprintReport.parseCsv(Files.readAllLines(diretorio.resolve("footprint.csv")));
+        assertThat(csv).containsEntry("documento-coletivo-5000;_total",
+            relatorio.results().get("documento-coletivo-5000").deepBytes());
+        assertThat(relatorio.results().keySet()).containsExactlyElementsOf(
+            csv.keySet().stream().map(chave -> chave.substring(0, chave.indexOf(';'))).distinct().toList());
+        assertThat(Files.readString(diretorio.resolve("footprint.md")))
+            .contains("## documento-coletivo-5000", "| segurados | List | 5000 |");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cenário inválido e CSV malformado")
+    void deveRejeitarEntradasInvalidas() {
+        var relatorio = new FootprintReport(new FootprintAnalyzer());
+        relatorio.add("a", new FootprintAnalyzer.Layout(12, 4, 16, 8));
+
+        assertThatThrownBy(() -> relatorio.add("a", new FootprintAnalyzer.Layout(12, 4, 16, 8)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> relatorio.add("a;b", new FootprintAnalyzer.Layout(12, 4, 16, 8)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FootprintReport.parseCsv(List.of("cabecalho", "sem-separador")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
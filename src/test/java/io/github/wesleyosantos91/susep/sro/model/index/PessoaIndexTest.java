@@ -0,0 +1,153 @@
+package io.github.wesleyosantos91.susep.sro.model.index;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.DocumentoBuilder;
+import io.github.wesleyosantos91.susep.sro.model.endosso.Endosso;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para PessoaIndex.
+ */
+@DisplayName("PessoaIndex - Índice de pessoas por CPF/CNPJ")
+class PessoaIndexTest {
+
+    @Test
+    @DisplayName("Deve indexar a mesma pessoa em papéis e agregados diferentes")
+    void deveIndexarPapeisCruzados() {
+        var indice = new PessoaIndex();
+        Documento documento = SroTestData.documento(1, 3);
+        String cpf = documento.segurados().get(1).documento();
+        Documento outro = new DocumentoBuilder().from(SroTestData.documento(2, 0))
+            .beneficiarios(List.of(new io.github.wesleyosantos91.susep.sro.model.documento.Beneficiario(
+                cpf, 1, "Beneficiário", "01310100", "São Paulo", "SP", "BRA")))
+            .build();
+        UUID agregado = UUID.fromString(documento.uuid());
+
+        assertThat(indice.index(documento)).isEqualTo(6);
+        indice.index(outro);
+        indice.index(agregado, SroTestData.ccgGarantia(1));
+        indice.index(agregado, SroTestData.complAuto(1));
+        String mascarado = cpf.substring(0, 3) + "." + cpf.substring(3, 6) + "." + cpf.substring(6, 9) + "-"
+            + cpf.substring(9);
+        indice.add(mascarado, agregado, Papel.CONDUTOR);
+
+        assertThat(indice.lookup(cpf)).containsExactlyInAnyOrder(
+            new Participacao(agregado, Papel.SEGURADO),
+            new Participacao(UUID.fromString(outro.uuid()), Papel.BENEFICIARIO),
+            new Participacao(agregado, Papel.CONDUTOR));
+        assertThat(indice.lookup(SroTestData.tomador(1).documento()))
+            .containsExactly(new Participacao(agregado, Papel.TOMADOR));
+        assertThat(indice.lookup(SroTestData.cpf(700_001)))
+            .containsExactly(new Participacao(agregado, Papel.FIADOR_CCG));
+        assertThat(indice.lookup(SroTestData.cnpj(600_001)))
+            .containsExactly(new Participacao(agregado, Papel.TOMADOR_CCG));
+        assertThat(indice.lookup(SroTestData.cpf(500_001)))
+            .containsExactly(new Participacao(agregado, Papel.CONDUTOR));
+        assertThat(indice.lookup(SroTestData.cpf(999_999))).isEmpty();
+        assertThat(indice.lookup("PASSAPORTE")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve ser idempotente ao reindexar e permitir remover participações")
+    void deveReindexarERemover() {
+        var indice = new PessoaIndex();
+        Documento documento = SroTestData.documento(1, 2);
+        Endosso endosso = SroTestData.endosso(1, documento.apoliceCodigo(), SroTestData.DATA_BASE, documento.segurados());
+        UUID agregado = UUID.fromString(documento.uuid());
+        String segurado = documento.segurados().get(0).documento();
+
+        indice.index(documento);
+        assertThat(indice.index(documento)).isZero();
+        assertThat(indice.index(endosso)).isPositive();
+        assertThat(indice.lookup(segurado)).hasSize(2);
+        assertThat(indice.participationCount()).isEqualTo(10);
+
+        assertThat(indice.remove(segurado, agregado, Papel.SEGURADO)).isTrue();
+        assertThat(indice.remove(segurado, agregado, Papel.SEGURADO)).isFalse();
+        assertThat(indice.remove(segurado, agregado, Papel.BENEFICIARIO)).isFalse();
+        assertThat(indice.lookup(segurado)).containsExactly(new Participacao(UUID.fromString(endosso.uuid()), Papel.SEGURADO));
+        assertThat(indice.remove(segurado, UUID.fromString(endosso.uuid()), Papel.SEGURADO)).isTrue();
+        assertThat(indice.lookup(segurado)).isEmpty();
+        assertThat(indice.size()).isEqualTo(4);
+        assertThat(indice.participationCount()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Deve manter listas longas com inclusões e remoções intercaladas")
+    void deveManterListasLongas() {
+        var indice = new PessoaIndex();
+        String corretor = SroTestData.cpf(400_000);
+        Set<Participacao> esperado = new HashSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            UUID agregado = UUID.fromString(SroTestData.uuid(i));
+            Papel papel = Papel.values()[i % Papel.values().length];
+            indice.add(corretor, agregado, papel);
+            esperado.add(new Participacao(agregado, papel));
+            if (i % 3 == 0) {
+                UUID removido = UUID.fromString(SroTestData.uuid(i / 2));
+                Papel papelRemovido = Papel.values()[(i / 2) % Papel.values().length];
+                assertThat(indice.remove(corretor, removido, papelRemovido))
+                    .isEqualTo(esperado.remove(new Participacao(removido, papelRemovido)));
+            }
+        }
+
+        assertThat(indice.lookup(corretor)).containsExactlyInAnyOrderElementsOf(esperado);
+        assertThat(indice.participationCount()).isEqualTo(esperado.size());
+    }
+
+    @Test
+    @DisplayName("Deve indexar concorrentemente sem perder participações")
+    void deveIndexarConcorrentemente() throws Exception {
+        var indice = new PessoaIndex();
+        int threads = 4;
+        int documentos = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                tarefas.add(executor.submit(() -> {
+                    for (int i = thread; i < documentos; i += threads) {
+                        indice.index(SroTestData.documento(i, 1));
+                        indice.add(SroTestData.cpf(42), UUID.fromString(SroTestData.uuid(i)), Papel.INTERMEDIARIO);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(indice.lookup(SroTestData.cpf(42))).hasSize(documentos);
+        assertThat(indice.participationCount()).isEqualTo(5L * documentos);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar argumentos nulos")
+    void deveRejeitarNulos() {
+        var indice = new PessoaIndex();
+
+        assertThatThrownBy(() -> indice.index((Documento) null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> indice.add(SroTestData.cpf(1), null, Papel.SEGURADO))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> indice.add(SroTestData.cpf(1), UUID.randomUUID(), null))
+            .isInstanceOf(NullPointerException.class);
+        assertThat(indice.add(null, UUID.randomUUID(), Papel.SEGURADO)).isFalse();
+    }
+}
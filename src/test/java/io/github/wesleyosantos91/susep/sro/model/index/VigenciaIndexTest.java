@@ -0,0 +1,125 @@
+package io.github.wesleyosantos91.susep.sro.model.index;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.documento.Cobertura;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.DocumentoBuilder;
+import io.github.wesleyosantos91.susep.sro.model.util.EpochDays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para VigenciaIndex.
+ */
+@DisplayName("VigenciaIndex - Índice de períodos de vigência")
+class VigenciaIndexTest {
+
+    private static final LocalDate DIA = SroTestData.DATA_BASE;
+
+    private record Periodo(int id, int inicio, int termino) {
+    }
+
+    private static Documento documento(int n, LocalDate inicio, LocalDate termino) {
+        return new DocumentoBuilder().from(SroTestData.documento(n, 0)).dataInicio(inicio).dataTermino(termino).build();
+    }
+
+    private static Cobertura cobertura(int codigo, LocalDate inicio, LocalDate termino) {
+        return new Cobertura("0531", codigo, null, "COB-" + codigo, "PROC-" + codigo, 10_000.0, 10_000.0, null,
+            inicio, termino, 1, 1, null, 1, 100.0, 100.0, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Deve encontrar documentos vigentes na data de ocorrência, inclusive nos limites")
+    void deveEncontrarDocumentosVigentes() {
+        Documento anual = documento(1, DIA, DIA.plusYears(1));
+        Documento encerrado = documento(2, DIA.minusYears(1), DIA.minusDays(1));
+        Documento futuro = documento(3, DIA.plusDays(10), DIA.plusDays(40));
+        Documento diario = documento(4, DIA, DIA);
+
+        VigenciaIndex<Documento> indice = VigenciaIndex.ofDocumentos(Stream.of(futuro, anual, encerrado, diario));
+
+        assertThat(indice.size()).isEqualTo(4);
+        assertThat(indice.containing(DIA)).containsExactlyInAnyOrder(anual, diario);
+        assertThat(indice.containing(DIA.minusDays(1))).containsExactly(encerrado);
+        assertThat(indice.containing(DIA.plusDays(10))).containsExactly(anual, futuro);
+        assertThat(indice.containing(DIA.plusYears(2))).isEmpty();
+        assertThat(indice.countContaining(DIA.plusDays(40))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve responder sobreposição de períodos de cobertura")
+    void deveResponderSobreposicao() {
+        Cobertura primeiro = cobertura(1, DIA, DIA.plusMonths(6).minusDays(1));
+        Cobertura segundo = cobertura(2, DIA.plusMonths(6), DIA.plusYears(1));
+
+        VigenciaIndex<Cobertura> indice = VigenciaIndex.ofCoberturas(Stream.of(segundo, primeiro));
+
+        assertThat(indice.overlapping(DIA.plusMonths(5), DIA.plusMonths(7))).containsExactly(primeiro, segundo);
+        assertThat(indice.overlapping(DIA.plusMonths(7), DIA.plusMonths(8))).containsExactly(segundo);
+        assertThat(indice.overlapping(DIA.minusYears(1), DIA.minusDays(1))).isEmpty();
+        assertThatThrownBy(() -> indice.overlapping(DIA, DIA.minusDays(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve tratar datas ausentes como vigência em aberto")
+    void deveTratarVigenciaEmAberto() {
+        VigenciaIndex<String> indice = VigenciaIndex.<String>builder()
+            .add("sem-termino", DIA, null)
+            .add("sem-inicio", null, DIA)
+            .add("sempre", null, null)
+            .build();
+
+        assertThat(indice.containing(LocalDate.of(3000, 1, 1))).containsExactlyInAnyOrder("sem-termino", "sempre");
+        assertThat(indice.containing(LocalDate.of(1900, 1, 1))).containsExactlyInAnyOrder("sem-inicio", "sempre");
+        assertThat(indice.containing(DIA)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com a varredura linear em períodos aleatórios")
+    void deveCoincidirComVarreduraLinear() {
+        var aleatorio = new Random(36);
+        int base = EpochDays.encode(DIA);
+        List<Periodo> periodos = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            int inicio = base + aleatorio.nextInt(3_650);
+            periodos.add(new Periodo(i, inicio, inicio + (aleatorio.nextBoolean() ? aleatorio.nextInt(30)
+                : aleatorio.nextInt(1_500))));
+        }
+        VigenciaIndex<Periodo> indice = VigenciaIndex.build(periodos.stream(),
+            p -> EpochDays.decode(p.inicio()), p -> EpochDays.decode(p.termino()));
+
+        for (int consulta = 0; consulta < 200; consulta++) {
+            int de = base - 100 + aleatorio.nextInt(5_400);
+            int ate = de + (consulta % 2 == 0 ? 0 : aleatorio.nextInt(60));
+            List<Periodo> esperado = periodos.stream()
+                .filter(p -> p.inicio() <= ate && p.termino() >= de)
+                .toList();
+
+            assertThat(indice.overlapping(de, ate)).containsExactlyInAnyOrderElementsOf(esperado);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve devolver resultados em ordem de início e permitir reúso do construtor")
+    void deveOrdenarPorInicioEReusarConstrutor() {
+        VigenciaIndex.Builder<Integer> builder = VigenciaIndex.builder();
+        IntStream.range(0, 100).forEach(i -> builder.add(i, DIA.minusDays(i), DIA.plusDays(i)));
+
+        VigenciaIndex<Integer> indice = builder.build();
+
+        assertThat(indice.containing(DIA)).isSortedAccordingTo((a, b) -> Integer.compare(b, a)).hasSize(100);
+        assertThat(builder.build().size()).isZero();
+        assertThatThrownBy(() -> builder.add(1, DIA, DIA.minusDays(1))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.add(null, DIA, DIA)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,196 @@
+package io.github.wesleyosantos91.susep.sro.model.ledger;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremioBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para ParcelaPremioLedger.
+ */
+@DisplayName("ParcelaPremioLedger - Razão de parcelas de prêmio")
+class ParcelaPremioLedgerTest {
+
+    private static final LocalDate DIA = SroTestData.DATA_BASE;
+
+    private static MovimentoPremio movimento(String apolice, int parcela, int tipo, double valor, LocalDate vencimento) {
+        return SroTestData.movimentoPremio(parcela, apolice, parcela, tipo, valor, vencimento);
+    }
+
+    @Test
+    @DisplayName("Deve separar emitido, pago e cancelado por parcela")
+    void deveSepararContasPorParcela() {
+        var ledger = new ParcelaPremioLedger();
+        ledger.record(movimento("AP1", 1, 8, 300.00, DIA.minusDays(30)));
+        ledger.record(movimento("AP1", 1, 1, 100.00, null));
+        ledger.record(movimento("AP1", 1, 1, 50.00, null));
+        ledger.record(movimento("AP1", 1, 5, 50.00, null));
+        ledger.record(movimento("AP1", 1, 9, 20.00, null));
+        ledger.record(movimento("AP1", 1, 11, 20.00, null));
+        ledger.record(movimento("AP1", 1, 12, 30.00, null));
+
+        ParcelaPosicao posicao = ledger.parcela(new ParcelaKey("12345", "AP1", null, 1)).orElseThrow();
+
+        assertThat(posicao.dataVencimento()).isEqualTo(DIA.minusDays(30));
+        assertThat(posicao.emitido()).isEqualByComparingTo("300.00");
+        assertThat(posicao.pago()).isEqualByComparingTo("100.00");
+        assertThat(posicao.cancelado()).isEqualByComparingTo("30.00");
+        assertThat(posicao.saldo()).isEqualByComparingTo("170.00");
+        assertThat(ledger.parcela(new ParcelaKey("12345", "AP1", null, 2))).isEmpty();
+        assertThat(ledger.parcela(new ParcelaKey("54321", "AP1", null, 1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar movimentos de restituição e custo de aquisição")
+    void deveIgnorarRestituicaoECusto() {
+        var ledger = new ParcelaPremioLedger();
+
+        for (int tipo : new int[] {2, 3, 4, 6, 7, 10}) {
+            assertThat(ledger.record(movimento("AP1", 1, tipo, 10.00, null))).isFalse();
+        }
+        assertThat(ledger.record(movimento("AP1", 1, 14, 10.00, null))).isTrue();
+        assertThat(ledger.parcelaCount()).isEqualTo(1);
+        assertThat(ledger.parcela(new ParcelaKey("12345", "AP1", null, 1)).orElseThrow().pago())
+            .isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    @DisplayName("Deve listar parcelas vencidas em ordem de vencimento")
+    void deveListarVencidas() {
+        var ledger = new ParcelaPremioLedger();
+        ledger.record(movimento("AP1", 3, 8, 100.00, DIA.minusDays(5)));
+        ledger.record(movimento("AP1", 1, 8, 100.00, DIA.minusDays(60)));
+        ledger.record(movimento("AP1", 2, 8, 100.00, DIA.minusDays(30)));
+        ledger.record(movimento("AP1", 2, 1, 40.00, null));
+        ledger.record(movimento("AP2", 1, 8, 100.00, DIA.minusDays(60)));
+        ledger.record(movimento("AP2", 1, 1, 100.00, null));
+        ledger.record(movimento("AP3", 1, 8, 80.00, DIA));
+        ledger.record(movimento("AP4", 1, 8, 70.00, null));
+
+        List<ParcelaPosicao> vencidas = ledger.overdue("12345", DIA, 10);
+
+        assertThat(vencidas).extracting(p -> p.chave().apoliceCodigo() + "/" + p.chave().numeroParcelaMovimento())
+            .containsExactly("AP1/1", "AP1/2", "AP1/3");
+        assertThat(ledger.overdue("12345", DIA, 2)).hasSize(2);
+        assertThat(ledger.overdue("12345", DIA.minusDays(30), 10)).hasSize(1);
+        assertThat(ledger.overdue("54321", DIA, 10)).isEmpty();
+
+        SaldoEmAberto resumo = ledger.overdueSummary("12345", DIA);
+        assertThat(resumo.parcelas()).isEqualTo(3);
+        assertThat(resumo.saldo()).isEqualByComparingTo("260.00");
+
+        SaldoEmAberto aberto = ledger.outstanding("12345");
+        assertThat(aberto.parcelas()).isEqualTo(5);
+        assertThat(aberto.saldo()).isEqualByComparingTo("410.00");
+        assertThat(ledger.outstanding("54321").saldo()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("Deve reindexar parcela quando o vencimento muda ou a exclusão é recebida")
+    void deveReindexarParcela() {
+        var ledger = new ParcelaPremioLedger();
+        MovimentoPremio emissao = movimento("AP1", 1, 8, 100.00, DIA.minusDays(10));
+        ledger.record(emissao);
+        assertThat(ledger.overdue("12345", DIA, 10)).hasSize(1);
+
+        ledger.record(movimento("AP1", 1, 11, 0.01, DIA.plusDays(10)));
+        assertThat(ledger.overdue("12345", DIA, 10)).isEmpty();
+        assertThat(ledger.overdueSummary("12345", DIA.plusDays(11)).saldo()).isEqualByComparingTo("100.01");
+
+        ledger.record(new MovimentoPremioBuilder().from(emissao).indicadorExclusao(ParcelaPremioLedger.EXCLUSAO).build());
+        assertThat(ledger.parcela(new ParcelaKey("12345", "AP1", null, 1)).orElseThrow().emitido())
+            .isEqualByComparingTo("0");
+        assertThat(ledger.overdueSummary("12345", DIA.plusDays(11)).parcelas()).isEqualTo(1);
+        assertThat(ledger.outstanding("12345").saldo()).isEqualByComparingTo("0.01");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar movimento que estoura um total sem aplicá-lo pela metade")
+    void deveRejeitarEstouroSemAplicacaoParcial() {
+        var ledger = new ParcelaPremioLedger(0);
+        ledger.record(movimento("AP1", 1, 8, 9e18, DIA.minusDays(10)));
+        ledger.record(movimento("AP1", 2, 8, 1, DIA.minusDays(20)));
+
+        assertThatThrownBy(() -> ledger.record(movimento("AP1", 3, 8, 9e18, DIA.minusDays(10))))
+            .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> ledger.record(movimento("AP1", 2, 8, 5e17, DIA.minusDays(5))))
+            .isInstanceOf(ArithmeticException.class);
+
+        assertThat(ledger.parcelaCount()).isEqualTo(2);
+        assertThat(ledger.parcela(new ParcelaKey("12345", "AP1", null, 3))).isEmpty();
+        ParcelaPosicao segunda = ledger.parcela(new ParcelaKey("12345", "AP1", null, 2)).orElseThrow();
+        assertThat(segunda.emitido()).isEqualByComparingTo("1");
+        assertThat(segunda.dataVencimento()).isEqualTo(DIA.minusDays(20));
+        assertThat(ledger.overdue("12345", DIA, 10)).extracting(posicao -> posicao.chave().numeroParcelaMovimento())
+            .containsExactly(2, 1);
+        assertThat(ledger.overdueSummary("12345", DIA.minusDays(15)).parcelas()).isEqualTo(1);
+        assertThat(ledger.outstanding("12345").parcelas()).isEqualTo(2);
+        assertThat(ledger.outstanding("12345").saldo()).isEqualByComparingTo("9000000000000000001");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar entradas inválidas")
+    void deveRejeitarEntradasInvalidas() {
+        var ledger = new ParcelaPremioLedger();
+
+        assertThatThrownBy(() -> ledger.record(movimento("AP1", 1, 8, 1.001, null)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("1.001");
+        assertThatThrownBy(() -> ledger.record(new MovimentoPremioBuilder().from(movimento("AP1", 1, 8, 1.00, null))
+            .numeroParcelaMovimento(null).build()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("MOV-PREMIO-1");
+        assertThat(ledger.parcelaCount()).isZero();
+        assertThatThrownBy(() -> ledger.record(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ledger.overdue("12345", DIA, -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ledger.overdueSummary("12345", null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new ParcelaPremioLedger(7)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve ingerir concorrentemente e responder pelo índice de vencimento")
+    void deveIngerirConcorrentemente() throws Exception {
+        var ledger = new ParcelaPremioLedger();
+        int threads = 4;
+        int apolices = 2_500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                tarefas.add(executor.submit(() -> {
+                    for (int i = thread; i < apolices; i += threads) {
+                        for (int parcela = 1; parcela <= 4; parcela++) {
+                            ledger.record(movimento("AP" + i, parcela, 8, 25.00, DIA.minusDays(120 - 30L * parcela)));
+                            if (parcela % 2 == 0) {
+                                ledger.record(movimento("AP" + i, parcela, 1, 25.00, null));
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ledger.parcelaCount()).isEqualTo(4L * apolices);
+        assertThat(ledger.outstanding("12345").parcelas()).isEqualTo(2L * apolices);
+        SaldoEmAberto vencidas = ledger.overdueSummary("12345", DIA.minusDays(45));
+        assertThat(vencidas.parcelas()).isEqualTo(apolices);
+        assertThat(vencidas.saldo()).isEqualByComparingTo(String.valueOf(25L * apolices));
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.wesleyosantos91.susep.sro.model.ledger;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.Adicionais;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistro;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistroBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para ReservaSinistroLedger.
+ */
+@DisplayName("ReservaSinistroLedger - Razão de reservas de sinistro")
+class ReservaSinistroLedgerTest {
+
+    private static MovimentoSinistro movimento(String seguradora, String grupoRamo, String sinistro, int tipo,
+                                               String valor, String adicional) {
+        return new MovimentoSinistroBuilder().from(SroTestData.movimentoSinistro(1, sinistro, tipo, valor))
+            .codigoSeguradora(seguradora)
+            .grupoRamo(grupoRamo)
+            .adicionais(adicional == null ? List.of()
+                : List.of(new Adicionais(1, new BigDecimal(adicional), new BigDecimal(adicional))))
+            .build();
+    }
+
+    @Test
+    @DisplayName("Deve acumular valores por sinistro e tipo de movimento")
+    void deveAcumularPorSinistroETipo() {
+        var ledger = new ReservaSinistroLedger();
+        ledger.record(movimento("12345", "0531", "SIN1", 1, "1000.00", null));
+        ledger.record(movimento("12345", "0531", "SIN1", 2, "250.50", "10.25"));
+        ledger.record(movimento("12345", "0531", "SIN1", 2, "49.50", null));
+        ledger.record(movimento("12345", "0531", "SIN2", 5, "300", null));
+
+        Reserva reserva = ledger.byClaim("12345", "SIN1").orElseThrow();
+
+        assertThat(reserva.movimentos()).isEqualTo(3);
+        assertThat(reserva.valor(1)).isEqualByComparingTo("1000.00");
+        assertThat(reserva.valor(2)).isEqualByComparingTo("300.00");
+        assertThat(reserva.valor(5)).isEqualByComparingTo("0");
+        assertThat(reserva.valorPorTipo()).containsOnlyKeys(1, 2);
+        assertThat(reserva.valorAdicionais()).isEqualByComparingTo("10.25");
+        assertThat(reserva.total()).isEqualByComparingTo("1310.25");
+        assertThat(ledger.byClaim("12345", "SIN3")).isEmpty();
+        assertThat(ledger.byClaim("54321", "SIN1")).isEmpty();
+        assertThat(ledger.claimCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve consolidar por seguradora e por grupo/ramo")
+    void deveConsolidarPorSeguradoraEGrupoRamo() {
+        var ledger = new ReservaSinistroLedger(4, 2);
+        ledger.record(movimento("12345", "0531", "SIN1", 1, "100.00", null));
+        ledger.record(movimento("12345", "0114", "SIN2", 1, "200.00", "1.00"));
+        ledger.record(movimento("54321", "0531", "SIN1", 6, "50.00", null));
+
+        assertThat(ledger.bySeguradora("12345").valor(1)).isEqualByComparingTo("300.00");
+        assertThat(ledger.bySeguradora("12345").total()).isEqualByComparingTo("301.00");
+        assertThat(ledger.bySeguradora("54321").valorPorTipo()).containsOnlyKeys(6);
+        assertThat(ledger.byGrupoRamo("0531").total()).isEqualByComparingTo("150.00");
+        assertThat(ledger.byGrupoRamo("0531").movimentos()).isEqualTo(2);
+        assertThat(ledger.byGrupoRamo("9999").total()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("Deve estornar valores de movimentos de exclusão")
+    void deveEstornarExclusao() {
+        var ledger = new ReservaSinistroLedger();
+        MovimentoSinistro movimento = movimento("12345", "0531", "SIN1", 2, "80.00", "2.00");
+        ledger.record(movimento);
+        ledger.record(movimento("12345", "0531", "SIN1", 1, "20.00", null));
+
+        ledger.record(new MovimentoSinistroBuilder().from(movimento).indicadorExclusao(ReservaSinistroLedger.EXCLUSAO).build());
+
+        Reserva reserva = ledger.byClaim("12345", "SIN1").orElseThrow();
+        assertThat(reserva.movimentos()).isEqualTo(1);
+        assertThat(reserva.valor(2)).isEqualByComparingTo("0");
+        assertThat(reserva.valorPorTipo()).containsOnlyKeys(1);
+        assertThat(reserva.total()).isEqualByComparingTo("20.00");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valores além da escala e parâmetros inválidos")
+    void deveRejeitarEntradasInvalidas() {
+        var ledger = new ReservaSinistroLedger();
+
+        assertThatThrownBy(() -> ledger.record(movimento("12345", "0531", "SIN1", 1, "1.001", null)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("1.001");
+        assertThat(ledger.claimCount()).isZero();
+        assertThatThrownBy(() -> ledger.record(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new ReservaSinistroLedger(3, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ReservaSinistroLedger(4, 7)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(new ReservaSinistroLedger(1, 3).bySeguradora("12345").valorAdicionais().scale()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar movimento que estoura um total sem aplicá-lo pela metade")
+    void deveRejeitarEstouroSemAplicacaoParcial() {
+        var ledger = new ReservaSinistroLedger(1, 0);
+        String maximo = String.valueOf(Long.MAX_VALUE);
+        ledger.record(movimento("12345", "0531", "SIN1", 1, maximo, null));
+        ledger.record(movimento("12345", "0114", "SIN2", 1, "0", maximo));
+
+        assertThatThrownBy(() -> ledger.record(movimento("12345", "0999", "SIN3", 1, "1", null)))
+            .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> ledger.record(movimento("12345", "0114", "SIN2", 2, "5", "1")))
+            .isInstanceOf(ArithmeticException.class);
+
+        assertThat(ledger.claimCount()).isEqualTo(2);
+        assertThat(ledger.byClaim("12345", "SIN3")).isEmpty();
+        Reserva reserva = ledger.byClaim("12345", "SIN2").orElseThrow();
+        assertThat(reserva.movimentos()).isEqualTo(1);
+        assertThat(reserva.valorPorTipo()).containsOnlyKeys(1);
+        assertThat(reserva.valorAdicionais()).isEqualByComparingTo(maximo);
+        assertThat(ledger.byGrupoRamo("0999").movimentos()).isZero();
+        assertThat(ledger.byGrupoRamo("0114").valor(2)).isEqualByComparingTo("0");
+        assertThat(ledger.bySeguradora("12345").movimentos()).isEqualTo(2);
+        assertThat(ledger.bySeguradora("12345").valor(1)).isEqualByComparingTo(maximo);
+    }
+
+    @Test
+    @DisplayName("Deve ingerir concorrentemente com snapshots consistentes")
+    void deveIngerirConcorrentemente() throws Exception {
+        var ledger = new ReservaSinistroLedger(8, 2);
+        int threads = 4;
+        int porThread = 5_000;
+        var inicio = new CountDownLatch(1);
+        var parar = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                tarefas.add(executor.submit(() -> {
+                    inicio.await();
+                    for (int i = 0; i < porThread; i++) {
+                        ledger.record(movimento("12345", "0531", "SIN" + (i % 500), 1 + (i + thread) % 10, "2.00", "1.00"));
+                    }
+                    return null;
+                }));
+            }
+            Future<?> leitor = executor.submit(() -> {
+                inicio.await();
+                while (!parar.get()) {
+                    Reserva snapshot = ledger.bySeguradora("12345");
+                    BigDecimal movimentos = BigDecimal.valueOf(snapshot.movimentos());
+                    assertThat(snapshot.valorAdicionais()).isEqualByComparingTo(movimentos);
+                    assertThat(snapshot.total()).isEqualByComparingTo(movimentos.multiply(BigDecimal.valueOf(3)));
+                }
+                return null;
+            });
+            inicio.countDown();
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+            parar.set(true);
+            leitor.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Reserva total = ledger.bySeguradora("12345");
+        assertThat(total.movimentos()).isEqualTo((long) threads * porThread);
+        assertThat(total.total()).isEqualByComparingTo(BigDecimal.valueOf(3L * threads * porThread));
+        assertThat(ledger.claimCount()).isEqualTo(500);
+        assertThat(ledger.byClaim("12345", "SIN7").orElseThrow().movimentos()).isEqualTo(threads * porThread / 500);
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+import io.github.wesleyosantos91.susep.sro.model.util.EpochDays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.MemorySegment;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para FieldCursor.
+ */
+@DisplayName("FieldCursor - Conversão de campos sobre bytes mapeados")
+class FieldCursorTest {
+
+    private static FieldCursor cursor(FlatFileFormat formato, String linha) {
+        byte[] bytes = linha.getBytes(formato.charset());
+        FieldCursor campos = new FieldCursor(MemorySegment.ofArray(bytes), formato);
+        campos.reset(0, bytes.length);
+        return campos;
+    }
+
+    @Test
+    @DisplayName("Deve separar campos delimitados com aspas, aspas duplicadas e campos vazios")
+    void deveSepararCamposDelimitados() {
+        FieldCursor campos = cursor(FlatFileFormat.Delimited.csv(';'), "a;\"b;\"\"c\"\"\";;\"\";ção");
+
+        assertThat(campos.fieldCount()).isEqualTo(5);
+        assertThat(campos.text(0)).isEqualTo("a");
+        assertThat(campos.text(1)).isEqualTo("b;\"c\"");
+        assertThat(campos.isEmpty(2)).isTrue();
+        assertThat(campos.text(3)).isNull();
+        assertThat(campos.text(4)).isEqualTo("ção");
+        assertThat(campos.isEmpty(5)).isTrue();
+        assertThat(campos.intValue(5)).isNull();
+
+        assertThatThrownBy(() -> cursor(FlatFileFormat.Delimited.csv(';'), "a;\"b"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Aspas não fechadas na coluna 2");
+        assertThatThrownBy(() -> cursor(FlatFileFormat.Delimited.csv(';'), "\"a\"b;c"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Conteúdo após aspas na coluna 1");
+    }
+
+    @Test
+    @DisplayName("Deve recortar campos de largura fixa e tolerar linha curta")
+    void deveRecortarCamposDeLarguraFixa() {
+        FieldCursor campos = cursor(FlatFileFormat.FixedWidth.of(5, 3, 4, 2), "12345 ab  42");
+
+        assertThat(campos.fieldCount()).isEqualTo(4);
+        assertThat(campos.text(0)).isEqualTo("12345");
+        assertThat(campos.text(1)).isEqualTo("ab");
+        assertThat(campos.intValue(2)).isEqualTo(42);
+        assertThat(campos.isEmpty(3)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve converter inteiros e decimais diretamente dos bytes")
+    void deveConverterNumeros() {
+        FieldCursor campos = cursor(FlatFileFormat.Delimited.csv(','),
+            "-2147483648,9223372036854775807,1234.56,\"-0,1\",12345678901234567.5,1e3,0.30000000000000004,12a,1.2.3");
+
+        assertThat(campos.intValue(0)).isEqualTo(Integer.MIN_VALUE);
+        assertThat(campos.longValue(1)).isEqualTo(Long.MAX_VALUE);
+        assertThat(campos.doubleValue(2)).isEqualTo(1234.56);
+        assertThat(campos.doubleValue(3)).isEqualTo(-0.1);
+        assertThat(campos.doubleValue(4)).isEqualTo(12345678901234567.5);
+        assertThat(campos.doubleValue(5)).isEqualTo(1000.0);
+        assertThat(campos.doubleValue(6)).isEqualTo(0.30000000000000004);
+        assertThat(campos.decimal(3)).isEqualByComparingTo(new BigDecimal("-0.1"));
+
+        assertThatThrownBy(() -> campos.intValue(1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Coluna 2 não é um inteiro válido: 9223372036854775807");
+        assertThatThrownBy(() -> campos.intValue(7)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> campos.doubleValue(7))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("decimal válido: 12a");
+        assertThatThrownBy(() -> campos.doubleValue(8)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> campos.decimal(8)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve converter datas ISO, brasileiras e compactas")
+    void deveConverterDatas() {
+        FieldCursor campos = cursor(FlatFileFormat.Delimited.csv(';'),
+            "2024-01-15;2021-06-25T18:00:00Z;15/01/2024;20240115;;2024-02-30;15-01-2024");
+
+        LocalDate esperada = LocalDate.of(2024, 1, 15);
+        assertThat(campos.date(0)).isEqualTo(esperada);
+        assertThat(campos.date(1)).isEqualTo(LocalDate.of(2021, 6, 25));
+        assertThat(campos.date(2)).isEqualTo(esperada);
+        assertThat(campos.epochDay(3)).isEqualTo((int) esperada.toEpochDay());
+        assertThat(campos.epochDay(4)).isEqualTo(EpochDays.NULL);
+        assertThat(campos.date(4)).isNull();
+        assertThatThrownBy(() -> campos.date(5))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Coluna 6 não é uma data válida: 2024-02-30");
+        assertThatThrownBy(() -> campos.date(6)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o texto repetido da mesma coluna")
+    void deveReaproveitarTextoRepetido() {
+        byte[] bytes = "BRL;1\nBRL;2\nUSD;3".getBytes(StandardCharsets.UTF_8);
+        FieldCursor campos = new FieldCursor(MemorySegment.ofArray(bytes), FlatFileFormat.Delimited.csv(';'));
+
+        campos.reset(0, 5);
+        String primeira = campos.text(0);
+        campos.reset(6, 11);
+        String segunda = campos.text(0);
+        campos.reset(12, bytes.length);
+
+        assertThat(segunda).isSameAs(primeira);
+        assertThat(campos.text(0)).isEqualTo("USD");
+        assertThat(campos.intValue(1)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve delimitar valores JSON pela chave, resolvendo escapes e ignorando blocos")
+    void deveDelimitarValoresJson() {
+        var formato = new FlatFileFormat.JsonLines(List.of("codigo", "valor", "data", "nome", "vazio"));
+        FieldCursor campos = cursor(formato, "{ \"extra\": {\"a\": [1, \"}\"]}, \"valor\": -12.5e1, "
+            + "\"nome\": \"M\\u00e3e \\\"X\\\"\\n\\ud83d\\ude00\", \"data\":\"2024-01-15\",\"codigo\" : 42, "
+            + "\"vazio\": null, \"lista\": [] }");
+
+        assertThat(campos.fieldCount()).isEqualTo(5);
+        assertThat(campos.intValue(0)).isEqualTo(42);
+        assertThat(campos.doubleValue(1)).isEqualTo(-125.0);
+        assertThat(campos.date(2)).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(campos.text(3)).isEqualTo("Mãe \"X\"\n😀");
+        assertThat(campos.isEmpty(4)).isTrue();
+        assertThatThrownBy(() -> campos.intValue(1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Campo valor não é um inteiro válido: -12.5e1");
+
+        assertThat(cursor(formato, "{}").isEmpty(0)).isTrue();
+        assertThatThrownBy(() -> cursor(formato, "[1]"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Linha não é um objeto JSON");
+        assertThatThrownBy(() -> cursor(formato, "{\"codigo\": \"1}"))
+            .hasMessage("String JSON não fechada");
+        assertThatThrownBy(() -> cursor(formato, "{\"codigo\": 1} x"))
+            .hasMessage("Conteúdo após o objeto JSON");
+        assertThatThrownBy(() -> cursor(formato, "{\"codigo\" 1}"))
+            .hasMessageStartingWith("':' esperado");
+    }
+}
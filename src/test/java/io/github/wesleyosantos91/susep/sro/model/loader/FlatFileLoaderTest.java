@@ -0,0 +1,217 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para FlatFileLoader e RecordLineMapper.
+ */
+@DisplayName("FlatFileLoader - Carga paralela de arquivos delimitados e de largura fixa")
+class FlatFileLoaderTest {
+
+    private static final FlatFileFormat.Delimited CSV = FlatFileFormat.Delimited.csv(';');
+
+    @TempDir
+    Path diretorio;
+
+    private static MovimentoPremio movimento(int n) {
+        return SroTestData.movimentoPremio(n, "APOLICE-" + n, 1 + n % 12, 1 + n % 14, 100.25 + n,
+            SroTestData.DATA_BASE.plusDays(n % 365));
+    }
+
+    /**
+     * Linha CSV com os componentes do record na ordem de declaração, decimais com vírgula.
+     */
+    private static String linha(Record registro) {
+        List<String> campos = new ArrayList<>();
+        for (RecordComponent componente : registro.getClass().getRecordComponents()) {
+            try {
+                Object valor = componente.getAccessor().invoke(registro);
+                campos.add(valor == null ? "" : valor instanceof Double ? valor.toString().replace('.', ',')
+                    : valor.toString());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return String.join(";", campos);
+    }
+
+    private static String cabecalho(Class<? extends Record> tipo) {
+        StringBuilder nomes = new StringBuilder();
+        for (RecordComponent componente : tipo.getRecordComponents()) {
+            nomes.append(nomes.isEmpty() ? "" : ";").append(componente.getName());
+        }
+        return nomes.toString();
+    }
+
+    private Path arquivo(String conteudo) throws IOException {
+        return Files.writeString(diretorio.resolve("carga.txt"), conteudo, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Deve carregar movimentos de prêmio de CSV com cabeçalho, BOM e CRLF")
+    void deveCarregarCsv() throws IOException {
+        List<MovimentoPremio> esperados = List.of(movimento(1), movimento(2), movimento(3));
+        String conteudo = "﻿" + cabecalho(MovimentoPremio.class) + "\r\n"
+            + esperados.stream().map(FlatFileLoaderTest::linha).collect(Collectors.joining("\r\n", "", "\r\n\r\n"));
+
+        LoadResult<MovimentoPremio> resultado = new FlatFileLoader<>(CSV, RecordLineMapper.of(MovimentoPremio.class))
+            .load(arquivo(conteudo));
+
+        assertThat(resultado.isClean()).isTrue();
+        assertThat(resultado.records()).isEqualTo(esperados);
+        assertThat(resultado.lines()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Deve devolver erros por linha com número e posição corretos entre blocos")
+    void deveDevolverErrosPorLinha() throws IOException {
+        List<String> linhas = new ArrayList<>();
+        linhas.add(cabecalho(MovimentoPremio.class));
+        for (int n = 1; n <= 40; n++) {
+            String linha = linha(movimento(n));
+            if (n % 10 == 0) {
+                linha = linha.replace(";BRL;", ";REAL;");
+            } else if (n == 7) {
+                linha = linha.replace("2024-01-15", "15-01-2024");
+            }
+            linhas.add(linha);
+        }
+        String conteudo = String.join("\n", linhas);
+        Path arquivo = arquivo(conteudo);
+
+        LoadResult<MovimentoPremio> resultado = new FlatFileLoader<>(CSV, RecordLineMapper.of(MovimentoPremio.class), 256)
+            .load(arquivo);
+
+        assertThat(resultado.records()).hasSize(35);
+        assertThat(resultado.records()).extracting(MovimentoPremio::apoliceCodigo)
+            .startsWith("APOLICE-1", "APOLICE-2", "APOLICE-3", "APOLICE-4", "APOLICE-5", "APOLICE-6", "APOLICE-8");
+        assertThat(resultado.lines()).isEqualTo(41);
+        assertThat(resultado.errors()).extracting(LineError::line).containsExactly(8L, 11L, 21L, 31L, 41L);
+        assertThat(resultado.errors().getFirst().message()).contains("Coluna 4 não é uma data válida");
+        for (LineError erro : resultado.errors()) {
+            int inicio = conteudo.indexOf(linhas.get((int) erro.line() - 1));
+            assertThat(erro.offset()).isEqualTo(inicio);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve produzir em paralelo o mesmo resultado da carga em um único bloco")
+    void deveCarregarEmParaleloNaOrdemDoArquivo() throws IOException {
+        StringBuilder conteudo = new StringBuilder(cabecalho(MovimentoPremio.class)).append('\n');
+        List<MovimentoPremio> esperados = new ArrayList<>();
+        for (int n = 0; n < 50_000; n++) {
+            MovimentoPremio movimento = movimento(n);
+            esperados.add(movimento);
+            conteudo.append(linha(movimento)).append('\n');
+        }
+        Path arquivo = arquivo(conteudo.toString());
+        RecordLineMapper<MovimentoPremio> mapper = RecordLineMapper.of(MovimentoPremio.class);
+
+        LoadResult<MovimentoPremio> paralelo = new FlatFileLoader<>(CSV, mapper, 64 * 1024).load(arquivo);
+        LoadResult<MovimentoPremio> unico = new FlatFileLoader<>(CSV, mapper, Long.MAX_VALUE).load(arquivo);
+
+        assertThat(paralelo.isClean()).isTrue();
+        assertThat(paralelo.records()).isEqualTo(esperados);
+        assertThat(paralelo).isEqualTo(unico);
+    }
+
+    @Test
+    @DisplayName("Deve carregar largura fixa em ISO-8859-1 e ignorar linhas com mapeador nulo")
+    void deveCarregarLarguraFixa() throws IOException {
+        String conteudo = """
+            P12345APÓLICE-1  0001201,50 20240115
+            P12345APÓLICE-2  0002-3,2   15/02/2024
+            T00002
+            """;
+        Path arquivo = Files.writeString(diretorio.resolve("fixo.txt"), conteudo, StandardCharsets.ISO_8859_1);
+        record Parcela(String seguradora, String apolice, Integer numero, Double valor, LocalDate vencimento) {
+        }
+        RecordLineMapper<Parcela> parcela = RecordLineMapper.of(Parcela.class, List.of("", "seguradora", "apolice",
+            "numero", "valor", "vencimento"));
+        LineMapper<Parcela> mapper = campos -> Objects.equals(campos.text(0), "P") ? parcela.map(campos) : null;
+
+        LoadResult<Parcela> resultado = new FlatFileLoader<>(FlatFileFormat.FixedWidth.of(1, 5, 11, 4, 7, 10), mapper)
+            .load(arquivo);
+
+        assertThat(resultado.records()).containsExactly(
+            new Parcela("12345", "APÓLICE-1", 1, 201.5, LocalDate.of(2024, 1, 15)),
+            new Parcela("12345", "APÓLICE-2", 2, -3.2, LocalDate.of(2024, 2, 15)));
+        assertThat(resultado.lines()).isEqualTo(3);
+        assertThat(parcela.columns()).containsExactly("", "seguradora", "apolice", "numero", "valor", "vencimento");
+    }
+
+    @Test
+    @DisplayName("Deve carregar documentos por nome de coluna, sem blocos aninhados")
+    void deveCarregarDocumentosPorNome() throws IOException {
+        String conteudo = """
+            apoliceCodigo,uuid,codigoSeguradora,dataRegistro,dataAlteracao,indicadorExclusao,tipoDocumentoEmitido,\
+            tipoEmissao,dataEmissao,dataInicio,dataTermino,codigoFilial,moedaApolice,limiteMaximoGarantia,\
+            limiteMaximoGarantiaReal,observacao
+            APOLICE-1,%s,12345,2024-01-15,2024-01-15,2,1,1,2024-01-15,2024-01-15,2025-01-15,0001,BRL,100000.00,\
+            100000.00,ignorada
+            """.formatted(SroTestData.uuid(1));
+        Path arquivo = arquivo(conteudo);
+        List<String> colunas = new ArrayList<>(List.of(conteudo.substring(0, conteudo.indexOf('\n')).split(",")));
+        colunas.set(colunas.size() - 1, null);
+
+        LoadResult<Documento> resultado = new FlatFileLoader<>(FlatFileFormat.Delimited.csv(','),
+            RecordLineMapper.of(Documento.class, colunas)).load(arquivo);
+
+        assertThat(resultado.isClean()).as("%s", resultado.errors()).isTrue();
+        Documento documento = resultado.records().getFirst();
+        assertThat(documento.apoliceCodigo()).isEqualTo("APOLICE-1");
+        assertThat(documento.dataTermino()).isEqualTo(LocalDate.of(2025, 1, 15));
+        assertThat(documento.limiteMaximoGarantia()).isEqualTo(100_000.0);
+        assertThat(documento.segurados()).isEmpty();
+        assertThat(documento.premioApolice()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar formatos, colunas e parâmetros inválidos")
+    void deveRejeitarConfiguracaoInvalida() throws IOException {
+        assertThatThrownBy(() -> new FlatFileFormat.Delimited('"', true, StandardCharsets.UTF_8))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FlatFileFormat.Delimited(';', true, StandardCharsets.UTF_16))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("ASCII");
+        assertThatThrownBy(() -> FlatFileFormat.FixedWidth.of()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FlatFileFormat.FixedWidth.of(3, 0)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> RecordLineMapper.of(MovimentoPremio.class, List.of("uuid", "inexistente")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inexistente");
+        assertThatThrownBy(() -> RecordLineMapper.of(MovimentoPremio.class, List.of("uuid", "uuid")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecordLineMapper.of(Documento.class, List.of("segurados")))
+            .isInstanceOf(IllegalArgumentException.class);
+        record Invalido(String nome, Object valor) {
+        }
+        assertThatThrownBy(() -> RecordLineMapper.of(Invalido.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("valor");
+
+        assertThatThrownBy(() -> new FlatFileLoader<>(CSV, campos -> campos, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        LoadResult<FieldCursor> vazio = new FlatFileLoader<>(CSV, campos -> campos).load(arquivo(""));
+        assertThat(vazio.records()).isEmpty();
+        assertThat(vazio.lines()).isZero();
+    }
+}
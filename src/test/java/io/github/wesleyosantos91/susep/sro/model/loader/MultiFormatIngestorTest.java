@@ -0,0 +1,226 @@
+package io.github.wesleyosantos91.susep.sro.model.loader;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.batch.BatchPacker;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistro;
+import io.github.wesleyosantos91.susep.sro.model.sinistro.Sinistro;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para InputSniffer e MultiFormatIngestor.
+ */
+@DisplayName("MultiFormatIngestor - Reconhecimento de formato e agregado e ingestão com orçamento")
+@Timeout(30)
+class MultiFormatIngestorTest {
+
+    @TempDir
+    Path diretorio;
+
+    /**
+     * Componentes escalares do record, pelo nome, como ficam após a carga de uma linha.
+     */
+    private static Map<String, Object> escalares(Record registro) {
+        Map<String, Object> valores = new LinkedHashMap<>();
+        for (RecordComponent componente : registro.getClass().getRecordComponents()) {
+            Class<?> tipo = componente.getType();
+            if (List.class.isAssignableFrom(tipo) || tipo.isRecord()) {
+                continue;
+            }
+            try {
+                valores.put(componente.getName(), componente.getAccessor().invoke(registro));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return valores;
+    }
+
+    private static String json(Record registro) {
+        return escalares(registro).entrySet().stream()
+            .map(campo -> "\"" + campo.getKey() + "\": " + switch (campo.getValue()) {
+                case null -> "null";
+                case Number numero -> numero.toString();
+                default -> "\"" + campo.getValue().toString().replace("\"", "\\\"") + "\"";
+            })
+            .collect(Collectors.joining(", ", "{", ", \"segurados\": [{\"nome\": \"}\"}]}"));
+    }
+
+    private static String csv(List<? extends Record> registros, char separador) {
+        String sep = String.valueOf(separador);
+        StringBuilder conteudo = new StringBuilder(String.join(sep, escalares(registros.getFirst()).keySet()));
+        for (Record registro : registros) {
+            conteudo.append('\n').append(escalares(registro).values().stream()
+                .map(valor -> valor == null ? "" : valor.toString())
+                .collect(Collectors.joining(sep)));
+        }
+        return conteudo.append('\n').toString();
+    }
+
+    private Path quadros(String nome, List<? extends Record> registros) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        for (Record registro : registros) {
+            bytes.write(BatchPacker.frame(registro));
+        }
+        return Files.write(diretorio.resolve(nome), bytes.toByteArray());
+    }
+
+    private Path texto(String nome, String conteudo) throws IOException {
+        return Files.writeString(diretorio.resolve(nome), conteudo, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer e carregar quadros, NDJSON e CSV de agregados diferentes na mesma pasta")
+    void deveCarregarFormatosMisturados() throws Exception {
+        List<MovimentoPremio> movimentos = new ArrayList<>();
+        List<Documento> documentos = new ArrayList<>();
+        List<Sinistro> sinistros = new ArrayList<>();
+        List<MovimentoSinistro> movimentosSinistro = new ArrayList<>();
+        for (int n = 1; n <= 50; n++) {
+            movimentos.add(SroTestData.movimentoPremio(n, "APOLICE-" + n, 1, 1, 100.25 + n, SroTestData.DATA_BASE));
+            documentos.add(SroTestData.documento(n, 1));
+            sinistros.add(SroTestData.sinistro(n));
+            movimentosSinistro.add(SroTestData.movimentoSinistro(n, "SIN-" + n, 1, "10.50"));
+        }
+        Path csv = texto("parceiro-a.csv", "\uFEFF" + csv(movimentos, '|'));
+        Path ndjson = texto("parceiro-b.ndjson", documentos.stream().map(MultiFormatIngestorTest::json)
+            .collect(Collectors.joining("\r\n", "", "\r\n")) + "{\"apoliceCodigo\": 1}\n");
+        Path sinistrosBin = quadros("parceiro-c.bin", sinistros);
+        Path movimentosBin = quadros("parceiro-d.bin", movimentosSinistro);
+        byte[] truncado = Files.readAllBytes(movimentosBin);
+        Path truncadoBin = Files.write(diretorio.resolve("parceiro-e.bin"),
+            Arrays.copyOf(truncado, truncado.length - 3));
+        Path avro = Files.write(diretorio.resolve("parceiro-f.avro"), new byte[] {'O', 'b', 'j', 1, 0, 0});
+        Path desconhecido = texto("parceiro-g.csv", "fruta;cor\nbanana;amarela\n");
+
+        Map<Path, IngestedFile> recebidos = new ConcurrentHashMap<>();
+        MultiFormatIngestor ingestor = MultiFormatIngestor.builder().parallelism(3).chunkBytes(512).build();
+        List<IngestReport> resumos = ingestor.ingest(
+            List.of(csv, ndjson, sinistrosBin, movimentosBin, truncadoBin, avro, desconhecido),
+            arquivo -> recebidos.put(arquivo.file(), arquivo));
+
+        assertThat(resumos).extracting(IngestReport::format).containsExactly(InputFormat.DELIMITED,
+            InputFormat.NDJSON, InputFormat.FRAMES, InputFormat.FRAMES, InputFormat.FRAMES, null, null);
+        assertThat(resumos).extracting(IngestReport::type).containsExactly(MovimentoPremio.class, Documento.class,
+            Sinistro.class, MovimentoSinistro.class, MovimentoSinistro.class, null, null);
+        assertThat(resumos).extracting(IngestReport::records).containsExactly(50L, 50L, 50L, 50L, 49L, 0L, 0L);
+        assertThat(resumos).extracting(IngestReport::rejected).containsExactly(0L, 1L, 0L, 0L, 1L, 0L, 0L);
+        assertThat(resumos.get(5).failure()).hasMessageContaining("Avro não suportado");
+        assertThat(resumos.get(6).failure()).hasMessageContaining("nenhum agregado").hasMessageContaining("fruta");
+        assertThat(recebidos).hasSize(5);
+
+        assertThat(recebidos.get(csv).result(MovimentoPremio.class).records())
+            .extracting(MultiFormatIngestorTest::escalares)
+            .isEqualTo(movimentos.stream().map(MultiFormatIngestorTest::escalares).toList());
+        LoadResult<Documento> carregados = recebidos.get(ndjson).result(Documento.class);
+        assertThat(carregados.records()).extracting(MultiFormatIngestorTest::escalares)
+            .isEqualTo(documentos.stream().map(MultiFormatIngestorTest::escalares).toList());
+        assertThat(carregados.records().getFirst().segurados()).isEmpty();
+        assertThat(carregados.errors()).extracting(LineError::line).containsExactly(51L);
+        assertThat(recebidos.get(sinistrosBin).result(Sinistro.class).records()).isEqualTo(sinistros);
+        assertThat(recebidos.get(movimentosBin).input().layout()).isNull();
+        assertThat(recebidos.get(truncadoBin).result(MovimentoSinistro.class).errors())
+            .singleElement().extracting(LineError::line).isEqualTo(50L);
+        assertThatThrownBy(() -> recebidos.get(csv).result(Documento.class))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(ingestor.availableBudget()).isEqualTo(MultiFormatIngestor.DEFAULT_MEMORY_BUDGET);
+    }
+
+    @Test
+    @DisplayName("Deve limitar os arquivos em carga ao orçamento de memória compartilhado")
+    void deveRespeitarOrcamentoDeMemoria() throws Exception {
+        List<MovimentoPremio> movimentos = new ArrayList<>();
+        for (int n = 1; n <= 200; n++) {
+            movimentos.add(SroTestData.movimentoPremio(n, "APOLICE-" + n, 1, 1, 10.0 * n, SroTestData.DATA_BASE));
+        }
+        String conteudo = csv(movimentos, ';');
+        List<Path> arquivos = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            arquivos.add(texto("movimentos-" + i + ".csv", conteudo));
+        }
+        long reserva = (Files.size(arquivos.getFirst()) + 1023) / 1024 * 1024;
+        AtomicInteger emCarga = new AtomicInteger();
+        AtomicInteger maiorConcorrencia = new AtomicInteger();
+        MultiFormatIngestor ingestor = MultiFormatIngestor.builder()
+            .memoryBudget(2 * reserva + 1024)
+            .parallelism(8)
+            .build();
+
+        List<IngestReport> resumos = ingestor.ingest(arquivos, arquivo -> {
+            maiorConcorrencia.accumulateAndGet(emCarga.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(30);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            emCarga.decrementAndGet();
+        });
+
+        assertThat(resumos).allSatisfy(resumo -> {
+            assertThat(resumo.isSuccess()).as("%s", resumo.failure()).isTrue();
+            assertThat(resumo.records()).isEqualTo(200);
+        });
+        assertThat(maiorConcorrencia.get()).isEqualTo(2);
+        assertThat(ingestor.availableBudget()).isEqualTo(2 * reserva + 1024);
+
+        MultiFormatIngestor pequeno = MultiFormatIngestor.builder().memoryBudget(1).build();
+        assertThat(pequeno.ingest(arquivos.subList(0, 2), arquivo -> { }))
+            .allSatisfy(resumo -> assertThat(resumo.isSuccess()).isTrue());
+        assertThatThrownBy(() -> MultiFormatIngestor.builder().memoryBudget(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer os sete agregados pelas colunas e rejeitar cabeçalhos ambíguos")
+    void deveReconhecerAgregadosPelasColunas() {
+        for (Class<? extends Record> tipo : InputSniffer.AGGREGATES) {
+            List<String> colunas = RecordLineMapper.of(tipo).columns();
+            SniffedInput porCabecalho = InputSniffer.sniff((String.join(",", colunas) + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+            assertThat(porCabecalho.type()).isEqualTo(tipo);
+            assertThat(porCabecalho.layout()).isEqualTo(FlatFileFormat.Delimited.csv(colunas.size() > 1 ? ',' : ';'));
+
+            String objeto = colunas.stream().map(coluna -> "\"" + coluna + "\": null")
+                .collect(Collectors.joining(", ", "{", "}"));
+            SniffedInput porChaves = InputSniffer.sniff(objeto.getBytes(StandardCharsets.UTF_8));
+            assertThat(porChaves.format()).isEqualTo(InputFormat.NDJSON);
+            assertThat(porChaves.type()).isEqualTo(tipo);
+        }
+
+        assertThat(InputSniffer.sniff("apoliceCodigo;uuid;numeroParcelaMovimento\n".getBytes(StandardCharsets.UTF_8))
+            .type()).isEqualTo(MovimentoPremio.class);
+        assertThat(InputSniffer.sniff("\"dataTermino\"\r\n".getBytes(StandardCharsets.UTF_8)).type())
+            .as("todos os escalares de Ccg, contra uma fração dos de Documento")
+            .isEqualTo(io.github.wesleyosantos91.susep.sro.model.ccg.Ccg.class);
+        assertThatThrownBy(() -> InputSniffer.sniff("{\"apoliceCodigo\": 1, \"status\": 2}".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("nenhum agregado");
+        assertThatThrownBy(() -> InputSniffer.sniff(new byte[0]))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Arquivo vazio");
+        assertThatThrownBy(() -> InputSniffer.sniff(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9}))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("conteúdo binário");
+    }
+}
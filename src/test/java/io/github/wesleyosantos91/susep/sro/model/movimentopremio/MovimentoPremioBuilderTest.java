@@ -0,0 +1,25 @@
+package io.github.wesleyosantos91.susep.sro.model.movimentopremio;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para o builder de MovimentoPremio.
+ */
+@DisplayName("Builder do Movimento de Prêmio")
+class MovimentoPremioBuilderTest {
+
+    @Test
+    @DisplayName("Deve reconstruir o movimento e permitir reutilização após reset")
+    void deveReconstruirEReutilizar() {
+        MovimentoPremio original = SroTestData.movimentoPremio(1, "APOLICE-1", 1, 8, 100.0, SroTestData.DATA_BASE);
+        MovimentoPremioBuilder builder = new MovimentoPremioBuilder();
+
+        assertThat(builder.from(original).build()).isEqualTo(original);
+        assertThatThrownBy(() -> builder.reset().build()).isInstanceOf(NullPointerException.class);
+        assertThat(builder.from(original).numeroParcelaMovimento(2).build().numeroParcelaMovimento()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.wesleyosantos91.susep.sro.model.movimentosinistro;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para os builders do pacote movimentosinistro.
+ */
+@DisplayName("Builders do Movimento de Sinistro")
+class MovimentoSinistroBuildersTest {
+
+    @Test
+    @DisplayName("Deve reconstruir o movimento sem copiar os adicionais")
+    void deveReconstruirMovimento() {
+        MovimentoSinistro original = SroTestData.movimentoSinistro(1, "SIN-1", 1, "100.00");
+
+        MovimentoSinistro copia = new MovimentoSinistroBuilder().from(original).build();
+
+        assertThat(copia).isEqualTo(original);
+        assertThat(copia.adicionais()).isSameAs(original.adicionais());
+    }
+
+    @Test
+    @DisplayName("Deve acumular adicionais e reutilizar o builder")
+    void deveAcumularAdicionais() {
+        MovimentoSinistroBuilder builder = new MovimentoSinistroBuilder();
+        Adicionais adicional = new Adicionais(1, BigDecimal.ONE, BigDecimal.ONE);
+
+        MovimentoSinistro movimento = builder.from(SroTestData.movimentoSinistro(1, "SIN-1", 1, "100.00"))
+            .addAdicionais(new AdicionaisBuilder().from(adicional).build())
+            .build();
+
+        assertThat(movimento.adicionais()).hasSize(2).last().isEqualTo(adicional);
+        assertThatThrownBy(() -> builder.reset().build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdicionaisBuilder().from(adicional).reset().build())
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir Adicional")
+    void deveReconstruirAdicional() {
+        Adicional adicional = new Adicional(1, BigDecimal.TEN, BigDecimal.TEN);
+
+        assertThat(new AdicionalBuilder().from(adicional).build()).isEqualTo(adicional);
+        assertThatThrownBy(() -> new AdicionalBuilder().from(adicional).reset().build())
+            .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,195 @@
+package io.github.wesleyosantos91.susep.sro.model.pipeline;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.sinistro.Sinistro;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para PartitionedExecutor.
+ */
+@DisplayName("PartitionedExecutor - Execução paralela com ordem preservada por apólice")
+@Timeout(30)
+class PartitionedExecutorTest {
+
+    @Test
+    @DisplayName("Deve aplicar os eventos de cada apólice em ordem, com apólices em paralelo")
+    void deveAplicarEventosEmOrdemPorApolice() throws Exception {
+        List<Record> eventos = new ArrayList<>();
+        for (int versao = 1; versao <= 5; versao++) {
+            for (int n = 1; n <= 200; n++) {
+                String apolice = "APOLICE-" + n;
+                eventos.add(switch (versao) {
+                    case 1 -> SroTestData.documento(n, apolice, SroTestData.DATA_BASE, 1);
+                    case 2 -> SroTestData.endosso(n, apolice, SroTestData.DATA_BASE, List.of(SroTestData.segurado(n)));
+                    default -> SroTestData.movimentoPremio(n * 10 + versao, apolice, versao - 2, 1, 10.0 * versao,
+                        SroTestData.DATA_BASE);
+                });
+            }
+        }
+        Map<String, List<Record>> aplicados = new ConcurrentHashMap<>();
+        Map<String, AtomicInteger> emCurso = new ConcurrentHashMap<>();
+        AtomicInteger simultaneos = new AtomicInteger();
+        AtomicInteger maiorParalelismo = new AtomicInteger();
+
+        PartitionedExecutor<Record> executor = PartitionedExecutor.<Record>builder(PartitionedExecutor::sroKey,
+                evento -> {
+                    String chave = PartitionedExecutor.sroKey(evento);
+                    assertThat(emCurso.computeIfAbsent(chave, c -> new AtomicInteger()).incrementAndGet()).isOne();
+                    maiorParalelismo.accumulateAndGet(simultaneos.incrementAndGet(), Math::max);
+                    Thread.sleep(0, 200_000);
+                    aplicados.computeIfAbsent(chave, c -> new CopyOnWriteArrayList<>()).add(evento);
+                    simultaneos.decrementAndGet();
+                    emCurso.get(chave).decrementAndGet();
+                    return null;
+                })
+            .partitions(32)
+            .workers(4)
+            .queueCapacity(8)
+            .build();
+
+        try (executor) {
+            for (Record evento : eventos) {
+                executor.submit(evento);
+            }
+            PartitionedStats stats = executor.complete().get();
+
+            assertThat(aplicados).hasSize(200);
+            for (int n = 1; n <= 200; n++) {
+                String apolice = "APOLICE-" + n;
+                assertThat(aplicados.get(apolice))
+                    .isEqualTo(eventos.stream().filter(e -> PartitionedExecutor.sroKey(e).equals(apolice)).toList());
+            }
+            assertThat(maiorParalelismo.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+            assertThat(stats.partitions()).hasSize(32).allSatisfy(particao -> {
+                assertThat(particao.pending()).isZero();
+                assertThat(particao.lag()).isZero();
+            });
+            assertThat(stats.partitions().stream().mapToLong(PartitionStats::processed).sum()).isEqualTo(1_000);
+            assertThat(stats.pending()).isZero();
+        }
+        assertThatThrownBy(() -> executor.submit(eventos.getFirst())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Deve seguir processando as demais partições e expor o atraso da partição quente")
+    void deveExporAtrasoDaParticaoQuente() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch iniciado = new CountDownLatch(1);
+        AtomicInteger frios = new AtomicInteger();
+        PartitionedExecutor<String> executor = PartitionedExecutor.<String>builder(chave -> chave, chave -> {
+                if (chave.equals("QUENTE")) {
+                    iniciado.countDown();
+                    liberar.await();
+                } else {
+                    frios.incrementAndGet();
+                }
+                return null;
+            })
+            .partitions(64)
+            .workers(2)
+            .build();
+
+        try (executor) {
+            int quente = executor.partitionOf("QUENTE");
+            for (int n = 0; n < 20; n++) {
+                executor.submit("QUENTE");
+            }
+            assertThat(iniciado.await(10, TimeUnit.SECONDS)).isTrue();
+            int esperados = 0;
+            for (int n = 0; n < 500; n++) {
+                String chave = "FRIA-" + n;
+                if (executor.partitionOf(chave) != quente) {
+                    executor.submit(chave);
+                    esperados++;
+                }
+            }
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (frios.get() < esperados && System.nanoTime() < limite) {
+                Thread.sleep(5);
+            }
+            assertThat(frios.get()).isEqualTo(esperados);
+
+            Thread.sleep(20);
+            PartitionedStats parcial = executor.stats();
+            PartitionStats atrasada = parcial.mostLagged();
+            assertThat(atrasada.partition()).isEqualTo(quente);
+            assertThat(atrasada.pending()).isEqualTo(20);
+            assertThat(atrasada.queueDepth()).isEqualTo(19);
+            assertThat(atrasada.lag()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+            assertThat(parcial.pending()).isEqualTo(20);
+
+            liberar.countDown();
+            PartitionedStats stats = executor.complete().get();
+            assertThat(stats.partition(quente).processed()).isEqualTo(20);
+            assertThat(stats.mostLagged().lagNanos()).isZero();
+            assertThat(stats.throughput()).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve entregar rejeições ao tratador ou interromper na primeira falha")
+    void deveTratarFalhas() throws Exception {
+        List<StageFailure> rejeitados = new CopyOnWriteArrayList<>();
+        List<Integer> aplicados = new CopyOnWriteArrayList<>();
+        Stage<Integer, Object> tarefa = n -> {
+            if (n % 10 == 3) {
+                throw new IllegalArgumentException("Valor inválido: " + n);
+            }
+            aplicados.add(n);
+            return null;
+        };
+
+        try (PartitionedExecutor<Integer> executor = PartitionedExecutor.<Integer>builder(n -> n % 2, tarefa)
+                .partitions(4)
+                .onError(rejeitados::add)
+                .build()) {
+            for (int n = 0; n < 100; n++) {
+                executor.submit(n);
+            }
+            PartitionedStats stats = executor.complete().get();
+
+            assertThat(rejeitados).hasSize(10).allSatisfy(falha -> {
+                assertThat(falha.stage()).isEqualTo("particao-" + executor.partitionOf((Integer) falha.item()));
+                assertThat(falha.cause()).hasMessageStartingWith("Valor inválido");
+            });
+            assertThat(aplicados).hasSize(90);
+            assertThat(aplicados.stream().filter(n -> n % 2 == 1).toList()).isSorted();
+            assertThat(stats.partitions().stream().mapToLong(PartitionStats::failed).sum()).isEqualTo(10);
+        }
+
+        try (PartitionedExecutor<Integer> estrito = PartitionedExecutor.<Integer>builder(n -> n, tarefa).build()) {
+            for (int n = 0; n < 4; n++) {
+                estrito.submit(n);
+            }
+            assertThatThrownBy(() -> estrito.complete().get())
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("Valor inválido: 3");
+            assertThatThrownBy(() -> estrito.submit(5))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Executor não aceita mais itens");
+        }
+
+        assertThatThrownBy(() -> PartitionedExecutor.sroKey(SroTestData.sinistro(1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(Sinistro.class.getSimpleName());
+        assertThat(PartitionedExecutor.sroKey(SroTestData.movimentoSinistro(1, "SIN-1", 1, "10.00")))
+            .isEqualTo("SIN-1");
+        assertThatThrownBy(() -> PartitionedExecutor.builder(n -> n, tarefa).partitions(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
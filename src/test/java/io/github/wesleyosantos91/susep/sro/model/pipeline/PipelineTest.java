@@ -0,0 +1,185 @@
+package io.github.wesleyosantos91.susep.sro.model.pipeline;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.dedup.ScalableBloomFilter;
+import io.github.wesleyosantos91.susep.sro.model.dedup.UuidDeduplicator;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para Pipeline.
+ */
+@DisplayName("Pipeline - Ingestão em etapas com filas limitadas e métricas")
+@Timeout(30)
+class PipelineTest {
+
+    @Test
+    @DisplayName("Deve converter, validar, deduplicar e indexar movimentos de prêmio")
+    void deveProcessarEtapasDeIngestao() throws Exception {
+        Set<String> aceitos = ConcurrentHashMap.newKeySet();
+        var deduplicador = new UuidDeduplicator(ScalableBloomFilter.create(1_000, 0.01), aceitos::contains);
+        Map<String, MovimentoPremio> indice = new ConcurrentHashMap<>();
+        List<StageFailure> rejeitados = new CopyOnWriteArrayList<>();
+        Set<Boolean> threadsVirtuais = ConcurrentHashMap.newKeySet();
+
+        Pipeline<Integer, MovimentoPremio> pipeline = Pipeline.<Integer>builder()
+            .stage("parse", StageType.CPU, 2, (Integer n) -> {
+                threadsVirtuais.add(Thread.currentThread().isVirtual());
+                return new int[] {n % 500, n % 500 == 7 ? 99 : 1};
+            })
+            .stage("validate", StageType.CPU, 2, campos -> SroTestData.movimentoPremio(campos[0],
+                "APOLICE-" + campos[0], 1, campos[1], 100.0, SroTestData.DATA_BASE))
+            .stage("dedup", StageType.CPU, 1, movimento ->
+                deduplicador.firstSeen(movimento.uuid(), aceitos::add) ? movimento : null)
+            .stage("index", StageType.IO, 8, movimento -> {
+                assertThat(Thread.currentThread().isVirtual()).isTrue();
+                Thread.sleep(1);
+                indice.put(movimento.uuid(), movimento);
+                return movimento;
+            })
+            .queueCapacity(16)
+            .onError(rejeitados::add)
+            .build();
+
+        try (pipeline) {
+            for (int n = 0; n < 1_000; n++) {
+                pipeline.submit(n);
+            }
+            PipelineStats stats = pipeline.complete().get();
+
+            assertThat(threadsVirtuais).containsExactly(false);
+            assertThat(indice).hasSize(499).doesNotContainKey(SroTestData.uuid(2_000_007L));
+            assertThat(rejeitados).hasSize(2).allSatisfy(falha -> {
+                assertThat(falha.stage()).isEqualTo("validate");
+                assertThat(falha.cause()).hasMessageContaining("Tipo de movimento");
+                assertThat(falha.item()).isEqualTo(new int[] {7, 99});
+            });
+            assertThat(stats.stages()).extracting(StageStats::name).containsExactly("parse", "validate", "dedup", "index");
+            assertThat(stats.stage("parse").received()).isEqualTo(1_000);
+            assertThat(stats.stage("validate").failed()).isEqualTo(2);
+            assertThat(stats.stage("dedup").received()).isEqualTo(998);
+            assertThat(stats.stage("dedup").dropped()).isEqualTo(499);
+            StageStats index = stats.stage("index");
+            assertThat(index.emitted()).isEqualTo(499);
+            assertThat(index.type()).isEqualTo(StageType.IO);
+            assertThat(index.queueDepth()).isZero();
+            assertThat(index.averageLatency().toNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+            assertThat(index.maxLatencyNanos()).isGreaterThanOrEqualTo(index.averageLatency().toNanos());
+            assertThat(index.throughput()).isPositive();
+            assertThat(pipeline.stats()).isEqualTo(stats);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve limitar as filas e apontar a etapa lenta como gargalo")
+    void deveAplicarContrapressao() throws Exception {
+        var liberar = new CountDownLatch(1);
+        AtomicInteger entregues = new AtomicInteger();
+        Pipeline<Integer, Integer> pipeline = Pipeline.<Integer>builder()
+            .stage("rapida", StageType.CPU, 1, (Integer n) -> n)
+            .stage("lenta", StageType.IO, 1, n -> {
+                liberar.await();
+                return n;
+            })
+            .queueCapacity(2)
+            .build(n -> entregues.incrementAndGet());
+
+        try (pipeline) {
+            var produtor = Thread.ofPlatform().start(() -> {
+                try {
+                    for (int n = 0; n < 20; n++) {
+                        pipeline.submit(n);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            while (pipeline.stats().stage("rapida").queueDepth() < 2 || pipeline.stats().stage("lenta").queueDepth() < 2
+                    || produtor.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+            PipelineStats parcial = pipeline.stats();
+            assertThat(parcial.stage("lenta").queueDepth()).isEqualTo(2);
+            assertThat(parcial.stage("lenta").queueCapacity()).isEqualTo(2);
+            assertThat(parcial.stage("rapida").received()).isLessThan(20);
+            Thread.sleep(20);
+            assertThat(pipeline.stats().bottleneck().name()).isEqualTo("lenta");
+
+            liberar.countDown();
+            produtor.join();
+            PipelineStats stats = pipeline.complete().get();
+            assertThat(entregues).hasValue(20);
+            assertThat(stats.stage("lenta").received()).isEqualTo(20);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve interromper o pipeline na primeira falha sem tratador")
+    void deveInterromperNaPrimeiraFalha() throws Exception {
+        Pipeline<Integer, Integer> pipeline = Pipeline.<Integer>builder()
+            .stage("validate", StageType.CPU, 2, (Integer n) -> {
+                if (n == 3) {
+                    throw new IllegalArgumentException("Item inválido: 3");
+                }
+                return n;
+            })
+            .stage("index", StageType.IO, 2, n -> n)
+            .build();
+
+        try (pipeline) {
+            for (int n = 0; n < 5; n++) {
+                pipeline.submit(n);
+            }
+            assertThatThrownBy(() -> pipeline.complete().get())
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("validate")
+                .hasRootCauseMessage("Item inválido: 3");
+            assertThatThrownBy(() -> pipeline.submit(6))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(pipeline.stats().stage("validate").failed()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve cancelar ao fechar e rejeitar configurações inválidas")
+    void deveCancelarAoFechar() throws Exception {
+        var bloqueio = new CountDownLatch(1);
+        Pipeline<Integer, Integer> pipeline = Pipeline.<Integer>builder()
+            .stage("bloqueada", StageType.IO, 1, (Integer n) -> {
+                bloqueio.await();
+                return n;
+            })
+            .build();
+        pipeline.submit(1);
+        pipeline.close();
+
+        assertThat(pipeline.complete()).isCompletedExceptionally();
+        assertThatThrownBy(() -> pipeline.submit(2)).isInstanceOf(IllegalStateException.class);
+
+        assertThatThrownBy(() -> Pipeline.<Integer>builder().build()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> Pipeline.<Integer>builder().stage("a", StageType.CPU, 0, (Integer n) -> n))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Pipeline.<Integer>builder().stage("a", StageType.CPU, 1, (Integer n) -> n)
+            .stage("a", StageType.IO, 1, n -> n))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("repetido");
+        assertThatThrownBy(() -> Pipeline.<Integer>builder().queueCapacity(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.wesleyosantos91.susep.sro.model.registry;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.DocumentoBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para DocumentoRegistry.
+ */
+@DisplayName("DocumentoRegistry - Registro concorrente de documentos")
+class DocumentoRegistryTest {
+
+    private static final LocalDate DIA = SroTestData.DATA_BASE;
+
+    private static Documento versao(String apolice, int dias) {
+        return SroTestData.documento(1, apolice, DIA.plusDays(dias), 0);
+    }
+
+    private static Documento exclusao(String apolice, int dias) {
+        return new DocumentoBuilder().from(versao(apolice, dias)).indicadorExclusao(DocumentoRegistry.EXCLUSAO).build();
+    }
+
+    @Test
+    @DisplayName("Deve manter a versão com dataAlteracao mais recente")
+    void deveManterVersaoMaisRecente() {
+        var registro = new DocumentoRegistry();
+
+        assertThat(registro.upsert(versao("AP1", 5))).isTrue();
+        assertThat(registro.upsert(versao("AP1", 3))).isFalse();
+        assertThat(registro.find("12345", "AP1", null)).map(Documento::dataAlteracao).contains(DIA.plusDays(5));
+
+        assertThat(registro.upsert(versao("AP1", 7))).isTrue();
+        assertThat(registro.find(new DocumentoKey("12345", "AP1", null))).map(Documento::dataAlteracao)
+            .contains(DIA.plusDays(7));
+        assertThat(registro.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar a última escrita quando a data de alteração empata")
+    void deveAplicarUltimaEscritaNoEmpate() {
+        var registro = new DocumentoRegistry();
+        Documento primeira = versao("AP1", 1);
+        Documento segunda = new DocumentoBuilder().from(primeira).anotacao("corrigido").build();
+
+        registro.upsert(primeira);
+
+        assertThat(registro.upsert(segunda)).isTrue();
+        assertThat(registro.find(DocumentoKey.of(primeira))).contains(segunda);
+    }
+
+    @Test
+    @DisplayName("Deve tratar exclusão como lápide que bloqueia versões antigas")
+    void deveTratarExclusaoComoLapide() {
+        var registro = new DocumentoRegistry();
+        registro.upsert(versao("AP1", 1));
+        registro.upsert(versao("AP2", 1));
+
+        assertThat(registro.upsert(exclusao("AP1", 5))).isTrue();
+        assertThat(registro.find("12345", "AP1", null)).isEmpty();
+        assertThat(registro.isDeleted(new DocumentoKey("12345", "AP1", null))).isTrue();
+        assertThat(registro.size()).isEqualTo(1);
+
+        assertThat(registro.upsert(versao("AP1", 4))).isFalse();
+        assertThat(registro.find("12345", "AP1", null)).isEmpty();
+
+        assertThat(registro.upsert(versao("AP1", 6))).isTrue();
+        assertThat(registro.find("12345", "AP1", null)).isPresent();
+        assertThat(registro.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve remover lápides anteriores à data de corte")
+    void deveRemoverLapides() {
+        var registro = new DocumentoRegistry();
+        registro.upsert(exclusao("AP1", 1));
+        registro.upsert(exclusao("AP2", 10));
+        registro.upsert(versao("AP3", 1));
+
+        assertThat(registro.purgeTombstones(DIA.plusDays(5))).isEqualTo(1);
+        assertThat(registro.isDeleted(new DocumentoKey("12345", "AP1", null))).isFalse();
+        assertThat(registro.isDeleted(new DocumentoKey("12345", "AP2", null))).isTrue();
+
+        List<String> vigentes = new ArrayList<>();
+        registro.forEach(documento -> vigentes.add(documento.apoliceCodigo()));
+        assertThat(vigentes).containsExactly("AP3");
+    }
+
+    @Test
+    @DisplayName("Deve distinguir chaves que colidiriam na concatenação")
+    void deveDistinguirChaves() {
+        assertThat(new DocumentoKey("12345", "1", "23")).isNotEqualTo(new DocumentoKey("12345", "12", "3"));
+        assertThat(new DocumentoKey("12345", "AP", null)).isNotEqualTo(new DocumentoKey("12345", "AP", ""));
+        assertThat(DocumentoKey.of(SroTestData.endosso(1, "AP1", DIA, List.of())))
+            .isEqualTo(new DocumentoKey("12345", "AP1", null));
+        assertThatThrownBy(() -> new DocumentoKey(null, "AP", null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new DocumentoRegistry(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DocumentoRegistry().upsert(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("Deve convergir para a versão mais recente com escritas e leituras concorrentes")
+    void deveConvergirComConcorrencia() throws Exception {
+        int apolices = 50;
+        int versoes = 40;
+        List<Documento> atualizacoes = new ArrayList<>();
+        for (int a = 0; a < apolices; a++) {
+            for (int v = 0; v < versoes; v++) {
+                atualizacoes.add(v == versoes - 1 && a % 5 == 0 ? exclusao("AP" + a, v) : versao("AP" + a, v));
+            }
+        }
+        Collections.shuffle(atualizacoes, new Random(42));
+
+        var registro = new DocumentoRegistry(apolices);
+        int escritores = 4;
+        var inicio = new CountDownLatch(1);
+        var parar = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(escritores + 2);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int e = 0; e < escritores; e++) {
+                int fatia = e;
+                tarefas.add(executor.submit(() -> {
+                    inicio.await();
+                    for (int i = fatia; i < atualizacoes.size(); i += escritores) {
+                        registro.upsert(atualizacoes.get(i));
+                    }
+                    return null;
+                }));
+            }
+            Future<?> leitor = executor.submit(() -> {
+                inicio.await();
+                while (!parar.get()) {
+                    for (int a = 0; a < apolices; a++) {
+                        registro.find("12345", "AP" + a, null).ifPresent(documento ->
+                            assertThat(documento.indicadorExclusao()).isNotEqualTo(DocumentoRegistry.EXCLUSAO));
+                    }
+                }
+                return null;
+            });
+            inicio.countDown();
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+            parar.set(true);
+            leitor.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int a = 0; a < apolices; a++) {
+            var documento = registro.find("12345", "AP" + a, null);
+            if (a % 5 == 0) {
+                assertThat(documento).isEmpty();
+            } else {
+                assertThat(documento).map(Documento::dataAlteracao).contains(DIA.plusDays(versoes - 1));
+            }
+        }
+        assertThat(registro.size()).isEqualTo(apolices - apolices / 5);
+    }
+}
@@ -0,0 +1,184 @@
+package io.github.wesleyosantos91.susep.sro.model.registry;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.DocumentoBuilder;
+import io.github.wesleyosantos91.susep.sro.model.documento.Segurado;
+import io.github.wesleyosantos91.susep.sro.model.documento.SeguradoBuilder;
+import io.github.wesleyosantos91.susep.sro.model.endosso.Endosso;
+import io.github.wesleyosantos91.susep.sro.model.endosso.EndossoBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para EndossoMaterializer.
+ */
+@DisplayName("EndossoMaterializer - Aplicação incremental de endossos")
+class EndossoMaterializerTest {
+
+    private static final LocalDate DIA = SroTestData.DATA_BASE;
+
+    private static List<Segurado> copiaProfunda(List<Segurado> segurados) {
+        List<Segurado> copia = new ArrayList<>(segurados.size());
+        for (Segurado segurado : segurados) {
+            copia.add(new SeguradoBuilder().from(segurado).nome(new String(segurado.nome())).build());
+        }
+        return copia;
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar os segurados inalterados ao aplicar endosso")
+    void deveCompartilharSeguradosInalterados() {
+        Documento base = SroTestData.documento(1, "AP1", DIA, 5000);
+        List<Segurado> segurados = copiaProfunda(base.segurados());
+        segurados.set(2500, new SeguradoBuilder().from(segurados.get(2500)).nome("Segurado alterado").build());
+        Endosso endosso = SroTestData.endosso(1, "AP1", DIA.plusDays(1), segurados);
+
+        Documento efetivo = EndossoMaterializer.materialize(base, endosso);
+
+        assertThat(efetivo.segurados()).hasSize(5000).isNotSameAs(base.segurados());
+        assertThat(efetivo.segurados().get(0)).isSameAs(base.segurados().get(0));
+        assertThat(efetivo.segurados().get(4999)).isSameAs(base.segurados().get(4999));
+        assertThat(efetivo.segurados().get(2500)).isSameAs(segurados.get(2500));
+        assertThat(efetivo.segurados().get(2500).nome()).isEqualTo("Segurado alterado");
+        assertThat(efetivo.segurados()).isEqualTo(endosso.segurados());
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar listas e blocos inteiros quando iguais")
+    void deveReaproveitarBlocosIguais() {
+        Documento base = SroTestData.documento(1, "AP1", DIA, 100);
+        Endosso endosso = SroTestData.endosso(1, "AP1", DIA.plusDays(1), copiaProfunda(base.segurados()));
+
+        Documento efetivo = EndossoMaterializer.materialize(base, endosso);
+
+        assertThat(efetivo.segurados()).isSameAs(base.segurados());
+        assertThat(efetivo.ccgs()).isSameAs(base.ccgs());
+        assertThat(efetivo.objetosSegurados()).isSameAs(base.objetosSegurados());
+        assertThat(efetivo.cosseguro()).isSameAs(base.cosseguro());
+        assertThat(efetivo.premioApolice()).isSameAs(endosso.premioApolice());
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar elementos que mudaram de posição")
+    void deveReaproveitarElementosDeslocados() {
+        Documento base = SroTestData.documento(1, "AP1", DIA, 10);
+        List<Segurado> segurados = copiaProfunda(base.segurados());
+        segurados.add(0, SroTestData.segurado(999));
+        segurados.remove(5);
+
+        Documento efetivo = EndossoMaterializer.materialize(base, SroTestData.endosso(1, "AP1", DIA.plusDays(1), segurados));
+
+        assertThat(efetivo.segurados()).isEqualTo(segurados);
+        assertThat(efetivo.segurados().get(1)).isSameAs(base.segurados().get(0));
+        assertThat(efetivo.segurados().get(9)).isSameAs(base.segurados().get(9));
+    }
+
+    @Test
+    @DisplayName("Deve levar os dados do endosso preservando a identificação do documento")
+    void deveLevarDadosDoEndosso() {
+        Documento base = SroTestData.documento(1, "AP1", DIA, 1);
+        Endosso endosso = SroTestData.endosso(1, "AP1", DIA.plusDays(2), base.segurados());
+
+        Documento efetivo = EndossoMaterializer.materialize(base, endosso);
+
+        assertThat(efetivo.uuid()).isEqualTo(base.uuid());
+        assertThat(efetivo.dataRegistro()).isEqualTo(base.dataRegistro());
+        assertThat(efetivo.dataAlteracao()).isEqualTo(DIA.plusDays(2));
+        assertThat(efetivo.dataInicio()).isEqualTo(endosso.dataInicioDocumento());
+        assertThat(efetivo.dataTermino()).isEqualTo(endosso.dataTerminoDocumento());
+        assertThat(efetivo.limiteMaximoGarantia()).isEqualTo(endosso.limiteMaximoGarantia());
+        assertThat(efetivo.premioApolice()).isEqualTo(endosso.premioApolice());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar endossos incrementalmente sobre o registro")
+    void deveAplicarSobreRegistro() {
+        var registro = new DocumentoRegistry();
+        var materializador = new EndossoMaterializer(registro);
+        Documento base = SroTestData.documento(1, "AP1", DIA, 3);
+        registro.upsert(base);
+        DocumentoKey chave = DocumentoKey.of(base);
+
+        var segundo = SroTestData.endosso(2, "AP1", DIA.plusDays(2), List.of(SroTestData.segurado(1)));
+        var primeiro = SroTestData.endosso(1, "AP1", DIA.plusDays(1), List.of(SroTestData.segurado(2)));
+
+        assertThat(materializador.apply(segundo)).isPresent();
+        assertThat(materializador.apply(primeiro)).isEmpty();
+        assertThat(materializador.apply(segundo)).isPresent();
+        assertThat(materializador.effective(chave)).map(Documento::segurados).contains(List.of(SroTestData.segurado(1)));
+
+        var exclusao = new EndossoBuilder().from(segundo).dataAlteracao(DIA.plusDays(3)).indicadorExclusao(1).build();
+        assertThat(materializador.apply(exclusao)).isEmpty();
+        assertThat(materializador.effective(chave)).map(Documento::dataAlteracao).contains(DIA.plusDays(2));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar endosso atomicamente com versões publicadas em paralelo")
+    void deveAplicarAtomicamenteComVersoesConcorrentes() throws Exception {
+        int apolices = 2_000;
+        var registro = new DocumentoRegistry(apolices);
+        var materializador = new EndossoMaterializer(registro);
+        List<Documento> versoes = new ArrayList<>(apolices);
+        List<Endosso> endossos = new ArrayList<>(apolices);
+        for (int a = 0; a < apolices; a++) {
+            Documento base = SroTestData.documento(a, "AP" + a, DIA, 1);
+            registro.upsert(base);
+            versoes.add(new DocumentoBuilder().from(base).dataAlteracao(DIA.plusDays(1)).numeroSusepApolice("NOVO-" + a)
+                .build());
+            endossos.add(new EndossoBuilder().from(SroTestData.endosso(a, "AP" + a, DIA.plusDays(1), base.segurados()))
+                .numeroSusepApolice(null).build());
+        }
+
+        var inicio = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> publicador = executor.submit(() -> {
+                inicio.await();
+                versoes.forEach(registro::upsert);
+                return null;
+            });
+            Future<?> endossante = executor.submit(() -> {
+                inicio.await();
+                endossos.forEach(materializador::apply);
+                return null;
+            });
+            inicio.countDown();
+            publicador.get();
+            endossante.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int a = 0; a < apolices; a++) {
+            assertThat(materializador.effective(DocumentoKey.of(versoes.get(a))))
+                .map(Documento::numeroSusepApolice)
+                .contains("NOVO-" + a);
+        }
+        assertThat(registro.size()).isEqualTo(apolices);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar endosso sem documento vigente ou de outra apólice")
+    void deveRejeitarEndossoInvalido() {
+        var materializador = new EndossoMaterializer(new DocumentoRegistry());
+        Endosso endosso = SroTestData.endosso(1, "AP1", DIA, List.of());
+
+        assertThatThrownBy(() -> materializador.apply(endosso))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("END-1");
+        assertThatThrownBy(() -> EndossoMaterializer.materialize(SroTestData.documento(1, "AP2", DIA, 0), endosso))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EndossoMaterializer(null)).isInstanceOf(NullPointerException.class);
+    }
+}
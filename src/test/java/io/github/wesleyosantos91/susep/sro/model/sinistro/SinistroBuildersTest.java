@@ -0,0 +1,63 @@
+package io.github.wesleyosantos91.susep.sro.model.sinistro;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para os builders do pacote sinistro.
+ */
+@DisplayName("Builders do Sinistro")
+class SinistroBuildersTest {
+
+    @Test
+    @DisplayName("Deve reconstruir o sinistro sem copiar as listas")
+    void deveReconstruirSinistro() {
+        Sinistro original = SroTestData.sinistro(1);
+
+        Sinistro copia = new SinistroBuilder().from(original).build();
+
+        assertThat(copia).isEqualTo(original);
+        assertThat(copia.coberturaafetadas()).isSameAs(original.coberturaafetadas());
+    }
+
+    @Test
+    @DisplayName("Deve acumular elementos e reconstruir componentes")
+    void deveAcumularElementos() {
+        Sinistro original = SroTestData.sinistro(1);
+
+        Sinistro sinistro = new SinistroBuilder().from(original)
+            .addJustificativaNegativa(new JustificativaNegativaBuilder().from(original.justificativanegativas().get(0)).build())
+            .addDocumentoAfetado(new DocumentoAfetadoBuilder().from(original.documentoafetados().get(0)).build())
+            .addCoberturaAfetada(new CoberturaAfetadaBuilder().from(original.coberturaafetadas().get(0)).build())
+            .addVistoriaRural(new VistoriaRuralBuilder().from(original.vistoriarurals().get(0)).build())
+            .addAutomovel(new AutomovelBuilder().from(original.automovels().get(0)).build())
+            .build();
+
+        assertThat(sinistro.justificativanegativas()).hasSize(2).allMatch(original.justificativanegativas().get(0)::equals);
+        assertThat(sinistro.documentoafetados()).hasSize(2).allMatch(original.documentoafetados().get(0)::equals);
+        assertThat(sinistro.coberturaafetadas()).hasSize(2).allMatch(original.coberturaafetadas().get(0)::equals);
+        assertThat(sinistro.vistoriarurals()).hasSize(2).allMatch(original.vistoriarurals().get(0)::equals);
+        assertThat(sinistro.automovels()).hasSize(2).allMatch(original.automovels().get(0)::equals);
+    }
+
+    @Test
+    @DisplayName("Deve limpar todos os componentes no reset")
+    void deveLimparComponentes() {
+        Sinistro original = SroTestData.sinistro(1);
+
+        assertThatThrownBy(() -> new SinistroBuilder().from(original).reset().build()).isInstanceOf(NullPointerException.class);
+        assertThat(new VistoriaRuralBuilder().from(original.vistoriarurals().get(0)).reset().build())
+            .isEqualTo(new VistoriaRural(null, null, null));
+        assertThatThrownBy(() -> new DocumentoAfetadoBuilder().from(original.documentoafetados().get(0)).reset().build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new JustificativaNegativaBuilder().from(original.justificativanegativas().get(0)).reset().build())
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new CoberturaAfetadaBuilder().from(original.coberturaafetadas().get(0)).reset().build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AutomovelBuilder().from(original.automovels().get(0)).reset().build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
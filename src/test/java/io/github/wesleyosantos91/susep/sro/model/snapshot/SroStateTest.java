@@ -0,0 +1,214 @@
+package io.github.wesleyosantos91.susep.sro.model.snapshot;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.DocumentoBuilder;
+import io.github.wesleyosantos91.susep.sro.model.ledger.ParcelaKey;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremioBuilder;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistro;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistroBuilder;
+import io.github.wesleyosantos91.susep.sro.model.registry.DocumentoKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para SroState.
+ */
+@DisplayName("SroState - Snapshot e replay do estado em memória")
+class SroStateTest {
+
+    private static final LocalDate DIA_1 = SroTestData.DATA_BASE;
+    private static final LocalDate DIA_2 = DIA_1.plusDays(1);
+    private static final LocalDate DIA_3 = DIA_1.plusDays(2);
+
+    @TempDir
+    Path diretorio;
+
+    private static MovimentoPremio premio(int n, int parcela, int tipo, double valor, LocalDate dataAlteracao) {
+        return new MovimentoPremioBuilder()
+            .from(SroTestData.movimentoPremio(n, "AP-" + (n % 50), parcela, tipo, valor, DIA_1.plusDays(n % 30)))
+            .dataAlteracao(dataAlteracao)
+            .build();
+    }
+
+    private static MovimentoSinistro sinistro(int n, String valor, LocalDate dataAlteracao) {
+        return new MovimentoSinistroBuilder()
+            .from(SroTestData.movimentoSinistro(n, "SIN-" + (n % 20), 1 + n % 3, valor))
+            .dataAlteracao(dataAlteracao)
+            .build();
+    }
+
+    /**
+     * Fonte ordenada por {@code dataAlteracao}: documentos, endossos e movimentos de três dias.
+     */
+    private static List<Record> fonte() {
+        List<Record> registros = new ArrayList<>();
+        for (int n = 0; n < 5_000; n++) {
+            registros.add(SroTestData.documento(n, "APOLICE-" + n, DIA_1, 1));
+        }
+        for (int n = 0; n < 300; n++) {
+            registros.add(premio(n, 1, 8, 100.0, DIA_1));
+            registros.add(sinistro(n, "250.10", DIA_1));
+        }
+        registros.add(new DocumentoBuilder().from(SroTestData.documento(7, "APOLICE-7", DIA_2, 1))
+            .uuid(SroTestData.uuid(900_000)).indicadorExclusao(1).build());
+        registros.add(SroTestData.endosso(11, "APOLICE-11", DIA_2, List.of(SroTestData.segurado(77))));
+        for (int n = 300; n < 400; n++) {
+            registros.add(premio(n, 2, 8, 80.0, DIA_2));
+            registros.add(new MovimentoPremioBuilder().from(premio(n - 300, 1, 1, 40.0, DIA_2))
+                .uuid(SroTestData.uuid(4_000_000L + n)).build());
+            registros.add(sinistro(n, "10.00", DIA_2));
+        }
+        for (int n = 400; n < 450; n++) {
+            registros.add(premio(n, 3, 8, 20.0, DIA_3));
+            registros.add(sinistro(n, "5.25", DIA_3));
+        }
+        return registros;
+    }
+
+    private static SroState aplicar(List<Record> registros) {
+        var estado = new SroState();
+        estado.replay(registros);
+        return estado;
+    }
+
+    private static void assertEquivalente(SroState real, SroState esperado) {
+        assertThat(real.highWater()).isEqualTo(esperado.highWater());
+        assertThat(real.registry().size()).isEqualTo(esperado.registry().size());
+        assertThat(real.registry().entryCount()).isEqualTo(esperado.registry().entryCount());
+        esperado.registry().forEachWithTombstones(documento -> {
+            DocumentoKey chave = DocumentoKey.of(documento);
+            assertThat(real.registry().isDeleted(chave)).isEqualTo(esperado.registry().isDeleted(chave));
+            assertThat(real.registry().find(chave)).isEqualTo(esperado.registry().find(chave));
+        });
+        assertThat(real.claimLedger().claimCount()).isEqualTo(esperado.claimLedger().claimCount());
+        for (int s = 0; s < 20; s++) {
+            assertThat(real.claimLedger().byClaim("12345", "SIN-" + s))
+                .isEqualTo(esperado.claimLedger().byClaim("12345", "SIN-" + s));
+        }
+        assertThat(real.claimLedger().bySeguradora("12345")).isEqualTo(esperado.claimLedger().bySeguradora("12345"));
+        assertThat(real.claimLedger().byGrupoRamo("0531")).isEqualTo(esperado.claimLedger().byGrupoRamo("0531"));
+        assertThat(real.premiumLedger().parcelaCount()).isEqualTo(esperado.premiumLedger().parcelaCount());
+        for (int a = 0; a < 50; a++) {
+            for (int p = 1; p <= 3; p++) {
+                var chave = new ParcelaKey("12345", "AP-" + a, null, p);
+                assertThat(real.premiumLedger().parcela(chave)).isEqualTo(esperado.premiumLedger().parcela(chave));
+            }
+        }
+        assertThat(real.premiumLedger().outstanding("12345")).isEqualTo(esperado.premiumLedger().outstanding("12345"));
+        assertThat(real.premiumLedger().overdueSummary("12345", DIA_1.plusDays(15)))
+            .isEqualTo(esperado.premiumLedger().overdueSummary("12345", DIA_1.plusDays(15)));
+    }
+
+    @Test
+    @DisplayName("Deve restaurar estado equivalente ao gravado, inclusive lápides e endossos")
+    void deveRestaurarEstadoEquivalente() throws IOException {
+        var estado = aplicar(fonte());
+        Path arquivo = diretorio.resolve("sro.snapshot");
+
+        estado.snapshot(arquivo);
+        var restaurado = SroState.restore(arquivo);
+
+        assertEquivalente(restaurado, estado);
+        assertThat(restaurado.highWater()).contains(DIA_3);
+        assertThat(restaurado.registry().isDeleted(DocumentoKey.of(SroTestData.documento(7, "APOLICE-7", DIA_1, 1))))
+            .isTrue();
+        assertThat(restaurado.registry().find("12345", "APOLICE-11", null))
+            .map(Documento::segurados).hasValueSatisfying(vidas -> assertThat(vidas).hasSize(1));
+        assertThat(Files.exists(diretorio.resolve("sro.snapshot.tmp"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve reaplicar apenas os registros posteriores ao snapshot, sem duplicar o dia da marca")
+    void deveReaplicarApenasRegistrosPosteriores() throws IOException {
+        List<Record> registros = fonte();
+        int corte = registros.size() - 100 - 150;
+        var parcial = aplicar(registros.subList(0, corte));
+        assertThat(parcial.highWater()).contains(DIA_2);
+        Path arquivo = diretorio.resolve("sro.snapshot");
+        parcial.snapshot(arquivo);
+
+        var restaurado = SroState.restore(arquivo);
+        long aplicados = restaurado.replay(registros);
+
+        assertThat(aplicados).isEqualTo(registros.size() - corte);
+        assertEquivalente(restaurado, aplicar(registros));
+        assertThat(restaurado.replay(registros)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve gravar e restaurar estado vazio")
+    void deveGravarEstadoVazio() throws IOException {
+        Path arquivo = diretorio.resolve("vazio.snapshot");
+
+        new SroState().snapshot(arquivo);
+        var restaurado = SroState.restore(arquivo);
+
+        assertThat(restaurado.highWater()).isEmpty();
+        assertThat(restaurado.registry().entryCount()).isZero();
+        assertThat(restaurado.replay(List.of(SroTestData.documento(1, 0)))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve contar no replay apenas as versões que substituem o estado vigente")
+    void deveContarApenasVersoesAplicadasNoReplay() {
+        var estado = new SroState();
+        Documento vigente = SroTestData.documento(1, "APOLICE-1", DIA_3, 1);
+        estado.registry().upsert(vigente);
+
+        long aplicados = estado.replay(List.of(
+            SroTestData.documento(1, "APOLICE-1", DIA_2, 1),
+            SroTestData.documento(2, "APOLICE-2", DIA_2, 1)));
+
+        assertThat(aplicados).isEqualTo(1);
+        assertThat(estado.registry().find(DocumentoKey.of(vigente))).contains(vigente);
+        assertThat(estado.registry().find("12345", "APOLICE-2", null)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar snapshot corrompido ou truncado")
+    void deveRejeitarSnapshotInvalido() throws IOException {
+        var estado = new SroState();
+        for (int n = 0; n < 50; n++) {
+            estado.apply(SroTestData.documento(n, 1));
+            estado.apply(sinistro(n, "1.00", DIA_1));
+        }
+        Path arquivo = diretorio.resolve("sro.snapshot");
+        estado.snapshot(arquivo);
+        byte[] bytes = Files.readAllBytes(arquivo);
+
+        byte[] corrompido = bytes.clone();
+        corrompido[corrompido.length - 40] ^= 0x04;
+        Files.write(arquivo, corrompido);
+        assertThatThrownBy(() -> SroState.restore(arquivo))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("snapshot");
+        Files.write(arquivo, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThatThrownBy(() -> SroState.restore(arquivo)).isInstanceOf(IllegalStateException.class);
+        Files.write(arquivo, Arrays.copyOf(bytes, 10));
+        assertThatThrownBy(() -> SroState.restore(arquivo)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tipo de registro não suportado no replay")
+    void deveRejeitarTipoNaoSuportado() {
+        var estado = new SroState();
+
+        assertThatThrownBy(() -> estado.replay(List.of(SroTestData.sinistro(1))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Sinistro");
+        assertThatThrownBy(() -> SroState.restore(null)).isInstanceOf(NullPointerException.class);
+    }
+}
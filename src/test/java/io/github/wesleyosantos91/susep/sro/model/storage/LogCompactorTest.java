@@ -0,0 +1,295 @@
+package io.github.wesleyosantos91.susep.sro.model.storage;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremioBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para LogCompactor.
+ */
+@DisplayName("LogCompactor - Compactação do log por chave")
+class LogCompactorTest {
+
+    private static final long SEGMENTO = 4096;
+    private static final LocalDate HOJE = SroTestData.DATA_BASE.plusDays(60);
+    private static final Clock RELOGIO = Clock.fixed(HOJE.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+    private static final TombstoneClassifier MOVIMENTOS = TombstoneClassifier.of(MovimentoPremio.class,
+        MovimentoPremio::indicadorExclusao, MovimentoPremio::dataAlteracao);
+    private static final TombstoneClassifier EXCLUSOES =
+        entrada -> entrada.key().startsWith("preenchimento-") ? null : MOVIMENTOS.exclusionDate(entrada);
+
+    @TempDir
+    Path diretorio;
+
+    private static byte[] bytes(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String texto(LogEntry entrada) {
+        return new String(entrada.value(), StandardCharsets.UTF_8);
+    }
+
+    private static MovimentoPremio versao(int n, LocalDate dataAlteracao, int indicadorExclusao) {
+        return new MovimentoPremioBuilder().from(SroTestData.movimentoPremio(n, "AP1", 1, 8, 100.0 + n, HOJE))
+            .dataAlteracao(dataAlteracao)
+            .indicadorExclusao(indicadorExclusao)
+            .build();
+    }
+
+    private static void preencher(RecordLog log, int entradas) {
+        for (int i = 0; i < entradas; i++) {
+            log.append("preenchimento-" + i, bytes("x".repeat(40)));
+        }
+    }
+
+    private List<Path> arquivos(String extensao) throws IOException {
+        try (Stream<Path> listagem = Files.list(diretorio)) {
+            return listagem.filter(p -> p.toString().endsWith(extensao)).sorted().toList();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter apenas a versão mais recente de cada chave")
+    void deveManterVersaoMaisRecente() throws Exception {
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 4);
+             var compactador = new LogCompactor(log, TombstoneClassifier.none(), Period.ofDays(30))) {
+            for (int i = 0; i < 600; i++) {
+                log.append("chave-" + (i % 20), bytes("valor-" + i));
+            }
+            int antes = log.segmentCount();
+
+            CompactionStats stats = compactador.compact().get();
+
+            assertThat(stats.segmentsRead()).isEqualTo(antes - 1);
+            assertThat(stats.segmentsWritten()).isEqualTo(1);
+            assertThat(stats.segmentsRewritten()).isEqualTo(antes - 1);
+            assertThat(stats.tombstonesDropped()).isZero();
+            assertThat(log.segmentCount()).isEqualTo(2);
+            assertThat(arquivos(".idx")).hasSize(1);
+            assertThat(arquivos(".log")).hasSize(2);
+            for (int k = 0; k < 20; k++) {
+                assertThat(log.get("chave-" + k)).map(LogCompactorTest::texto).contains("valor-" + (580 + k));
+            }
+            List<Long> sequencias = new ArrayList<>();
+            log.scan(0, e -> sequencias.add(e.sequence()));
+            assertThat(sequencias).isSorted().doesNotHaveDuplicates().contains(580L, 599L);
+            assertThat((long) sequencias.size()).isEqualTo(600 - stats.entriesDropped());
+            assertThat(log.read(0)).isEmpty();
+            assertThat(log.read(599)).map(LogCompactorTest::texto).contains("valor-599");
+            assertThat(compactador.compact().get().segmentsWritten()).isZero();
+            assertThat(log.append("chave-0", bytes("novo"))).isEqualTo(600);
+        }
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 4)) {
+            assertThat(log.nextSequence()).isEqualTo(601);
+            assertThat(log.keyCount()).isEqualTo(20);
+            assertThat(log.get("chave-0")).map(LogCompactorTest::texto).contains("novo");
+            assertThat(log.get("chave-19")).map(LogCompactorTest::texto).contains("valor-599");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar exclusões após a retenção e manter as recentes")
+    void deveDescartarExclusoesAposRetencao() throws Exception {
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 4);
+             var compactador = new LogCompactor(log, EXCLUSOES, Period.ofDays(30), Throttle.UNLIMITED, RELOGIO)) {
+            MovimentoPremio antiga = versao(1, HOJE.minusDays(40), 2);
+            MovimentoPremio recente = versao(2, HOJE.minusDays(10), 2);
+            MovimentoPremio vigente = versao(3, HOJE.minusDays(40), 2);
+            log.append(antiga.uuid(), antiga);
+            log.append(recente.uuid(), recente);
+            log.append(vigente.uuid(), vigente);
+            preencher(log, 40);
+            log.append(antiga.uuid(), versao(1, HOJE.minusDays(31), 1));
+            log.append(recente.uuid(), versao(2, HOJE.minusDays(30), 1));
+            preencher(log, 80);
+            assertThat(log.segmentCount()).isGreaterThan(2);
+
+            CompactionStats stats = compactador.compact().get();
+
+            assertThat(stats.tombstonesDropped()).isEqualTo(1);
+            assertThat(stats.supersededDropped()).isEqualTo(2 + 40);
+            assertThat(log.get(antiga.uuid())).isEmpty();
+            assertThat(log.get(recente.uuid(), MovimentoPremio.class)).map(MovimentoPremio::indicadorExclusao).contains(1);
+            assertThat(log.get(vigente.uuid(), MovimentoPremio.class)).contains(vigente);
+            assertThat(log.keyCount()).isEqualTo(2 + 80);
+        }
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 4)) {
+            assertThat(log.get(versao(1, HOJE, 2).uuid())).isEmpty();
+            assertThat(log.keyCount()).isEqualTo(2 + 80);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ler como ausentes as sequências descartadas do início dos segmentos compactados")
+    void deveLerSequenciasDescartadasNoInicio() throws Exception {
+        List<Long> descartadas = new ArrayList<>();
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 4);
+             var compactador = new LogCompactor(log, TombstoneClassifier.none(), Period.ZERO)) {
+            for (int i = 0; i < 600; i++) {
+                log.append(i % 60 < 3 ? "repetida-" + (i % 60) : "unica-" + i, bytes("valor-" + i));
+            }
+            List<Long> antes = new ArrayList<>();
+            log.scan(0, e -> antes.add(e.sequence()));
+
+            CompactionStats stats = compactador.compact().get();
+
+            List<Long> mantidas = new ArrayList<>();
+            log.scan(0, e -> mantidas.add(e.sequence()));
+            antes.stream().filter(sequencia -> !mantidas.contains(sequencia)).forEach(descartadas::add);
+            assertThat(stats.segmentsWritten()).isPositive();
+            assertThat(descartadas).hasSize((int) stats.supersededDropped()).contains(0L, 1L, 2L);
+            for (long sequencia : descartadas) {
+                assertThat(log.read(sequencia)).isEmpty();
+            }
+            assertThat(log.read(3)).map(LogCompactorTest::texto).contains("valor-3");
+        }
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 4)) {
+            for (long sequencia : descartadas) {
+                assertThat(log.read(sequencia)).isEmpty();
+            }
+            assertThat(log.get("repetida-0")).map(LogCompactorTest::texto).contains("valor-540");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve permitir que varreduras em andamento leiam os segmentos substituídos")
+    void devePermitirLeituraDuranteCompactacao() throws Exception {
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 4);
+             var compactador = new LogCompactor(log, TombstoneClassifier.none(), Period.ZERO)) {
+            for (int i = 0; i < 300; i++) {
+                log.append("chave-" + (i % 10), bytes("valor-" + i));
+            }
+            var iniciada = new CountDownLatch(1);
+            var liberada = new CountDownLatch(1);
+            List<String> lidos = new ArrayList<>();
+            CompletableFuture<Long> varredura = CompletableFuture.supplyAsync(() -> log.scan(0, e -> {
+                if (e.sequence() == 0) {
+                    iniciada.countDown();
+                    try {
+                        liberada.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                lidos.add(texto(e));
+            }));
+            assertThat(iniciada.await(10, TimeUnit.SECONDS)).isTrue();
+
+            CompactionStats stats = compactador.compact().get();
+            log.append("chave-0", bytes("posterior"));
+            liberada.countDown();
+
+            assertThat(stats.segmentsWritten()).isEqualTo(1);
+            assertThat(varredura.get()).isEqualTo(300);
+            assertThat(lidos).first().isEqualTo("valor-0");
+            assertThat(lidos).last().isEqualTo("valor-299");
+            assertThat(log.scan(0, e -> { })).isEqualTo(300 - stats.entriesDropped() + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve concluir compactação confirmada e descartar a não confirmada ao reabrir")
+    void deveRecuperarCompactacaoInterrompida() throws Exception {
+        Path origem = Files.createDirectory(diretorio.resolve("origem"));
+        Path log1;
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 4);
+             var compactador = new LogCompactor(log, TombstoneClassifier.none(), Period.ZERO)) {
+            for (int i = 0; i < 300; i++) {
+                log.append("chave-" + (i % 10), bytes("valor-" + i));
+            }
+            log.force();
+            for (Path arquivo : arquivos(".log")) {
+                Files.copy(arquivo, origem.resolve(arquivo.getFileName()));
+            }
+            compactador.compact().get();
+            log1 = arquivos(".log").getFirst();
+        }
+        Files.move(log1, log1.resolveSibling(log1.getFileName().toString().replace(".log", ".swap")));
+        Files.delete(LogSegment.indexFile(log1));
+        try (Stream<Path> originais = Files.list(origem)) {
+            for (Path arquivo : originais.toList()) {
+                Files.copy(arquivo, diretorio.resolve(arquivo.getFileName()),
+                    StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.write(diretorio.resolve(String.format("%020d.cleaned", 0)), new byte[64]);
+
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 4)) {
+            assertThat(arquivos(".swap")).isEmpty();
+            assertThat(arquivos(".cleaned")).isEmpty();
+            assertThat(log.segmentCount()).isEqualTo(2);
+            assertThat(log.nextSequence()).isEqualTo(300);
+            assertThat(log.read(0)).isEmpty();
+            for (int k = 0; k < 10; k++) {
+                assertThat(log.get("chave-" + k)).map(LogCompactorTest::texto).contains("valor-" + (290 + k));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve limitar a vazão de leitura e gravação")
+    void deveLimitarVazao() throws Exception {
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 4);
+             var compactador = new LogCompactor(log, TombstoneClassifier.none(), Period.ZERO, 64 * 1024, RELOGIO)) {
+            for (int i = 0; i < 1000; i++) {
+                log.append("chave-" + (i % 10), bytes("valor-" + i));
+            }
+            long inicio = System.nanoTime();
+
+            compactador.compact().get();
+
+            assertThat(Duration.ofNanos(System.nanoTime() - inicio)).isGreaterThan(Duration.ofMillis(300));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar compactação concorrente e parâmetros inválidos")
+    void deveRejeitarUsoInvalido() throws Exception {
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 4);
+             var compactador = new LogCompactor(log, TombstoneClassifier.none(), Period.ZERO)) {
+            List<LogSegment> emAndamento = log.beginCompaction();
+            try {
+                assertThatThrownBy(() -> compactador.compact().get())
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            } finally {
+                log.endCompaction(emAndamento);
+            }
+            assertThat(compactador.compact().get().segmentsRead()).isZero();
+            assertThatThrownBy(() -> compactador.schedule(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new LogCompactor(log, TombstoneClassifier.none(), Period.ofDays(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new LogCompactor(log, TombstoneClassifier.none(), Period.ZERO, 0, RELOGIO))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new LogCompactor(null, TombstoneClassifier.none(), Period.ZERO))
+                .isInstanceOf(NullPointerException.class);
+            var encerrado = new LogCompactor(log, TombstoneClassifier.none(), Period.ZERO);
+            encerrado.close();
+            assertThatThrownBy(encerrado::compact).isInstanceOf(RejectedExecutionException.class);
+        }
+    }
+}
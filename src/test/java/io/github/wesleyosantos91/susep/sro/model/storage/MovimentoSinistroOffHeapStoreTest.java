@@ -0,0 +1,258 @@
+package io.github.wesleyosantos91.susep.sro.model.storage;
+
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.Adicionais;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistro;
+import io.github.wesleyosantos91.susep.sro.model.movimentosinistro.MovimentoSinistroBuilder;
+import io.github.wesleyosantos91.susep.sro.model.util.EpochDays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para MovimentoSinistroOffHeapStore.
+ */
+@DisplayName("MovimentoSinistroOffHeapStore - Armazenamento off-heap")
+class MovimentoSinistroOffHeapStoreTest {
+
+    @TempDir
+    Path diretorio;
+
+    private static MovimentoSinistro movimento(String codigoSinistro, String identificador, String valor,
+                                               List<Adicionais> adicionais) {
+        return new MovimentoSinistro("12345", "0531", codigoSinistro, identificador, "APOL1",
+            "CERT1", null, "CONTRA", null, new BigDecimal(valor), new BigDecimal(valor), "BRL",
+            1, 5, 2, null, 1, null, 2, "7d9b5524-d047-40ee-8f9c-62c0c8e87d8e",
+            LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 11), LocalDate.of(2025, 3, 12),
+            "Anotação com acentuação", adicionais);
+    }
+
+    private static void gravarLong(Path arquivo, long posicao, long valor) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.allocate(Long.BYTES).order(ByteOrder.nativeOrder()).putLong(0, valor), posicao);
+        }
+    }
+
+    /**
+     * Posição do único slot do índice com o valor informado (os slots seguem o cabeçalho).
+     */
+    private static long slotComValor(Path arquivo, long valor) throws IOException {
+        ByteBuffer conteudo = ByteBuffer.wrap(Files.readAllBytes(arquivo)).order(ByteOrder.nativeOrder());
+        int inicio = MovimentoSinistroOffHeapStore.HEADER_BYTES;
+        long encontrado = -1;
+        /* 64 slots para a capacidade de 32 registros */
+        for (int posicao = inicio; posicao < inicio + 64 * Long.BYTES; posicao += Long.BYTES) {
+            if (conteudo.getLong(posicao) == valor) {
+                assertThat(encontrado).isNegative();
+                encontrado = posicao;
+            }
+        }
+        assertThat(encontrado).isPositive();
+        return encontrado;
+    }
+
+    @Test
+    @DisplayName("Deve gravar e materializar movimento idêntico ao original")
+    void deveGravarEMaterializar() {
+        var original = movimento("SIN1", "MOV1", "1500.25",
+            List.of(new Adicionais(3, new BigDecimal("10.50"), new BigDecimal("52.10"))));
+        try (var store = MovimentoSinistroOffHeapStore.allocate(16, 4096)) {
+            long indice = store.append(original);
+
+            assertThat(indice).isZero();
+            assertThat(store.size()).isEqualTo(1);
+            assertThat(store.get(indice)).isEqualTo(original);
+            assertThat(store.tipoMovimento(indice)).isEqualTo(5);
+            assertThat(store.valorMovimentoReais(indice)).isEqualTo(new BigDecimal("1500.25"));
+            assertThat(store.dataMovimentoEpochDay(indice)).isEqualTo(EpochDays.encode(LocalDate.of(2025, 3, 10)));
+            assertThat(store.variableBytesUsed()).isPositive().isEqualTo(store.variableBytesUsed() / 8 * 8);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve preservar campos opcionais nulos")
+    void devePreservarCamposNulos() {
+        var original = new MovimentoSinistro("12345", "0531", "SIN1", "MOV1", "APOL1",
+            null, null, null, null, BigDecimal.TEN, BigDecimal.TEN, "BRL",
+            1, 1, null, null, null, null, 2, "uuid", LocalDate.of(2025, 1, 1),
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1), null, null);
+        try (var store = MovimentoSinistroOffHeapStore.allocate(4, 1024)) {
+            assertThat(store.get(store.append(original))).isEqualTo(original);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve preservar textos além de 32767 bytes")
+    void devePreservarTextosLongos() {
+        var longo = new MovimentoSinistroBuilder().from(movimento("SIN1", "MOV1", "10", List.of()))
+            .sinistroTipoPagamentoOutros("x".repeat(40_000))
+            .codigoContraparte("c".repeat(65_535))
+            .build();
+        var seguinte = movimento("SIN1", "MOV2", "20", List.of());
+        try (var store = MovimentoSinistroOffHeapStore.allocate(4, 256 * 1024)) {
+            store.append(longo);
+            store.append(seguinte);
+
+            assertThat(store.get(0)).isEqualTo(longo);
+            assertThat(store.get(0).sinistroTipoPagamentoOutros()).hasSize(40_000);
+            assertThat(store.get(1)).isEqualTo(seguinte);
+            assertThat(store.findByCodigoSinistro("SIN1")).containsExactly(longo, seguinte);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar movimentos do sinistro em ordem de inclusão")
+    void deveBuscarPorCodigoSinistro() {
+        try (var store = MovimentoSinistroOffHeapStore.allocate(64, 64 * 1024)) {
+            for (int i = 0; i < 30; i++) {
+                store.append(movimento("SIN" + (i % 3), "MOV" + i, i + ".00", List.of()));
+            }
+
+            var movimentos = store.findByCodigoSinistro("SIN1");
+            assertThat(movimentos).extracting(MovimentoSinistro::identificadorMovimento)
+                .containsExactly("MOV1", "MOV4", "MOV7", "MOV10", "MOV13", "MOV16", "MOV19", "MOV22", "MOV25", "MOV28");
+            assertThat(store.findByCodigoSinistro("INEXISTENTE")).isEmpty();
+
+            var indices = new ArrayList<Long>();
+            assertThat(store.forEachIndex("SIN2", indices::add)).isEqualTo(10);
+            assertThat(indices).first().isEqualTo(29L);
+            assertThat(indices).last().isEqualTo(2L);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve distinguir códigos de sinistro com o mesmo hash")
+    void deveDistinguirColisoes() {
+        /* "Aa" e "BB" possuem o mesmo String.hashCode() */
+        try (var store = MovimentoSinistroOffHeapStore.allocate(8, 4096)) {
+            store.append(movimento("Aa", "MOV1", "1.00", List.of()));
+            store.append(movimento("BB", "MOV2", "2.00", List.of()));
+
+            assertThat(store.findByCodigoSinistro("Aa")).extracting(MovimentoSinistro::identificadorMovimento)
+                .containsExactly("MOV1");
+            assertThat(store.findByCodigoSinistro("BB")).extracting(MovimentoSinistro::identificadorMovimento)
+                .containsExactly("MOV2");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar inclusões além da capacidade")
+    void deveRejeitarAlemDaCapacidade() {
+        try (var store = MovimentoSinistroOffHeapStore.allocate(1, 4096)) {
+            store.append(movimento("SIN1", "MOV1", "1.00", List.of()));
+
+            assertThatThrownBy(() -> store.append(movimento("SIN1", "MOV2", "1.00", List.of())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("registros");
+        }
+        try (var store = MovimentoSinistroOffHeapStore.allocate(4, 16)) {
+            assertThatThrownBy(() -> store.append(movimento("SIN1", "MOV1", "1.00", List.of())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("dados variáveis");
+            assertThat(store.size()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valores que excedem 64 bits e índices inexistentes")
+    void deveRejeitarValoresEIndicesInvalidos() {
+        try (var store = MovimentoSinistroOffHeapStore.allocate(4, 4096)) {
+            assertThatThrownBy(() -> store.append(movimento("SIN1", "MOV1", "99999999999999999999.99", List.of())))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> store.get(0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve validar capacidades")
+    void deveValidarCapacidades() {
+        assertThatThrownBy(() -> MovimentoSinistroOffHeapStore.allocate(0, 1024))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MovimentoSinistroOffHeapStore.allocate(4, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve reabrir arquivo mapeado com registros e índice preservados")
+    void deveReabrirArquivoMapeado() throws Exception {
+        Path arquivo = diretorio.resolve("movimentos.bin");
+        var original = movimento("SIN9", "MOV1", "77.70",
+            List.of(new Adicionais(1, new BigDecimal("1.00"), new BigDecimal("5.00"))));
+
+        try (var store = MovimentoSinistroOffHeapStore.map(arquivo, 32, 8192)) {
+            store.append(original);
+            store.append(movimento("SIN9", "MOV2", "10.00", List.of()));
+        }
+        try (var store = MovimentoSinistroOffHeapStore.map(arquivo, 32, 8192)) {
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.findByCodigoSinistro("SIN9")).first().isEqualTo(original);
+
+            store.append(movimento("SIN9", "MOV3", "10.00", List.of()));
+            assertThat(store.findByCodigoSinistro("SIN9")).hasSize(3);
+        }
+
+        assertThatThrownBy(() -> MovimentoSinistroOffHeapStore.map(arquivo, 64, 8192))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve reparar o índice ao reabrir arquivo com escrita interrompida")
+    void deveRepararIndiceAposEscritaInterrompida() throws Exception {
+        Path arquivo = diretorio.resolve("interrompido.bin");
+        try (var store = MovimentoSinistroOffHeapStore.map(arquivo, 32, 8192)) {
+            store.append(movimento("SIN9", "MOV1", "1.00", List.of()));
+            store.append(movimento("SIN7", "MOV1", "2.00", List.of()));
+            store.append(movimento("SIN9", "MOV2", "3.00", List.of()));
+        }
+        /* Slot publicado sem o cabeçalho: o arquivo registra apenas os dois primeiros movimentos */
+        gravarLong(arquivo, 32, 2);
+
+        try (var store = MovimentoSinistroOffHeapStore.map(arquivo, 32, 8192)) {
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.findByCodigoSinistro("SIN9")).extracting(MovimentoSinistro::identificadorMovimento)
+                .containsExactly("MOV1");
+
+            store.append(movimento("SIN9", "MOV3", "4.00", List.of()));
+            assertThat(store.findByCodigoSinistro("SIN9")).extracting(MovimentoSinistro::identificadorMovimento)
+                .containsExactly("MOV1", "MOV3");
+            assertThat(store.findByCodigoSinistro("SIN7")).hasSize(1);
+        }
+        /* Cabeçalho publicado sem o slot: o índice ainda aponta para o movimento anterior do sinistro */
+        long slot = slotComValor(arquivo, 3);
+        gravarLong(arquivo, slot, 1);
+
+        try (var store = MovimentoSinistroOffHeapStore.map(arquivo, 32, 8192)) {
+            assertThat(store.findByCodigoSinistro("SIN9")).extracting(MovimentoSinistro::identificadorMovimento)
+                .containsExactly("MOV1", "MOV3");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar arquivo que não é um armazenamento de movimentos")
+    void deveRejeitarArquivoInvalido() throws Exception {
+        Path arquivo = diretorio.resolve("invalido.bin");
+        try (var store = MovimentoSinistroOffHeapStore.map(arquivo, 4, 1024)) {
+            assertThat(store.size()).isZero();
+        }
+        byte[] conteudo = Files.readAllBytes(arquivo);
+        conteudo[0] = 0;
+        Files.write(arquivo, conteudo);
+
+        assertThatThrownBy(() -> MovimentoSinistroOffHeapStore.map(arquivo, 4, 1024))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
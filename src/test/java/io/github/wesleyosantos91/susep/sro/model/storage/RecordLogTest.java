@@ -0,0 +1,240 @@
+package io.github.wesleyosantos91.susep.sro.model.storage;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.movimentopremio.MovimentoPremio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para RecordLog.
+ */
+@DisplayName("RecordLog - Log local somente acréscimo")
+class RecordLogTest {
+
+    private static final long SEGMENTO = 4096;
+
+    @TempDir
+    Path diretorio;
+
+    private static byte[] bytes(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private long arquivos(String extensao) throws IOException {
+        try (Stream<Path> listagem = Files.list(diretorio)) {
+            return listagem.filter(p -> p.toString().endsWith(extensao)).count();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve acrescentar e ler por sequência e pela versão mais recente da chave")
+    void deveAcrescentarELer() throws IOException {
+        try (var log = RecordLog.open(diretorio)) {
+            assertThat(log.append("uuid-1", bytes("v1"))).isZero();
+            assertThat(log.append("uuid-2", bytes("outro"))).isEqualTo(1);
+            assertThat(log.append("uuid-1", bytes("v2"))).isEqualTo(2);
+
+            assertThat(log.get("uuid-1")).map(LogEntry::value).map(String::new).contains("v2");
+            assertThat(log.get("uuid-1")).map(LogEntry::sequence).contains(2L);
+            assertThat(log.read(0)).map(e -> new String(e.value(), StandardCharsets.UTF_8)).contains("v1");
+            assertThat(log.read(3)).isEmpty();
+            assertThat(log.get("uuid-3")).isEmpty();
+            assertThat(log.keyCount()).isEqualTo(2);
+            assertThat(log.nextSequence()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gravar e ler records codificados")
+    void deveGravarRecordsCodificados() throws IOException {
+        MovimentoPremio movimento = SroTestData.movimentoPremio(1, "AP1", 1, 8, 99.90, SroTestData.DATA_BASE);
+        try (var log = RecordLog.open(diretorio)) {
+            log.append(movimento.uuid(), movimento);
+
+            assertThat(log.get(movimento.uuid(), MovimentoPremio.class)).contains(movimento);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rolar segmentos e localizar entradas pelo índice esparso")
+    void deveRolarSegmentos() throws IOException {
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 4)) {
+            for (int i = 0; i < 500; i++) {
+                log.append("chave-" + (i % 50), bytes("valor-" + i));
+            }
+
+            assertThat(log.segmentCount()).isGreaterThan(3);
+            assertThat(arquivos(".idx")).isEqualTo(log.segmentCount() - 1);
+            for (int i = 0; i < 500; i += 37) {
+                assertThat(log.read(i)).map(e -> new String(e.value(), StandardCharsets.UTF_8)).contains("valor-" + i);
+            }
+            assertThat(log.get("chave-7")).map(LogEntry::sequence).contains(457L);
+
+            List<Long> sequencias = new ArrayList<>();
+            assertThat(log.scan(480, e -> sequencias.add(e.sequence()))).isEqualTo(20);
+            assertThat(sequencias).first().isEqualTo(480L);
+            assertThat(sequencias).isSorted().last().isEqualTo(499L);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve reabrir usando os índices dos segmentos selados e a cauda do ativo")
+    void deveReabrir() throws IOException {
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 8)) {
+            for (int i = 0; i < 300; i++) {
+                log.append("chave-" + (i % 40), bytes("valor-" + i));
+            }
+        }
+
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 8)) {
+            assertThat(log.nextSequence()).isEqualTo(300);
+            assertThat(log.keyCount()).isEqualTo(40);
+            assertThat(log.get("chave-3")).map(LogEntry::sequence).contains(283L);
+            assertThat(log.append("chave-3", bytes("novo"))).isEqualTo(300);
+            assertThat(log.scan(0, e -> { })).isEqualTo(301);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar escrita interrompida na cauda e reconstruir índice ausente")
+    void deveRecuperarEscritaInterrompida() throws IOException {
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 8)) {
+            for (int i = 0; i < 200; i++) {
+                log.append("chave-" + i, bytes("valor-" + i));
+            }
+        }
+        List<Path> segmentos;
+        try (Stream<Path> listagem = Files.list(diretorio)) {
+            segmentos = listagem.filter(p -> p.toString().endsWith(".log")).sorted().toList();
+        }
+        Path cauda = segmentos.getLast();
+        Files.delete(LogSegment.indexFile(segmentos.getFirst()));
+        try (FileChannel canal = FileChannel.open(cauda, StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+            ByteBuffer tamanho = ByteBuffer.allocate(4);
+            long posicao = LogSegment.HEADER_BYTES;
+            long ultima = posicao;
+            while (true) {
+                tamanho.clear();
+                canal.read(tamanho, posicao);
+                int valor = tamanho.order(ByteOrder.nativeOrder()).getInt(0);
+                if (valor == 0) {
+                    break;
+                }
+                ultima = posicao;
+                posicao += LogSegment.align(valor);
+            }
+            canal.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), ultima + 24);
+        }
+
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 8)) {
+            assertThat(log.nextSequence()).isEqualTo(199);
+            assertThat(log.get("chave-199")).isEmpty();
+            assertThat(log.get("chave-0")).map(LogEntry::sequence).contains(0L);
+            assertThat(LogSegment.indexFile(segmentos.getFirst())).exists();
+            assertThat(log.append("chave-199", bytes("reenviado"))).isEqualTo(199);
+        }
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 8)) {
+            assertThat(log.get("chave-199")).map(e -> new String(e.value(), StandardCharsets.UTF_8))
+                .contains("reenviado");
+            assertThat(log.nextSequence()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve acrescentar concorrentemente sem perder entradas")
+    void deveAcrescentarConcorrentemente() throws Exception {
+        int threads = 4;
+        int porThread = 500;
+        try (var log = RecordLog.open(diretorio, 64 * 1024, 16)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+            try {
+                List<Future<?>> tarefas = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    int thread = t;
+                    tarefas.add(executor.submit(() -> {
+                        for (int i = 0; i < porThread; i++) {
+                            log.append("t" + thread + "-" + i, bytes("valor"));
+                        }
+                        return null;
+                    }));
+                }
+                Future<?> leitor = executor.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        long[] anterior = {-1};
+                        log.scan(0, e -> {
+                            assertThat(e.sequence()).isEqualTo(anterior[0] + 1);
+                            anterior[0] = e.sequence();
+                        });
+                    }
+                    return null;
+                });
+                for (Future<?> tarefa : tarefas) {
+                    tarefa.get();
+                }
+                leitor.get();
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(log.keyCount()).isEqualTo(threads * porThread);
+            assertThat(log.scan(0, e -> { })).isEqualTo((long) threads * porThread);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ler como ausente a sequência descartada do início de um segmento compactado")
+    void deveLerSequenciaDescartadaNoInicioDoSegmento() throws Exception {
+        try (var log = RecordLog.open(diretorio, SEGMENTO, 4);
+             var compactador = new LogCompactor(log, TombstoneClassifier.none(), Period.ZERO)) {
+            for (int i = 0; i < 300; i++) {
+                log.append(i < 5 ? "cabeca-" + i : "chave-" + i, bytes("valor-" + i));
+            }
+            for (int i = 0; i < 5; i++) {
+                log.append("cabeca-" + i, bytes("nova-" + i));
+            }
+
+            assertThat(compactador.compact().get().supersededDropped()).isEqualTo(5);
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(log.read(i)).isEmpty();
+            }
+            assertThat(log.read(5)).map(e -> new String(e.value(), StandardCharsets.UTF_8)).contains("valor-5");
+            List<Long> sequencias = new ArrayList<>();
+            log.scan(2, e -> sequencias.add(e.sequence()));
+            assertThat(sequencias).first().isEqualTo(5L);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar parâmetros inválidos e uso após fechamento")
+    void deveRejeitarUsoInvalido() throws IOException {
+        assertThatThrownBy(() -> RecordLog.open(diretorio, 100, 8)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecordLog.open(diretorio, SEGMENTO, 0)).isInstanceOf(IllegalArgumentException.class);
+        var log = RecordLog.open(diretorio, SEGMENTO, 8);
+        assertThatThrownBy(() -> log.append("grande", new byte[(int) SEGMENTO]))
+            .isInstanceOf(IllegalArgumentException.class);
+        log.close();
+        log.close();
+        assertThatThrownBy(() -> log.append("chave", bytes("x"))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> log.get("chave")).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.wesleyosantos91.susep.sro.model.storage;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import io.github.wesleyosantos91.susep.sro.model.codec.DeltaCodec;
+import io.github.wesleyosantos91.susep.sro.model.codec.RecordCodec;
+import io.github.wesleyosantos91.susep.sro.model.documento.Documento;
+import io.github.wesleyosantos91.susep.sro.model.documento.PremioApolice;
+import io.github.wesleyosantos91.susep.sro.model.documento.Segurado;
+import io.github.wesleyosantos91.susep.sro.model.endosso.Endosso;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.github.wesleyosantos91.susep.sro.model.SroTestData.com;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para VersionHistory e DeltaCodec.
+ */
+@DisplayName("VersionHistory - Histórico de versões com deltas estruturais e quadros completos")
+class VersionHistoryTest {
+
+    /**
+     * Versões de um documento coletivo: a cada versão, um segurado incluído, outro alterado e
+     * eventualmente um excluído ou uma alteração de prêmio.
+     */
+    private static List<Documento> versoes(int quantidade) {
+        List<Documento> versoes = new ArrayList<>();
+        Documento atual = SroTestData.documento(7, 200);
+        versoes.add(atual);
+        for (int v = 1; v < quantidade; v++) {
+            List<Segurado> vidas = new ArrayList<>(atual.segurados());
+            vidas.add(SroTestData.segurado(500_000 + v));
+            vidas.set(v % vidas.size(), com(vidas.get(v % vidas.size()), "nome", "Segurado alterado " + v));
+            if (v % 3 == 0) {
+                vidas.remove(vidas.size() / 2);
+            }
+            atual = com(com(atual, "segurados", vidas), "dataAlteracao", SroTestData.DATA_BASE.plusDays(v));
+            if (v % 5 == 0) {
+                atual = com(atual, "premioApolice", new PremioApolice(5000.0 + v, 5000.0 + v, 0.0, 369.0, 12));
+            }
+            versoes.add(atual);
+        }
+        return versoes;
+    }
+
+    @Test
+    @DisplayName("Deve codificar apenas o que mudou entre duas versões")
+    void deveCodificarDelta() {
+        List<Documento> versoes = versoes(2);
+        Documento antes = versoes.get(0);
+        Documento depois = versoes.get(1);
+        DeltaCodec<Documento> codec = DeltaCodec.of(Documento.class);
+
+        byte[] delta = codec.encode(antes, depois);
+
+        assertThat(codec.apply(antes, delta)).isEqualTo(depois);
+        assertThat(delta.length).isLessThan(RecordCodec.of(Documento.class).encode(depois).length / 20);
+        assertThat(codec.encode(depois, depois)).containsExactly(0);
+
+        List<Segurado> reordenados = new ArrayList<>(antes.segurados());
+        reordenados.add(0, reordenados.remove(150));
+        Documento reordenado = com(antes, "segurados", reordenados);
+        assertThat(codec.apply(antes, codec.encode(antes, reordenado))).isEqualTo(reordenado);
+        Documento semSegurados = com(antes, "segurados", List.of());
+        assertThat(codec.apply(antes, codec.encode(antes, semSegurados))).isEqualTo(semSegurados);
+        assertThat(codec.apply(semSegurados, codec.encode(semSegurados, antes))).isEqualTo(antes);
+
+        byte[] truncado = Arrays.copyOf(delta, delta.length - 1);
+        assertThatThrownBy(() -> codec.apply(antes, truncado)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir qualquer versão com no máximo intervalo - 1 deltas")
+    void deveReconstruirVersoes() {
+        List<Documento> versoes = versoes(40);
+        VersionHistory<Documento> historico = VersionHistory.create(Documento.class, 8);
+        long completos = 0;
+
+        for (Documento versao : versoes) {
+            historico.append(versao);
+            completos += RecordCodec.of(Documento.class).encode(versao).length;
+        }
+
+        assertThat(historico.size()).isEqualTo(40);
+        assertThat(historico.latest()).contains(versoes.getLast());
+        assertThat(historico.bytes()).isLessThan(completos / 4);
+        for (int v = 0; v < 40; v++) {
+            assertThat(historico.get(v)).as("versão %d", v).isEqualTo(versoes.get(v));
+            assertThat(historico.isKeyframe(v)).as("versão %d", v).isEqualTo(v % 8 == 0);
+        }
+        assertThatThrownBy(() -> historico.get(40))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Versão inexistente");
+    }
+
+    @Test
+    @DisplayName("Deve gravar e ler o histórico, validando o esquema do record")
+    void deveGravarELerHistorico() {
+        List<Documento> versoes = versoes(12);
+        VersionHistory<Documento> historico = VersionHistory.create(Documento.class, 5);
+        versoes.forEach(historico::append);
+
+        byte[] bytes = historico.toByteArray();
+        VersionHistory<Documento> lido = VersionHistory.fromByteArray(bytes, Documento.class);
+
+        assertThat(lido.size()).isEqualTo(12);
+        assertThat(lido.keyframeInterval()).isEqualTo(5);
+        assertThat(lido.bytes()).isEqualTo(historico.bytes());
+        assertThat(lido.latest()).contains(versoes.getLast());
+        assertThat(lido.get(7)).isEqualTo(versoes.get(7));
+        lido.append(versoes.getFirst());
+        assertThat(lido.get(12)).isEqualTo(versoes.getFirst());
+
+        assertThatThrownBy(() -> VersionHistory.fromByteArray(bytes, Endosso.class))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("outra versão");
+        assertThatThrownBy(() -> VersionHistory.fromByteArray(Arrays.copyOf(bytes, bytes.length - 3),
+            Documento.class)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> VersionHistory.create(Documento.class, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(VersionHistory.create(Documento.class).latest()).isEmpty();
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.wesleyosantos91.susep.sro.model.util;
+
+import io.github.wesleyosantos91.susep.sro.model.SroTestData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para CpfCnpj.
+ */
+@DisplayName("CpfCnpj - Empacotamento de CPF e CNPJ")
+class CpfCnpjTest {
+
+    @Test
+    @DisplayName("Deve empacotar e desempacotar CPF e CNPJ preservando zeros à esquerda")
+    void deveFazerIdaEVolta() {
+        for (long base = 0; base < 2_000; base += 7) {
+            String cpf = SroTestData.cpf(base);
+            String cnpj = SroTestData.cnpj(base);
+            assertThat(CpfCnpj.unpack(CpfCnpj.pack(cpf))).isEqualTo(cpf);
+            assertThat(CpfCnpj.unpack(CpfCnpj.pack(cnpj))).isEqualTo(cnpj);
+            assertThat(CpfCnpj.isCnpj(CpfCnpj.pack(cpf))).isFalse();
+            assertThat(CpfCnpj.isCnpj(CpfCnpj.pack(cnpj))).isTrue();
+        }
+        assertThat(CpfCnpj.unpack(CpfCnpj.pack("99999999999999"))).isEqualTo("99999999999999");
+    }
+
+    @Test
+    @DisplayName("Deve distinguir CPF de CNPJ com o mesmo valor numérico")
+    void deveDistinguirCpfDeCnpj() {
+        assertThat(CpfCnpj.pack("00012345678")).isNotEqualTo(CpfCnpj.pack("00000012345678"));
+        assertThat(CpfCnpj.pack("00012345678")).isEqualTo(12_345_678L);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar a máscara usual")
+    void deveIgnorarMascara() {
+        assertThat(CpfCnpj.pack("123.456.789-09")).isEqualTo(CpfCnpj.pack("12345678909"));
+        assertThat(CpfCnpj.pack("12.345.678/0001-95")).isEqualTo(CpfCnpj.pack("12345678000195"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar documentos que não são CPF nem CNPJ")
+    void deveRejeitarOutrosDocumentos() {
+        assertThat(CpfCnpj.pack(null)).isEqualTo(CpfCnpj.NULL);
+        assertThat(CpfCnpj.pack("")).isEqualTo(CpfCnpj.NULL);
+        assertThat(CpfCnpj.pack("1234567890")).isEqualTo(CpfCnpj.NULL);
+        assertThat(CpfCnpj.pack("123456789012")).isEqualTo(CpfCnpj.NULL);
+        assertThat(CpfCnpj.pack("123456789012345678901234567890")).isEqualTo(CpfCnpj.NULL);
+        assertThat(CpfCnpj.pack("AB123456")).isEqualTo(CpfCnpj.NULL);
+        assertThat(CpfCnpj.pack("12ABC34501DE35")).isEqualTo(CpfCnpj.NULL);
+        assertThatThrownBy(() -> CpfCnpj.unpack(CpfCnpj.NULL)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CpfCnpj.unpack(100_000_000_000L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
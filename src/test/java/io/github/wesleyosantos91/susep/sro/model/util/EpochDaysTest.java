@@ -0,0 +1,91 @@
+package io.github.wesleyosantos91.susep.sro.model.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para EpochDays.
+ */
+@DisplayName("EpochDays - Codificação de datas em dias desde a época")
+class EpochDaysTest {
+
+    @Test
+    @DisplayName("Deve coincidir com LocalDate em todos os dias de 1600 a 2400")
+    void deveCoincidirComLocalDate() {
+        for (LocalDate data = LocalDate.of(1600, 1, 1); data.getYear() <= 2400; data = data.plusDays(1)) {
+            int dias = EpochDays.encode(data);
+
+            assertThat(dias).isEqualTo(data.toEpochDay());
+            if (EpochDays.fromYearMonthDay(data.getYear(), data.getMonthValue(), data.getDayOfMonth()) != dias
+                || EpochDays.year(dias) != data.getYear()
+                || EpochDays.month(dias) != data.getMonthValue()
+                || EpochDays.dayOfMonth(dias) != data.getDayOfMonth()) {
+                fail("Divergência em " + data);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve codificar e materializar datas, incluindo nulas e extremos")
+    void deveCodificarEMaterializar() {
+        assertThat(EpochDays.encode(null)).isEqualTo(EpochDays.NULL);
+        assertThat(EpochDays.decode(EpochDays.NULL)).isNull();
+        assertThat(EpochDays.encode(LocalDate.of(1970, 1, 1))).isZero();
+        assertThat(EpochDays.decode(EpochDays.MIN)).isEqualTo(LocalDate.of(-999_999, 1, 1));
+        assertThat(EpochDays.decode(EpochDays.MAX)).isEqualTo(LocalDate.of(999_999, 12, 31));
+        assertThat(EpochDays.year(EpochDays.MIN)).isEqualTo(-999_999);
+        assertThat(EpochDays.year(EpochDays.MAX)).isEqualTo(999_999);
+        assertThat(EpochDays.NULL).isLessThan(EpochDays.MIN);
+        assertThatThrownBy(() -> EpochDays.encode(LocalDate.MAX))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve interpretar e formatar datas ISO sem LocalDate")
+    void deveInterpretarEFormatarIso() {
+        int dias = EpochDays.parseIso("vencimento=2024-02-29;", 11);
+
+        assertThat(dias).isEqualTo(LocalDate.of(2024, 2, 29).toEpochDay());
+        assertThat(EpochDays.appendIso(new StringBuilder(), dias)).hasToString("2024-02-29");
+        assertThat(EpochDays.appendIso(new StringBuilder(), EpochDays.encode(LocalDate.of(5, 1, 9))))
+            .hasToString("0005-01-09");
+        assertThatThrownBy(() -> EpochDays.parseIso("2023-02-29", 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EpochDays.parseIso("2023/02/28", 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EpochDays.parseIso("2023-0a-28", 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EpochDays.parseIso("2023-02", 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EpochDays.appendIso(new StringBuilder(), EpochDays.encode(LocalDate.of(-1, 1, 1))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve comparar e verificar intervalos como inteiros")
+    void deveVerificarIntervalos() {
+        int inicio = EpochDays.fromYearMonthDay(2024, 1, 1);
+        int fim = EpochDays.fromYearMonthDay(2024, 12, 31);
+
+        assertThat(EpochDays.isBetween(EpochDays.fromYearMonthDay(2024, 6, 15), inicio, fim)).isTrue();
+        assertThat(EpochDays.isBetween(inicio, inicio, fim)).isTrue();
+        assertThat(EpochDays.isBetween(fim, inicio, fim)).isTrue();
+        assertThat(EpochDays.isBetween(fim + 1, inicio, fim)).isFalse();
+        assertThat(EpochDays.isBetween(fim + 1, inicio, EpochDays.NULL)).isTrue();
+        assertThat(EpochDays.isBetween(inicio - 1, EpochDays.NULL, fim)).isTrue();
+        assertThat(EpochDays.isBetween(EpochDays.NULL, EpochDays.NULL, EpochDays.NULL)).isFalse();
+        assertThat(EpochDays.daysBetween(inicio, fim)).isEqualTo(365);
+        assertThat(EpochDays.isLeapYear(2000)).isTrue();
+        assertThat(EpochDays.isLeapYear(1900)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar datas inexistentes e valores fora do intervalo")
+    void deveRejeitarDatasInvalidas() {
+        assertThatThrownBy(() -> EpochDays.fromYearMonthDay(2023, 2, 29)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EpochDays.fromYearMonthDay(2023, 13, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EpochDays.fromYearMonthDay(2023, 4, 31)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EpochDays.fromYearMonthDay(1_000_000, 1, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EpochDays.year(EpochDays.NULL)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.wesleyosantos91.susep.sro.model.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para ListAccumulator.
+ */
+@DisplayName("ListAccumulator - Acumulação de listas dos builders")
+class ListAccumulatorTest {
+
+    @Test
+    @DisplayName("Deve retornar lista vazia imutável quando nada foi acumulado")
+    void deveRetornarListaVazia() {
+        assertThat(new ListAccumulator<String>().toList()).isSameAs(List.of());
+    }
+
+    @Test
+    @DisplayName("Deve repassar a lista atribuída sem cópia")
+    void deveRepassarListaAtribuida() {
+        var acumulador = new ListAccumulator<String>();
+        List<String> lista = List.of("a", "b");
+
+        acumulador.set(lista);
+
+        assertThat(acumulador.toList()).isSameAs(lista);
+        assertThat(List.copyOf(acumulador.toList())).isSameAs(lista);
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir da lista atribuída ao acumular")
+    void deveContinuarAPartirDaListaAtribuida() {
+        var acumulador = new ListAccumulator<String>();
+        acumulador.set(List.of("a"));
+
+        acumulador.add("b");
+
+        assertThat(acumulador.toList()).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("Deve produzir lista imutável desacoplada do buffer")
+    void deveProduzirListaImutavel() {
+        var acumulador = new ListAccumulator<String>();
+        acumulador.add("a");
+
+        List<String> primeira = acumulador.toList();
+        acumulador.add("b");
+
+        assertThat(primeira).containsExactly("a");
+        assertThat(acumulador.toList()).containsExactly("a", "b");
+        assertThatThrownBy(() -> primeira.add("c")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Deve limpar lista atribuída e elementos acumulados")
+    void deveLimpar() {
+        var acumulador = new ListAccumulator<String>();
+        acumulador.add("a");
+        acumulador.clear();
+        assertThat(acumulador.toList()).isEmpty();
+
+        acumulador.set(new ArrayList<>(List.of("x")));
+        acumulador.clear();
+        assertThat(acumulador.toList()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar elemento nulo")
+    void deveRejeitarNulo() {
+        assertThatThrownBy(() -> new ListAccumulator<String>().add(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}